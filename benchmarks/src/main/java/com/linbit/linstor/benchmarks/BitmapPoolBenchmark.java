@@ -0,0 +1,84 @@
+package com.linbit.linstor.benchmarks;
+
+import com.linbit.ExhaustedPoolException;
+import com.linbit.linstor.numberpool.BitmapPool;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Allocation and lookup of numbers in a {@link BitmapPool} of the size of the DRBD minor number range, filled up to
+ * <code>fillPercent</code> percent.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BitmapPoolBenchmark
+{
+    private static final int POOL_SIZE = 1 << 20;
+    private static final int RANGE_START = 1000;
+    private static final int RANGE_END = 49999;
+    private static final long SEED = 42;
+
+    @Param({"0", "50", "99"})
+    public int fillPercent;
+
+    private BitmapPool pool;
+    private int[] lookupNumbers;
+    private int lookupIdx;
+
+    @Setup
+    public void setUp()
+    {
+        pool = new BitmapPool(POOL_SIZE);
+        Random random = new Random(SEED);
+        for (int nr = RANGE_START; nr <= RANGE_END; ++nr)
+        {
+            if (random.nextInt(100) < fillPercent)
+            {
+                pool.allocate(nr);
+            }
+        }
+        lookupNumbers = new int[1024];
+        for (int idx = 0; idx < lookupNumbers.length; ++idx)
+        {
+            lookupNumbers[idx] = RANGE_START + random.nextInt(RANGE_END - RANGE_START + 1);
+        }
+    }
+
+    @Benchmark
+    public int autoAllocateAndDeallocate() throws ExhaustedPoolException
+    {
+        int nr = pool.autoAllocate(RANGE_START, RANGE_END);
+        pool.deallocate(nr);
+        return nr;
+    }
+
+    @Benchmark
+    public int findUnallocated()
+    {
+        return pool.findUnallocated(RANGE_START, RANGE_END);
+    }
+
+    @Benchmark
+    public boolean isAllocated()
+    {
+        lookupIdx = (lookupIdx + 1) % lookupNumbers.length;
+        return pool.isAllocated(lookupNumbers[lookupIdx]);
+    }
+}
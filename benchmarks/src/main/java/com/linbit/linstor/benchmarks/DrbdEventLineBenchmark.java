@@ -0,0 +1,113 @@
+package com.linbit.linstor.benchmarks;
+
+import com.linbit.linstor.layer.drbd.drbdstate.DrbdConnection;
+import com.linbit.linstor.layer.drbd.drbdstate.DrbdEventLine;
+import com.linbit.linstor.layer.drbd.drbdstate.DrbdResource;
+import com.linbit.linstor.layer.drbd.drbdstate.DrbdVolume;
+import com.linbit.linstor.layer.drbd.drbdstate.EventsSourceException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Replays a synthetic 'drbdsetup events2' stream of <code>rscCount</code> resources with 3 replicas each: the initial
+ * "exists" dump followed by a resync storm of 100 progress updates per peer device.
+ * Every line is parsed and the properties the DrbdEventsMonitor evaluates are read.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DrbdEventLineBenchmark
+{
+    private static final int PEER_COUNT = 2;
+    private static final int RESYNC_STEPS = 100;
+
+    @Param({"10", "1000"})
+    public int rscCount;
+
+    private byte[][] lines;
+    private DrbdEventLine eventLine;
+
+    @Setup
+    public void setUp()
+    {
+        List<String> events = new ArrayList<>();
+        for (int rscIdx = 0; rscIdx < rscCount; ++rscIdx)
+        {
+            String rscName = String.format("rsc-%06d", rscIdx);
+            events.add("exists resource name:" + rscName + " role:Secondary suspended:no write-ordering:flush " +
+                "may_promote:yes promotion_score:10101");
+            events.add("exists device name:" + rscName + " volume:0 minor:" + (1000 + rscIdx) +
+                " disk:UpToDate client:no quorum:yes");
+            for (int peerIdx = 1; peerIdx <= PEER_COUNT; ++peerIdx)
+            {
+                events.add("exists connection name:" + rscName + " peer-node-id:" + peerIdx + " conn-name:node-" +
+                    peerIdx + " connection:Connected role:Secondary");
+                events.add("exists peer-device name:" + rscName + " peer-node-id:" + peerIdx + " conn-name:node-" +
+                    peerIdx + " volume:0 replication:Established peer-disk:UpToDate peer-client:no " +
+                    "resync-suspended:no");
+            }
+        }
+        events.add("exists -");
+        for (int step = 0; step < RESYNC_STEPS; ++step)
+        {
+            for (int rscIdx = 0; rscIdx < rscCount; ++rscIdx)
+            {
+                for (int peerIdx = 1; peerIdx <= PEER_COUNT; ++peerIdx)
+                {
+                    events.add(String.format(
+                        "change peer-device name:rsc-%06d peer-node-id:%d conn-name:node-%d volume:0 " +
+                            "replication:SyncSource peer-disk:Inconsistent done:%d.%02d",
+                        rscIdx,
+                        peerIdx,
+                        peerIdx,
+                        step,
+                        rscIdx % 100
+                    ));
+                }
+            }
+        }
+
+        lines = new byte[events.size()][];
+        for (int idx = 0; idx < lines.length; ++idx)
+        {
+            lines[idx] = (events.get(idx) + "\n").getBytes(StandardCharsets.UTF_8);
+        }
+        eventLine = new DrbdEventLine();
+    }
+
+    @Benchmark
+    public void replay(Blackhole blackhole) throws EventsSourceException
+    {
+        for (byte[] line : lines)
+        {
+            eventLine.parse(line, 0, line.length);
+            blackhole.consume(eventLine.getAction());
+            blackhole.consume(eventLine.getObjType());
+            blackhole.consume(eventLine.get(DrbdResource.PROP_KEY_RES_NAME));
+            blackhole.consume(eventLine.get(DrbdConnection.PROP_KEY_CONN_NAME));
+            blackhole.consume(eventLine.get(DrbdVolume.PROP_KEY_VOL_NR));
+            blackhole.consume(eventLine.get(DrbdVolume.PROP_KEY_REPLICATION));
+            blackhole.consume(eventLine.get(DrbdVolume.PROP_KEY_PEER_DISK));
+            blackhole.consume(eventLine.get(DrbdVolume.PROP_KEY_DONE));
+        }
+    }
+}
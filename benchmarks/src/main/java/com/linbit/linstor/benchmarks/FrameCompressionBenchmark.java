@@ -0,0 +1,99 @@
+package com.linbit.linstor.benchmarks;
+
+import com.linbit.linstor.netcom.FrameCompression;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compression and decompression of the full sync message built by {@link FullSyncBenchmark}, for every supported
+ * frame compression algorithm.
+ *
+ * The size of the compressed message is reported as the secondary metric <code>compressedBytes</code>, the size of
+ * the uncompressed one as <code>uncompressedBytes</code>.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FrameCompressionBenchmark
+{
+    @Param({"10"})
+    public int nodeCount;
+
+    @Param({"100", "1000"})
+    public int rscDfnCount;
+
+    @Param({"1", "4"})
+    public int vlmCount;
+
+    @Param({FrameCompression.DEFLATE, FrameCompression.DEFLATE_DICT_V1})
+    public String algorithm;
+
+    private FrameCompression compression;
+    private byte[] fullSyncData;
+    private byte[] compressedData;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Sizes
+    {
+        public long compressedBytes;
+        public long uncompressedBytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception
+    {
+        FullSyncBenchmark fullSyncBenchmark = new FullSyncBenchmark();
+        fullSyncBenchmark.nodeCount = nodeCount;
+        fullSyncBenchmark.rscDfnCount = rscDfnCount;
+        fullSyncBenchmark.vlmCount = vlmCount;
+        fullSyncBenchmark.setUp();
+        try
+        {
+            fullSyncData = fullSyncBenchmark.fullSync();
+        }
+        finally
+        {
+            fullSyncBenchmark.tearDown();
+        }
+
+        compression = FrameCompression.create(algorithm, 0);
+        compressedData = compression.compress(fullSyncData);
+        if (compressedData == null)
+        {
+            throw new IllegalStateException("Full sync message did not compress with " + algorithm);
+        }
+    }
+
+    @Benchmark
+    public byte[] compress(Sizes sizes)
+    {
+        byte[] compressed = compression.compress(fullSyncData);
+        sizes.compressedBytes = compressed.length;
+        sizes.uncompressedBytes = fullSyncData.length;
+        return compressed;
+    }
+
+    @Benchmark
+    public byte[] decompress() throws Exception
+    {
+        return FrameCompression.decompress(compressedData);
+    }
+}
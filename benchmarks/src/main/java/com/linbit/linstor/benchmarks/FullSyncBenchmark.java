@@ -0,0 +1,124 @@
+package com.linbit.linstor.benchmarks;
+
+import com.linbit.linstor.InternalApiConsts;
+import com.linbit.linstor.api.prop.LinStorObject;
+import com.linbit.linstor.api.protobuf.serializer.ProtoCtrlStltSerializerBuilder;
+import com.linbit.linstor.core.CtrlSecurityObjects;
+import com.linbit.linstor.core.objects.Node;
+import com.linbit.linstor.core.objects.Resource;
+import com.linbit.linstor.core.objects.StorPool;
+import com.linbit.linstor.propscon.PropsContainer;
+import com.linbit.linstor.security.AccessContext;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Serialization of the full sync message of one satellite of a synthetic cluster of <code>nodeCount</code> nodes
+ * with <code>rscDfnCount</code> 3-way replicated resource definitions of <code>vlmCount</code> volumes each.
+ * The collected objects are the same as CtrlFullSyncApiCallHandler would send.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FullSyncBenchmark
+{
+    private static final int REPLICA_COUNT = 3;
+
+    @Param({"10"})
+    public int nodeCount;
+
+    @Param({"100", "1000"})
+    public int rscDfnCount;
+
+    @Param({"1", "4"})
+    public int vlmCount;
+
+    private SyntheticCluster cluster;
+    private AccessContext sysCtx;
+    private CtrlSecurityObjects secObjs;
+    private PropsContainer ctrlConf;
+
+    private final Set<Node> nodes = new LinkedHashSet<>();
+    private final Set<StorPool> storPools = new LinkedHashSet<>();
+    private final Set<Resource> rscs = new LinkedHashSet<>();
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception
+    {
+        cluster = new SyntheticCluster().generate(nodeCount, rscDfnCount, vlmCount, REPLICA_COUNT);
+        sysCtx = cluster.getSysCtx();
+        secObjs = new CtrlSecurityObjects();
+        ctrlConf = cluster.getPropsContainerFactory().getInstance("/CTRLCFG", null, LinStorObject.CTRL);
+
+        Node satelliteNode = cluster.getNodes().get(0);
+        nodes.add(satelliteNode);
+        for (Resource rsc : satelliteNode.streamResources(sysCtx).collect(toList()))
+        {
+            rscs.add(rsc);
+            Iterator<Resource> otherRscIterator = rsc.getResourceDefinition().iterateResource(sysCtx);
+            while (otherRscIterator.hasNext())
+            {
+                Resource otherRsc = otherRscIterator.next();
+                if (otherRsc != rsc)
+                {
+                    nodes.add(otherRsc.getNode());
+                }
+            }
+        }
+        storPools.addAll(satelliteNode.streamStorPools(sysCtx).collect(toList()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception
+    {
+        cluster.close();
+    }
+
+    @Benchmark
+    public byte[] fullSync()
+    {
+        return new ProtoCtrlStltSerializerBuilder(
+            cluster.getErrorReporter(),
+            sysCtx,
+            secObjs,
+            ctrlConf,
+            InternalApiConsts.API_FULL_SYNC_DATA,
+            0L,
+            false
+        )
+            .fullSync(
+                nodes,
+                storPools,
+                rscs,
+                Collections.emptySet(),
+                Collections.emptySet(),
+                Collections.emptySet(),
+                1L,
+                0L
+            )
+            .build();
+    }
+}
@@ -0,0 +1,181 @@
+package com.linbit.linstor.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares two JMH result files (as written by <code>-rf json</code>) and prints a report of the relative change of
+ * every benchmark / parameter combination. Secondary metrics (auxiliary counters like heap footprints, profiler
+ * results) are compared as well, assuming that lower values are better.
+ *
+ * Usage: JmhResultComparator &lt;baseline.json&gt; &lt;current.json&gt; [threshold in percent]
+ *
+ * Exits with status 1 if at least one benchmark got slower than the given threshold (default 10%).
+ */
+public class JmhResultComparator
+{
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+    private static final String MODE_THROUGHPUT = "thrpt";
+
+    private final PrintStream out;
+    private final double thresholdPercent;
+
+    public JmhResultComparator(PrintStream outRef, double thresholdPercentRef)
+    {
+        out = outRef;
+        thresholdPercent = thresholdPercentRef;
+    }
+
+    public static void main(String[] args) throws IOException
+    {
+        int exitCode;
+        if (args.length < 2)
+        {
+            System.err.println("Usage: JmhResultComparator <baseline.json> <current.json> [threshold in percent]");
+            exitCode = 2;
+        }
+        else
+        {
+            double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+            JmhResultComparator comparator = new JmhResultComparator(System.out, threshold);
+            int regressions = comparator.compare(load(new File(args[0])), load(new File(args[1])));
+            exitCode = regressions > 0 ? 1 : 0;
+        }
+        System.exit(exitCode);
+    }
+
+    /**
+     * Prints the report and returns the number of regressions
+     */
+    public int compare(Map<String, Result> baseline, Map<String, Result> current)
+    {
+        TreeSet<String> keys = new TreeSet<>(baseline.keySet());
+        keys.addAll(current.keySet());
+
+        int regressions = 0;
+        out.printf("%-90s %16s %16s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (String key : keys)
+        {
+            Result base = baseline.get(key);
+            Result cur = current.get(key);
+            if (base == null || cur == null)
+            {
+                out.printf(
+                    "%-90s %16s %16s %9s%n",
+                    key,
+                    base == null ? "-" : format(base),
+                    cur == null ? "-" : format(cur),
+                    base == null ? "new" : "removed"
+                );
+            }
+            else
+            {
+                double changePercent = (cur.score - base.score) / base.score * 100.0;
+                double slowdownPercent = cur.higherIsBetter ? -changePercent : changePercent;
+                boolean regression = slowdownPercent > thresholdPercent;
+                if (regression)
+                {
+                    ++regressions;
+                }
+                out.printf(
+                    "%-90s %16s %16s %+8.1f%%%s%n",
+                    key,
+                    format(base),
+                    format(cur),
+                    changePercent,
+                    regression ? "  REGRESSION" : ""
+                );
+            }
+        }
+        out.printf("%d regression(s) above %.1f%%%n", regressions, thresholdPercent);
+        return regressions;
+    }
+
+    public static Map<String, Result> load(File resultFile) throws IOException
+    {
+        Map<String, Result> results = new TreeMap<>();
+        JsonNode root = new ObjectMapper().readTree(resultFile);
+        for (JsonNode entry : root)
+        {
+            StringBuilder key = new StringBuilder(entry.get("benchmark").asText());
+            JsonNode params = entry.get("params");
+            if (params != null)
+            {
+                Map<String, String> sortedParams = new TreeMap<>();
+                Iterator<Map.Entry<String, JsonNode>> paramIt = params.fields();
+                while (paramIt.hasNext())
+                {
+                    Map.Entry<String, JsonNode> param = paramIt.next();
+                    sortedParams.put(param.getKey(), param.getValue().asText());
+                }
+                key.append(sortedParams);
+            }
+            String mode = entry.get("mode").asText();
+            // for throughput higher is better, for all time based modes lower is better
+            results.put(key.toString(), createResult(mode, entry.get("primaryMetric"), MODE_THROUGHPUT.equals(mode)));
+
+            JsonNode secondaryMetrics = entry.get("secondaryMetrics");
+            if (secondaryMetrics != null)
+            {
+                Iterator<Map.Entry<String, JsonNode>> metricIt = secondaryMetrics.fields();
+                while (metricIt.hasNext())
+                {
+                    Map.Entry<String, JsonNode> metric = metricIt.next();
+                    results.put(
+                        key.toString() + ":" + metric.getKey(),
+                        createResult(mode, metric.getValue(), false)
+                    );
+                }
+            }
+        }
+        return results;
+    }
+
+    private static Result createResult(String mode, JsonNode metric, boolean higherIsBetter)
+    {
+        return new Result(
+            mode,
+            metric.get("score").asDouble(),
+            metric.get("scoreError").asDouble(),
+            metric.get("scoreUnit").asText(),
+            higherIsBetter
+        );
+    }
+
+    private static String format(Result result)
+    {
+        return String.format("%.3f %s", result.score, result.unit);
+    }
+
+    public static class Result
+    {
+        public final String mode;
+        public final double score;
+        public final double scoreError;
+        public final String unit;
+        public final boolean higherIsBetter;
+
+        public Result(
+            String modeRef,
+            double scoreRef,
+            double scoreErrorRef,
+            String unitRef,
+            boolean higherIsBetterRef
+        )
+        {
+            mode = modeRef;
+            score = scoreRef;
+            scoreError = scoreErrorRef;
+            unit = unitRef;
+            higherIsBetter = higherIsBetterRef;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.linbit.linstor.benchmarks;
+
+import com.linbit.linstor.api.rest.v1.serializer.Json;
+import com.linbit.linstor.api.rest.v1.serializer.JsonGenTypes;
+import com.linbit.linstor.core.apis.ResourceApi;
+import com.linbit.linstor.core.objects.Resource;
+import com.linbit.linstor.security.AccessDeniedException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * REST serialization of all resources of a synthetic cluster, i.e. what a 'GET /v1/view/resources' has to do
+ * after the API data has been collected.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonBenchmark
+{
+    private static final int REPLICA_COUNT = 3;
+
+    @Param({"10"})
+    public int nodeCount;
+
+    @Param({"100", "1000"})
+    public int rscDfnCount;
+
+    @Param({"1"})
+    public int vlmCount;
+
+    private SyntheticCluster cluster;
+    private ObjectMapper objectMapper;
+    private List<ResourceApi> rscApis;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception
+    {
+        cluster = new SyntheticCluster().generate(nodeCount, rscDfnCount, vlmCount, REPLICA_COUNT);
+        objectMapper = new ObjectMapper();
+        rscApis = new ArrayList<>();
+        for (Resource rsc : cluster.getResources())
+        {
+            rscApis.add(rsc.getApiData(cluster.getSysCtx(), null, null, null));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception
+    {
+        cluster.close();
+    }
+
+    @Benchmark
+    public List<ResourceApi> collectApiData() throws AccessDeniedException
+    {
+        List<ResourceApi> apis = new ArrayList<>();
+        for (Resource rsc : cluster.getResources())
+        {
+            apis.add(rsc.getApiData(cluster.getSysCtx(), null, null, null));
+        }
+        return apis;
+    }
+
+    @Benchmark
+    public String serialize() throws JsonProcessingException
+    {
+        List<JsonGenTypes.Resource> rscs = new ArrayList<>(rscApis.size());
+        for (ResourceApi rscApi : rscApis)
+        {
+            rscs.add(Json.apiToResource(rscApi, Collections.emptyMap()));
+        }
+        return objectMapper.writeValueAsString(rscs);
+    }
+}
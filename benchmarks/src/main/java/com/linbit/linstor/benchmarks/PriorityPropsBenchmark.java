@@ -0,0 +1,119 @@
+package com.linbit.linstor.benchmarks;
+
+import com.linbit.linstor.PriorityProps;
+import com.linbit.linstor.api.prop.LinStorObject;
+import com.linbit.linstor.propscon.PropsContainer;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Repeated lookups of DRBD options in a {@link PriorityProps} chain of resource, resource definition, resource
+ * group, node and controller properties, the way the .res file generation queries them for every volume and
+ * connection of a resource.
+ * <br />
+ * {@link #perCallInstance} creates a new chain for every operation like most callers do, which is the case the
+ * cache cannot help with and must not slow down.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PriorityPropsBenchmark
+{
+    private static final String NAMESPACE = "DrbdOptions/Net";
+    private static final int LAYERS = 5;
+    private static final int KEYS = 40;
+
+    /** number of volumes / connections querying the same options */
+    @Param({"1", "16"})
+    public int repetitions;
+
+    private SyntheticCluster cluster;
+    private PropsContainer[] layers;
+    private PriorityProps prioProps;
+    private String[] keys;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception
+    {
+        cluster = new SyntheticCluster().open();
+        layers = new PropsContainer[LAYERS];
+        keys = new String[KEYS];
+        for (int keyIdx = 0; keyIdx < KEYS; ++keyIdx)
+        {
+            keys[keyIdx] = "option-" + keyIdx;
+        }
+        for (int layerIdx = 0; layerIdx < LAYERS; ++layerIdx)
+        {
+            layers[layerIdx] = cluster.getPropsContainerFactory().getInstance(
+                "/BENCHMARK/" + layerIdx,
+                null,
+                LinStorObject.CTRL
+            );
+            // every layer sets a few of the options, most lookups have to go through the whole chain
+            for (int keyIdx = layerIdx; keyIdx < KEYS; keyIdx += LAYERS * 2)
+            {
+                layers[layerIdx].setProp(keys[keyIdx], "value-" + layerIdx, NAMESPACE);
+            }
+        }
+        cluster.commitTransaction();
+        prioProps = new PriorityProps(layers);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception
+    {
+        cluster.close();
+    }
+
+    @Benchmark
+    public void getProps(Blackhole blackhole) throws Exception
+    {
+        for (int rep = 0; rep < repetitions; ++rep)
+        {
+            for (String key : keys)
+            {
+                blackhole.consume(prioProps.getProp(key, NAMESPACE));
+            }
+        }
+    }
+
+    @Benchmark
+    public void renderConflictingMap(Blackhole blackhole)
+    {
+        for (int rep = 0; rep < repetitions; ++rep)
+        {
+            blackhole.consume(prioProps.renderConflictingMap(NAMESPACE, true));
+        }
+    }
+
+    @Benchmark
+    public void perCallInstance(Blackhole blackhole) throws Exception
+    {
+        for (int rep = 0; rep < repetitions; ++rep)
+        {
+            PriorityProps perCall = new PriorityProps(layers);
+            for (String key : keys)
+            {
+                blackhole.consume(perCall.getProp(key, NAMESPACE));
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.linbit.linstor.benchmarks;
+
+import com.linbit.linstor.api.prop.LinStorObject;
+import com.linbit.linstor.propscon.PropsContainer;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Lookups, updates and iteration of a {@link PropsContainer} with <code>propCount</code> properties spread over
+ * nested namespaces, similar to the property containers of nodes and resource definitions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PropsContainerBenchmark
+{
+    private static final int KEYS_PER_NAMESPACE = 10;
+
+    @Param({"100", "10000"})
+    public int propCount;
+
+    private SyntheticCluster cluster;
+    private PropsContainer props;
+    private String[] keys;
+    private int keyIdx;
+    private long updateCounter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception
+    {
+        cluster = new SyntheticCluster().open();
+        props = cluster.getPropsContainerFactory().getInstance("/BENCHMARK", null, LinStorObject.CTRL);
+        keys = new String[propCount];
+        for (int idx = 0; idx < propCount; ++idx)
+        {
+            keys[idx] = String.format(
+                "Aux/ns-%d/sub-%d/key-%d",
+                idx / (KEYS_PER_NAMESPACE * KEYS_PER_NAMESPACE),
+                (idx / KEYS_PER_NAMESPACE) % KEYS_PER_NAMESPACE,
+                idx
+            );
+            props.setProp(keys[idx], "value-" + idx);
+        }
+        cluster.commitTransaction();
+    }
+
+    @TearDown(Level.Iteration)
+    public void commit() throws Exception
+    {
+        // keeps the transaction log from growing during the whole trial
+        cluster.commitTransaction();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception
+    {
+        cluster.close();
+    }
+
+    @Benchmark
+    public String getProp() throws Exception
+    {
+        return props.getProp(nextKey());
+    }
+
+    @Benchmark
+    public String setProp() throws Exception
+    {
+        return props.setProp(nextKey(), Long.toString(++updateCounter));
+    }
+
+    @Benchmark
+    public void iterateEntries(Blackhole blackhole)
+    {
+        for (Map.Entry<String, String> entry : props.entrySet())
+        {
+            blackhole.consume(entry.getValue());
+        }
+    }
+
+    @Benchmark
+    public Map<String, String> cloneMap()
+    {
+        return props.cloneMap();
+    }
+
+    private String nextKey()
+    {
+        keyIdx = (keyIdx + 1) % keys.length;
+        return keys[keyIdx];
+    }
+}
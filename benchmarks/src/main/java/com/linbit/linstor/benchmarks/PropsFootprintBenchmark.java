@@ -0,0 +1,133 @@
+package com.linbit.linstor.benchmarks;
+
+import com.linbit.linstor.api.prop.LinStorObject;
+import com.linbit.linstor.dbdrivers.SatellitePropDriver;
+import com.linbit.linstor.propscon.PropsContainer;
+import com.linbit.linstor.propscon.PropsContainerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Retained heap of <code>objectCount</code> {@link PropsContainer}s loaded the same way as during the controller's
+ * startup, each with a typical set of resource definition properties. Every key and value is a separate String
+ * instance, as if it was just read from the database.
+ *
+ * The footprint is reported as the secondary metric <code>bytesPerObject</code>. To compare it with an older
+ * PropsContainer implementation, run this benchmark on both versions and compare the results using
+ * <code>gradle :benchmarks:jmhCompare -Pbaseline=...</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+public class PropsFootprintBenchmark
+{
+    private static final String[][] COMMON_PROPS = {
+        {"DrbdOptions/Net/protocol", "C"},
+        {"DrbdOptions/Net/allow-two-primaries", "yes"},
+        {"DrbdOptions/Net/max-buffers", "10000"},
+        {"DrbdOptions/Net/rcvbuf-size", "2097152"},
+        {"DrbdOptions/Net/sndbuf-size", "1048576"},
+        {"DrbdOptions/Resource/on-no-quorum", "io-error"},
+        {"DrbdOptions/Resource/quorum", "majority"},
+        {"DrbdOptions/Disk/al-extents", "6007"},
+        {"DrbdOptions/Disk/disk-flushes", "no"},
+        {"DrbdOptions/Disk/md-flushes", "no"},
+        {"DrbdOptions/PeerDevice/c-max-rate", "4194304"},
+        {"DrbdOptions/PeerDevice/c-fill-target", "1048576"},
+        {"DrbdOptions/auto-quorum", "io-error"},
+        {"DrbdOptions/auto-add-quorum-tiebreaker", "True"},
+        {"DrbdOptions/auto-verify-alg", "crct10dif-pclmul"},
+        {"FileSystem/Type", "ext4"},
+        {"StorPoolName", "thinpool"},
+        {"Aux/csi-provisioner", "linstor.csi.linbit.com"},
+        {"Aux/csi-volume-annotations", "{\"access-mode\":\"ReadWriteOnce\"}"},
+    };
+    private static final int NODE_COUNT = 16;
+
+    @Param({"1000", "10000"})
+    public int objectCount;
+
+    private PropsContainerFactory factory;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint
+    {
+        public long bytesPerObject;
+    }
+
+    @Setup
+    public void setUp()
+    {
+        factory = new PropsContainerFactory(new LoadingPropDriver(), () -> null);
+    }
+
+    @Benchmark
+    public PropsContainer[] loadContainers(Footprint footprint) throws Exception
+    {
+        long usedBefore = usedHeap();
+        PropsContainer[] containers = new PropsContainer[objectCount];
+        for (int idx = 0; idx < objectCount; ++idx)
+        {
+            containers[idx] = factory.getInstance(
+                LinStorObject.RSC_DFN.path + "RSC-" + idx,
+                null,
+                LinStorObject.RSC_DFN
+            );
+        }
+        footprint.bytesPerObject = (usedHeap() - usedBefore) / objectCount;
+        return containers;
+    }
+
+    private static long usedHeap()
+    {
+        Runtime runtime = Runtime.getRuntime();
+        for (int gcCount = 0; gcCount < 3; ++gcCount)
+        {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Returns a fresh copy of the common properties and a few unique ones for every instance
+     */
+    private static class LoadingPropDriver extends SatellitePropDriver
+    {
+        private int instanceCount;
+
+        @Override
+        public Map<String, String> loadCachedInstance(String propsInstanceRef)
+        {
+            Map<String, String> props = new HashMap<>();
+            for (String[] prop : COMMON_PROPS)
+            {
+                props.put(new String(prop[0]), new String(prop[1]));
+            }
+            props.put("DrbdPrimarySetOn", "NODE-" + (instanceCount % NODE_COUNT));
+            props.put("DrbdOptions/Resource/node-id", Integer.toString(instanceCount % NODE_COUNT));
+            props.put("Aux/csi-volume-uuid", UUID.randomUUID().toString());
+            ++instanceCount;
+            return props;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.linbit.linstor.benchmarks;
+
+import com.linbit.linstor.api.S3MultipartUploader;
+import com.linbit.linstor.testutils.EmptyErrorReporter;
+import com.linbit.linstor.testutils.LocalS3StandIn;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.services.s3.model.PartETag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Multipart upload of a backup to a local S3 stand-in, where every part takes a fixed latency plus its transfer time
+ * on a connection of its own. A concurrency of 1 matches the former part by part upload.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class S3MultipartUploadBenchmark
+{
+    private static final int PART_SIZE = 5 << 20;
+
+    @Param({"1", "4", "8"})
+    public int concurrency;
+
+    @Param({"16"})
+    public int partCount;
+
+    @Param({"20"})
+    public long latencyMillis;
+
+    @Param({"104857600"})
+    public long bytesPerSecond;
+
+    private LocalS3StandIn s3;
+    private byte[] data;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        s3 = new LocalS3StandIn(latencyMillis, bytesPerSecond);
+        data = new byte[partCount * PART_SIZE];
+    }
+
+    @Benchmark
+    public List<PartETag> upload() throws Exception
+    {
+        return new S3MultipartUploader(
+            new EmptyErrorReporter(false),
+            s3,
+            "bucket",
+            "backup",
+            "uploadId",
+            false,
+            "bench",
+            PART_SIZE,
+            concurrency,
+            Long.MAX_VALUE
+        ).upload(new ByteArrayInputStream(data));
+    }
+}
@@ -0,0 +1,77 @@
+package com.linbit.linstor.benchmarks;
+
+import com.linbit.linstor.api.S3RangedDownloader;
+import com.linbit.linstor.testutils.EmptyErrorReporter;
+import com.linbit.linstor.testutils.LocalS3StandIn;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Restore of a backup from a local S3 stand-in by parallel ranged downloads, where every range takes a fixed latency
+ * plus its transfer time on a connection of its own. A concurrency of 1 matches the throughput of a single stream.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class S3RangedDownloadBenchmark
+{
+    private static final String KEY = "backup";
+    private static final int RANGE_SIZE = 16 << 20;
+
+    @Param({"1", "4", "8"})
+    public int concurrency;
+
+    @Param({"8"})
+    public int rangeCount;
+
+    @Param({"20"})
+    public long latencyMillis;
+
+    @Param({"104857600"})
+    public long bytesPerSecond;
+
+    private LocalS3StandIn s3;
+    private OutputStream nullOutput;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        s3 = new LocalS3StandIn(latencyMillis, bytesPerSecond);
+        s3.putTestObject(KEY, new byte[rangeCount * RANGE_SIZE]);
+        s3.setRangeSize(RANGE_SIZE);
+        nullOutput = OutputStream.nullOutputStream();
+    }
+
+    @Benchmark
+    public long download() throws Exception
+    {
+        return new S3RangedDownloader(
+            new EmptyErrorReporter(false),
+            s3,
+            "bucket",
+            KEY,
+            false,
+            "bench",
+            RANGE_SIZE,
+            concurrency,
+            Long.MAX_VALUE
+        ).download(nullOutput);
+    }
+}
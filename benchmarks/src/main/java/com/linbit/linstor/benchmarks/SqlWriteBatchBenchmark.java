@@ -0,0 +1,168 @@
+package com.linbit.linstor.benchmarks;
+
+import com.linbit.linstor.transaction.manager.SQLWriteBatch;
+import com.linbit.linstor.transaction.manager.SQLWriteBatch.OpType;
+import com.linbit.linstor.transaction.manager.SQLWriteBatch.ParameterSetter;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency of a transaction creating <code>rscCount</code> resources, written the way the SQLEngine does it: one
+ * statement per row, interleaved between a parent table, a child table referencing it and an unrelated property
+ * table. Compares executing every statement immediately with collecting them in a {@link SQLWriteBatch} until commit.
+ *
+ * The default in-memory H2 database hardly has any round trip costs. Use
+ * <code>-p jdbcUrl=jdbc:postgresql://... -p dbUser=... -p dbPassword=...</code> to measure against a real database.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SqlWriteBatchBenchmark
+{
+    private static final String SCHEMA = "BENCH";
+    private static final int VLMS_PER_RSC = 2;
+    private static final int PROPS_PER_RSC = 4;
+
+    private static final String INSERT_RSC = "INSERT INTO RESOURCES (RSC_NAME, FLAGS) VALUES(?, ?)";
+    private static final String INSERT_VLM = "INSERT INTO VOLUMES (RSC_NAME, VLM_NR, SIZE) VALUES(?, ?, ?)";
+    private static final String INSERT_PROP = "INSERT INTO PROPS (PROPS_INSTANCE, PROP_KEY, PROP_VALUE) " +
+        "VALUES(?, ?, ?)";
+
+    @Param({"jdbc:h2:mem:linstor-batch-bench;DB_CLOSE_DELAY=-1"})
+    public String jdbcUrl;
+
+    @Param({""})
+    public String dbUser;
+
+    @Param({""})
+    public String dbPassword;
+
+    @Param({"50", "500"})
+    public int rscCount;
+
+    @Param({"false", "true"})
+    public boolean batchWrites;
+
+    private Connection con;
+    private SQLWriteBatch writeBatch;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception
+    {
+        con = DriverManager.getConnection(jdbcUrl, dbUser, dbPassword);
+        try (Statement stmt = con.createStatement())
+        {
+            stmt.execute("CREATE SCHEMA IF NOT EXISTS " + SCHEMA);
+            con.setSchema(SCHEMA);
+            stmt.execute("DROP TABLE IF EXISTS VOLUMES");
+            stmt.execute("DROP TABLE IF EXISTS RESOURCES");
+            stmt.execute("DROP TABLE IF EXISTS PROPS");
+            stmt.execute("CREATE TABLE RESOURCES (RSC_NAME VARCHAR(48) PRIMARY KEY, FLAGS BIGINT NOT NULL)");
+            stmt.execute(
+                "CREATE TABLE VOLUMES (RSC_NAME VARCHAR(48) NOT NULL, VLM_NR INT NOT NULL, SIZE BIGINT NOT NULL, " +
+                    "PRIMARY KEY (RSC_NAME, VLM_NR), " +
+                    "FOREIGN KEY (RSC_NAME) REFERENCES RESOURCES(RSC_NAME) ON DELETE CASCADE)"
+            );
+            stmt.execute(
+                "CREATE TABLE PROPS (PROPS_INSTANCE VARCHAR(512) NOT NULL, PROP_KEY VARCHAR(512) NOT NULL, " +
+                    "PROP_VALUE VARCHAR(4096) NOT NULL, PRIMARY KEY (PROPS_INSTANCE, PROP_KEY))"
+            );
+        }
+        con.setAutoCommit(false);
+        writeBatch = new SQLWriteBatch(con, SQLWriteBatch.loadReferencedTables(con, SCHEMA));
+    }
+
+    @Setup(Level.Invocation)
+    public void clearTables() throws SQLException
+    {
+        try (Statement stmt = con.createStatement())
+        {
+            stmt.execute("DELETE FROM PROPS");
+            stmt.execute("DELETE FROM RESOURCES");
+        }
+        con.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException
+    {
+        con.close();
+    }
+
+    @Benchmark
+    public void createResources() throws Exception
+    {
+        for (int rscIdx = 0; rscIdx < rscCount; ++rscIdx)
+        {
+            String rscName = String.format("rsc-%06d", rscIdx);
+            write("RESOURCES", OpType.INSERT, INSERT_RSC, stmt ->
+            {
+                stmt.setString(1, rscName);
+                stmt.setLong(2, 0L);
+            });
+            for (int vlmNr = 0; vlmNr < VLMS_PER_RSC; ++vlmNr)
+            {
+                int nr = vlmNr;
+                write("VOLUMES", OpType.INSERT, INSERT_VLM, stmt ->
+                {
+                    stmt.setString(1, rscName);
+                    stmt.setInt(2, nr);
+                    stmt.setLong(3, 1024L * 1024L);
+                });
+            }
+            for (int propIdx = 0; propIdx < PROPS_PER_RSC; ++propIdx)
+            {
+                String key = "Key" + propIdx;
+                write("PROPS", OpType.INSERT, INSERT_PROP, stmt ->
+                {
+                    stmt.setString(1, "/RESOURCES/" + rscName);
+                    stmt.setString(2, key);
+                    stmt.setString(3, "value");
+                });
+            }
+        }
+        if (batchWrites)
+        {
+            writeBatch.flush();
+        }
+        con.commit();
+    }
+
+    private void write(String table, OpType opType, String sql, ParameterSetter paramSetter) throws Exception
+    {
+        if (batchWrites)
+        {
+            writeBatch.add(table, opType, null, sql, table, paramSetter);
+        }
+        else
+        {
+            try (PreparedStatement stmt = con.prepareStatement(sql))
+            {
+                paramSetter.setParameters(stmt);
+                stmt.executeUpdate();
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.linbit.linstor.benchmarks;
+
+import com.linbit.linstor.core.objects.Node;
+import com.linbit.linstor.core.objects.Resource;
+import com.linbit.linstor.core.objects.ResourceDefinition;
+import com.linbit.linstor.core.objects.StorPool;
+import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.propscon.Props;
+import com.linbit.linstor.propscon.PropsContainerFactory;
+import com.linbit.linstor.security.AccessContext;
+import com.linbit.linstor.security.GenericDbBase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Generates a synthetic cluster of N nodes, M resource definitions and K volumes per resource definition.
+ *
+ * The cluster is created in the same H2 database and with the same Guice setup the unit tests are using (see
+ * {@link GenericDbBase}). Every node gets one storage pool ({@link #STOR_POOL_NAME}) and the auxiliary properties
+ * {@link #ZONE_KEY} and {@link #RACK_KEY}. Every resource definition is deployed on <code>replicaCount</code>
+ * consecutive nodes, so the resources are evenly distributed across the cluster.
+ *
+ * {@link #open()} enters a thread local LinStorScope, therefore an instance must only be used (and closed) by the
+ * thread that opened it. JMH states using this class should be <code>Scope.Thread</code> states.
+ */
+public class SyntheticCluster extends GenericDbBase implements AutoCloseable
+{
+    public static final String STOR_POOL_NAME = "pool1";
+    public static final String ZONE_KEY = "Aux/zone";
+    public static final String RACK_KEY = "Aux/rack";
+
+    private static final int ZONE_COUNT = 3;
+    private static final int NODES_PER_RACK = 4;
+    private static final long VLM_SIZE_KIB = 1024 * 1024;
+
+    private final List<Node> nodes = new ArrayList<>();
+    private final List<StorPool> storPools = new ArrayList<>();
+    private final List<ResourceDefinition> rscDfns = new ArrayList<>();
+    private final List<Resource> resources = new ArrayList<>();
+
+    private boolean opened = false;
+
+    /**
+     * Initializes the database and enters the scope. The database is emptied, so only one instance should be open
+     * at any time.
+     */
+    public SyntheticCluster open() throws Exception
+    {
+        setUpBeforeClass();
+        setUpAndEnterScope();
+        resourceGroupTestFactory.initDfltRscGrp();
+        volumeTestFactory.setDfltVlmSize(VLM_SIZE_KIB);
+        opened = true;
+        return this;
+    }
+
+    public SyntheticCluster generate(int nodeCount, int rscDfnCount, int vlmCount, int replicaCount)
+        throws Exception
+    {
+        if (!opened)
+        {
+            open();
+        }
+        for (int nodeIdx = 0; nodeIdx < nodeCount; ++nodeIdx)
+        {
+            String nodeName = getNodeName(nodeIdx);
+            Node node = nodeTestFactory.create(nodeName);
+            Props nodeProps = node.getProps(SYS_CTX);
+            nodeProps.setProp(ZONE_KEY, "zone-" + (nodeIdx % ZONE_COUNT));
+            nodeProps.setProp(RACK_KEY, "rack-" + (nodeIdx / (ZONE_COUNT * NODES_PER_RACK)));
+            nodes.add(node);
+            storPools.add(storPoolTestFactory.create(nodeName, STOR_POOL_NAME));
+        }
+
+        int replicas = Math.min(replicaCount, nodeCount);
+        for (int rscIdx = 0; rscIdx < rscDfnCount; ++rscIdx)
+        {
+            String rscName = String.format("rsc-%06d", rscIdx);
+            for (int replicaIdx = 0; replicaIdx < replicas; ++replicaIdx)
+            {
+                int nodeIdx = (rscIdx + replicaIdx) % nodeCount;
+                String nodeName = getNodeName(nodeIdx);
+                for (int vlmNr = 0; vlmNr < vlmCount; ++vlmNr)
+                {
+                    volumeTestFactory.builder(nodeName, rscName, vlmNr)
+                        .setStorPoolData(storPools.get(nodeIdx))
+                        .build();
+                }
+                resources.add(resourceTestFactory.get(nodeName, rscName, true));
+            }
+            rscDfns.add(resourceDefinitionTestFactory.get(rscName, true));
+        }
+        commit();
+        return this;
+    }
+
+    /**
+     * Commits the current transaction, i.e. persists all changes made by the benchmark since the last commit
+     */
+    public void commitTransaction() throws Exception
+    {
+        commit();
+    }
+
+    public List<Node> getNodes()
+    {
+        return Collections.unmodifiableList(nodes);
+    }
+
+    public List<StorPool> getStorPools()
+    {
+        return Collections.unmodifiableList(storPools);
+    }
+
+    public List<ResourceDefinition> getResourceDefinitions()
+    {
+        return Collections.unmodifiableList(rscDfns);
+    }
+
+    public List<Resource> getResources()
+    {
+        return Collections.unmodifiableList(resources);
+    }
+
+    public AccessContext getSysCtx()
+    {
+        return SYS_CTX;
+    }
+
+    public ErrorReporter getErrorReporter()
+    {
+        return errorReporter;
+    }
+
+    public PropsContainerFactory getPropsContainerFactory()
+    {
+        return propsContainerFactory;
+    }
+
+    @Override
+    public void close() throws Exception
+    {
+        if (opened)
+        {
+            opened = false;
+            commitAndCleanUp(true);
+        }
+    }
+
+    private static String getNodeName(int nodeIdx)
+    {
+        return String.format("node-%04d", nodeIdx);
+    }
+}
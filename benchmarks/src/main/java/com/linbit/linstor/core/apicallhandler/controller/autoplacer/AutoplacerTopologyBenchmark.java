@@ -0,0 +1,136 @@
+package com.linbit.linstor.core.apicallhandler.controller.autoplacer;
+
+import com.linbit.ImplementationError;
+import com.linbit.linstor.api.interfaces.AutoSelectFilterApi;
+import com.linbit.linstor.api.pojo.builder.AutoSelectFilterBuilder;
+import com.linbit.linstor.benchmarks.SyntheticCluster;
+import com.linbit.linstor.core.objects.StorPool;
+import com.linbit.linstor.security.AccessDeniedException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Selection search of the {@link SelectionManager} on a synthetic cluster of <code>nodeCount</code> nodes (3 zones,
+ * racks of 12 nodes) for different placement topologies:
+ * <ul>
+ *  <li><code>flat</code>: 3 replicas without constraints</li>
+ *  <li><code>zoneSpread</code>: 4 replicas, 2 in each of two zones</li>
+ *  <li><code>rackLocal</code>: 3 replicas in the same rack, each in a different zone</li>
+ *  <li><code>infeasible</code>: 5 replicas in the same zone and rack, which only has 4 nodes, i.e. the search has to
+ *      prove that there is no selection</li>
+ * </ul>
+ * A <code>stepBudget</code> of 0 searches without limit.
+ *
+ * This benchmark lives in the autoplacer package as {@link Autoplacer.StorPoolWithScore} is package private.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AutoplacerTopologyBenchmark
+{
+    @Param({"120", "600"})
+    public int nodeCount;
+
+    @Param({"flat", "zoneSpread", "rackLocal", "infeasible"})
+    public String topology;
+
+    @Param({"0", "10000"})
+    public long stepBudget;
+
+    private SyntheticCluster cluster;
+    private Autoplacer.StorPoolWithScore[] storPoolWithScores;
+    private AutoSelectFilterApi selectFilter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception
+    {
+        cluster = new SyntheticCluster().generate(nodeCount, 0, 0, 0);
+
+        List<Autoplacer.StorPoolWithScore> storPools = new ArrayList<>();
+        int idx = 0;
+        for (StorPool storPool : cluster.getStorPools())
+        {
+            // spread the scores so the selection cannot just take the first pools
+            storPools.add(new Autoplacer.StorPoolWithScore(storPool, (idx * 7 % nodeCount) / (double) nodeCount));
+            ++idx;
+        }
+        storPoolWithScores = storPools.toArray(new Autoplacer.StorPoolWithScore[0]);
+        Arrays.sort(storPoolWithScores);
+
+        switch (topology)
+        {
+            case "flat":
+                selectFilter = new AutoSelectFilterBuilder()
+                    .setPlaceCount(3)
+                    .build();
+                break;
+            case "zoneSpread":
+                selectFilter = new AutoSelectFilterBuilder()
+                    .setPlaceCount(4)
+                    .setXReplicasOnDifferentMap(Map.of(SyntheticCluster.ZONE_KEY, 2))
+                    .build();
+                break;
+            case "rackLocal":
+                selectFilter = new AutoSelectFilterBuilder()
+                    .setPlaceCount(3)
+                    .setReplicasOnSameList(Collections.singletonList(SyntheticCluster.RACK_KEY))
+                    .setReplicasOnDifferentList(Collections.singletonList(SyntheticCluster.ZONE_KEY))
+                    .build();
+                break;
+            case "infeasible":
+                selectFilter = new AutoSelectFilterBuilder()
+                    .setPlaceCount(5)
+                    .setReplicasOnSameList(Arrays.asList(SyntheticCluster.ZONE_KEY, SyntheticCluster.RACK_KEY))
+                    .build();
+                break;
+            default:
+                throw new ImplementationError("Unknown topology: " + topology);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception
+    {
+        cluster.close();
+    }
+
+    @Benchmark
+    public int findSelection() throws AccessDeniedException
+    {
+        return new SelectionManager(
+            cluster.getSysCtx(),
+            cluster.getErrorReporter(),
+            selectFilter,
+            Collections.emptyList(),
+            0,
+            0,
+            Collections.emptyList(),
+            Collections.emptyMap(),
+            storPoolWithScores,
+            false,
+            new SearchBudget(0, stepBudget)
+        ).findSelection(0).size();
+    }
+}
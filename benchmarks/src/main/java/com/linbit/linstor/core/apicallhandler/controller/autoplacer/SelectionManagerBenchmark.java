@@ -0,0 +1,112 @@
+package com.linbit.linstor.core.apicallhandler.controller.autoplacer;
+
+import com.linbit.linstor.api.interfaces.AutoSelectFilterApi;
+import com.linbit.linstor.api.pojo.builder.AutoSelectFilterBuilder;
+import com.linbit.linstor.benchmarks.SyntheticCluster;
+import com.linbit.linstor.core.objects.StorPool;
+import com.linbit.linstor.security.AccessDeniedException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Selection of 3 storage pools out of a synthetic cluster of <code>nodeCount</code> nodes by the
+ * {@link SelectionManager}, without and with replicas-on-same / replicas-on-different constraints.
+ *
+ * This benchmark lives in the autoplacer package as {@link Autoplacer.StorPoolWithScore} is package private.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SelectionManagerBenchmark
+{
+    private static final int PLACE_COUNT = 3;
+
+    @Param({"12", "120", "600"})
+    public int nodeCount;
+
+    private SyntheticCluster cluster;
+    private Autoplacer.StorPoolWithScore[] storPoolWithScores;
+    private AutoSelectFilterApi unconstrainedFilter;
+    private AutoSelectFilterApi constrainedFilter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception
+    {
+        cluster = new SyntheticCluster().generate(nodeCount, 0, 0, 0);
+
+        List<Autoplacer.StorPoolWithScore> storPools = new ArrayList<>();
+        int idx = 0;
+        for (StorPool storPool : cluster.getStorPools())
+        {
+            // spread the scores so the selection cannot just take the first pools
+            storPools.add(new Autoplacer.StorPoolWithScore(storPool, (idx * 7 % nodeCount) / (double) nodeCount));
+            ++idx;
+        }
+        storPoolWithScores = storPools.toArray(new Autoplacer.StorPoolWithScore[0]);
+        Arrays.sort(storPoolWithScores);
+
+        unconstrainedFilter = new AutoSelectFilterBuilder()
+            .setPlaceCount(PLACE_COUNT)
+            .build();
+        constrainedFilter = new AutoSelectFilterBuilder()
+            .setPlaceCount(PLACE_COUNT)
+            .setReplicasOnSameList(Collections.singletonList(SyntheticCluster.RACK_KEY))
+            .setReplicasOnDifferentList(Collections.singletonList(SyntheticCluster.ZONE_KEY))
+            .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception
+    {
+        cluster.close();
+    }
+
+    @Benchmark
+    public int unconstrained() throws AccessDeniedException
+    {
+        return newSelectionManager(unconstrainedFilter).findSelection(0).size();
+    }
+
+    @Benchmark
+    public int constrained() throws AccessDeniedException
+    {
+        return newSelectionManager(constrainedFilter).findSelection(0).size();
+    }
+
+    private SelectionManager newSelectionManager(AutoSelectFilterApi selectFilter) throws AccessDeniedException
+    {
+        return new SelectionManager(
+            cluster.getSysCtx(),
+            cluster.getErrorReporter(),
+            selectFilter,
+            Collections.emptyList(),
+            0,
+            0,
+            Collections.emptyList(),
+            Collections.emptyMap(),
+            storPoolWithScores,
+            false
+        );
+    }
+}
@@ -0,0 +1,96 @@
+package com.linbit.linstor.security;
+
+import com.linbit.linstor.dbdrivers.interfaces.SecObjProtAclDatabaseDriver;
+import com.linbit.linstor.transaction.DummyTxMgr;
+import com.linbit.linstor.transaction.TransactionObjectFactory;
+import com.linbit.linstor.transaction.manager.TransactionMgr;
+
+import javax.inject.Provider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Access checks of a list call, i.e. a VIEW check of every object of <code>objectCount</code> objects, by 16
+ * concurrent readers sharing the same access context, with mandatory access control enabled.
+ *
+ * This benchmark lives in the security package as the constructors of the security objects are package private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Threads(16)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AccessCheckBenchmark
+{
+    private static final SecObjProtAclDatabaseDriver ACL_DRIVER = new SatelliteSecObjProtAclDbDriver();
+    private static final TransactionMgr TX_MGR = new DummyTxMgr();
+    private static final Provider<TransactionMgr> TRANS_MGR_PROVIDER = () -> TX_MGR;
+    private static final TransactionObjectFactory TRANS_OBJ_FACTORY = new TransactionObjectFactory(TRANS_MGR_PROVIDER);
+
+    @Param({"40000"})
+    public int objectCount;
+
+    private final List<ObjectProtection> objProts = new ArrayList<>();
+    private AccessContext userCtx;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception
+    {
+        AccessContext rootCtx = new AccessContext(
+            new Identity(new IdentityName("SYSTEM")),
+            new Role(new RoleName("SYSTEM")),
+            new SecurityType(new SecTypeName("SYSTEM")),
+            new PrivilegeSet(Privilege.PRIV_SYS_ALL)
+        );
+        rootCtx.privEffective.enablePrivileges(Privilege.PRIVILEGE_LIST);
+        SecurityLevel.set(rootCtx, SecurityLevel.MAC, null, null);
+
+        Identity userId = new Identity(new IdentityName("User"));
+        Role userRole = new Role(new RoleName("UserRole"));
+        SecurityType userDomain = new SecurityType(new SecTypeName("UserDomain"));
+        SecurityType objType = new SecurityType(new SecTypeName("ObjType"));
+        objType.addRule(rootCtx, userDomain, AccessType.VIEW);
+
+        userCtx = new AccessContext(userId, userRole, userDomain, new PrivilegeSet());
+        AccessContext creatorCtx = new AccessContext(userId, userRole, objType, new PrivilegeSet());
+        for (int idx = 0; idx < objectCount; ++idx)
+        {
+            String objPath = "/resources/rsc-" + idx;
+            AccessControlList acl = new AccessControlList(objPath, ACL_DRIVER, TRANS_OBJ_FACTORY, TRANS_MGR_PROVIDER);
+            acl.addEntry(userRole, AccessType.VIEW);
+            objProts.add(
+                new ObjectProtection(creatorCtx, objPath, acl, null, TRANS_OBJ_FACTORY, TRANS_MGR_PROVIDER)
+            );
+        }
+    }
+
+    @Benchmark
+    public int listAll() throws AccessDeniedException
+    {
+        int count = 0;
+        for (ObjectProtection objProt : objProts)
+        {
+            objProt.requireAccess(userCtx, AccessType.VIEW);
+            ++count;
+        }
+        return count;
+    }
+}
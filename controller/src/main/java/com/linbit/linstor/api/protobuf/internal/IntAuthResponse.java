@@ -4,11 +4,16 @@ import com.linbit.linstor.InternalApiConsts;
 import com.linbit.linstor.api.ApiCallRc;
 import com.linbit.linstor.api.ApiCallRcImpl;
 import com.linbit.linstor.api.ApiCallReactive;
+import com.linbit.linstor.api.pojo.HeldObjectsPojo;
 import com.linbit.linstor.api.prop.Property;
 import com.linbit.linstor.api.protobuf.ProtoDeserializationUtils;
+import com.linbit.linstor.api.protobuf.ProtoObjectRefs;
 import com.linbit.linstor.api.protobuf.ProtobufApiCall;
 import com.linbit.linstor.core.apicallhandler.controller.internal.CtrlAuthResponseApiCallHandler;
+import com.linbit.linstor.core.cfg.CtrlConfig;
+import com.linbit.linstor.netcom.FrameCompression;
 import com.linbit.linstor.netcom.Peer;
+import com.linbit.linstor.netcom.TcpConnectorPeer;
 import com.linbit.linstor.proto.common.ApiCallResponseOuterClass.ApiCallResponse;
 import com.linbit.linstor.proto.common.StltConfigOuterClass.StltConfig;
 import com.linbit.linstor.proto.javainternal.s2c.MsgIntAuthResponseOuterClass.MsgIntAuthResponse;
@@ -36,15 +41,18 @@ public class IntAuthResponse implements ApiCallReactive
 {
     private final CtrlAuthResponseApiCallHandler ctrlAuthResponseApiCallHandler;
     private final Provider<Peer> peerProvider;
+    private final CtrlConfig ctrlCfg;
 
     @Inject
     public IntAuthResponse(
         CtrlAuthResponseApiCallHandler ctrlAuthResponseApiCallHandlerRef,
-        Provider<Peer> peerProviderRef
+        Provider<Peer> peerProviderRef,
+        CtrlConfig ctrlCfgRef
     )
     {
         ctrlAuthResponseApiCallHandler = ctrlAuthResponseApiCallHandlerRef;
         peerProvider = peerProviderRef;
+        ctrlCfg = ctrlCfgRef;
     }
 
     @Override
@@ -82,6 +90,7 @@ public class IntAuthResponse implements ApiCallReactive
         final String nodeUname;
         final StltConfig stltConfig;
         final List<Property> dynamicPropList;
+        final HeldObjectsPojo heldObjects;
         if (success)
         {
             expectedFullSyncId = msgAuthResponse.getExpectedFullSyncId();
@@ -95,6 +104,30 @@ public class IntAuthResponse implements ApiCallReactive
             );
             stltConfig = msgAuthResponse.getStltConfig();
             dynamicPropList = ProtoDeserializationUtils.parseProperties(msgAuthResponse.getPropertiesList());
+            if (msgAuthResponse.getDeltaSyncVersion() == ProtoObjectRefs.DELTA_SYNC_VERSION)
+            {
+                heldObjects = new HeldObjectsPojo(
+                    msgAuthResponse.getSyncedObjectVersionEpoch(),
+                    msgAuthResponse.getSyncedObjectVersion(),
+                    ProtoObjectRefs.fromProtoList(msgAuthResponse.getHeldObjectsList())
+                );
+            }
+            else
+            {
+                // satellite holds nothing or speaks a different delta sync version
+                heldObjects = HeldObjectsPojo.none();
+            }
+            // has to happen before the full sync is sent. Older satellites do not answer this field, which
+            // results in "" and therefore in uncompressed messages
+            if (peer instanceof TcpConnectorPeer)
+            {
+                ((TcpConnectorPeer) peer).setFrameCompression(
+                    FrameCompression.create(
+                        msgAuthResponse.getFrameCompression(),
+                        ctrlCfg.getNetcomFrameCompressionThreshold()
+                    )
+                );
+            }
         }
         else
         {
@@ -106,6 +139,7 @@ public class IntAuthResponse implements ApiCallReactive
             externalToolsInfoList = null;
             stltConfig = null;
             dynamicPropList = Collections.emptyList();
+            heldObjects = HeldObjectsPojo.none();
         }
         return ctrlAuthResponseApiCallHandler.authResponse(
             peer,
@@ -119,6 +153,7 @@ public class IntAuthResponse implements ApiCallReactive
             externalToolsInfoList,
             stltConfig,
             dynamicPropList,
+            heldObjects,
             waitForFullSyncAnswer
         );
     }
@@ -10,6 +10,8 @@ import com.linbit.linstor.api.protobuf.ProtobufApiCall;
 import com.linbit.linstor.core.CoreModule;
 import com.linbit.linstor.core.apicallhandler.ScopeRunner;
 import com.linbit.linstor.core.apicallhandler.controller.CtrlNodeApiCallHandler;
+import com.linbit.linstor.core.apicallhandler.controller.FreeCapacityCache;
+import com.linbit.linstor.core.apicallhandler.controller.internal.CtrlFullSyncApiCallHandler;
 import com.linbit.linstor.core.apicallhandler.controller.internal.CtrlFullSyncResponseApiCallHandler;
 import com.linbit.linstor.core.apicallhandler.controller.internal.StorPoolInternalCallHandler;
 import com.linbit.linstor.core.apicallhandler.response.ApiOperation;
@@ -51,6 +53,8 @@ public class IntFullSyncResponse implements ApiCallReactive
     private final StorPoolInternalCallHandler storPoolApiCallHandler;
     private final CtrlFullSyncResponseApiCallHandler ctrlFullSyncApiCallHandler;
     private final Provider<Peer> satelliteProvider;
+    private final Provider<CtrlFullSyncApiCallHandler> ctrlFullSyncSenderProvider;
+    private final FreeCapacityCache freeCapacityCache;
 
     @Inject
     public IntFullSyncResponse(
@@ -60,7 +64,9 @@ public class IntFullSyncResponse implements ApiCallReactive
         @Named(CoreModule.STOR_POOL_DFN_MAP_LOCK) ReadWriteLock storPoolDfnMapLockRef,
         StorPoolInternalCallHandler storPoolApiCallHandlerRef,
         CtrlFullSyncResponseApiCallHandler ctrlFullSyncApiCallHandlerRef,
-        Provider<Peer> satelliteProviderRef
+        Provider<Peer> satelliteProviderRef,
+        Provider<CtrlFullSyncApiCallHandler> ctrlFullSyncSenderProviderRef,
+        FreeCapacityCache freeCapacityCacheRef
     )
     {
         errorReporter = errorReporterRef;
@@ -70,6 +76,8 @@ public class IntFullSyncResponse implements ApiCallReactive
         storPoolApiCallHandler = storPoolApiCallHandlerRef;
         ctrlFullSyncApiCallHandler = ctrlFullSyncApiCallHandlerRef;
         satelliteProvider = satelliteProviderRef;
+        ctrlFullSyncSenderProvider = ctrlFullSyncSenderProviderRef;
+        freeCapacityCache = freeCapacityCacheRef;
     }
 
     @Override
@@ -80,6 +88,21 @@ public class IntFullSyncResponse implements ApiCallReactive
 
     public Flux<byte[]> processReactive(Peer satellitePeerRef, InputStream msgDataIn, ResponseContext context)
         throws IOException
+    {
+        return processReactive(satellitePeerRef, msgDataIn, context, false);
+    }
+
+    /**
+     * @param waitForAnswer whether a full sync that has to be resent (see FAIL_DELTA_OUTDATED) should also wait for
+     *     the satellite's answer
+     */
+    public Flux<byte[]> processReactive(
+        Peer satellitePeerRef,
+        InputStream msgDataIn,
+        ResponseContext context,
+        boolean waitForAnswer
+    )
+        throws IOException
     {
         final ResponseContext ctx;
         if (context == null)
@@ -136,6 +159,19 @@ public class IntFullSyncResponse implements ApiCallReactive
                 );
         }
         else
+        if (msgIntFullSyncResponse.getFullSyncResult() ==
+            MsgIntFullSyncResponseOuterClass.FullSyncResult.FAIL_DELTA_OUTDATED)
+        {
+            // the satellite did not apply anything, just send it everything
+            errorReporter.logInfo(
+                "Satellite '%s' could not use delta full sync, sending regular full sync",
+                satellitePeerRef.getNode().getName().displayValue
+            );
+            flux = ctrlFullSyncSenderProvider.get()
+                .sendFullSync(satellitePeerRef.getNode(), satellitePeerRef.getFullSyncId(), waitForAnswer)
+                .thenMany(Flux.empty());
+        }
+        else
         {
             ApiConsts.ConnectionStatus connectionStatus;
             switch (msgIntFullSyncResponse.getFullSyncResult())
@@ -143,7 +179,8 @@ public class IntFullSyncResponse implements ApiCallReactive
                 case FAIL_MISSING_REQUIRED_EXT_TOOLS:
                     connectionStatus = ApiConsts.ConnectionStatus.MISSING_EXT_TOOLS;
                     break;
-                case SUCCESS:
+                case SUCCESS: // fall-through
+                case FAIL_DELTA_OUTDATED:
                     throw new ImplementationError(
                         "unexpected enum type: " + msgIntFullSyncResponse.getFullSyncResult()
                     );
@@ -165,6 +202,8 @@ public class IntFullSyncResponse implements ApiCallReactive
 
     private Flux<?> updateCapacities(Peer satellitePeerRef, List<CapacityInfoPojo> capacityInfoPojoList)
     {
+        // the full sync response contains all storage pools, drop those the satellite no longer knows
+        freeCapacityCache.invalidate(satellitePeerRef.getNode().getName());
         storPoolApiCallHandler.updateRealFreeSpace(satellitePeerRef, capacityInfoPojoList);
         return Flux.empty();
     }
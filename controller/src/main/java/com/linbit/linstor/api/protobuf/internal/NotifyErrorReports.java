@@ -0,0 +1,48 @@
+package com.linbit.linstor.api.protobuf.internal;
+
+import com.linbit.linstor.InternalApiConsts;
+import com.linbit.linstor.api.ApiCall;
+import com.linbit.linstor.api.protobuf.ProtobufApiCall;
+import com.linbit.linstor.core.apicallhandler.controller.CtrlErrorReportReplication;
+import com.linbit.linstor.netcom.Peer;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@ProtobufApiCall(
+    name = InternalApiConsts.API_NOTIFY_ERROR_REPORTS,
+    description = "Called by the satellite to push the metadata of the error reports it just wrote",
+    transactional = false
+)
+@Singleton
+public class NotifyErrorReports implements ApiCall
+{
+    private final CtrlErrorReportReplication errorReportReplication;
+    private final Provider<Peer> peerProvider;
+
+    @Inject
+    public NotifyErrorReports(
+        CtrlErrorReportReplication errorReportReplicationRef,
+        Provider<Peer> peerProviderRef
+    )
+    {
+        errorReportReplication = errorReportReplicationRef;
+        peerProvider = peerProviderRef;
+    }
+
+    @Override
+    public void execute(InputStream msgDataIn)
+        throws IOException
+    {
+        Peer peer = peerProvider.get();
+        // node is null if the peer calling this API was not a satellite
+        if (peer.getNode() != null)
+        {
+            errorReportReplication.ingest(peer, msgDataIn);
+        }
+    }
+}
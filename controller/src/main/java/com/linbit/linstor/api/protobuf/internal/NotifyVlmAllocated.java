@@ -0,0 +1,53 @@
+package com.linbit.linstor.api.protobuf.internal;
+
+import com.linbit.linstor.InternalApiConsts;
+import com.linbit.linstor.api.ApiCall;
+import com.linbit.linstor.api.protobuf.ProtobufApiCall;
+import com.linbit.linstor.core.apicallhandler.controller.VlmAllocatedCache;
+import com.linbit.linstor.core.apicallhandler.controller.VlmAllocatedFetcherProto;
+import com.linbit.linstor.core.objects.Node;
+import com.linbit.linstor.netcom.Peer;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@ProtobufApiCall(
+    name = InternalApiConsts.API_NOTIFY_VLM_ALLOCATED,
+    description = "Called by the satellite to push the allocated sizes of the thin volumes it just applied"
+)
+@Singleton
+public class NotifyVlmAllocated implements ApiCall
+{
+    private final VlmAllocatedCache vlmAllocatedCache;
+    private final Provider<Peer> peerProvider;
+
+    @Inject
+    public NotifyVlmAllocated(
+        VlmAllocatedCache vlmAllocatedCacheRef,
+        Provider<Peer> peerProviderRef
+    )
+    {
+        vlmAllocatedCache = vlmAllocatedCacheRef;
+        peerProvider = peerProviderRef;
+    }
+
+    @Override
+    public void execute(InputStream msgDataIn)
+        throws IOException
+    {
+        long receivedAt = System.nanoTime();
+        Node node = peerProvider.get().getNode();
+        // node is null if the peer calling this API was not a satellite
+        if (node != null)
+        {
+            vlmAllocatedCache.update(
+                VlmAllocatedFetcherProto.parseVlmAllocated(node.getName(), msgDataIn),
+                receivedAt
+            );
+        }
+    }
+}
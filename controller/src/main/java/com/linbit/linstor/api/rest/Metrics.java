@@ -1,21 +1,23 @@
 package com.linbit.linstor.api.rest;
 
+import com.linbit.linstor.annotation.PeerContext;
 import com.linbit.linstor.api.rest.v1.RequestHelper;
 import com.linbit.linstor.core.apicallhandler.controller.CtrlApiCallHandler;
 import com.linbit.linstor.core.apicallhandler.controller.CtrlErrorListApiCallHandler;
 import com.linbit.linstor.core.apicallhandler.controller.CtrlStorPoolListApiCallHandler;
 import com.linbit.linstor.core.apicallhandler.controller.CtrlVlmListApiCallHandler;
-import com.linbit.linstor.core.apicallhandler.controller.helpers.ResourceList;
-import com.linbit.linstor.core.apis.NodeApi;
-import com.linbit.linstor.core.apis.ResourceDefinitionApi;
-import com.linbit.linstor.core.apis.StorPoolApi;
 import com.linbit.linstor.logging.ErrorReportResult;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.netcom.PeerClosingConnectionException;
 import com.linbit.linstor.netcom.PeerNotConnectedException;
+import com.linbit.linstor.prometheus.CtrlMetricsCache;
+import com.linbit.linstor.prometheus.CtrlMetricsCache.ErrorReportCounts;
+import com.linbit.linstor.prometheus.CtrlMetricsCache.Section;
 import com.linbit.linstor.prometheus.PrometheusBuilder;
+import com.linbit.linstor.security.AccessContext;
 
 import javax.inject.Inject;
+import javax.inject.Provider;
 import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
@@ -27,7 +29,6 @@ import javax.ws.rs.core.Response;
 
 import java.time.Duration;
 import java.util.Collections;
-import java.util.List;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -45,6 +46,8 @@ public class Metrics
     private final CtrlStorPoolListApiCallHandler ctrlStorPoolListApiCallHandler;
     private final CtrlErrorListApiCallHandler ctrlErrorListApiCallHandler;
     private final PrometheusBuilder prometheusBuilder;
+    private final CtrlMetricsCache metricsCache;
+    private final Provider<AccessContext> peerAccCtx;
 
     private static final int BLOCK_TIMEOUT = 10;
     private static final AtomicLong SCRAPE_REQUESTS = new AtomicLong();
@@ -57,7 +60,9 @@ public class Metrics
         CtrlVlmListApiCallHandler ctrlVlmListApiCallHandlerRef,
         CtrlStorPoolListApiCallHandler ctrlStorPoolListApiCallHandlerRef,
         CtrlErrorListApiCallHandler ctrlErrorListApiCallHandlerRef,
-        PrometheusBuilder prometheusBuilderRef)
+        PrometheusBuilder prometheusBuilderRef,
+        CtrlMetricsCache metricsCacheRef,
+        @PeerContext Provider<AccessContext> peerAccCtxRef)
     {
         errorReporter = errorReporterRef;
         requestHelper = requestHelperRef;
@@ -66,6 +71,8 @@ public class Metrics
         ctrlStorPoolListApiCallHandler = ctrlStorPoolListApiCallHandlerRef;
         ctrlErrorListApiCallHandler = ctrlErrorListApiCallHandlerRef;
         prometheusBuilder = prometheusBuilderRef;
+        metricsCache = metricsCacheRef;
+        peerAccCtx = peerAccCtxRef;
     }
 
     @GET
@@ -81,9 +88,91 @@ public class Metrics
         SCRAPE_REQUESTS.incrementAndGet();
         long scrapeStart = System.currentTimeMillis();
 
-        ErrorReportResult errorReportsTmp = null;
         if (withErrorReports)
         {
+            refreshErrorReportCounts(request);
+        }
+
+        return requestHelper.doInScope("metrics", request, () ->
+            {
+                AccessContext accCtx = peerAccCtx.get();
+                StringBuilder promText = new StringBuilder(prometheusBuilder.buildInfo());
+                promText.append(
+                    metricsCache.get(
+                        Section.NODES,
+                        accCtx,
+                        () -> prometheusBuilder.buildNodes(
+                            ctrlApiCallHandler.listNodes(Collections.emptyList(), Collections.emptyList())
+                        )
+                    )
+                );
+                promText.append(
+                    metricsCache.get(
+                        Section.RSC_DFNS,
+                        accCtx,
+                        () -> prometheusBuilder.buildRscDfns(ctrlApiCallHandler.listResourceDefinitions())
+                    )
+                );
+                if (resources)
+                {
+                    promText.append(
+                        metricsCache.get(
+                            Section.RESOURCES,
+                            accCtx,
+                            () -> prometheusBuilder.buildResources(
+                                ctrlApiCallHandler.listResourceDefinitions(),
+                                ctrlVlmListApiCallHandler.listVlmsCached(
+                                    Collections.emptyList(),
+                                    Collections.emptyList(),
+                                    Collections.emptyList(),
+                                    Collections.emptyList()
+                                )
+                            )
+                        )
+                    );
+                }
+                if (storagePools)
+                {
+                    promText.append(
+                        metricsCache.get(
+                            Section.STOR_POOLS,
+                            accCtx,
+                            () -> prometheusBuilder.buildStorPools(
+                                ctrlStorPoolListApiCallHandler.listStorPoolsCached(
+                                    Collections.emptyList(),
+                                    Collections.emptyList(),
+                                    Collections.emptyList()
+                                )
+                            )
+                        )
+                    );
+                }
+                ErrorReportCounts errorReportCounts = metricsCache.getErrorReportCounts();
+                if (withErrorReports && errorReportCounts != null)
+                {
+                    promText.append(
+                        prometheusBuilder.buildErrorReports(
+                            errorReportCounts.totalCount,
+                            errorReportCounts.nodeCounts
+                        )
+                    );
+                }
+                promText.append(prometheusBuilder.buildScrapeStats(SCRAPE_REQUESTS.getAndIncrement(), scrapeStart));
+
+                return Response.status(Response.Status.OK).entity(promText.toString()).build();
+            },
+            false);
+    }
+
+    /**
+     * The error report counts are read from the controller's error report index. Only the very first scrape waits
+     * for them, all later scrapes return the last known counts and refresh them in the background.
+     */
+    private void refreshErrorReportCounts(Request request)
+    {
+        if (metricsCache.tryStartErrorReportRefresh())
+        {
+            boolean firstRefresh = metricsCache.getErrorReportCounts() == null;
             Flux<ErrorReportResult> fluxErrorReports = ctrlErrorListApiCallHandler.listErrorReports(
                 Collections.emptySet(), false, null, null, Collections.emptySet(), 1L, 0L)
                 .onErrorResume(
@@ -94,61 +183,52 @@ public class Metrics
                     PeerClosingConnectionException.class,
                     ignored -> Flux.empty()
                 )
-                .contextWrite(requestHelper.createContext("metrics", request));
+                .contextWrite(requestHelper.createContext("metrics", request))
+                .timeout(Duration.ofSeconds(BLOCK_TIMEOUT))
+                .doOnError(this::reportErrorReportFailure);
 
-            try
+            long start = System.currentTimeMillis();
+            if (firstRefresh)
             {
-                long start = System.currentTimeMillis();
-                errorReportsTmp = fluxErrorReports
-                    .timeout(Duration.ofSeconds(BLOCK_TIMEOUT)).next().block();
-                errorReporter.logTrace("Metric/ListErrorReports: %dms", System.currentTimeMillis() - start);
-            }
-            catch (RuntimeException runtimeExc)
-            {
-                if (runtimeExc.getCause() instanceof TimeoutException)
+                try
                 {
-                    errorReporter.logWarning(
-                        String.format("Timeout: Gathering error reports took longer than %d seconds: %s",
-                            BLOCK_TIMEOUT,
-                            runtimeExc));
+                    metricsCache.errorReportRefreshDone(fluxErrorReports.next().block());
                 }
-                else
+                catch (RuntimeException ignored)
                 {
-                    errorReporter.reportError(runtimeExc);
+                    // already reported by doOnError
+                    metricsCache.errorReportRefreshDone(null);
                 }
+                errorReporter.logTrace("Metric/ListErrorReports: %dms", System.currentTimeMillis() - start);
             }
-        }
-
-        final ErrorReportResult errorReports = errorReportsTmp;
-        return requestHelper.doInScope("metrics", request, () ->
+            else
             {
-                final ResourceList rl = resources ? ctrlVlmListApiCallHandler.listVlmsCached(
-                    Collections.emptyList(),
-                    Collections.emptyList(),
-                    Collections.emptyList(),
-                    Collections.emptyList()) : null;
-
-                final List<StorPoolApi> storagePoolList = storagePools ?
-                    ctrlStorPoolListApiCallHandler.listStorPoolsCached(
-                        Collections.emptyList(),
-                        Collections.emptyList(),
-                        Collections.emptyList()) : null;
-
-                final List<NodeApi> nodeApiList = ctrlApiCallHandler.listNodes(
-                    Collections.emptyList(), Collections.emptyList());
-                final List<ResourceDefinitionApi> rscDfns = ctrlApiCallHandler.listResourceDefinitions();
-                final String promText = prometheusBuilder.build(
-                    nodeApiList,
-                    rscDfns,
-                    rl,
-                    storagePoolList,
-                    errorReports,
-                    SCRAPE_REQUESTS.getAndIncrement(),
-                    scrapeStart
-                );
+                fluxErrorReports.next()
+                    .doFinally(ignored -> errorReporter.logTrace(
+                        "Metric/ListErrorReports: %dms", System.currentTimeMillis() - start
+                    ))
+                    .subscribe(
+                        metricsCache::errorReportRefreshDone,
+                        ignored -> metricsCache.errorReportRefreshDone(null),
+                        // also called after a result, in which case it only marks the refresh as done again
+                        () -> metricsCache.errorReportRefreshDone(null)
+                    );
+            }
+        }
+    }
 
-                return Response.status(Response.Status.OK).entity(promText).build();
-            },
-            false);
+    private void reportErrorReportFailure(Throwable exc)
+    {
+        if (exc instanceof TimeoutException)
+        {
+            errorReporter.logWarning(
+                String.format("Timeout: Gathering error reports took longer than %d seconds: %s",
+                    BLOCK_TIMEOUT,
+                    exc));
+        }
+        else
+        {
+            errorReporter.reportError(exc);
+        }
     }
 }
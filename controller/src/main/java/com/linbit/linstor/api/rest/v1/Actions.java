@@ -1,10 +1,13 @@
 package com.linbit.linstor.api.rest.v1;
 
 import com.linbit.linstor.api.ApiCallRc;
+import com.linbit.linstor.api.ApiCallRcImpl;
 import com.linbit.linstor.api.ApiConsts;
+import com.linbit.linstor.api.rest.v1.serializer.Json;
 import com.linbit.linstor.api.rest.v1.serializer.JsonGenTypes;
 import com.linbit.linstor.api.rest.v1.serializer.JsonGenTypes.Snapshot;
 import com.linbit.linstor.api.rest.v1.utils.ApiCallRcRestUtils;
+import com.linbit.linstor.core.apicallhandler.controller.CtrlRscAutoPlaceApiCallHandler;
 import com.linbit.linstor.core.apicallhandler.controller.CtrlSnapshotCrtApiCallHandler;
 import com.linbit.linstor.core.apicallhandler.controller.req.CreateMultiSnapRequest;
 import com.linbit.linstor.core.apicallhandler.controller.req.CreateMultiSnapRequest.SnapReq;
@@ -44,17 +47,20 @@ public class Actions
 {
     private final RequestHelper requestHelper;
     private final CtrlSnapshotCrtApiCallHandler snapCrtHandler;
+    private final CtrlRscAutoPlaceApiCallHandler autoPlaceHandler;
 
     private final ObjectMapper objectMapper;
 
     @Inject
     public Actions(
         RequestHelper requestHelperRef,
-        CtrlSnapshotCrtApiCallHandler snapCrtHandlerRef
+        CtrlSnapshotCrtApiCallHandler snapCrtHandlerRef,
+        CtrlRscAutoPlaceApiCallHandler autoPlaceHandlerRef
     )
     {
         requestHelper = requestHelperRef;
         snapCrtHandler = snapCrtHandlerRef;
+        autoPlaceHandler = autoPlaceHandlerRef;
 
         objectMapper = new ObjectMapper();
     }
@@ -92,4 +98,62 @@ public class Actions
             ApiCallRcRestUtils.handleJsonParseException(ioExc, asyncResponse);
         }
     }
+
+    @POST
+    @Produces(MediaType.APPLICATION_JSON)
+    @Path("autoplace/multi")
+    public void autoPlaceMulti(
+        @Context Request request,
+        @Suspended final AsyncResponse asyncResponse,
+        String jsonData
+    )
+    {
+        try (var ignore = MDC.putCloseable(ErrorReporter.LOGID, ErrorReporter.getNewLogId()))
+        {
+            JsonGenTypes.AutoPlaceMultiRequest req = objectMapper
+                .readValue(jsonData, JsonGenTypes.AutoPlaceMultiRequest.class);
+
+            int maxBatchSize = autoPlaceHandler.getMaxBatchSize();
+            if (req.resource_names.size() > maxBatchSize)
+            {
+                requestHelper.doFlux(
+                    ApiConsts.API_AUTO_PLACE_RSC,
+                    request,
+                    asyncResponse,
+                    ApiCallRcRestUtils.mapToMonoResponse(
+                        Flux.just(
+                            ApiCallRcImpl.singleApiCallRc(
+                                ApiConsts.FAIL_INVLD_REQUEST,
+                                "At most " + maxBatchSize +
+                                    " resource definitions can be auto-placed at once, " +
+                                    req.resource_names.size() + " given"
+                            )
+                        ),
+                        Response.Status.BAD_REQUEST
+                    )
+                );
+            }
+            else
+            {
+                req.select_filter.diskless_on_remaining = req.diskless_on_remaining;
+                req.select_filter.layer_stack = req.layer_list;
+
+                Flux<ApiCallRc> flux = autoPlaceHandler.autoPlaceBatch(
+                    req.resource_names,
+                    new Json.AutoSelectFilterData(req.select_filter)
+                );
+
+                requestHelper.doFlux(
+                    ApiConsts.API_AUTO_PLACE_RSC,
+                    request,
+                    asyncResponse,
+                    ApiCallRcRestUtils.mapToMonoResponse(flux, Response.Status.CREATED)
+                );
+            }
+        }
+        catch (IOException ioExc)
+        {
+            ApiCallRcRestUtils.handleJsonParseException(ioExc, asyncResponse);
+        }
+    }
 }
@@ -68,7 +68,7 @@ public class ErrorReports
         @QueryParam("to") Long to,
         @DefaultValue("false") @QueryParam("withContent") boolean withContent,
         @DefaultValue("1000") @QueryParam("limit") long limit,
-        @DefaultValue("0") @QueryParam("offset") long offset // is currently ignored, because it isn't working
+        @DefaultValue("0") @QueryParam("offset") long offset
     )
     {
         listErrorReports(
@@ -95,7 +95,7 @@ public class ErrorReports
         @QueryParam("to") Long to,
         @DefaultValue("true") @QueryParam("withContent") boolean withContent,
         @DefaultValue("1000") @QueryParam("limit") long limit,
-        @DefaultValue("0") @QueryParam("offset") long offset // is currently ignored, because it isn't working
+        @DefaultValue("0") @QueryParam("offset") long offset
     )
     {
         Date optSince = since != null ? new Date(since) : null;
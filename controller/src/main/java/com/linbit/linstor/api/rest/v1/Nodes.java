@@ -129,12 +129,9 @@ public class Nodes
     {
         return requestHelper.doInScope(ApiConsts.API_LST_NODE, request, () ->
         {
-            Stream<NodeApi> nodeApiStream = ctrlApiCallHandler.listNodes(nodeNames, propFilters).stream();
-            if (limit > 0)
-            {
-                nodeApiStream = nodeApiStream.skip(offset).limit(limit);
-            }
-            List<Node> nodeDataList = nodeApiStream
+            List<Node> nodeDataList = ctrlApiCallHandler
+                .listNodes(nodeNames, propFilters, limit > 0 ? offset : 0, limit)
+                .stream()
                 .map(Json::apiToNode)
                 .collect(Collectors.toList());
 
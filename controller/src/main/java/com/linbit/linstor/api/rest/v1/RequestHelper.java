@@ -12,6 +12,7 @@ import com.linbit.linstor.api.ApiCallRcImpl;
 import com.linbit.linstor.api.ApiConsts;
 import com.linbit.linstor.api.ApiModule;
 import com.linbit.linstor.api.LinStorScope;
+import com.linbit.linstor.api.rest.v1.serializer.Json;
 import com.linbit.linstor.api.rest.v1.utils.ApiCallRcRestUtils;
 import com.linbit.linstor.core.apicallhandler.response.ApiRcException;
 import com.linbit.linstor.core.apicallhandler.response.CtrlResponseUtils;
@@ -31,20 +32,28 @@ import com.linbit.linstor.transaction.manager.TransactionMgr;
 import com.linbit.linstor.transaction.manager.TransactionMgrGenerator;
 import com.linbit.linstor.transaction.manager.TransactionMgrUtil;
 
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.function.Function;
 
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.google.inject.Key;
 import io.prometheus.client.Histogram;
 import org.glassfish.grizzly.http.server.Request;
@@ -371,6 +380,93 @@ public class RequestHelper
         }
     }
 
+    /**
+     * Writes the given elements as JSON array while the response is sent. Every element is only converted right
+     * before it is written, so neither all converted objects nor the whole JSON document are kept in memory.
+     * <br />
+     * The first element is converted before the response is committed, so if it fails, the client still gets a
+     * proper error response. Every other element is serialized into a buffer before it is written, so a failing
+     * element never leaves half of its JSON in the response. Instead, the error is reported and the array ends
+     * with an error entry, so the client still receives a well-formed JSON document.
+     */
+    <T> Response streamedListResponse(
+        ObjectMapper objectMapper,
+        Collection<T> elements,
+        Function<T, ?> toJson
+    )
+    {
+        ObjectWriter writer = objectMapper.writer();
+        Iterator<T> elementIt = elements.iterator();
+        Response response;
+        try
+        {
+            final @Nullable byte[] firstElement = elementIt.hasNext() ?
+                writer.writeValueAsBytes(toJson.apply(elementIt.next())) :
+                null;
+            response = Response
+                .status(Response.Status.OK)
+                .entity(
+                    (StreamingOutput) output -> writeJsonArray(output, writer, firstElement, elementIt, toJson)
+                )
+                .type(MediaType.APPLICATION_JSON)
+                .build();
+        }
+        catch (JsonProcessingException exc)
+        {
+            response = Response
+                .status(Response.Status.INTERNAL_SERVER_ERROR)
+                .entity(ApiCallRcRestUtils.toJSON(serializationFailed(exc)))
+                .type(MediaType.APPLICATION_JSON)
+                .build();
+        }
+        return response;
+    }
+
+    private <T> void writeJsonArray(
+        OutputStream output,
+        ObjectWriter writer,
+        @Nullable byte[] firstElement,
+        Iterator<T> elementIt,
+        Function<T, ?> toJson
+    )
+        throws IOException
+    {
+        output.write('[');
+        if (firstElement != null)
+        {
+            output.write(firstElement);
+            boolean failed = false;
+            while (!failed && elementIt.hasNext())
+            {
+                byte[] element;
+                try
+                {
+                    element = writer.writeValueAsBytes(toJson.apply(elementIt.next()));
+                }
+                catch (JsonProcessingException | RuntimeException exc)
+                {
+                    // the status was already sent, the best we can do is to end the list with the error
+                    failed = true;
+                    element = writer.writeValueAsBytes(Json.apiCallRcToJson(serializationFailed(exc)).get(0));
+                }
+                output.write(',');
+                output.write(element);
+            }
+        }
+        output.write(']');
+    }
+
+    private ApiCallRcImpl serializationFailed(Exception exc)
+    {
+        String errorReport = errorReporter.reportError(exc);
+        return new ApiCallRcImpl(
+            ApiCallRcImpl.entryBuilder(ApiConsts.FAIL_UNKNOWN_ERROR, "Failed to serialize the response.")
+                .setDetails(exc.getMessage())
+                .addErrorId(errorReport)
+                .build()
+        );
+    }
+
     static Response notFoundResponse(final long retcode, final String message)
     {
         ApiCallRcImpl apiCallRc = new ApiCallRcImpl();
@@ -44,7 +44,6 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.glassfish.grizzly.http.server.Request;
@@ -118,14 +117,10 @@ public class Resources
             {
                 nodes.add(nodeName);
             }
-            ResourceList resourceList = ctrlApiCallHandler.listResource(rscName, nodes);
-            Stream<ResourceApi> rscApiStream = resourceList.getResources().stream();
-            if (limit > 0)
-            {
-                rscApiStream = rscApiStream.skip(offset).limit(limit);
-            }
+            ResourceList resourceList = ctrlApiCallHandler.listResource(
+                rscName, nodes, limit > 0 ? offset : 0, limit);
 
-            final List<JsonGenTypes.Resource> rscs = rscApiStream
+            final List<JsonGenTypes.Resource> rscs = resourceList.getResources().stream()
                 .map(rscApi -> Json.apiToResource(rscApi, resourceList.getSatelliteStates()))
                 .collect(Collectors.toList());
 
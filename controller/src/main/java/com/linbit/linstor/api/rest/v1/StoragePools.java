@@ -45,7 +45,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -156,13 +155,20 @@ public class StoragePools
             if (nodeCheck == null)
             {
                 Flux<List<StorPoolApi>> flux = ctrlStorPoolListApiCallHandler
-                    .listStorPools(nodeNames, storPoolNames, Collections.emptyList(), fromCache);
+                    .listStorPools(
+                        nodeNames,
+                        storPoolNames,
+                        Collections.emptyList(),
+                        fromCache,
+                        limit > 0 ? offset : 0,
+                        limit
+                    );
 
                 requestHelper.doFlux(
                     ApiConsts.API_LST_STOR_POOL,
                     request,
                     asyncResponse,
-                    storPoolListToResponse(flux, nodeName, storPoolName, limit, offset)
+                    storPoolListToResponse(flux, nodeName, storPoolName)
                 );
             }
             else
@@ -176,20 +182,14 @@ public class StoragePools
     private Mono<Response> storPoolListToResponse(
         Flux<List<StorPoolApi>> storPoolListFlux,
         String nodeName,
-        String storPoolName,
-        int limit,
-        int offset
+        String storPoolName
     )
     {
         return storPoolListFlux.flatMap(storPoolApis ->
         {
             Response resp;
-            Stream<StorPoolApi> storPoolApiStream = storPoolApis.stream();
-            if (limit > 0)
-            {
-                storPoolApiStream = storPoolApiStream.skip(offset).limit(limit);
-            }
-            List<JsonGenTypes.StoragePool> storPoolDataList = storPoolApiStream
+            // limit and offset were already applied while assembling the storage pool list
+            List<JsonGenTypes.StoragePool> storPoolDataList = storPoolApis.stream()
                 .map(Json::storPoolApiToStoragePool)
                 .collect(Collectors.toList());
 
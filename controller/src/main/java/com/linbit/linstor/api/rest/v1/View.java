@@ -13,7 +13,6 @@ import com.linbit.linstor.core.apicallhandler.controller.CtrlStorPoolListApiCall
 import com.linbit.linstor.core.apicallhandler.controller.CtrlVlmListApiCallHandler;
 import com.linbit.linstor.core.apicallhandler.controller.helpers.ResourceList;
 import com.linbit.linstor.core.apicallhandler.controller.internal.CtrlBackupQueueInternalCallHandler;
-import com.linbit.linstor.core.apis.ResourceApi;
 import com.linbit.linstor.core.apis.SnapshotDefinitionListItemApi;
 import com.linbit.linstor.core.apis.SnapshotShippingListItemApi;
 import com.linbit.linstor.core.apis.StorPoolApi;
@@ -38,7 +37,6 @@ import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.glassfish.grizzly.http.server.Request;
 import org.slf4j.MDC;
@@ -87,7 +85,8 @@ public class View
         @QueryParam("storage_pools") List<String> storagePools,
         @QueryParam("props") List<String> propFilters,
         @DefaultValue("0") @QueryParam("limit") int limit,
-        @DefaultValue("0") @QueryParam("offset") int offset
+        @DefaultValue("0") @QueryParam("offset") int offset,
+        @DefaultValue("false") @QueryParam("fresh") boolean fresh
     )
     {
         List<String> nodesFilter = nodes != null ? nodes : Collections.emptyList();
@@ -98,53 +97,27 @@ public class View
         {
             MDC.put(ErrorReporter.LOGID, ErrorReporter.getNewLogId());
             Flux<ResourceList> flux = ctrlVlmListApiCallHandler.listVlms(
-                nodesFilter, storagePoolsFilter, resourcesFilter, propFilters);
+                nodesFilter, storagePoolsFilter, resourcesFilter, propFilters, fresh, limit > 0 ? offset : 0, limit);
 
             requestHelper.doFlux(
                 ApiConsts.API_LST_VLM,
                 request,
                 asyncResponse,
-                listVolumesApiCallRcWithToResponse(flux, limit, offset)
+                listVolumesApiCallRcWithToResponse(flux)
             );
         });
     }
 
-    private Mono<Response> listVolumesApiCallRcWithToResponse(
-        Flux<ResourceList> resourceListFlux,
-        int limit,
-        int offset
-    )
+    private Mono<Response> listVolumesApiCallRcWithToResponse(Flux<ResourceList> resourceListFlux)
     {
-        return resourceListFlux.flatMap(resourceList ->
-        {
-            Response resp;
-
-            Stream<ResourceApi> rscApiStream = resourceList.getResources().stream();
-
-            if (limit > 0)
-            {
-                rscApiStream = rscApiStream.skip(offset).limit(limit);
-            }
-
-            final List<JsonGenTypes.Resource> rscs = rscApiStream
-                .map(rscApi -> Json.apiToResourceWithVolumes(rscApi, resourceList.getSatelliteStates(), true))
-                .collect(Collectors.toList());
-
-            try
-            {
-                resp = Response
-                    .status(Response.Status.OK)
-                    .entity(objectMapper.writeValueAsString(rscs))
-                    .build();
-            }
-            catch (JsonProcessingException exc)
-            {
-                exc.printStackTrace();
-                resp = Response.status(Response.Status.INTERNAL_SERVER_ERROR).build();
-            }
-
-            return Mono.just(resp);
-        }).next();
+        // limit and offset were already applied while assembling the resource list
+        return resourceListFlux.map(
+            resourceList -> requestHelper.streamedListResponse(
+                objectMapper,
+                resourceList.getResources(),
+                rscApi -> Json.apiToResourceWithVolumes(rscApi, resourceList.getSatelliteStates(), true)
+            )
+        ).next();
     }
 
     @GET
@@ -166,52 +139,28 @@ public class View
         RequestHelper.safeAsyncResponse(asyncResponse, () ->
         {
             MDC.put(ErrorReporter.LOGID, ErrorReporter.getNewLogId());
-            Flux<List<StorPoolApi>> flux = ctrlStorPoolListApiCallHandler
-                .listStorPools(nodesFilter, storagePoolsFilter, propFilters, fromCache);
+            Flux<List<StorPoolApi>> flux = ctrlStorPoolListApiCallHandler.listStorPools(
+                nodesFilter, storagePoolsFilter, propFilters, fromCache, limit > 0 ? offset : 0, limit);
 
             requestHelper.doFlux(
                 ApiConsts.API_LST_STOR_POOL,
                 request,
                 asyncResponse,
-                storPoolListToResponse(flux, limit, offset)
+                storPoolListToResponse(flux)
             );
         });
     }
 
-    private Mono<Response> storPoolListToResponse(
-        Flux<List<StorPoolApi>> storPoolListFlux,
-        int limit,
-        int offset
-    )
+    private Mono<Response> storPoolListToResponse(Flux<List<StorPoolApi>> storPoolListFlux)
     {
-        return storPoolListFlux.flatMap(storPoolList ->
-        {
-            Response resp;
-            Stream<StorPoolApi> storPoolApiStream = storPoolList.stream();
-            if (limit > 0)
-            {
-                storPoolApiStream = storPoolApiStream.skip(offset).limit(limit);
-            }
-            List<JsonGenTypes.StoragePool> storPoolDataList = storPoolApiStream
-                .map(Json::storPoolApiToStoragePool)
-                .collect(Collectors.toList());
-
-            try
-            {
-                resp = Response
-                    .status(Response.Status.OK)
-                    .entity(objectMapper.writeValueAsString(storPoolDataList))
-                    .type(MediaType.APPLICATION_JSON)
-                    .build();
-            }
-            catch (JsonProcessingException exc)
-            {
-                exc.printStackTrace();
-                resp = Response.status(Response.Status.INTERNAL_SERVER_ERROR).build();
-            }
-
-            return Mono.just(resp);
-        }).next();
+        // limit and offset were already applied while assembling the storage pool list
+        return storPoolListFlux.map(
+            storPoolList -> requestHelper.streamedListResponse(
+                objectMapper,
+                storPoolList,
+                Json::storPoolApiToStoragePool
+            )
+        ).next();
     }
 
     @GET
@@ -231,25 +180,10 @@ public class View
                 resources.parallelStream().map(String::toLowerCase).collect(Collectors.toList()) :
                 Collections.emptyList();
 
-            Response response;
-
-            Stream<SnapshotDefinitionListItemApi> snapsStream =
-                ctrlApiCallHandler.listSnapshotDefinition(nodesFilter, resourcesFilter).stream();
+            List<SnapshotDefinitionListItemApi> snapshots = ctrlApiCallHandler.listSnapshotDefinition(
+                nodesFilter, resourcesFilter, limit > 0 ? offset : 0, limit);
 
-            if (limit > 0)
-            {
-                snapsStream = snapsStream.skip(offset).limit(limit);
-            }
-
-            List<JsonGenTypes.Snapshot> snapshot = snapsStream
-                .map(Json::apiToSnapshot)
-                .collect(Collectors.toList());
-
-            response = RequestHelper.queryRequestResponse(
-                objectMapper, ApiConsts.FAIL_NOT_FOUND_SNAPSHOT, "Snapshot", null, snapshot
-            );
-
-            return response;
+            return requestHelper.streamedListResponse(objectMapper, snapshots, Json::apiToSnapshot);
         }, false);
     }
 
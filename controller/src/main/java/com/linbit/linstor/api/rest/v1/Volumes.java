@@ -12,7 +12,6 @@ import com.linbit.linstor.core.apicallhandler.controller.CtrlApiCallHandler;
 import com.linbit.linstor.core.apicallhandler.controller.CtrlPropsInfoApiCallHandler;
 import com.linbit.linstor.core.apicallhandler.controller.CtrlVlmListApiCallHandler;
 import com.linbit.linstor.core.apicallhandler.controller.helpers.ResourceList;
-import com.linbit.linstor.core.apis.VolumeApi;
 import com.linbit.linstor.core.identifier.NodeName;
 import com.linbit.linstor.core.identifier.ResourceName;
 import com.linbit.linstor.core.identifier.VolumeNumber;
@@ -35,11 +34,9 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
 import java.io.IOException;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -81,10 +78,11 @@ public class Volumes
         @PathParam("rscName") String rscName,
         @PathParam("nodeName") String nodeName,
         @DefaultValue("0") @QueryParam("limit") int limit,
-        @DefaultValue("0") @QueryParam("offset") int offset
+        @DefaultValue("0") @QueryParam("offset") int offset,
+        @DefaultValue("false") @QueryParam("fresh") boolean fresh
     )
     {
-        listVolumes(request, asyncResponse, rscName, nodeName, null, limit, offset);
+        listVolumes(request, asyncResponse, rscName, nodeName, null, limit, offset, fresh);
     }
 
     @GET
@@ -96,23 +94,21 @@ public class Volumes
         @PathParam("nodeName") String nodeName,
         @PathParam("vlmNr") Integer vlmNr,
         @DefaultValue("0") @QueryParam("limit") int limit,
-        @DefaultValue("0") @QueryParam("offset") int offset
+        @DefaultValue("0") @QueryParam("offset") int offset,
+        @DefaultValue("false") @QueryParam("fresh") boolean fresh
     )
     {
-        List<String> nodes = Collections.singletonList(nodeName);
-        List<String> rscNames = Collections.singletonList(rscName);
-
         RequestHelper.safeAsyncResponse(asyncResponse, () ->
         {
             MDC.put(ErrorReporter.LOGID, ErrorReporter.getNewLogId());
-            Flux<ResourceList> flux = ctrlVlmListApiCallHandler.listVlms(
-                    nodes, Collections.emptyList(), rscNames, Collections.emptyList());
+            Flux<ResourceList> flux = ctrlVlmListApiCallHandler.listVlmsOfResource(
+                nodeName, rscName, vlmNr, fresh, limit > 0 ? offset : 0, limit);
 
             requestHelper.doFlux(
                 ApiConsts.API_LST_VLM,
                 request,
                 asyncResponse,
-                listVolumesApiCallRcWithToResponse(flux, rscName, nodeName, vlmNr, limit, offset)
+                listVolumesApiCallRcWithToResponse(flux, rscName, nodeName, vlmNr)
             );
         });
     }
@@ -154,9 +150,7 @@ public class Volumes
         Flux<ResourceList> resourceListFlux,
         final String rscName,
         final String nodeName,
-        final Integer vlmNr,
-        int limit,
-        int offset
+        final Integer vlmNr
     )
     {
         return resourceListFlux.flatMap(resourceList ->
@@ -171,22 +165,14 @@ public class Volumes
             }
             else
             {
-                Stream<? extends VolumeApi> vlmApiStream = resourceList.getResources()
-                    .get(0).getVlmList().stream().filter(
-                        vlmApi -> vlmNr == null || vlmApi.getVlmNr() == vlmNr
-                    );
-
-                if (limit > 0)
-                {
-                    vlmApiStream = vlmApiStream.skip(offset).limit(limit);
-                }
-
-                final List<JsonGenTypes.Volume> vlms = vlmApiStream.map(vlmApi ->
-                {
-                    JsonGenTypes.Volume vlmData = Json.apiToVolume(vlmApi);
-                    vlmData.state = getVolumeState(resourceList, nodeName, rscName, vlmApi.getVlmNr());
-                    return vlmData;
-                })
+                // the volume number filter, limit and offset were already applied while assembling the list
+                final List<JsonGenTypes.Volume> vlms = resourceList.getResources().get(0).getVlmList().stream()
+                    .map(vlmApi ->
+                    {
+                        JsonGenTypes.Volume vlmData = Json.apiToVolume(vlmApi);
+                        vlmData.state = getVolumeState(resourceList, nodeName, rscName, vlmApi.getVlmNr());
+                        return vlmData;
+                    })
                     .collect(Collectors.toList());
 
                 if (vlmNr != null && vlms.isEmpty())
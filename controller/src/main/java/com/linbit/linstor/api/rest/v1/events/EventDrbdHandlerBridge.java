@@ -5,6 +5,7 @@ import com.linbit.linstor.api.rest.v1.serializer.JsonGenTypes;
 import com.linbit.linstor.core.apicallhandler.controller.CtrlApiCallHandler;
 import com.linbit.linstor.core.apicallhandler.controller.helpers.ResourceList;
 import com.linbit.linstor.core.apis.ResourceApi;
+import com.linbit.linstor.core.cfg.CtrlConfig;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.storage.kinds.DeviceLayerKind;
 
@@ -18,34 +19,43 @@ import org.glassfish.jersey.media.sse.EventOutput;
 @Singleton
 public class EventDrbdHandlerBridge extends EventHandlerBridge
 {
+    private static final String MAY_PROMOTE_CHANGE = "may-promote-change";
+
     private final CtrlApiCallHandler ctrlApiCallHandler;
 
     @Inject
     public EventDrbdHandlerBridge(
         ErrorReporter errorReporterRef,
+        CtrlConfig ctrlCfgRef,
         CtrlApiCallHandler ctrlApiCallHandlerRef
     )
     {
-        super(errorReporterRef);
+        super(errorReporterRef, ctrlCfgRef, "drbd-promotion");
         ctrlApiCallHandler = ctrlApiCallHandlerRef;
     }
 
     public void registerResourceClient(EventOutput eventOut, boolean sendInitialState)
     {
-        registerResourceClient(eventOut);
+        Subscriber subscriber = registerSubscriber(eventOut);
 
         if (sendInitialState)
         {
             ResourceList resourceList = ctrlApiCallHandler.listResource(
                 Collections.emptyList(), Collections.emptyList());
 
+            // the initial state is only of interest for the new subscriber
             resourceList.getResources().forEach(
                 rsc ->
                 {
                     if (rsc.getLayerData().getLayerKind() == DeviceLayerKind.DRBD)
                     {
                         DrbdRscPojo drbdRscPojo = (DrbdRscPojo) rsc.getLayerData();
-                        triggerMayPromote(rsc, drbdRscPojo.mayPromote());
+                        sendEvent(
+                            subscriber,
+                            MAY_PROMOTE_CHANGE,
+                            coalesceKey(rsc),
+                            buildMayPromoteChange(rsc, drbdRscPojo.mayPromote())
+                        );
                     }
                 }
             );
@@ -53,11 +63,24 @@ public class EventDrbdHandlerBridge extends EventHandlerBridge
     }
 
     public void triggerMayPromote(final ResourceApi rsc, final Boolean mayPromote)
+    {
+        sendEvent(MAY_PROMOTE_CHANGE, coalesceKey(rsc), buildMayPromoteChange(rsc, mayPromote));
+    }
+
+    private static JsonGenTypes.EventMayPromoteChange buildMayPromoteChange(ResourceApi rsc, Boolean mayPromote)
     {
         JsonGenTypes.EventMayPromoteChange eventMayPromoteChange = new JsonGenTypes.EventMayPromoteChange();
         eventMayPromoteChange.node_name = rsc.getNodeName();
         eventMayPromoteChange.resource_name = rsc.getName();
         eventMayPromoteChange.may_promote = mayPromote;
-        sendEvent("may-promote-change", eventMayPromoteChange);
+        return eventMayPromoteChange;
+    }
+
+    /**
+     * Only the latest may-promote state of a resource matters
+     */
+    private static String coalesceKey(ResourceApi rsc)
+    {
+        return rsc.getNodeName() + "/" + rsc.getName();
     }
 }
@@ -1,78 +1,313 @@
 package com.linbit.linstor.api.rest.v1.events;
 
+import com.linbit.linstor.core.cfg.CtrlConfig;
 import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.prometheus.LinstorControllerMetrics;
 
+import javax.annotation.Nullable;
 import javax.ws.rs.core.MediaType;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.glassfish.jersey.media.sse.EventOutput;
 import org.glassfish.jersey.media.sse.OutboundEvent;
 
+/**
+ * Fan-out of one server-sent event stream to all of its subscribers.
+ * <br />
+ * Every event is serialized once and queued in a bounded buffer per subscriber. The buffers are written by a shared
+ * pool of writer threads, so neither the thread publishing the event nor the other subscribers wait for a slow
+ * subscriber. What happens if the buffer of a subscriber is full is configured by
+ * {@link CtrlConfig#getEventsSlowSubscriberPolicy()}.
+ */
 public abstract class EventHandlerBridge
 {
+    public enum SlowSubscriberPolicy
+    {
+        /**
+         * Drop the oldest buffered event
+         */
+        DROP,
+        /**
+         * Replace a buffered event with the same coalesce key, otherwise drop the oldest buffered event
+         */
+        COALESCE,
+        /**
+         * Close the connection of the subscriber
+         */
+        DISCONNECT
+    }
+
+    /**
+     * Writes the buffered events of all subscribers, at most one thread per subscriber at a time
+     */
+    private static final ExecutorService WRITER_POOL;
+
+    static
+    {
+        final AtomicInteger threadNr = new AtomicInteger();
+        WRITER_POOL = Executors.newCachedThreadPool(
+            runnable ->
+            {
+                Thread thread = new Thread(runnable, "EventWriter-" + threadNr.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+    }
+
     protected final ErrorReporter errorReporter;
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private final ArrayList<EventOutput> rscClients = new ArrayList<>();
+    private final String streamName;
+    private final int bufferSize;
+    private final SlowSubscriberPolicy slowSubscriberPolicy;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
 
-    protected EventHandlerBridge(ErrorReporter errorReporterRef)
+    protected EventHandlerBridge(ErrorReporter errorReporterRef, CtrlConfig ctrlCfgRef, String streamNameRef)
     {
         errorReporter = errorReporterRef;
+        streamName = streamNameRef;
+        bufferSize = Math.max(1, ctrlCfgRef.getEventsSubscriberBufferSize());
+
+        SlowSubscriberPolicy policy;
+        try
+        {
+            policy = SlowSubscriberPolicy.valueOf(ctrlCfgRef.getEventsSlowSubscriberPolicy().toUpperCase());
+        }
+        catch (IllegalArgumentException exc)
+        {
+            errorReporter.logWarning(
+                "Unknown slow subscriber policy '%s' for events, using 'coalesce'",
+                ctrlCfgRef.getEventsSlowSubscriberPolicy()
+            );
+            policy = SlowSubscriberPolicy.COALESCE;
+        }
+        slowSubscriberPolicy = policy;
     }
 
     public void registerResourceClient(EventOutput eventOut)
     {
-        synchronized (rscClients)
+        registerSubscriber(eventOut);
+    }
+
+    protected Subscriber registerSubscriber(EventOutput eventOut)
+    {
+        Subscriber subscriber = new Subscriber(eventOut);
+        subscribers.add(subscriber);
+        LinstorControllerMetrics.eventSubscribersGauge.labels(streamName).inc();
+        return subscriber;
+    }
+
+    protected void sendEvent(String eventName, Object eventData)
+    {
+        sendEvent(eventName, null, eventData);
+    }
+
+    /**
+     * Sends the event to all subscribers
+     *
+     * @param coalesceKey Identifies the object the event is about. A slow subscriber might only get the last of
+     *     the events with the same key, depending on the configured policy. Null if the event must not be coalesced.
+     */
+    protected void sendEvent(String eventName, @Nullable String coalesceKey, Object eventData)
+    {
+        QueuedEvent event = buildEvent(eventName, coalesceKey, eventData);
+        if (event != null)
         {
-            rscClients.add(eventOut);
+            for (Subscriber subscriber : subscribers)
+            {
+                subscriber.offer(event);
+            }
         }
     }
 
-    protected void sendEvent(String eventName, Object eventData)
+    /**
+     * Sends the event to a single subscriber only, e.g. the initial state of a new subscriber
+     */
+    protected void sendEvent(Subscriber subscriber, String eventName, @Nullable String coalesceKey, Object eventData)
     {
-        ArrayList<EventOutput> closeEvents = new ArrayList<>();
+        QueuedEvent event = buildEvent(eventName, coalesceKey, eventData);
+        if (event != null)
+        {
+            subscriber.offer(event);
+        }
+    }
 
-        final OutboundEvent.Builder eventBuilder = new OutboundEvent.Builder();
-        eventBuilder.mediaType(MediaType.APPLICATION_JSON_TYPE);
-        eventBuilder.name(eventName);
+    private @Nullable QueuedEvent buildEvent(String eventName, @Nullable String coalesceKey, Object eventData)
+    {
+        @Nullable QueuedEvent event = null;
         try
         {
             final String eventJsonData = objectMapper.writeValueAsString(eventData);
+            event = new QueuedEvent(
+                new OutboundEvent.Builder()
+                    .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                    .name(eventName)
+                    .data(eventJsonData)
+                    .build(),
+                coalesceKey == null ? null : eventName + ":" + coalesceKey
+            );
+        }
+        catch (JsonProcessingException exc)
+        {
+            errorReporter.reportError(exc);
+        }
+        return event;
+    }
+
+    private static class QueuedEvent
+    {
+        final OutboundEvent outboundEvent;
+        final @Nullable String coalesceKey;
+        final long publishedAt;
 
-            final OutboundEvent event = eventBuilder.data(eventJsonData).build();
-            synchronized (rscClients)
+        QueuedEvent(OutboundEvent outboundEventRef, @Nullable String coalesceKeyRef)
+        {
+            outboundEvent = outboundEventRef;
+            coalesceKey = coalesceKeyRef;
+            publishedAt = System.nanoTime();
+        }
+    }
+
+    protected class Subscriber
+    {
+        private final EventOutput eventOutput;
+        private final ArrayDeque<QueuedEvent> buffer = new ArrayDeque<>();
+        // guarded by buffer
+        private boolean writing = false;
+        private volatile boolean closed = false;
+
+        Subscriber(EventOutput eventOutputRef)
+        {
+            eventOutput = eventOutputRef;
+        }
+
+        void offer(QueuedEvent event)
+        {
+            boolean disconnect = false;
+            boolean startWriting = false;
+            synchronized (buffer)
             {
-                for (EventOutput eventOutput : rscClients)
+                if (!closed)
                 {
-                    try
+                    if (buffer.size() >= bufferSize)
                     {
-                        eventOutput.write(event);
+                        switch (slowSubscriberPolicy)
+                        {
+                            case DISCONNECT:
+                                disconnect = true;
+                                break;
+                            case COALESCE:
+                                if (
+                                    event.coalesceKey != null &&
+                                    buffer.removeIf(queued -> Objects.equals(event.coalesceKey, queued.coalesceKey))
+                                )
+                                {
+                                    countDropped("coalesced");
+                                }
+                                else
+                                {
+                                    buffer.poll();
+                                    countDropped("dropped");
+                                }
+                                break;
+                            case DROP: // fall-through
+                            default:
+                                buffer.poll();
+                                countDropped("dropped");
+                                break;
+                        }
                     }
-                    catch (IOException exc)
+                    if (!disconnect)
                     {
-                        closeEvents.add(eventOutput);
+                        buffer.add(event);
+                        LinstorControllerMetrics.eventSubscriberLagHistogram.labels(streamName)
+                            .observe(buffer.size());
+                        startWriting = !writing;
+                        writing = true;
                     }
                 }
+            }
+            if (disconnect)
+            {
+                countDropped("disconnected");
+                close();
+            }
+            else
+            if (startWriting)
+            {
+                WRITER_POOL.execute(this::writeBuffered);
+            }
+        }
 
-                for (EventOutput eventOutput : closeEvents)
+        private void writeBuffered()
+        {
+            boolean more = true;
+            while (more)
+            {
+                @Nullable QueuedEvent event;
+                synchronized (buffer)
+                {
+                    event = closed ? null : buffer.poll();
+                    if (event == null)
+                    {
+                        writing = false;
+                        more = false;
+                    }
+                }
+                if (event != null)
                 {
                     try
                     {
-                        eventOutput.close();
+                        eventOutput.write(event.outboundEvent);
+                        LinstorControllerMetrics.eventDeliveryHistogram.labels(streamName)
+                            .observe((System.nanoTime() - event.publishedAt) / 1_000_000_000.0);
                     }
-                    catch (IOException ignored)
+                    catch (IOException exc)
                     {
+                        // client is gone
+                        close();
+                        more = false;
                     }
-                    rscClients.remove(eventOutput);
                 }
             }
         }
-        catch (JsonProcessingException exc)
+
+        private void countDropped(String reason)
         {
-            errorReporter.reportError(exc);
+            LinstorControllerMetrics.eventDroppedCounter.labels(streamName, reason).inc();
+        }
+
+        private void close()
+        {
+            boolean wasOpen;
+            synchronized (buffer)
+            {
+                wasOpen = !closed;
+                closed = true;
+                buffer.clear();
+            }
+            if (wasOpen)
+            {
+                subscribers.remove(this);
+                LinstorControllerMetrics.eventSubscribersGauge.labels(streamName).dec();
+                try
+                {
+                    eventOutput.close();
+                }
+                catch (IOException ignored)
+                {
+                }
+            }
         }
     }
 }
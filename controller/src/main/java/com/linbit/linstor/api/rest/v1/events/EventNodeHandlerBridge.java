@@ -3,6 +3,7 @@ package com.linbit.linstor.api.rest.v1.events;
 import com.linbit.linstor.api.rest.v1.serializer.Json;
 import com.linbit.linstor.api.rest.v1.serializer.JsonGenTypes;
 import com.linbit.linstor.core.apis.NodeApi;
+import com.linbit.linstor.core.cfg.CtrlConfig;
 import com.linbit.linstor.logging.ErrorReporter;
 
 import javax.inject.Inject;
@@ -13,17 +14,18 @@ public class EventNodeHandlerBridge extends EventHandlerBridge
 {
     @Inject
     public EventNodeHandlerBridge(
-        ErrorReporter errorReporterRef
+        ErrorReporter errorReporterRef,
+        CtrlConfig ctrlCfgRef
     )
     {
-        super(errorReporterRef);
+        super(errorReporterRef, ctrlCfgRef, "nodes");
     }
 
     private void sendNodeEvent(String eventName, NodeApi nodeApi)
     {
         JsonGenTypes.EventNode eventNode = new JsonGenTypes.EventNode();
         eventNode.node = Json.apiToNode(nodeApi);
-        sendEvent(eventName, eventNode);
+        sendEvent(eventName, nodeApi.getName(), eventNode);
     }
 
     public void triggerNodeCreate(NodeApi nodeApi)
@@ -56,6 +58,7 @@ public class EventNodeHandlerBridge extends EventHandlerBridge
         JsonGenTypes.EventNodeModified nodeModified = new JsonGenTypes.EventNodeModified();
         nodeModified.old_node = Json.apiToNode(oldNode);
         nodeModified.new_node = Json.apiToNode(newNode);
+        // not coalesced, every modification carries its own old and new state
         sendEvent("node-modified", nodeModified);
     }
 }
@@ -791,6 +791,15 @@ public class JsonGenTypes
         public List<String> layer_list = null;
     }
 
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public static class AutoPlaceMultiRequest
+    {
+        public List<String> resource_names = Collections.emptyList();
+        public boolean diskless_on_remaining = false;
+        public AutoSelectFilter select_filter = new AutoSelectFilter();
+        public List<String> layer_list = null;
+    }
+
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
     public static class AutoSelectFilter
     {
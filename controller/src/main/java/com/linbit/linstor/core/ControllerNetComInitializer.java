@@ -287,7 +287,7 @@ public final class ControllerNetComInitializer implements StartupInitializer
 
         if (type.equals(PROPSCON_NETCOM_TYPE_PLAIN))
         {
-            netComSvc = new TcpConnectorService(
+            TcpConnectorService plainSvc = new TcpConnectorService(
                 errorReporter,
                 commonSerializer,
                 msgProc,
@@ -296,6 +296,9 @@ public final class ControllerNetComInitializer implements StartupInitializer
                 initCtx,
                 ctrlConnTracker
             );
+            plainSvc.setSelectorThreadCount(ctrlCfg.getNetcomSelectorThreads());
+            plainSvc.setOutQueueMaxBytes(ctrlCfg.getNetcomOutQueueMaxMib() * (1L << 20));
+            netComSvc = plainSvc;
             try
             {
                 String dfltPlainConSvc = ctrlConf.getProp(PROPSCON_KEY_DEFAULT_PLAIN_CON_SVC);
@@ -417,7 +420,7 @@ public final class ControllerNetComInitializer implements StartupInitializer
 
                 if (!rejectStart)
                 {
-                    netComSvc = new SslTcpConnectorService(
+                    SslTcpConnectorService sslSvc = new SslTcpConnectorService(
                         errorReporter,
                         commonSerializer,
                         msgProc,
@@ -433,6 +436,9 @@ public final class ControllerNetComInitializer implements StartupInitializer
                         trustStoreFilePath.toString(),
                         trustStorPw.toCharArray()
                     );
+                    sslSvc.setSelectorThreadCount(ctrlCfg.getNetcomSelectorThreads());
+                    sslSvc.setOutQueueMaxBytes(ctrlCfg.getNetcomOutQueueMaxMib() * (1L << 20));
+                    netComSvc = sslSvc;
                     try
                     {
                         String dfltDebugSslSvcName = ctrlConf.getProp(PROPSCON_KEY_DEFAULT_DEBUG_SSL_CON_SVC);
@@ -11,9 +11,11 @@ import com.linbit.linstor.api.interfaces.serializer.CtrlStltSerializer;
 import com.linbit.linstor.api.protobuf.internal.IntAuthResponse;
 import com.linbit.linstor.core.apicallhandler.ScopeRunner;
 import com.linbit.linstor.core.apicallhandler.response.ApiAccessDeniedException;
+import com.linbit.linstor.core.cfg.CtrlConfig;
 import com.linbit.linstor.core.objects.Node;
 import com.linbit.linstor.core.repository.SystemConfRepository;
 import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.netcom.FrameCompression;
 import com.linbit.linstor.netcom.Peer;
 import com.linbit.linstor.netcom.PeerClosingConnectionException;
 import com.linbit.linstor.netcom.PeerNotConnectedException;
@@ -31,6 +33,8 @@ import javax.inject.Singleton;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 
 import reactor.core.publisher.Flux;
@@ -48,6 +52,7 @@ public class CtrlAuthenticator
     private final AccessContext apiCtx;
     private final IntAuthResponse intAuthResponse;
     private final PingTask pingTask;
+    private final CtrlConfig ctrlCfg;
 
     @Inject
     CtrlAuthenticator(
@@ -59,7 +64,8 @@ public class CtrlAuthenticator
         @PeerContext Provider<AccessContext> peerAccCtxRef,
         @SystemContext AccessContext apiCtxRef,
         IntAuthResponse intAuthResponseRef,
-        PingTask pingTaskRef
+        PingTask pingTaskRef,
+        CtrlConfig ctrlCfgRef
     )
     {
         errorReporter = errorReporterRef;
@@ -71,6 +77,7 @@ public class CtrlAuthenticator
         apiCtx = apiCtxRef;
         intAuthResponse = intAuthResponseRef;
         pingTask = pingTaskRef;
+        ctrlCfg = ctrlCfgRef;
     }
 
     public void sendAuthentication(Peer peer)
@@ -139,7 +146,9 @@ public class CtrlAuthenticator
                                             InternalApiConsts.KEY_CLUSTER_LOCAL_ID,
                                             ApiConsts.NAMESPC_CLUSTER
                                         )
-                                )
+                                ),
+                                getOfferedFrameCompressions(),
+                                ctrlCfg.getNetcomFrameCompressionThreshold()
                             )
                             .build(),
                         false,
@@ -170,6 +179,28 @@ public class CtrlAuthenticator
         return flux;
     }
 
+    private List<String> getOfferedFrameCompressions()
+    {
+        List<String> offered;
+        String configured = ctrlCfg.getNetcomFrameCompression();
+        if (FrameCompression.SUPPORTED.contains(configured))
+        {
+            offered = Collections.singletonList(configured);
+        }
+        else
+        {
+            if (!FrameCompression.NONE.equals(configured))
+            {
+                errorReporter.logWarning(
+                    "Unknown frame compression '%s' configured, sending uncompressed messages",
+                    configured
+                );
+            }
+            offered = Collections.emptyList();
+        }
+        return offered;
+    }
+
     private Flux<ApiCallRc> processAuthResponse(Node node, ByteArrayInputStream inputStream)
     {
         Flux<ApiCallRc> authResponseFlux;
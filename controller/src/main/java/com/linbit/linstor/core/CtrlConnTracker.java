@@ -7,6 +7,7 @@ import com.linbit.linstor.event.EventBroker;
 import com.linbit.linstor.event.EventProcessor;
 import com.linbit.linstor.netcom.ConnectionObserver;
 import com.linbit.linstor.netcom.Peer;
+import com.linbit.linstor.prometheus.CtrlMetricsCache;
 import com.linbit.linstor.tasks.ForceReleaseSharedLocksTask;
 import com.linbit.linstor.tasks.ReconnectorTask;
 import com.linbit.linstor.tasks.TaskScheduleService;
@@ -27,6 +28,7 @@ class CtrlConnTracker implements ConnectionObserver
     private final NodeInternalCallHandler nodeInternalCallHandler;
     private final SharedStorPoolManager sharedSpMgr;
     private final CtrlBackupCreateApiCallHandler backupCrtApiCallHandler;
+    private final CtrlMetricsCache metricsCache;
 
     @Inject
     CtrlConnTracker(
@@ -37,7 +39,8 @@ class CtrlConnTracker implements ConnectionObserver
         TaskScheduleService taskSchedulerRef,
         NodeInternalCallHandler nodeInternalCallHandlerRef,
         SharedStorPoolManager sharedSpMgrRef,
-        CtrlBackupCreateApiCallHandler backupCrtApiCallHandlerRef
+        CtrlBackupCreateApiCallHandler backupCrtApiCallHandlerRef,
+        CtrlMetricsCache metricsCacheRef
     )
     {
         peerMap = peerMapRef;
@@ -48,6 +51,7 @@ class CtrlConnTracker implements ConnectionObserver
         nodeInternalCallHandler = nodeInternalCallHandlerRef;
         sharedSpMgr = sharedSpMgrRef;
         backupCrtApiCallHandler = backupCrtApiCallHandlerRef;
+        metricsCache = metricsCacheRef;
     }
 
     @Override
@@ -129,6 +133,9 @@ class CtrlConnTracker implements ConnectionObserver
                     )
                 );
             }
+            // the node state changes and the satellite state of its resources is gone
+            metricsCache.invalidate(CtrlMetricsCache.Section.NODES);
+            metricsCache.invalidate(CtrlMetricsCache.Section.RESOURCES);
         }
     }
 }
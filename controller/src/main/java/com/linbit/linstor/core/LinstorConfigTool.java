@@ -484,7 +484,8 @@ public class LinstorConfigTool
                         cfg,
                         new ControllerETCDTransactionMgrGenerator(
                             this,
-                            cfg
+                            cfg,
+                            null
                         )
                     );
                     @Override
@@ -507,7 +508,7 @@ public class LinstorConfigTool
                     private final DbK8sCrd dbK8sCrd = new DbK8sCrd(
                         reporter,
                         cfg,
-                        new ControllerK8sCrdTransactionMgrGenerator(this, cfg),
+                        new ControllerK8sCrdTransactionMgrGenerator(this, cfg, null),
                         this
                     );
                     @Override
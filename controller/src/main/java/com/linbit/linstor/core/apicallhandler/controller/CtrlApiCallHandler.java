@@ -9,6 +9,7 @@ import com.linbit.linstor.api.ApiConsts;
 import com.linbit.linstor.api.interfaces.RscLayerDataApi;
 import com.linbit.linstor.api.pojo.DrbdRscPojo;
 import com.linbit.linstor.api.pojo.RscGrpPojo;
+import com.linbit.linstor.core.apicallhandler.controller.helpers.ListPage;
 import com.linbit.linstor.core.apicallhandler.controller.helpers.ResourceList;
 import com.linbit.linstor.core.apicallhandler.controller.utils.ResourceDefinitionUtils;
 import com.linbit.linstor.core.apicallhandler.response.ApiAccessDeniedException;
@@ -208,11 +209,20 @@ public class CtrlApiCallHandler
     }
 
     public ArrayList<NodeApi> listNodes(List<String> nodeNames, List<String> propFilters)
+    {
+        return listNodes(nodeNames, propFilters, 0, 0);
+    }
+
+    /**
+     * @param offset number of matching nodes to skip
+     * @param limit maximum number of nodes to return, 0 for all
+     */
+    public ArrayList<NodeApi> listNodes(List<String> nodeNames, List<String> propFilters, int offset, int limit)
     {
         ArrayList<NodeApi> nodeList;
         try (LockGuard lg = lockGuardFactory.build(READ, NODES_MAP))
         {
-            nodeList = nodeApiCallHandler.listNodes(nodeNames, propFilters);
+            nodeList = nodeApiCallHandler.listNodes(nodeNames, propFilters, new ListPage(offset, limit));
         }
         return nodeList;
     }
@@ -417,6 +427,15 @@ public class CtrlApiCallHandler
     }
 
     public ResourceList listResource(String rscNameStr, List<String> filterNodes)
+    {
+        return listResource(rscNameStr, filterNodes, 0, 0);
+    }
+
+    /**
+     * @param offset number of matching resources to skip
+     * @param limit maximum number of resources to return, 0 for all
+     */
+    public ResourceList listResource(String rscNameStr, List<String> filterNodes, int offset, int limit)
     {
         ResourceList resourceList;
         try (
@@ -425,7 +444,8 @@ public class CtrlApiCallHandler
         {
             resourceList = rscApiCallHandler.listResources(
                 rscNameStr,
-                filterNodes
+                filterNodes,
+                new ListPage(offset, limit)
             );
         }
         return resourceList;
@@ -1048,12 +1068,18 @@ public class CtrlApiCallHandler
 
     public ArrayList<SnapshotDefinitionListItemApi> listSnapshotDefinition(
         List<String> nodeNames, List<String> resourceNames)
+    {
+        return listSnapshotDefinition(nodeNames, resourceNames, 0, 0);
+    }
+
+    public ArrayList<SnapshotDefinitionListItemApi> listSnapshotDefinition(
+        List<String> nodeNames, List<String> resourceNames, int offset, int limit)
     {
         ArrayList<SnapshotDefinitionListItemApi> listSnapshotDefinitions;
         try (LockGuard lg = lockGuardFactory.build(READ, RSC_DFN_MAP))
         {
             listSnapshotDefinitions = snapshotApiCallHandler.listSnapshotDefinitions(
-                nodeNames, resourceNames);
+                nodeNames, resourceNames, new ListPage(offset, limit));
         }
         return listSnapshotDefinitions;
     }
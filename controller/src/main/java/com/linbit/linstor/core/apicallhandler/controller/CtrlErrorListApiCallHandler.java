@@ -171,6 +171,7 @@ public class CtrlErrorListApiCallHandler
         }
 
         // Returned satellite error deletion answers
+        Set<String> answeredNodes = new HashSet<>();
         for (Tuple2<NodeName, ByteArrayInputStream> deleteAnswer : deleteAnswers)
         {
             NodeName nodeName = deleteAnswer.getT1();
@@ -179,6 +180,12 @@ public class CtrlErrorListApiCallHandler
             ApiCallRc nodeApis = ProtoDeserializationUtils.parseApiCallAnswerMsg(dataIn, nodeName.displayValue + ": ");
             nodeApis.forEach(entry -> entry.getObjRefs().put(ApiConsts.KEY_NODE, nodeName.displayValue));
             apiCallRc.addEntries(nodeApis);
+            answeredNodes.add(nodeName.displayValue);
+        }
+        // only drop the replicated metadata of reports that were really deleted on their satellite
+        if (!answeredNodes.isEmpty())
+        {
+            errorReporter.deleteIngestedReports(answeredNodes, since, to, exception, version, ids);
         }
         if (apiCallRc.isEmpty())
         {
@@ -197,20 +204,70 @@ public class CtrlErrorListApiCallHandler
         @Nullable final Long offset
     )
     {
-        return scopeRunner
-            .fluxInTransactionlessScope(
-                "Collect error reports",
-                lockGuardFactory.buildDeferred(LockType.READ, LockObj.NODES_MAP),
-                () -> assembleRequests(nodes, withContent, since, to, ids, limit, offset)
-            )
-            .collectList()
-            .flatMapMany(errorReportAnswers ->
-                scopeRunner.fluxInTransactionlessScope(
-                    "Assemble error report list",
-                    lockGuardFactory.buildDeferred(LockType.READ), // no lock needed
-                    () -> Flux.just(assembleList(nodes, withContent, since, to, ids, limit, offset, errorReportAnswers))
+        Flux<ErrorReportResult> flux;
+        if (withContent)
+        {
+            // only the nodes themselves keep the text of their reports
+            flux = scopeRunner
+                .fluxInTransactionlessScope(
+                    "Collect error reports",
+                    lockGuardFactory.buildDeferred(LockType.READ, LockObj.NODES_MAP),
+                    () -> assembleRequests(nodes, withContent, since, to, ids, limit, offset)
                 )
+                .collectList()
+                .flatMapMany(errorReportAnswers ->
+                    scopeRunner.fluxInTransactionlessScope(
+                        "Assemble error report list",
+                        lockGuardFactory.buildDeferred(LockType.READ), // no lock needed
+                        () -> Flux.just(
+                            assembleList(nodes, withContent, since, to, ids, limit, offset, errorReportAnswers)
+                        )
+                    )
+                );
+        }
+        else
+        {
+            flux = scopeRunner.fluxInTransactionlessScope(
+                "List indexed error reports",
+                lockGuardFactory.buildDeferred(LockType.READ, LockObj.NODES_MAP),
+                () -> Flux.just(listIndexedReports(nodes, since, to, ids, limit, offset))
             );
+        }
+        return flux;
+    }
+
+    /**
+     * Lists the reports of the controller and the report metadata replicated from the satellites, without asking
+     * any satellite. Offset and limit apply to the combined list.
+     */
+    private ErrorReportResult listIndexedReports(
+        Set<String> nodesToRequest,
+        @Nullable final Date since,
+        @Nullable final Date to,
+        @Nonnull final Set<String> ids,
+        @Nullable final Long limit,
+        @Nullable final Long offset)
+        throws AccessDeniedException
+    {
+        Set<String> satelliteNodes = nodeRepository.getMapForView(peerAccCtx.get()).values().stream()
+            .map(node -> node.getName().displayValue)
+            .filter(nodeName ->
+                nodesToRequest.isEmpty() || nodesToRequest.stream().anyMatch(nodeName::equalsIgnoreCase))
+            .collect(Collectors.toSet());
+        boolean withController = nodesToRequest.isEmpty() ||
+            nodesToRequest.stream().anyMatch(LinStor.CONTROLLER_MODULE::equalsIgnoreCase);
+
+        ErrorReportResult errorReportResult = errorReporter.listIndexedReports(
+            withController,
+            satelliteNodes,
+            since,
+            to,
+            ids,
+            limit,
+            offset
+        );
+        errorReporter.logInfo("Listed indexed error reports; count %d", errorReportResult.getErrorReports().size());
+        return errorReportResult;
     }
 
     private Flux<Tuple2<NodeName, ByteArrayInputStream>> assembleRequests(
@@ -338,7 +395,7 @@ public class CtrlErrorListApiCallHandler
     }
 
     // TODO? hide deserialization in interface?
-    private static @Nonnull ErrorReportResult deserializeErrorReports(InputStream msgDataIn)
+    static @Nonnull ErrorReportResult deserializeErrorReports(InputStream msgDataIn)
         throws IOException
     {
         List<ErrorReport> errorReports = new ArrayList<>();
@@ -0,0 +1,140 @@
+package com.linbit.linstor.core.apicallhandler.controller;
+
+import com.linbit.linstor.api.ApiConsts;
+import com.linbit.linstor.api.interfaces.serializer.CtrlStltSerializer;
+import com.linbit.linstor.logging.ErrorReport;
+import com.linbit.linstor.logging.ErrorReportResult;
+import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.netcom.Peer;
+
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Keeps the controller's error report index up to date with the reports of the satellites, so that listing error
+ * reports does not have to ask every satellite.
+ * <br />
+ * Satellites push the metadata of their new reports as they are written. Reports created while a satellite was not
+ * connected are fetched once its full sync was applied. Pushed reports are ignored until that catch-up started,
+ * otherwise the catch-up would only fetch reports newer than the pushed ones.
+ */
+@Singleton
+public class CtrlErrorReportReplication
+{
+    private static final long PAGE_SIZE = 1000;
+
+    private final ErrorReporter errorReporter;
+    private final CtrlStltSerializer stltComSerializer;
+
+    /**
+     * Node name to the id of the peer whose catch-up started
+     */
+    private final Map<String, String> catchUpPeers = new ConcurrentHashMap<>();
+
+    @Inject
+    public CtrlErrorReportReplication(
+        ErrorReporter errorReporterRef,
+        CtrlStltSerializer stltComSerializerRef
+    )
+    {
+        errorReporter = errorReporterRef;
+        stltComSerializer = stltComSerializerRef;
+    }
+
+    /**
+     * Fetches the metadata of all reports of the satellite that are not older than the newest one already known
+     */
+    public Flux<?> catchUp(Peer satellitePeer)
+    {
+        String nodeName = satellitePeer.getNode().getName().displayValue;
+        @Nullable Date since = errorReporter.getLatestIngestedReportTime(nodeName);
+        catchUpPeers.put(nodeName, satellitePeer.getId());
+        return fetchPage(satellitePeer, nodeName, since, 0, null)
+            .onErrorResume(exc ->
+            {
+                errorReporter.logWarning(
+                    "Unable to replicate the error reports of node '%s': %s",
+                    nodeName,
+                    exc.getMessage()
+                );
+                return Flux.empty();
+            });
+    }
+
+    /**
+     * @param prevFirstReportId
+     *     The id of the first report of the previous page. Satellites not supporting paging ignore the offset and
+     *     answer with the first page again, which ends the paging.
+     */
+    private Flux<?> fetchPage(
+        Peer satellitePeer,
+        String nodeName,
+        @Nullable Date since,
+        long offset,
+        @Nullable String prevFirstReportId
+    )
+    {
+        byte[] msg = stltComSerializer.headerlessBuilder()
+            .requestErrorReports(new HashSet<>(), false, since, null, Collections.emptySet(), PAGE_SIZE, offset)
+            .build();
+        return satellitePeer.apiCall(ApiConsts.API_REQ_ERROR_REPORTS, msg)
+            .concatMap(answer ->
+            {
+                Flux<?> next;
+                try
+                {
+                    ErrorReportResult page = CtrlErrorListApiCallHandler.deserializeErrorReports(answer);
+                    List<ErrorReport> reports = page.getErrorReports();
+                    @Nullable String firstReportId = reports.isEmpty() ? null : reports.get(0).getFileName();
+                    if (firstReportId != null && firstReportId.equals(prevFirstReportId))
+                    {
+                        errorReporter.logWarning(
+                            "Node '%s' does not support paging error reports, only the first %d of its %d reports " +
+                                "were replicated",
+                            nodeName,
+                            PAGE_SIZE,
+                            page.getTotalCount()
+                        );
+                        next = Flux.empty();
+                    }
+                    else
+                    {
+                        errorReporter.ingestReports(nodeName, reports);
+                        next = offset + PAGE_SIZE < page.getTotalCount() && firstReportId != null ?
+                            fetchPage(satellitePeer, nodeName, since, offset + PAGE_SIZE, firstReportId) :
+                            Flux.empty();
+                    }
+                }
+                catch (IOException exc)
+                {
+                    next = Flux.error(exc);
+                }
+                return next;
+            });
+    }
+
+    /**
+     * Stores the report metadata pushed by the given satellite
+     */
+    public void ingest(Peer satellitePeer, InputStream msgDataIn) throws IOException
+    {
+        String nodeName = satellitePeer.getNode().getName().displayValue;
+        ErrorReportResult reports = CtrlErrorListApiCallHandler.deserializeErrorReports(msgDataIn);
+        if (satellitePeer.getId().equals(catchUpPeers.get(nodeName)))
+        {
+            errorReporter.ingestReports(nodeName, reports.getErrorReports());
+        }
+    }
+}
@@ -32,6 +32,7 @@ import com.linbit.linstor.core.apicallhandler.controller.CtrlPropsHelper.Propert
 import com.linbit.linstor.core.apicallhandler.controller.CtrlRscAutoHelper.AutoHelperContext;
 import com.linbit.linstor.core.apicallhandler.controller.autoplacer.Autoplacer;
 import com.linbit.linstor.core.apicallhandler.controller.backup.CtrlBackupCreateApiCallHandler;
+import com.linbit.linstor.core.apicallhandler.controller.helpers.ListPage;
 import com.linbit.linstor.core.apicallhandler.controller.helpers.PropsChangedListenerBuilder;
 import com.linbit.linstor.core.apicallhandler.controller.helpers.StorPoolHelper;
 import com.linbit.linstor.core.apicallhandler.controller.internal.CtrlBackupQueueInternalCallHandler;
@@ -688,7 +689,10 @@ public class CtrlNodeApiCallHandler
         return Flux.<ApiCallRc>just(responses).concatWith(waitForConnectFlux);
     }
 
-    ArrayList<NodeApi> listNodes(List<String> nodeNames, List<String> propFilters)
+    /**
+     * Only the API data of the nodes within the given page are built.
+     */
+    ArrayList<NodeApi> listNodes(List<String> nodeNames, List<String> propFilters, ListPage page)
     {
         ArrayList<NodeApi> nodes = new ArrayList<>();
         final Set<NodeName> nodesFilter =
@@ -697,6 +701,7 @@ public class CtrlNodeApiCallHandler
         try
         {
             nodeRepository.getMapForView(peerAccCtx.get()).values().stream()
+                .filter(node -> !page.isComplete())
                 .filter(node ->
                     (
                         nodesFilter.isEmpty() ||
@@ -708,7 +713,7 @@ public class CtrlNodeApiCallHandler
                         try
                         {
                             final ReadOnlyProps props = node.getProps(peerAccCtx.get());
-                            if (props.contains(propFilters))
+                            if (props.contains(propFilters) && page.nextMatchInPage())
                             {
                                 nodes.add(node.getApiData(peerAccCtx.get(), null, null));
                             }
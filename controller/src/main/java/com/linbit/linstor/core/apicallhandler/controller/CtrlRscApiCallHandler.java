@@ -12,6 +12,7 @@ import com.linbit.linstor.api.prop.LinStorObject;
 import com.linbit.linstor.core.StltConfigAccessor;
 import com.linbit.linstor.core.apicallhandler.ScopeRunner;
 import com.linbit.linstor.core.apicallhandler.controller.CtrlPropsHelper.PropertyChangedListener;
+import com.linbit.linstor.core.apicallhandler.controller.helpers.ListPage;
 import com.linbit.linstor.core.apicallhandler.controller.helpers.PropsChangedListenerBuilder;
 import com.linbit.linstor.core.apicallhandler.controller.helpers.ResourceList;
 import com.linbit.linstor.core.apicallhandler.controller.internal.CtrlSatelliteUpdateCaller;
@@ -245,19 +246,40 @@ public class CtrlRscApiCallHandler
         String rscNameStr,
         List<String> filterNodes
     )
+    {
+        return listResources(rscNameStr, filterNodes, ListPage.all());
+    }
+
+    /**
+     * Only the API data of the resources within the given page are built.
+     */
+    ResourceList listResources(
+        String rscNameStr,
+        List<String> filterNodes,
+        ListPage page
+    )
     {
         // fake load and fail if not exists
         ctrlApiDataLoader.loadRscDfn(rscNameStr, true);
 
         List<String> rscList = new ArrayList<>();
         rscList.add(rscNameStr);
-        return listResources(filterNodes, rscList);
+        return listResources(filterNodes, rscList, page);
     }
 
     ResourceList listResources(
         List<String> filterNodes,
         List<String> filterResources
     )
+    {
+        return listResources(filterNodes, filterResources, ListPage.all());
+    }
+
+    private ResourceList listResources(
+        List<String> filterNodes,
+        List<String> filterResources,
+        ListPage page
+    )
     {
         final ResourceList rscList = new ResourceList();
         try
@@ -267,6 +289,7 @@ public class CtrlRscApiCallHandler
                 filterResources.stream().map(String::toUpperCase).collect(toList());
 
             resourceDefinitionRepository.getMapForView(peerAccCtx.get()).values().stream()
+                .filter(rscDfn -> !page.isComplete())
                 .filter(rscDfn -> upperFilterResources.isEmpty() ||
                     upperFilterResources.contains(rscDfn.getName().value))
                 .forEach(rscDfn ->
@@ -278,15 +301,18 @@ public class CtrlRscApiCallHandler
                                 upperFilterNodes.contains(rsc.getNode().getName().value))
                             .collect(toList()))
                         {
-                            rscList.addResource(
-                                rsc.getApiData(
-                                    peerAccCtx.get(),
-                                    null,
-                                    null,
-                                    rsc.getEffectiveProps(apiCtx, stltCfgAccessor)
-                                )
-                            );
-                            // fullSyncId and updateId null, as they are not going to be serialized anyways
+                            if (page.nextMatchInPage())
+                            {
+                                rscList.addResource(
+                                    rsc.getApiData(
+                                        peerAccCtx.get(),
+                                        null,
+                                        null,
+                                        rsc.getEffectiveProps(apiCtx, stltCfgAccessor)
+                                    )
+                                );
+                                // fullSyncId and updateId null, as they are not going to be serialized anyways
+                            }
                         }
                     }
                     catch (AccessDeniedException accDeniedExc)
@@ -29,6 +29,7 @@ import com.linbit.linstor.core.objects.Resource;
 import com.linbit.linstor.core.objects.ResourceDefinition;
 import com.linbit.linstor.core.objects.StorPool;
 import com.linbit.linstor.core.objects.VolumeDefinition;
+import com.linbit.linstor.core.repository.SystemConfRepository;
 import com.linbit.linstor.event.EventStreamClosedException;
 import com.linbit.linstor.event.EventStreamTimeoutException;
 import com.linbit.linstor.logging.ErrorReporter;
@@ -66,6 +67,18 @@ import reactor.core.publisher.Flux;
 @Singleton
 public class CtrlRscAutoPlaceApiCallHandler
 {
+    /**
+     * Controller property limiting the number of resource definitions auto-placed by a single
+     * {@link #autoPlaceBatch}, in the {@link ApiConsts#NAMESPC_AUTOPLACER} namespace
+     */
+    public static final String KEY_MAX_BATCH_SIZE = "MaxBatchSize";
+    /**
+     * The write locks of the nodes, resource definition and storage pool definition maps are held for the whole
+     * batch. With the default search budget of the autoplacer, 32 placements keep the lock hold time in the range of
+     * a few seconds, while still covering the typical bulk creation of a volume group or stateful set at once.
+     */
+    public static final int DFLT_MAX_BATCH_SIZE = 32;
+
     private final ErrorReporter errorReporter;
     private final AccessContext apiCtx;
     private final ScopeRunner scopeRunner;
@@ -79,6 +92,7 @@ public class CtrlRscAutoPlaceApiCallHandler
     private final LockGuardFactory lockGuardFactory;
     private final Provider<AccessContext> peerAccCtx;
     private final Provider<CtrlRscAutoHelper> autoHelperProvider;
+    private final SystemConfRepository systemConfRepository;
 
     @Inject
     public CtrlRscAutoPlaceApiCallHandler(
@@ -94,7 +108,8 @@ public class CtrlRscAutoPlaceApiCallHandler
         ResponseConverter responseConverterRef,
         LockGuardFactory lockGuardFactoryRef,
         @PeerContext Provider<AccessContext> peerAccCtxRef,
-        Provider<CtrlRscAutoHelper> autoHelperProviderRef
+        Provider<CtrlRscAutoHelper> autoHelperProviderRef,
+        SystemConfRepository systemConfRepositoryRef
     )
     {
         errorReporter = errorReporterRef;
@@ -110,6 +125,7 @@ public class CtrlRscAutoPlaceApiCallHandler
         lockGuardFactory = lockGuardFactoryRef;
         peerAccCtx = peerAccCtxRef;
         autoHelperProvider = autoHelperProviderRef;
+        systemConfRepository = systemConfRepositoryRef;
     }
 
     public Flux<ApiCallRc> autoPlace(
@@ -117,16 +133,7 @@ public class CtrlRscAutoPlaceApiCallHandler
         AutoSelectFilterApi selectFilter
     )
     {
-        Map<String, String> objRefs = new TreeMap<>();
-        objRefs.put(ApiConsts.KEY_RSC_DFN, rscNameStr);
-
-        ResponseContext context = new ResponseContext(
-            ApiOperation.makeRegisterOperation(),
-            getObjectDescription(rscNameStr),
-            getObjectDescriptionInline(rscNameStr),
-            ApiConsts.MASK_RSC,
-            objRefs
-        );
+        ResponseContext context = makeAutoPlaceContext(rscNameStr);
 
         return freeCapacityFetcher.fetchThinFreeCapacities(Collections.emptySet()).flatMapMany(
             // fetchThinFreeCapacities also updates the freeSpaceManager. we can safely ignore
@@ -149,6 +156,155 @@ public class CtrlRscAutoPlaceApiCallHandler
             .transform(responses -> responseConverter.reportingExceptions(context, responses));
     }
 
+    /**
+     * Auto-places all given resource definitions with the same selection filter within a single transaction.
+     * <br />
+     * The storage pools are only listed and rated once for the whole batch. Every placement accounts the capacity and
+     * resource count it used, so that the following placements of the batch see the updated values. All created
+     * resources are committed together and every satellite receives a single update for all of its new resources.
+     * <br />
+     * If any of the resource definitions cannot be placed, none of them is placed.
+     * <br />
+     * The locks are held for the whole batch, therefore a batch is limited to {@link #getMaxBatchSize()} resource
+     * definitions and all placements of a batch share a single search budget.
+     */
+    public Flux<ApiCallRc> autoPlaceBatch(
+        List<String> rscNameStrs,
+        AutoSelectFilterApi selectFilter
+    )
+    {
+        ResponseContext context = makeAutoPlaceContext(String.join(", ", rscNameStrs));
+
+        Flux<ApiCallRc> flux;
+        int maxBatchSize = getMaxBatchSize();
+        if (rscNameStrs.size() > maxBatchSize)
+        {
+            flux = Flux.error(
+                new ApiRcException(
+                    ApiCallRcImpl.simpleEntry(
+                        ApiConsts.FAIL_INVLD_REQUEST,
+                        "Cannot auto-place more than " + maxBatchSize +
+                            " resource definitions at once, " + rscNameStrs.size() + " given"
+                    )
+                )
+            );
+        }
+        else
+        {
+            flux = autoPlaceBatchLocked(rscNameStrs, selectFilter, context);
+        }
+        return flux.transform(responses -> responseConverter.reportingExceptions(context, responses));
+    }
+
+    /**
+     * @return the maximum number of resource definitions of a single {@link #autoPlaceBatch}, as configured by the
+     *     controller property {@value #KEY_MAX_BATCH_SIZE} in the autoplacer namespace
+     */
+    public int getMaxBatchSize()
+    {
+        int maxBatchSize = DFLT_MAX_BATCH_SIZE;
+        try
+        {
+            String maxBatchSizeProp = systemConfRepository.getCtrlConfForView(apiCtx)
+                .getProp(KEY_MAX_BATCH_SIZE, ApiConsts.NAMESPC_AUTOPLACER);
+            if (maxBatchSizeProp != null)
+            {
+                maxBatchSize = Integer.parseInt(maxBatchSizeProp);
+            }
+        }
+        catch (NumberFormatException nfe)
+        {
+            errorReporter.logError(
+                "%s/%s is not a number, using the default of %d",
+                ApiConsts.NAMESPC_AUTOPLACER,
+                KEY_MAX_BATCH_SIZE,
+                DFLT_MAX_BATCH_SIZE
+            );
+        }
+        catch (AccessDeniedException exc)
+        {
+            throw new ImplementationError(exc);
+        }
+        return maxBatchSize;
+    }
+
+    private Flux<ApiCallRc> autoPlaceBatchLocked(
+        List<String> rscNameStrs,
+        AutoSelectFilterApi selectFilter,
+        ResponseContext context
+    )
+    {
+        return freeCapacityFetcher.fetchThinFreeCapacities(Collections.emptySet()).flatMapMany(
+            // fetchThinFreeCapacities also updates the freeSpaceManager. we can safely ignore
+            // the freeCapacities parameter here
+            ignoredFreeCapacities -> scopeRunner.fluxInTransactionalScope(
+                "Auto-place resources",
+                lockGuardFactory.buildDeferred(
+                    LockType.WRITE,
+                    LockObj.NODES_MAP,
+                    LockObj.RSC_DFN_MAP,
+                    LockObj.STOR_POOL_DFN_MAP
+                ),
+                () -> autoPlaceBatchInTransaction(
+                    rscNameStrs,
+                    selectFilter,
+                    context
+                )
+            )
+        );
+    }
+
+    private Flux<ApiCallRc> autoPlaceBatchInTransaction(
+        List<String> rscNameStrs,
+        AutoSelectFilterApi selectFilterRef,
+        ResponseContext batchContext
+    )
+    {
+        ApiCallRcImpl responses = new ApiCallRcImpl();
+        Autoplacer.AutoplaceBatch batch = autoplacer.createBatch(rscNameStrs.size());
+
+        Map<ResourceDefinition, Set<Resource>> deployedResourcesByRscDfn = new TreeMap<>();
+        List<Flux<ApiCallRc>> createFluxes = new ArrayList<>();
+        List<Flux<ApiCallRc>> autoFluxes = new ArrayList<>();
+        for (String rscNameStr : rscNameStrs)
+        {
+            Placement placement = placeInTransaction(
+                rscNameStr,
+                selectFilterRef,
+                makeAutoPlaceContext(rscNameStr),
+                responses,
+                batch
+            );
+            if (placement != null)
+            {
+                createFluxes.addAll(placement.createFluxes);
+                autoFluxes.add(placement.autoFlux);
+                if (!placement.deployedResources.isEmpty())
+                {
+                    deployedResourcesByRscDfn.computeIfAbsent(placement.rscDfn, ignored -> new TreeSet<>())
+                        .addAll(placement.deployedResources);
+                }
+            }
+        }
+
+        ctrlTransactionHelper.commit();
+
+        Flux<ApiCallRc> deploymentResponses = deployedResourcesByRscDfn.isEmpty() ?
+            Flux.empty() :
+            ctrlRscCrtApiHelper.deployResources(batchContext, deployedResourcesByRscDfn);
+
+        return Flux
+            .<ApiCallRc>just(responses)
+            .concatWith(Flux.merge(createFluxes))
+            .concatWith(deploymentResponses)
+            .concatWith(Flux.concat(autoFluxes))
+            .onErrorResume(CtrlResponseUtils.DelayedApiRcException.class, ignored -> Flux.empty())
+            .onErrorResume(EventStreamTimeoutException.class,
+                ignored -> Flux.just(ctrlRscCrtApiHelper.makeResourceDidNotAppearMessage(batchContext)))
+            .onErrorResume(EventStreamClosedException.class,
+                ignored -> Flux.just(ctrlRscCrtApiHelper.makeEventStreamDisappearedUnexpectedlyMessage(batchContext)));
+    }
+
     Flux<ApiCallRc> autoPlaceInTransaction(
         String rscNameStr,
         @Nullable AutoSelectFilterApi selectFilterRef,
@@ -157,6 +313,47 @@ public class CtrlRscAutoPlaceApiCallHandler
     {
         ApiCallRcImpl responses = new ApiCallRcImpl();
 
+        Placement placement = placeInTransaction(rscNameStr, selectFilterRef, context, responses, null);
+
+        Flux<ApiCallRc> deploymentResponses;
+        if (placement != null)
+        {
+            ctrlTransactionHelper.commit();
+
+            deploymentResponses = placement.deployedResources.isEmpty() ?
+                Flux.empty() :
+                ctrlRscCrtApiHelper.deployResources(context, placement.deployedResources);
+            deploymentResponses = Flux.merge(placement.createFluxes)
+                .concatWith(deploymentResponses)
+                .concatWith(placement.autoFlux);
+        }
+        else
+        {
+            deploymentResponses = Flux.empty();
+        }
+        return Flux
+            .<ApiCallRc>just(responses)
+            .concatWith(deploymentResponses)
+            .onErrorResume(CtrlResponseUtils.DelayedApiRcException.class, ignored -> Flux.empty())
+            .onErrorResume(EventStreamTimeoutException.class,
+                ignored -> Flux.just(ctrlRscCrtApiHelper.makeResourceDidNotAppearMessage(context)))
+            .onErrorResume(EventStreamClosedException.class,
+                ignored -> Flux.just(ctrlRscCrtApiHelper.makeEventStreamDisappearedUnexpectedlyMessage(context)));
+    }
+
+    /**
+     * Creates the resources of a single auto-placement without committing or deploying them.
+     *
+     * @return The created resources or null if no additional resources are needed
+     */
+    private @Nullable Placement placeInTransaction(
+        String rscNameStr,
+        @Nullable AutoSelectFilterApi selectFilterRef,
+        ResponseContext context,
+        ApiCallRcImpl responses,
+        @Nullable Autoplacer.AutoplaceBatch batchRef
+    )
+    {
         ResourceDefinition rscDfn = ctrlApiDataLoader.loadRscDfn(rscNameStr, true);
         AutoSelectorConfig rscGrpSelectConfig = rscDfn.getResourceGroup().getAutoPlaceConfig();
 
@@ -248,8 +445,7 @@ public class CtrlRscAutoPlaceApiCallHandler
             storPoolDisklessNameList = mergedSelectFilter.getStorPoolDisklessNameList();
         }
 
-        Flux<ApiCallRc> deploymentResponses;
-        Flux<ApiCallRc> autoFlux;
+        Placement placement;
         if (
             additionalPlaceCount == 0 &&
                 (mergedSelectFilter.getDisklessOnRemaining() == null || !mergedSelectFilter.getDisklessOnRemaining())
@@ -271,7 +467,7 @@ public class CtrlRscAutoPlaceApiCallHandler
                 )
             );
 
-            deploymentResponses = Flux.empty();
+            placement = null;
         }
         else
         {
@@ -295,6 +491,7 @@ public class CtrlRscAutoPlaceApiCallHandler
             final long rscSize = calculateResourceDefinitionSize(rscDfn, peerAccCtx.get());
 
             Set<StorPool> candidate = findBestCandidate(
+                batchRef,
                 autoStorConfig,
                 rscDfn,
                 rscSize
@@ -312,35 +509,21 @@ public class CtrlRscAutoPlaceApiCallHandler
                     mergedSelectFilter.getLayerStackList()
                 );
 
-                autoFlux = autoHelperProvider.get()
+                Flux<ApiCallRc> autoFlux = autoHelperProvider.get()
                     .manage(
                         new AutoHelperContext(responses, context, rscDfn)
                             .withSelectFilter(mergedSelectFilter)
                     )
                     .getFlux();
 
-                ctrlTransactionHelper.commit();
-
-                deploymentResponses = deployedResources.objB.isEmpty() ?
-                    Flux.empty() :
-                    ctrlRscCrtApiHelper.deployResources(context, deployedResources.objB);
-                deploymentResponses = Flux.merge(deployedResources.objA)
-                    .concatWith(deploymentResponses)
-                    .concatWith(autoFlux);
+                placement = new Placement(rscDfn, deployedResources.objA, deployedResources.objB, autoFlux);
             }
             else
             {
                 throw failNotEnoughCandidates(storPoolNameList, rscSize, autoStorConfig);
             }
         }
-        return Flux
-            .<ApiCallRc>just(responses)
-            .concatWith(deploymentResponses)
-            .onErrorResume(CtrlResponseUtils.DelayedApiRcException.class, ignored -> Flux.empty())
-            .onErrorResume(EventStreamTimeoutException.class,
-                ignored -> Flux.just(ctrlRscCrtApiHelper.makeResourceDidNotAppearMessage(context)))
-            .onErrorResume(EventStreamClosedException.class,
-                ignored -> Flux.just(ctrlRscCrtApiHelper.makeEventStreamDisappearedUnexpectedlyMessage(context)));
+        return placement;
     }
 
     private ArrayList<Resource> filterOnlyOneRscPerSharedSp(List<Resource> list)
@@ -387,12 +570,13 @@ public class CtrlRscAutoPlaceApiCallHandler
     }
 
     private Set<StorPool> findBestCandidate(
+        @Nullable Autoplacer.AutoplaceBatch batchRef,
         AutoSelectFilterPojo autoStorConfigRef,
         @Nullable ResourceDefinition rscDfnRef,
         long rscSize
     )
     {
-        return autoplacer.autoPlace(autoStorConfigRef, rscDfnRef, rscSize);
+        return autoplacer.autoPlace(batchRef, autoStorConfigRef, rscDfnRef, rscSize);
     }
 
     public Pair<List<Flux<ApiCallRc>>, Set<Resource>> createResources(
@@ -753,6 +937,20 @@ public class CtrlRscAutoPlaceApiCallHandler
         );
     }
 
+    private static ResponseContext makeAutoPlaceContext(String rscNameStr)
+    {
+        Map<String, String> objRefs = new TreeMap<>();
+        objRefs.put(ApiConsts.KEY_RSC_DFN, rscNameStr);
+
+        return new ResponseContext(
+            ApiOperation.makeRegisterOperation(),
+            getObjectDescription(rscNameStr),
+            getObjectDescriptionInline(rscNameStr),
+            ApiConsts.MASK_RSC,
+            objRefs
+        );
+    }
+
     private static String getObjectDescription(String rscNameStr)
     {
         return "Auto-placing resource: " + rscNameStr;
@@ -762,4 +960,25 @@ public class CtrlRscAutoPlaceApiCallHandler
     {
         return "auto-placing resource: '" + rscNameStr + "'";
     }
+
+    private static class Placement
+    {
+        private final ResourceDefinition rscDfn;
+        private final List<Flux<ApiCallRc>> createFluxes;
+        private final Set<Resource> deployedResources;
+        private final Flux<ApiCallRc> autoFlux;
+
+        Placement(
+            ResourceDefinition rscDfnRef,
+            List<Flux<ApiCallRc>> createFluxesRef,
+            Set<Resource> deployedResourcesRef,
+            Flux<ApiCallRc> autoFluxRef
+        )
+        {
+            rscDfn = rscDfnRef;
+            createFluxes = createFluxesRef;
+            deployedResources = deployedResourcesRef;
+            autoFlux = autoFluxRef;
+        }
+    }
 }
@@ -95,6 +95,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
@@ -870,6 +872,51 @@ public class CtrlRscCrtApiHelper
             .concatWith(nextSteps);
     }
 
+    /**
+     * Deploy the newly created resources of several resource definitions to the satellites and wait for them to be
+     * ready. Every satellite receives a single update for all of its changed resources.
+     */
+    public Flux<ApiCallRc> deployResources(
+        ResponseContext context,
+        Map<ResourceDefinition, Set<Resource>> deployedResourcesByRscDfn
+    )
+    {
+        Set<Resource> allDeployedResources = new TreeSet<>();
+        Map<ResourceDefinition, Publisher<ApiCallRc>> retryNextSteps = new TreeMap<>();
+        List<Publisher<ApiCallRc>> readyResponses = new ArrayList<>();
+        List<Flux<ApiCallRc>> rscDfnNextSteps = new ArrayList<>();
+        for (Map.Entry<ResourceDefinition, Set<Resource>> entry : deployedResourcesByRscDfn.entrySet())
+        {
+            ResourceDefinition rscDfn = entry.getKey();
+            Set<Resource> deployedResources = entry.getValue();
+            allDeployedResources.addAll(deployedResources);
+
+            Flux<ApiCallRc> rscDfnNextStep = scheduleBackupService.fluxAllNewTasks(rscDfn, peerAccCtx.get())
+                .concatWith(ctrlRscDfnApiCallHandler.get().updateProps(rscDfn));
+            rscDfnNextSteps.add(rscDfnNextStep);
+            // the retry-task only retries single resources, so it also only initializes those of one definition
+            retryNextSteps.put(rscDfn, setInitialized(deployedResources).concatWith(rscDfnNextStep));
+            readyResponses.add(waitResourcesReady(context, rscDfn, deployedResources));
+        }
+
+        String rscNamesStr = deployedResourcesByRscDfn.keySet().stream()
+            .map(rscDfn -> rscDfn.getName().displayValue)
+            .collect(Collectors.joining(", "));
+
+        Flux<ApiCallRc> nextSteps = setInitialized(allDeployedResources).concatWith(Flux.concat(rscDfnNextSteps));
+
+        return ctrlSatelliteUpdateCaller.updateSatellites(retryNextSteps)
+            .transform(updateResponses -> CtrlResponseUtils.combineResponses(
+                errorReporter,
+                updateResponses,
+                rscNamesStr,
+                "Created resources {1} on {0}"
+                )
+            )
+            .concatWith(Flux.merge(readyResponses))
+            .concatWith(nextSteps);
+    }
+
     public Flux<ApiCallRc> setInitialized(Set<Resource> deployedResourcesRef)
     {
         return scopeRunner
@@ -888,7 +935,7 @@ public class CtrlRscCrtApiHelper
 
     private Flux<ApiCallRc> setInitializedInTransaction(Set<Resource> deployedResourcesRef)
     {
-        ResourceDefinition rscDfn = null;
+        Set<ResourceDefinition> rscDfns = new TreeSet<>();
         Flux<ApiCallRc> flux;
         try
         {
@@ -901,10 +948,8 @@ public class CtrlRscCrtApiHelper
                 // just ignore the resource and noop if needed.
                 if (!rsc.isDeleted())
                 {
-                    if (rscDfn == null)
-                    {
-                        rscDfn = rsc.getResourceDefinition();
-                    }
+                    ResourceDefinition rscDfn = rsc.getResourceDefinition();
+                    rscDfns.add(rscDfn);
                     List<AbsRscLayerObject<Resource>> drbdRscList = LayerUtils
                         .getChildLayerDataByKind(rsc.getLayerData(peerCtx), DeviceLayerKind.DRBD);
                     for (AbsRscLayerObject<Resource> drbdRsc : drbdRscList)
@@ -924,15 +969,25 @@ public class CtrlRscCrtApiHelper
         {
             throw new ApiDatabaseException(exc);
         }
-        if (rscDfn != null)
+        if (rscDfns.size() == 1)
         {
             flux = ctrlSatelliteUpdateCaller.updateSatellites(
-                rscDfn,
+                rscDfns.iterator().next(),
                 null
             ).thenMany(Flux.empty());
             // user doesn't need info about setting an internal flag
         }
         else
+        if (!rscDfns.isEmpty())
+        {
+            Map<ResourceDefinition, Publisher<ApiCallRc>> noNextSteps = new TreeMap<>();
+            for (ResourceDefinition rscDfn : rscDfns)
+            {
+                noNextSteps.put(rscDfn, null);
+            }
+            flux = ctrlSatelliteUpdateCaller.updateSatellites(noNextSteps).thenMany(Flux.empty());
+        }
+        else
         {
             flux = Flux.empty();
         }
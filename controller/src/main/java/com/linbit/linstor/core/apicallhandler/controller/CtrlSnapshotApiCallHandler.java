@@ -3,6 +3,7 @@ package com.linbit.linstor.core.apicallhandler.controller;
 import com.linbit.linstor.LinstorParsingUtils;
 import com.linbit.linstor.annotation.PeerContext;
 import com.linbit.linstor.api.ApiConsts;
+import com.linbit.linstor.core.apicallhandler.controller.helpers.ListPage;
 import com.linbit.linstor.core.apicallhandler.response.ApiOperation;
 import com.linbit.linstor.core.apicallhandler.response.ResponseContext;
 import com.linbit.linstor.core.apis.SnapshotDefinitionListItemApi;
@@ -48,16 +49,18 @@ public class CtrlSnapshotApiCallHandler
     }
 
     private boolean shouldIncludeSnapshot(
-        final SnapshotDefinitionListItemApi snapItem,
+        final SnapshotDefinition snapshotDfn,
         final List<String> nodeNameFilter
     )
+        throws AccessDeniedException
     {
         boolean includeFlag = nodeNameFilter.isEmpty();
         if (!includeFlag)
         {
-            for (final String node : nodeNameFilter)
+            for (final Snapshot snapshot : snapshotDfn.getAllSnapshots(peerAccCtx.get()))
             {
-                for (final String snapNode : snapItem.getNodeNames())
+                final String snapNode = snapshot.getNodeName().displayValue;
+                for (final String node : nodeNameFilter)
                 {
                     if (node.equalsIgnoreCase(snapNode))
                     {
@@ -65,12 +68,28 @@ public class CtrlSnapshotApiCallHandler
                         break;
                     }
                 }
+                if (includeFlag)
+                {
+                    break;
+                }
             }
         }
         return includeFlag;
     }
 
     ArrayList<SnapshotDefinitionListItemApi> listSnapshotDefinitions(List<String> nodeNames, List<String> resourceNames)
+    {
+        return listSnapshotDefinitions(nodeNames, resourceNames, ListPage.all());
+    }
+
+    /**
+     * Only the API data of the snapshot definitions within the given page are built.
+     */
+    ArrayList<SnapshotDefinitionListItemApi> listSnapshotDefinitions(
+        List<String> nodeNames,
+        List<String> resourceNames,
+        ListPage page
+    )
     {
         ArrayList<SnapshotDefinitionListItemApi> snapshotDfns = new ArrayList<>();
         final Set<ResourceName> rscDfnsFilter =
@@ -80,17 +99,15 @@ public class CtrlSnapshotApiCallHandler
         {
             for (ResourceDefinition rscDfn : resourceDefinitionRepository.getMapForView(peerAccCtx.get()).values())
             {
-                if (rscDfnsFilter.isEmpty() || rscDfnsFilter.contains(rscDfn.getName()))
+                if (!page.isComplete() && (rscDfnsFilter.isEmpty() || rscDfnsFilter.contains(rscDfn.getName())))
                 {
                     for (SnapshotDefinition snapshotDfn : rscDfn.getSnapshotDfns(peerAccCtx.get()))
                     {
                         try
                         {
-                            final SnapshotDefinitionListItemApi snapItem =
-                                snapshotDfn.getListItemApiData(peerAccCtx.get());
-                            if (shouldIncludeSnapshot(snapItem, nodeNames))
+                            if (shouldIncludeSnapshot(snapshotDfn, nodeNames) && page.nextMatchInPage())
                             {
-                                snapshotDfns.add(snapItem);
+                                snapshotDfns.add(snapshotDfn.getListItemApiData(peerAccCtx.get()));
                             }
                         }
                         catch (AccessDeniedException accDeniedExc)
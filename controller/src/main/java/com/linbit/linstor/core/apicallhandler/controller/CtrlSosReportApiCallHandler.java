@@ -714,7 +714,7 @@ public class CtrlSosReportApiCallHandler
     private Flux<String> viewResourcesJson(Path sosDir)
     {
         Flux<ResourceList> flux = ctrlVlmListApiCallHandler.listVlms(
-                Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+                Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), true);
 
         var logContextMap = MDC.getCopyOfContextMap();
         return flux.flatMap(resourceList -> {
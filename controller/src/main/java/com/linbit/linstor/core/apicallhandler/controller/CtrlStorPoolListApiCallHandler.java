@@ -11,6 +11,7 @@ import com.linbit.linstor.api.DecryptionHelper;
 import com.linbit.linstor.api.SpaceInfo;
 import com.linbit.linstor.core.CtrlSecurityObjects;
 import com.linbit.linstor.core.apicallhandler.ScopeRunner;
+import com.linbit.linstor.core.apicallhandler.controller.helpers.ListPage;
 import com.linbit.linstor.core.apicallhandler.response.ApiAccessDeniedException;
 import com.linbit.linstor.core.apicallhandler.response.ResponseUtils;
 import com.linbit.linstor.core.apis.StorPoolApi;
@@ -92,6 +93,25 @@ public class CtrlStorPoolListApiCallHandler
         List<String> propFilters,
         boolean fromCache
     )
+    {
+        return listStorPools(nodeNames, storPoolNames, propFilters, fromCache, 0, 0);
+    }
+
+    /**
+     * Same as {@link #listStorPools(List, List, List, boolean)}, but only the API data of the storage pools within
+     * the requested page are built.
+     *
+     * @param offset number of matching storage pools to skip
+     * @param limit maximum number of storage pools to return, 0 for all
+     */
+    public Flux<List<StorPoolApi>> listStorPools(
+        List<String> nodeNames,
+        List<String> storPoolNames,
+        List<String> propFilters,
+        boolean fromCache,
+        int offset,
+        int limit
+    )
     {
         Flux<List<StorPoolApi>> flux;
         final Set<StorPoolName> storPoolsFilter = storPoolNames.stream()
@@ -105,7 +125,9 @@ public class CtrlStorPoolListApiCallHandler
             flux = scopeRunner.fluxInTransactionlessScope(
                 "Assemble storage pool list from Cache",
                 lockGuardFactory.buildDeferred(READ, STOR_POOL_DFN_MAP),
-                () -> Flux.just(assembleList(nodesFilter, storPoolsFilter, propFilters, null))
+                () -> Flux.just(
+                    assembleList(nodesFilter, storPoolsFilter, propFilters, null, new ListPage(offset, limit))
+                )
             );
         }
         else
@@ -115,7 +137,15 @@ public class CtrlStorPoolListApiCallHandler
                     freeCapacityAnswers -> scopeRunner.fluxInTransactionlessScope(
                         "Assemble storage pool list",
                         lockGuardFactory.buildDeferred(LockType.WRITE, LockObj.STOR_POOL_DFN_MAP),
-                        () -> Flux.just(assembleList(nodesFilter, storPoolsFilter, propFilters, freeCapacityAnswers)),
+                        () -> Flux.just(
+                            assembleList(
+                                nodesFilter,
+                                storPoolsFilter,
+                                propFilters,
+                                freeCapacityAnswers,
+                                new ListPage(offset, limit)
+                            )
+                        ),
                         MDC.getCopyOfContextMap()
                     )
                 );
@@ -136,7 +166,7 @@ public class CtrlStorPoolListApiCallHandler
 
         try (LockGuard ignored = lockGuardFactory.build(READ, STOR_POOL_DFN_MAP))
         {
-            return assembleList(nodesFilter, storPoolsFilter, propFilters, null);
+            return assembleList(nodesFilter, storPoolsFilter, propFilters, null, ListPage.all());
         }
     }
 
@@ -181,7 +211,8 @@ public class CtrlStorPoolListApiCallHandler
         Set<NodeName> nodesFilter,
         Set<StorPoolName> storPoolsFilter,
         List<String> propFilters,
-        @Nullable Map<StorPool.Key, Tuple2<SpaceInfo, List<ApiCallRc>>> freeCapacityAnswers
+        @Nullable Map<StorPool.Key, Tuple2<SpaceInfo, List<ApiCallRc>>> freeCapacityAnswers,
+        ListPage page
     )
     {
         ArrayList<StorPoolApi> storPools = new ArrayList<>();
@@ -189,6 +220,7 @@ public class CtrlStorPoolListApiCallHandler
         {
             ReadOnlyProps ctrlProps = sysCfgRepo.getCtrlConfForView(peerAccCtx.get());
             storPoolDefinitionRepository.getMapForView(peerAccCtx.get()).values().stream()
+                .filter(storPoolDfn -> !page.isComplete())
                 .filter(
                     storPoolDfn -> storPoolsFilter.isEmpty() ||
                     storPoolsFilter.contains(storPoolDfn.getName())
@@ -204,7 +236,8 @@ public class CtrlStorPoolListApiCallHandler
                                 .collect(toList()))
                             {
                                 ReadOnlyProps props = storPool.getProps(peerAccCtx.get());
-                                if (props.contains(propFilters))
+                                // only build the api data of the requested page
+                                if (props.contains(propFilters) && page.nextMatchInPage())
                                 {
                                     Long freeCapacity;
                                     Long totalCapacity;
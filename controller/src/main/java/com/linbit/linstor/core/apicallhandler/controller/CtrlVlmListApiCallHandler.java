@@ -6,6 +6,7 @@ import com.linbit.linstor.api.pojo.EffectivePropertiesPojo;
 import com.linbit.linstor.api.pojo.RscPojo;
 import com.linbit.linstor.core.StltConfigAccessor;
 import com.linbit.linstor.core.apicallhandler.ScopeRunner;
+import com.linbit.linstor.core.apicallhandler.controller.helpers.ListPage;
 import com.linbit.linstor.core.apicallhandler.controller.helpers.ResourceList;
 import com.linbit.linstor.core.apis.ResourceConnectionApi;
 import com.linbit.linstor.core.apis.VolumeApi;
@@ -16,6 +17,7 @@ import com.linbit.linstor.core.identifier.VolumeNumber;
 import com.linbit.linstor.core.objects.Node;
 import com.linbit.linstor.core.objects.Resource;
 import com.linbit.linstor.core.objects.ResourceConnection;
+import com.linbit.linstor.core.objects.ResourceDefinition;
 import com.linbit.linstor.core.objects.Volume;
 import com.linbit.linstor.core.objects.VolumeDefinition;
 import com.linbit.linstor.core.repository.NodeRepository;
@@ -42,6 +44,7 @@ import javax.inject.Provider;
 import javax.inject.Singleton;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -51,6 +54,7 @@ import java.util.stream.Collectors;
 
 import org.slf4j.MDC;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import static java.util.stream.Collectors.toList;
 
@@ -88,11 +92,80 @@ public class CtrlVlmListApiCallHandler
         stltCfgAccessor = stltCfgAccessorRef;
     }
 
+    /**
+     * @param fresh if false, the allocated sizes of thin volumes are taken from the {@link VlmAllocatedCache} as long
+     *     as they are recent enough. Otherwise all affected satellites are asked.
+     */
     public Flux<ResourceList> listVlms(
         List<String> nodeNames,
         List<String> storPools,
         List<String> resources,
-        List<String> propFilters
+        List<String> propFilters,
+        boolean fresh
+    )
+    {
+        return listVlms(nodeNames, storPools, resources, propFilters, fresh, 0, 0);
+    }
+
+    /**
+     * Same as {@link #listVlms(List, List, List, List, boolean)}, but only the resources within the requested page
+     * are assembled.
+     *
+     * @param offset number of matching resources to skip
+     * @param limit maximum number of resources to return, 0 for all
+     */
+    public Flux<ResourceList> listVlms(
+        List<String> nodeNames,
+        List<String> storPools,
+        List<String> resources,
+        List<String> propFilters,
+        boolean fresh,
+        int offset,
+        int limit
+    )
+    {
+        return listVlms(nodeNames, storPools, resources, propFilters, fresh, new ListPage(offset, limit), null, 0, 0);
+    }
+
+    /**
+     * Lists the volumes of a single resource. Only the API data of the volumes within the requested page are built.
+     *
+     * @param vlmNr if not null, only this volume is listed
+     * @param offset number of volumes to skip
+     * @param limit maximum number of volumes to return, 0 for all
+     */
+    public Flux<ResourceList> listVlmsOfResource(
+        String nodeName,
+        String rscName,
+        @Nullable Integer vlmNr,
+        boolean fresh,
+        int offset,
+        int limit
+    )
+    {
+        return listVlms(
+            Collections.singletonList(nodeName),
+            Collections.emptyList(),
+            Collections.singletonList(rscName),
+            Collections.emptyList(),
+            fresh,
+            ListPage.all(),
+            vlmNr,
+            offset,
+            limit
+        );
+    }
+
+    private Flux<ResourceList> listVlms(
+        List<String> nodeNames,
+        List<String> storPools,
+        List<String> resources,
+        List<String> propFilters,
+        boolean fresh,
+        ListPage rscPage,
+        @Nullable Integer vlmNr,
+        int vlmOffset,
+        int vlmLimit
     )
     {
         final Set<NodeName> nodesFilter =
@@ -102,13 +175,27 @@ public class CtrlVlmListApiCallHandler
         final Set<ResourceName> resourceFilter =
             resources.stream().map(LinstorParsingUtils::asRscName).collect(Collectors.toSet());
 
-        return vlmAllocatedFetcher.fetchVlmAllocated(nodesFilter, storPoolsFilter, resourceFilter)
+        Mono<Map<Volume.Key, VlmAllocatedResult>> vlmAllocatedMono = fresh ?
+            vlmAllocatedFetcher.fetchVlmAllocated(nodesFilter, storPoolsFilter, resourceFilter) :
+            vlmAllocatedFetcher.fetchVlmAllocatedCached(nodesFilter, storPoolsFilter, resourceFilter);
+        return vlmAllocatedMono
             .flatMapMany(vlmAllocatedAnswers ->
                 scopeRunner.fluxInTransactionlessScope(
                     "Assemble volume list",
                     lockGuardFactory.buildDeferred(READ, NODES_MAP, RSC_DFN_MAP),
                     () -> Flux.just(
-                        assembleList(nodesFilter, storPoolsFilter, resourceFilter, propFilters, vlmAllocatedAnswers)),
+                        assembleList(
+                            nodesFilter,
+                            storPoolsFilter,
+                            resourceFilter,
+                            propFilters,
+                            vlmAllocatedAnswers,
+                            rscPage,
+                            vlmNr,
+                            vlmOffset,
+                            vlmLimit
+                        )
+                    ),
                     MDC.getCopyOfContextMap()
                 )
             );
@@ -121,6 +208,10 @@ public class CtrlVlmListApiCallHandler
      * @param resourceFilter
      * @param propFilters
      * @param vlmAllocatedAnswers if null an cached result will be returned
+     * @param rscPage the requested page of the matching resources
+     * @param vlmNr if not null, only this volume is added to the resources
+     * @param vlmOffset number of volumes of a resource to skip
+     * @param vlmLimit maximum number of volumes of a resource, 0 for all
      * @return Filtered ResourceList result
      */
     private ResourceList assembleList(
@@ -128,15 +219,19 @@ public class CtrlVlmListApiCallHandler
         Set<StorPoolName> storPoolsFilter,
         Set<ResourceName> resourceFilter,
         List<String> propFilters,
-        final @Nullable Map<Volume.Key, VlmAllocatedResult> vlmAllocatedAnswers
+        final @Nullable Map<Volume.Key, VlmAllocatedResult> vlmAllocatedAnswers,
+        ListPage rscPage,
+        @Nullable Integer vlmNr,
+        int vlmOffset,
+        int vlmLimit
     )
     {
         ResourceList rscList = new ResourceList();
         try
         {
-            resourceDefinitionRepository.getMapForView(peerAccCtx.get()).values().stream()
-                .filter(rscDfn -> resourceFilter.isEmpty() || resourceFilter.contains(rscDfn.getName()))
-                .forEach(rscDfn ->
+            for (ResourceDefinition rscDfn : resourceDefinitionRepository.getMapForView(peerAccCtx.get()).values())
+            {
+                if (!rscPage.isComplete() && (resourceFilter.isEmpty() || resourceFilter.contains(rscDfn.getName())))
                 {
                     try
                     {
@@ -150,85 +245,17 @@ public class CtrlVlmListApiCallHandler
                             if (props.contains(propFilters))
                             {
                                 // create our api object ourselves to filter the volumes by storage pools
-
-                                // build volume list filtered by storage pools (if provided)
-                                List<VolumeApi> volumes = new ArrayList<>();
-                                List<AbsRscLayerObject<Resource>> storageRscList = LayerUtils
-                                    .getChildLayerDataByKind(
-                                    rsc.getLayerData(peerAccCtx.get()),
-                                    DeviceLayerKind.STORAGE
-                                );
-                                Iterator<Volume> itVolumes = rsc.iterateVolumes();
-                                while (itVolumes.hasNext())
-                                {
-                                    Volume vlm = itVolumes.next();
-                                    boolean addToList = storPoolsFilter.isEmpty();
-                                    if (!addToList)
-                                    {
-                                        VolumeNumber vlmNr = vlm.getVolumeDefinition().getVolumeNumber();
-                                        for (AbsRscLayerObject<Resource> storageRsc : storageRscList)
-                                        {
-                                            if (storPoolsFilter.contains(
-                                                storageRsc.getVlmProviderObject(vlmNr).getStorPool().getName())
-                                            )
-                                            {
-                                                addToList = true;
-                                                break;
-                                            }
-                                        }
-                                    }
-                                    if (addToList)
-                                    {
-                                        if (vlmAllocatedAnswers != null)
-                                        {
-                                            VlmAllocatedResult vlmAllocResult = vlmAllocatedAnswers.get(vlm.getKey());
-                                            if (vlmAllocResult != null)
-                                            {
-                                                vlm.clearReports();
-                                                vlm.addReports(vlmAllocResult.getApiCallRc());
-                                            }
-                                        }
-                                        volumes.add(vlm.getApiData(
-                                            getAllocated(
-                                                vlmAllocatedAnswers, vlm),
-                                                peerAccCtx.get()
-                                            )
-                                        );
-                                    }
-                                }
-
-                                List<ResourceConnectionApi> rscConns = new ArrayList<>();
-                                for (ResourceConnection rscConn : rsc.streamAbsResourceConnections(peerAccCtx.get())
-                                        .collect(toList()))
+                                List<Volume> filteredVlms = filterVolumes(rsc, storPoolsFilter);
+                                // only build the api data of the requested page
+                                if (!filteredVlms.isEmpty() && rscPage.nextMatchInPage())
                                 {
-                                    rscConns.add(rscConn.getApiData(peerAccCtx.get()));
-                                }
-
-                                if (!volumes.isEmpty())
-                                {
-                                    EffectivePropertiesPojo propsPojo = rsc.getEffectiveProps(
-                                        peerAccCtx.get(),
-                                        stltCfgAccessor
+                                    rscList.addResource(
+                                        buildRscPojo(
+                                            rsc,
+                                            pageVolumes(filteredVlms, vlmNr, vlmOffset, vlmLimit),
+                                            vlmAllocatedAnswers
+                                        )
                                     );
-
-                                    RscPojo filteredRscVlms = new RscPojo(
-                                        rscDfn.getName().getDisplayName(),
-                                        rsc.getNode().getName().getDisplayName(),
-                                        rsc.getNode().getUuid(),
-                                        rscDfn.getApiData(peerAccCtx.get()),
-                                        rsc.getUuid(),
-                                        rsc.getStateFlags().getFlagsBits(peerAccCtx.get()),
-                                        rsc.getProps(peerAccCtx.get()).map(),
-                                        volumes,
-                                        null,
-                                        rscConns,
-                                        null,
-                                        null,
-                                        rsc.getLayerData(peerAccCtx.get()).asPojo(peerAccCtx.get()),
-                                        rsc.getCreateTimestamp().orElse(null),
-                                        propsPojo
-                                    );
-                                    rscList.addResource(filteredRscVlms);
                                 }
                             }
                         }
@@ -238,7 +265,7 @@ public class CtrlVlmListApiCallHandler
                         // don't add rsc without access
                     }
                 }
-                );
+            }
 
             // get resource states of all nodes
             for (final Node node : nodeRepository.getMapForView(peerAccCtx.get()).values())
@@ -273,6 +300,114 @@ public class CtrlVlmListApiCallHandler
         return rscList;
     }
 
+    /**
+     * @return the volumes of the given resource, filtered by storage pools (if provided)
+     */
+    private List<Volume> filterVolumes(Resource rsc, Set<StorPoolName> storPoolsFilter)
+        throws AccessDeniedException
+    {
+        List<Volume> volumes = new ArrayList<>();
+        List<AbsRscLayerObject<Resource>> storageRscList = LayerUtils
+            .getChildLayerDataByKind(
+            rsc.getLayerData(peerAccCtx.get()),
+            DeviceLayerKind.STORAGE
+        );
+        Iterator<Volume> itVolumes = rsc.iterateVolumes();
+        while (itVolumes.hasNext())
+        {
+            Volume vlm = itVolumes.next();
+            boolean addToList = storPoolsFilter.isEmpty();
+            if (!addToList)
+            {
+                VolumeNumber vlmNr = vlm.getVolumeDefinition().getVolumeNumber();
+                for (AbsRscLayerObject<Resource> storageRsc : storageRscList)
+                {
+                    if (storPoolsFilter.contains(
+                        storageRsc.getVlmProviderObject(vlmNr).getStorPool().getName())
+                    )
+                    {
+                        addToList = true;
+                        break;
+                    }
+                }
+            }
+            if (addToList)
+            {
+                volumes.add(vlm);
+            }
+        }
+        return volumes;
+    }
+
+    private List<Volume> pageVolumes(List<Volume> volumes, @Nullable Integer vlmNr, int vlmOffset, int vlmLimit)
+    {
+        List<Volume> page = new ArrayList<>();
+        ListPage vlmPage = new ListPage(vlmOffset, vlmLimit);
+        for (Volume vlm : volumes)
+        {
+            if ((vlmNr == null || vlm.getVolumeDefinition().getVolumeNumber().value == vlmNr) &&
+                vlmPage.nextMatchInPage())
+            {
+                page.add(vlm);
+            }
+        }
+        return page;
+    }
+
+    private RscPojo buildRscPojo(
+        Resource rsc,
+        List<Volume> filteredVlms,
+        final @Nullable Map<Volume.Key, VlmAllocatedResult> vlmAllocatedAnswers
+    )
+        throws AccessDeniedException
+    {
+        List<VolumeApi> volumes = new ArrayList<>();
+        for (Volume vlm : filteredVlms)
+        {
+            if (vlmAllocatedAnswers != null)
+            {
+                VlmAllocatedResult vlmAllocResult = vlmAllocatedAnswers.get(vlm.getKey());
+                if (vlmAllocResult != null)
+                {
+                    vlm.clearReports();
+                    vlm.addReports(vlmAllocResult.getApiCallRc());
+                }
+            }
+            volumes.add(vlm.getApiData(getAllocated(vlmAllocatedAnswers, vlm), peerAccCtx.get()));
+        }
+
+        List<ResourceConnectionApi> rscConns = new ArrayList<>();
+        for (ResourceConnection rscConn : rsc.streamAbsResourceConnections(peerAccCtx.get())
+                .collect(toList()))
+        {
+            rscConns.add(rscConn.getApiData(peerAccCtx.get()));
+        }
+
+        EffectivePropertiesPojo propsPojo = rsc.getEffectiveProps(
+            peerAccCtx.get(),
+            stltCfgAccessor
+        );
+
+        ResourceDefinition rscDfn = rsc.getResourceDefinition();
+        return new RscPojo(
+            rscDfn.getName().getDisplayName(),
+            rsc.getNode().getName().getDisplayName(),
+            rsc.getNode().getUuid(),
+            rscDfn.getApiData(peerAccCtx.get()),
+            rsc.getUuid(),
+            rsc.getStateFlags().getFlagsBits(peerAccCtx.get()),
+            rsc.getProps(peerAccCtx.get()).map(),
+            volumes,
+            null,
+            rscConns,
+            null,
+            null,
+            rsc.getLayerData(peerAccCtx.get()).asPojo(peerAccCtx.get()),
+            rsc.getCreateTimestamp().orElse(null),
+            propsPojo
+        );
+    }
+
     private long getAllocated(
         final @Nullable Map<Volume.Key, VlmAllocatedResult> vlmAllocatedCapacities,
         Volume vlm
@@ -0,0 +1,140 @@
+package com.linbit.linstor.core.apicallhandler.controller;
+
+import com.linbit.linstor.api.ApiCallRc;
+import com.linbit.linstor.api.SpaceInfo;
+import com.linbit.linstor.core.cfg.CtrlConfig;
+import com.linbit.linstor.core.identifier.NodeName;
+import com.linbit.linstor.core.objects.StorPool;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+/**
+ * Last known free capacity of the storage pools of all nodes.
+ * <br />
+ * Satellites push the free capacity of their storage pools after applying changes and whenever the free capacity of
+ * a thin pool changed noticeably (see {@link com.linbit.linstor.InternalApiConsts#API_UPDATE_FREE_CAPACITY}). Every
+ * fan-out of the {@link FreeCapacityFetcher} is merged as well. Autoplace, query-size-info and storage pool lists
+ * therefore only have to ask satellites whose entries are missing or older than the configured maximum age.
+ * <br />
+ * The entries of a node are replaced by the free capacities of the full sync response whenever its satellite
+ * (re-)connects.
+ */
+@Singleton
+public class FreeCapacityCache
+{
+    /**
+     * Entries that were not refreshed for this long most likely belong to deleted storage pools
+     */
+    private static final long EVICT_AFTER_NANOS = TimeUnit.HOURS.toNanos(1);
+    private static final long EVICT_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final long maxAgeNanos;
+    private final Map<StorPool.Key, CachedSpaceInfo> cache = new ConcurrentHashMap<>();
+
+    private volatile long lastEvict = System.nanoTime();
+
+    @Inject
+    public FreeCapacityCache(CtrlConfig ctrlCfgRef)
+    {
+        maxAgeNanos = TimeUnit.SECONDS.toNanos(ctrlCfgRef.getCacheFreeCapacityMaxAge());
+    }
+
+    public boolean isEnabled()
+    {
+        return maxAgeNanos > 0;
+    }
+
+    /**
+     * Merges the given space info into the cache.
+     *
+     * @param storPoolKey
+     * @param spaceInfo
+     * @param apiCallRcs Errors the satellite reported while querying the storage pool
+     * @param queriedAt {@link System#nanoTime()} from before the data was requested from or sent by the satellite
+     */
+    public void update(StorPool.Key storPoolKey, SpaceInfo spaceInfo, List<ApiCallRc> apiCallRcs, long queriedAt)
+    {
+        CachedSpaceInfo newEntry = new CachedSpaceInfo(spaceInfo, apiCallRcs, queriedAt);
+        cache.merge(
+            storPoolKey,
+            newEntry,
+            (oldEntry, ignored) -> oldEntry.queriedAt - queriedAt > 0 ? oldEntry : newEntry
+        );
+        evictOutdated(queriedAt);
+    }
+
+    /**
+     * Drops all entries of the given node
+     */
+    public void invalidate(NodeName nodeName)
+    {
+        cache.keySet().removeIf(storPoolKey -> storPoolKey.getNodeName().equals(nodeName));
+    }
+
+    /**
+     * Copies the cached space info of all given storage pools into <code>result</code>, but only if all of them are
+     * younger than the configured maximum age.
+     *
+     * @return true if all storage pools were found, false if the satellite has to be asked
+     */
+    public boolean getFresh(
+        Collection<StorPool.Key> storPoolKeys,
+        Map<StorPool.Key, Tuple2<SpaceInfo, List<ApiCallRc>>> result
+    )
+    {
+        long now = System.nanoTime();
+        Map<StorPool.Key, Tuple2<SpaceInfo, List<ApiCallRc>>> freshResults = new HashMap<>();
+        boolean allFresh = isEnabled();
+        Iterator<StorPool.Key> storPoolKeyIt = storPoolKeys.iterator();
+        while (allFresh && storPoolKeyIt.hasNext())
+        {
+            StorPool.Key storPoolKey = storPoolKeyIt.next();
+            CachedSpaceInfo cached = cache.get(storPoolKey);
+            allFresh = cached != null && now - cached.queriedAt <= maxAgeNanos;
+            if (allFresh)
+            {
+                freshResults.put(storPoolKey, Tuples.of(cached.spaceInfo, cached.apiCallRcs));
+            }
+        }
+        if (allFresh)
+        {
+            result.putAll(freshResults);
+        }
+        return allFresh;
+    }
+
+    private void evictOutdated(long now)
+    {
+        if (now - lastEvict > EVICT_INTERVAL_NANOS)
+        {
+            lastEvict = now;
+            cache.values().removeIf(cached -> now - cached.queriedAt > EVICT_AFTER_NANOS);
+        }
+    }
+
+    private static class CachedSpaceInfo
+    {
+        private final SpaceInfo spaceInfo;
+        private final List<ApiCallRc> apiCallRcs;
+        private final long queriedAt;
+
+        CachedSpaceInfo(SpaceInfo spaceInfoRef, List<ApiCallRc> apiCallRcsRef, long queriedAtRef)
+        {
+            spaceInfo = spaceInfoRef;
+            apiCallRcs = apiCallRcsRef;
+            queriedAt = queriedAtRef;
+        }
+    }
+}
@@ -37,6 +37,7 @@ import javax.inject.Singleton;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -47,6 +48,7 @@ import org.slf4j.MDC;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
+import reactor.util.function.Tuple3;
 import reactor.util.function.Tuples;
 
 @Singleton
@@ -59,6 +61,7 @@ public class FreeCapacityFetcherProto implements FreeCapacityFetcher
     private final CtrlApiDataLoader ctrlApiDataLoader;
     private final NodeRepository nodeRepository;
     private final Provider<AccessContext> peerAccCtx;
+    private final FreeCapacityCache freeCapacityCache;
 
     @Inject
     public FreeCapacityFetcherProto(
@@ -68,7 +71,8 @@ public class FreeCapacityFetcherProto implements FreeCapacityFetcher
         LockGuardFactory lockGuardFactoryRef,
         CtrlApiDataLoader ctrlApiDataLoaderRef,
         NodeRepository nodeRepositoryRef,
-        @PeerContext Provider<AccessContext> peerAccCtxRef
+        @PeerContext Provider<AccessContext> peerAccCtxRef,
+        FreeCapacityCache freeCapacityCacheRef
     )
     {
         apiCtx = apiCtxRef;
@@ -78,6 +82,7 @@ public class FreeCapacityFetcherProto implements FreeCapacityFetcher
         ctrlApiDataLoader = ctrlApiDataLoaderRef;
         nodeRepository = nodeRepositoryRef;
         peerAccCtx = peerAccCtxRef;
+        freeCapacityCache = freeCapacityCacheRef;
     }
 
     @Override
@@ -100,7 +105,7 @@ public class FreeCapacityFetcherProto implements FreeCapacityFetcher
         return scopeRunner.fluxInTransactionalScope(
             "Fetch thin capacity info",
             lockGuardFactory.buildDeferred(LockType.READ, LockObj.NODES_MAP, LockObj.STOR_POOL_DFN_MAP),
-            () -> assembleRequests(nodesFilter).flatMap(this::parseFreeSpaces),
+            () -> fetchInScope(nodesFilter),
             MDC.getCopyOfContextMap()
         )
             .collectMap(
@@ -109,7 +114,25 @@ public class FreeCapacityFetcherProto implements FreeCapacityFetcher
         );
     }
 
-    private Flux<Tuple2<NodeName, ByteArrayInputStream>> assembleRequests(Set<NodeName> nodesFilter)
+    private Flux<Tuple2<StorPool.Key, Tuple2<SpaceInfo, List<ApiCallRc>>>> fetchInScope(Set<NodeName> nodesFilter)
+        throws AccessDeniedException
+    {
+        Map<StorPool.Key, Tuple2<SpaceInfo, List<ApiCallRc>>> cached = new HashMap<>();
+        Flux<Tuple3<NodeName, Long, ByteArrayInputStream>> requests = assembleRequests(nodesFilter, cached);
+        return Flux.merge(
+            Flux.fromIterable(cached.entrySet()).map(entry -> Tuples.of(entry.getKey(), entry.getValue())),
+            requests.flatMap(this::parseFreeSpaces)
+        );
+    }
+
+    /**
+     * Only prepares requests for nodes of which at least one thin storage pool has no fresh entry in the
+     * {@link FreeCapacityCache}. The cached space info of all other nodes is added to <code>cached</code>.
+     */
+    private Flux<Tuple3<NodeName, Long, ByteArrayInputStream>> assembleRequests(
+        Set<NodeName> nodesFilter,
+        Map<StorPool.Key, Tuple2<SpaceInfo, List<ApiCallRc>>> cached
+    )
         throws AccessDeniedException
     {
         Stream<Node> nodeStream = nodesFilter.isEmpty() ?
@@ -118,17 +141,34 @@ public class FreeCapacityFetcherProto implements FreeCapacityFetcher
 
         Stream<Node> nodeWithThinStream = nodeStream.filter(this::hasThinPools);
 
-        List<Tuple2<NodeName, Flux<ByteArrayInputStream>>> nameAndRequests = nodeWithThinStream
-            .map(node -> Tuples.of(node.getName(), prepareFreeSpaceApiCall(node)))
+        List<Tuple3<NodeName, Long, Flux<ByteArrayInputStream>>> nameAndRequests = nodeWithThinStream
+            .filter(node -> !getFresh(node, cached))
+            .map(node -> Tuples.of(node.getName(), System.nanoTime(), prepareFreeSpaceApiCall(node)))
             .collect(Collectors.toList());
 
         return Flux
             .fromIterable(nameAndRequests)
-            .flatMap(nameAndRequest -> nameAndRequest.getT2()
-                .map(byteStream -> Tuples.of(nameAndRequest.getT1(), byteStream))
+            .flatMap(nameAndRequest -> nameAndRequest.getT3()
+                .map(byteStream -> Tuples.of(nameAndRequest.getT1(), nameAndRequest.getT2(), byteStream))
             );
     }
 
+    private boolean getFresh(Node node, Map<StorPool.Key, Tuple2<SpaceInfo, List<ApiCallRc>>> cached)
+    {
+        boolean fresh = false;
+        Peer peer = getPeer(node);
+        // disconnected satellites are skipped by the request as well
+        if (peer != null && peer.isOnline())
+        {
+            List<StorPool.Key> thinStorPoolKeys = streamStorPools(node)
+                .filter(storPool -> storPool.getDeviceProviderKind().usesThinProvisioning())
+                .map(StorPool.Key::new)
+                .collect(Collectors.toList());
+            fresh = freeCapacityCache.getFresh(thinStorPoolKeys, cached);
+        }
+        return fresh;
+    }
+
     private boolean hasThinPools(Node node)
     {
         return streamStorPools(node)
@@ -186,7 +226,7 @@ public class FreeCapacityFetcherProto implements FreeCapacityFetcher
     }
 
     private Flux<Tuple2<StorPool.Key, Tuple2<SpaceInfo, List<ApiCallRc>>>> parseFreeSpaces(
-        Tuple2<NodeName, ByteArrayInputStream> freeSpaceAnswer
+        Tuple3<NodeName, Long, ByteArrayInputStream> freeSpaceAnswer
     )
     {
         return scopeRunner.fluxInTransactionalScope(
@@ -197,14 +237,15 @@ public class FreeCapacityFetcherProto implements FreeCapacityFetcher
     }
 
     private Flux<Tuple2<StorPool.Key, Tuple2<SpaceInfo, List<ApiCallRc>>>> parseFreeSpacesInTransaction(
-        Tuple2<NodeName, ByteArrayInputStream> freeSpaceAnswer
+        Tuple3<NodeName, Long, ByteArrayInputStream> freeSpaceAnswer
     )
     {
         List<Tuple2<Key, Tuple2<SpaceInfo, List<ApiCallRc>>>> ret = new ArrayList<>();
         try
         {
             NodeName nodeName = freeSpaceAnswer.getT1();
-            ByteArrayInputStream freeSpaceMsgDataIn = freeSpaceAnswer.getT2();
+            long queriedAt = freeSpaceAnswer.getT2();
+            ByteArrayInputStream freeSpaceMsgDataIn = freeSpaceAnswer.getT3();
 
             MsgIntFreeSpace freeSpaces = MsgIntFreeSpace.parseDelimitedFrom(freeSpaceMsgDataIn);
             for (StorPoolFreeSpace freeSpaceInfo : freeSpaces.getFreeSpacesList())
@@ -230,15 +271,10 @@ public class FreeCapacityFetcherProto implements FreeCapacityFetcher
                 long freeCapacity = freeSpaceInfo.getFreeCapacity();
                 long totalCapacity = freeSpaceInfo.getTotalCapacity();
 
-                ret.add(
-                    Tuples.of(
-                        new StorPool.Key(nodeName, storPoolName),
-                        Tuples.of(
-                            new SpaceInfo(totalCapacity, freeCapacity),
-                            apiCallRcs
-                        )
-                    )
-                );
+                StorPool.Key storPoolKey = new StorPool.Key(nodeName, storPoolName);
+                SpaceInfo spaceInfo = new SpaceInfo(totalCapacity, freeCapacity);
+                ret.add(Tuples.of(storPoolKey, Tuples.of(spaceInfo, apiCallRcs)));
+                freeCapacityCache.update(storPoolKey, spaceInfo, apiCallRcs, queriedAt);
 
                 // also update storage pool's freespacemanager
                 StorPool storPool = nodeRepository.get(apiCtx, nodeName).getStorPool(apiCtx, storPoolName);
@@ -0,0 +1,122 @@
+package com.linbit.linstor.core.apicallhandler.controller;
+
+import com.linbit.linstor.core.cfg.CtrlConfig;
+import com.linbit.linstor.core.objects.Volume;
+import com.linbit.linstor.prometheus.CtrlMetricsCache;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Last known allocated sizes of thinly provisioned volumes.
+ * <br />
+ * The cache is filled by the satellites, which push the allocated sizes of the resources they just applied (see
+ * {@link com.linbit.linstor.InternalApiConsts#API_NOTIFY_VLM_ALLOCATED}), as well as by every fan-out of the
+ * {@link VlmAllocatedFetcher}. Every entry remembers when its data was queried on the satellite, so an older answer
+ * that arrives late never replaces newer data.
+ */
+@Singleton
+public class VlmAllocatedCache
+{
+    /**
+     * Entries that were not refreshed for this long most likely belong to deleted volumes
+     */
+    private static final long EVICT_AFTER_NANOS = TimeUnit.HOURS.toNanos(1);
+    private static final long EVICT_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final long maxAgeNanos;
+    private final CtrlMetricsCache metricsCache;
+    private final Map<Volume.Key, CachedVlmAllocated> cache = new ConcurrentHashMap<>();
+
+    private volatile long lastEvict = System.nanoTime();
+
+    @Inject
+    public VlmAllocatedCache(CtrlConfig ctrlCfgRef, CtrlMetricsCache metricsCacheRef)
+    {
+        maxAgeNanos = TimeUnit.SECONDS.toNanos(ctrlCfgRef.getCacheVlmAllocatedMaxAge());
+        metricsCache = metricsCacheRef;
+    }
+
+    public boolean isEnabled()
+    {
+        return maxAgeNanos > 0;
+    }
+
+    /**
+     * Merges the given results into the cache.
+     *
+     * @param vlmAllocated
+     * @param queriedAt {@link System#nanoTime()} from before the data was requested from the satellite
+     */
+    public void update(Map<Volume.Key, VlmAllocatedResult> vlmAllocated, long queriedAt)
+    {
+        for (Map.Entry<Volume.Key, VlmAllocatedResult> entry : vlmAllocated.entrySet())
+        {
+            CachedVlmAllocated newEntry = new CachedVlmAllocated(entry.getValue(), queriedAt);
+            cache.merge(
+                entry.getKey(),
+                newEntry,
+                (oldEntry, ignored) -> oldEntry.queriedAt - queriedAt > 0 ? oldEntry : newEntry
+            );
+        }
+        evictOutdated(queriedAt);
+        metricsCache.invalidate(CtrlMetricsCache.Section.RESOURCES);
+    }
+
+    /**
+     * Copies the cached results of all given volumes into <code>result</code>, but only if all of them are younger
+     * than the configured maximum age.
+     *
+     * @return true if all volumes were found, false if at least one volume has to be requested from the satellite
+     */
+    public boolean getFresh(Collection<Volume.Key> vlmKeys, Map<Volume.Key, VlmAllocatedResult> result)
+    {
+        long now = System.nanoTime();
+        Map<Volume.Key, VlmAllocatedResult> freshResults = new HashMap<>();
+        boolean allFresh = isEnabled();
+        Iterator<Volume.Key> vlmKeyIt = vlmKeys.iterator();
+        while (allFresh && vlmKeyIt.hasNext())
+        {
+            Volume.Key vlmKey = vlmKeyIt.next();
+            CachedVlmAllocated cached = cache.get(vlmKey);
+            allFresh = cached != null && now - cached.queriedAt <= maxAgeNanos;
+            if (allFresh)
+            {
+                freshResults.put(vlmKey, cached.result);
+            }
+        }
+        if (allFresh)
+        {
+            result.putAll(freshResults);
+        }
+        return allFresh;
+    }
+
+    private void evictOutdated(long now)
+    {
+        if (now - lastEvict > EVICT_INTERVAL_NANOS)
+        {
+            lastEvict = now;
+            cache.values().removeIf(cached -> now - cached.queriedAt > EVICT_AFTER_NANOS);
+        }
+    }
+
+    private static class CachedVlmAllocated
+    {
+        private final VlmAllocatedResult result;
+        private final long queriedAt;
+
+        CachedVlmAllocated(VlmAllocatedResult resultRef, long queriedAtRef)
+        {
+            result = resultRef;
+            queriedAt = queriedAtRef;
+        }
+    }
+}
@@ -17,4 +17,14 @@ public interface VlmAllocatedFetcher
         Set<StorPoolName> storPoolFilter,
         Set<ResourceName> resourceFilter
     );
+
+    /**
+     * Same as {@link #fetchVlmAllocated(Set, Set, Set)}, but satellites are only asked if the cached allocated size
+     * of at least one of their matching volumes is older than allowed by {@link VlmAllocatedCache}.
+     */
+    Mono<Map<Volume.Key, VlmAllocatedResult>> fetchVlmAllocatedCached(
+        Set<NodeName> nodesFilter,
+        Set<StorPoolName> storPoolFilter,
+        Set<ResourceName> resourceFilter
+    );
 }
@@ -18,7 +18,6 @@ import com.linbit.linstor.core.identifier.StorPoolName;
 import com.linbit.linstor.core.identifier.VolumeNumber;
 import com.linbit.linstor.core.objects.Node;
 import com.linbit.linstor.core.objects.Resource;
-import com.linbit.linstor.core.objects.ResourceDefinition;
 import com.linbit.linstor.core.objects.StorPool;
 import com.linbit.linstor.core.objects.Volume;
 import com.linbit.linstor.core.repository.NodeRepository;
@@ -37,8 +36,9 @@ import javax.inject.Named;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -51,8 +51,6 @@ import java.util.stream.Stream;
 import org.slf4j.MDC;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.util.function.Tuple2;
-import reactor.util.function.Tuples;
 
 @Singleton
 public class VlmAllocatedFetcherProto implements VlmAllocatedFetcher
@@ -65,6 +63,7 @@ public class VlmAllocatedFetcherProto implements VlmAllocatedFetcher
     private final CtrlApiDataLoader ctrlApiDataLoader;
     private final NodeRepository nodeRepository;
     private final Provider<AccessContext> peerAccCtx;
+    private final VlmAllocatedCache vlmAllocatedCache;
 
     @Inject
     public VlmAllocatedFetcherProto(
@@ -75,7 +74,8 @@ public class VlmAllocatedFetcherProto implements VlmAllocatedFetcher
         @Named(CoreModule.STOR_POOL_DFN_MAP_LOCK) ReadWriteLock storPoolDfnMapLockRef,
         CtrlApiDataLoader ctrlApiDataLoaderRef,
         NodeRepository nodeRepositoryRef,
-        @PeerContext Provider<AccessContext> peerAccCtxRef
+        @PeerContext Provider<AccessContext> peerAccCtxRef,
+        VlmAllocatedCache vlmAllocatedCacheRef
     )
     {
         scopeRunner = scopeRunnerRef;
@@ -86,6 +86,7 @@ public class VlmAllocatedFetcherProto implements VlmAllocatedFetcher
         ctrlApiDataLoader = ctrlApiDataLoaderRef;
         nodeRepository = nodeRepositoryRef;
         peerAccCtx = peerAccCtxRef;
+        vlmAllocatedCache = vlmAllocatedCacheRef;
     }
 
     @Override
@@ -94,23 +95,50 @@ public class VlmAllocatedFetcherProto implements VlmAllocatedFetcher
         Set<StorPoolName> storPoolFilter,
         Set<ResourceName> resourceFilter
     )
+    {
+        return fetchVlmAllocated(nodesFilter, storPoolFilter, resourceFilter, false);
+    }
+
+    @Override
+    public Mono<Map<Volume.Key, VlmAllocatedResult>> fetchVlmAllocatedCached(
+        Set<NodeName> nodesFilter,
+        Set<StorPoolName> storPoolFilter,
+        Set<ResourceName> resourceFilter
+    )
+    {
+        return fetchVlmAllocated(nodesFilter, storPoolFilter, resourceFilter, true);
+    }
+
+    private Mono<Map<Volume.Key, VlmAllocatedResult>> fetchVlmAllocated(
+        Set<NodeName> nodesFilter,
+        Set<StorPoolName> storPoolFilter,
+        Set<ResourceName> resourceFilter,
+        boolean useCache
+    )
     {
         return scopeRunner
             .fluxInTransactionlessScope(
                 "Fetch volume allocated",
                 LockGuard.createDeferred(
                     nodesMapLock.readLock(), rscDfnMapLock.readLock(), storPoolDfnMapLock.readLock()),
-                () -> requestVlmAllocated(nodesFilter, storPoolFilter, resourceFilter),
+                () -> requestVlmAllocated(nodesFilter, storPoolFilter, resourceFilter, useCache),
                 MDC.getCopyOfContextMap()
             )
-            .collect(Collectors.toList())
-            .map(this::parseVlmAllocated);
+            .reduceWith(
+                HashMap::new,
+                (vlmAllocatedCapacities, nodeVlmAllocated) ->
+                {
+                    vlmAllocatedCapacities.putAll(nodeVlmAllocated);
+                    return vlmAllocatedCapacities;
+                }
+            );
     }
 
-    private Flux<Tuple2<NodeName, ByteArrayInputStream>> requestVlmAllocated(
+    private Flux<Map<Volume.Key, VlmAllocatedResult>> requestVlmAllocated(
         Set<NodeName> nodesFilter,
         Set<StorPoolName> storPoolFilter,
-        Set<ResourceName> resourceFilter
+        Set<ResourceName> resourceFilter,
+        boolean useCache
     )
         throws AccessDeniedException
     {
@@ -118,20 +146,22 @@ public class VlmAllocatedFetcherProto implements VlmAllocatedFetcher
             nodeRepository.getMapForView(peerAccCtx.get()).values().stream() :
             nodesFilter.stream().map(nodeName -> ctrlApiDataLoader.loadNode(nodeName, true));
 
-        Stream<Node> nodeWithThinStream = nodeStream.filter(node -> hasThinVlms(node, storPoolFilter, resourceFilter));
-
-        List<Tuple2<NodeName, Flux<ByteArrayInputStream>>> nameAndRequests = nodeWithThinStream
-            .map(node -> Tuples.of(node.getName(), requestVlmAllocatedOnNode(node, storPoolFilter, resourceFilter)))
-            .collect(Collectors.toList());
+        Map<Volume.Key, VlmAllocatedResult> cachedVlmAllocated = new HashMap<>();
+        List<Flux<Map<Volume.Key, VlmAllocatedResult>>> requests = new ArrayList<>();
+        for (Node node : nodeStream.collect(Collectors.toList()))
+        {
+            List<Volume.Key> thinVlmKeys = getThinVlmKeys(node, storPoolFilter, resourceFilter);
+            if (!thinVlmKeys.isEmpty() &&
+                !(useCache && vlmAllocatedCache.getFresh(thinVlmKeys, cachedVlmAllocated)))
+            {
+                requests.add(requestVlmAllocatedOnNode(node, storPoolFilter, resourceFilter));
+            }
+        }
 
-        return Flux
-            .fromIterable(nameAndRequests)
-            .flatMap(nameAndRequest -> nameAndRequest.getT2()
-                .map(byteStream -> Tuples.of(nameAndRequest.getT1(), byteStream))
-            );
+        return Flux.concat(Flux.just(cachedVlmAllocated), Flux.merge(requests));
     }
 
-    private boolean hasThinVlms(
+    private List<Volume.Key> getThinVlmKeys(
         Node node,
         Set<StorPoolName> storPoolFilter,
         Set<ResourceName> resourceFilter
@@ -141,21 +171,27 @@ public class VlmAllocatedFetcherProto implements VlmAllocatedFetcher
             .filter(storPool -> storPool.getDeviceProviderKind().usesThinProvisioning())
             .filter(storPool -> storPoolFilter.isEmpty() || storPoolFilter.contains(storPool.getName()))
             .flatMap(this::streamVolumes)
-            .map(vlmData -> vlmData.getVolume().getResourceDefinition())
-            .map(ResourceDefinition::getName)
-            .anyMatch(rscName -> resourceFilter.isEmpty() || resourceFilter.contains(rscName));
+            .filter(vlmData -> resourceFilter.isEmpty() ||
+                resourceFilter.contains(vlmData.getVolume().getResourceDefinition().getName()))
+            .map(vlmData -> new Volume.Key(
+                node.getName(),
+                vlmData.getVolume().getResourceDefinition().getName(),
+                vlmData.getVlmNr()
+            ))
+            .collect(Collectors.toList());
     }
 
-    private Flux<ByteArrayInputStream> requestVlmAllocatedOnNode(
+    private Flux<Map<Volume.Key, VlmAllocatedResult>> requestVlmAllocatedOnNode(
         Node node,
         Set<StorPoolName> storPoolFilter,
         Set<ResourceName> resourceFilter
     )
     {
         Peer peer = getPeer(node);
-        Flux<ByteArrayInputStream> result = Flux.empty();
+        Flux<Map<Volume.Key, VlmAllocatedResult>> result = Flux.empty();
         if (peer != null)
         {
+            final long queriedAt = System.nanoTime();
             result = peer
                 .apiCall(
                     InternalApiConsts.API_REQUEST_VLM_ALLOCATED,
@@ -165,6 +201,8 @@ public class VlmAllocatedFetcherProto implements VlmAllocatedFetcher
                         resourceFilter
                     ).build()
                 )
+                .map(vlmAllocatedMsgDataIn -> parseVlmAllocated(node.getName(), vlmAllocatedMsgDataIn))
+                .doOnNext(nodeVlmAllocated -> vlmAllocatedCache.update(nodeVlmAllocated, queriedAt))
                 // No data from disconnected satellites
                 .onErrorResume(PeerNotConnectedException.class, ignored -> Flux.empty());
         }
@@ -225,41 +263,41 @@ public class VlmAllocatedFetcherProto implements VlmAllocatedFetcher
         return peer;
     }
 
-    private Map<Volume.Key, VlmAllocatedResult> parseVlmAllocated(
-        List<Tuple2<NodeName, ByteArrayInputStream>> vlmAllocatedAnswers)
+    /**
+     * Parses a {@link MsgIntVlmAllocated} sent by the satellite of the given node, either as answer of
+     * {@link InternalApiConsts#API_REQUEST_VLM_ALLOCATED} or with {@link InternalApiConsts#API_NOTIFY_VLM_ALLOCATED}
+     */
+    public static Map<Volume.Key, VlmAllocatedResult> parseVlmAllocated(
+        NodeName nodeName,
+        InputStream vlmAllocatedMsgDataIn
+    )
     {
         Map<Volume.Key, VlmAllocatedResult> vlmAllocatedCapacities = new HashMap<>();
 
         try
         {
-            for (Tuple2<NodeName, ByteArrayInputStream> vlmAllocatedAnswer : vlmAllocatedAnswers)
+            MsgIntVlmAllocated nodeVlmAllocated = MsgIntVlmAllocated.parseDelimitedFrom(vlmAllocatedMsgDataIn);
+            for (VlmAllocated vlmAllocated : nodeVlmAllocated.getAllocatedCapacitiesList())
             {
-                NodeName nodeName = vlmAllocatedAnswer.getT1();
-                ByteArrayInputStream vlmAllocatedMsgDataIn = vlmAllocatedAnswer.getT2();
-
-                MsgIntVlmAllocated nodeVlmAllocated = MsgIntVlmAllocated.parseDelimitedFrom(vlmAllocatedMsgDataIn);
-                for (VlmAllocated vlmAllocated : nodeVlmAllocated.getAllocatedCapacitiesList())
+                ApiCallRcImpl apiCallRc = new ApiCallRcImpl();
+                for (ApiCallResponse msgApiCallResponse : vlmAllocated.getErrorsList())
                 {
-                    ApiCallRcImpl apiCallRc = new ApiCallRcImpl();
-                    for (ApiCallResponse msgApiCallResponse : vlmAllocated.getErrorsList())
-                    {
-                        apiCallRc.addEntry(ProtoDeserializationUtils.parseApiCallRc(
-                            msgApiCallResponse,
-                            "Node: '" + nodeName +
-                                "', resource: '" + vlmAllocated.getRscName() +
-                                "', volume: " + vlmAllocated.getVlmNr() + " - "
-                        ));
-                    }
-
-                    vlmAllocatedCapacities.put(
-                        new Volume.Key(
-                            nodeName,
-                            new ResourceName(vlmAllocated.getRscName()),
-                            new VolumeNumber(vlmAllocated.getVlmNr())
-                        ),
-                        new VlmAllocatedResult(vlmAllocated.getAllocated(), apiCallRc)
-                    );
+                    apiCallRc.addEntry(ProtoDeserializationUtils.parseApiCallRc(
+                        msgApiCallResponse,
+                        "Node: '" + nodeName +
+                            "', resource: '" + vlmAllocated.getRscName() +
+                            "', volume: " + vlmAllocated.getVlmNr() + " - "
+                    ));
                 }
+
+                vlmAllocatedCapacities.put(
+                    new Volume.Key(
+                        nodeName,
+                        new ResourceName(vlmAllocated.getRscName()),
+                        new VolumeNumber(vlmAllocated.getVlmNr())
+                    ),
+                    new VlmAllocatedResult(vlmAllocated.getAllocated(), apiCallRc)
+                );
             }
         }
         catch (IOException | InvalidNameException | ValueOutOfRangeException exc)
@@ -33,4 +33,18 @@ public interface AutoplaceStrategy
     {
         return DFLT_WEIGHT;
     }
+
+    /**
+     * Returns the value {@link #rate(Collection, RatingAdditionalInfo)} would return for the given storage pool
+     * after a resource of the given size was placed on it, without rating the storage pool again.
+     * Used when several resources are placed in one pass.
+     *
+     * @param storPool The storage pool the resource was placed on
+     * @param value The previous value of the storage pool
+     * @param rscSizeKib The size of the placed resource
+     */
+    default double afterPlacement(StorPool storPool, double value, long rscSizeKib)
+    {
+        return value;
+    }
 }
@@ -18,9 +18,12 @@ import javax.inject.Singleton;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -61,14 +64,54 @@ public class Autoplacer
         @Nullable ResourceDefinition rscDfnRef,
         long rscSize
     )
+    {
+        return autoPlace(null, selectFilter, rscDfnRef, rscSize);
+    }
+
+    /**
+     * Creates a new batch for placing several resource definitions in one pass. The batch must only be used while
+     * the locks of the current transaction are held.
+     * <br />
+     * All selections of the batch share a single search budget, i.e. the whole batch searches at most as long as a
+     * single selection outside of a batch would.
+     *
+     * @param placementCountRef The number of selections expected for this batch
+     */
+    public AutoplaceBatch createBatch(int placementCountRef)
+    {
+        return new AutoplaceBatch(selector.createSearchBudget(), placementCountRef);
+    }
+
+    /**
+     * Same as {@link #autoPlace(AutoSelectFilterApi, ResourceDefinition, long)}, but the available storage pools are
+     * only listed and rated once per batch. The returned selection is accounted in the batch, i.e. later selections
+     * of the same batch see the reduced free space of the selected storage pools.
+     *
+     * @param batchRef The batch to use, or null to list and rate the storage pools for this selection only
+     */
+    public @Nullable Set<StorPool> autoPlace(
+        @Nullable AutoplaceBatch batchRef,
+        AutoSelectFilterApi selectFilter,
+        @Nullable ResourceDefinition rscDfnRef,
+        long rscSize
+    )
     {
         Set<StorPool> selection = null;
         try
         {
             Resource.Flags disklessType = Resource.Flags.valueOfOrNull(selectFilter.getDisklessType());
+            boolean diskful = disklessType == null;
 
             long start = System.currentTimeMillis();
-            ArrayList<StorPool> availableStorPools = filter.listAvailableStorPools(disklessType == null);
+            List<StorPool> availableStorPools;
+            if (batchRef == null)
+            {
+                availableStorPools = filter.listAvailableStorPools(diskful);
+            }
+            else
+            {
+                availableStorPools = batchRef.getAvailableStorPools(diskful);
+            }
 
             // 1: filter storage pools
             long startFilter = System.currentTimeMillis();
@@ -77,7 +120,8 @@ public class Autoplacer
                 availableStorPools,
                 rscDfnRef,
                 rscSize,
-                disklessType
+                disklessType,
+                batchRef == null ? Collections.emptyMap() : batchRef.reservedCapacities
             );
             errorReporter.logTrace(
                 "Autoplacer.Filter: Finished in %dms. %s StorPools remaining",
@@ -87,7 +131,15 @@ public class Autoplacer
 
             // 2: rate each storage pool with different weighted strategies
             long startRating = System.currentTimeMillis();
-            Collection<StorPoolWithScore> storPoolsWithScoreList = strategyHandler.rate(filteredStorPools);
+            Collection<StorPoolWithScore> storPoolsWithScoreList;
+            if (batchRef == null)
+            {
+                storPoolsWithScoreList = strategyHandler.rate(filteredStorPools);
+            }
+            else
+            {
+                storPoolsWithScoreList = batchRef.getRatingTable(diskful).rate(filteredStorPools);
+            }
             errorReporter.logTrace(
                 "Autoplacer.Strategy: Finished in %dms.",
                 System.currentTimeMillis() - startRating
@@ -98,7 +150,8 @@ public class Autoplacer
             Set<StorPoolWithScore> selectionWithScores = selector.select(
                 selectFilter,
                 rscDfnRef,
-                storPoolsWithScoreList
+                storPoolsWithScoreList,
+                batchRef == null ? selector.createSearchBudget() : batchRef.nextSearchBudget()
             );
             errorReporter.logTrace(
                 "Autoplacer.Selection: Finished in %dms.",
@@ -113,6 +166,10 @@ public class Autoplacer
                 {
                     selection.add(spWithScore.storPool);
                 }
+                if (batchRef != null)
+                {
+                    batchRef.afterPlacement(diskful, selection, rscSize);
+                }
             }
             errorReporter.logTrace(
                 "Autoplacer: Finished in %dms %s candidate",
@@ -181,6 +238,67 @@ public class Autoplacer
         return ret;
     }
 
+    /**
+     * Storage pools listed and rated once for placing several resource definitions, see {@link #createBatch()}
+     */
+    public class AutoplaceBatch
+    {
+        private final Map<Boolean, List<StorPool>> availableStorPools = new HashMap<>();
+        private final Map<Boolean, StrategyHandler.RatingTable> ratingTables = new HashMap<>();
+        /**
+         * Sizes of the resources placed by this batch, per thick storage pool
+         */
+        private final Map<StorPool, Long> reservedCapacities = new HashMap<>();
+        private final SearchBudget searchBudget;
+        private int remainingPlacements;
+
+        private AutoplaceBatch(SearchBudget searchBudgetRef, int placementCountRef)
+        {
+            searchBudget = searchBudgetRef;
+            remainingPlacements = placementCountRef;
+        }
+
+        private SearchBudget nextSearchBudget()
+        {
+            SearchBudget budget = searchBudget.share(remainingPlacements);
+            if (remainingPlacements > 1)
+            {
+                --remainingPlacements;
+            }
+            return budget;
+        }
+
+        private List<StorPool> getAvailableStorPools(boolean diskful)
+        {
+            return availableStorPools.computeIfAbsent(diskful, filter::listAvailableStorPools);
+        }
+
+        private StrategyHandler.RatingTable getRatingTable(boolean diskful) throws AccessDeniedException
+        {
+            StrategyHandler.RatingTable ratingTable = ratingTables.get(diskful);
+            if (ratingTable == null)
+            {
+                ratingTable = strategyHandler.prepareRating(getAvailableStorPools(diskful));
+                ratingTables.put(diskful, ratingTable);
+            }
+            return ratingTable;
+        }
+
+        private void afterPlacement(boolean diskful, Set<StorPool> selectionRef, long rscSize)
+        {
+            StrategyHandler.RatingTable ratingTable = ratingTables.get(diskful);
+            for (StorPool storPool : selectionRef)
+            {
+                // thin volumes do not allocate their size upfront
+                if (diskful && !storPool.getDeviceProviderKind().usesThinProvisioning())
+                {
+                    reservedCapacities.merge(storPool, rscSize, Long::sum);
+                }
+                ratingTable.afterPlacement(storPool, rscSize);
+            }
+        }
+    }
+
     static class StorPoolWithScore implements Comparable<StorPoolWithScore>
     {
         StorPool storPool;
@@ -0,0 +1,105 @@
+package com.linbit.linstor.core.apicallhandler.controller.autoplacer;
+
+import javax.annotation.Nullable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the time and the number of steps (tentatively selected storage pools) of a single selection search.
+ * <br />
+ * Once the budget is exhausted, the {@link SelectionManager} stops searching and the {@link Selector} uses the best
+ * selection found so far.
+ * <br />
+ * Several searches can share one budget, see {@link #share(int)}.
+ */
+class SearchBudget
+{
+    private static final long UNLIMITED = 0;
+
+    private final long maxSteps;
+    private final long startNanos;
+    private final long maxNanos;
+    private final @Nullable SearchBudget parent;
+
+    private long steps = 0;
+    private boolean exhausted = false;
+
+    /**
+     * @param maxMillisRef Maximum duration of the search in milliseconds, 0 for no limit
+     * @param maxStepsRef Maximum number of steps, 0 for no limit
+     */
+    SearchBudget(long maxMillisRef, long maxStepsRef)
+    {
+        this(TimeUnit.MILLISECONDS.toNanos(Math.max(UNLIMITED, maxMillisRef)), Math.max(UNLIMITED, maxStepsRef), null);
+    }
+
+    private SearchBudget(long maxNanosRef, long maxStepsRef, @Nullable SearchBudget parentRef)
+    {
+        maxNanos = maxNanosRef;
+        maxSteps = maxStepsRef;
+        parent = parentRef;
+        startNanos = System.nanoTime();
+    }
+
+    static SearchBudget unlimited()
+    {
+        return new SearchBudget(UNLIMITED, UNLIMITED);
+    }
+
+    /**
+     * Accounts one step of the search
+     *
+     * @return true if the budget is exhausted
+     */
+    boolean step()
+    {
+        steps++;
+        if (parent != null)
+        {
+            parent.step();
+        }
+        if (!exhausted)
+        {
+            exhausted = maxSteps != UNLIMITED && steps >= maxSteps ||
+                maxNanos != UNLIMITED && System.nanoTime() - startNanos >= maxNanos;
+        }
+        return exhausted;
+    }
+
+    boolean isExhausted()
+    {
+        return exhausted;
+    }
+
+    long getSteps()
+    {
+        return steps;
+    }
+
+    long getElapsedMillis()
+    {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Returns the budget for the next of the given number of searches sharing this budget. The remaining time and
+     * steps of this budget are split evenly, and the steps of the returned budget are accounted in this budget, too.
+     * Every search gets at least one millisecond and one step, so that it can select a first storage pool.
+     *
+     * @param remainingSearchesRef The number of searches (including the next one) still to be run with this budget
+     */
+    SearchBudget share(int remainingSearchesRef)
+    {
+        long parts = Math.max(1, remainingSearchesRef);
+        long sharedNanos = maxNanos == UNLIMITED ?
+            UNLIMITED :
+            Math.max(
+                TimeUnit.MILLISECONDS.toNanos(1),
+                (maxNanos - (System.nanoTime() - startNanos)) / parts
+            );
+        long sharedSteps = maxSteps == UNLIMITED ?
+            UNLIMITED :
+            Math.max(1, (maxSteps - steps) / parts);
+        return new SearchBudget(sharedNanos, sharedSteps, this);
+    }
+}
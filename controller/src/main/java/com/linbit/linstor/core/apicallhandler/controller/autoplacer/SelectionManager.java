@@ -22,6 +22,7 @@ import com.linbit.utils.StringUtils;
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -42,6 +43,11 @@ import java.util.Set;
  * -- replicas-on-same settings
  * -- replicas-on-different settings
  * - a selection can be reverted, even in parts
+ *
+ * The search skips storage pools whose node does not have the already decided values of the replicas-on-same
+ * properties (looked up in precomputed bitsets) and stops searching a branch as soon as the remaining storage pools
+ * cannot complete a valid selection. The node properties relevant for the selection are looked up only once per node.
+ * The search stops once its {@link SearchBudget} is exhausted.
  */
 public class SelectionManager
 {
@@ -63,6 +69,21 @@ public class SelectionManager
     private final LinkedList<State> selectionStack = new LinkedList<>();
     private final HashMap<String, Integer> xReplicasOnDiffCount = new HashMap<>();
 
+    private final SearchBudget budget;
+    /**
+     * Keys of the replicas-on-same and replicas-on-different properties
+     */
+    private final Set<String> selectionPropKeys = new HashSet<>();
+    /**
+     * Values of the {@link #selectionPropKeys} by node, only contains the keys a node has a value for
+     */
+    private final HashMap<Node, Map<String, String>> nodePropValues = new HashMap<>();
+    private final HashMap<Node, Version> drbdVersions = new HashMap<>();
+    /**
+     * Indexes of the storage pools in {@link #sortedStorPoolByScoreArr} by replicas-on-same key and value
+     */
+    private final HashMap<String, Map<String, BitSet>> samePropCandidates = new HashMap<>();
+
     public SelectionManager(
         AccessContext accessContextRef,
         ErrorReporter errorReporterRef,
@@ -76,10 +97,41 @@ public class SelectionManager
         boolean allowStorPoolMixingRef
     )
         throws AccessDeniedException
+    {
+        this(
+            accessContextRef,
+            errorReporterRef,
+            selectFilterRef,
+            alreadyDeployedOnNodesRef,
+            diskfulNodeCount,
+            disklessNodeCount,
+            alreadyDeployedInSharedSPNamesRef,
+            alreadyDeployedProviderKindsRef,
+            sortedStorPoolByScoreArrRef,
+            allowStorPoolMixingRef,
+            SearchBudget.unlimited()
+        );
+    }
+
+    SelectionManager(
+        AccessContext accessContextRef,
+        ErrorReporter errorReporterRef,
+        AutoSelectFilterApi selectFilterRef,
+        List<Node> alreadyDeployedOnNodesRef,
+        int diskfulNodeCount,
+        int disklessNodeCount,
+        List<SharedStorPoolName> alreadyDeployedInSharedSPNamesRef,
+        Map<DeviceProviderKind, List</* DrbdVersion */Version>> alreadyDeployedProviderKindsRef,
+        Autoplacer.StorPoolWithScore[] sortedStorPoolByScoreArrRef,
+        boolean allowStorPoolMixingRef,
+        SearchBudget budgetRef
+    )
+        throws AccessDeniedException
     {
         accessContext = accessContextRef;
         errorReporter = errorReporterRef;
         sortedStorPoolByScoreArr = sortedStorPoolByScoreArrRef;
+        budget = budgetRef;
 
         boolean tmpAllowMixing = allowStorPoolMixingRef;
         for (Node alreadyDeployedNode : alreadyDeployedOnNodesRef)
@@ -130,6 +182,46 @@ public class SelectionManager
                 initDiffProps
             )
         );
+
+        selectionPropKeys.addAll(initSameProps.keySet());
+        selectionPropKeys.addAll(initDiffProps.keySet());
+        for (int idx = 0; idx < sortedStorPoolByScoreArr.length; idx++)
+        {
+            Map<String, String> propValues = getNodePropValues(sortedStorPoolByScoreArr[idx].storPool.getNode());
+            for (String sameKey : initSameProps.keySet())
+            {
+                @Nullable String propValue = propValues.get(sameKey);
+                if (propValue != null)
+                {
+                    samePropCandidates.computeIfAbsent(sameKey, ignored -> new HashMap<>())
+                        .computeIfAbsent(propValue, ignored -> new BitSet(sortedStorPoolByScoreArr.length))
+                        .set(idx);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the values of the replicas-on-same and replicas-on-different keys of the given node
+     */
+    private Map<String, String> getNodePropValues(Node node) throws AccessDeniedException
+    {
+        Map<String, String> propValues = nodePropValues.get(node);
+        if (propValues == null)
+        {
+            propValues = new HashMap<>();
+            ReadOnlyProps nodeProps = node.getProps(accessContext);
+            for (String key : selectionPropKeys)
+            {
+                @Nullable String propValue = nodeProps.getProp(key);
+                if (propValue != null)
+                {
+                    propValues.put(key, propValue);
+                }
+            }
+            nodePropValues.put(node, propValues);
+        }
+        return propValues;
     }
 
     private HashMap<String, String> initializeSameProps(
@@ -340,12 +432,19 @@ public class SelectionManager
 
     private void findSelectionImpl(int startIdxRef) throws AccessDeniedException
     {
-        for (int idx = startIdxRef; idx < sortedStorPoolByScoreArr.length && !isComplete(); idx++)
+        // only storage pools on nodes with the already decided replicas-on-same values can be selected
+        final BitSet candidates = getSameCandidates();
+        for (
+            int idx = candidates.nextSetBit(startIdxRef);
+            idx >= 0 && !isComplete() && !budget.isExhausted() && canComplete(candidates, idx);
+            idx = candidates.nextSetBit(idx + 1)
+        )
         {
             Autoplacer.StorPoolWithScore currentSpWithScore = sortedStorPoolByScoreArr[idx];
-            if (isAllowed(currentSpWithScore.storPool))
+            if (isAllowed(currentSpWithScore.storPool) && checkDiffPropsCompletable(currentSpWithScore.storPool))
             {
                 select(currentSpWithScore);
+                budget.step();
                 findSelectionImpl(idx + 1);
                 if (!isComplete() || !isValid())
                 {
@@ -365,6 +464,43 @@ public class SelectionManager
         }
     }
 
+    /**
+     * Returns the indexes of the storage pools whose nodes have the values of all already decided replicas-on-same
+     * properties. Values of a property are only decided, never changed, so later selections can only narrow the set
+     */
+    private BitSet getSameCandidates()
+    {
+        final BitSet candidates = new BitSet(sortedStorPoolByScoreArr.length);
+        candidates.set(0, sortedStorPoolByScoreArr.length);
+        for (Map.Entry<String, String> sameProp : getCurrentState().sameProps.entrySet())
+        {
+            @Nullable String samePropValue = sameProp.getValue();
+            if (samePropValue != null)
+            {
+                @Nullable BitSet withValue = samePropCandidates.getOrDefault(sameProp.getKey(), Collections.emptyMap())
+                    .get(samePropValue);
+                if (withValue == null)
+                {
+                    candidates.clear();
+                }
+                else
+                {
+                    candidates.and(withValue);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Checks whether enough candidates starting with the given index are left to complete the current selection
+     */
+    private boolean canComplete(BitSet candidates, int startIdx)
+    {
+        int remainingCount = getCurrentState().remainingRscCountToSelect;
+        return candidates.get(startIdx, sortedStorPoolByScoreArr.length).cardinality() >= remainingCount;
+    }
+
     private boolean isComplete()
     {
         return getCurrentState().remainingRscCountToSelect <= 0;
@@ -502,7 +638,7 @@ public class SelectionManager
     private boolean checkSameProps(final StorPool spRef, final State curStateRef) throws AccessDeniedException
     {
         boolean isAllowed = true;
-        final ReadOnlyProps nodePropsRef = spRef.getNode().getProps(accessContext);
+        final Map<String, String> nodePropValuesRef = getNodePropValues(spRef.getNode());
 
         Iterator<Map.Entry<String, String>> samePropEntrySetIterator = curStateRef.sameProps.entrySet().iterator();
         while (isAllowed && samePropEntrySetIterator.hasNext())
@@ -511,7 +647,7 @@ public class SelectionManager
             @Nullable String samePropValue = sameProp.getValue();
             if (samePropValue != null)
             {
-                String nodePropValue = nodePropsRef.getProp(sameProp.getKey());
+                @Nullable String nodePropValue = nodePropValuesRef.get(sameProp.getKey());
                 // if the node does not have the property, do not allow selecting this storage pool
                 isAllowed = nodePropValue != null && nodePropValue.equals(samePropValue);
                 if (!isAllowed)
@@ -537,14 +673,14 @@ public class SelectionManager
     {
         boolean isAllowed = true;
 
-        final ReadOnlyProps nodeProps = spRef.getNode().getProps(accessContext);
+        final Map<String, String> nodePropValuesRef = getNodePropValues(spRef.getNode());
         Iterator<Entry<String, Map<String, Integer>>> diffPropEntrySetIt = curStateRef.diffProps.entrySet().iterator();
         while (isAllowed && diffPropEntrySetIt.hasNext())
         {
             Map.Entry<String, Map<String, Integer>> diffProp = diffPropEntrySetIt.next();
 
             String propKey = diffProp.getKey();
-            @Nullable String nodePropValue = nodeProps.getProp(propKey);
+            @Nullable String nodePropValue = nodePropValuesRef.get(propKey);
             if (nodePropValue != null)
             {
                 Map<String, Integer> diffPropValueAndRemainingCount = diffProp.getValue();
@@ -578,11 +714,67 @@ public class SelectionManager
         return isAllowed;
     }
 
+    /**
+     * Checks whether a selection containing the given storage pool can still become valid (see {@link #isValid()}).
+     * Every further selected storage pool fills up at most one group of every replicas-on-different property, so all
+     * but the largest partially filled group must be fillable by the storage pools that are still to be selected.
+     * Without this check, such selections would only be discarded once they are complete.
+     */
+    private boolean checkDiffPropsCompletable(final StorPool spRef) throws AccessDeniedException
+    {
+        final State curState = getCurrentState();
+        final int remainingAfterSelect = curState.remainingRscCountToSelect - 1;
+        final Map<String, String> nodePropValuesRef = getNodePropValues(spRef.getNode());
+
+        boolean isCompletable = true;
+        Iterator<Entry<String, Map<String, Integer>>> diffPropEntrySetIt = curState.diffProps.entrySet().iterator();
+        while (isCompletable && diffPropEntrySetIt.hasNext())
+        {
+            Map.Entry<String, Map<String, Integer>> diffProp = diffPropEntrySetIt.next();
+            String propKey = diffProp.getKey();
+            @Nullable String nodePropValue = nodePropValuesRef.get(propKey);
+
+            Map<String, Integer> remainingCounts = new HashMap<>(diffProp.getValue());
+            if (nodePropValue != null)
+            {
+                // same update as in select
+                int remainingCount = remainingCounts.getOrDefault(
+                    nodePropValue,
+                    xReplicasOnDiffCount.getOrDefault(propKey, X_REPLICAS_DFLT_COUNT)
+                );
+                remainingCounts.put(nodePropValue, remainingCount - 1);
+            }
+
+            int partiallyFilledSum = 0;
+            int partiallyFilledMax = 0;
+            for (Integer remainingCount : remainingCounts.values())
+            {
+                if (remainingCount > 0)
+                {
+                    partiallyFilledSum += remainingCount;
+                    partiallyFilledMax = Math.max(partiallyFilledMax, remainingCount);
+                }
+            }
+            isCompletable = partiallyFilledSum - partiallyFilledMax <= remainingAfterSelect;
+            if (!isCompletable)
+            {
+                logNotSelecting(
+                    spRef,
+                    String.format(
+                        "the groups of property '%s' could not be filled up anymore",
+                        propKey
+                    )
+                );
+            }
+        }
+        return isCompletable;
+    }
+
     private void select(Autoplacer.StorPoolWithScore currentSpWithScoreRef) throws AccessDeniedException
     {
         final State curState = getCurrentState();
         final StorPool curSp = currentSpWithScoreRef.storPool;
-        final ReadOnlyProps nodeProps = curSp.getNode().getProps(accessContext);
+        final Map<String, String> nodePropValuesRef = getNodePropValues(curSp.getNode());
 
         errorReporter.logTrace(
             "Autoplacer.Selector: Adding StorPool '%s' on Node '%s' to current selection",
@@ -597,7 +789,7 @@ public class SelectionManager
             if (sameProp.getValue() == null)
             {
                 String key = sameProp.getKey();
-                String propValue = nodeProps.getProp(key);
+                @Nullable String propValue = nodePropValuesRef.get(key);
                 if (propValue != null)
                 {
                     updatedSameProps.put(key, propValue);
@@ -611,7 +803,7 @@ public class SelectionManager
         {
             String key = diffProp.getKey();
             Map<String, Integer> valuesCopy = new HashMap<>(diffProp.getValue());
-            String propValue = nodeProps.getProp(key);
+            @Nullable String propValue = nodePropValuesRef.get(key);
             if (propValue != null)
             {
                 @Nullable Integer remainingCount = valuesCopy.get(propValue);
@@ -649,7 +841,17 @@ public class SelectionManager
 
     private Version getDrbdVersion(Node node) throws AccessDeniedException
     {
-        return node.getPeer(accessContext).getExtToolsManager().getVersion(ExtTools.DRBD9_KERNEL);
+        final Version drbdVersion;
+        if (drbdVersions.containsKey(node))
+        {
+            drbdVersion = drbdVersions.get(node);
+        }
+        else
+        {
+            drbdVersion = node.getPeer(accessContext).getExtToolsManager().getVersion(ExtTools.DRBD9_KERNEL);
+            drbdVersions.put(node, drbdVersion);
+        }
+        return drbdVersion;
     }
 
     private <T> HashSet<T> add(Set<T> unmodifiableSetRef, T additionalElementRef)
@@ -6,6 +6,7 @@ import com.linbit.linstor.annotation.SystemContext;
 import com.linbit.linstor.api.ApiConsts;
 import com.linbit.linstor.api.interfaces.AutoSelectFilterApi;
 import com.linbit.linstor.core.apicallhandler.controller.autoplacer.Autoplacer.StorPoolWithScore;
+import com.linbit.linstor.core.cfg.CtrlConfig;
 import com.linbit.linstor.core.identifier.SharedStorPoolName;
 import com.linbit.linstor.core.objects.Node;
 import com.linbit.linstor.core.objects.Resource;
@@ -47,19 +48,38 @@ class Selector
     private final AccessContext apiCtx;
     private final ErrorReporter errorReporter;
     private final SystemConfRepository sysCfgRepo;
+    private final CtrlConfig ctrlCfg;
 
     @Inject
-    Selector(@SystemContext AccessContext apiCtxRef, ErrorReporter errorReporterRef, SystemConfRepository sysCfgRepoRef)
+    Selector(
+        @SystemContext AccessContext apiCtxRef,
+        ErrorReporter errorReporterRef,
+        SystemConfRepository sysCfgRepoRef,
+        CtrlConfig ctrlCfgRef
+    )
     {
         apiCtx = apiCtxRef;
         errorReporter = errorReporterRef;
         sysCfgRepo = sysCfgRepoRef;
+        ctrlCfg = ctrlCfgRef;
+    }
+
+    /**
+     * Creates the budget for a single search, as configured by [autoplacer] search_time_budget and search_step_budget
+     */
+    SearchBudget createSearchBudget()
+    {
+        return new SearchBudget(
+            ctrlCfg.getAutoplacerSearchTimeBudget(),
+            ctrlCfg.getAutoplacerSearchStepBudget()
+        );
     }
 
     public Set<StorPoolWithScore> select(
         AutoSelectFilterApi selectFilterRef,
         @Nullable ResourceDefinition rscDfnRef,
-        Collection<StorPoolWithScore> storPoolWithScores
+        Collection<StorPoolWithScore> storPoolWithScores,
+        SearchBudget budgetRef
     )
         throws AccessDeniedException
     {
@@ -221,7 +241,8 @@ class Selector
             alreadyDeployedInSharedSPNames,
             alreadyDeployedKindsAndVersion,
             sortedStorPoolByScoreArr,
-            allowMixing
+            allowMixing,
+            budgetRef
         );
         final int additionalReplicaCount = selectionManager.getAdditionalRscCountToSelect();
         errorReporter.logTrace(
@@ -315,7 +336,20 @@ class Selector
                 errorReporter.logTrace("Autoplacer.Selector: no more candidates found");
             }
         }
-        while (currentSelection.size() == additionalReplicaCount && keepSearchingForCandidates);
+        while (currentSelection.size() == additionalReplicaCount && keepSearchingForCandidates &&
+            !budgetRef.isExhausted());
+
+        if (budgetRef.isExhausted())
+        {
+            errorReporter.logWarning(
+                "Autoplacer.Selector: Search budget exhausted after %d steps and %d ms, %s",
+                budgetRef.getSteps(),
+                budgetRef.getElapsedMillis(),
+                selectionResult == null ?
+                    "no valid selection found" :
+                    "using the best selection found so far"
+            );
+        }
 
         return selectionResult;
     }
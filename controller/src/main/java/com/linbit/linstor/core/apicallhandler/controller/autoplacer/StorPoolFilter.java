@@ -153,6 +153,31 @@ public class StorPoolFilter
         @Nullable Resource.Flags disklessTypeRef
     )
         throws AccessDeniedException
+    {
+        return filter(
+            selectFilter,
+            availableStorPoolsRef,
+            rscDfnRef,
+            sizeInKib,
+            disklessTypeRef,
+            Collections.emptyMap()
+        );
+    }
+
+    /**
+     * Same as {@link #filter(AutoSelectFilterApi, List, ResourceDefinition, long, Resource.Flags)}, but the free
+     * space last reported for the storage pools is reduced by the given capacities, i.e. the sizes of resources placed
+     * in the current transaction that the satellites do not know about yet
+     */
+    public ArrayList<StorPool> filter(
+        AutoSelectFilterApi selectFilter,
+        List<StorPool> availableStorPoolsRef,
+        @Nullable ResourceDefinition rscDfnRef,
+        long sizeInKib,
+        @Nullable Resource.Flags disklessTypeRef,
+        Map<StorPool, Long> reservedCapacitiesRef
+    )
+        throws AccessDeniedException
     {
         ArrayList<ReadOnlyProps> alreadyDeployedNodesProps = new ArrayList<>();
         if (rscDfnRef != null)
@@ -505,6 +530,22 @@ public class StorPoolFilter
                             true
                         )
                         .orElse(0L);
+                    long reservedCapacity = reservedCapacitiesRef.getOrDefault(sp, 0L);
+                    if (reservedCapacity > 0)
+                    {
+                        // the estimation already accounts the new volumes against the total capacity, but the free
+                        // space last reported by the satellite does not know about them yet
+                        long lastFreeCapacity = FreeCapacityAutoPoolSelectorUtils
+                            .getFreeCapacityCurrentEstimationPrivileged(
+                                apiAccCtx,
+                                null,
+                                sp,
+                                ctrlPropsHelper.getCtrlPropsForView(),
+                                false
+                            )
+                            .orElse(0L);
+                        freeCapacity = Math.min(freeCapacity, lastFreeCapacity - reservedCapacity);
+                    }
                     storPoolMatches = freeCapacity >= sizeInKib;
                     if (!storPoolMatches)
                     {
@@ -72,72 +72,135 @@ class StrategyHandler
     )
         throws AccessDeniedException
     {
-        RatingAdditionalInfo additionalInfo = new RatingAdditionalInfo();
+        return prepareRating(storPoolListRef).rate(storPoolListRef);
+    }
 
-        Map<AutoplaceStrategy, Double> strategyWeights = getWeights();
+    /**
+     * Rates the given storage pools with every strategy. The returned {@link RatingTable} can score any subset of the
+     * given storage pools and account placed resources without rating the storage pools again.
+     */
+    RatingTable prepareRating(Collection<StorPool> storPoolListRef) throws AccessDeniedException
+    {
+        RatingAdditionalInfo additionalInfo = new RatingAdditionalInfo();
 
-        Map<StorPool, StorPoolWithScore> lut = new HashMap<>();
+        Map<AutoplaceStrategy, Map<StorPool, Double>> rawValues = new HashMap<>();
         for (AutoplaceStrategy strat : strategies)
         {
-            String stratName = strat.getName();
-            double weight = strategyWeights.get(strat);
+            rawValues.put(strat, new HashMap<>(strat.rate(storPoolListRef, additionalInfo)));
+        }
+        return new RatingTable(getWeights(), rawValues);
+    }
+
+    /**
+     * Values of every strategy for a set of storage pools, see {@link StrategyHandler#prepareRating(Collection)}
+     */
+    class RatingTable
+    {
+        private final Map<AutoplaceStrategy, Double> strategyWeights;
+        private final Map<AutoplaceStrategy, Map<StorPool, Double>> rawValues;
 
-            Map<StorPool, Double> stratRate = strat.rate(storPoolListRef, additionalInfo);
+        private RatingTable(
+            Map<AutoplaceStrategy, Double> strategyWeightsRef,
+            Map<AutoplaceStrategy, Map<StorPool, Double>> rawValuesRef
+        )
+        {
+            strategyWeights = strategyWeightsRef;
+            rawValues = rawValuesRef;
+        }
 
-            double highestValue = Double.NEGATIVE_INFINITY;
-            for (Double stratValue : stratRate.values())
+        /**
+         * Scores the given storage pools. The values of every strategy are normalized to the highest value among the
+         * given storage pools.
+         */
+        Collection<StorPoolWithScore> rate(Collection<StorPool> storPoolListRef)
+        {
+            Map<StorPool, StorPoolWithScore> lut = new HashMap<>();
+            for (AutoplaceStrategy strat : strategies)
             {
-                if (highestValue < stratValue && stratValue != 0.0)
+                String stratName = strat.getName();
+                double weight = strategyWeights.get(strat);
+
+                Map<StorPool, Double> allValues = rawValues.get(strat);
+                Map<StorPool, Double> stratRate = new HashMap<>();
+                for (StorPool sp : storPoolListRef)
                 {
-                    highestValue = stratValue;
+                    Double stratValue = allValues.get(sp);
+                    if (stratValue != null)
+                    {
+                        stratRate.put(sp, stratValue);
+                    }
                 }
-            }
-
-            if (!stratRate.isEmpty())
-            {
-                errorReporter.logTrace(
-                    "Autoplacer.Strategy: Scores of strategy '%s', weight: %f: " +
-                        "(raw score, normalized score, weighted final score)",
-                    stratName,
-                    weight
-                );
-            }
-            for (Entry<StorPool, Double> rate : stratRate.entrySet())
-            {
-                StorPool sp = rate.getKey();
-                StorPoolWithScore prevRating = lut.get(sp);
-                double stratValue = rate.getValue();
 
-                if (prevRating == null)
+                double highestValue = Double.NEGATIVE_INFINITY;
+                for (Double stratValue : stratRate.values())
                 {
-                    prevRating = new StorPoolWithScore(sp, 0);
-                    lut.put(sp, prevRating);
+                    if (highestValue < stratValue && stratValue != 0.0)
+                    {
+                        highestValue = stratValue;
+                    }
                 }
-                // normalize and weight the value
-                double normalizedVal;
-                if (highestValue != Double.NEGATIVE_INFINITY)
+
+                if (!stratRate.isEmpty())
                 {
-                    normalizedVal = stratValue / highestValue;
+                    errorReporter.logTrace(
+                        "Autoplacer.Strategy: Scores of strategy '%s', weight: %f: " +
+                            "(raw score, normalized score, weighted final score)",
+                        stratName,
+                        weight
+                    );
                 }
-                else
+                for (Entry<StorPool, Double> rate : stratRate.entrySet())
                 {
-                    normalizedVal = stratValue;
+                    StorPool sp = rate.getKey();
+                    StorPoolWithScore prevRating = lut.get(sp);
+                    double stratValue = rate.getValue();
+
+                    if (prevRating == null)
+                    {
+                        prevRating = new StorPoolWithScore(sp, 0);
+                        lut.put(sp, prevRating);
+                    }
+                    // normalize and weight the value
+                    double normalizedVal;
+                    if (highestValue != Double.NEGATIVE_INFINITY)
+                    {
+                        normalizedVal = stratValue / highestValue;
+                    }
+                    else
+                    {
+                        normalizedVal = stratValue;
+                    }
+                    double normalizdWeightedVal = normalizedVal * weight;
+                    prevRating.score += normalizdWeightedVal;
+                    errorReporter.logTrace(
+                        "Autoplacer.Strategy: Updated score of StorPool '%s' on Node '%s' to %f (%f, %f, %f)",
+                        sp.getName().displayValue,
+                        sp.getNode().getName().displayValue,
+                        prevRating.score,
+                        stratValue,
+                        normalizedVal,
+                        normalizdWeightedVal
+                    );
                 }
-                double normalizdWeightedVal = normalizedVal * weight;
-                prevRating.score += normalizdWeightedVal;
-                errorReporter.logTrace(
-                    "Autoplacer.Strategy: Updated score of StorPool '%s' on Node '%s' to %f (%f, %f, %f)",
-                    sp.getName().displayValue,
-                    sp.getNode().getName().displayValue,
-                    prevRating.score,
-                    stratValue,
-                    normalizedVal,
-                    normalizdWeightedVal
-                );
             }
+
+            return lut.values();
         }
 
-        return lut.values();
+        /**
+         * Updates the values of the given storage pool as if it was rated again after a resource of the given size
+         * was placed on it
+         */
+        void afterPlacement(StorPool storPoolRef, long rscSizeKibRef)
+        {
+            for (AutoplaceStrategy strat : strategies)
+            {
+                rawValues.get(strat).computeIfPresent(
+                    storPoolRef,
+                    (sp, value) -> strat.afterPlacement(sp, value, rscSizeKibRef)
+                );
+            }
+        }
     }
 
     private Map<AutoplaceStrategy, Double> getWeights() throws AccessDeniedException
@@ -58,4 +58,16 @@ public class MaximumFreeSpaceStrategy implements AutoplaceStrategy
         }
         return ret;
     }
+
+    @Override
+    public double afterPlacement(StorPool storPoolRef, double valueRef, long rscSizeKibRef)
+    {
+        double ret = valueRef;
+        // thin volumes do not allocate their size upfront
+        if (!storPoolRef.getDeviceProviderKind().usesThinProvisioning())
+        {
+            ret = Math.max(0, valueRef - rscSizeKibRef);
+        }
+        return ret;
+    }
 }
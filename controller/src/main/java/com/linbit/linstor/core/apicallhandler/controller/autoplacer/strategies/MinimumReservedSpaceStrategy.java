@@ -68,6 +68,12 @@ public class MinimumReservedSpaceStrategy implements AutoplaceStrategy
         return ret;
     }
 
+    @Override
+    public double afterPlacement(StorPool storPoolRef, double valueRef, long rscSizeKibRef)
+    {
+        return storPoolRef.getDeviceProviderKind().hasBackingDevice() ? valueRef + rscSizeKibRef : valueRef;
+    }
+
     @Override
     public String getName()
     {
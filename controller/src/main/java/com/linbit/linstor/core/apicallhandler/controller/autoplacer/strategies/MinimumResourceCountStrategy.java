@@ -54,6 +54,12 @@ public class MinimumResourceCountStrategy implements AutoplaceStrategy
         return ret;
     }
 
+    @Override
+    public double afterPlacement(StorPool storPoolRef, double valueRef, long rscSizeKibRef)
+    {
+        return valueRef + 1;
+    }
+
     @Override
     public String getName()
     {
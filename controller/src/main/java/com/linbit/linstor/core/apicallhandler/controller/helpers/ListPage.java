@@ -0,0 +1,49 @@
+package com.linbit.linstor.core.apicallhandler.controller.helpers;
+
+/**
+ * Counts the elements matching the filters of a list call and decides which of them belong to the page requested
+ * by the limit and offset parameters of the REST API. This allows the list calls to only build the API data of the
+ * elements that are actually returned.
+ */
+public class ListPage
+{
+    private final int offset;
+    private final int limit;
+    private int matchCount;
+
+    /**
+     * @param offsetRef number of matching elements to skip
+     * @param limitRef maximum number of elements of the page, 0 for all
+     */
+    public ListPage(int offsetRef, int limitRef)
+    {
+        offset = Math.max(offsetRef, 0);
+        limit = limitRef;
+        matchCount = 0;
+    }
+
+    public static ListPage all()
+    {
+        return new ListPage(0, 0);
+    }
+
+    /**
+     * Counts the next matching element.
+     *
+     * @return true if the element is within the requested page and therefore has to be added to the list
+     */
+    public boolean nextMatchInPage()
+    {
+        boolean inPage = matchCount >= offset && (limit <= 0 || matchCount < (long) offset + limit);
+        ++matchCount;
+        return inPage;
+    }
+
+    /**
+     * @return true if no further element can be within the requested page
+     */
+    public boolean isComplete()
+    {
+        return limit > 0 && matchCount >= (long) offset + limit;
+    }
+}
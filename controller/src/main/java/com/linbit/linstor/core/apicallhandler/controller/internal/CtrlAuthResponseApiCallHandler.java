@@ -7,6 +7,7 @@ import com.linbit.linstor.api.ApiCallRc;
 import com.linbit.linstor.api.ApiCallRc.RcEntry;
 import com.linbit.linstor.api.ApiCallRcImpl;
 import com.linbit.linstor.api.ApiConsts;
+import com.linbit.linstor.api.pojo.HeldObjectsPojo;
 import com.linbit.linstor.api.prop.Property;
 import com.linbit.linstor.core.LinStor;
 import com.linbit.linstor.core.apicallhandler.ScopeRunner;
@@ -89,6 +90,7 @@ public class CtrlAuthResponseApiCallHandler
         List<ExtToolsInfo> externalToolsInfoList,
         StltConfig stltConfig,
         List<Property> dynamicPropListRef,
+        HeldObjectsPojo heldObjectsRef,
         boolean waitForFullSyncAnswerRef
     )
     {
@@ -107,6 +109,7 @@ public class CtrlAuthResponseApiCallHandler
                 externalToolsInfoList,
                 stltConfig,
                 dynamicPropListRef,
+                heldObjectsRef,
                 waitForFullSyncAnswerRef
             ),
             MDC.getCopyOfContextMap()
@@ -125,6 +128,7 @@ public class CtrlAuthResponseApiCallHandler
         List<ExtToolsInfo> externalToolsInfoList,
         StltConfig stltConfig,
         List<Property> dynamicPropListRef,
+        HeldObjectsPojo heldObjectsRef,
         boolean waitForFullSyncAnswerRef
     )
     {
@@ -204,7 +208,8 @@ public class CtrlAuthResponseApiCallHandler
                 flux = ctrlFullSyncApiCallHandler.sendFullSync(
                     node,
                     expectedFullSyncId,
-                    waitForFullSyncAnswerRef
+                    waitForFullSyncAnswerRef,
+                    heldObjectsRef
                 );
 
                 try
@@ -8,15 +8,21 @@ import com.linbit.linstor.api.ApiCallRcImpl;
 import com.linbit.linstor.api.ApiConsts;
 import com.linbit.linstor.api.interfaces.serializer.CtrlStltSerializer;
 import com.linbit.linstor.api.interfaces.serializer.CtrlStltSerializer.CtrlStltSerializerBuilder;
+import com.linbit.linstor.api.pojo.HeldObjectsPojo;
+import com.linbit.linstor.api.pojo.ObjectRefPojo;
+import com.linbit.linstor.api.protobuf.ProtoObjectRefs;
 import com.linbit.linstor.api.protobuf.internal.IntFullSyncResponse;
 import com.linbit.linstor.core.CoreModule;
 import com.linbit.linstor.core.apicallhandler.ScopeRunner;
+import com.linbit.linstor.core.objects.AbsCoreObj;
 import com.linbit.linstor.core.objects.ExternalFile;
 import com.linbit.linstor.core.objects.Node;
 import com.linbit.linstor.core.objects.Resource;
 import com.linbit.linstor.core.objects.Snapshot;
 import com.linbit.linstor.core.objects.StorPool;
 import com.linbit.linstor.core.objects.remotes.AbsRemote;
+import com.linbit.linstor.core.objects.remotes.EbsRemote;
+import com.linbit.linstor.core.objects.remotes.S3Remote;
 import com.linbit.linstor.core.repository.ExternalFileRepository;
 import com.linbit.linstor.core.repository.RemoteRepository;
 import com.linbit.linstor.logging.ErrorReporter;
@@ -30,12 +36,14 @@ import com.linbit.linstor.utils.externaltools.ExtToolsManager;
 import com.linbit.locks.LockGuard;
 import com.linbit.utils.StringUtils;
 
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -43,6 +51,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
 
 import org.slf4j.MDC;
 import reactor.core.publisher.Flux;
@@ -66,6 +76,7 @@ public class CtrlFullSyncApiCallHandler
     private final RemoteRepository remoteRepo;
     private final IntFullSyncResponse fullSyncResponse;
     private final ExternalFileRepository externalFilesRepo;
+    private final CtrlObjectVersions objectVersions;
 
     @Inject
     CtrlFullSyncApiCallHandler(
@@ -80,7 +91,8 @@ public class CtrlFullSyncApiCallHandler
         @Named(CoreModule.REMOTE_MAP_LOCK) ReadWriteLock remoteMapLockRef,
         IntFullSyncResponse fullSyncResponseRef,
         ExternalFileRepository externalFilesRepoRef,
-        RemoteRepository remoteRepoRef
+        RemoteRepository remoteRepoRef,
+        CtrlObjectVersions objectVersionsRef
     )
     {
         errorReporter = errorReporterRef;
@@ -95,6 +107,7 @@ public class CtrlFullSyncApiCallHandler
         remoteRepo = remoteRepoRef;
         fullSyncResponse = fullSyncResponseRef;
         externalFilesRepo = externalFilesRepoRef;
+        objectVersions = objectVersionsRef;
     }
 
     public Flux<?> sendFullSync(Node satelliteNode, long expectedFullSyncId)
@@ -103,6 +116,21 @@ public class CtrlFullSyncApiCallHandler
     }
 
     public Flux<ApiCallRc> sendFullSync(Node satelliteNode, long expectedFullSyncId, boolean waitForAnswer)
+    {
+        return sendFullSync(satelliteNode, expectedFullSyncId, waitForAnswer, HeldObjectsPojo.none());
+    }
+
+    /**
+     * @param heldObjects the objects the satellite reported to still hold from its last full sync. If they were
+     *     synced from the current {@link CtrlObjectVersions#getEpoch() epoch}, a delta full sync is sent which does
+     *     not serialize the objects that did not change since.
+     */
+    public Flux<ApiCallRc> sendFullSync(
+        Node satelliteNode,
+        long expectedFullSyncId,
+        boolean waitForAnswer,
+        HeldObjectsPojo heldObjects
+    )
     {
         Peer peer;
         try
@@ -123,16 +151,24 @@ public class CtrlFullSyncApiCallHandler
                 remoteMapLock.readLock(),
                 peer.getSerializerLock().writeLock()
             ),
-            () -> sendFullSyncInScope(satelliteNode, expectedFullSyncId, waitForAnswer),
+            () -> sendFullSyncInScope(satelliteNode, expectedFullSyncId, waitForAnswer, heldObjects),
             MDC.getCopyOfContextMap()
         );
     }
 
-    private Flux<ApiCallRc> sendFullSyncInScope(Node satelliteNode, long expectedFullSyncId, boolean waitForAnswer)
+    private Flux<ApiCallRc> sendFullSyncInScope(
+        Node satelliteNode,
+        long expectedFullSyncId,
+        boolean waitForAnswer,
+        HeldObjectsPojo heldObjects
+    )
     {
         Flux<ApiCallRc> flux = Flux.empty();
         try
         {
+            // read before collecting the objects, the full sync contains at least all changes up to this version
+            long objectVersion = objectVersions.getCurrentVersion();
+
             Set<Node> nodes = new LinkedHashSet<>();
             Set<StorPool> storPools = new LinkedHashSet<>();
             Set<Resource> rscs = new LinkedHashSet<>();
@@ -165,10 +201,64 @@ public class CtrlFullSyncApiCallHandler
             externalFiles.addAll(externalFilesRepo.getMapForView(apiCtx).values());
             remotes.addAll(remoteRepo.getMapForView(apiCtx).values());
 
+            List<ObjectRefPojo> unchangedObjects = new ArrayList<>();
+            if (
+                !heldObjects.isEmpty() &&
+                heldObjects.getObjectVersionEpoch() == objectVersions.getEpoch()
+            )
+            {
+                removeUnchangedNodes(nodes, heldObjects, unchangedObjects);
+                removeUnchanged(
+                    storPools,
+                    CtrlFullSyncApiCallHandler::storPoolRef,
+                    objectVersions::getVersion,
+                    heldObjects,
+                    unchangedObjects
+                );
+                removeUnchanged(
+                    rscs,
+                    CtrlFullSyncApiCallHandler::rscRef,
+                    objectVersions::getVersion,
+                    heldObjects,
+                    unchangedObjects
+                );
+                removeUnchanged(
+                    snapshots,
+                    CtrlFullSyncApiCallHandler::snapshotRef,
+                    objectVersions::getVersion,
+                    heldObjects,
+                    unchangedObjects
+                );
+                removeUnchanged(
+                    externalFiles,
+                    CtrlFullSyncApiCallHandler::extFileRef,
+                    extFile -> objectVersions.getExtFilesAndRemotesVersion(),
+                    heldObjects,
+                    unchangedObjects
+                );
+                removeUnchanged(
+                    remotes,
+                    CtrlFullSyncApiCallHandler::remoteRef,
+                    remote -> objectVersions.getExtFilesAndRemotesVersion(),
+                    heldObjects,
+                    unchangedObjects
+                );
+            }
+
             Peer satellitePeer = satelliteNode.getPeer(apiCtx);
             satellitePeer.setFullSyncId(expectedFullSyncId);
 
-            errorReporter.logInfo("Sending full sync to " + satelliteNode + ".");
+            if (unchangedObjects.isEmpty())
+            {
+                errorReporter.logInfo("Sending full sync to " + satelliteNode + ".");
+            }
+            else
+            {
+                errorReporter.logInfo(
+                    "Sending full sync to " + satelliteNode + ", reusing " + unchangedObjects.size() +
+                        " unchanged objects held by the satellite."
+                );
+            }
 
             CtrlStltSerializerBuilder builder;
             if (waitForAnswer)
@@ -185,7 +275,17 @@ public class CtrlFullSyncApiCallHandler
 
             byte[] data = builder
                 .fullSync(
-                    nodes, storPools, rscs, snapshots, externalFiles, remotes, expectedFullSyncId, FULL_SYNC_RPC_ID
+                    nodes,
+                    storPools,
+                    rscs,
+                    snapshots,
+                    externalFiles,
+                    remotes,
+                    expectedFullSyncId,
+                    FULL_SYNC_RPC_ID,
+                    objectVersions.getEpoch(),
+                    objectVersion,
+                    unchangedObjects
                 )
                 .build();
 
@@ -244,12 +344,131 @@ public class CtrlFullSyncApiCallHandler
         return flux;
     }
 
+    /**
+     * The node messages contain the connections between the nodes of the full sync, so they are either all reused
+     * or all sent again.
+     */
+    private void removeUnchangedNodes(
+        Set<Node> nodes,
+        HeldObjectsPojo heldObjects,
+        List<ObjectRefPojo> unchangedObjects
+    )
+    {
+        List<ObjectRefPojo> nodeRefs = new ArrayList<>();
+        for (Node node : nodes)
+        {
+            nodeRefs.add(new ObjectRefPojo(ObjectRefPojo.Kind.NODE, node.getName().displayValue, uuid(node)));
+        }
+        long heldNodeCount = heldObjects.getObjects().values().stream()
+            .filter(objRef -> objRef.getKind() == ObjectRefPojo.Kind.NODE)
+            .count();
+        if (
+            heldNodeCount == nodeRefs.size() &&
+            nodeRefs.stream().allMatch(heldObjects::holds) &&
+            objectVersions.getNodesVersion() <= heldObjects.getObjectVersion()
+        )
+        {
+            nodes.clear();
+            unchangedObjects.addAll(nodeRefs);
+        }
+    }
+
+    /**
+     * Removes the objects the satellite holds and which did not change since the satellite's last full sync
+     */
+    private <T> void removeUnchanged(
+        Set<T> objects,
+        Function<T, ObjectRefPojo> objRefFct,
+        ToLongFunction<T> versionFct,
+        HeldObjectsPojo heldObjects,
+        List<ObjectRefPojo> unchangedObjects
+    )
+    {
+        Iterator<T> objIt = objects.iterator();
+        while (objIt.hasNext())
+        {
+            T obj = objIt.next();
+            @Nullable ObjectRefPojo objRef = objRefFct.apply(obj);
+            if (
+                objRef != null &&
+                heldObjects.holds(objRef) &&
+                versionFct.applyAsLong(obj) <= heldObjects.getObjectVersion()
+            )
+            {
+                objIt.remove();
+                unchangedObjects.add(objRef);
+            }
+        }
+    }
+
+    /*
+     * The following references have to match the ones ProtoObjectRefs builds from the serialized messages
+     */
+
+    private static ObjectRefPojo storPoolRef(StorPool storPool)
+    {
+        return new ObjectRefPojo(ObjectRefPojo.Kind.STOR_POOL, storPool.getName().displayValue, uuid(storPool));
+    }
+
+    private static ObjectRefPojo rscRef(Resource rsc)
+    {
+        return new ObjectRefPojo(
+            ObjectRefPojo.Kind.RSC,
+            rsc.getResourceDefinition().getName().displayValue,
+            uuid(rsc)
+        );
+    }
+
+    private static ObjectRefPojo snapshotRef(Snapshot snapshot)
+    {
+        return new ObjectRefPojo(
+            ObjectRefPojo.Kind.SNAPSHOT,
+            ProtoObjectRefs.snapshotName(
+                snapshot.getResourceName().displayValue,
+                snapshot.getSnapshotName().displayValue
+            ),
+            uuid(snapshot)
+        );
+    }
+
+    private static ObjectRefPojo extFileRef(ExternalFile extFile)
+    {
+        return new ObjectRefPojo(ObjectRefPojo.Kind.EXTERNAL_FILE, extFile.getName().extFileName, uuid(extFile));
+    }
+
+    /**
+     * Returns null for remotes that are not part of a full sync
+     */
+    private static @Nullable ObjectRefPojo remoteRef(AbsRemote remote)
+    {
+        @Nullable ObjectRefPojo objRef;
+        if (remote instanceof S3Remote)
+        {
+            objRef = new ObjectRefPojo(ObjectRefPojo.Kind.S3_REMOTE, remote.getName().displayValue, uuid(remote));
+        }
+        else
+        if (remote instanceof EbsRemote)
+        {
+            objRef = new ObjectRefPojo(ObjectRefPojo.Kind.EBS_REMOTE, remote.getName().displayValue, uuid(remote));
+        }
+        else
+        {
+            objRef = null;
+        }
+        return objRef;
+    }
+
+    private static String uuid(AbsCoreObj<?> obj)
+    {
+        return obj.getUuid().toString();
+    }
+
     private Flux<byte[]> handleFullSyncResponse(Peer satellitePeerRef, InputStream inputStream)
     {
         Flux<byte[]> flux;
         try
         {
-            flux = fullSyncResponse.processReactive(satellitePeerRef, inputStream, null);
+            flux = fullSyncResponse.processReactive(satellitePeerRef, inputStream, null, true);
         }
         catch (IOException exc)
         {
@@ -6,6 +6,7 @@ import com.linbit.linstor.api.ApiConsts;
 import com.linbit.linstor.core.BackupInfoManager;
 import com.linbit.linstor.core.CoreModule;
 import com.linbit.linstor.core.apicallhandler.ScopeRunner;
+import com.linbit.linstor.core.apicallhandler.controller.CtrlErrorReportReplication;
 import com.linbit.linstor.core.apicallhandler.controller.CtrlNodeApiCallHandler;
 import com.linbit.linstor.core.apicallhandler.controller.CtrlRemoteApiCallHandler;
 import com.linbit.linstor.core.apicallhandler.controller.CtrlSatelliteConnectionNotifier;
@@ -50,6 +51,7 @@ public class CtrlFullSyncResponseApiCallHandler
     private final BackupInfoManager backupInfoMgr;
     private final CtrlTransactionHelper ctrlTransactionHelper;
     private final CtrlRemoteApiCallHandler ctrlRemoteApiCallHandler;
+    private final CtrlErrorReportReplication errorReportReplication;
 
     @Inject
     public CtrlFullSyncResponseApiCallHandler(
@@ -62,7 +64,8 @@ public class CtrlFullSyncResponseApiCallHandler
         CtrlSnapshotDeleteApiCallHandler ctrlSnapDelApiCallHandlerRef,
         BackupInfoManager backupInfoMgrRef,
         CtrlTransactionHelper ctrlTransactionHelperRef,
-        CtrlRemoteApiCallHandler ctrlRemoteApiCallHandlerRef
+        CtrlRemoteApiCallHandler ctrlRemoteApiCallHandlerRef,
+        CtrlErrorReportReplication errorReportReplicationRef
     )
     {
         apiCtx = apiCtxRef;
@@ -75,6 +78,7 @@ public class CtrlFullSyncResponseApiCallHandler
         backupInfoMgr = backupInfoMgrRef;
         ctrlTransactionHelper = ctrlTransactionHelperRef;
         ctrlRemoteApiCallHandler = ctrlRemoteApiCallHandlerRef;
+        errorReportReplication = errorReportReplicationRef;
     }
 
     public Flux<?> fullSyncSuccess()
@@ -139,6 +143,7 @@ public class CtrlFullSyncResponseApiCallHandler
                 );
             }
             fluxes.add(ctrlRemoteApiCallHandler.cleanupRemotesIfNeeded(objsToDel.objB));
+            fluxes.add(errorReportReplication.catchUp(satellitePeerRef));
             ctrlTransactionHelper.commit();
         }
         catch (AccessDeniedException exc)
@@ -0,0 +1,433 @@
+package com.linbit.linstor.core.apicallhandler.controller.internal;
+
+import com.linbit.ImplementationError;
+import com.linbit.linstor.AccessToDeletedDataException;
+import com.linbit.linstor.annotation.SystemContext;
+import com.linbit.linstor.api.prop.LinStorObject;
+import com.linbit.linstor.core.CoreModule;
+import com.linbit.linstor.core.identifier.NodeName;
+import com.linbit.linstor.core.identifier.ResourceName;
+import com.linbit.linstor.core.objects.AbsResource;
+import com.linbit.linstor.core.objects.AbsVolume;
+import com.linbit.linstor.core.objects.ExternalFile;
+import com.linbit.linstor.core.objects.FreeSpaceMgr;
+import com.linbit.linstor.core.objects.KeyValueStore;
+import com.linbit.linstor.core.objects.NetInterface;
+import com.linbit.linstor.core.objects.Node;
+import com.linbit.linstor.core.objects.NodeConnection;
+import com.linbit.linstor.core.objects.Resource;
+import com.linbit.linstor.core.objects.ResourceConnection;
+import com.linbit.linstor.core.objects.ResourceDefinition;
+import com.linbit.linstor.core.objects.Schedule;
+import com.linbit.linstor.core.objects.Snapshot;
+import com.linbit.linstor.core.objects.SnapshotDefinition;
+import com.linbit.linstor.core.objects.SnapshotVolumeDefinition;
+import com.linbit.linstor.core.objects.StorPool;
+import com.linbit.linstor.core.objects.VolumeConnection;
+import com.linbit.linstor.core.objects.VolumeDefinition;
+import com.linbit.linstor.core.objects.remotes.AbsRemote;
+import com.linbit.linstor.propscon.PropsContainer;
+import com.linbit.linstor.propscon.ReadOnlyProps;
+import com.linbit.linstor.security.AccessContext;
+import com.linbit.linstor.security.AccessControlList;
+import com.linbit.linstor.security.AccessDeniedException;
+import com.linbit.linstor.security.ObjectProtection;
+import com.linbit.linstor.storage.interfaces.categories.resource.AbsRscLayerObject;
+import com.linbit.linstor.storage.interfaces.categories.resource.RscDfnLayerObject;
+import com.linbit.linstor.storage.interfaces.categories.resource.VlmDfnLayerObject;
+import com.linbit.linstor.storage.interfaces.categories.resource.VlmProviderObject;
+import com.linbit.linstor.transaction.TransactionObject;
+import com.linbit.linstor.transaction.manager.TransactionCommitListener;
+
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Versions of the objects a full sync consists of, which allow {@link CtrlFullSyncApiCallHandler} to skip the
+ * objects a reconnecting satellite still holds before serializing them.
+ * <br />
+ * Every committed transaction that changed data sent to satellites gets the next version, which is recorded for
+ * the domains of all changed objects, i.e. their node or resource definition. The version of an object in a full
+ * sync is the highest version of all domains its message is built from. A satellite does not need an object again
+ * if it still holds it from a full sync that was built from a version at least as high.
+ * <br />
+ * Objects that cannot be attributed to a single domain (controller properties, resource groups, storage pool
+ * definitions, unknown objects, ...) change the global domain, which every object depends on. Deleted objects are
+ * skipped, since deleting an object also removes it from the objects referencing it, which are part of the same
+ * transaction.
+ * <br />
+ * The versions are only kept in memory, so they are only comparable within the same epoch, which is chosen
+ * randomly whenever the controller starts.
+ */
+@Singleton
+public class CtrlObjectVersions implements TransactionCommitListener
+{
+    private static final String DOMAIN_GLOBAL = "GLOBAL";
+    // every node message contains the connections to the other nodes of the full sync
+    private static final String DOMAIN_ALL_NODES = "ALL_NODES";
+    private static final String DOMAIN_FREE_SPACE = "FREE_SPACE";
+    private static final String DOMAIN_EXT_FILES_AND_REMOTES = "EXT_FILES_AND_REMOTES";
+    private static final String DOMAIN_NODE_PREFIX = "NODE:";
+    private static final String DOMAIN_RSC_DFN_PREFIX = "RSC_DFN:";
+
+    private final AccessContext sysCtx;
+    private final long epoch;
+
+    private final Map<String, Long> domainVersions = new HashMap<>();
+    private long currentVersion = 0;
+
+    @Inject
+    public CtrlObjectVersions(@SystemContext AccessContext sysCtxRef)
+    {
+        sysCtx = sysCtxRef;
+        epoch = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+    }
+
+    public long getEpoch()
+    {
+        return epoch;
+    }
+
+    /**
+     * Returns the version of the last committed transaction. Has to be read before the objects of a full sync are
+     * collected, so that the full sync contains all changes up to this version.
+     */
+    public synchronized long getCurrentVersion()
+    {
+        return currentVersion;
+    }
+
+    @Override
+    public void transactionCommitted(Collection<TransactionObject> committedObjects)
+    {
+        Set<String> domains = new HashSet<>();
+        for (TransactionObject transObj : committedObjects)
+        {
+            addDomains(transObj, domains);
+        }
+        if (!domains.isEmpty())
+        {
+            synchronized (this)
+            {
+                ++currentVersion;
+                for (String domain : domains)
+                {
+                    domainVersions.put(domain, currentVersion);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the version of all node messages, which have to be sent together as they contain each other
+     */
+    public synchronized long getNodesVersion()
+    {
+        return Math.max(getDomainVersion(DOMAIN_GLOBAL), getDomainVersion(DOMAIN_ALL_NODES));
+    }
+
+    public synchronized long getVersion(StorPool storPool)
+    {
+        return Math.max(
+            Math.max(getDomainVersion(DOMAIN_GLOBAL), getDomainVersion(DOMAIN_FREE_SPACE)),
+            getNodeVersion(storPool.getNode().getName())
+        );
+    }
+
+    /**
+     * The message of a resource also contains the other resources of its resource definition and their nodes
+     */
+    public synchronized long getVersion(Resource rsc)
+    {
+        ResourceDefinition rscDfn = rsc.getResourceDefinition();
+        long version = Math.max(getDomainVersion(DOMAIN_GLOBAL), getRscDfnVersion(rscDfn.getName()));
+        try
+        {
+            Iterator<Resource> rscIt = rscDfn.iterateResource(sysCtx);
+            while (rscIt.hasNext())
+            {
+                version = Math.max(version, getNodeVersion(rscIt.next().getNode().getName()));
+            }
+        }
+        catch (AccessDeniedException exc)
+        {
+            throw new ImplementationError(exc);
+        }
+        return version;
+    }
+
+    public synchronized long getVersion(Snapshot snapshot)
+    {
+        return Math.max(
+            Math.max(getDomainVersion(DOMAIN_GLOBAL), getRscDfnVersion(snapshot.getResourceName())),
+            getNodeVersion(snapshot.getNodeName())
+        );
+    }
+
+    public synchronized long getExtFilesAndRemotesVersion()
+    {
+        return Math.max(getDomainVersion(DOMAIN_GLOBAL), getDomainVersion(DOMAIN_EXT_FILES_AND_REMOTES));
+    }
+
+    private long getNodeVersion(NodeName nodeName)
+    {
+        return getDomainVersion(DOMAIN_NODE_PREFIX + nodeName.value);
+    }
+
+    private long getRscDfnVersion(ResourceName rscName)
+    {
+        return getDomainVersion(DOMAIN_RSC_DFN_PREFIX + rscName.value);
+    }
+
+    private long getDomainVersion(String domain)
+    {
+        return domainVersions.getOrDefault(domain, 0L);
+    }
+
+    private void addDomains(TransactionObject transObj, Set<String> domains)
+    {
+        try
+        {
+            if (transObj instanceof PropsContainer)
+            {
+                addPropsDomains((PropsContainer) transObj, domains);
+            }
+            else
+            {
+                addObjectDomains(transObj.getParentObject(), domains);
+            }
+        }
+        catch (AccessToDeletedDataException ignored)
+        {
+            // see class comment, the objects referencing the deleted object were changed as well
+        }
+        catch (AccessDeniedException exc)
+        {
+            throw new ImplementationError(exc);
+        }
+    }
+
+    private void addObjectDomains(Object obj, Set<String> domains) throws AccessDeniedException
+    {
+        if (obj instanceof Node)
+        {
+            addNode(((Node) obj).getName().value, domains);
+        }
+        else
+        if (obj instanceof NetInterface)
+        {
+            addNode(((NetInterface) obj).getKey().getNodeName().value, domains);
+        }
+        else
+        if (obj instanceof NodeConnection)
+        {
+            NodeConnection nodeConn = (NodeConnection) obj;
+            addNode(nodeConn.getSourceNodeName().value, domains);
+            addNode(nodeConn.getTargetNodeName().value, domains);
+        }
+        else
+        if (obj instanceof StorPool)
+        {
+            addNode(((StorPool) obj).getKey().getNodeName().value, domains);
+        }
+        else
+        if (obj instanceof ResourceDefinition)
+        {
+            addRscDfn(((ResourceDefinition) obj).getName(), domains);
+        }
+        else
+        if (obj instanceof VolumeDefinition)
+        {
+            addRscDfn(((VolumeDefinition) obj).getKey().rscName, domains);
+        }
+        else
+        if (obj instanceof AbsResource)
+        {
+            // resources and snapshots
+            addRscDfn(((AbsResource<?>) obj).getResourceDefinition().getName(), domains);
+        }
+        else
+        if (obj instanceof AbsVolume)
+        {
+            addRscDfn(((AbsVolume<?>) obj).getResourceDefinition().getName(), domains);
+        }
+        else
+        if (obj instanceof ResourceConnection)
+        {
+            addRscDfn(
+                ((ResourceConnection) obj).getSourceResource(sysCtx).getResourceDefinition().getName(),
+                domains
+            );
+        }
+        else
+        if (obj instanceof VolumeConnection)
+        {
+            addRscDfn(((VolumeConnection) obj).getKey().getRscName(), domains);
+        }
+        else
+        if (obj instanceof SnapshotDefinition)
+        {
+            addRscDfn(((SnapshotDefinition) obj).getResourceName(), domains);
+        }
+        else
+        if (obj instanceof SnapshotVolumeDefinition)
+        {
+            addRscDfn(((SnapshotVolumeDefinition) obj).getResourceName(), domains);
+        }
+        else
+        if (obj instanceof AbsRscLayerObject)
+        {
+            addRscDfn(((AbsRscLayerObject<?>) obj).getResourceName(), domains);
+        }
+        else
+        if (obj instanceof VlmProviderObject)
+        {
+            addRscDfn(((VlmProviderObject<?>) obj).getVolume().getResourceDefinition().getName(), domains);
+        }
+        else
+        if (obj instanceof RscDfnLayerObject)
+        {
+            addRscDfn(((RscDfnLayerObject) obj).getResourceName(), domains);
+        }
+        else
+        if (obj instanceof VlmDfnLayerObject)
+        {
+            addRscDfn(((VlmDfnLayerObject) obj).getResourceName(), domains);
+        }
+        else
+        if (obj instanceof FreeSpaceMgr)
+        {
+            domains.add(DOMAIN_FREE_SPACE);
+        }
+        else
+        if (
+            obj instanceof ExternalFile || obj instanceof AbsRemote ||
+            obj instanceof CoreModule.ExternalFileMap || obj instanceof CoreModule.RemoteMap
+        )
+        {
+            domains.add(DOMAIN_EXT_FILES_AND_REMOTES);
+        }
+        else
+        if (obj instanceof CoreModule.NodesMap)
+        {
+            domains.add(DOMAIN_ALL_NODES);
+        }
+        else
+        if (
+            obj instanceof ObjectProtection || obj instanceof AccessControlList ||
+            obj instanceof KeyValueStore || obj instanceof Schedule ||
+            obj instanceof CoreModule.KeyValueStoreMap || obj instanceof CoreModule.ScheduleMap ||
+            obj instanceof CoreModule.ObjProtMap ||
+            // the objects added to or removed from these maps are part of the same transaction
+            obj instanceof CoreModule.ResourceDefinitionMap || obj instanceof CoreModule.ResourceDefinitionMapExtName ||
+            obj instanceof CoreModule.ResourceGroupMap || obj instanceof CoreModule.StorPoolDefinitionMap
+        )
+        {
+            // not sent to satellites as part of a full sync
+        }
+        else
+        {
+            domains.add(DOMAIN_GLOBAL);
+        }
+    }
+
+    /**
+     * Determines the domains of the properties container by its instance name, see the buildPath methods of
+     * {@link PropsContainer}
+     */
+    private static void addPropsDomains(PropsContainer props, Set<String> domains)
+    {
+        @Nullable LinStorObject type = props.getType();
+        @Nullable String instanceName = props.getInstanceName();
+        if (type == null || type.path == null || instanceName == null || !instanceName.startsWith(type.path))
+        {
+            domains.add(DOMAIN_GLOBAL);
+        }
+        else
+        {
+            String[] pathElems = instanceName.substring(type.path.length()).split(ReadOnlyProps.PATH_SEPARATOR);
+            switch (type)
+            {
+                case NODE: // fall-through
+                case STOR_POOL:
+                    addNodeOfPath(pathElems, 0, domains);
+                    break;
+                case NODE_CONN:
+                    addNodeOfPath(pathElems, 0, domains);
+                    addNodeOfPath(pathElems, 1, domains);
+                    break;
+                case RSC_DFN: // fall-through
+                case VLM_DFN: // fall-through
+                case SNAP_DFN: // fall-through
+                case SNAP_DFN_RSC_DFN: // fall-through
+                case SNAP_VLM_DFN: // fall-through
+                case SNAP_VLM_DFN_VLM_DFN:
+                    addRscDfnOfPath(pathElems, 0, domains);
+                    break;
+                case RSC: // fall-through
+                case VLM: // fall-through
+                case SNAP: // fall-through
+                case SNAP_RSC: // fall-through
+                case SNAP_VLM: // fall-through
+                case SNAP_VLM_VLM:
+                    addRscDfnOfPath(pathElems, 1, domains);
+                    break;
+                case RSC_CONN: // fall-through
+                case VLM_CONN:
+                    addRscDfnOfPath(pathElems, 2, domains);
+                    break;
+                case KVS:
+                    // not sent to satellites
+                    break;
+                default:
+                    // e.g. controller properties, resource groups, storage pool definitions
+                    domains.add(DOMAIN_GLOBAL);
+                    break;
+            }
+        }
+    }
+
+    private static void addNodeOfPath(String[] pathElems, int idx, Set<String> domains)
+    {
+        if (idx < pathElems.length)
+        {
+            addNode(pathElems[idx], domains);
+        }
+        else
+        {
+            domains.add(DOMAIN_GLOBAL);
+        }
+    }
+
+    private static void addRscDfnOfPath(String[] pathElems, int idx, Set<String> domains)
+    {
+        if (idx < pathElems.length)
+        {
+            domains.add(DOMAIN_RSC_DFN_PREFIX + pathElems[idx]);
+        }
+        else
+        {
+            domains.add(DOMAIN_GLOBAL);
+        }
+    }
+
+    private static void addNode(String nodeNameValue, Set<String> domains)
+    {
+        domains.add(DOMAIN_NODE_PREFIX + nodeNameValue);
+        domains.add(DOMAIN_ALL_NODES);
+    }
+
+    private static void addRscDfn(ResourceName rscName, Set<String> domains)
+    {
+        domains.add(DOMAIN_RSC_DFN_PREFIX + rscName.value);
+    }
+}
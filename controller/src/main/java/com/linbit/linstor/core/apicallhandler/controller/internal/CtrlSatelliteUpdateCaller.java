@@ -41,6 +41,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
 
 import org.reactivestreams.Publisher;
@@ -173,6 +175,11 @@ public class CtrlSatelliteUpdateCaller
 
     private Flux<Tuple2<NodeName, Flux<ApiCallRc>>> updateSatellitesWithContext(
         ResourceDefinition rscDfn, Publisher<ApiCallRc> nextStepRef, ContextView cv)
+    {
+        return updateSatellites(rscDfn, getDfltNotConnectedHandler(cv), nextStepRef);
+    }
+
+    private static NotConnectedHandler getDfltNotConnectedHandler(ContextView cv)
     {
         NotConnectedHandler dfltNotConnectedHandler;
         // TODO move this into context class
@@ -186,8 +193,7 @@ public class CtrlSatelliteUpdateCaller
         {
             dfltNotConnectedHandler = notConnectedError();
         }
-
-        return updateSatellites(rscDfn, dfltNotConnectedHandler, nextStepRef);
+        return dfltNotConnectedHandler;
     }
 
     /**
@@ -224,6 +230,66 @@ public class CtrlSatelliteUpdateCaller
         return Flux.fromIterable(responses);
     }
 
+    /**
+     * See {@link #updateSatellites(Map, NotConnectedHandler)}.
+     */
+    public Flux<Tuple2<NodeName, Flux<ApiCallRc>>> updateSatellites(
+        Map<ResourceDefinition, Publisher<ApiCallRc>> rscDfnsWithNextStep
+    )
+    {
+        return Flux.deferContextual(cv -> updateSatellites(rscDfnsWithNextStep, getDfltNotConnectedHandler(cv)));
+    }
+
+    /**
+     * Like {@link #updateSatellites(ResourceDefinition, NotConnectedHandler, Publisher)} for several resource
+     * definitions, but every satellite receives a single message listing all of its changed resources instead of one
+     * message per resource.
+     *
+     * @param rscDfnsWithNextStep The changed resource definitions, each with the next step the
+     *     {@link RetryResourcesTask} runs after a failed update of one of its resources was retried (may be null)
+     */
+    public Flux<Tuple2<NodeName, Flux<ApiCallRc>>> updateSatellites(
+        Map<ResourceDefinition, Publisher<ApiCallRc>> rscDfnsWithNextStep,
+        NotConnectedHandler notConnectedHandler
+    )
+    {
+        List<Tuple2<NodeName, Flux<ApiCallRc>>> responses = new ArrayList<>();
+
+        try
+        {
+            Map<Node, List<Resource>> rscsByNode = new TreeMap<>();
+            for (ResourceDefinition rscDfn : rscDfnsWithNextStep.keySet())
+            {
+                Iterator<Resource> rscIterator = rscDfn.iterateResource(apiCtx);
+                while (rscIterator.hasNext())
+                {
+                    Resource currentRsc = rscIterator.next();
+                    if (!currentRsc.getNode().isEvicted(apiCtx))
+                    {
+                        rscsByNode.computeIfAbsent(currentRsc.getNode(), ignored -> new ArrayList<>())
+                            .add(currentRsc);
+                    }
+                }
+            }
+            for (Map.Entry<Node, List<Resource>> entry : rscsByNode.entrySet())
+            {
+                Node node = entry.getKey();
+                responses.add(
+                    Tuples.of(
+                        node.getName(),
+                        updateResources(node, entry.getValue(), notConnectedHandler, rscDfnsWithNextStep)
+                    )
+                );
+            }
+        }
+        catch (AccessDeniedException implError)
+        {
+            throw new ImplementationError(implError);
+        }
+
+        return Flux.fromIterable(responses);
+    }
+
     public Flux<ApiCallRc> updateSatellite(final StorPool storPool)
     {
         return updateSatellite(storPool.getUuid(), storPool.getName().displayValue, storPool.getNode());
@@ -344,6 +410,56 @@ public class CtrlSatelliteUpdateCaller
         return response;
     }
 
+    private Flux<ApiCallRc> updateResources(
+        Node node,
+        List<Resource> changedRscs,
+        NotConnectedHandler notConnectedHandler,
+        Map<ResourceDefinition, Publisher<ApiCallRc>> nextSteps
+    )
+        throws AccessDeniedException
+    {
+        NodeName nodeName = node.getName();
+
+        Flux<ApiCallRc> response;
+        Peer currentPeer = node.getPeer(apiCtx);
+
+        if (currentPeer.isOnline() && currentPeer.hasFullSyncFailed())
+        {
+            response = Flux.error(new ApiRcException(ResponseUtils.makeFullSyncFailedResponse(currentPeer)));
+        }
+        else if (!currentPeer.isOnline())
+        {
+            response = notConnectedHandler.handleNotConnected(nodeName);
+        }
+        else
+        {
+            CtrlStltSerializer.CtrlStltSerializerBuilder builder = internalComSerializer.headerlessBuilder();
+            for (Resource rsc : changedRscs)
+            {
+                builder.changedResource(rsc.getUuid(), rsc.getResourceDefinition().getName().displayValue);
+            }
+            response = currentPeer
+                .apiCall(InternalApiConsts.API_CHANGED_RSCS, builder.build())
+
+                .map(inputStream -> deserializeApiCallRc(nodeName, inputStream))
+
+                .onErrorResume(
+                    PeerNotConnectedException.class,
+                    ignored -> notConnectedHandler.handleNotConnected(nodeName)
+                )
+                .doOnError(ignored ->
+                    {
+                        for (Resource rsc : changedRscs)
+                        {
+                            retryResourceTaskProvider.get().add(rsc, nextSteps.get(rsc.getResourceDefinition()));
+                        }
+                    }
+                );
+        }
+
+        return response;
+    }
+
     private Flux<ApiCallRc> updateSnapshot(Snapshot snapshot, NotConnectedHandler notConnectedHandler)
         throws AccessDeniedException
     {
@@ -1,6 +1,7 @@
 package com.linbit.linstor.core.cfg;
 
 import com.linbit.linstor.InternalApiConsts;
+import com.linbit.linstor.netcom.FrameCompression;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -28,6 +29,7 @@ public class CtrlConfig extends LinstorConfig
 
     private String dbInMemory;
     private boolean dbDisableVersionCheck;
+    private boolean dbBatchWrites;
 
     /*
      * Database.ETCD
@@ -86,6 +88,33 @@ public class CtrlConfig extends LinstorConfig
      */
     private String webUiDirectory;
 
+    /*
+     * Cache
+     */
+    private int cacheVlmAllocatedMaxAge;
+    private int cacheMetricsMaxAge;
+    private int cacheFreeCapacityMaxAge;
+
+    /*
+     * Netcom
+     */
+    private int netcomSelectorThreads;
+    private String netcomFrameCompression;
+    private int netcomFrameCompressionThreshold;
+    private int netcomOutQueueMaxMib;
+
+    /*
+     * Events
+     */
+    private int eventsSubscriberBufferSize;
+    private String eventsSlowSubscriberPolicy;
+
+    /*
+     * Autoplacer
+     */
+    private int autoplacerSearchTimeBudget;
+    private long autoplacerSearchStepBudget;
+
     public CtrlConfig(String[] args)
     {
         super(args);
@@ -98,6 +127,7 @@ public class CtrlConfig extends LinstorConfig
         super.applyDefaultValues();
         setDbConnectionUrl("jdbc:h2:/var/lib/linstor/linstordb");
         setDbDisableVersionCheck(false);
+        setDbBatchWrites(false);
         setEtcdPrefix("/LINSTOR/");
 
         setLogRestAccessLogPath("rest-access.log");
@@ -121,6 +151,21 @@ public class CtrlConfig extends LinstorConfig
         setLdapSearchFilter("");
 
         setWebUiDirectory("/usr/share/linstor-server/ui");
+
+        setCacheVlmAllocatedMaxAge(0);
+        setCacheMetricsMaxAge(60);
+        setCacheFreeCapacityMaxAge(600);
+
+        setNetcomSelectorThreads(0);
+        setNetcomFrameCompression(FrameCompression.DEFLATE_DICT_V1);
+        setNetcomFrameCompressionThreshold(4096);
+        setNetcomOutQueueMaxMib(64);
+
+        setEventsSubscriberBufferSize(1000);
+        setEventsSlowSubscriberPolicy("coalesce");
+
+        setAutoplacerSearchTimeBudget(2000);
+        setAutoplacerSearchStepBudget(0L);
     }
 
     @Override
@@ -227,6 +272,14 @@ public class CtrlConfig extends LinstorConfig
         }
     }
 
+    public void setDbBatchWrites(Boolean dbBatchWritesRef)
+    {
+        if (dbBatchWritesRef != null)
+        {
+            dbBatchWrites = dbBatchWritesRef;
+        }
+    }
+
     public void setEtcdOperationsPerTransaction(Integer etcdOperationsPerTransactionRef)
     {
         if (etcdOperationsPerTransactionRef != null)
@@ -243,6 +296,94 @@ public class CtrlConfig extends LinstorConfig
         }
     }
 
+    public void setCacheMetricsMaxAge(Integer cacheMetricsMaxAgeRef)
+    {
+        if (cacheMetricsMaxAgeRef != null)
+        {
+            cacheMetricsMaxAge = cacheMetricsMaxAgeRef;
+        }
+    }
+
+    public void setCacheFreeCapacityMaxAge(Integer cacheFreeCapacityMaxAgeRef)
+    {
+        if (cacheFreeCapacityMaxAgeRef != null)
+        {
+            cacheFreeCapacityMaxAge = cacheFreeCapacityMaxAgeRef;
+        }
+    }
+
+    public void setCacheVlmAllocatedMaxAge(Integer cacheVlmAllocatedMaxAgeRef)
+    {
+        if (cacheVlmAllocatedMaxAgeRef != null)
+        {
+            cacheVlmAllocatedMaxAge = cacheVlmAllocatedMaxAgeRef;
+        }
+    }
+
+    public void setNetcomSelectorThreads(Integer netcomSelectorThreadsRef)
+    {
+        if (netcomSelectorThreadsRef != null)
+        {
+            netcomSelectorThreads = netcomSelectorThreadsRef;
+        }
+    }
+
+    public void setNetcomOutQueueMaxMib(Integer netcomOutQueueMaxMibRef)
+    {
+        if (netcomOutQueueMaxMibRef != null)
+        {
+            netcomOutQueueMaxMib = netcomOutQueueMaxMibRef;
+        }
+    }
+
+    public void setNetcomFrameCompression(String netcomFrameCompressionRef)
+    {
+        if (netcomFrameCompressionRef != null)
+        {
+            netcomFrameCompression = netcomFrameCompressionRef;
+        }
+    }
+
+    public void setNetcomFrameCompressionThreshold(Integer netcomFrameCompressionThresholdRef)
+    {
+        if (netcomFrameCompressionThresholdRef != null)
+        {
+            netcomFrameCompressionThreshold = netcomFrameCompressionThresholdRef;
+        }
+    }
+
+    public void setEventsSubscriberBufferSize(Integer eventsSubscriberBufferSizeRef)
+    {
+        if (eventsSubscriberBufferSizeRef != null)
+        {
+            eventsSubscriberBufferSize = eventsSubscriberBufferSizeRef;
+        }
+    }
+
+    public void setEventsSlowSubscriberPolicy(String eventsSlowSubscriberPolicyRef)
+    {
+        if (eventsSlowSubscriberPolicyRef != null)
+        {
+            eventsSlowSubscriberPolicy = eventsSlowSubscriberPolicyRef;
+        }
+    }
+
+    public void setAutoplacerSearchTimeBudget(Integer autoplacerSearchTimeBudgetRef)
+    {
+        if (autoplacerSearchTimeBudgetRef != null)
+        {
+            autoplacerSearchTimeBudget = autoplacerSearchTimeBudgetRef;
+        }
+    }
+
+    public void setAutoplacerSearchStepBudget(Long autoplacerSearchStepBudgetRef)
+    {
+        if (autoplacerSearchStepBudgetRef != null)
+        {
+            autoplacerSearchStepBudget = autoplacerSearchStepBudgetRef;
+        }
+    }
+
     public void setK8sRequestRetries(final Integer k8sRequestRetriesRef)
     {
         if (k8sRequestRetriesRef != null)
@@ -464,6 +605,11 @@ public class CtrlConfig extends LinstorConfig
         return dbDisableVersionCheck;
     }
 
+    public boolean isDbBatchWrites()
+    {
+        return dbBatchWrites;
+    }
+
     public int getEtcdOperationsPerTransaction()
     {
         return etcdOperationsPerTransaction;
@@ -474,6 +620,61 @@ public class CtrlConfig extends LinstorConfig
         return etcdPrefix;
     }
 
+    public int getCacheMetricsMaxAge()
+    {
+        return cacheMetricsMaxAge;
+    }
+
+    public int getCacheFreeCapacityMaxAge()
+    {
+        return cacheFreeCapacityMaxAge;
+    }
+
+    public int getCacheVlmAllocatedMaxAge()
+    {
+        return cacheVlmAllocatedMaxAge;
+    }
+
+    public int getNetcomSelectorThreads()
+    {
+        return netcomSelectorThreads;
+    }
+
+    public int getNetcomOutQueueMaxMib()
+    {
+        return netcomOutQueueMaxMib;
+    }
+
+    public String getNetcomFrameCompression()
+    {
+        return netcomFrameCompression;
+    }
+
+    public int getNetcomFrameCompressionThreshold()
+    {
+        return netcomFrameCompressionThreshold;
+    }
+
+    public int getEventsSubscriberBufferSize()
+    {
+        return eventsSubscriberBufferSize;
+    }
+
+    public String getEventsSlowSubscriberPolicy()
+    {
+        return eventsSlowSubscriberPolicy;
+    }
+
+    public int getAutoplacerSearchTimeBudget()
+    {
+        return autoplacerSearchTimeBudget;
+    }
+
+    public long getAutoplacerSearchStepBudget()
+    {
+        return autoplacerSearchStepBudget;
+    }
+
     public int getK8sRequestRetries()
     {
         return k8sRequestRetries;
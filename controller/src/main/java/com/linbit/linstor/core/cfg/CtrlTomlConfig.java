@@ -76,6 +76,7 @@ public class CtrlTomlConfig
         private String client_key_pcks8_pem;
         private String client_key_pkcs8_pem;
         private String client_key_password;
+        private Boolean batch_writes;
 
         private Etcd etcd = new Etcd();
 
@@ -90,6 +91,7 @@ public class CtrlTomlConfig
             cfg.setDbClientCertificate(client_certificate);
             cfg.setDbClientKeyPkcs8Pem(client_key_pkcs8_pem != null ? client_key_pkcs8_pem : client_key_pcks8_pem);
             cfg.setDbClientKeyPassword(client_key_password);
+            cfg.setDbBatchWrites(batch_writes);
 
             etcd.applyTo(cfg);
             k8s.applyTo(cfg);
@@ -180,6 +182,60 @@ public class CtrlTomlConfig
         }
     }
 
+    static class Cache
+    {
+        private Integer vlm_allocated_max_age;
+        private Integer metrics_max_age;
+        private Integer free_capacity_max_age;
+
+        public void applyTo(CtrlConfig cfg)
+        {
+            cfg.setCacheVlmAllocatedMaxAge(vlm_allocated_max_age);
+            cfg.setCacheMetricsMaxAge(metrics_max_age);
+            cfg.setCacheFreeCapacityMaxAge(free_capacity_max_age);
+        }
+    }
+
+    static class Netcom
+    {
+        private Integer selector_threads;
+        private String frame_compression;
+        private Integer frame_compression_threshold;
+        private Integer out_queue_max_mib;
+
+        public void applyTo(CtrlConfig cfg)
+        {
+            cfg.setNetcomSelectorThreads(selector_threads);
+            cfg.setNetcomFrameCompression(frame_compression);
+            cfg.setNetcomFrameCompressionThreshold(frame_compression_threshold);
+            cfg.setNetcomOutQueueMaxMib(out_queue_max_mib);
+        }
+    }
+
+    static class Events
+    {
+        private Integer subscriber_buffer_size;
+        private String slow_subscriber_policy;
+
+        public void applyTo(CtrlConfig cfg)
+        {
+            cfg.setEventsSubscriberBufferSize(subscriber_buffer_size);
+            cfg.setEventsSlowSubscriberPolicy(slow_subscriber_policy);
+        }
+    }
+
+    static class Autoplacer
+    {
+        private Integer search_time_budget;
+        private Long search_step_budget;
+
+        public void applyTo(CtrlConfig cfg)
+        {
+            cfg.setAutoplacerSearchTimeBudget(search_time_budget);
+            cfg.setAutoplacerSearchStepBudget(search_step_budget);
+        }
+    }
+
     private HTTP http = new HTTP();
     private HTTPS https = new HTTPS();
     private LDAP ldap = new LDAP();
@@ -187,6 +243,10 @@ public class CtrlTomlConfig
     private Logging logging = new Logging();
     private Encrypt encrypt = new Encrypt();
     private WebUi webUi = new WebUi();
+    private Cache cache = new Cache();
+    private Netcom netcom = new Netcom();
+    private Events events = new Events();
+    private Autoplacer autoplacer = new Autoplacer();
 
     /**
      * Getter needed by {@link LinstorConfigTool}
@@ -205,5 +265,9 @@ public class CtrlTomlConfig
         logging.applyTo(cfg);
         encrypt.applyTo(cfg);
         webUi.applyTo(cfg);
+        cache.applyTo(cfg);
+        netcom.applyTo(cfg);
+        events.applyTo(cfg);
+        autoplacer.applyTo(cfg);
     }
 }
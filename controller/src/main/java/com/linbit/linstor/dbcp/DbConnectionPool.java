@@ -20,6 +20,7 @@ import com.linbit.linstor.dbdrivers.DatabaseDriverInfo;
 import com.linbit.linstor.dbdrivers.DatabaseException;
 import com.linbit.linstor.dbdrivers.SQLUtils;
 import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.transaction.manager.SQLWriteBatch;
 import com.linbit.utils.StringUtils;
 
 import static com.linbit.linstor.DatabaseInfo.DB2_MIN_VERSION;
@@ -32,6 +33,7 @@ import static com.linbit.linstor.DatabaseInfo.POSTGRES_MIN_VERSION;
 import static com.linbit.linstor.dbdrivers.derby.DbConstants.DATABASE_SCHEMA_NAME;
 import static com.linbit.linstor.dbdrivers.derby.DbConstants.TBL_SEC_CONFIGURATION;
 
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -43,7 +45,9 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -89,6 +93,9 @@ public class DbConnectionPool implements ControllerSQLDatabase
     private final CtrlConfig linstorConfig;
     private final ErrorReporter errorLog;
 
+    private boolean referencedTablesLoaded = false;
+    private @Nullable Map<String, Set<String>> referencedTables;
+
     static
     {
         try
@@ -184,6 +191,35 @@ public class DbConnectionPool implements ControllerSQLDatabase
         return dbConn;
     }
 
+    @Override
+    public @Nullable SQLWriteBatch createWriteBatch(Connection dbConn) throws SQLException
+    {
+        @Nullable SQLWriteBatch writeBatch = null;
+        if (linstorConfig.isDbBatchWrites())
+        {
+            writeBatch = new SQLWriteBatch(dbConn, getReferencedTables(dbConn));
+        }
+        return writeBatch;
+    }
+
+    private synchronized @Nullable Map<String, Set<String>> getReferencedTables(Connection dbConn) throws SQLException
+    {
+        if (!referencedTablesLoaded)
+        {
+            // the foreign keys only change with migrations, which are done before the first transaction
+            referencedTables = SQLWriteBatch.loadReferencedTables(dbConn, DATABASE_SCHEMA_NAME);
+            referencedTablesLoaded = true;
+            if (referencedTables == null)
+            {
+                errorLog.logWarning(
+                    "No foreign keys found in schema %s, only consecutive writes will be batched",
+                    DATABASE_SCHEMA_NAME
+                );
+            }
+        }
+        return referencedTables;
+    }
+
     @Override
     public void returnConnection(Connection dbConn)
     {
@@ -475,6 +511,13 @@ public class DbConnectionPool implements ControllerSQLDatabase
 
             poolConnFactory.setPool(connPool);
             poolConnFactory.setValidationQueryTimeout(dbTimeout);
+            if (linstorConfig.isDbBatchWrites())
+            {
+                // reuse the prepared statements per connection instead of preparing them again in every transaction.
+                // Only together with batching, as the drivers differ in how cached statements cope with schema
+                // changes (e.g. PostgreSQL's "cached plan must not change result type")
+                poolConnFactory.setPoolStatements(true);
+            }
             poolConnFactory.setMaxOpenPreparedStatements(dbMaxOpen);
             poolConnFactory.setMaxConnLifetimeMillis(DEFAULT_IDLE_TIMEOUT);
             poolConnFactory.setDefaultTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
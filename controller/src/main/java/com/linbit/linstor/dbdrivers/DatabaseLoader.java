@@ -85,6 +85,8 @@ import com.linbit.linstor.layer.LayerPayload;
 import com.linbit.linstor.layer.resource.AbsRscLayerHelper;
 import com.linbit.linstor.layer.resource.CtrlRscLayerDataFactory;
 import com.linbit.linstor.layer.snapshot.CtrlSnapLayerDataFactory;
+import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.prometheus.LinstorControllerMetrics;
 import com.linbit.linstor.propscon.InvalidKeyException;
 import com.linbit.linstor.propscon.Props;
 import com.linbit.linstor.security.AccessContext;
@@ -106,6 +108,7 @@ import javax.inject.Provider;
 import javax.inject.Singleton;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -115,6 +118,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -143,6 +147,51 @@ public class DatabaseLoader implements DatabaseDriver
         }
     }
 
+    /**
+     * All tables read during the initial loading, roughly in the order they are needed
+     */
+    private static final List<DatabaseTable> PREFETCH_TABLES = Collections.unmodifiableList(
+        Arrays.asList(
+            GeneratedDatabaseTables.SEC_CONFIGURATION,
+            GeneratedDatabaseTables.SEC_IDENTITIES,
+            GeneratedDatabaseTables.SEC_TYPES,
+            GeneratedDatabaseTables.SEC_TYPE_RULES,
+            GeneratedDatabaseTables.SEC_ROLES,
+            GeneratedDatabaseTables.SEC_OBJECT_PROTECTION,
+            GeneratedDatabaseTables.SEC_ACL_MAP,
+            GeneratedDatabaseTables.PROPS_CONTAINERS,
+            GeneratedDatabaseTables.RESOURCE_GROUPS,
+            GeneratedDatabaseTables.VOLUME_GROUPS,
+            GeneratedDatabaseTables.NODES,
+            GeneratedDatabaseTables.RESOURCE_DEFINITIONS,
+            GeneratedDatabaseTables.STOR_POOL_DEFINITIONS,
+            GeneratedDatabaseTables.FILES,
+            GeneratedDatabaseTables.S3_REMOTES,
+            GeneratedDatabaseTables.LINSTOR_REMOTES,
+            GeneratedDatabaseTables.EBS_REMOTES,
+            GeneratedDatabaseTables.SCHEDULES,
+            GeneratedDatabaseTables.NODE_NET_INTERFACES,
+            GeneratedDatabaseTables.NODE_CONNECTIONS,
+            GeneratedDatabaseTables.NODE_STOR_POOL,
+            GeneratedDatabaseTables.RESOURCES,
+            GeneratedDatabaseTables.RESOURCE_CONNECTIONS,
+            GeneratedDatabaseTables.VOLUME_DEFINITIONS,
+            GeneratedDatabaseTables.VOLUMES,
+            GeneratedDatabaseTables.VOLUME_CONNECTIONS,
+            GeneratedDatabaseTables.KEY_VALUE_STORE,
+            GeneratedDatabaseTables.LAYER_RESOURCE_IDS,
+            GeneratedDatabaseTables.LAYER_DRBD_RESOURCE_DEFINITIONS,
+            GeneratedDatabaseTables.LAYER_DRBD_VOLUME_DEFINITIONS,
+            GeneratedDatabaseTables.LAYER_DRBD_RESOURCES,
+            GeneratedDatabaseTables.LAYER_DRBD_VOLUMES,
+            GeneratedDatabaseTables.LAYER_LUKS_VOLUMES,
+            GeneratedDatabaseTables.LAYER_STORAGE_VOLUMES,
+            GeneratedDatabaseTables.LAYER_BCACHE_VOLUMES,
+            GeneratedDatabaseTables.LAYER_CACHE_VOLUMES,
+            GeneratedDatabaseTables.LAYER_WRITECACHE_VOLUMES
+        )
+    );
+
     private final AccessContext dbCtx;
     private final SecDatabaseLoader securityDbLoader;
     private final DbCoreObjProtInitializer dbCoreObjProtInitializer;
@@ -189,6 +238,8 @@ public class DatabaseLoader implements DatabaseDriver
     private final CtrlStorPoolResolveHelper storPoolResolveHelper;
     private final RemoteMap remoteMap;
     private final ScheduleMap scheduleMap;
+    private final DbEngine dbEngine;
+    private final ErrorReporter errorReporter;
 
     @Inject
     public DatabaseLoader(
@@ -236,7 +287,9 @@ public class DatabaseLoader implements DatabaseDriver
         CoreModule.ExternalFileMap extFileMapRef,
         CtrlStorPoolResolveHelper storPoolResolveHelperRef,
         CoreModule.RemoteMap remoteMapRef,
-        CoreModule.ScheduleMap scheduleMapRef
+        CoreModule.ScheduleMap scheduleMapRef,
+        DbEngine dbEngineRef,
+        ErrorReporter errorReporterRef
     )
     {
         dbCtx = privCtx;
@@ -285,6 +338,8 @@ public class DatabaseLoader implements DatabaseDriver
         storPoolResolveHelper = storPoolResolveHelperRef;
         remoteMap = remoteMapRef;
         scheduleMap = scheduleMapRef;
+        dbEngine = dbEngineRef;
+        errorReporter = errorReporterRef;
 
         ArrayList<DeviceLayerKind> layerKindsWithoutDriver = new ArrayList<>();
         for (DeviceLayerKind kind : DeviceLayerKind.values())
@@ -304,8 +359,24 @@ public class DatabaseLoader implements DatabaseDriver
     @Override
     public void loadSecurityObjects() throws DatabaseException, InitializationException
     {
-        securityDbLoader.loadAll();
-        dbCoreObjProtInitializer.initialize();
+        // the tables of the core objects are read while the security objects are being restored
+        dbEngine.prefetch(PREFETCH_TABLES);
+        boolean loaded = false;
+        try
+        {
+            long phaseStart = System.nanoTime();
+            securityDbLoader.loadAll();
+            dbCoreObjProtInitializer.initialize();
+            phaseFinished("security", phaseStart);
+            loaded = true;
+        }
+        finally
+        {
+            if (!loaded)
+            {
+                dbEngine.clearPrefetched();
+            }
+        }
     }
 
     /**
@@ -316,6 +387,8 @@ public class DatabaseLoader implements DatabaseDriver
     {
         try
         {
+            long phaseStart = System.nanoTime();
+
             /*
              * After 1.12.4 we are prohibiting mixing LVM with LVM_THIN.
              * If such combination was already in the database, we have to disable that check during DB loading
@@ -328,6 +401,7 @@ public class DatabaseLoader implements DatabaseDriver
             // depends on loaded (cached) props
             ctrlConf.loadAll();
             stltConf.loadAll();
+            phaseStart = phaseFinished("props", phaseStart);
 
             // load the resource groups
             Map<ResourceGroup, ResourceGroup.InitMaps> loadedRscGroupsMap =
@@ -346,6 +420,7 @@ public class DatabaseLoader implements DatabaseDriver
                     vlmGrp
                 );
             }
+            phaseStart = phaseFinished("groups", phaseStart);
 
             // load the main objects (nodes, rscDfns, storPoolDfns, extFiles, remotes, schedules)
             Map<Node, Node.InitMaps> loadedNodesMap =
@@ -385,6 +460,7 @@ public class DatabaseLoader implements DatabaseDriver
             tmpRemoteMap.putAll(mapByName(loadedLinstorRemotesMap, LinstorRemote::getName));
             tmpRemoteMap.putAll(mapByName(loadedEbsRemotesMap, EbsRemote::getName));
             Map<ScheduleName, Schedule> tmpScheduleMap = mapByName(loadedSchedulesMap, Schedule::getName);
+            phaseStart = phaseFinished("definitions", phaseStart);
 
 
             // loading net interfaces
@@ -430,6 +506,7 @@ public class DatabaseLoader implements DatabaseDriver
             }
             // loading free space managers
             Map<SharedStorPoolName, FreeSpaceMgr> tmpFreeSpaceMgrMap = storPoolDriver.getAllLoadedFreeSpaceMgrs();
+            phaseStart = phaseFinished("nodes", phaseStart);
 
             // temporary storPool map
             Map<Pair<NodeName, StorPoolName>, StorPool> tmpStorPoolMap =
@@ -522,6 +599,7 @@ public class DatabaseLoader implements DatabaseDriver
                 loadedVolumes.get(sourceVolume).getVolumeConnections().put(targetVolume.getKey(), vlmConn);
                 loadedVolumes.get(targetVolume).getVolumeConnections().put(sourceVolume.getKey(), vlmConn);
             }
+            phaseStart = phaseFinished("resources", phaseStart);
 
             // loading snapshot definitions
             Map<SnapshotDefinition, SnapshotDefinition.InitMaps> loadedSnapshotDfns = snapshotDefinitionDriver.loadAll(
@@ -600,6 +678,7 @@ public class DatabaseLoader implements DatabaseDriver
                 loadedSnapshotVolumeDefinitions.get(snapshotVolume.getSnapshotVolumeDefinition()).getSnapshotVlmMap()
                     .put(snapshotVolume.getNodeName(), snapshotVolume);
             }
+            phaseStart = phaseFinished("snapshots", phaseStart);
 
             // load and put key value store map
             Map<KeyValueStore, KeyValueStore.InitMaps> loadedKeyValueStoreMap =
@@ -644,6 +723,7 @@ public class DatabaseLoader implements DatabaseDriver
                 tmpSnapshotMap,
                 tmpStorPoolMapForLayers
             );
+            phaseStart = phaseFinished("layers", phaseStart);
 
             // load external names
             for (ResourceDefinition rscDfn : tmpRscDfnMap.values())
@@ -666,6 +746,7 @@ public class DatabaseLoader implements DatabaseDriver
             exosMappingMgr.allocateAfterDbLoad();
 
             propsDriver.clearCache();
+            phaseFinished("linking", phaseStart);
         }
         catch (AccessDeniedException exc)
         {
@@ -686,9 +767,26 @@ public class DatabaseLoader implements DatabaseDriver
         finally
         {
             storPoolResolveHelper.setEnableChecks(true);
+            dbEngine.clearPrefetched();
         }
     }
 
+    /**
+     * Logs and records the duration of the given loading phase and returns the start time of the next phase
+     */
+    private long phaseFinished(String phase, long phaseStartNanos)
+    {
+        long now = System.nanoTime();
+        long durationNanos = now - phaseStartNanos;
+        LinstorControllerMetrics.dbLoadPhaseGauge.labels(phase).set(durationNanos / 1_000_000_000.0);
+        errorReporter.logInfo(
+            "Database load phase '%s' completed in %d ms",
+            phase,
+            TimeUnit.NANOSECONDS.toMillis(durationNanos)
+        );
+        return now;
+    }
+
     public static <NAME, DATA, IN_DATA extends DATA> TreeMap<NAME, DATA> mapByName(
         Map<IN_DATA, ?> map,
         Function<IN_DATA, NAME> nameMapper
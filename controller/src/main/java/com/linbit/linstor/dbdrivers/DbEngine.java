@@ -352,6 +352,25 @@ public interface DbEngine
         throws DatabaseException, AccessDeniedException, InvalidNameException, InvalidIpAddressException,
         ValueOutOfRangeException, MdException, ValueInUseException, ExhaustedPoolException, AccessDeniedException;
 
+    /**
+     * Starts reading all rows of the given tables in the background, so that following
+     * {@link #loadAll(DatabaseTable, Object, DataLoader)} calls for these tables do not have to wait for the
+     * database. Only intended for the initial loading, where nothing else modifies the database concurrently.
+     * Engines that cannot read independently of the current transaction ignore this call.
+     */
+    default void prefetch(Collection<DatabaseTable> tables)
+    {
+        // noop
+    }
+
+    /**
+     * Discards all rows read by {@link #prefetch(Collection)}
+     */
+    default void clearPrefetched()
+    {
+        // noop
+    }
+
     String getDbDump() throws DatabaseException;
 
     ApiCallRc backupDb(String backupPath) throws DatabaseException;
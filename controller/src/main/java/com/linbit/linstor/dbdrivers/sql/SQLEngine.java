@@ -6,6 +6,8 @@ import com.linbit.InvalidNameException;
 import com.linbit.ValueInUseException;
 import com.linbit.ValueOutOfRangeException;
 import com.linbit.drbd.md.MdException;
+import com.linbit.linstor.ControllerDatabase;
+import com.linbit.linstor.ControllerSQLDatabase;
 import com.linbit.linstor.LinStorDBRuntimeException;
 import com.linbit.linstor.api.ApiCallRc;
 import com.linbit.linstor.api.ApiCallRcImpl;
@@ -29,14 +31,19 @@ import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.security.AccessDeniedException;
 import com.linbit.linstor.stateflags.Flags;
 import com.linbit.linstor.stateflags.StateFlagsPersistence;
+import com.linbit.linstor.transaction.manager.SQLWriteBatch;
+import com.linbit.linstor.transaction.manager.SQLWriteBatch.OpType;
+import com.linbit.linstor.transaction.manager.SQLWriteBatch.ParameterSetter;
 import com.linbit.linstor.transaction.manager.TransactionMgrSQL;
 import com.linbit.utils.ExceptionThrowingFunction;
 import com.linbit.utils.Pair;
 
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 
+import java.nio.ByteBuffer;
 import java.sql.Connection;
 import java.sql.JDBCType;
 import java.sql.PreparedStatement;
@@ -45,10 +52,16 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -62,8 +75,14 @@ public class SQLEngine implements DbEngine
     private static final String DELIMITER_LIST = ", ";
     private static final String DELIMITER_VALUES = "?" + DELIMITER_LIST;
 
+    /*
+     * Every prefetching thread uses its own connection, stay well below the default maximum of 8 pooled connections
+     */
+    private static final int PREFETCH_THREADS = 4;
+
     private final ErrorReporter errorReporter;
     private final Provider<TransactionMgrSQL> transMgrProvider;
+    private final Provider<ControllerDatabase> ctrlDbProvider;
     private final HashMap<DatabaseTable, String> selectAllStatements;
     private final HashMap<DatabaseTable, String> selectSingleStatements;
     private final HashMap<DatabaseTable, String> insertStatements;
@@ -71,17 +90,21 @@ public class SQLEngine implements DbEngine
     private final HashMap<DatabaseTable, String> deleteStatements;
     private final HashMap<DatabaseTable, String> truncateStatements;
     private final CtrlConfig ctrlCfg;
+    private final Map<DatabaseTable, Future<List<RawParameters>>> prefetchedRows;
 
     @Inject
     public SQLEngine(
         ErrorReporter errorReporterRef,
         Provider<TransactionMgrSQL> transMgrProviderRef,
+        Provider<ControllerDatabase> ctrlDbProviderRef,
         CtrlConfig ctrlCfgRef
     )
     {
         errorReporter = errorReporterRef;
         transMgrProvider = transMgrProviderRef;
+        ctrlDbProvider = ctrlDbProviderRef;
         ctrlCfg = ctrlCfgRef;
+        prefetchedRows = new ConcurrentHashMap<>();
 
         selectAllStatements = new HashMap<>();
         selectSingleStatements = new HashMap<>();
@@ -141,7 +164,7 @@ public class SQLEngine implements DbEngine
         {
             errorReporter.logTrace("Creating %s %s", table.getName(), dataToString.toString(data));
 
-            insertImpl(setters, data, table);
+            insertImpl(setters, data, table, dataToString);
 
             errorReporter.logTrace("%s created %s", table.getName(), dataToString.toString(data));
         }
@@ -154,15 +177,21 @@ public class SQLEngine implements DbEngine
     private <DATA> void insertImpl(
         Map<Column, ExceptionThrowingFunction<DATA, Object, AccessDeniedException>> setters,
         DATA data,
-        DatabaseTable table
+        DatabaseTable table,
+        DataToString<DATA> dataToString
     )
         throws DatabaseException, AccessDeniedException
     {
-        try (PreparedStatement stmt = getConnection().prepareStatement(getInsertStatement(table)))
+        try
         {
-            setValues(setters, stmt, 1, table, ignored -> true, data);
-
-            stmt.executeUpdate();
+            executeUpdate(
+                table,
+                OpType.INSERT,
+                getPrimaryKey(setters, table, data),
+                getInsertStatement(table),
+                dataToString.toString(data),
+                stmt -> setValues(setters, stmt, 1, table, ignored -> true, data)
+            );
         }
         catch (SQLException sqlExc)
         {
@@ -246,30 +275,31 @@ public class SQLEngine implements DbEngine
     )
         throws DatabaseException, AccessDeniedException
     {
-        try (PreparedStatement upsertStmt = getConnection().prepareStatement(getSelectSingleStatement(tableRef)))
+        try
         {
             errorReporter.logTrace("Upserting %s %s", tableRef.getName(), dataToStringRef.toString(dataRef));
 
-            setPrimaryValues(settersRef, upsertStmt, 1, tableRef, dataRef);
-            ResultSet resultSet = upsertStmt.executeQuery();
-            if (resultSet.next())
+            if (exists(settersRef, dataRef, tableRef))
             {
                 errorReporter.logTrace(
                     "Entry exists. Updating %s %s",
                     tableRef.getName(),
                     dataToStringRef.toString(dataRef)
                 );
-                try (
-                    PreparedStatement updateStmt = getConnection().prepareStatement(getUpdateSingleStatement(tableRef)))
-                {
-                    /*
-                     * UPDATE <table> SET $NON-PK1 = ?, ... WHERE $PK1 = ? AND ...
-                     */
-                    int idx = setValues(settersRef, updateStmt, 1, tableRef, clm -> !clm.isPk(), dataRef);
-                    setPrimaryValues(settersRef, updateStmt, idx, tableRef, dataRef);
-
-                    updateStmt.executeUpdate();
-                }
+                executeUpdate(
+                    tableRef,
+                    OpType.UPDATE,
+                    getUpdateSingleStatement(tableRef),
+                    dataToStringRef.toString(dataRef),
+                    updateStmt ->
+                    {
+                        /*
+                         * UPDATE <table> SET $NON-PK1 = ?, ... WHERE $PK1 = ? AND ...
+                         */
+                        int idx = setValues(settersRef, updateStmt, 1, tableRef, clm -> !clm.isPk(), dataRef);
+                        setPrimaryValues(settersRef, updateStmt, idx, tableRef, dataRef);
+                    }
+                );
             }
             else
             {
@@ -278,7 +308,7 @@ public class SQLEngine implements DbEngine
                     tableRef.getName(),
                     dataToStringRef.toString(dataRef)
                 );
-                insertImpl(settersRef, dataRef, tableRef);
+                insertImpl(settersRef, dataRef, tableRef, dataToStringRef);
             }
             errorReporter.logTrace("%s upserted %s", tableRef.getName(), dataToStringRef.toString(dataRef));
         }
@@ -292,6 +322,45 @@ public class SQLEngine implements DbEngine
         }
     }
 
+    /**
+     * Checks if the row of the given data exists, taking the not yet executed statements of the write batch into
+     * account. The write batch is only sent to the database first if it might have deleted the row indirectly.
+     */
+    private <DATA> boolean exists(
+        Map<Column, ExceptionThrowingFunction<DATA, Object, AccessDeniedException>> setters,
+        DATA data,
+        DatabaseTable table
+    )
+        throws SQLException, DatabaseException, AccessDeniedException
+    {
+        TransactionMgrSQL transMgr = transMgrProvider.get();
+        @Nullable SQLWriteBatch writeBatch = transMgr.getWriteBatch();
+        @Nullable Boolean pendingExists = writeBatch == null ?
+            null :
+            writeBatch.getPendingRowExists(table.getName(), getPrimaryKey(setters, table, data));
+
+        boolean exists;
+        if (pendingExists != null)
+        {
+            exists = pendingExists;
+        }
+        else
+        {
+            Connection dbCon = writeBatch != null && writeBatch.mayDeleteFrom(table.getName()) ?
+                getConnection() :
+                transMgr.getConnection();
+            try (PreparedStatement selectStmt = dbCon.prepareStatement(getSelectSingleStatement(table)))
+            {
+                setPrimaryValues(setters, selectStmt, 1, table, data);
+                try (ResultSet resultSet = selectStmt.executeQuery())
+                {
+                    exists = resultSet.next();
+                }
+            }
+        }
+        return exists;
+    }
+
     private String getSelectSingleStatement(DatabaseTable table)
     {
         String sql = selectSingleStatements.get(table);
@@ -358,13 +427,18 @@ public class SQLEngine implements DbEngine
     )
         throws DatabaseException
     {
-        try (PreparedStatement stmt = getConnection().prepareStatement(getDeleteStatement(table)))
+        try
         {
             errorReporter.logTrace("Deleting %s %s", table.getName(), dataToString.toString(data));
 
-            setPrimaryValues(setters, stmt, 1, table, data);
-
-            stmt.executeUpdate();
+            executeUpdate(
+                table,
+                OpType.DELETE,
+                getPrimaryKey(setters, table, data),
+                getDeleteStatement(table),
+                dataToString.toString(data),
+                stmt -> setPrimaryValues(setters, stmt, 1, table, data)
+            );
 
             errorReporter.logTrace("%s deleted %s", table.getName(), dataToString.toString(data));
         }
@@ -403,6 +477,7 @@ public class SQLEngine implements DbEngine
     @Override
     public void truncate(DatabaseTable table) throws DatabaseException
     {
+        prefetchedRows.remove(table);
         try (PreparedStatement stmt = getConnection().prepareStatement(getTruncateStatement(table)))
         {
             errorReporter.logTrace("Truncating table %s", table.getName());
@@ -500,44 +575,149 @@ public class SQLEngine implements DbEngine
         throws DatabaseException, AccessDeniedException, MdException
     {
         Map<DATA, INIT_MAPS> loadedObjectsMap = new TreeMap<>();
-        try (PreparedStatement stmt = getConnection().prepareStatement(getSelectAllStatement(table)))
+        @Nullable List<RawParameters> prefetched = getPrefetched(table);
+        if (prefetched != null)
         {
-            try (ResultSet resultSet = stmt.executeQuery())
+            for (RawParameters rawParams : prefetched)
             {
-                while (resultSet.next())
+                restoreData(loadedObjectsMap, table, rawParams, parentsRef, dataLoaderRef);
+            }
+        }
+        else
+        {
+            try (PreparedStatement stmt = getConnection().prepareStatement(getSelectAllStatement(table)))
+            {
+                try (ResultSet resultSet = stmt.executeQuery())
                 {
-                    Pair<DATA, INIT_MAPS> pair = restoreData(
-                        table, resultSet, parentsRef, dataLoaderRef
-                    );
-                    // pair might be null when loading objects sharing the same table.
-                    // For example SnapshotDbDriver will return null when finding a Resource entry
-                    // and vice versa.
-                    if (pair != null)
+                    while (resultSet.next())
                     {
-                        loadedObjectsMap.put(pair.objA, pair.objB);
+                        restoreData(
+                            loadedObjectsMap,
+                            table,
+                            buildRawParams(table, resultSet, table.values(), new TreeMap<>()),
+                            parentsRef,
+                            dataLoaderRef
+                        );
                     }
                 }
             }
+            catch (SQLException exc)
+            {
+                throw new DatabaseException(exc);
+            }
         }
-        catch (SQLException exc)
+        return loadedObjectsMap;
+    }
+
+    @Override
+    public void prefetch(Collection<DatabaseTable> tables)
+    {
+        ControllerDatabase ctrlDb = ctrlDbProvider.get();
+        if (ctrlDb instanceof ControllerSQLDatabase && !tables.isEmpty())
         {
-            throw new DatabaseException(exc);
+            ControllerSQLDatabase sqlDb = (ControllerSQLDatabase) ctrlDb;
+            ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(PREFETCH_THREADS, tables.size()),
+                runnable ->
+                {
+                    Thread thread = new Thread(runnable, "DbPrefetch");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            );
+            for (DatabaseTable table : tables)
+            {
+                prefetchedRows.put(table, executor.submit(() -> prefetchTable(sqlDb, table)));
+            }
+            // the threads terminate once all submitted tables are read
+            executor.shutdown();
         }
-        return loadedObjectsMap;
     }
 
-    private <DATA, INIT_MAPS, LOAD_ALL> Pair<DATA, INIT_MAPS> restoreData(
+    @Override
+    public void clearPrefetched()
+    {
+        for (Future<List<RawParameters>> future : prefetchedRows.values())
+        {
+            future.cancel(false);
+        }
+        prefetchedRows.clear();
+    }
+
+    /**
+     * Returns the prefetched rows of the given table or null if the table was not prefetched (or modified since). If
+     * prefetching failed, the error is logged and null is returned, so the table is read using the current
+     * transaction instead.
+     */
+    private @Nullable List<RawParameters> getPrefetched(DatabaseTable table) throws DatabaseException
+    {
+        @Nullable List<RawParameters> ret = null;
+        @Nullable Future<List<RawParameters>> future = prefetchedRows.get(table);
+        if (future != null)
+        {
+            try
+            {
+                ret = future.get();
+            }
+            catch (InterruptedException exc)
+            {
+                Thread.currentThread().interrupt();
+                throw new DatabaseException("Interrupted while reading table " + table.getName(), exc);
+            }
+            catch (ExecutionException exc)
+            {
+                errorReporter.logWarning(
+                    "Prefetching table %s failed, reading it again: %s",
+                    table.getName(),
+                    exc.getCause().getMessage()
+                );
+                prefetchedRows.remove(table);
+            }
+        }
+        return ret;
+    }
+
+    private List<RawParameters> prefetchTable(ControllerSQLDatabase sqlDb, DatabaseTable table)
+        throws SQLException, DatabaseException
+    {
+        List<RawParameters> ret;
+        Connection dbCon = sqlDb.getConnection();
+        try
+        {
+            ret = selectAll(dbCon, table);
+        }
+        finally
+        {
+            sqlDb.returnConnection(dbCon);
+        }
+        return ret;
+    }
+
+    private List<RawParameters> selectAll(Connection dbCon, DatabaseTable table) throws SQLException, DatabaseException
+    {
+        List<RawParameters> ret = new ArrayList<>();
+        try (PreparedStatement stmt = dbCon.prepareStatement(getSelectAllStatement(table)))
+        {
+            try (ResultSet resultSet = stmt.executeQuery())
+            {
+                while (resultSet.next())
+                {
+                    ret.add(buildRawParams(table, resultSet, table.values(), new TreeMap<>()));
+                }
+            }
+        }
+        return ret;
+    }
+
+    private <DATA, INIT_MAPS, LOAD_ALL> void restoreData(
+        Map<DATA, INIT_MAPS> loadedObjectsMap,
         DatabaseTable table,
-        ResultSet resultSet,
+        RawParameters rawParams,
         LOAD_ALL parents,
         DataLoader<DATA, INIT_MAPS, LOAD_ALL> dataLoader
     )
         throws DatabaseException, MdException
     {
-        Column[] columns = table.values();
-        Map<String, Object> objects = new TreeMap<>();
-        RawParameters rawParams = buildRawParams(table, resultSet, columns, objects);
-
         Pair<DATA, INIT_MAPS> pair;
         try
         {
@@ -551,11 +731,11 @@ public class SQLEngine implements DbEngine
             AccessDeniedException | ValueInUseException | ExhaustedPoolException exc)
         {
             StringBuilder pk = new StringBuilder("Primary key: ");
-            for (Column col : columns)
+            for (Column col : table.values())
             {
                 if (col.isPk())
                 {
-                    pk.append(col.getName()).append(" = '").append(objects.get(col.getName())).append("', ");
+                    pk.append(col.getName()).append(" = '").append((Object) rawParams.get(col)).append("', ");
                 }
             }
             pk.setLength(pk.length() - 2);
@@ -571,7 +751,13 @@ public class SQLEngine implements DbEngine
                 exc
             );
         }
-        return pair;
+        // pair might be null when loading objects sharing the same table.
+        // For example SnapshotDbDriver will return null when finding a Resource entry
+        // and vice versa.
+        if (pair != null)
+        {
+            loadedObjectsMap.put(pair.objA, pair.objB);
+        }
     }
 
     private RawParameters buildRawParams(
@@ -629,21 +815,10 @@ public class SQLEngine implements DbEngine
     @Override
     public List<RawParameters> export(DatabaseTable tableRef) throws DatabaseException
     {
-        List<RawParameters> ret = new ArrayList<>();
-        try (PreparedStatement stmt = getConnection().prepareStatement(getSelectAllStatement(tableRef)))
+        List<RawParameters> ret;
+        try
         {
-            try (ResultSet resultSet = stmt.executeQuery())
-            {
-                while (resultSet.next())
-                {
-                    ret.add(buildRawParams(
-                        tableRef,
-                        resultSet,
-                        tableRef.values(),
-                        new TreeMap<>()
-                    ));
-                }
-            }
+            ret = selectAll(getConnection(), tableRef);
         }
         catch (SQLException exc)
         {
@@ -696,9 +871,67 @@ public class SQLEngine implements DbEngine
         }
     }
 
-    Connection getConnection()
+    /**
+     * Returns the connection of the current transaction. All batched writes are sent to the database first, so that
+     * the connection can also be used for reading.
+     */
+    Connection getConnection() throws SQLException, DatabaseException
     {
-        return transMgrProvider.get().getConnection();
+        TransactionMgrSQL transMgr = transMgrProvider.get();
+        @Nullable SQLWriteBatch writeBatch = transMgr.getWriteBatch();
+        if (writeBatch != null && !writeBatch.isEmpty())
+        {
+            writeBatch.flush();
+        }
+        return transMgr.getConnection();
+    }
+
+    /**
+     * Executes the given UPDATE statement, or adds it to the write batch of the current transaction if write batching
+     * is enabled
+     *
+     * @param description
+     *     Identifies the updated object if the statement fails after being batched
+     */
+    void executeUpdate(DatabaseTable table, OpType opType, String sql, String description, ParameterSetter paramSetter)
+        throws SQLException, DatabaseException, AccessDeniedException
+    {
+        executeUpdate(table, opType, null, sql, description, paramSetter);
+    }
+
+    /**
+     * Executes the given INSERT, UPDATE or DELETE statement, or adds it to the write batch of the current
+     * transaction if write batching is enabled
+     *
+     * @param primaryKey
+     *     The primary key of the inserted or deleted row, see {@link #getPrimaryKey}
+     */
+    private void executeUpdate(
+        DatabaseTable table,
+        OpType opType,
+        @Nullable List<Object> primaryKey,
+        String sql,
+        String description,
+        ParameterSetter paramSetter
+    )
+        throws SQLException, DatabaseException, AccessDeniedException
+    {
+        // rows read before this transaction modified the table are outdated
+        prefetchedRows.remove(table);
+        TransactionMgrSQL transMgr = transMgrProvider.get();
+        @Nullable SQLWriteBatch writeBatch = transMgr.getWriteBatch();
+        if (writeBatch != null)
+        {
+            writeBatch.add(table.getName(), opType, primaryKey, sql, description, paramSetter);
+        }
+        else
+        {
+            try (PreparedStatement stmt = transMgr.getConnection().prepareStatement(sql))
+            {
+                paramSetter.setParameters(stmt);
+                stmt.executeUpdate();
+            }
+        }
     }
 
     String generateUpdateStatement(Column colToUpdate)
@@ -719,6 +952,32 @@ public class SQLEngine implements DbEngine
         return sql.toString();
     }
 
+    /**
+     * Returns the values of the primary key columns of the given data, comparable by {@link List#equals}
+     */
+    private <DATA> List<Object> getPrimaryKey(
+        Map<Column, ExceptionThrowingFunction<DATA, Object, AccessDeniedException>> setters,
+        DatabaseTable table,
+        DATA data
+    )
+        throws AccessDeniedException
+    {
+        List<Object> primaryKey = new ArrayList<>();
+        for (Column col : table.values())
+        {
+            if (col.isPk())
+            {
+                Object value = setters.get(col).accept(data);
+                if (value instanceof byte[])
+                {
+                    value = ByteBuffer.wrap((byte[]) value);
+                }
+                primaryKey.add(value);
+            }
+        }
+        return primaryKey;
+    }
+
     <DATA> int setPrimaryValues(
         Map<Column, ExceptionThrowingFunction<DATA, Object, AccessDeniedException>> setters,
         PreparedStatement stmt,
@@ -877,7 +1136,15 @@ public class SQLEngine implements DbEngine
     @Override
     public String getDbDump() throws DatabaseException
     {
-        DbDump dump = SqlDump.getDump(getConnection());
+        DbDump dump;
+        try
+        {
+            dump = SqlDump.getDump(getConnection());
+        }
+        catch (SQLException sqlExc)
+        {
+            throw new DatabaseException(sqlExc);
+        }
         return dump.serializeHuman();
     }
 }
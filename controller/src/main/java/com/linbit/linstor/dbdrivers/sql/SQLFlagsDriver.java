@@ -7,13 +7,13 @@ import com.linbit.linstor.dbdrivers.DatabaseTable.Column;
 import com.linbit.linstor.dbdrivers.DbEngine.DataToString;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.security.AccessDeniedException;
+import com.linbit.linstor.transaction.manager.SQLWriteBatch.OpType;
 import com.linbit.linstor.stateflags.Flags;
 import com.linbit.linstor.stateflags.FlagsHelper;
 import com.linbit.linstor.stateflags.StateFlagsPersistence;
 import com.linbit.utils.ExceptionThrowingFunction;
 import com.linbit.utils.StringUtils;
 
-import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Map;
 
@@ -52,7 +52,7 @@ class SQLFlagsDriver<DATA, FLAG extends Enum<FLAG> & Flags> implements StateFlag
     @Override
     public void persist(DATA data, long oldFlagBits, long newFlagBits) throws DatabaseException
     {
-        try (PreparedStatement stmt = sqlEngine.getConnection().prepareStatement(updateStatement))
+        try
         {
             String fromFlags = StringUtils.join(
                 FlagsHelper.toStringList(flagsClass, oldFlagBits),
@@ -72,10 +72,17 @@ class SQLFlagsDriver<DATA, FLAG extends Enum<FLAG> & Flags> implements StateFlag
                     toFlags,
                     inlineId
                 );
-            stmt.setLong(1, newFlagBits);
-            sqlEngine.setPrimaryValues(setters, stmt, 2, table, data);
-
-            stmt.executeUpdate();
+            sqlEngine.executeUpdate(
+                table,
+                OpType.UPDATE,
+                updateStatement,
+                inlineId,
+                stmt ->
+                {
+                    stmt.setLong(1, newFlagBits);
+                    sqlEngine.setPrimaryValues(setters, stmt, 2, table, data);
+                }
+            );
 
             errorReporter
                 .logTrace(
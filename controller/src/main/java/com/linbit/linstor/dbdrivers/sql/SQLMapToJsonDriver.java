@@ -8,9 +8,9 @@ import com.linbit.linstor.dbdrivers.DbEngine.DataToString;
 import com.linbit.linstor.dbdrivers.interfaces.updater.MapDatabaseDriver;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.security.AccessDeniedException;
+import com.linbit.linstor.transaction.manager.SQLWriteBatch.OpType;
 import com.linbit.utils.ExceptionThrowingFunction;
 
-import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Map;
 
@@ -69,7 +69,7 @@ class SQLMapToJsonDriver<DATA, KEY, VALUE> implements MapDatabaseDriver<DATA, KE
     private void update(DATA data, Map<KEY, VALUE> backingMapRef)
         throws DatabaseException
     {
-        try (PreparedStatement stmt = sqlEngine.getConnection().prepareStatement(updateStatement))
+        try
         {
             String inlineId = dataToString.toString(data);
             errorReporter.logTrace(
@@ -80,10 +80,17 @@ class SQLMapToJsonDriver<DATA, KEY, VALUE> implements MapDatabaseDriver<DATA, KE
                 inlineId
             );
 
-            stmt.setObject(1, columnSetter.accept(data));
-            sqlEngine.setPrimaryValues(setters, stmt, 2, table, data);
-
-            stmt.executeUpdate();
+            sqlEngine.executeUpdate(
+                table,
+                OpType.UPDATE,
+                updateStatement,
+                inlineId,
+                stmt ->
+                {
+                    stmt.setObject(1, columnSetter.accept(data));
+                    sqlEngine.setPrimaryValues(setters, stmt, 2, table, data);
+                }
+            );
             errorReporter.logTrace(
                 "%s's %s updated to %s %s",
                 table.getName(),
@@ -9,6 +9,7 @@ import com.linbit.linstor.dbdrivers.DbEngine.DataToString;
 import com.linbit.linstor.dbdrivers.interfaces.updater.SingleColumnDatabaseDriver;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.security.AccessDeniedException;
+import com.linbit.linstor.transaction.manager.SQLWriteBatch.OpType;
 import com.linbit.utils.ExceptionThrowingFunction;
 
 import java.sql.PreparedStatement;
@@ -83,13 +84,17 @@ class SQLSingleColumnDriver<DATA, INPUT_TYPE, DB_TYPE> implements SingleColumnDa
                     dataToString.toString(parentRef)
                 );
             }
-            try (PreparedStatement stmt = sqlEngine.getConnection().prepareStatement(updateStatement))
-            {
-                int idx = fillSetter(stmt, 1, (DB_TYPE) setters.get(colToUpdate).accept(parentRef));
-                sqlEngine.setPrimaryValues(setters, stmt, idx, table, parentRef);
-
-                stmt.executeUpdate();
-            }
+            sqlEngine.executeUpdate(
+                table,
+                OpType.UPDATE,
+                updateStatement,
+                dataToString.toString(parentRef),
+                stmt ->
+                {
+                    int idx = fillSetter(stmt, 1, (DB_TYPE) setters.get(colToUpdate).accept(parentRef));
+                    sqlEngine.setPrimaryValues(setters, stmt, idx, table, parentRef);
+                }
+            );
             if (oldElementRef instanceof byte[])
             {
                 errorReporter.logTrace(
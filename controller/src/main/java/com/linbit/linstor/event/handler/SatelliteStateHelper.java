@@ -6,6 +6,7 @@ import com.linbit.linstor.core.CoreModule;
 import com.linbit.linstor.core.identifier.NodeName;
 import com.linbit.linstor.core.objects.Node;
 import com.linbit.linstor.netcom.Peer;
+import com.linbit.linstor.prometheus.CtrlMetricsCache;
 import com.linbit.linstor.satellitestate.SatelliteState;
 import com.linbit.linstor.security.AccessContext;
 import com.linbit.linstor.security.AccessDeniedException;
@@ -24,17 +25,20 @@ public class SatelliteStateHelper
     private final AccessContext accCtx;
     private final CoreModule.NodesMap nodesMap;
     private final ReadWriteLock nodesMapLock;
+    private final CtrlMetricsCache metricsCache;
 
     @Inject
     public SatelliteStateHelper(
         @ApiContext AccessContext accCtxRef,
         CoreModule.NodesMap nodesMapRef,
-        @Named(CoreModule.NODES_MAP_LOCK) ReadWriteLock nodesMapLockRef
+        @Named(CoreModule.NODES_MAP_LOCK) ReadWriteLock nodesMapLockRef,
+        CtrlMetricsCache metricsCacheRef
     )
     {
         accCtx = accCtxRef;
         nodesMap = nodesMapRef;
         nodesMapLock = nodesMapLockRef;
+        metricsCache = metricsCacheRef;
     }
 
     public <T> T withSatelliteState(NodeName nodeName, Function<SatelliteState, T> extractor, T defaultIfNoPeer)
@@ -62,6 +66,8 @@ public class SatelliteStateHelper
                     {
                         writeLock.unlock();
                     }
+                    // resource and volume states are part of the resource metrics
+                    metricsCache.invalidate(CtrlMetricsCache.Section.RESOURCES);
                 }
             }
         }
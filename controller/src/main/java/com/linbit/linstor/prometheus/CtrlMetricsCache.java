@@ -0,0 +1,364 @@
+package com.linbit.linstor.prometheus;
+
+import com.linbit.linstor.api.prop.LinStorObject;
+import com.linbit.linstor.core.cfg.CtrlConfig;
+import com.linbit.linstor.core.objects.ExternalFile;
+import com.linbit.linstor.core.objects.FreeSpaceMgr;
+import com.linbit.linstor.core.objects.KeyValueStore;
+import com.linbit.linstor.core.objects.NetInterface;
+import com.linbit.linstor.core.objects.Node;
+import com.linbit.linstor.core.objects.NodeConnection;
+import com.linbit.linstor.core.objects.Resource;
+import com.linbit.linstor.core.objects.ResourceConnection;
+import com.linbit.linstor.core.objects.ResourceDefinition;
+import com.linbit.linstor.core.objects.ResourceGroup;
+import com.linbit.linstor.core.objects.Schedule;
+import com.linbit.linstor.core.objects.Snapshot;
+import com.linbit.linstor.core.objects.SnapshotDefinition;
+import com.linbit.linstor.core.objects.SnapshotVolume;
+import com.linbit.linstor.core.objects.SnapshotVolumeDefinition;
+import com.linbit.linstor.core.objects.StorPool;
+import com.linbit.linstor.core.objects.StorPoolDefinition;
+import com.linbit.linstor.core.objects.Volume;
+import com.linbit.linstor.core.objects.VolumeConnection;
+import com.linbit.linstor.core.objects.VolumeDefinition;
+import com.linbit.linstor.core.objects.VolumeGroup;
+import com.linbit.linstor.core.objects.remotes.AbsRemote;
+import com.linbit.linstor.logging.ErrorReportResult;
+import com.linbit.linstor.propscon.PropsContainer;
+import com.linbit.linstor.security.AccessContext;
+import com.linbit.linstor.security.Identity;
+import com.linbit.linstor.security.Role;
+import com.linbit.linstor.storage.interfaces.categories.resource.AbsRscLayerObject;
+import com.linbit.linstor.storage.interfaces.categories.resource.RscDfnLayerObject;
+import com.linbit.linstor.storage.interfaces.categories.resource.VlmDfnLayerObject;
+import com.linbit.linstor.storage.interfaces.categories.resource.VlmProviderObject;
+import com.linbit.linstor.transaction.TransactionObject;
+import com.linbit.linstor.transaction.manager.TransactionCommitListener;
+import com.linbit.utils.Pair;
+
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Prebuilt exposition text of the object metrics served by /metrics.
+ * <br />
+ * Every section is rebuilt at most once after it was invalidated, no matter how many scrapes request it in the
+ * meantime. Sections are invalidated by committed transactions (of any transaction manager of the controller)
+ * that changed objects shown in the section, satellite state events and connection changes.
+ * The configured maximum age only covers changes the controller is not notified about. The lists the sections are
+ * built from are filtered by the access context of the scrape, so every identity and role gets its own entries.
+ * <br />
+ * The error report counts are kept separately, as they are not built from the controller's objects.
+ */
+@Singleton
+public class CtrlMetricsCache implements TransactionCommitListener
+{
+    public enum Section
+    {
+        NODES,
+        RSC_DFNS,
+        RESOURCES,
+        STOR_POOLS
+    }
+
+    private final long maxAgeNanos;
+    private final Map<Section, AtomicLong> generations = new EnumMap<>(Section.class);
+    private final Map<Pair<Section, Pair<Identity, Role>>, SectionEntry> entries = new ConcurrentHashMap<>();
+
+    private volatile @Nullable ErrorReportCounts errorReportCounts;
+    private final AtomicBoolean errorReportRefreshRunning = new AtomicBoolean();
+
+    @Inject
+    public CtrlMetricsCache(CtrlConfig ctrlCfgRef)
+    {
+        maxAgeNanos = TimeUnit.SECONDS.toNanos(ctrlCfgRef.getCacheMetricsMaxAge());
+        for (Section section : Section.values())
+        {
+            generations.put(section, new AtomicLong());
+        }
+    }
+
+    public void invalidate(Section section)
+    {
+        generations.get(section).incrementAndGet();
+    }
+
+    public void invalidateAll()
+    {
+        for (AtomicLong generation : generations.values())
+        {
+            generation.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void transactionCommitted(Collection<TransactionObject> committedObjects)
+    {
+        Set<Section> affectedSections = EnumSet.noneOf(Section.class);
+        Iterator<TransactionObject> transObjIt = committedObjects.iterator();
+        while (transObjIt.hasNext() && affectedSections.size() < Section.values().length)
+        {
+            affectedSections.addAll(getAffectedSections(transObjIt.next()));
+        }
+        for (Section section : affectedSections)
+        {
+            invalidate(section);
+        }
+    }
+
+    /**
+     * Returns the sections showing data of the given changed object. Objects that are not known to be irrelevant
+     * for the metrics affect all sections.
+     */
+    static Set<Section> getAffectedSections(TransactionObject transObj)
+    {
+        Set<Section> sections;
+        if (transObj instanceof PropsContainer)
+        {
+            sections = getAffectedSections(((PropsContainer) transObj).getType());
+        }
+        else
+        {
+            sections = getAffectedSectionsOfObject(transObj.getParentObject());
+        }
+        return sections;
+    }
+
+    private static Set<Section> getAffectedSectionsOfObject(Object obj)
+    {
+        Set<Section> sections;
+        if (obj instanceof Node || obj instanceof NetInterface)
+        {
+            sections = EnumSet.of(Section.NODES);
+        }
+        else
+        if (
+            obj instanceof ResourceDefinition || obj instanceof VolumeDefinition ||
+            obj instanceof RscDfnLayerObject || obj instanceof VlmDfnLayerObject
+        )
+        {
+            // the resource section is built from the resource definitions as well
+            sections = EnumSet.of(Section.RSC_DFNS, Section.RESOURCES);
+        }
+        else
+        if (obj instanceof Resource || obj instanceof Volume)
+        {
+            sections = EnumSet.of(Section.RESOURCES);
+        }
+        else
+        if (obj instanceof AbsRscLayerObject)
+        {
+            sections = getAffectedSectionsOfObject(((AbsRscLayerObject<?>) obj).getAbsResource());
+        }
+        else
+        if (obj instanceof VlmProviderObject)
+        {
+            sections = getAffectedSectionsOfObject(((VlmProviderObject<?>) obj).getVolume());
+        }
+        else
+        if (obj instanceof StorPool || obj instanceof StorPoolDefinition || obj instanceof FreeSpaceMgr)
+        {
+            sections = EnumSet.of(Section.STOR_POOLS);
+        }
+        else
+        if (
+            obj instanceof Snapshot || obj instanceof SnapshotVolume ||
+            obj instanceof SnapshotDefinition || obj instanceof SnapshotVolumeDefinition ||
+            obj instanceof ResourceGroup || obj instanceof VolumeGroup ||
+            obj instanceof NodeConnection || obj instanceof ResourceConnection || obj instanceof VolumeConnection ||
+            obj instanceof KeyValueStore || obj instanceof Schedule || obj instanceof AbsRemote ||
+            obj instanceof ExternalFile
+        )
+        {
+            sections = EnumSet.noneOf(Section.class);
+        }
+        else
+        {
+            sections = EnumSet.allOf(Section.class);
+        }
+        return sections;
+    }
+
+    private static Set<Section> getAffectedSections(@Nullable LinStorObject propsType)
+    {
+        Set<Section> sections;
+        if (propsType == null)
+        {
+            sections = EnumSet.allOf(Section.class);
+        }
+        else
+        {
+            switch (propsType)
+            {
+                case NODE:
+                    sections = EnumSet.of(Section.NODES);
+                    break;
+                case RSC_DFN: // fall-through
+                case VLM_DFN:
+                    sections = EnumSet.of(Section.RSC_DFNS, Section.RESOURCES);
+                    break;
+                case RSC: // fall-through
+                case VLM:
+                    sections = EnumSet.of(Section.RESOURCES);
+                    break;
+                case STOR_POOL: // fall-through
+                case STOR_POOL_DFN:
+                    sections = EnumSet.of(Section.STOR_POOLS);
+                    break;
+                case NODE_CONN: // fall-through
+                case RSC_GRP: // fall-through
+                case RSC_CONN: // fall-through
+                case VLM_GRP: // fall-through
+                case VLM_CONN: // fall-through
+                case SNAP_DFN: // fall-through
+                case SNAP_DFN_RSC_DFN: // fall-through
+                case SNAP: // fall-through
+                case SNAP_RSC: // fall-through
+                case SNAP_VLM: // fall-through
+                case SNAP_VLM_VLM: // fall-through
+                case SNAP_VLM_DFN: // fall-through
+                case SNAP_VLM_DFN_VLM_DFN: // fall-through
+                case KVS:
+                    sections = EnumSet.noneOf(Section.class);
+                    break;
+                default:
+                    // e.g. controller properties
+                    sections = EnumSet.allOf(Section.class);
+                    break;
+            }
+        }
+        return sections;
+    }
+
+    /**
+     * Returns the cached text of the given section, or builds it if it was invalidated or is too old. Concurrent
+     * callers wait for the build of the first one instead of building the section again.
+     */
+    public String get(Section section, AccessContext accCtx, Supplier<String> builder)
+    {
+        AtomicLong generation = generations.get(section);
+        SectionEntry entry = entries.computeIfAbsent(
+            new Pair<>(section, new Pair<>(accCtx.subjectId, accCtx.subjectRole)),
+            ignored -> new SectionEntry()
+        );
+        String text = entry.getIfValid(generation.get(), maxAgeNanos);
+        if (text == null)
+        {
+            synchronized (entry)
+            {
+                text = entry.getIfValid(generation.get(), maxAgeNanos);
+                if (text == null)
+                {
+                    // read before building, so an invalidation during the build is not lost
+                    long builtGeneration = generation.get();
+                    long builtAt = System.nanoTime();
+                    text = builder.get();
+                    entry.built = new BuiltSection(text, builtGeneration, builtAt);
+                }
+            }
+        }
+        return text;
+    }
+
+    /**
+     * Returns true if the error report counts are outdated and no other refresh is running. In that case the caller
+     * has to call {@link #errorReportRefreshDone(ErrorReportResult)} once the refresh finished or failed.
+     */
+    public boolean tryStartErrorReportRefresh()
+    {
+        ErrorReportCounts counts = errorReportCounts;
+        boolean outdated = counts == null || System.nanoTime() - counts.updatedAt >= maxAgeNanos;
+        return outdated && errorReportRefreshRunning.compareAndSet(false, true);
+    }
+
+    /**
+     * @param errorReportResult the new counts, or null if the refresh failed
+     */
+    public void errorReportRefreshDone(@Nullable ErrorReportResult errorReportResult)
+    {
+        if (errorReportResult != null)
+        {
+            errorReportCounts = new ErrorReportCounts(
+                errorReportResult.getTotalCount(),
+                new HashMap<>(errorReportResult.getNodeCounts()),
+                System.nanoTime()
+            );
+        }
+        errorReportRefreshRunning.set(false);
+    }
+
+    /**
+     * Returns the last known error report counts, or null if they were never set
+     */
+    public @Nullable ErrorReportCounts getErrorReportCounts()
+    {
+        return errorReportCounts;
+    }
+
+    private static class SectionEntry
+    {
+        volatile @Nullable BuiltSection built;
+
+        @Nullable String getIfValid(long currentGeneration, long maxAgeNanos)
+        {
+            @Nullable String validText = null;
+            @Nullable BuiltSection current = built;
+            if (
+                current != null &&
+                current.generation == currentGeneration &&
+                System.nanoTime() - current.builtAt < maxAgeNanos
+            )
+            {
+                validText = current.text;
+            }
+            return validText;
+        }
+    }
+
+    private static class BuiltSection
+    {
+        final String text;
+        final long generation;
+        final long builtAt;
+
+        BuiltSection(String textRef, long generationRef, long builtAtRef)
+        {
+            text = textRef;
+            generation = generationRef;
+            builtAt = builtAtRef;
+        }
+    }
+
+    public static class ErrorReportCounts
+    {
+        public final long totalCount;
+        /**
+         * The key of this map is a Pair<NodeName,Module>.
+         */
+        public final Map<Pair<String, String>, Long> nodeCounts;
+        private final long updatedAt;
+
+        ErrorReportCounts(long totalCountRef, Map<Pair<String, String>, Long> nodeCountsRef, long updatedAtRef)
+        {
+            totalCount = totalCountRef;
+            nodeCounts = Collections.unmodifiableMap(nodeCountsRef);
+            updatedAt = updatedAtRef;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.linbit.linstor.prometheus;
 
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 
 public class LinstorControllerMetrics
@@ -14,4 +16,54 @@ public class LinstorControllerMetrics
         .buckets(LinstorServerMetrics.DEFAULT_BUCKETS)
         .labelNames("apicall")
         .register();
+
+    /**
+     * Duration of the single phases of the initial loading of all objects from the database.
+     */
+    public static final Gauge dbLoadPhaseGauge = Gauge.build()
+        .name("linstor_controller_db_load_phase_seconds")
+        .help("Duration of the phases of loading all objects from the database at startup in seconds")
+        .unit("seconds")
+        .labelNames("phase")
+        .register();
+
+    /**
+     * Number of connected server-sent event subscribers, labeled by event stream.
+     */
+    public static final Gauge eventSubscribersGauge = Gauge.build()
+        .name("linstor_event_subscribers")
+        .help("Number of connected server-sent event subscribers")
+        .labelNames("stream")
+        .register();
+
+    /**
+     * Number of events buffered for a subscriber, including the new event.
+     */
+    public static final Histogram eventSubscriberLagHistogram = Histogram.build()
+        .name("linstor_event_subscriber_lag_events")
+        .help("Number of events buffered for a server-sent event subscriber that were not yet written")
+        .buckets(1, 2, 4, 8, 16, 32, 64, 128, 256, 1024)
+        .labelNames("stream")
+        .register();
+
+    /**
+     * Time from publishing an event until it was written to a subscriber.
+     */
+    public static final Histogram eventDeliveryHistogram = Histogram.build()
+        .name("linstor_event_delivery_seconds")
+        .help("Time from publishing a server-sent event until it was written to a subscriber in seconds")
+        .unit("seconds")
+        .buckets(LinstorServerMetrics.DEFAULT_BUCKETS)
+        .labelNames("stream")
+        .register();
+
+    /**
+     * Events not delivered to a subscriber because its buffer was full, labeled by how they were handled
+     * (dropped, coalesced or disconnected).
+     */
+    public static final Counter eventDroppedCounter = Counter.build()
+        .name("linstor_event_dropped")
+        .help("Server-sent events not delivered to a subscriber because it was too slow")
+        .labelNames("stream", "reason")
+        .register();
 }
@@ -280,6 +280,33 @@ public class PrometheusBuilder
         @Nullable final ErrorReportResult errorReports,
         final long scrapeRequestCount,
         final long scrapeStartMillis) throws IOException
+    {
+        StringBuilder sb = new StringBuilder(buildInfo());
+        if (nodeApiList != null)
+        {
+            sb.append(buildNodes(nodeApiList));
+        }
+        if (rscDfns != null)
+        {
+            sb.append(buildRscDfns(rscDfns));
+        }
+        if (rl != null)
+        {
+            sb.append(buildResources(rscDfns, rl));
+        }
+        if (storagePoolList != null)
+        {
+            sb.append(buildStorPools(storagePoolList));
+        }
+        if (errorReports != null)
+        {
+            sb.append(buildErrorReports(errorReports.getTotalCount(), errorReports.getNodeCounts()));
+        }
+        sb.append(buildScrapeStats(scrapeRequestCount, scrapeStartMillis));
+        return sb.toString();
+    }
+
+    public String buildInfo()
     {
         TextFormat tf = new TextFormat();
 
@@ -290,133 +317,171 @@ public class PrometheusBuilder
         infoMap.put("gitid", LinStor.VERSION_INFO_PROVIDER.getGitCommitId());
         tf.writeSample(infoMap, 1);
 
-        if (nodeApiList != null)
-        {
-            tf.startGauge("linstor_node_state", NODE_STATE_HELP);
-            for (NodeApi node : nodeApiList)
-            {
-                tf.writeSample(
-                    nodeExport(node),
-                    node.connectionStatus().getValue()
-                );
-            }
+        return tf.toString();
+    }
 
-            tf.startGauge("linstor_node_reconnect_attempt_count", NODE_RECONNECT_ATTEMPT_COUNT_HELP);
-            for (NodeApi node : nodeApiList)
-            {
-                tf.writeSample(
-                    nodeExport(node),
-                    node.getReconnectAttemptCount()
-                );
-            }
+    public String buildNodes(@Nonnull final List<NodeApi> nodeApiList)
+    {
+        TextFormat tf = new TextFormat();
+
+        tf.startGauge("linstor_node_state", NODE_STATE_HELP);
+        for (NodeApi node : nodeApiList)
+        {
+            tf.writeSample(
+                nodeExport(node),
+                node.connectionStatus().getValue()
+            );
         }
 
-        if (rscDfns != null)
+        tf.startGauge("linstor_node_reconnect_attempt_count", NODE_RECONNECT_ATTEMPT_COUNT_HELP);
+        for (NodeApi node : nodeApiList)
         {
-            tf.startGauge("linstor_resource_definition_count");
-            tf.writeSample(rscDfns.size());
+            tf.writeSample(
+                nodeExport(node),
+                node.getReconnectAttemptCount()
+            );
+        }
+
+        return tf.toString();
+    }
+
+    public String buildRscDfns(@Nonnull final List<ResourceDefinitionApi> rscDfns)
+    {
+        TextFormat tf = new TextFormat();
+
+        tf.startGauge("linstor_resource_definition_count");
+        tf.writeSample(rscDfns.size());
 
-            if (rl != null)
+        tf.startGauge("linstor_volume_definition_size_bytes");
+        for (var rscDfn : rscDfns)
+        {
+            for (var vlmDfn : rscDfn.getVlmDfnList())
             {
-                tf.startGauge("linstor_resource_definition_resource_count");
-                for (var rscDfn : rscDfns)
-                {
-                    double count = rl.getResources().stream()
-                        .filter(r -> r.getName().equalsIgnoreCase(rscDfn.getResourceName())).count();
-                    tf.writeSample(resourceDfnLabels(rscDfn), count);
-                }
+                tf.writeSample(volumeDfnLabels(rscDfn, vlmDfn), vlmDfn.getSize() * 1024);
             }
+        }
 
-            tf.startGauge("linstor_volume_definition_size_bytes");
+        return tf.toString();
+    }
+
+    /**
+     * @param rscDfns if not null, the number of resources of each resource definition is included
+     */
+    public String buildResources(@Nullable final List<ResourceDefinitionApi> rscDfns, @Nonnull final ResourceList rl)
+    {
+        TextFormat tf = new TextFormat();
+
+        if (rscDfns != null)
+        {
+            Map<String, Long> rscCounts = rl.getResources().stream()
+                .collect(Collectors.groupingBy(rsc -> rsc.getName().toUpperCase(), Collectors.counting()));
+            tf.startGauge("linstor_resource_definition_resource_count");
             for (var rscDfn : rscDfns)
             {
-                for (var vlmDfn : rscDfn.getVlmDfnList())
-                {
-                    tf.writeSample(volumeDfnLabels(rscDfn, vlmDfn), vlmDfn.getSize() * 1024);
-                }
+                tf.writeSample(
+                    resourceDfnLabels(rscDfn),
+                    rscCounts.getOrDefault(rscDfn.getResourceName().toUpperCase(), 0L)
+                );
             }
         }
 
-        if (rl != null)
+        tf.startGauge("linstor_resource_state", "-1=\"unknown state\", 0=\"secondary\", 1=\"primary\"");
+        ArrayList<Pair<ResourceApi, VolumeApi>> volumeApis = new ArrayList<>();
+        for (ResourceApi resApi : rl.getResources())
         {
-            tf.startGauge("linstor_resource_state", "-1=\"unknown state\", 0=\"secondary\", 1=\"primary\"");
-            ArrayList<Pair<ResourceApi, VolumeApi>> volumeApis = new ArrayList<>();
-            for (ResourceApi resApi : rl.getResources())
-            {
-                SatelliteResourceState resState = getResourceState(rl.getSatelliteStates(), resApi);
-                tf.writeSample(resourceExport(resApi), resourceState(resState));
-                volumeApis.addAll(resApi.getVlmList().stream()
-                    .map(vlmApi -> new Pair<ResourceApi, VolumeApi>(resApi, vlmApi))
-                    .collect(Collectors.toList()));
-            }
+            SatelliteResourceState resState = getResourceState(rl.getSatelliteStates(), resApi);
+            tf.writeSample(resourceExport(resApi), resourceState(resState));
+            volumeApis.addAll(resApi.getVlmList().stream()
+                .map(vlmApi -> new Pair<ResourceApi, VolumeApi>(resApi, vlmApi))
+                .collect(Collectors.toList()));
+        }
 
-            tf.startGauge("linstor_volume_state", VOLUME_STATE_HELP);
-            for (Pair<ResourceApi, VolumeApi> pair : volumeApis)
-            {
-                JsonGenTypes.Volume vlm = Json.apiToVolume(pair.objB);
-                vlm.state = Volumes.getVolumeState(
-                    rl, pair.objA.getNodeName(), pair.objA.getName(), vlm.volume_number
-                );
-                tf.writeSample(volumeExport(pair.objA, pair.objB), volumeState(pair.objA, vlm));
-            }
+        tf.startGauge("linstor_volume_state", VOLUME_STATE_HELP);
+        for (Pair<ResourceApi, VolumeApi> pair : volumeApis)
+        {
+            JsonGenTypes.Volume vlm = Json.apiToVolume(pair.objB);
+            vlm.state = Volumes.getVolumeState(
+                rl, pair.objA.getNodeName(), pair.objA.getName(), vlm.volume_number
+            );
+            tf.writeSample(volumeExport(pair.objA, pair.objB), volumeState(pair.objA, vlm));
+        }
 
-            tf.startGauge("linstor_volume_allocated_size_bytes");
-            for (Pair<ResourceApi, VolumeApi> pair : volumeApis)
-            {
-                double val = pair.objB.getAllocatedSize().isPresent() ?
-                    pair.objB.getAllocatedSize().get() * 1024 : Double.NaN;
-                tf.writeSample(volumeExport(pair.objA, pair.objB), val);
-            }
+        tf.startGauge("linstor_volume_allocated_size_bytes");
+        for (Pair<ResourceApi, VolumeApi> pair : volumeApis)
+        {
+            double val = pair.objB.getAllocatedSize().isPresent() ?
+                pair.objB.getAllocatedSize().get() * 1024 : Double.NaN;
+            tf.writeSample(volumeExport(pair.objA, pair.objB), val);
         }
 
-        if (storagePoolList != null)
+        return tf.toString();
+    }
+
+    public String buildStorPools(@Nonnull final List<StorPoolApi> storagePoolList)
+    {
+        TextFormat tf = new TextFormat();
+
+        tf.startGauge("linstor_storage_pool_capacity_free_bytes");
+        for (StorPoolApi storPoolApi : storagePoolList)
         {
-            tf.startGauge("linstor_storage_pool_capacity_free_bytes");
-            for (StorPoolApi storPoolApi : storagePoolList)
-            {
-                tf.writeSample(
-                    storagePoolExport(storPoolApi),
-                    safeStorPoolValue(storPoolApi.getFreeCapacity(), storPoolApi.getDeviceProviderKind())
-                );
-            }
+            tf.writeSample(
+                storagePoolExport(storPoolApi),
+                safeStorPoolValue(storPoolApi.getFreeCapacity(), storPoolApi.getDeviceProviderKind())
+            );
+        }
 
-            tf.startGauge("linstor_storage_pool_capacity_total_bytes");
-            for (StorPoolApi storPoolApi : storagePoolList)
-            {
-                tf.writeSample(
-                    storagePoolExport(storPoolApi),
-                    safeStorPoolValue(storPoolApi.getTotalCapacity(), storPoolApi.getDeviceProviderKind())
-                );
-            }
+        tf.startGauge("linstor_storage_pool_capacity_total_bytes");
+        for (StorPoolApi storPoolApi : storagePoolList)
+        {
+            tf.writeSample(
+                storagePoolExport(storPoolApi),
+                safeStorPoolValue(storPoolApi.getTotalCapacity(), storPoolApi.getDeviceProviderKind())
+            );
+        }
 
-            tf.startGauge("linstor_storage_pool_error_count");
-            for (StorPoolApi storPoolApi : storagePoolList)
-            {
-                tf.writeSample(storagePoolExport(storPoolApi),
-                    storPoolApi.getReports().stream()
-                        .filter(ApiCallRc.RcEntry::isError).count()
-                );
-            }
+        tf.startGauge("linstor_storage_pool_error_count");
+        for (StorPoolApi storPoolApi : storagePoolList)
+        {
+            tf.writeSample(storagePoolExport(storPoolApi),
+                storPoolApi.getReports().stream()
+                    .filter(ApiCallRc.RcEntry::isError).count()
+            );
         }
 
-        if (errorReports != null)
+        return tf.toString();
+    }
+
+    /**
+     * @param nodeCounts The key of this map is a Pair<NodeName,Module>.
+     */
+    public String buildErrorReports(final long totalCount, @Nonnull final Map<Pair<String, String>, Long> nodeCounts)
+    {
+        TextFormat tf = new TextFormat();
+
+        tf.startGauge("linstor_error_reports_count");
+        tf.writeSample(null, totalCount);
+        for (Map.Entry<Pair<String, String>, Long> entry : nodeCounts.entrySet())
         {
-            tf.startGauge("linstor_error_reports_count");
-            tf.writeSample(null, errorReports.getTotalCount());
-            for (Map.Entry<Pair<String, String>, Long> entry : errorReports.getNodeCounts().entrySet())
-            {
-                HashMap<String, String> errMap = new HashMap<>();
-                errMap.put("hostname", entry.getKey().objA);
-                errMap.put("module", entry.getKey().objB);
-                tf.writeSample(errMap, entry.getValue());
-            }
+            HashMap<String, String> errMap = new HashMap<>();
+            errMap.put("hostname", entry.getKey().objA);
+            errMap.put("module", entry.getKey().objB);
+            tf.writeSample(errMap, entry.getValue());
         }
 
+        return tf.toString();
+    }
+
+    /**
+     * Builds the scrape statistics and all metrics of the default registry (jvm, API calls, locks, ...)
+     */
+    public String buildScrapeStats(final long scrapeRequestCount, final long scrapeStartMillis) throws IOException
+    {
         StringWriter sw = new StringWriter();
         io.prometheus.client.exporter.common.TextFormat.write004(
             sw, CollectorRegistry.defaultRegistry.metricFamilySamples()
         );
 
+        TextFormat tf = new TextFormat();
         tf.startCounter("linstor_scrape_requests_count");
         tf.writeSample(scrapeRequestCount);
 
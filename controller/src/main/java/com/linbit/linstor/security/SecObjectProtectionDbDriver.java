@@ -28,9 +28,8 @@ import javax.inject.Inject;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 @Singleton
 public class SecObjectProtectionDbDriver extends
@@ -156,7 +155,7 @@ public class SecObjectProtectionDbDriver extends
         // and secType from the passed accCtx
         final AccessContext impersonatedAccCtx = dbCtx.impersonate(creatorId, ownerRole, secType);
 
-        Map<RoleName, AccessControlEntry> aclBackingMap = new TreeMap<>();
+        ConcurrentSkipListMap<RoleName, AccessControlEntry> aclBackingMap = new ConcurrentSkipListMap<>();
         final AccessControlList acl = new AccessControlList(
             objPath,
             aclBackingMap,
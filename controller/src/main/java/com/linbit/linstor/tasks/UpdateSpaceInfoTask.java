@@ -127,6 +127,7 @@ public class UpdateSpaceInfoTask implements TaskScheduleService.Task
                 AccessContext.class, sysCtx))
             .subscribe();
 
+        // only asks satellites whose free capacities were not pushed within [cache] free_capacity_max_age
         ctrlStorPoolListApiCallHandler.listStorPools(
             Collections.emptyList(),
             Collections.emptyList(),
@@ -2,8 +2,12 @@ package com.linbit.linstor.transaction;
 
 import com.linbit.linstor.ControllerETCDDatabase;
 import com.linbit.linstor.LinStorDBRuntimeException;
+import com.linbit.linstor.transaction.manager.TransactionCommitListener;
 import com.linbit.linstor.transaction.manager.TransactionMgrETCD;
 
+import javax.annotation.Nullable;
+
+import java.util.Collections;
 import java.util.List;
 
 import com.ibm.etcd.api.TxnResponse;
@@ -16,13 +20,19 @@ public class ControllerETCDTransactionMgr implements TransactionMgrETCD
     private final ControllerETCDDatabase etcdDb;
     private final TransactionObjectCollection transactionObjectCollection;
     private final ControllerETCDRollbackMgr rollbackMgr;
+    private final @Nullable TransactionCommitListener commitListener;
 
     private EtcdTransaction currentTransaction;
 
     public ControllerETCDTransactionMgr(
-        ControllerETCDDatabase controllerETCDDatabase, int maxOpsPerTxRef, String prefix)
+        ControllerETCDDatabase controllerETCDDatabase,
+        int maxOpsPerTxRef,
+        String prefix,
+        @Nullable TransactionCommitListener commitListenerRef
+    )
     {
         etcdDb = controllerETCDDatabase;
+        commitListener = commitListenerRef;
         transactionObjectCollection = new TransactionObjectCollection();
         currentTransaction = createNewEtcdTx();
 
@@ -70,6 +80,10 @@ public class ControllerETCDTransactionMgr implements TransactionMgrETCD
 
             if (allSucceeded)
             {
+                List<TransactionObject> committedObjects = commitListener == null ?
+                    Collections.emptyList() :
+                    transactionObjectCollection.getObjects();
+
                 transactionObjectCollection.commitAll();
 
                 clearTransactionObjects();
@@ -77,6 +91,11 @@ public class ControllerETCDTransactionMgr implements TransactionMgrETCD
                 currentTransaction = createNewEtcdTx();
 
                 rollbackMgr.cleanup();
+
+                if (commitListener != null)
+                {
+                    commitListener.transactionCommitted(committedObjects);
+                }
             }
             else
             {
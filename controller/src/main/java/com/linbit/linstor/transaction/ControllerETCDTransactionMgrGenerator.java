@@ -2,8 +2,10 @@ package com.linbit.linstor.transaction;
 
 import com.linbit.linstor.ControllerETCDDatabase;
 import com.linbit.linstor.core.cfg.CtrlConfig;
+import com.linbit.linstor.transaction.manager.TransactionCommitListener;
 import com.linbit.linstor.transaction.manager.TransactionMgrGenerator;
 
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 
 import com.google.inject.Provider;
@@ -12,15 +14,18 @@ public class ControllerETCDTransactionMgrGenerator implements TransactionMgrGene
 {
     private final Provider<ControllerETCDDatabase> controllerDatabase;
     private final CtrlConfig ctrlCfg;
+    private final @Nullable TransactionCommitListener commitListener;
 
     @Inject
     public ControllerETCDTransactionMgrGenerator(
         Provider<ControllerETCDDatabase> controllerDatabaseRef,
-        CtrlConfig ctrlCfgRef
+        CtrlConfig ctrlCfgRef,
+        @Nullable TransactionCommitListener commitListenerRef
     )
     {
         ctrlCfg = ctrlCfgRef;
         controllerDatabase = controllerDatabaseRef;
+        commitListener = commitListenerRef;
     }
 
     @Override
@@ -29,7 +34,8 @@ public class ControllerETCDTransactionMgrGenerator implements TransactionMgrGene
         return new ControllerETCDTransactionMgr(
             controllerDatabase.get(),
             ctrlCfg.getEtcdOperationsPerTransaction(),
-            ctrlCfg.getEtcdPrefix()
+            ctrlCfg.getEtcdPrefix(),
+            commitListener
         );
     }
 }
@@ -10,9 +10,13 @@ import com.linbit.linstor.dbdrivers.k8s.crd.LinstorCrd;
 import com.linbit.linstor.dbdrivers.k8s.crd.LinstorSpec;
 import com.linbit.linstor.dbdrivers.k8s.crd.LinstorVersionCrd;
 import com.linbit.linstor.dbdrivers.k8s.crd.RollbackCrd;
+import com.linbit.linstor.transaction.manager.TransactionCommitListener;
 import com.linbit.linstor.transaction.manager.TransactionMgrK8sCrd;
 
+import javax.annotation.Nullable;
+
 import java.net.HttpURLConnection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -43,8 +47,12 @@ public class ControllerK8sCrdTransactionMgr implements TransactionMgrK8sCrd
     private final MixedOperation<LinstorVersionCrd, KubernetesResourceList<LinstorVersionCrd>, Resource<LinstorVersionCrd>> linstorVersionClient;
     private final KubernetesClient k8sClient;
     private final String crdVersion;
+    private final @Nullable TransactionCommitListener commitListener;
 
-    public ControllerK8sCrdTransactionMgr(ControllerK8sCrdDatabase controllerK8sCrdDatabaseRef)
+    public ControllerK8sCrdTransactionMgr(
+        ControllerK8sCrdDatabase controllerK8sCrdDatabaseRef,
+        @Nullable TransactionCommitListener commitListenerRef
+    )
     {
         this(
             controllerK8sCrdDatabaseRef,
@@ -52,7 +60,8 @@ public class ControllerK8sCrdTransactionMgr implements TransactionMgrK8sCrd
                 GenCrdCurrent::databaseTableToCustomResourceClass,
                 GeneratedDatabaseTables.ALL_TABLES,
                 GenCrdCurrent.VERSION
-            )
+            ),
+            commitListenerRef
         );
     }
 
@@ -60,8 +69,18 @@ public class ControllerK8sCrdTransactionMgr implements TransactionMgrK8sCrd
         ControllerK8sCrdDatabase controllerK8sCrdDatabaseRef,
         BaseControllerK8sCrdTransactionMgrContext ctx
     )
+    {
+        this(controllerK8sCrdDatabaseRef, ctx, null);
+    }
+
+    public ControllerK8sCrdTransactionMgr(
+        ControllerK8sCrdDatabase controllerK8sCrdDatabaseRef,
+        BaseControllerK8sCrdTransactionMgrContext ctx,
+        @Nullable TransactionCommitListener commitListenerRef
+    )
     {
         controllerK8sCrdDatabase = controllerK8sCrdDatabaseRef;
+        commitListener = commitListenerRef;
         transactionObjectCollection = new TransactionObjectCollection();
 
         k8sClient = controllerK8sCrdDatabaseRef.getClient();
@@ -141,6 +160,7 @@ public class ControllerK8sCrdTransactionMgr implements TransactionMgrK8sCrd
     @Override
     public void commit() throws TransactionException
     {
+        List<TransactionObject> committedObjects;
         synchronized (SYNC_OBJ)
         {
             /*
@@ -173,6 +193,10 @@ public class ControllerK8sCrdTransactionMgr implements TransactionMgrK8sCrd
                 delete(entry.getKey(), entry.getValue());
             }
 
+            committedObjects = commitListener == null ?
+                Collections.emptyList() :
+                transactionObjectCollection.getObjects();
+
             transactionObjectCollection.commitAll();
 
             clearTransactionObjects();
@@ -182,6 +206,11 @@ public class ControllerK8sCrdTransactionMgr implements TransactionMgrK8sCrd
 
             ControllerK8sCrdRollbackMgr.cleanup(transactionToClean);
         }
+
+        if (commitListener != null)
+        {
+            commitListener.transactionCommitted(committedObjects);
+        }
     }
 
     @SuppressWarnings("unchecked")
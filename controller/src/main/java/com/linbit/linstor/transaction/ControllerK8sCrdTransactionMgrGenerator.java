@@ -2,8 +2,10 @@ package com.linbit.linstor.transaction;
 
 import com.linbit.linstor.ControllerK8sCrdDatabase;
 import com.linbit.linstor.core.cfg.CtrlConfig;
+import com.linbit.linstor.transaction.manager.TransactionCommitListener;
 import com.linbit.linstor.transaction.manager.TransactionMgrGenerator;
 
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 
 import com.google.inject.Provider;
@@ -12,20 +14,23 @@ public class ControllerK8sCrdTransactionMgrGenerator implements TransactionMgrGe
 {
     private final Provider<ControllerK8sCrdDatabase> controllerDatabase;
     private final CtrlConfig ctrlCfg;
+    private final @Nullable TransactionCommitListener commitListener;
 
     @Inject
     public ControllerK8sCrdTransactionMgrGenerator(
         Provider<ControllerK8sCrdDatabase> controllerDatabaseRef,
-        CtrlConfig ctrlCfgRef
+        CtrlConfig ctrlCfgRef,
+        @Nullable TransactionCommitListener commitListenerRef
     )
     {
         ctrlCfg = ctrlCfgRef;
         controllerDatabase = controllerDatabaseRef;
+        commitListener = commitListenerRef;
     }
 
     @Override
     public ControllerK8sCrdTransactionMgr startTransaction()
     {
-        return new ControllerK8sCrdTransactionMgr(controllerDatabase.get());
+        return new ControllerK8sCrdTransactionMgr(controllerDatabase.get(), commitListener);
     }
 }
@@ -3,6 +3,7 @@ package com.linbit.linstor.transaction;
 import com.linbit.ImplementationError;
 import com.linbit.linstor.dbdrivers.DatabaseDriverInfo;
 import com.linbit.linstor.transaction.manager.ControllerSQLTransactionMgrGenerator;
+import com.linbit.linstor.transaction.manager.TransactionCommitListener;
 import com.linbit.linstor.transaction.manager.TransactionMgrGenerator;
 
 import com.google.inject.AbstractModule;
@@ -19,6 +20,8 @@ public class ControllerTransactionMgrModule extends AbstractModule
     @Override
     protected void configure()
     {
+        bind(TransactionCommitListener.class).to(CtrlTransactionCommitListeners.class);
+
         switch (dbType)
         {
             case SQL:
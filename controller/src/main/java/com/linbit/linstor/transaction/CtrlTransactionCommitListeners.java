@@ -0,0 +1,36 @@
+package com.linbit.linstor.transaction;
+
+import com.linbit.linstor.core.apicallhandler.controller.internal.CtrlObjectVersions;
+import com.linbit.linstor.prometheus.CtrlMetricsCache;
+import com.linbit.linstor.transaction.manager.TransactionCommitListener;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.util.Collection;
+
+/**
+ * Forwards the committed transactions to all controller components that depend on them
+ */
+@Singleton
+public class CtrlTransactionCommitListeners implements TransactionCommitListener
+{
+    private final CtrlMetricsCache metricsCache;
+    private final CtrlObjectVersions objectVersions;
+
+    @Inject
+    public CtrlTransactionCommitListeners(CtrlMetricsCache metricsCacheRef, CtrlObjectVersions objectVersionsRef)
+    {
+        metricsCache = metricsCacheRef;
+        objectVersions = objectVersionsRef;
+    }
+
+    @Override
+    public void transactionCommitted(Collection<TransactionObject> committedObjects)
+    {
+        // every committed transaction might have changed the objects exposed by /metrics
+        metricsCache.transactionCommitted(committedObjects);
+        // and the objects a reconnecting satellite would otherwise receive again with its full sync
+        objectVersions.transactionCommitted(committedObjects);
+    }
+}
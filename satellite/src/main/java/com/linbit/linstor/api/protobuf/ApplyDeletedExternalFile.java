@@ -3,6 +3,7 @@ package com.linbit.linstor.api.protobuf;
 import com.linbit.linstor.InternalApiConsts;
 import com.linbit.linstor.api.ApiCall;
 import com.linbit.linstor.api.pojo.ExternalFilePojo;
+import com.linbit.linstor.api.pojo.ObjectRefPojo;
 import com.linbit.linstor.core.apicallhandler.StltApiCallHandler;
 import com.linbit.linstor.proto.javainternal.c2s.MsgIntExternalFileDeletedDataOuterClass.MsgIntExternalFileDeletedData;
 
@@ -20,13 +21,16 @@ import java.io.InputStream;
 public class ApplyDeletedExternalFile implements ApiCall
 {
     private final StltApiCallHandler apiCallHandler;
+    private final FullSyncCache fullSyncCache;
 
     @Inject
     public ApplyDeletedExternalFile(
-        StltApiCallHandler apiCallHandlerRef
+        StltApiCallHandler apiCallHandlerRef,
+        FullSyncCache fullSyncCacheRef
     )
     {
         apiCallHandler = apiCallHandlerRef;
+        fullSyncCache = fullSyncCacheRef;
     }
 
     @Override
@@ -42,6 +46,7 @@ public class ApplyDeletedExternalFile implements ApiCall
             msgApplyDeletedExternalFile.getUpdateId()
         );
         apiCallHandler.applyDeletedExternalFileChanges(extFilePojo);
+        fullSyncCache.remove(ObjectRefPojo.Kind.EXTERNAL_FILE, msgApplyDeletedExternalFile.getExternalFileName());
     }
 
     static ExternalFilePojo asExternalFilePojo(String extFileName, long fullSyncId, long updateId)
@@ -2,6 +2,7 @@ package com.linbit.linstor.api.protobuf;
 
 import com.linbit.linstor.InternalApiConsts;
 import com.linbit.linstor.api.ApiCall;
+import com.linbit.linstor.api.pojo.ObjectRefPojo;
 import com.linbit.linstor.core.apicallhandler.StltApiCallHandler;
 import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplyDeletedNodeOuterClass.MsgIntApplyDeletedNode;
 
@@ -19,11 +20,16 @@ import java.io.InputStream;
 public class ApplyDeletedNode implements ApiCall
 {
     private final StltApiCallHandler apiCallHandler;
+    private final FullSyncCache fullSyncCache;
 
     @Inject
-    public ApplyDeletedNode(StltApiCallHandler apiCallHandlerRef)
+    public ApplyDeletedNode(
+        StltApiCallHandler apiCallHandlerRef,
+        FullSyncCache fullSyncCacheRef
+    )
     {
         apiCallHandler = apiCallHandlerRef;
+        fullSyncCache = fullSyncCacheRef;
     }
 
     @Override
@@ -36,5 +42,6 @@ public class ApplyDeletedNode implements ApiCall
             nodeDeletedData.getFullSyncId(),
             nodeDeletedData.getUpdateId()
         );
+        fullSyncCache.remove(ObjectRefPojo.Kind.NODE, nodeDeletedData.getNodeName());
     }
 }
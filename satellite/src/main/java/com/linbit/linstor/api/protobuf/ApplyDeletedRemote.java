@@ -2,6 +2,7 @@ package com.linbit.linstor.api.protobuf;
 
 import com.linbit.linstor.InternalApiConsts;
 import com.linbit.linstor.api.ApiCall;
+import com.linbit.linstor.api.pojo.ObjectRefPojo;
 import com.linbit.linstor.core.apicallhandler.StltApiCallHandler;
 import com.linbit.linstor.proto.javainternal.c2s.MsgIntRemoteDeletedOuterClass.MsgIntRemoteDeleted;
 
@@ -19,13 +20,16 @@ import java.io.InputStream;
 public class ApplyDeletedRemote implements ApiCall
 {
     private final StltApiCallHandler apiCallHandler;
+    private final FullSyncCache fullSyncCache;
 
     @Inject
     public ApplyDeletedRemote(
-        StltApiCallHandler apiCallHandlerRef
+        StltApiCallHandler apiCallHandlerRef,
+        FullSyncCache fullSyncCacheRef
     )
     {
         apiCallHandler = apiCallHandlerRef;
+        fullSyncCache = fullSyncCacheRef;
     }
 
     @Override
@@ -40,5 +44,8 @@ public class ApplyDeletedRemote implements ApiCall
             msgApplyDeletedRemote.getFullSyncId(),
             msgApplyDeletedRemote.getUpdateId()
         );
+        // the message does not tell the type of the remote
+        fullSyncCache.remove(ObjectRefPojo.Kind.S3_REMOTE, msgApplyDeletedRemote.getRemoteName());
+        fullSyncCache.remove(ObjectRefPojo.Kind.EBS_REMOTE, msgApplyDeletedRemote.getRemoteName());
     }
 }
@@ -2,6 +2,7 @@ package com.linbit.linstor.api.protobuf;
 
 import com.linbit.linstor.InternalApiConsts;
 import com.linbit.linstor.api.ApiCall;
+import com.linbit.linstor.api.pojo.ObjectRefPojo;
 import com.linbit.linstor.core.apicallhandler.StltApiCallHandler;
 import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplyDeletedRscOuterClass.MsgIntApplyDeletedRsc;
 
@@ -19,11 +20,16 @@ import java.io.InputStream;
 public class ApplyDeletedRsc implements ApiCall
 {
     private final StltApiCallHandler apiCallHandler;
+    private final FullSyncCache fullSyncCache;
 
     @Inject
-    public ApplyDeletedRsc(StltApiCallHandler apiCallHandlerRef)
+    public ApplyDeletedRsc(
+        StltApiCallHandler apiCallHandlerRef,
+        FullSyncCache fullSyncCacheRef
+    )
     {
         apiCallHandler = apiCallHandlerRef;
+        fullSyncCache = fullSyncCacheRef;
     }
 
     @Override
@@ -36,5 +42,6 @@ public class ApplyDeletedRsc implements ApiCall
             rscDeletedData.getFullSyncId(),
             rscDeletedData.getUpdateId()
         );
+        fullSyncCache.remove(ObjectRefPojo.Kind.RSC, rscDeletedData.getRscName());
     }
 }
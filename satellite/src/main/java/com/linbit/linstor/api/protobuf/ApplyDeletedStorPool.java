@@ -2,6 +2,7 @@ package com.linbit.linstor.api.protobuf;
 
 import com.linbit.linstor.InternalApiConsts;
 import com.linbit.linstor.api.ApiCall;
+import com.linbit.linstor.api.pojo.ObjectRefPojo;
 import com.linbit.linstor.core.apicallhandler.StltApiCallHandler;
 import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplyDeletedStorPoolOuterClass.MsgIntApplyDeletedStorPool;
 
@@ -19,11 +20,16 @@ import java.io.InputStream;
 public class ApplyDeletedStorPool implements ApiCall
 {
     private final StltApiCallHandler apiCallHandler;
+    private final FullSyncCache fullSyncCache;
 
     @Inject
-    public ApplyDeletedStorPool(StltApiCallHandler apiCallHandlerRef)
+    public ApplyDeletedStorPool(
+        StltApiCallHandler apiCallHandlerRef,
+        FullSyncCache fullSyncCacheRef
+    )
     {
         apiCallHandler = apiCallHandlerRef;
+        fullSyncCache = fullSyncCacheRef;
     }
 
     @Override
@@ -36,5 +42,6 @@ public class ApplyDeletedStorPool implements ApiCall
             storPoolDeletedData.getFullSyncId(),
             storPoolDeletedData.getUpdateId()
         );
+        fullSyncCache.remove(ObjectRefPojo.Kind.STOR_POOL, storPoolDeletedData.getStorPoolName());
     }
 }
@@ -2,6 +2,7 @@ package com.linbit.linstor.api.protobuf;
 
 import com.linbit.linstor.InternalApiConsts;
 import com.linbit.linstor.api.ApiCall;
+import com.linbit.linstor.api.pojo.ObjectRefPojo;
 import com.linbit.linstor.core.apicallhandler.StltApiCallHandler;
 import com.linbit.linstor.proto.javainternal.c2s.MsgIntSnapshotEndedDataOuterClass.MsgIntSnapshotEndedData;
 
@@ -19,11 +20,16 @@ import java.io.InputStream;
 public class ApplyEndedSnapshot implements ApiCall
 {
     private final StltApiCallHandler apiCallHandler;
+    private final FullSyncCache fullSyncCache;
 
     @Inject
-    public ApplyEndedSnapshot(StltApiCallHandler apiCallHandlerRef)
+    public ApplyEndedSnapshot(
+        StltApiCallHandler apiCallHandlerRef,
+        FullSyncCache fullSyncCacheRef
+    )
     {
         apiCallHandler = apiCallHandlerRef;
+        fullSyncCache = fullSyncCacheRef;
     }
 
     @Override
@@ -37,5 +43,9 @@ public class ApplyEndedSnapshot implements ApiCall
             snapshotEndedData.getFullSyncId(),
             snapshotEndedData.getUpdateId()
         );
+        fullSyncCache.remove(
+            ObjectRefPojo.Kind.SNAPSHOT,
+            ProtoObjectRefs.snapshotName(snapshotEndedData.getRscName(), snapshotEndedData.getSnapshotName())
+        );
     }
 }
@@ -22,13 +22,16 @@ import java.util.UUID;
 public class ApplyExternalFile implements ApiCall
 {
     private final StltApiCallHandler apiCallHandler;
+    private final FullSyncCache fullSyncCache;
 
     @Inject
     public ApplyExternalFile(
-        StltApiCallHandler apiCallHandlerRef
+        StltApiCallHandler apiCallHandlerRef,
+        FullSyncCache fullSyncCacheRef
     )
     {
         apiCallHandler = apiCallHandlerRef;
+        fullSyncCache = fullSyncCacheRef;
     }
 
     @Override
@@ -43,6 +46,7 @@ public class ApplyExternalFile implements ApiCall
             msgApplyExternalFile.getUpdateId()
         );
         apiCallHandler.applyExternalFileChanges(extFilePojo);
+        fullSyncCache.remove(ProtoObjectRefs.of(msgApplyExternalFile.getExternalFile()));
     }
 
     static ExternalFilePojo asExternalFilePojo(IntExternalFile proto, long fullSyncId, long updateId)
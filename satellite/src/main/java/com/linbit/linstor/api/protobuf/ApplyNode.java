@@ -30,11 +30,16 @@ import java.util.UUID;
 public class ApplyNode implements ApiCall
 {
     private final StltApiCallHandler apiCallHandler;
+    private final FullSyncCache fullSyncCache;
 
     @Inject
-    public ApplyNode(StltApiCallHandler apiCallHandlerRef)
+    public ApplyNode(
+        StltApiCallHandler apiCallHandlerRef,
+        FullSyncCache fullSyncCacheRef
+    )
     {
         apiCallHandler = apiCallHandlerRef;
+        fullSyncCache = fullSyncCacheRef;
     }
 
     @Override
@@ -48,6 +53,7 @@ public class ApplyNode implements ApiCall
             applyNodeMsg.getUpdateId()
         );
         apiCallHandler.applyNodeChanges(nodePojo);
+        fullSyncCache.remove(ProtoObjectRefs.of(applyNodeMsg.getNode()));
     }
 
     static NodePojo asNodePojo(IntNode nodeMsg, long fullSyncId, long updateId)
@@ -30,15 +30,18 @@ public class ApplyRemote implements ApiCall
 {
     private final StltApiCallHandler apiCallHandler;
     private final ErrorReporter errorReporter;
+    private final FullSyncCache fullSyncCache;
 
     @Inject
     public ApplyRemote(
         StltApiCallHandler apiCallHandlerRef,
-        ErrorReporter errorReporterRef
+        ErrorReporter errorReporterRef,
+        FullSyncCache fullSyncCacheRef
     )
     {
         apiCallHandler = apiCallHandlerRef;
         errorReporter = errorReporterRef;
+        fullSyncCache = fullSyncCacheRef;
     }
 
     @Override
@@ -55,6 +58,7 @@ public class ApplyRemote implements ApiCall
                 msgApplyRemote.getUpdateId()
             );
             apiCallHandler.applyS3RemoteChanges(s3remotePojo);
+            fullSyncCache.remove(ProtoObjectRefs.of(msgApplyRemote.getS3Remote()));
         }
         else if (msgApplyRemote.hasSatelliteRemote())
         {
@@ -73,6 +77,7 @@ public class ApplyRemote implements ApiCall
                 msgApplyRemote.getUpdateId()
             );
             apiCallHandler.applyEbsRemoteChanges(ebsRemotePojo);
+            fullSyncCache.remove(ProtoObjectRefs.of(msgApplyRemote.getEbsRemote()));
         }
         else
         {
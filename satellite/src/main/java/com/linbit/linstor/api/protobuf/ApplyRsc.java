@@ -56,11 +56,16 @@ import java.util.stream.Collectors;
 public class ApplyRsc implements ApiCall
 {
     private final StltApiCallHandler apiCallHandler;
+    private final FullSyncCache fullSyncCache;
 
     @Inject
-    public ApplyRsc(StltApiCallHandler apiCallHandlerRef)
+    public ApplyRsc(
+        StltApiCallHandler apiCallHandlerRef,
+        FullSyncCache fullSyncCacheRef
+    )
     {
         apiCallHandler = apiCallHandlerRef;
+        fullSyncCache = fullSyncCacheRef;
     }
 
     @Override
@@ -75,6 +80,7 @@ public class ApplyRsc implements ApiCall
             applyMsg.getUpdateId()
         );
         apiCallHandler.applyResourceChanges(rscRawData);
+        fullSyncCache.remove(ProtoObjectRefs.of(applyMsg.getRsc()));
     }
 
     //deserialize sync msg and put into pojo, extend rsc api and pojo!
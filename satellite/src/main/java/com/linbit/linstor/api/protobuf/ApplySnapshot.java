@@ -32,13 +32,16 @@ import java.util.stream.Collectors;
 public class ApplySnapshot implements ApiCall
 {
     private final StltApiCallHandler apiCallHandler;
+    private final FullSyncCache fullSyncCache;
 
     @Inject
     public ApplySnapshot(
-        StltApiCallHandler apiCallHandlerRef
+        StltApiCallHandler apiCallHandlerRef,
+        FullSyncCache fullSyncCacheRef
     )
     {
         apiCallHandler = apiCallHandlerRef;
+        fullSyncCache = fullSyncCacheRef;
     }
 
     @Override
@@ -53,6 +56,7 @@ public class ApplySnapshot implements ApiCall
             msgApplySnapshot.getUpdateId()
         );
         apiCallHandler.applySnapshotChanges(snapshotRaw);
+        fullSyncCache.remove(ProtoObjectRefs.of(msgApplySnapshot.getSnapshot()));
     }
 
     static SnapshotPojo asSnapshotPojo(IntSnapshot snapshot, long fullSyncId, long updateId)
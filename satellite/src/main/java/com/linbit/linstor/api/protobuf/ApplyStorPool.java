@@ -29,15 +29,18 @@ public class ApplyStorPool implements ApiCall
 {
     private final StltApiCallHandler apiCallHandler;
     private final ControllerPeerConnector controllerPeerConnector;
+    private final FullSyncCache fullSyncCache;
 
     @Inject
     public ApplyStorPool(
         StltApiCallHandler apiCallHandlerRef,
-        ControllerPeerConnector controllerPeerConnectorRef
+        ControllerPeerConnector controllerPeerConnectorRef,
+        FullSyncCache fullSyncCacheRef
     )
     {
         apiCallHandler = apiCallHandlerRef;
         controllerPeerConnector = controllerPeerConnectorRef;
+        fullSyncCache = fullSyncCacheRef;
     }
 
     @Override
@@ -53,6 +56,7 @@ public class ApplyStorPool implements ApiCall
             applyStorPool.getUpdateId()
         );
         apiCallHandler.applyStorPoolChanges(storPoolRaw);
+        fullSyncCache.remove(ProtoObjectRefs.of(applyStorPool.getStorPool()));
     }
 
     static StorPoolPojo asStorPoolPojo(
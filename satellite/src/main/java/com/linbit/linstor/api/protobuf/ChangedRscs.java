@@ -0,0 +1,86 @@
+package com.linbit.linstor.api.protobuf;
+
+import com.linbit.ImplementationError;
+import com.linbit.InvalidNameException;
+import com.linbit.linstor.InternalApiConsts;
+import com.linbit.linstor.api.ApiCallRc;
+import com.linbit.linstor.api.ApiCallReactive;
+import com.linbit.linstor.core.ControllerPeerConnector;
+import com.linbit.linstor.core.DeviceManager;
+import com.linbit.linstor.core.apicallhandler.ResponseSerializer;
+import com.linbit.linstor.core.identifier.ResourceName;
+import com.linbit.linstor.proto.javainternal.IntObjectIdOuterClass.IntObjectId;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import reactor.core.publisher.Flux;
+
+@ProtobufApiCall(
+    name = InternalApiConsts.API_CHANGED_RSCS,
+    description = "Called by the controller to indicate that several resources were modified"
+)
+@Singleton
+public class ChangedRscs implements ApiCallReactive
+{
+    private final DeviceManager deviceManager;
+    private final ControllerPeerConnector controllerPeerConnector;
+    private final ResponseSerializer responseSerializer;
+
+    @Inject
+    public ChangedRscs(
+        DeviceManager deviceManagerRef,
+        ControllerPeerConnector controllerPeerConnectorRef,
+        ResponseSerializer responseSerializerRef
+    )
+    {
+        deviceManager = deviceManagerRef;
+        controllerPeerConnector = controllerPeerConnectorRef;
+        responseSerializer = responseSerializerRef;
+    }
+
+    @Override
+    public Flux<byte[]> executeReactive(InputStream msgDataIn)
+        throws IOException
+    {
+        // all updates are registered before the device manager is woken up by any of them
+        List<Flux<ApiCallRc>> updates = new ArrayList<>();
+        IntObjectId rscId = IntObjectId.parseDelimitedFrom(msgDataIn);
+        while (rscId != null)
+        {
+            String rscNameStr = rscId.getName();
+            UUID rscUuid = UUID.fromString(rscId.getUuid());
+
+            ResourceName rscName;
+            try
+            {
+                rscName = new ResourceName(rscNameStr);
+            }
+            catch (InvalidNameException invalidNameExc)
+            {
+                throw new ImplementationError(
+                    "Controller sent an illegal resource name: " + rscNameStr + ".",
+                    invalidNameExc
+                );
+            }
+            updates.add(
+                deviceManager.getUpdateTracker()
+                    .updateResource(
+                        rscUuid,
+                        rscName,
+                        controllerPeerConnector.getLocalNodeName()
+                    )
+            );
+            rscId = IntObjectId.parseDelimitedFrom(msgDataIn);
+        }
+
+        return Flux.merge(updates)
+            .transform(responseSerializer::transform);
+    }
+}
@@ -11,7 +11,9 @@ import com.linbit.linstor.core.apicallhandler.StltApiCallHandler;
 import com.linbit.linstor.core.apicallhandler.satellite.authentication.AuthenticationResult;
 import com.linbit.linstor.core.cfg.StltConfig;
 import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.netcom.FrameCompression;
 import com.linbit.linstor.netcom.Peer;
+import com.linbit.linstor.netcom.TcpConnectorPeer;
 import com.linbit.linstor.proto.javainternal.c2s.MsgIntAuthOuterClass.MsgIntAuth;
 import com.linbit.linstor.utils.SetUtils;
 
@@ -41,6 +43,7 @@ public class CtrlAuth implements ApiCall
     private final ExtCmdFactory extCmdFactory;
     private final StltConfig stltConfig;
     private final WhitelistProps whitelistProps;
+    private final FullSyncCache fullSyncCache;
 
     @Inject
     public CtrlAuth(
@@ -52,7 +55,8 @@ public class CtrlAuth implements ApiCall
         Provider<Peer> controllerPeerProviderRef,
         ExtCmdFactory extCmdFactoryRef,
         StltConfig stltConfigRef,
-        WhitelistProps whitelistPropsRef
+        WhitelistProps whitelistPropsRef,
+        FullSyncCache fullSyncCacheRef
     )
     {
         errorReporter = errorReporterRef;
@@ -64,6 +68,7 @@ public class CtrlAuth implements ApiCall
         extCmdFactory = extCmdFactoryRef;
         stltConfig = stltConfigRef;
         whitelistProps = whitelistPropsRef;
+        fullSyncCache = fullSyncCacheRef;
     }
 
     @Override
@@ -92,8 +97,11 @@ public class CtrlAuth implements ApiCall
         AuthenticationResult authResult = apiCallHandler.authenticate(nodeUuid, nodeName, controllerPeer, ctrlUuid);
 
         byte[] replyBytes;
+        String frameCompression = FrameCompression.NONE;
         if (authResult.isAuthenticated())
         {
+            frameCompression = FrameCompression.negotiate(auth.getFrameCompressionList());
+
             // all ok, send the new fullSyncId with the AUTH_ACCEPT msg
             // additionally we also send information which layers are supported by the current satellite
 
@@ -118,7 +126,9 @@ public class CtrlAuth implements ApiCall
                     stltConfig.getNetPort(),
                     stltConfig.getNetType(),
                     SetUtils.convertPathsToStrings(stltConfig.getWhitelistedExternalFilePaths()),
-                    whitelistProps
+                    whitelistProps,
+                    fullSyncCache.getHeldObjects(),
+                    frameCompression
                 )
                 .build();
         }
@@ -136,5 +146,12 @@ public class CtrlAuth implements ApiCall
             ),
             InternalApiConsts.API_AUTH_RESPONSE
         );
+        // the answer itself is never compressed, the controller only knows the algorithm once it has parsed it
+        if (controllerPeer instanceof TcpConnectorPeer)
+        {
+            ((TcpConnectorPeer) controllerPeer).setFrameCompression(
+                FrameCompression.create(frameCompression, auth.getFrameCompressionThreshold())
+            );
+        }
     }
 }
@@ -61,6 +61,7 @@ public class FullSync implements ApiCall
     private final ControllerPeerConnector controllerPeerConnector;
     private final Provider<Peer> controllerPeerProvider;
     private final ErrorReporter errorReporter;
+    private final FullSyncCache fullSyncCache;
 
     @Inject
     public FullSync(
@@ -69,7 +70,8 @@ public class FullSync implements ApiCall
         ApiCallAnswerer apiCallAnswererRef,
         ControllerPeerConnector controllerPeerConnectorRef,
         Provider<Peer> controllerPeerProviderRef,
-        ErrorReporter errorReporterRef
+        ErrorReporter errorReporterRef,
+        FullSyncCache fullSyncCacheRef
     )
     {
         apiCallHandler = apiCallHandlerRef;
@@ -78,14 +80,65 @@ public class FullSync implements ApiCall
         controllerPeerConnector = controllerPeerConnectorRef;
         controllerPeerProvider = controllerPeerProviderRef;
         errorReporter = errorReporterRef;
+        fullSyncCache = fullSyncCacheRef;
     }
 
     @Override
     public void execute(InputStream msgDataIn)
         throws IOException
     {
-        MsgIntApplyFullSync applyFullSync = MsgIntApplyFullSync.parseDelimitedFrom(msgDataIn);
-        long fullSyncId = applyFullSync.getFullSyncTimestamp();
+        MsgIntApplyFullSync receivedFullSync = MsgIntApplyFullSync.parseDelimitedFrom(msgDataIn);
+        long fullSyncId = receivedFullSync.getFullSyncTimestamp();
+
+        MsgIntFullSyncResponse.Builder builder = MsgIntFullSyncResponse.newBuilder();
+        MsgIntApplyFullSync applyFullSync;
+        if (receivedFullSync.getDeltaSyncVersion() == 0)
+        {
+            applyFullSync = receivedFullSync;
+        }
+        else
+        {
+            applyFullSync = fullSyncCache.resolveDelta(receivedFullSync);
+            if (applyFullSync != null)
+            {
+                errorReporter.logInfo(
+                    "FullSync %d: reusing %d unchanged objects",
+                    fullSyncId,
+                    receivedFullSync.getUnchangedObjectsCount()
+                );
+            }
+        }
+
+        if (applyFullSync == null)
+        {
+            // nothing was applied, the controller will send a regular full sync
+            errorReporter.logWarning("FullSync %d: unable to resolve delta, requesting regular full sync", fullSyncId);
+            fullSyncCache.clear();
+            builder.setFullSyncResult(MsgIntFullSyncResponseOuterClass.FullSyncResult.FAIL_DELTA_OUTDATED);
+        }
+        else
+        {
+            applyAndBuildResponse(applyFullSync, fullSyncId, builder);
+        }
+
+        errorReporter.logInfo("FullSync sending response %d", fullSyncId);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        builder.build().writeDelimitedTo(baos);
+        controllerPeerProvider.get().sendMessage(
+            apiCallAnswerer.answerBytes(
+                baos.toByteArray(),
+                InternalApiConsts.API_FULL_SYNC_RESPONSE
+            ),
+            InternalApiConsts.API_FULL_SYNC_RESPONSE
+        );
+    }
+
+    private void applyAndBuildResponse(
+        MsgIntApplyFullSync applyFullSync,
+        long fullSyncId,
+        MsgIntFullSyncResponse.Builder builder
+    )
+    {
         long updateId = 0;
 
         IntController msgIntControllerData = applyFullSync.getCtrl();
@@ -127,7 +180,6 @@ public class FullSync implements ApiCall
             applyFullSync.getEncCryptKey().toByteArray()
         );
 
-        MsgIntFullSyncResponse.Builder builder = MsgIntFullSyncResponse.newBuilder();
         if (success == null)
         {
             success = FullSyncResult.FAIL_UNKNOWN;
@@ -169,17 +221,12 @@ public class FullSync implements ApiCall
             {
                 builder.addFreeSpace(ProtoCtrlStltSerializerBuilder.buildStorPoolFreeSpace(entry).build());
             }
+            fullSyncCache.replaceAll(applyFullSync);
+        }
+        else
+        {
+            fullSyncCache.clear();
         }
-        errorReporter.logInfo("FullSync sending response %d", fullSyncId);
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        builder.build().writeDelimitedTo(baos);
-        controllerPeerProvider.get().sendMessage(
-            apiCallAnswerer.answerBytes(
-                baos.toByteArray(),
-                InternalApiConsts.API_FULL_SYNC_RESPONSE
-            ),
-            InternalApiConsts.API_FULL_SYNC_RESPONSE
-        );
     }
 
     private ArrayList<NodePojo> asNodes(
@@ -0,0 +1,204 @@
+package com.linbit.linstor.api.protobuf;
+
+import com.linbit.ImplementationError;
+import com.linbit.linstor.api.pojo.HeldObjectsPojo;
+import com.linbit.linstor.api.pojo.ObjectRefPojo;
+import com.linbit.linstor.api.pojo.ObjectRefPojo.Kind;
+import com.linbit.linstor.proto.javainternal.IntObjectRefOuterClass.IntObjectRef;
+import com.linbit.linstor.proto.javainternal.c2s.IntEbsRemoteOuterClass.IntEbsRemote;
+import com.linbit.linstor.proto.javainternal.c2s.IntExternalFileOuterClass.IntExternalFile;
+import com.linbit.linstor.proto.javainternal.c2s.IntNodeOuterClass.IntNode;
+import com.linbit.linstor.proto.javainternal.c2s.IntRscOuterClass.IntRsc;
+import com.linbit.linstor.proto.javainternal.c2s.IntS3RemoteOuterClass.IntS3Remote;
+import com.linbit.linstor.proto.javainternal.c2s.IntSnapshotOuterClass.IntSnapshot;
+import com.linbit.linstor.proto.javainternal.c2s.IntStorPoolOuterClass.IntStorPool;
+import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplyFullSyncOuterClass.MsgIntApplyFullSync;
+
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
+
+/**
+ * Keeps the serialized object messages of the last applied full sync, together with the object version of the
+ * controller that full sync was built from. After a reconnect the controller only serializes the objects that
+ * changed since that version and lists the others as unchanged, which are taken from this cache.
+ *
+ * The controller decides what is unchanged, therefore every entry has to be exactly what that full sync contained.
+ * Updates received since then only remove the updated object, the controller sends it again anyway since its
+ * version increased.
+ */
+@Singleton
+public class FullSyncCache
+{
+    private final Map<String, CachedObject> cache = new HashMap<>();
+    private long objectVersionEpoch = 0;
+    private long objectVersion = 0;
+
+    @Inject
+    public FullSyncCache()
+    {
+    }
+
+    /**
+     * Returns the cached objects, which the satellite reports to the controller during authentication
+     */
+    public synchronized HeldObjectsPojo getHeldObjects()
+    {
+        HeldObjectsPojo ret;
+        if (objectVersionEpoch == 0 || cache.isEmpty())
+        {
+            ret = HeldObjectsPojo.none();
+        }
+        else
+        {
+            Map<String, ObjectRefPojo> objects = new HashMap<>();
+            for (Map.Entry<String, CachedObject> entry : cache.entrySet())
+            {
+                objects.put(entry.getKey(), entry.getValue().objRef);
+            }
+            ret = new HeldObjectsPojo(objectVersionEpoch, objectVersion, objects);
+        }
+        return ret;
+    }
+
+    /**
+     * Replaces the content of the cache with the objects of the given (complete, not delta) full sync
+     */
+    public synchronized void replaceAll(MsgIntApplyFullSync fullSync)
+    {
+        cache.clear();
+        fullSync.getNodesList().forEach(node -> put(ProtoObjectRefs.of(node), node));
+        fullSync.getStorPoolsList().forEach(storPool -> put(ProtoObjectRefs.of(storPool), storPool));
+        fullSync.getRscsList().forEach(rsc -> put(ProtoObjectRefs.of(rsc), rsc));
+        fullSync.getSnapshotsList().forEach(snapshot -> put(ProtoObjectRefs.of(snapshot), snapshot));
+        fullSync.getExternalFilesList().forEach(extFile -> put(ProtoObjectRefs.of(extFile), extFile));
+        fullSync.getS3RemotesList().forEach(s3Remote -> put(ProtoObjectRefs.of(s3Remote), s3Remote));
+        fullSync.getEbsRemotesList().forEach(ebsRemote -> put(ProtoObjectRefs.of(ebsRemote), ebsRemote));
+        // 0 if the controller does not track object versions, nothing is reported back in that case
+        objectVersionEpoch = fullSync.getObjectVersionEpoch();
+        objectVersion = fullSync.getObjectVersion();
+    }
+
+    /**
+     * Builds the complete full sync message by adding the cached objects the controller listed as unchanged.
+     *
+     * @return null if the delta sync version is unknown or at least one unchanged object is not (or not in the
+     *     expected version) in the cache. The satellite has to request a regular full sync in that case.
+     */
+    public synchronized @Nullable MsgIntApplyFullSync resolveDelta(MsgIntApplyFullSync deltaFullSync)
+    {
+        @Nullable MsgIntApplyFullSync ret = null;
+        if (deltaFullSync.getDeltaSyncVersion() == ProtoObjectRefs.DELTA_SYNC_VERSION)
+        {
+            MsgIntApplyFullSync.Builder builder = deltaFullSync.toBuilder()
+                .clearDeltaSyncVersion()
+                .clearUnchangedObjects();
+
+            boolean complete = true;
+            Iterator<IntObjectRef> unchangedIt = deltaFullSync.getUnchangedObjectsList().iterator();
+            while (complete && unchangedIt.hasNext())
+            {
+                @Nullable ObjectRefPojo unchanged = ProtoObjectRefs.fromProto(unchangedIt.next());
+                @Nullable CachedObject cachedObj = unchanged == null ? null : cache.get(unchanged.getKey());
+                if (cachedObj != null && cachedObj.objRef.equals(unchanged))
+                {
+                    addTo(builder, cachedObj);
+                }
+                else
+                {
+                    complete = false;
+                }
+            }
+            if (complete)
+            {
+                ret = builder.build();
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Called for every update of a single object received from the controller
+     */
+    public synchronized void remove(ObjectRefPojo objRef)
+    {
+        cache.remove(objRef.getKey());
+    }
+
+    public synchronized void remove(Kind kind, String name)
+    {
+        cache.remove(ObjectRefPojo.key(kind, name));
+    }
+
+    public synchronized void clear()
+    {
+        cache.clear();
+        objectVersionEpoch = 0;
+        objectVersion = 0;
+    }
+
+    private void put(ObjectRefPojo objRef, MessageLite msg)
+    {
+        cache.put(objRef.getKey(), new CachedObject(objRef, msg.toByteString()));
+    }
+
+    private static void addTo(MsgIntApplyFullSync.Builder builder, CachedObject cachedObj)
+    {
+        try
+        {
+            switch (cachedObj.objRef.getKind())
+            {
+                case NODE:
+                    builder.addNodes(IntNode.parseFrom(cachedObj.data));
+                    break;
+                case STOR_POOL:
+                    builder.addStorPools(IntStorPool.parseFrom(cachedObj.data));
+                    break;
+                case RSC:
+                    builder.addRscs(IntRsc.parseFrom(cachedObj.data));
+                    break;
+                case SNAPSHOT:
+                    builder.addSnapshots(IntSnapshot.parseFrom(cachedObj.data));
+                    break;
+                case EXTERNAL_FILE:
+                    builder.addExternalFiles(IntExternalFile.parseFrom(cachedObj.data));
+                    break;
+                case S3_REMOTE:
+                    builder.addS3Remotes(IntS3Remote.parseFrom(cachedObj.data));
+                    break;
+                case EBS_REMOTE:
+                    builder.addEbsRemotes(IntEbsRemote.parseFrom(cachedObj.data));
+                    break;
+                default:
+                    throw new ImplementationError("Unknown object kind: " + cachedObj.objRef.getKind());
+            }
+        }
+        catch (InvalidProtocolBufferException exc)
+        {
+            throw new ImplementationError("Cached message of " + cachedObj.objRef + " cannot be parsed", exc);
+        }
+    }
+
+    private static class CachedObject
+    {
+        private final ObjectRefPojo objRef;
+        /**
+         * Only the serialized message is kept, it is a lot more compact than the parsed message
+         */
+        private final ByteString data;
+
+        private CachedObject(ObjectRefPojo objRefRef, ByteString dataRef)
+        {
+            objRef = objRefRef;
+            data = dataRef;
+        }
+    }
+}
@@ -4,7 +4,7 @@ import com.linbit.linstor.InternalApiConsts;
 import com.linbit.linstor.LinstorParsingUtils;
 import com.linbit.linstor.api.ApiCallReactive;
 import com.linbit.linstor.api.ApiModule;
-import com.linbit.linstor.api.interfaces.serializer.CommonSerializer;
+import com.linbit.linstor.api.interfaces.serializer.CtrlStltSerializer;
 import com.linbit.linstor.core.apicallhandler.ScopeRunner;
 import com.linbit.linstor.core.apicallhandler.StltApiCallHandlerUtils;
 import com.linbit.linstor.core.apicallhandler.response.ApiRcException;
@@ -12,19 +12,14 @@ import com.linbit.linstor.core.identifier.ResourceName;
 import com.linbit.linstor.core.identifier.StorPoolName;
 import com.linbit.linstor.core.objects.Volume;
 import com.linbit.linstor.proto.common.FilterOuterClass;
-import com.linbit.linstor.proto.javainternal.s2c.MsgIntVlmAllocatedOuterClass.MsgIntVlmAllocated;
-import com.linbit.linstor.proto.javainternal.s2c.MsgIntVlmAllocatedOuterClass.VlmAllocated;
 import com.linbit.locks.LockGuard;
 import com.linbit.utils.Either;
 
-import static com.linbit.linstor.api.protobuf.serializer.ProtoCommonSerializerBuilder.serializeApiCallRc;
-
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Map;
@@ -43,20 +38,20 @@ public class ReqVlmAllocated implements ApiCallReactive
 {
     private final ScopeRunner scopeRunner;
     private final StltApiCallHandlerUtils apiCallHandlerUtils;
-    private final CommonSerializer commonSerializer;
+    private final CtrlStltSerializer ctrlStltSerializer;
     private final Provider<Long> apiCallIdProvider;
 
     @Inject
     public ReqVlmAllocated(
         ScopeRunner scopeRunnerRef,
         StltApiCallHandlerUtils apiCallHandlerUtilsRef,
-        CommonSerializer commonSerializerRef,
+        CtrlStltSerializer ctrlStltSerializerRef,
         @Named(ApiModule.API_CALL_ID) Provider<Long> apiCallIdProviderRef
     )
     {
         scopeRunner = scopeRunnerRef;
         apiCallHandlerUtils = apiCallHandlerUtilsRef;
-        commonSerializer = commonSerializerRef;
+        ctrlStltSerializer = ctrlStltSerializerRef;
         apiCallIdProvider = apiCallIdProviderRef;
     }
 
@@ -83,29 +78,9 @@ public class ReqVlmAllocated implements ApiCallReactive
         Map<Volume.Key, Either<Long, ApiRcException>> vlmAllocatedCapacities =
             apiCallHandlerUtils.getVlmAllocatedCapacities(storPoolsFilter, resourceFilter);
 
-        MsgIntVlmAllocated.Builder builder = MsgIntVlmAllocated.newBuilder();
-        for (Map.Entry<Volume.Key, Either<Long, ApiRcException>> entry : vlmAllocatedCapacities.entrySet())
-        {
-            Volume.Key vlmKey = entry.getKey();
-
-            VlmAllocated.Builder vlmAllocatedBuilder = VlmAllocated.newBuilder()
-                .setRscName(vlmKey.getResourceName().displayValue)
-                .setVlmNr(vlmKey.getVolumeNumber().value);
-
-            entry.getValue().consume(
-                vlmAllocatedBuilder::setAllocated,
-                apiRcException -> vlmAllocatedBuilder
-                    .addAllErrors(serializeApiCallRc(apiRcException.getApiCallRc()))
-            );
-
-            builder.addAllocatedCapacities(vlmAllocatedBuilder.build());
-        }
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        builder.build().writeDelimitedTo(baos);
-
-        return Flux.just(commonSerializer
+        return Flux.just(ctrlStltSerializer
             .answerBuilder(InternalApiConsts.API_REQUEST_THIN_FREE_SPACE, apiCallIdProvider.get())
-            .bytes(baos.toByteArray())
+            .vlmAllocated(vlmAllocatedCapacities)
             .build()
         );
     }
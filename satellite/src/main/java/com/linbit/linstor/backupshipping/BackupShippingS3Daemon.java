@@ -16,7 +16,6 @@ import com.linbit.linstor.security.AccessDeniedException;
 import com.linbit.linstor.storage.StorageException;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.concurrent.LinkedBlockingDeque;
@@ -198,17 +197,9 @@ public class BackupShippingS3Daemon implements Runnable, BackupShippingDaemon
     {
         errorReporter.logTrace("starting restore for backup %s", backupName);
         boolean success = false;
-        try (
-            InputStream is = backupHandler.getObject(backupName, remote, accCtx, masterKey);
-            OutputStream os = cmdProcess.getOutputStream();
-        )
+        try (OutputStream os = cmdProcess.getOutputStream())
         {
-            byte[] readBuf = new byte[1 << 20];
-            int readLen = 0;
-            while ((readLen = is.read(readBuf)) != -1)
-            {
-                os.write(readBuf, 0, readLen);
-            }
+            backupHandler.downloadObject(backupName, os, remote, accCtx, masterKey);
             os.flush();
             Thread.sleep(500);
             success = true;
@@ -123,6 +123,9 @@ public final class Satellite
 
     private final PlatformStlt platformStlt;
 
+    private final StltErrorReportNotifier errorReportNotifier;
+    private final StltFreeSpaceMonitor freeSpaceMonitor;
+
     @Inject
     public Satellite(
         ErrorReporter errorReporterRef,
@@ -145,7 +148,9 @@ public final class Satellite
         StltConfig stltCfgRef,
         CloneService cloneServiceRef,
         DrbdVersion drbdVersionRef,
-        PlatformStlt platformStltRef
+        PlatformStlt platformStltRef,
+        StltErrorReportNotifier errorReportNotifierRef,
+        StltFreeSpaceMonitor freeSpaceMonitorRef
     )
     {
         errorReporter = errorReporterRef;
@@ -167,6 +172,8 @@ public final class Satellite
         cloneService = cloneServiceRef;
         vsnCheck = drbdVersionRef;
         platformStlt = platformStltRef;
+        errorReportNotifier = errorReportNotifierRef;
+        freeSpaceMonitor = freeSpaceMonitorRef;
     }
 
     public void start()
@@ -230,6 +237,9 @@ public final class Satellite
             SystemService devMgrService = (SystemService) devMgr;
             NetComInitializer netComInitializer = new NetComInitializer(satelliteNetComInitializer, initCtx);
 
+            errorReportNotifier.start();
+            freeSpaceMonitor.start();
+
             ArrayList<StartupInitializer> startOrderlist = new ArrayList<>();
 
             startOrderlist.add(new ServiceStarter(timerEventSvc));
@@ -0,0 +1,58 @@
+package com.linbit.linstor.core;
+
+import com.linbit.linstor.InternalApiConsts;
+import com.linbit.linstor.api.interfaces.serializer.CtrlStltSerializer;
+import com.linbit.linstor.logging.ErrorReport;
+import com.linbit.linstor.logging.ErrorReportResult;
+import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.netcom.Peer;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.util.List;
+
+/**
+ * Pushes the metadata of new error reports to the controller, which keeps an index of the reports of all nodes.
+ * Reports written while the controller is not connected are fetched by the controller after the next full sync.
+ */
+@Singleton
+public class StltErrorReportNotifier
+{
+    private final ErrorReporter errorReporter;
+    private final CtrlStltSerializer interComSerializer;
+    private final ControllerPeerConnector controllerPeerConnector;
+
+    @Inject
+    public StltErrorReportNotifier(
+        ErrorReporter errorReporterRef,
+        CtrlStltSerializer interComSerializerRef,
+        ControllerPeerConnector controllerPeerConnectorRef
+    )
+    {
+        errorReporter = errorReporterRef;
+        interComSerializer = interComSerializerRef;
+        controllerPeerConnector = controllerPeerConnectorRef;
+    }
+
+    public void start()
+    {
+        errorReporter.setReportListener(this::notifyErrorReports);
+    }
+
+    private void notifyErrorReports(List<ErrorReport> reports)
+    {
+        Peer ctrlPeer = controllerPeerConnector.getControllerPeer();
+        if (ctrlPeer != null && ctrlPeer.isConnected(true))
+        {
+            // must not report errors itself, the report would be pushed again
+            ctrlPeer.sendMessage(
+                interComSerializer
+                    .onewayBuilder(InternalApiConsts.API_NOTIFY_ERROR_REPORTS)
+                    .errorReports(new ErrorReportResult(reports.size(), reports))
+                    .build(),
+                InternalApiConsts.API_NOTIFY_ERROR_REPORTS
+            );
+        }
+    }
+}
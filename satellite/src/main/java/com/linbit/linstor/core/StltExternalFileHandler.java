@@ -70,13 +70,13 @@ public class StltExternalFileHandler
     /**
      * Cleanup caching maps
      */
-    public void clear()
+    public synchronized void clear()
     {
         extFileRequestedByRscDfnsMap.clear();
         rscDfnToExtFilesMap.clear();
     }
 
-    public void ensureNotInUse(ExternalFile extFileRef)
+    public synchronized void ensureNotInUse(ExternalFile extFileRef)
     {
         Set<ResourceName> set = extFileRequestedByRscDfnsMap.get(extFileRef.getName());
         if (set != null && !set.isEmpty())
@@ -88,7 +88,7 @@ public class StltExternalFileHandler
         }
     }
 
-    public void rebuildExtFilesToRscDfnMaps(Node localNodeRef) throws StorageException
+    public synchronized void rebuildExtFilesToRscDfnMaps(Node localNodeRef) throws StorageException
     {
         try
         {
@@ -110,7 +110,11 @@ public class StltExternalFileHandler
         }
     }
 
-    public void handle(Resource rscRef) throws StorageException
+    /**
+     * Writes or deletes the external files requested by the given resource. This method is synchronized as the device
+     * manager might process multiple resources in parallel, which might request or release the same external files.
+     */
+    public synchronized void handle(Resource rscRef) throws StorageException
     {
         Set<ExternalFileName> requestedExternalFiles;
         try
@@ -0,0 +1,193 @@
+package com.linbit.linstor.core;
+
+import com.linbit.linstor.InternalApiConsts;
+import com.linbit.linstor.api.SpaceInfo;
+import com.linbit.linstor.api.interfaces.serializer.CtrlStltSerializer;
+import com.linbit.linstor.core.apicallhandler.StltApiCallHandlerUtils;
+import com.linbit.linstor.core.cfg.StltConfig;
+import com.linbit.linstor.interfaces.StorPoolInfo;
+import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.netcom.Peer;
+import com.linbit.linstor.storage.StorageException;
+
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes the free space of the storage pools to the controller, which keeps a table of the free capacities of all
+ * nodes instead of asking every satellite before placing resources.
+ * <br />
+ * The free space of the storage pools changed by the device manager is pushed right after it applied the changes.
+ * Thin pools also fill up without the device manager noticing, so their free space is checked periodically and pushed
+ * if it changed by more than the configured threshold. The free space of all thin pools is pushed at least every
+ * {@link #FULL_REPORT_INTERVAL_NANOS}, which keeps the entries of the controller from expiring.
+ */
+@Singleton
+public class StltFreeSpaceMonitor
+{
+    private static final long FULL_REPORT_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private final ErrorReporter errorReporter;
+    private final CtrlStltSerializer interComSerializer;
+    private final ControllerPeerConnector controllerPeerConnector;
+    private final StltApiCallHandlerUtils apiCallHandlerUtils;
+    private final Provider<DeviceManager> devMgr;
+    private final int checkInterval;
+    private final int reportThreshold;
+
+    /**
+     * Last pushed space info by storage pool UUID
+     */
+    private final Map<UUID, SpaceInfo> reportedSpaceInfo = new HashMap<>();
+    private long lastFullReport = System.nanoTime();
+
+    private @Nullable ScheduledExecutorService executor;
+
+    @Inject
+    public StltFreeSpaceMonitor(
+        ErrorReporter errorReporterRef,
+        CtrlStltSerializer interComSerializerRef,
+        ControllerPeerConnector controllerPeerConnectorRef,
+        StltApiCallHandlerUtils apiCallHandlerUtilsRef,
+        Provider<DeviceManager> devMgrRef,
+        StltConfig stltCfgRef
+    )
+    {
+        errorReporter = errorReporterRef;
+        interComSerializer = interComSerializerRef;
+        controllerPeerConnector = controllerPeerConnectorRef;
+        apiCallHandlerUtils = apiCallHandlerUtilsRef;
+        devMgr = devMgrRef;
+        checkInterval = stltCfgRef.getDevMgrFreeSpaceCheckInterval();
+        reportThreshold = Math.max(0, stltCfgRef.getDevMgrFreeSpaceReportThreshold());
+    }
+
+    public void start()
+    {
+        if (checkInterval > 0 && executor == null)
+        {
+            executor = Executors.newSingleThreadScheduledExecutor(
+                runnable ->
+                {
+                    Thread thread = new Thread(runnable, "FreeSpaceMonitor");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            );
+            executor.scheduleWithFixedDelay(this::checkThinFreeSpaces, checkInterval, checkInterval, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Pushes the given space info to the controller regardless of the threshold
+     */
+    public void notifyFreeSpacesChanged(Map<? extends StorPoolInfo, SpaceInfo> spaceInfoMap)
+    {
+        if (!spaceInfoMap.isEmpty())
+        {
+            sendFreeSpaces(spaceInfoMap);
+        }
+    }
+
+    private void checkThinFreeSpaces()
+    {
+        try
+        {
+            Peer ctrlPeer = controllerPeerConnector.getControllerPeer();
+            if (ctrlPeer != null && ctrlPeer.isOnline())
+            {
+                long now = System.nanoTime();
+                boolean fullReport = now - lastFullReport >= FULL_REPORT_INTERVAL_NANOS;
+
+                Map<StorPoolInfo, SpaceInfo> changedSpaceInfo = new HashMap<>();
+                for (StorPoolInfo storPoolInfo : devMgr.get().getReadOnlyData().getStorPoolReadOnlyInfoList())
+                {
+                    if (storPoolInfo.getDeviceProviderKind().usesThinProvisioning())
+                    {
+                        try
+                        {
+                            SpaceInfo spaceInfo = apiCallHandlerUtils.getStoragePoolSpaceInfo(storPoolInfo, false);
+                            if (fullReport || exceedsThreshold(storPoolInfo.getUuid(), spaceInfo))
+                            {
+                                changedSpaceInfo.put(storPoolInfo, spaceInfo);
+                            }
+                        }
+                        catch (StorageException exc)
+                        {
+                            // the controller gets the error with its next request of the free space
+                            errorReporter.logDebug(
+                                "Failed to check free space of storage pool '%s': %s",
+                                storPoolInfo.getName().displayValue,
+                                exc.getMessage()
+                            );
+                        }
+                    }
+                }
+                if (fullReport)
+                {
+                    lastFullReport = now;
+                }
+                if (!changedSpaceInfo.isEmpty())
+                {
+                    sendFreeSpaces(changedSpaceInfo);
+                }
+            }
+        }
+        catch (RuntimeException exc)
+        {
+            // an exception would cancel all further checks
+            errorReporter.reportError(exc);
+        }
+    }
+
+    private synchronized boolean exceedsThreshold(UUID storPoolUuid, SpaceInfo spaceInfo)
+    {
+        SpaceInfo reported = reportedSpaceInfo.get(storPoolUuid);
+        boolean exceeds;
+        if (
+            reported == null || reported.freeCapacity == null || reported.totalCapacity == null ||
+            spaceInfo.freeCapacity == null || spaceInfo.totalCapacity == null
+        )
+        {
+            exceeds = true;
+        }
+        else
+        {
+            long freeDiff = Math.abs(spaceInfo.freeCapacity - reported.freeCapacity);
+            exceeds = !reported.totalCapacity.equals(spaceInfo.totalCapacity) ||
+                freeDiff > 0 && freeDiff >= spaceInfo.totalCapacity / 100.0 * reportThreshold;
+        }
+        return exceeds;
+    }
+
+    private void sendFreeSpaces(Map<? extends StorPoolInfo, SpaceInfo> spaceInfoMap)
+    {
+        Peer ctrlPeer = controllerPeerConnector.getControllerPeer();
+        if (ctrlPeer != null)
+        {
+            ctrlPeer.sendMessage(
+                interComSerializer
+                    .onewayBuilder(InternalApiConsts.API_UPDATE_FREE_CAPACITY)
+                    .updateFreeCapacities(spaceInfoMap)
+                    .build(),
+                InternalApiConsts.API_UPDATE_FREE_CAPACITY
+            );
+            synchronized (this)
+            {
+                for (Map.Entry<? extends StorPoolInfo, SpaceInfo> entry : spaceInfoMap.entrySet())
+                {
+                    reportedSpaceInfo.put(entry.getKey().getUuid(), entry.getValue());
+                }
+            }
+        }
+    }
+}
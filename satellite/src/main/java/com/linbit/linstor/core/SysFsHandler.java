@@ -126,8 +126,10 @@ public class SysFsHandler
      *
      * It is advised to call {@link #cleanup(Resource)} once the given resource is deleted to properly cleanup the
      * datastructures tracking the /sys/fs/cgroup/blkio/* settings
+     *
+     * This method is synchronized as the device manager might process multiple resources in parallel.
      */
-    public void update(Resource rsc, ApiCallRcImpl apiCallRcRef)
+    public synchronized void update(Resource rsc, ApiCallRcImpl apiCallRcRef)
         throws StorageException, AccessDeniedException, InvalidKeyException
     {
         List<BiExecutor<VlmProviderObject<Resource>, String>> consumers = new ArrayList<>();
@@ -178,7 +180,7 @@ public class SysFsHandler
      * devices.
      * This method does *not* attempt to reset the QoS setting, since it assumes that the devices are already deleted.
      */
-    public void cleanup(Resource rsc)
+    public synchronized void cleanup(Resource rsc)
         throws StorageException, AccessDeniedException, InvalidKeyException
     {
         execForAllVlmData(
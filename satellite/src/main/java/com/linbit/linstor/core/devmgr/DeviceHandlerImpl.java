@@ -3,6 +3,8 @@ package com.linbit.linstor.core.devmgr;
 import com.linbit.ImplementationError;
 import com.linbit.InvalidNameException;
 import com.linbit.Platform;
+import com.linbit.SatelliteLinstorModule;
+import com.linbit.WorkQueue;
 import com.linbit.extproc.ExtCmdFactory;
 import com.linbit.linstor.InternalApiConsts;
 import com.linbit.linstor.LinStorException;
@@ -10,6 +12,7 @@ import com.linbit.linstor.annotation.DeviceManagerContext;
 import com.linbit.linstor.api.ApiCallRcImpl;
 import com.linbit.linstor.api.ApiCallRcImpl.EntryBuilder;
 import com.linbit.linstor.api.ApiConsts;
+import com.linbit.linstor.api.LinStorScope;
 import com.linbit.linstor.api.SpaceInfo;
 import com.linbit.linstor.api.interfaces.serializer.CtrlStltSerializer;
 import com.linbit.linstor.backupshipping.BackupShippingMgr;
@@ -18,6 +21,7 @@ import com.linbit.linstor.core.ControllerPeerConnector;
 import com.linbit.linstor.core.StltExternalFileHandler;
 import com.linbit.linstor.core.SysFsHandler;
 import com.linbit.linstor.core.UdevHandler;
+import com.linbit.linstor.core.cfg.StltConfig;
 import com.linbit.linstor.core.apicallhandler.response.ApiRcException;
 import com.linbit.linstor.core.devmgr.exceptions.ResourceException;
 import com.linbit.linstor.core.devmgr.exceptions.VolumeException;
@@ -48,6 +52,7 @@ import com.linbit.linstor.layer.storage.StorageLayer;
 import com.linbit.linstor.layer.storage.utils.LsBlkUtils;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.netcom.Peer;
+import com.linbit.linstor.prometheus.LinstorServerMetrics;
 import com.linbit.linstor.propscon.InvalidKeyException;
 import com.linbit.linstor.propscon.InvalidValueException;
 import com.linbit.linstor.propscon.Props;
@@ -61,13 +66,18 @@ import com.linbit.linstor.storage.data.RscLayerSuffixes;
 import com.linbit.linstor.storage.interfaces.categories.resource.AbsRscLayerObject;
 import com.linbit.linstor.storage.interfaces.categories.resource.VlmProviderObject;
 import com.linbit.linstor.storage.kinds.DeviceLayerKind;
+import com.linbit.linstor.storage.kinds.DeviceProviderKind;
 import com.linbit.linstor.storage.utils.MkfsUtils;
+import com.linbit.linstor.transaction.manager.TransactionMgr;
+import com.linbit.linstor.transaction.manager.TransactionMgrUtil;
 import com.linbit.linstor.utils.SetUtils;
+import com.linbit.linstor.utils.layer.LayerVlmUtils;
 import com.linbit.utils.Either;
 import com.linbit.utils.StringUtils;
 
 import javax.annotation.Nullable;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 
@@ -84,9 +94,13 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
+import io.prometheus.client.Histogram;
+
 @Singleton
 public class DeviceHandlerImpl implements DeviceHandler
 {
@@ -94,6 +108,9 @@ public class DeviceHandlerImpl implements DeviceHandler
     private static final int LSBLK_DISC_GRAN_RETRY_COUNT = 10;
     private static final long LSBLK_DISC_GRAN_RETRY_TIMEOUT_IN_MS = 100;
 
+    private static final String DISPATCH_MODE_SERIAL = "serial";
+    private static final String DISPATCH_MODE_PARALLEL = "parallel";
+
     private final AccessContext wrkCtx;
     private final ErrorReporter errorReporter;
     private final Provider<NotificationListener> notificationListenerProvider;
@@ -118,6 +135,11 @@ public class DeviceHandlerImpl implements DeviceHandler
     private final SuspendManager suspendMgr;
     private final LayerSizeHelper layerSizeHelper;
 
+    private final StltConfig stltCfg;
+    private final WorkQueue workQueue;
+    private final LinStorScope deviceMgrScope;
+    private final Provider<TransactionMgr> transMgrProvider;
+
     @Inject
     public DeviceHandlerImpl(
         @DeviceManagerContext AccessContext wrkCtxRef,
@@ -136,7 +158,11 @@ public class DeviceHandlerImpl implements DeviceHandler
         BackupShippingMgr backupShippingManagerRef,
         SuspendManager suspendMgrRef,
         LayerSizeHelper layerSizeHelperRef,
-        CloneService cloneServiceRef
+        CloneService cloneServiceRef,
+        StltConfig stltCfgRef,
+        @Named(SatelliteLinstorModule.STLT_WORKER_POOL_NAME) WorkQueue workQueueRef,
+        LinStorScope deviceMgrScopeRef,
+        Provider<TransactionMgr> transMgrProviderRef
     )
     {
         wrkCtx = wrkCtxRef;
@@ -157,6 +183,10 @@ public class DeviceHandlerImpl implements DeviceHandler
         suspendMgr = suspendMgrRef;
         layerSizeHelper = layerSizeHelperRef;
         cloneService = cloneServiceRef;
+        stltCfg = stltCfgRef;
+        workQueue = workQueueRef;
+        deviceMgrScope = deviceMgrScopeRef;
+        transMgrProvider = transMgrProviderRef;
 
         suspendMgrRef.setExceptionHandler(this::handleException);
 
@@ -372,7 +402,285 @@ public class DeviceHandlerImpl implements DeviceHandler
         failedRscs.putAll(suspendMgr.manageSuspendIo(resourceList, false));
 
         final NotificationListener notificationListener = notificationListenerProvider.get();
-        for (Resource rsc : resourceList)
+        if (stltCfg.isDevMgrParallelDispatch() && resourceList.size() > 1)
+        {
+            processResourcesParallel(
+                resourceList,
+                notificationListener,
+                rscListNotifyApplied,
+                rscListNotifyDelete,
+                vlmListNotifyDelete,
+                failedRscs
+            );
+        }
+        else
+        {
+            for (Resource rsc : resourceList)
+            {
+                processSingleResource(
+                    rsc,
+                    notificationListener,
+                    rscListNotifyApplied,
+                    rscListNotifyDelete,
+                    vlmListNotifyDelete,
+                    failedRscs,
+                    DISPATCH_MODE_SERIAL
+                );
+            }
+        }
+    }
+
+    /**
+     * Processes the given resources on the satellite's worker pool. Resources that share (directly or transitively)
+     * a VG, zpool, etc. are grouped and processed sequentially by the same worker, while the groups themselves
+     * are processed in parallel.
+     * <br />
+     * The storage providers, the {@link SysFsHandler} and the {@link StltExternalFileHandler} are shared by all
+     * workers and are therefore thread-safe. The DRBD, LUKS, NVMe, cache and writecache layers only keep injected,
+     * read-only dependencies and otherwise work on the layer data of the resource they process, which is never
+     * shared between two groups.
+     * This method only returns after all groups were processed.
+     */
+    private void processResourcesParallel(
+        Collection<Resource> resourceList,
+        NotificationListener notificationListener,
+        List<Resource> rscListNotifyApplied,
+        List<Resource> rscListNotifyDelete,
+        List<Volume> vlmListNotifyDelete,
+        HashMap<Resource, ApiCallRcImpl> failedRscs
+    )
+        throws ImplementationError
+    {
+        List<List<Resource>> rscGroups = groupByBackingStorage(resourceList);
+        errorReporter.logDebug(
+            "Processing %d resources in %d independent groups",
+            resourceList.size(),
+            rscGroups.size()
+        );
+
+        final TransactionMgr transMgr = transMgrProvider.get();
+        final List<Resource> syncRscListNotifyApplied = Collections.synchronizedList(rscListNotifyApplied);
+        final List<Resource> syncRscListNotifyDelete = Collections.synchronizedList(rscListNotifyDelete);
+        final List<Volume> syncVlmListNotifyDelete = Collections.synchronizedList(vlmListNotifyDelete);
+        final AtomicReference<Throwable> workerError = new AtomicReference<>();
+        final CountDownLatch pendingGroups = new CountDownLatch(rscGroups.size());
+
+        for (List<Resource> rscGroup : rscGroups)
+        {
+            workQueue.submit(
+                () ->
+                {
+                    try (LinStorScope.ScopeAutoCloseable close = deviceMgrScope.enter())
+                    {
+                        TransactionMgrUtil.seedTransactionMgr(deviceMgrScope, transMgr);
+                        deviceMgrScope.seed(NotificationListener.class, notificationListener);
+                        for (Resource rsc : rscGroup)
+                        {
+                            processSingleResource(
+                                rsc,
+                                notificationListener,
+                                syncRscListNotifyApplied,
+                                syncRscListNotifyDelete,
+                                syncVlmListNotifyDelete,
+                                failedRscs,
+                                DISPATCH_MODE_PARALLEL
+                            );
+                        }
+                    }
+                    catch (RuntimeException | ImplementationError exc)
+                    {
+                        workerError.compareAndSet(null, exc);
+                    }
+                    finally
+                    {
+                        pendingGroups.countDown();
+                    }
+                }
+            );
+        }
+
+        boolean interrupted = false;
+        while (pendingGroups.getCount() > 0)
+        {
+            try
+            {
+                pendingGroups.await();
+            }
+            catch (InterruptedException ignored)
+            {
+                // we cannot continue before all workers are done with the resources
+                interrupted = true;
+            }
+        }
+        if (interrupted)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        Throwable exc = workerError.get();
+        if (exc != null)
+        {
+            if (exc instanceof ImplementationError)
+            {
+                throw (ImplementationError) exc;
+            }
+            throw new ImplementationError(exc);
+        }
+    }
+
+    /**
+     * Groups the given resources so that two resources that use the same backing storage (VG, zpool, ...) end up in
+     * the same group. Diskless resources do not share anything and therefore always end up in their own group.
+     */
+    private List<List<Resource>> groupByBackingStorage(Collection<Resource> resourceList)
+    {
+        Map<Resource, Set<String>> storageKeysByRsc = new HashMap<>();
+        try
+        {
+            for (Resource rsc : resourceList)
+            {
+                Set<String> storageKeys = new HashSet<>();
+                for (StorPool storPool : LayerVlmUtils.getStorPools(rsc, wrkCtx))
+                {
+                    @Nullable String poolName = storPool.getProps(wrkCtx)
+                        .getProp(ApiConsts.KEY_STOR_POOL_NAME, ApiConsts.NAMESPC_STORAGE_DRIVER);
+                    @Nullable String storageKey = getBackingStorageKey(
+                        storPool.getDeviceProviderKind(),
+                        poolName == null ? storPool.getName().value : poolName
+                    );
+                    if (storageKey != null)
+                    {
+                        storageKeys.add(storageKey);
+                    }
+                }
+                storageKeysByRsc.put(rsc, storageKeys);
+            }
+        }
+        catch (AccessDeniedException | InvalidKeyException exc)
+        {
+            throw new ImplementationError(exc);
+        }
+        return groupBySharedKeys(resourceList, storageKeysByRsc::get);
+    }
+
+    /**
+     * Groups the given elements so that two elements sharing (directly or transitively) at least one key end up in
+     * the same group.
+     */
+    static <T> List<List<T>> groupBySharedKeys(Collection<T> elements, Function<T, Set<String>> keysFunc)
+    {
+        Map<String, List<T>> groupByKey = new HashMap<>();
+        List<List<T>> groups = new ArrayList<>();
+        for (T elem : elements)
+        {
+            Set<String> keys = keysFunc.apply(elem);
+
+            @Nullable List<T> elemGroup = null;
+            for (String key : keys)
+            {
+                @Nullable List<T> keyGroup = groupByKey.get(key);
+                if (keyGroup != null && keyGroup != elemGroup)
+                {
+                    if (elemGroup == null)
+                    {
+                        elemGroup = keyGroup;
+                    }
+                    else
+                    {
+                        // this element connects two so far independent groups
+                        final List<T> mergedGroup = keyGroup;
+                        elemGroup.addAll(mergedGroup);
+                        groups.removeIf(grp -> grp == mergedGroup);
+                        for (Map.Entry<String, List<T>> entry : groupByKey.entrySet())
+                        {
+                            if (entry.getValue() == mergedGroup)
+                            {
+                                entry.setValue(elemGroup);
+                            }
+                        }
+                    }
+                }
+            }
+            if (elemGroup == null)
+            {
+                elemGroup = new ArrayList<>();
+                groups.add(elemGroup);
+            }
+            elemGroup.add(elem);
+            for (String key : keys)
+            {
+                groupByKey.put(key, elemGroup);
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * Returns a key identifying the backing storage of a storage pool, or <code>null</code> if the storage pool does
+     * not have any backing storage.
+     * <br />
+     * LVM and ZFS storage pools are keyed by their VG or zpool, so resources of different VGs or zpools are processed
+     * in parallel, even if they use the same provider. The thin and thick providers share the key, as a thin pool
+     * lives within the same VG or zpool as the thick volumes. All other providers keep static or unsynchronized
+     * state (loop device mapping, lsscsi cache, EBS device letters, the info cache of storage spaces, ...), so each
+     * of their families is processed by a single worker.
+     */
+    static @Nullable String getBackingStorageKey(DeviceProviderKind kind, String poolName)
+    {
+        @Nullable String ret;
+        switch (kind)
+        {
+            case DISKLESS:
+                ret = null;
+                break;
+            case LVM: // fall-through
+            case LVM_THIN:
+                ret = DeviceProviderKind.LVM.name() + ":" + getRootPoolName(poolName);
+                break;
+            case ZFS: // fall-through
+            case ZFS_THIN:
+                ret = DeviceProviderKind.ZFS.name() + ":" + getRootPoolName(poolName);
+                break;
+            case FILE_THIN:
+                ret = DeviceProviderKind.FILE.name();
+                break;
+            case REMOTE_SPDK:
+                ret = DeviceProviderKind.SPDK.name();
+                break;
+            case EBS_TARGET:
+                ret = DeviceProviderKind.EBS_INIT.name();
+                break;
+            case STORAGE_SPACES_THIN:
+                ret = DeviceProviderKind.STORAGE_SPACES.name();
+                break;
+            default:
+                ret = kind.name();
+                break;
+        }
+        return ret;
+    }
+
+    /**
+     * "vg/thinpool" or "zpool/dataset" -&gt; "vg" or "zpool"
+     */
+    private static String getRootPoolName(String poolName)
+    {
+        int slashIdx = poolName.indexOf('/');
+        return slashIdx > 0 ? poolName.substring(0, slashIdx) : poolName;
+    }
+
+    private void processSingleResource(
+        Resource rsc,
+        NotificationListener notificationListener,
+        List<Resource> rscListNotifyApplied,
+        List<Resource> rscListNotifyDelete,
+        List<Volume> vlmListNotifyDelete,
+        Map<Resource, ApiCallRcImpl> failedRscs,
+        String dispatchMode
+    )
+        throws ImplementationError
+    {
+        try (Histogram.Timer ignored = LinstorServerMetrics.rscDispatchHistogram.labels(dispatchMode).startTimer())
         {
             ResourceName rscName = rsc.getResourceDefinition().getName();
             ApiCallRcImpl apiCallRc = failedRscs.get(rsc);
@@ -2,9 +2,11 @@ package com.linbit.linstor.core.devmgr;
 
 import com.linbit.ImplementationError;
 import com.linbit.InvalidNameException;
+import com.linbit.SatelliteLinstorModule;
 import com.linbit.ServiceName;
 import com.linbit.SystemService;
 import com.linbit.SystemServiceStartException;
+import com.linbit.WorkQueue;
 import com.linbit.drbd.DrbdVersion;
 import com.linbit.extproc.ExtCmd.ExtCmdConditionNotFullfilledException;
 import com.linbit.extproc.ExtCmdFactory;
@@ -22,6 +24,7 @@ import com.linbit.linstor.core.CoreModule;
 import com.linbit.linstor.core.DeviceManager;
 import com.linbit.linstor.core.StltExternalFileHandler;
 import com.linbit.linstor.core.StltSecurityObjects;
+import com.linbit.linstor.core.StltFreeSpaceMonitor;
 import com.linbit.linstor.core.StltUpdateRequester;
 import com.linbit.linstor.core.StltUpdateTracker;
 import com.linbit.linstor.core.StltUpdateTrackerImpl;
@@ -76,6 +79,7 @@ import com.linbit.utils.Either;
 
 import static com.linbit.linstor.api.ApiConsts.MODIFIED;
 
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Provider;
@@ -155,6 +159,12 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
     // Tracks sinks that need to be completed once the dispatch phase is complete
     private final List<FluxSink<ApiCallRc>> pendingResponseSinks = new ArrayList<>();
 
+    // Resources dispatched in the current cycle, whose allocated sizes are pushed to the controller afterwards
+    private final Set<ResourceName> dispatchedRscs = new TreeSet<>();
+    // Resources whose allocated sizes are waiting for the push task, guarded by itself
+    private final Set<ResourceName> pendingVlmAllocatedRscs = new TreeSet<>();
+    private boolean vlmAllocatedPushScheduled = false;
+
     private Thread svcThr;
 
     private final AtomicBoolean runningFlag     = new AtomicBoolean(false);
@@ -229,6 +239,8 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
     private final StltExternalFileHandler extFileHandler;
 
     private final StltConfig stltCfg;
+    private final StltFreeSpaceMonitor freeSpaceMonitor;
+    private final WorkQueue workQueue;
 
     /**
      * A read-only copy of the storage pools that is required for various API call (like fetch-free-spaces) that are
@@ -270,7 +282,9 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
         SnapshotShippingService snapshipServiceRef,
         BackupShippingMgr backupServiceMgrRef,
         StltExternalFileHandler extFileHandlerRef,
-        StltConfig stltCfgRef
+        StltConfig stltCfgRef,
+        StltFreeSpaceMonitor freeSpaceMonitorRef,
+        @Named(SatelliteLinstorModule.STLT_WORKER_POOL_NAME) WorkQueue workQueueRef
     )
     {
         wrkCtx = wrkCtxRef;
@@ -302,6 +316,8 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
         backupServiceMgr = backupServiceMgrRef;
         extFileHandler = extFileHandlerRef;
         stltCfg = stltCfgRef;
+        freeSpaceMonitor = freeSpaceMonitorRef;
+        workQueue = workQueueRef;
 
         updTracker = new StltUpdateTrackerImpl(sched, scheduler);
         svcThr = null;
@@ -854,6 +870,7 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
                 errLog.logInfo("End DeviceManager cycle %d", cycleNr);
 
                 Peer ctrlPeer = controllerPeerConnector.getControllerPeer();
+                notifyVlmAllocated(ctrlPeer);
                 synchronized (sched)
                 {
                     if (ctrlPeer != null)
@@ -883,6 +900,67 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
         }
     }
 
+    /**
+     * Schedules pushing the allocated sizes of the thin volumes of all resources dispatched in this cycle to the
+     * controller, so that the controller can answer volume list requests without asking this satellite.
+     * <br />
+     * Querying the allocated sizes runs external commands, which is done by the satellite's worker pool instead of
+     * delaying the next device manager cycle. Resources dispatched while a push is still pending are merged into it.
+     */
+    private void notifyVlmAllocated(@Nullable Peer ctrlPeer)
+    {
+        if (ctrlPeer != null && !dispatchedRscs.isEmpty())
+        {
+            boolean schedule;
+            synchronized (pendingVlmAllocatedRscs)
+            {
+                pendingVlmAllocatedRscs.addAll(dispatchedRscs);
+                schedule = !vlmAllocatedPushScheduled;
+                vlmAllocatedPushScheduled = true;
+            }
+            if (schedule)
+            {
+                workQueue.submit(this::pushVlmAllocated);
+            }
+        }
+        dispatchedRscs.clear();
+    }
+
+    private void pushVlmAllocated()
+    {
+        Set<ResourceName> rscNames;
+        synchronized (pendingVlmAllocatedRscs)
+        {
+            rscNames = new TreeSet<>(pendingVlmAllocatedRscs);
+            pendingVlmAllocatedRscs.clear();
+            vlmAllocatedPushScheduled = false;
+        }
+        try
+        {
+            Peer ctrlPeer = controllerPeerConnector.getControllerPeer();
+            if (ctrlPeer != null)
+            {
+                Map<Volume.Key, Either<Long, ApiRcException>> vlmAllocatedCapacities =
+                    apiCallHandlerUtils.getVlmAllocatedCapacities(Collections.emptySet(), rscNames);
+                if (!vlmAllocatedCapacities.isEmpty())
+                {
+                    ctrlPeer.sendMessage(
+                        interComSerializer
+                            .onewayBuilder(InternalApiConsts.API_NOTIFY_VLM_ALLOCATED)
+                            .vlmAllocated(vlmAllocatedCapacities)
+                            .build(),
+                        InternalApiConsts.API_NOTIFY_VLM_ALLOCATED
+                    );
+                }
+            }
+        }
+        catch (RuntimeException exc)
+        {
+            // the controller falls back to asking this satellite
+            errLog.reportError(Level.WARN, exc);
+        }
+    }
+
     private void phaseCollectUpdateNotifications()
         throws SvcCondException
     {
@@ -1028,6 +1106,10 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
                 Set<Snapshot> snapshotsToDispatch = new TreeSet<>();
                 Set<Resource> remoteResourcesToDelete = new TreeSet<>();
 
+                if (stltCfg.isDevMgrPushVlmAllocated())
+                {
+                    dispatchedRscs.addAll(dispatchRscs.keySet());
+                }
                 for (ResourceName rscName : dispatchRscs.keySet())
                 {
                     // Dispatch resources that were affected by changes to worker threads
@@ -2030,18 +2112,7 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
     public void notifyFreeSpacesChanged(Map<StorPool, SpaceInfo> spaceInfoMap)
     {
         // Send update notification to the controller
-
-        Peer ctrlPeer = controllerPeerConnector.getControllerPeer();
-        if (ctrlPeer != null)
-        {
-            ctrlPeer.sendMessage(
-                interComSerializer
-                    .onewayBuilder(InternalApiConsts.API_UPDATE_FREE_CAPACITY)
-                    .updateFreeCapacities(spaceInfoMap)
-                    .build(),
-                InternalApiConsts.API_UPDATE_FREE_CAPACITY
-            );
-        }
+        freeSpaceMonitor.notifyFreeSpacesChanged(spaceInfoMap);
     }
 
     @Override
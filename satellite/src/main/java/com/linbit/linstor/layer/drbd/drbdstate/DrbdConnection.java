@@ -137,7 +137,7 @@ public class DrbdConnection
         return connState;
     }
 
-    protected static DrbdConnection newFromProps(DrbdResource resource, Map<String, String> props)
+    protected static DrbdConnection newFromProps(DrbdResource resource, DrbdEventLine props)
         throws EventsSourceException
     {
         String connName = props.get(PROP_KEY_CONN_NAME);
@@ -172,7 +172,7 @@ public class DrbdConnection
         return new DrbdConnection(resource, connName, nodeId);
     }
 
-    protected void update(Map<String, String> props, ResourceObserver obs)
+    protected void update(DrbdEventLine props, ResourceObserver obs)
     {
         String connLabel = props.get(PROP_KEY_CONNECTION);
         if (connLabel != null)
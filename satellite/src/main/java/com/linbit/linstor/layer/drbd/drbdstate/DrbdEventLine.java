@@ -0,0 +1,294 @@
+package com.linbit.linstor.layer.drbd.drbdstate;
+
+import javax.annotation.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reusable parser for a single 'drbdsetup events2' line
+ *
+ * The line is parsed directly from its bytes into a reusable buffer. Keys and values are only tracked by their
+ * offsets within that buffer. Strings are only created for values that are actually requested, and well known
+ * labels (actions, object types, states, roles, ...) are returned as constants instead of being copied into new
+ * strings.
+ * This avoids creating a tokenizer, a map and a substring for every key and value of every event line, which
+ * matters during resync storms where a satellite might receive thousands of event lines per second.
+ *
+ * Instances are not thread-safe. An instance is only valid until the next call to {@link #parse(byte[], int, int)},
+ * use {@link #copy()} if the parsed line needs to be kept.
+ */
+public class DrbdEventLine
+{
+    private static final int INITIAL_BUFFER_SIZE = 512;
+    private static final int INITIAL_PROP_COUNT = 16;
+
+    private static final byte SEPARATOR = ' ';
+    private static final byte KEY_VALUE_SEPARATOR = ':';
+
+    private static final byte[][] KNOWN_LABEL_BYTES;
+    private static final String[] KNOWN_LABELS;
+
+    static
+    {
+        List<String> labels = new ArrayList<>();
+        labels.add(DrbdEventsMonitor.ACTION_CREATE);
+        labels.add(DrbdEventsMonitor.ACTION_CHANGE);
+        labels.add(DrbdEventsMonitor.ACTION_DESTROY);
+        labels.add(DrbdEventsMonitor.ACTION_EXISTS);
+        labels.add(DrbdEventsMonitor.OBJ_RESOURCE);
+        labels.add(DrbdEventsMonitor.OBJ_VOLUME);
+        labels.add(DrbdEventsMonitor.OBJ_PEER_VOLUME);
+        labels.add(DrbdEventsMonitor.OBJ_CONNECTION);
+        labels.add(DrbdEventsMonitor.OBJ_END_OF_INIT);
+        labels.add("yes");
+        labels.add("no");
+        for (DrbdResource.Role role : DrbdResource.Role.values())
+        {
+            labels.add(role.toString());
+        }
+        for (DrbdConnection.State connState : DrbdConnection.State.values())
+        {
+            labels.add(connState.toString());
+        }
+        for (DiskState diskState : DiskState.values())
+        {
+            labels.add(diskState.toString());
+        }
+        for (ReplState replState : ReplState.values())
+        {
+            labels.add(replState.toString());
+        }
+        KNOWN_LABELS = labels.stream().distinct().toArray(String[]::new);
+        KNOWN_LABEL_BYTES = new byte[KNOWN_LABELS.length][];
+        for (int idx = 0; idx < KNOWN_LABELS.length; ++idx)
+        {
+            KNOWN_LABEL_BYTES[idx] = KNOWN_LABELS[idx].getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    private byte[] lineBuffer;
+    private int lineLength;
+
+    private @Nullable String action;
+    private @Nullable String objType;
+
+    private int propCount;
+    private int[] keyOffsets;
+    private int[] keyLengths;
+    private int[] valueOffsets;
+    private int[] valueLengths;
+    private String[] valueCache;
+
+    public DrbdEventLine()
+    {
+        this(INITIAL_BUFFER_SIZE, INITIAL_PROP_COUNT);
+    }
+
+    private DrbdEventLine(int bufferSize, int propCapacity)
+    {
+        lineBuffer = new byte[bufferSize];
+        keyOffsets = new int[propCapacity];
+        keyLengths = new int[propCapacity];
+        valueOffsets = new int[propCapacity];
+        valueLengths = new int[propCapacity];
+        valueCache = new String[propCapacity];
+    }
+
+    /**
+     * Parses the given line, replacing the previously parsed line.
+     *
+     * @return false if the line is empty (or only consists of separators), true otherwise
+     *
+     * @throws EventsSourceException if the line has an action but no object type
+     */
+    public boolean parse(byte[] data, int offset, int length) throws EventsSourceException
+    {
+        int len = length;
+        // ignore trailing line breaks
+        while (len > 0 && (data[offset + len - 1] == '\n' || data[offset + len - 1] == '\r'))
+        {
+            --len;
+        }
+        if (lineBuffer.length < len)
+        {
+            lineBuffer = new byte[Math.max(len, lineBuffer.length * 2)];
+        }
+        System.arraycopy(data, offset, lineBuffer, 0, len);
+        lineLength = len;
+
+        Arrays.fill(valueCache, 0, propCount, null);
+        propCount = 0;
+        action = null;
+        objType = null;
+
+        int pos = skipSeparators(0);
+        boolean hasContent = pos < lineLength;
+        if (hasContent)
+        {
+            int tokenEnd = findTokenEnd(pos);
+            action = asString(pos, tokenEnd - pos);
+
+            pos = skipSeparators(tokenEnd);
+            if (pos >= lineLength)
+            {
+                throw new EventsSourceException("Received an event line without an object type parameter");
+            }
+            tokenEnd = findTokenEnd(pos);
+            objType = asString(pos, tokenEnd - pos);
+
+            pos = skipSeparators(tokenEnd);
+            while (pos < lineLength)
+            {
+                tokenEnd = findTokenEnd(pos);
+                int splitIdx = pos;
+                while (splitIdx < tokenEnd && lineBuffer[splitIdx] != KEY_VALUE_SEPARATOR)
+                {
+                    ++splitIdx;
+                }
+                if (splitIdx < tokenEnd)
+                {
+                    addProp(pos, splitIdx - pos, splitIdx + 1, tokenEnd - splitIdx - 1);
+                }
+                pos = skipSeparators(tokenEnd);
+            }
+        }
+        return hasContent;
+    }
+
+    public @Nullable String getAction()
+    {
+        return action;
+    }
+
+    public @Nullable String getObjType()
+    {
+        return objType;
+    }
+
+    /**
+     * Returns the value of the given key, or null if the parsed line does not contain the key.
+     * If a key is contained multiple times, the last value is returned.
+     */
+    public @Nullable String get(String key)
+    {
+        String value = null;
+        for (int idx = propCount - 1; idx >= 0; --idx)
+        {
+            if (keyEquals(idx, key))
+            {
+                value = valueCache[idx];
+                if (value == null)
+                {
+                    value = asString(valueOffsets[idx], valueLengths[idx]);
+                    valueCache[idx] = value;
+                }
+                break;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Returns a copy of this line that is not affected by subsequent calls to {@link #parse(byte[], int, int)}
+     */
+    public DrbdEventLine copy()
+    {
+        DrbdEventLine copy = new DrbdEventLine(Math.max(lineLength, 1), Math.max(propCount, 1));
+        System.arraycopy(lineBuffer, 0, copy.lineBuffer, 0, lineLength);
+        copy.lineLength = lineLength;
+        copy.action = action;
+        copy.objType = objType;
+        copy.propCount = propCount;
+        System.arraycopy(keyOffsets, 0, copy.keyOffsets, 0, propCount);
+        System.arraycopy(keyLengths, 0, copy.keyLengths, 0, propCount);
+        System.arraycopy(valueOffsets, 0, copy.valueOffsets, 0, propCount);
+        System.arraycopy(valueLengths, 0, copy.valueLengths, 0, propCount);
+        System.arraycopy(valueCache, 0, copy.valueCache, 0, propCount);
+        return copy;
+    }
+
+    @Override
+    public String toString()
+    {
+        return new String(lineBuffer, 0, lineLength, StandardCharsets.UTF_8);
+    }
+
+    private int skipSeparators(int posRef)
+    {
+        int pos = posRef;
+        while (pos < lineLength && lineBuffer[pos] == SEPARATOR)
+        {
+            ++pos;
+        }
+        return pos;
+    }
+
+    private int findTokenEnd(int posRef)
+    {
+        int pos = posRef;
+        while (pos < lineLength && lineBuffer[pos] != SEPARATOR)
+        {
+            ++pos;
+        }
+        return pos;
+    }
+
+    private void addProp(int keyOffset, int keyLength, int valueOffset, int valueLength)
+    {
+        if (propCount == keyOffsets.length)
+        {
+            int newCapacity = propCount * 2;
+            keyOffsets = Arrays.copyOf(keyOffsets, newCapacity);
+            keyLengths = Arrays.copyOf(keyLengths, newCapacity);
+            valueOffsets = Arrays.copyOf(valueOffsets, newCapacity);
+            valueLengths = Arrays.copyOf(valueLengths, newCapacity);
+            valueCache = Arrays.copyOf(valueCache, newCapacity);
+        }
+        keyOffsets[propCount] = keyOffset;
+        keyLengths[propCount] = keyLength;
+        valueOffsets[propCount] = valueOffset;
+        valueLengths[propCount] = valueLength;
+        ++propCount;
+    }
+
+    private boolean keyEquals(int propIdx, String key)
+    {
+        int keyLen = keyLengths[propIdx];
+        boolean equal = keyLen == key.length();
+        if (equal)
+        {
+            int keyOffset = keyOffsets[propIdx];
+            for (int idx = 0; idx < keyLen; ++idx)
+            {
+                if (lineBuffer[keyOffset + idx] != key.charAt(idx))
+                {
+                    equal = false;
+                    break;
+                }
+            }
+        }
+        return equal;
+    }
+
+    private String asString(int offset, int length)
+    {
+        String str = null;
+        for (int labelIdx = 0; labelIdx < KNOWN_LABEL_BYTES.length; ++labelIdx)
+        {
+            byte[] label = KNOWN_LABEL_BYTES[labelIdx];
+            if (label.length == length && Arrays.equals(label, 0, length, lineBuffer, offset, offset + length))
+            {
+                str = KNOWN_LABELS[labelIdx];
+                break;
+            }
+        }
+        if (str == null)
+        {
+            str = new String(lineBuffer, offset, length, StandardCharsets.UTF_8);
+        }
+        return str;
+    }
+}
@@ -104,7 +104,7 @@ public class DrbdEventService implements SystemService, Runnable, DrbdStateStore
                 event = eventDeque.take();
                 if (event instanceof StdOutEvent)
                 {
-                    eventsMonitor.receiveEvent(new String(((StdOutEvent) event).data));
+                    eventsMonitor.receiveEvent(((StdOutEvent) event).data);
                 }
                 else
                 if (event instanceof StdErrEvent)
@@ -6,12 +6,11 @@ import com.linbit.linstor.core.CoreModule.ResourceDefinitionMap;
 import com.linbit.linstor.core.identifier.VolumeNumber;
 import com.linbit.linstor.core.DrbdStateChange;
 import com.linbit.linstor.logging.ErrorReporter;
-import com.linbit.utils.Triple;
 
+import java.nio.charset.StandardCharsets;
 import java.util.LinkedList;
-import java.util.Map;
-import java.util.StringTokenizer;
-import java.util.TreeMap;
+
+import org.slf4j.event.Level;
 
 /**
  * Drbdsetup events monitor
@@ -43,7 +42,10 @@ public class DrbdEventsMonitor
     private final ResourceDefinitionMap rscDfnMap;
 
     private boolean existsFinished = false;
-    private final LinkedList<Triple<String, String, Map<String, String>>> duringExistsQueue = new LinkedList<>();
+    private final LinkedList<DrbdEventLine> duringExistsQueue = new LinkedList<>();
+
+    // reused for every received line, see DrbdEventLine
+    private final DrbdEventLine eventLine = new DrbdEventLine();
 
     public DrbdEventsMonitor(
         DrbdStateTracker trackerRef,
@@ -65,57 +67,42 @@ public class DrbdEventsMonitor
                 new NullPointerException()
             );
         }
-        errorReporter.logTrace("DRBD 'events2': %s", eventString);
+        receiveEvent(eventString.getBytes(StandardCharsets.UTF_8));
+    }
 
-        // Skip empty lines
-        if (!eventString.isEmpty())
+    public void receiveEvent(byte[] eventData) throws EventsSourceException
+    {
+        if (eventData == null)
         {
-            StringTokenizer tokens = new StringTokenizer(eventString, " ");
-            Map<String, String> props = new TreeMap<>();
+            throw new ImplementationError(
+                "Event data passed by caller is a null pointer",
+                new NullPointerException()
+            );
+        }
 
-            if (tokens.hasMoreTokens())
+        // Skip empty lines
+        if (eventLine.parse(eventData, 0, eventData.length))
+        {
+            if (errorReporter.hasAtLeastLogLevel(Level.TRACE))
             {
-                String action = tokens.nextToken();
-                if (tokens.hasMoreTokens())
-                {
-                    String objType = tokens.nextToken();
-                    while (tokens.hasMoreTokens())
-                    {
-                        String kvPair = tokens.nextToken();
-                        int splitIdx = kvPair.indexOf(':');
-                        if (splitIdx != -1)
-                        {
-                            String key = kvPair.substring(0, splitIdx);
-                            String value = kvPair.substring(splitIdx + 1);
-                            props.put(key, value);
-                        }
-                    }
-
-                    if (!existsFinished && !action.equals(ACTION_EXISTS))
-                    {
-                        duringExistsQueue.add(new Triple<>(action, objType, props));
-                    }
-                    else
-                    {
-                        executeAction(action, objType, props);
-                    }
-                }
-                else
-                {
-                    throw new EventsSourceException("Received an event line without an object type parameter");
-                }
+                errorReporter.logTrace("DRBD 'events2': %s", eventLine);
+            }
+            if (!existsFinished && !eventLine.getAction().equals(ACTION_EXISTS))
+            {
+                duringExistsQueue.add(eventLine.copy());
             }
             else
             {
-                throw new EventsSourceException("Received an event line without an action parameter");
+                executeAction(eventLine);
             }
         }
     }
 
-    private void executeAction(String action, String objType, Map<String, String> props) throws EventsSourceException
+    private void executeAction(DrbdEventLine props) throws EventsSourceException
     {
+        String objType = props.getObjType();
         // Select action
-        switch (action)
+        switch (props.getAction())
         {
             case ACTION_EXISTS: // fall-through
             case ACTION_CREATE:
@@ -134,7 +121,7 @@ public class DrbdEventsMonitor
         }
     }
 
-    private void create(Map<String, String> props, String object) throws EventsSourceException
+    private void create(DrbdEventLine props, String object) throws EventsSourceException
     {
         switch (object)
         {
@@ -155,10 +142,11 @@ public class DrbdEventsMonitor
                 if (!existsFinished)
                 {
                     existsFinished = true;
-                    for (Triple<String, String, Map<String, String>> triple : duringExistsQueue)
+                    for (DrbdEventLine queuedLine : duringExistsQueue)
                     {
-                        executeAction(triple.objA, triple.objB, triple.objC);
+                        executeAction(queuedLine);
                     }
+                    duringExistsQueue.clear();
                 }
                 break;
             default:
@@ -191,7 +179,7 @@ public class DrbdEventsMonitor
         return stateAvailable;
     }
 
-    private void change(Map<String, String> props, String object) throws EventsSourceException
+    private void change(DrbdEventLine props, String object) throws EventsSourceException
     {
         switch (object)
         {
@@ -214,7 +202,7 @@ public class DrbdEventsMonitor
         }
     }
 
-    private void destroy(Map<String, String> props, String object) throws EventsSourceException
+    private void destroy(DrbdEventLine props, String object) throws EventsSourceException
     {
         switch (object)
         {
@@ -237,7 +225,7 @@ public class DrbdEventsMonitor
         }
     }
 
-    private void createResource(Map<String, String> props) throws EventsSourceException
+    private void createResource(DrbdEventLine props) throws EventsSourceException
     {
         DrbdResource resource = DrbdResource.newFromProps(props, rscDfnMap);
         tracker.putResource(resource);
@@ -245,7 +233,7 @@ public class DrbdEventsMonitor
         resource.update(props, tracker.multiplexer);
     }
 
-    private void createConnection(Map<String, String> props) throws EventsSourceException
+    private void createConnection(DrbdEventLine props) throws EventsSourceException
     {
         DrbdResource resource = getResource(props, ACTION_CREATE, OBJ_CONNECTION);
         DrbdConnection connection = DrbdConnection.newFromProps(resource, props);
@@ -254,7 +242,7 @@ public class DrbdEventsMonitor
         connection.update(props, tracker.multiplexer);
     }
 
-    private void createVolume(Map<String, String> props) throws EventsSourceException
+    private void createVolume(DrbdEventLine props) throws EventsSourceException
     {
         DrbdResource resource = getResource(props, ACTION_CREATE, OBJ_VOLUME);
         DrbdVolume volume = DrbdVolume.newFromProps(resource, null, props);
@@ -263,7 +251,7 @@ public class DrbdEventsMonitor
         volume.update(props, tracker.multiplexer);
     }
 
-    private void createPeerVolume(Map<String, String> props) throws EventsSourceException
+    private void createPeerVolume(DrbdEventLine props) throws EventsSourceException
     {
         DrbdResource resource = getResource(props, ACTION_CREATE, OBJ_PEER_VOLUME);
         DrbdConnection connection = getConnection(resource, props, ACTION_CREATE, OBJ_PEER_VOLUME);
@@ -273,27 +261,27 @@ public class DrbdEventsMonitor
         volume.update(props, tracker.multiplexer);
     }
 
-    private void changeResource(Map<String, String> props) throws EventsSourceException
+    private void changeResource(DrbdEventLine props) throws EventsSourceException
     {
         DrbdResource resource = getResource(props, ACTION_CHANGE, OBJ_RESOURCE);
         resource.update(props, tracker.multiplexer);
     }
 
-    private void changeConnection(Map<String, String> props) throws EventsSourceException
+    private void changeConnection(DrbdEventLine props) throws EventsSourceException
     {
         DrbdResource resource = getResource(props, ACTION_CHANGE, OBJ_CONNECTION);
         DrbdConnection connection = getConnection(resource, props, ACTION_CHANGE, OBJ_CONNECTION);
         connection.update(props, tracker.multiplexer);
     }
 
-    private void changeVolume(Map<String, String> props) throws EventsSourceException
+    private void changeVolume(DrbdEventLine props) throws EventsSourceException
     {
         DrbdResource resource = getResource(props, ACTION_CHANGE, OBJ_VOLUME);
         DrbdVolume volume = getVolume(resource, null, props, ACTION_CHANGE, OBJ_VOLUME);
         volume.update(props, tracker.multiplexer);
     }
 
-    private void changePeerVolume(Map<String, String> props) throws EventsSourceException
+    private void changePeerVolume(DrbdEventLine props) throws EventsSourceException
     {
         DrbdResource resource = getResource(props, ACTION_CHANGE, OBJ_PEER_VOLUME);
         DrbdConnection connection = getConnection(resource, props, ACTION_CHANGE, OBJ_PEER_VOLUME);
@@ -301,7 +289,7 @@ public class DrbdEventsMonitor
         volume.update(props, tracker.multiplexer);
     }
 
-    private void destroyResource(Map<String, String> props) throws EventsSourceException
+    private void destroyResource(DrbdEventLine props) throws EventsSourceException
     {
         String resName = getProp(props, DrbdResource.PROP_KEY_RES_NAME, ACTION_DESTROY, OBJ_RESOURCE);
         DrbdResource resource = tracker.removeResource(resName);
@@ -315,7 +303,7 @@ public class DrbdEventsMonitor
         }
     }
 
-    private void destroyConnection(Map<String, String> props) throws EventsSourceException
+    private void destroyConnection(DrbdEventLine props) throws EventsSourceException
     {
         DrbdResource resource = getResource(props, ACTION_DESTROY, OBJ_CONNECTION);
         String connName = getProp(props, DrbdConnection.PROP_KEY_CONN_NAME, ACTION_DESTROY, OBJ_CONNECTION);
@@ -330,7 +318,7 @@ public class DrbdEventsMonitor
         }
     }
 
-    private void destroyVolume(Map<String, String> props) throws EventsSourceException
+    private void destroyVolume(DrbdEventLine props) throws EventsSourceException
     {
         DrbdResource resource = getResource(props, ACTION_DESTROY, OBJ_VOLUME);
         VolumeNumber volNr = getVolumeNr(props, ACTION_DESTROY, OBJ_VOLUME);
@@ -345,7 +333,7 @@ public class DrbdEventsMonitor
         }
     }
 
-    private void destroyPeerVolume(Map<String, String> props) throws EventsSourceException
+    private void destroyPeerVolume(DrbdEventLine props) throws EventsSourceException
     {
         DrbdResource resource = getResource(props, ACTION_DESTROY, OBJ_PEER_VOLUME);
         DrbdConnection connection = getConnection(resource, props, ACTION_DESTROY, OBJ_PEER_VOLUME);
@@ -361,7 +349,7 @@ public class DrbdEventsMonitor
         }
     }
 
-    private DrbdResource getResource(Map<String, String> props, String action, String objType)
+    private DrbdResource getResource(DrbdEventLine props, String action, String objType)
         throws EventsSourceException
     {
         String resName = getProp(props, DrbdResource.PROP_KEY_RES_NAME, action, objType);
@@ -375,7 +363,7 @@ public class DrbdEventsMonitor
 
     private DrbdConnection getConnection(
         DrbdResource resource,
-        Map<String, String> props,
+        DrbdEventLine props,
         String action,
         String objType
     )
@@ -393,7 +381,7 @@ public class DrbdEventsMonitor
     private DrbdVolume getVolume(
         DrbdResource resource,
         DrbdConnection connection,
-        Map<String, String> props,
+        DrbdEventLine props,
         String action,
         String objType
     )
@@ -418,7 +406,7 @@ public class DrbdEventsMonitor
     }
 
     private static String getProp(
-        Map<String, String> props,
+        DrbdEventLine props,
         String propKey,
         String action,
         String objType
@@ -439,7 +427,7 @@ public class DrbdEventsMonitor
     }
 
     private static VolumeNumber getVolumeNr(
-        Map<String, String> props,
+        DrbdEventLine props,
         String action,
         String objType
     )
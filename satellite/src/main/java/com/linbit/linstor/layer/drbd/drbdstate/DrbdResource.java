@@ -133,7 +133,7 @@ public class DrbdResource
     }
 
     protected static DrbdResource newFromProps(
-        Map<String, String> props,
+        DrbdEventLine props,
         ResourceDefinitionMap rscDfnMap
     )
         throws EventsSourceException
@@ -160,7 +160,7 @@ public class DrbdResource
         return drbdResource;
     }
 
-    protected void update(Map<String, String> props, ResourceObserver obs)
+    protected void update(DrbdEventLine props, ResourceObserver obs)
         throws EventsSourceException
     {
         String roleLabel = props.get(PROP_KEY_ROLE);
@@ -5,8 +5,6 @@ import com.linbit.ValueOutOfRangeException;
 import com.linbit.linstor.core.identifier.VolumeNumber;
 import com.linbit.linstor.core.types.MinorNumber;
 
-import java.util.Map;
-
 /**
  * Tracks the state of a kernel DRBD volume or peer volume
  *
@@ -79,7 +77,7 @@ public class DrbdVolume
     protected static DrbdVolume newFromProps(
         DrbdResource resource,
         DrbdConnection connection,
-        Map<String, String> props
+        DrbdEventLine props
     )
         throws EventsSourceException
     {
@@ -135,7 +133,7 @@ public class DrbdVolume
         connRef = conn;
     }
 
-    protected void update(Map<String, String> props, ResourceObserver obs)
+    protected void update(DrbdEventLine props, ResourceObserver obs)
         throws EventsSourceException
     {
         donePercentage = null;
@@ -77,6 +77,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -99,17 +101,25 @@ public abstract class AbsStorageProvider<INFO, LAYER_DATA extends AbsStorageVlmD
     protected final CloneService cloneService;
     protected final StltExtToolsChecker extToolsChecker;
     private final BackupShippingMgr backupShipMapper;
+    /*
+     * Only modified by prepare() and clearCache(), which are never called while resources are processed. Subclasses
+     * maintaining this cache themselves must not be processed in parallel (see DeviceHandlerImpl)
+     */
     protected final HashMap<String, INFO> infoListCache;
     protected boolean subclassMaintainsInfoListCache;
-    protected final List<Consumer<Map<String, Long>>> postRunVolumeNotifications = new ArrayList<>();
-    protected final Set<String> changedStoragePoolStrings = new HashSet<>();
+    /*
+     * The following collections are modified while resources are processed, which might happen concurrently if
+     * resources of different VGs / zpools are processed in parallel
+     */
+    protected final List<Consumer<Map<String, Long>>> postRunVolumeNotifications = new CopyOnWriteArrayList<>();
+    protected final Set<String> changedStoragePoolStrings = ConcurrentHashMap.newKeySet();
     private final String typeDescr;
     private final FileSystemWatch fsWatch;
     protected final DeviceProviderKind kind;
 
-    private final Map<StorPool, Long> extentSizeFromSpCache = new HashMap<>();
+    private final Map<StorPool, Long> extentSizeFromSpCache = new ConcurrentHashMap<>();
 
-    private final Set<StorPool> changedStorPools = new HashSet<>();
+    private final Set<StorPool> changedStorPools = ConcurrentHashMap.newKeySet();
     private boolean prepared;
     protected boolean isDevPathExpectedToBeNull = false;
 
@@ -45,6 +45,7 @@ public class LvmUtils
     public static final String DELIMITER = ";";
     private static final float LVM_DEFAULT_DATA_PERCENT = 100;
 
+    // only accessed by the static synchronized getLvmConfig and recacheLvmConfig
     private static final HashMap<Set<String>, String> CACHED_LVM_CONFIG_STRING = new HashMap<>();
 
     private static final String LVM_CACHE_PROP_KEY = ApiConsts.NAMESPC_STORAGE_DRIVER + "/" +
@@ -151,7 +152,7 @@ public class LvmUtils
         }
     }
 
-    private static String getLvmConfig(ExtCmdFactory extCmdFactory, Set<String> volumeGroups)
+    private static synchronized String getLvmConfig(ExtCmdFactory extCmdFactory, Set<String> volumeGroups)
         throws StorageException
     {
         @Nullable String lvmConfig = CACHED_LVM_CONFIG_STRING.get(volumeGroups);
@@ -233,7 +234,7 @@ public class LvmUtils
         return recacheLvmConfig(extCmdFactory, Collections.singleton(volumeGroup));
     }
 
-    private static String recacheLvmConfig(ExtCmdFactory extCmdFactory, Set<String> volumeGroups)
+    private static synchronized String recacheLvmConfig(ExtCmdFactory extCmdFactory, Set<String> volumeGroups)
         throws StorageException
     {
         CACHED_LVM_CONFIG_STRING.remove(volumeGroups);
@@ -0,0 +1,75 @@
+package com.linbit.linstor.core.devmgr;
+
+import com.linbit.linstor.storage.kinds.DeviceProviderKind;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DeviceHandlerImplTest
+{
+    @Test
+    public void backingStorageKeys()
+    {
+        Assert.assertEquals("LVM:vg1", DeviceHandlerImpl.getBackingStorageKey(DeviceProviderKind.LVM, "vg1"));
+        // thin pools live in the VG / zpool of the thick volumes
+        Assert.assertEquals(
+            "LVM:vg1",
+            DeviceHandlerImpl.getBackingStorageKey(DeviceProviderKind.LVM_THIN, "vg1/thinpool")
+        );
+        Assert.assertEquals(
+            "ZFS:tank",
+            DeviceHandlerImpl.getBackingStorageKey(DeviceProviderKind.ZFS_THIN, "tank/linstor")
+        );
+        Assert.assertNotEquals(
+            DeviceHandlerImpl.getBackingStorageKey(DeviceProviderKind.LVM, "vg1"),
+            DeviceHandlerImpl.getBackingStorageKey(DeviceProviderKind.LVM, "vg2")
+        );
+        // providers with static state are serialized per family
+        Assert.assertEquals(
+            DeviceHandlerImpl.getBackingStorageKey(DeviceProviderKind.FILE, "/var/lib/a"),
+            DeviceHandlerImpl.getBackingStorageKey(DeviceProviderKind.FILE_THIN, "/var/lib/b")
+        );
+        Assert.assertNull(DeviceHandlerImpl.getBackingStorageKey(DeviceProviderKind.DISKLESS, "DfltDisklessStorPool"));
+    }
+
+    @Test
+    public void groupBySharedKeys()
+    {
+        Map<String, Set<String>> keysByRsc = new HashMap<>();
+        keysByRsc.put("rsc1", keys("LVM:vg1"));
+        keysByRsc.put("rsc2", keys("LVM:vg2"));
+        keysByRsc.put("rsc3", keys("LVM:vg1"));
+        keysByRsc.put("diskless", keys());
+        keysByRsc.put("rsc4", keys("ZFS:tank"));
+        // connects the groups of vg2 and tank
+        keysByRsc.put("rsc5", keys("LVM:vg2", "ZFS:tank"));
+
+        List<List<String>> groups = DeviceHandlerImpl.groupBySharedKeys(
+            Arrays.asList("rsc1", "rsc2", "rsc3", "diskless", "rsc4", "rsc5"),
+            keysByRsc::get
+        );
+
+        Set<Set<String>> groupSets = new HashSet<>();
+        for (List<String> group : groups)
+        {
+            groupSets.add(new HashSet<>(group));
+        }
+        Assert.assertEquals(3, groups.size());
+        Assert.assertEquals(
+            new HashSet<>(Arrays.asList(keys("rsc1", "rsc3"), keys("diskless"), keys("rsc2", "rsc4", "rsc5"))),
+            groupSets
+        );
+    }
+
+    private static Set<String> keys(String... keysRef)
+    {
+        return new HashSet<>(Arrays.asList(keysRef));
+    }
+}
@@ -4,6 +4,7 @@ import com.linbit.ChildProcessTimeoutException;
 import com.linbit.ImplementationError;
 import com.linbit.linstor.LinStorRuntimeException;
 import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.prometheus.LinstorServerMetrics;
 import com.linbit.timer.Action;
 import com.linbit.timer.Timer;
 import com.linbit.utils.StringUtils;
@@ -18,16 +19,45 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import io.prometheus.client.Histogram;
 import org.slf4j.MDC;
 
 /**
  * Runs an external command, logs and saves its output
+ * <br />
+ * Every call starts a new process. Long-lived co-processes like 'lvm shell' are deliberately not used for the
+ * frequent lvs / vgs / zfs list calls: callers rely on a separate exit code and stderr per command, and on killing
+ * a hung command after a timeout without affecting other commands. A co-process shared by all callers would
+ * serialize them and turn one hung command into a failure of all following ones. The per-executable runtime is
+ * exported as linstor_extcmd_duration_seconds to show where the process start overhead actually matters.
  *
  * @author Robert Altnoeder &lt;robert.altnoeder@linbit.com&gt;
  */
 public class ExtCmd extends ChildProcessHandler
 {
+    /**
+     * Drains stdout and stderr of all external commands. Idle threads are kept for a while and reused, so that the
+     * frequent lvs, vgs, zfs list, ... calls do not each create two new threads.
+     */
+    private static final ExecutorService OUTPUT_RECEIVER_POOL;
+
+    static
+    {
+        final AtomicInteger threadNr = new AtomicInteger();
+        OUTPUT_RECEIVER_POOL = Executors.newCachedThreadPool(
+            runnable ->
+            {
+                Thread thread = new Thread(runnable, "ExtCmdOutput-" + threadNr.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+    }
+
     private final Map<ExtCmdCondition, String> conditionsWithDescriptions;
     private final Set<ExtCmdEndedListener> extCmdEndedListenerSet;
 
@@ -130,17 +160,34 @@ public class ExtCmd extends ChildProcessHandler
             child = pBuilder.start();
             startTime = System.currentTimeMillis();
             setChild(child);
+            recordMetrics(child, command[0]);
             outReceiver = new OutputReceiver(
                 child.getInputStream(), errLog, logExecution, MDC.get(ErrorReporter.LOGID));
             errReceiver = new OutputReceiver(
                 child.getErrorStream(), errLog, logExecution, MDC.get(ErrorReporter.LOGID));
         }
-        new Thread(outReceiver).start();
-        new Thread(errReceiver).start();
+        OUTPUT_RECEIVER_POOL.execute(outReceiver);
+        OUTPUT_RECEIVER_POOL.execute(errReceiver);
 
         return child.getOutputStream();
     }
 
+    private static void recordMetrics(Process child, String executable)
+    {
+        LinstorServerMetrics.extCmdRunningGauge.inc();
+        Histogram.Timer timer = LinstorServerMetrics.extCmdHistogram
+            .labels(new File(executable).getName())
+            .startTimer();
+        // also covers asyncExec'd commands, for which syncProcess is never called
+        child.onExit().thenRun(
+            () ->
+            {
+                timer.observeDuration();
+                LinstorServerMetrics.extCmdRunningGauge.dec();
+            }
+        );
+    }
+
     private void checkForConditions()
     {
         for (Entry<ExtCmdCondition, String> entry : conditionsWithDescriptions.entrySet())
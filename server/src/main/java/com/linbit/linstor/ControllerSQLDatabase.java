@@ -1,5 +1,9 @@
 package com.linbit.linstor;
 
+import com.linbit.linstor.transaction.manager.SQLWriteBatch;
+
+import javax.annotation.Nullable;
+
 import java.sql.Connection;
 import java.sql.SQLException;
 
@@ -13,4 +17,11 @@ public interface ControllerSQLDatabase extends ControllerDatabase
 
     // Must be able to handle dbConn == null as a valid input
     void returnConnection(Connection dbConn);
+
+    /**
+     * Creates the write batch for a new transaction using the given connection, or returns null if write batching
+     * is disabled
+     */
+    @Nullable
+    SQLWriteBatch createWriteBatch(Connection dbConn) throws SQLException;
 }
@@ -36,6 +36,7 @@ public class InternalApiConsts
     public static final String API_PRIMARY_RSC           = "PrimaryRsc";
 
     public static final String API_CHANGED_RSC       = "ChangedRsc";
+    public static final String API_CHANGED_RSCS      = "ChangedRscs";
     public static final String API_REQUEST_RSC       = "RequestRsc";
     public static final String API_APPLY_RSC         = "ApplyRsc";
     public static final String API_APPLY_RSC_DELETED = "ApplyDeletedRsc";
@@ -64,8 +65,10 @@ public class InternalApiConsts
 
     public static final String API_REQUEST_THIN_FREE_SPACE = "RequestThinFreeSpace";
     public static final String API_REQUEST_VLM_ALLOCATED = "RequestVlmAllocated";
+    public static final String API_NOTIFY_VLM_ALLOCATED = "NotifyVlmAllocated";
 
     public static final String API_ARCHIVE_LOGS = "ArchiveLogs";
+    public static final String API_NOTIFY_ERROR_REPORTS = "NotifyErrorReports";
 
     public static final String API_LIST_PHYSICAL_DEVICES = "ListPhysicalDevices";
     public static final String API_ANSWER_PHYSICAL_DEVICES = "AnswerPhysicalDevices";
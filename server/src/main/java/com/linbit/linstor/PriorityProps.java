@@ -1,6 +1,7 @@
 package com.linbit.linstor;
 
 import com.linbit.linstor.api.prop.LinStorObject;
+import com.linbit.linstor.prometheus.LinstorServerMetrics;
 import com.linbit.linstor.core.objects.NodeConnection;
 import com.linbit.linstor.core.objects.ResourceConnection;
 import com.linbit.linstor.core.objects.VolumeConnection;
@@ -20,15 +21,44 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.TreeMap;
+import java.util.regex.Pattern;
 
+import io.prometheus.client.Counter;
+
+/**
+ * Lookup of properties in a list of property containers, where the first container containing the property wins.
+ * <br />
+ * Results of {@link #getProp(String, String)}, {@link #renderRelativeMap(String)} and
+ * {@link #renderConflictingMap(String, boolean)} are cached until one of the containers is modified (tracked by
+ * {@link ReadOnlyProps#getVersion()}) or the list of containers or fallback values is changed. The rendered maps are
+ * copies the caller may modify, their {@link MultiResult}s are immutable and therefore shared with the cache.
+ * <br />
+ * Most instances only live for a single operation, so whether the cache pays off is exported as
+ * <code>linstor_priority_props_lookups</code>.
+ */
 public class PriorityProps
 {
     public static final String FALLBACKMAP_NAME = "Fallback";
     public static final String DEFAULT_DESCR = "default value";
 
+    private static final Pattern MULTIPLE_SEPARATORS = Pattern.compile(ReadOnlyProps.PATH_SEPARATOR + "+");
+    private static final Pattern LEADING_SEPARATORS = Pattern.compile("^" + ReadOnlyProps.PATH_SEPARATOR + "*");
+
+    private static final Counter.Child LOOKUP_HIT = LinstorServerMetrics.priorityPropsLookupsCounter.labels("hit");
+    private static final Counter.Child LOOKUP_MISS = LinstorServerMetrics.priorityPropsLookupsCounter.labels("miss");
+    private static final Counter.Child LOOKUP_UNCACHED =
+        LinstorServerMetrics.priorityPropsLookupsCounter.labels("uncached");
+
     private final List<Pair<ReadOnlyProps, String>> propList = new ArrayList<>();
     private final HashMap<String, String> fallbackMap = new HashMap<>();
 
+    /** versions of the containers of propList the cached results are based on, null if nothing is cached */
+    private @Nullable long[] cachedVersions;
+    private final HashMap<String, String> propCache = new HashMap<>();
+    private final HashMap<String, Map<String, String>> relativeMapCache = new HashMap<>();
+    private final HashMap<String, Map<String, MultiResult>> absConflictingMapCache = new HashMap<>();
+    private final HashMap<String, Map<String, MultiResult>> relConflictingMapCache = new HashMap<>();
+
     public PriorityProps(
         AccessContext accCtx,
         NodeConnection nodeConnection,
@@ -75,20 +105,43 @@ public class PriorityProps
         if (props != null)
         {
             propList.add(new Pair<>(props, descr));
+            invalidateCache();
         }
         return this;
     }
 
     public PriorityProps addProps(ReadOnlyProps props, String descr, String type)
     {
-        if (props != null)
+        return addProps(props, descr);
+    }
+
+    public String getProp(String key, String namespace) throws InvalidKeyException
+    {
+        String value;
+        if (validateCache())
         {
-            propList.add(new Pair<>(props, descr));
+            final String cacheKey = namespace != null ? namespace + ReadOnlyProps.PATH_SEPARATOR + key : key;
+            if (propCache.containsKey(cacheKey))
+            {
+                value = propCache.get(cacheKey);
+                LOOKUP_HIT.inc();
+            }
+            else
+            {
+                value = lookupProp(key, namespace);
+                propCache.put(cacheKey, value);
+                LOOKUP_MISS.inc();
+            }
         }
-        return this;
+        else
+        {
+            value = lookupProp(key, namespace);
+            LOOKUP_UNCACHED.inc();
+        }
+        return value;
     }
 
-    public String getProp(String key, String namespace) throws InvalidKeyException
+    private String lookupProp(String key, String namespace) throws InvalidKeyException
     {
         String value = null;
         for (Pair<ReadOnlyProps, String> pair : propList)
@@ -120,14 +173,14 @@ public class PriorityProps
 
     private String prepStoreKey(String key)
     {
-        return key
-            .replaceAll(ReadOnlyProps.PATH_SEPARATOR + "+", ReadOnlyProps.PATH_SEPARATOR)
-            .replaceAll("^" + ReadOnlyProps.PATH_SEPARATOR + "*", "");
+        String ret = MULTIPLE_SEPARATORS.matcher(key).replaceAll(ReadOnlyProps.PATH_SEPARATOR);
+        return LEADING_SEPARATORS.matcher(ret).replaceAll("");
     }
 
     public void setFallbackProp(String key, String value)
     {
         fallbackMap.put(prepStoreKey(key), value);
+        invalidateCache();
     }
 
     public void setFallbackProp(String key, String value, String namespace)
@@ -136,9 +189,82 @@ public class PriorityProps
             namespace + key :
             namespace + ReadOnlyProps.PATH_SEPARATOR + key;
         fallbackMap.put(prepStoreKey(fullKey), value);
+        invalidateCache();
+    }
+
+    /**
+     * Drops all cached results if any of the containers was modified since the results were cached.
+     *
+     * @return false if at least one of the containers does not track its modifications, in which case nothing
+     *     must be cached
+     */
+    private boolean validateCache()
+    {
+        boolean cacheable = true;
+        boolean modified = false;
+        if (cachedVersions == null)
+        {
+            cachedVersions = new long[propList.size()];
+            modified = true;
+        }
+        for (int idx = 0; idx < cachedVersions.length && cacheable; ++idx)
+        {
+            long version = propList.get(idx).objA.getVersion();
+            cacheable = version != ReadOnlyProps.VERSION_UNKNOWN;
+            if (cachedVersions[idx] != version)
+            {
+                cachedVersions[idx] = version;
+                modified = true;
+            }
+        }
+        if (modified || !cacheable)
+        {
+            clearCachedResults();
+        }
+        return cacheable;
+    }
+
+    private void invalidateCache()
+    {
+        cachedVersions = null;
+        clearCachedResults();
+    }
+
+    private void clearCachedResults()
+    {
+        propCache.clear();
+        relativeMapCache.clear();
+        absConflictingMapCache.clear();
+        relConflictingMapCache.clear();
     }
 
     public Map<String, String> renderRelativeMap(String namespace)
+    {
+        Map<String, String> ret;
+        if (validateCache())
+        {
+            Map<String, String> cached = relativeMapCache.get(namespace);
+            if (cached == null)
+            {
+                cached = buildRelativeMap(namespace);
+                relativeMapCache.put(namespace, cached);
+                LOOKUP_MISS.inc();
+            }
+            else
+            {
+                LOOKUP_HIT.inc();
+            }
+            ret = new HashMap<>(cached);
+        }
+        else
+        {
+            ret = buildRelativeMap(namespace);
+            LOOKUP_UNCACHED.inc();
+        }
+        return ret;
+    }
+
+    private Map<String, String> buildRelativeMap(String namespace)
     {
         Map<String, String> ret = new HashMap<>();
 
@@ -252,6 +378,35 @@ public class PriorityProps
     }
 
     public Map<String, MultiResult> renderConflictingMap(String namespace, boolean absoluteKey)
+    {
+        Map<String, MultiResult> ret;
+        if (validateCache())
+        {
+            HashMap<String, Map<String, MultiResult>> cache = absoluteKey ?
+                absConflictingMapCache :
+                relConflictingMapCache;
+            Map<String, MultiResult> cached = cache.get(namespace);
+            if (cached == null)
+            {
+                cached = buildConflictingMap(namespace, absoluteKey);
+                cache.put(namespace, cached);
+                LOOKUP_MISS.inc();
+            }
+            else
+            {
+                LOOKUP_HIT.inc();
+            }
+            ret = new TreeMap<>(cached);
+        }
+        else
+        {
+            ret = buildConflictingMap(namespace, absoluteKey);
+            LOOKUP_UNCACHED.inc();
+        }
+        return ret;
+    }
+
+    private Map<String, MultiResult> buildConflictingMap(String namespace, boolean absoluteKey)
     {
         Map<String, MultiResult> ret = new TreeMap<>();
 
@@ -314,6 +469,9 @@ public class PriorityProps
         return ret;
     }
 
+    /**
+     * Immutable once returned by {@link PriorityProps}, results are only added while the result is being built.
+     */
     public static class MultiResult
     {
         public final ValueWithDescription first;
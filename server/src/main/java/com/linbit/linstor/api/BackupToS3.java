@@ -2,6 +2,7 @@ package com.linbit.linstor.api;
 
 import com.linbit.linstor.LinStorException;
 import com.linbit.linstor.api.pojo.backups.BackupMetaDataPojo;
+import com.linbit.linstor.backupshipping.BackupConsts;
 import com.linbit.linstor.core.StltConfigAccessor;
 import com.linbit.linstor.core.apicallhandler.response.ApiRcException;
 import com.linbit.linstor.core.objects.remotes.AbsRemote;
@@ -13,6 +14,7 @@ import com.linbit.linstor.security.AccessDeniedException;
 import com.linbit.linstor.storage.StorageException;
 import com.linbit.utils.Pair;
 
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -20,6 +22,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -54,8 +57,6 @@ import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
-import com.amazonaws.services.s3.model.UploadPartRequest;
-import com.amazonaws.services.s3.model.UploadPartResult;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -133,46 +134,25 @@ public class BackupToS3
                     " Current shipment would require parts with a size of " + bufferSize + " bytes."
             );
         }
-        List<PartETag> parts = new ArrayList<>();
-
-        byte[] readBuf = new byte[(int) bufferSize];
-        int offset = 0;
-        int partId = 1;
-        for (int readLen = input.read(readBuf, offset, readBuf.length - offset);
-             readLen != -1;
-             readLen = input.read(readBuf, offset, readBuf.length - offset))
-        {
-            offset += readLen;
-            if (readBuf.length == offset)
-            {
-                UploadPartRequest uploadRequest = new UploadPartRequest()
-                    .withBucketName(bucket)
-                    .withKey(key)
-                    .withUploadId(uploadId)
-                    .withPartNumber(partId)
-                    .withInputStream(new ByteArrayInputStream(readBuf))
-                    .withPartSize(offset)
-                    .withRequesterPays(reqPays);
-                UploadPartResult uploadResult = s3.uploadPart(uploadRequest);
-                parts.add(uploadResult.getPartETag());
-                offset = 0;
-                partId++;
-            }
-        }
-        if (offset != 0)
-        {
-            UploadPartRequest uploadRequest = new UploadPartRequest()
-                .withBucketName(bucket)
-                .withKey(key)
-                .withUploadId(uploadId)
-                .withPartNumber(partId)
-                .withInputStream(new ByteArrayInputStream(readBuf, 0, offset))
-                .withLastPart(true)
-                .withPartSize(offset)
-                .withRequesterPays(reqPays);
-            UploadPartResult uploadResult = s3.uploadPart(uploadRequest);
-            parts.add(uploadResult.getPartETag());
-        }
+        ReadOnlyProps backupProps = stltConfigAccessor.getReadonlyProps(ApiConsts.NAMESPC_BACKUP_SHIPPING);
+        S3MultipartUploader uploader = new S3MultipartUploader(
+            errorReporter,
+            s3,
+            bucket,
+            key,
+            uploadId,
+            reqPays,
+            remote.getName().displayValue,
+            (int) bufferSize,
+            getRemoteProp(
+                backupProps,
+                remote,
+                BackupConsts.KEY_S3_UPLOAD_CONCURRENCY,
+                BackupConsts.DFLT_S3_UPLOAD_CONCURRENCY
+            ),
+            getUploadMaxMemory(backupProps, remote, bufferSize)
+        );
+        List<PartETag> parts = uploader.upload(input);
         CompleteMultipartUploadRequest compRequest = new CompleteMultipartUploadRequest(
             bucket,
             key,
@@ -180,7 +160,56 @@ public class BackupToS3
             parts
         ).withRequesterPays(reqPays);
         s3.completeMultipartUpload(compRequest);
-        errorReporter.logTrace("Backup upload of %s to bucket %s completed in %d parts", key, bucket, partId);
+        errorReporter.logTrace("Backup upload of %s to bucket %s completed in %d parts", key, bucket, parts.size());
+    }
+
+    /**
+     * Returns the memory limit in bytes of a single upload with the given part size, see
+     * {@link BackupConsts#KEY_S3_UPLOAD_MAX_MEMORY}
+     */
+    private long getUploadMaxMemory(ReadOnlyProps backupProps, S3Remote remote, long partSize)
+    {
+        @Nullable Integer maxMemoryMiB = getRemoteProp(backupProps, remote, BackupConsts.KEY_S3_UPLOAD_MAX_MEMORY);
+        return maxMemoryMiB == null ?
+            BackupConsts.DFLT_S3_UPLOAD_MAX_MEMORY_PARTS * partSize :
+            (long) maxMemoryMiB << 20;
+    }
+
+    private int getRemoteProp(ReadOnlyProps backupProps, S3Remote remote, String key, int dfltValue)
+    {
+        @Nullable Integer value = getRemoteProp(backupProps, remote, key);
+        return value == null ? dfltValue : value;
+    }
+
+    /**
+     * Returns the value of the given key from the sub-namespace of the remote, or if not set there, from the backup
+     * shipping namespace itself. Returns null if the value is not set or invalid.
+     */
+    private @Nullable Integer getRemoteProp(ReadOnlyProps backupProps, S3Remote remote, String key)
+    {
+        String value = backupProps.getProp(key, remote.getName().displayValue);
+        if (value == null)
+        {
+            value = backupProps.getProp(key);
+        }
+        @Nullable Integer ret = null;
+        if (value != null)
+        {
+            try
+            {
+                ret = Math.max(1, Integer.parseInt(value));
+            }
+            catch (NumberFormatException nfExc)
+            {
+                errorReporter.logWarning(
+                    "Invalid value '%s' for %s of remote %s, using the default",
+                    value,
+                    key,
+                    remote.getName().displayValue
+                );
+            }
+        }
+        return ret;
     }
 
     public void abortMultipart(String key, String uploadId, S3Remote remote, AccessContext accCtx, byte[] masterKey)
@@ -398,6 +427,62 @@ public class BackupToS3
         return obj.getObjectContent();
     }
 
+    /**
+     * Downloads the given object and writes it into the given stream. Depending on the configured download
+     * concurrency, the object is either fetched by several parallel ranged requests or as a single stream.
+     * The output stream is neither flushed nor closed.
+     */
+    public void downloadObject(
+        String key,
+        OutputStream output,
+        S3Remote remote,
+        AccessContext accCtx,
+        byte[] masterKey
+    )
+        throws AccessDeniedException, SdkClientException, IOException
+    {
+        ReadOnlyProps backupProps = stltConfigAccessor.getReadonlyProps(ApiConsts.NAMESPC_BACKUP_SHIPPING);
+        int concurrency = getRemoteProp(
+            backupProps,
+            remote,
+            BackupConsts.KEY_S3_DOWNLOAD_CONCURRENCY,
+            BackupConsts.DFLT_S3_DOWNLOAD_CONCURRENCY
+        );
+        if (concurrency > 1)
+        {
+            final AmazonS3 s3 = getS3Client(remote, accCtx, masterKey);
+            String bucket = remote.getBucket(accCtx);
+            new S3RangedDownloader(
+                errorReporter,
+                s3,
+                bucket,
+                key,
+                getRequesterPays(remote, accCtx, s3, bucket),
+                remote.getName().displayValue,
+                BackupConsts.S3_DOWNLOAD_RANGE_SIZE,
+                concurrency,
+                (long) getRemoteProp(
+                    backupProps,
+                    remote,
+                    BackupConsts.KEY_S3_DOWNLOAD_MAX_MEMORY,
+                    BackupConsts.DFLT_S3_DOWNLOAD_MAX_MEMORY
+                ) << 20
+            ).download(output);
+        }
+        else
+        {
+            try (InputStream input = getObject(key, remote, accCtx, masterKey))
+            {
+                byte[] readBuf = new byte[1 << 20];
+                int readLen;
+                while ((readLen = input.read(readBuf)) != -1)
+                {
+                    output.write(readBuf, 0, readLen);
+                }
+            }
+        }
+    }
+
     public List<S3ObjectSummary> listObjects(String withPrefix, S3Remote remote, AccessContext accCtx, byte[] masterKey)
         throws AccessDeniedException
     {
@@ -0,0 +1,298 @@
+package com.linbit.linstor.api;
+
+import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.prometheus.LinstorServerMetrics;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+
+/**
+ * Uploads a stream as the parts of an already initiated multipart upload, several parts at the same time.
+ * <br />
+ * Every part is read into a pooled buffer and uploaded by a shared pool of upload threads, while the next part is
+ * already read from the stream. The number of buffers, and therefore the number of parts in flight, is limited by the
+ * configured concurrency as well as by the memory ceiling. At least one buffer is always used, even if a single part
+ * exceeds the ceiling.
+ * <br />
+ * Parts that fail with a client error or a server side error (5xx) are uploaded again, up to
+ * {@link #MAX_PART_ATTEMPTS} times in total.
+ */
+public class S3MultipartUploader
+{
+    private static final int MAX_PART_ATTEMPTS = 3;
+    private static final long RETRY_DELAY_MILLIS = 1000;
+    private static final long FAILURE_CHECK_INTERVAL_MILLIS = 100;
+
+    private static final ExecutorService UPLOAD_POOL;
+
+    static
+    {
+        final AtomicInteger threadNr = new AtomicInteger();
+        UPLOAD_POOL = Executors.newCachedThreadPool(
+            runnable ->
+            {
+                Thread thread = new Thread(runnable, "S3Upload-" + threadNr.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+    }
+
+    private final ErrorReporter errorReporter;
+    private final AmazonS3 s3;
+    private final String bucket;
+    private final String key;
+    private final String uploadId;
+    private final boolean reqPays;
+    private final String remoteName;
+    private final int partSize;
+    private final int maxBuffers;
+
+    public S3MultipartUploader(
+        ErrorReporter errorReporterRef,
+        AmazonS3 s3Ref,
+        String bucketRef,
+        String keyRef,
+        String uploadIdRef,
+        boolean reqPaysRef,
+        String remoteNameRef,
+        int partSizeRef,
+        int concurrencyRef,
+        long maxMemoryRef
+    )
+    {
+        errorReporter = errorReporterRef;
+        s3 = s3Ref;
+        bucket = bucketRef;
+        key = keyRef;
+        uploadId = uploadIdRef;
+        reqPays = reqPaysRef;
+        remoteName = remoteNameRef;
+        partSize = partSizeRef;
+        maxBuffers = (int) Math.max(1, Math.min(concurrencyRef, maxMemoryRef / partSizeRef));
+    }
+
+    /**
+     * Reads the input until its end and uploads it part by part. Does not complete the multipart upload.
+     *
+     * @return the ETags of all uploaded parts, ordered by their part number
+     */
+    public List<PartETag> upload(InputStream input) throws IOException, SdkClientException
+    {
+        BlockingQueue<byte[]> freeBuffers = new ArrayBlockingQueue<>(maxBuffers);
+        int allocatedBuffers = 0;
+        List<Future<PartETag>> uploads = new ArrayList<>();
+        List<PartETag> parts = new ArrayList<>();
+        boolean success = false;
+        try
+        {
+            int partNr = 1;
+            boolean eof = false;
+            while (!eof)
+            {
+                byte[] buffer = freeBuffers.poll();
+                if (buffer == null)
+                {
+                    if (allocatedBuffers < maxBuffers)
+                    {
+                        buffer = new byte[partSize];
+                        allocatedBuffers++;
+                    }
+                    else
+                    {
+                        buffer = awaitBuffer(freeBuffers, uploads);
+                    }
+                }
+
+                int len = readFully(input, buffer);
+                eof = len < buffer.length;
+                if (len > 0)
+                {
+                    final byte[] partBuffer = buffer;
+                    final int partNumber = partNr++;
+                    final boolean lastPart = eof;
+                    uploads.add(
+                        UPLOAD_POOL.submit(() -> uploadPart(partNumber, partBuffer, len, lastPart, freeBuffers))
+                    );
+                }
+            }
+            for (Future<PartETag> upload : uploads)
+            {
+                parts.add(getResult(upload));
+            }
+            success = true;
+        }
+        catch (InterruptedException exc)
+        {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Upload of " + key + " was interrupted");
+        }
+        finally
+        {
+            if (!success)
+            {
+                for (Future<PartETag> upload : uploads)
+                {
+                    upload.cancel(true);
+                }
+            }
+        }
+        return parts;
+    }
+
+    /**
+     * Waits until an upload returns its buffer, but fails as soon as any of the uploads failed
+     */
+    private byte[] awaitBuffer(BlockingQueue<byte[]> freeBuffers, List<Future<PartETag>> uploads)
+        throws InterruptedException, IOException
+    {
+        byte[] buffer = null;
+        while (buffer == null)
+        {
+            checkFailures(uploads);
+            buffer = freeBuffers.poll(FAILURE_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        return buffer;
+    }
+
+    private void checkFailures(List<Future<PartETag>> uploads) throws InterruptedException, IOException
+    {
+        for (Future<PartETag> upload : uploads)
+        {
+            if (upload.isDone())
+            {
+                // throws if the upload failed
+                getResult(upload);
+            }
+        }
+    }
+
+    private PartETag getResult(Future<PartETag> upload) throws InterruptedException, IOException
+    {
+        PartETag result;
+        try
+        {
+            result = upload.get();
+        }
+        catch (ExecutionException exc)
+        {
+            Throwable cause = exc.getCause();
+            if (cause instanceof SdkClientException)
+            {
+                throw (SdkClientException) cause;
+            }
+            if (cause instanceof IOException)
+            {
+                throw (IOException) cause;
+            }
+            throw new IOException("Upload of a part of " + key + " failed", cause);
+        }
+        return result;
+    }
+
+    private PartETag uploadPart(
+        int partNr,
+        byte[] buffer,
+        int len,
+        boolean lastPart,
+        BlockingQueue<byte[]> freeBuffers
+    )
+        throws InterruptedException
+    {
+        LinstorServerMetrics.backupS3PartsInFlightGauge.labels(remoteName).inc();
+        try
+        {
+            PartETag partETag = null;
+            int attempt = 1;
+            while (partETag == null)
+            {
+                try
+                {
+                    long start = System.nanoTime();
+                    partETag = s3.uploadPart(
+                        new UploadPartRequest()
+                            .withBucketName(bucket)
+                            .withKey(key)
+                            .withUploadId(uploadId)
+                            .withPartNumber(partNr)
+                            .withInputStream(new ByteArrayInputStream(buffer, 0, len))
+                            .withLastPart(lastPart)
+                            .withPartSize(len)
+                            .withRequesterPays(reqPays)
+                    ).getPartETag();
+                    LinstorServerMetrics.backupS3PartUploadHistogram.labels(remoteName)
+                        .observe((System.nanoTime() - start) / 1_000_000_000.0);
+                    LinstorServerMetrics.backupS3UploadedBytesCounter.labels(remoteName).inc(len);
+                }
+                catch (SdkClientException exc)
+                {
+                    if (attempt >= MAX_PART_ATTEMPTS || !isRetryable(exc))
+                    {
+                        throw exc;
+                    }
+                    LinstorServerMetrics.backupS3PartRetriesCounter.labels(remoteName).inc();
+                    errorReporter.logWarning(
+                        "Upload of part %d of %s failed (attempt %d of %d), retrying: %s",
+                        partNr,
+                        key,
+                        attempt,
+                        MAX_PART_ATTEMPTS,
+                        exc.getMessage()
+                    );
+                    Thread.sleep(RETRY_DELAY_MILLIS * attempt);
+                    attempt++;
+                }
+            }
+            return partETag;
+        }
+        finally
+        {
+            LinstorServerMetrics.backupS3PartsInFlightGauge.labels(remoteName).dec();
+            freeBuffers.offer(buffer);
+        }
+    }
+
+    static boolean isRetryable(SdkClientException exc)
+    {
+        // 4xx errors like a missing upload or denied access will not go away by retrying
+        return !(exc instanceof AmazonServiceException) || ((AmazonServiceException) exc).getStatusCode() >= 500;
+    }
+
+    /**
+     * Reads until the buffer is full or the end of the stream is reached
+     *
+     * @return the number of bytes read, less than the buffer's length only at the end of the stream
+     */
+    private static int readFully(InputStream input, byte[] buffer) throws IOException
+    {
+        int offset = 0;
+        int readLen = 0;
+        while (offset < buffer.length && readLen != -1)
+        {
+            readLen = input.read(buffer, offset, buffer.length - offset);
+            if (readLen > 0)
+            {
+                offset += readLen;
+            }
+        }
+        return offset;
+    }
+}
@@ -0,0 +1,245 @@
+package com.linbit.linstor.api;
+
+import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.prometheus.LinstorServerMetrics;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GetObjectMetadataRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+
+/**
+ * Downloads an object by fetching several byte ranges at the same time and writes them in order into a stream.
+ * <br />
+ * The ranges are fetched by a shared pool of download threads into pooled buffers. Ranges that arrive before the
+ * preceding ones are kept in their buffers until they are next in line, so the number of buffers limits how far the
+ * downloads may run ahead of the writer. It is limited by the configured concurrency as well as by the memory ceiling,
+ * but at least one buffer is always used.
+ * <br />
+ * Ranges that fail with a client error, a server side error (5xx) or an incomplete response are fetched again, up to
+ * {@link #MAX_RANGE_ATTEMPTS} times in total.
+ */
+public class S3RangedDownloader
+{
+    private static final int MAX_RANGE_ATTEMPTS = 3;
+    private static final long RETRY_DELAY_MILLIS = 1000;
+
+    private static final ExecutorService DOWNLOAD_POOL;
+
+    static
+    {
+        final AtomicInteger threadNr = new AtomicInteger();
+        DOWNLOAD_POOL = Executors.newCachedThreadPool(
+            runnable ->
+            {
+                Thread thread = new Thread(runnable, "S3Download-" + threadNr.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+    }
+
+    private final ErrorReporter errorReporter;
+    private final AmazonS3 s3;
+    private final String bucket;
+    private final String key;
+    private final boolean reqPays;
+    private final String remoteName;
+    private final int rangeSize;
+    private final int maxBuffers;
+
+    public S3RangedDownloader(
+        ErrorReporter errorReporterRef,
+        AmazonS3 s3Ref,
+        String bucketRef,
+        String keyRef,
+        boolean reqPaysRef,
+        String remoteNameRef,
+        int rangeSizeRef,
+        int concurrencyRef,
+        long maxMemoryRef
+    )
+    {
+        errorReporter = errorReporterRef;
+        s3 = s3Ref;
+        bucket = bucketRef;
+        key = keyRef;
+        reqPays = reqPaysRef;
+        remoteName = remoteNameRef;
+        rangeSize = rangeSizeRef;
+        maxBuffers = (int) Math.max(1, Math.min(concurrencyRef, maxMemoryRef / rangeSizeRef));
+    }
+
+    /**
+     * Downloads the whole object and writes it into the given stream. The stream is neither flushed nor closed.
+     *
+     * @return the number of bytes written
+     */
+    public long download(OutputStream output) throws IOException, SdkClientException
+    {
+        long objectSize = s3.getObjectMetadata(
+            new GetObjectMetadataRequest(bucket, key).withRequesterPays(reqPays)
+        ).getContentLength();
+
+        Deque<byte[]> freeBuffers = new ArrayDeque<>();
+        int allocatedBuffers = 0;
+        // downloads in order of their ranges
+        Deque<Future<byte[]>> downloads = new ArrayDeque<>();
+        boolean success = false;
+        try
+        {
+            long nextRangeStart = 0;
+            long written = 0;
+            while (written < objectSize)
+            {
+                while (nextRangeStart < objectSize && downloads.size() < maxBuffers)
+                {
+                    byte[] buffer = freeBuffers.poll();
+                    if (buffer == null)
+                    {
+                        buffer = new byte[rangeSize];
+                        allocatedBuffers++;
+                    }
+                    final byte[] rangeBuffer = buffer;
+                    final long rangeStart = nextRangeStart;
+                    final int len = (int) Math.min(rangeSize, objectSize - rangeStart);
+                    downloads.add(DOWNLOAD_POOL.submit(() -> downloadRange(rangeStart, len, rangeBuffer)));
+                    nextRangeStart += len;
+                }
+
+                byte[] buffer = getResult(downloads.poll());
+                int len = (int) Math.min(rangeSize, objectSize - written);
+                output.write(buffer, 0, len);
+                written += len;
+                freeBuffers.add(buffer);
+            }
+            errorReporter.logTrace(
+                "Downloaded %d bytes of %s using %d buffers of %d bytes",
+                written,
+                key,
+                allocatedBuffers,
+                rangeSize
+            );
+            success = true;
+        }
+        catch (InterruptedException exc)
+        {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Download of " + key + " was interrupted");
+        }
+        finally
+        {
+            if (!success)
+            {
+                for (Future<byte[]> download : downloads)
+                {
+                    download.cancel(true);
+                }
+            }
+        }
+        return objectSize;
+    }
+
+    private byte[] getResult(Future<byte[]> download) throws InterruptedException, IOException
+    {
+        byte[] result;
+        try
+        {
+            result = download.get();
+        }
+        catch (ExecutionException exc)
+        {
+            Throwable cause = exc.getCause();
+            if (cause instanceof SdkClientException)
+            {
+                throw (SdkClientException) cause;
+            }
+            if (cause instanceof IOException)
+            {
+                throw (IOException) cause;
+            }
+            throw new IOException("Download of a range of " + key + " failed", cause);
+        }
+        return result;
+    }
+
+    private byte[] downloadRange(long rangeStart, int len, byte[] buffer) throws InterruptedException, IOException
+    {
+        boolean done = false;
+        int attempt = 1;
+        while (!done)
+        {
+            try
+            {
+                long start = System.nanoTime();
+                try (
+                    S3Object obj = s3.getObject(
+                        new GetObjectRequest(bucket, key, reqPays).withRange(rangeStart, rangeStart + len - 1)
+                    )
+                )
+                {
+                    readFully(obj.getObjectContent(), buffer, len);
+                }
+                LinstorServerMetrics.backupS3RangeDownloadHistogram.labels(remoteName)
+                    .observe((System.nanoTime() - start) / 1_000_000_000.0);
+                LinstorServerMetrics.backupS3DownloadedBytesCounter.labels(remoteName).inc(len);
+                done = true;
+            }
+            catch (SdkClientException | IOException exc)
+            {
+                boolean retryable = !(exc instanceof SdkClientException) ||
+                    S3MultipartUploader.isRetryable((SdkClientException) exc);
+                if (attempt >= MAX_RANGE_ATTEMPTS || !retryable || Thread.currentThread().isInterrupted())
+                {
+                    throw exc;
+                }
+                LinstorServerMetrics.backupS3RangeRetriesCounter.labels(remoteName).inc();
+                errorReporter.logWarning(
+                    "Download of bytes %d-%d of %s failed (attempt %d of %d), retrying: %s",
+                    rangeStart,
+                    rangeStart + len - 1,
+                    key,
+                    attempt,
+                    MAX_RANGE_ATTEMPTS,
+                    exc.getMessage()
+                );
+                Thread.sleep(RETRY_DELAY_MILLIS * attempt);
+                attempt++;
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * Reads exactly <code>len</code> bytes into the buffer
+     *
+     * @throws EOFException if the stream ended before
+     */
+    private static void readFully(InputStream input, byte[] buffer, int len) throws IOException
+    {
+        int offset = 0;
+        while (offset < len)
+        {
+            int readLen = input.read(buffer, offset, len - offset);
+            if (readLen == -1)
+            {
+                throw new EOFException("Expected " + len + " bytes, but got only " + offset);
+            }
+            offset += readLen;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.linbit.linstor.api.ApiCallRc;
 import com.linbit.linstor.api.ApiCallRcImpl;
 import com.linbit.linstor.api.pojo.FileInfoPojo;
 import com.linbit.linstor.api.pojo.FilePojo;
+import com.linbit.linstor.api.pojo.HeldObjectsPojo;
 import com.linbit.linstor.api.pojo.RequestFilePojo;
 import com.linbit.linstor.api.prop.WhitelistProps;
 import com.linbit.linstor.core.identifier.NodeName;
@@ -64,7 +65,9 @@ public interface CommonSerializer
             @Nonnull Integer netPort,
             @Nonnull String netType,
             @Nonnull Set<String> extFileWhitelist,
-            @Nonnull WhitelistProps whitelistProps
+            @Nonnull WhitelistProps whitelistProps,
+            @Nonnull HeldObjectsPojo heldObjects,
+            @Nonnull String frameCompression
         );
 
         CommonSerializerBuilder bytes(byte[] bytes);
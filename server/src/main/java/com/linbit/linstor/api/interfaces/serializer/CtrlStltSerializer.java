@@ -2,7 +2,9 @@ package com.linbit.linstor.api.interfaces.serializer;
 
 import com.linbit.linstor.api.ApiCallRc;
 import com.linbit.linstor.api.SpaceInfo;
+import com.linbit.linstor.api.pojo.ObjectRefPojo;
 import com.linbit.linstor.core.apicallhandler.controller.internal.helpers.AtomicUpdateSatelliteData;
+import com.linbit.linstor.core.apicallhandler.response.ApiRcException;
 import com.linbit.linstor.core.cfg.StltConfig;
 import com.linbit.linstor.core.identifier.SharedStorPoolName;
 import com.linbit.linstor.core.objects.ExternalFile;
@@ -11,12 +13,14 @@ import com.linbit.linstor.core.objects.Resource;
 import com.linbit.linstor.core.objects.Snapshot;
 import com.linbit.linstor.core.objects.SnapshotDefinition;
 import com.linbit.linstor.core.objects.StorPool;
+import com.linbit.linstor.core.objects.Volume;
 import com.linbit.linstor.core.objects.remotes.AbsRemote;
 import com.linbit.linstor.core.pojos.LocalPropsChangePojo;
 import com.linbit.linstor.interfaces.StorPoolInfo;
 import com.linbit.linstor.storage.LsBlkEntry;
 import com.linbit.linstor.storage.kinds.DeviceProviderKind;
 import com.linbit.linstor.storage.kinds.RaidLevel;
+import com.linbit.utils.Either;
 
 import java.io.IOException;
 import java.util.Collection;
@@ -49,7 +53,14 @@ public interface CtrlStltSerializer extends CommonSerializer
          */
         CtrlStltSerializerBuilder primaryRequest(String rscName, String rscUuid, boolean alreadyInitialized);
 
-        CtrlStltSerializerBuilder authMessage(UUID nodeUuid, String nodeName, byte[] sharedSecret, UUID ctrlUuid);
+        CtrlStltSerializerBuilder authMessage(
+            UUID nodeUuid,
+            String nodeName,
+            byte[] sharedSecret,
+            UUID ctrlUuid,
+            List<String> frameCompression,
+            int frameCompressionThreshold
+        );
 
         CtrlStltSerializerBuilder changedData(AtomicUpdateSatelliteData atomicUpdateDataRef);
 
@@ -94,6 +105,28 @@ public interface CtrlStltSerializer extends CommonSerializer
             long updateId
         );
 
+        /**
+         * Same as the regular full sync, but the given sets only contain the objects that have to be sent to the
+         * satellite. The objects listed in unchangedObjects are taken from the satellite's copy of its last full sync.
+         *
+         * @param objectVersionEpoch the epoch of the object version, 0 if the object version is unknown
+         * @param objectVersion the version of the controller's objects the full sync is built from, which the
+         *     satellite reports back when it reconnects
+         */
+        CtrlStltSerializerBuilder fullSync(
+            Set<Node> nodeSet,
+            Set<StorPool> storPools,
+            Set<Resource> resources,
+            Set<Snapshot> snapshots,
+            Set<ExternalFile> externalFilesRef,
+            Set<AbsRemote> remotes,
+            long timestamp,
+            long updateId,
+            long objectVersionEpoch,
+            long objectVersion,
+            Collection<ObjectRefPojo> unchangedObjects
+        );
+
         CommonSerializerBuilder externalFile(
             ExternalFile extFileRef,
             boolean includeContent,
@@ -193,7 +226,11 @@ public interface CtrlStltSerializer extends CommonSerializer
 
         CommonSerializerBuilder requestRemoteUpdate(UUID remoteUuidRef, String remoteNameRef);
 
-        CtrlStltSerializerBuilder updateFreeCapacities(Map<StorPool, SpaceInfo> spaceInfoMap);
+        CtrlStltSerializerBuilder updateFreeCapacities(Map<? extends StorPoolInfo, SpaceInfo> spaceInfoMap);
+
+        CtrlStltSerializerBuilder vlmAllocated(
+            Map<Volume.Key, Either<Long, ApiRcException>> vlmAllocatedCapacities
+        );
 
         CtrlStltSerializerBuilder cryptKey(
             byte[] masterKey,
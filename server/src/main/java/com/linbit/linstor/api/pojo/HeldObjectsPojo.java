@@ -0,0 +1,63 @@
+package com.linbit.linstor.api.pojo;
+
+import javax.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The objects a satellite still holds from its last full sync, together with the object version of the controller
+ * that full sync was built from.
+ */
+public class HeldObjectsPojo
+{
+    private static final HeldObjectsPojo NONE = new HeldObjectsPojo(0, 0, Collections.emptyMap());
+
+    private final long objectVersionEpoch;
+    private final long objectVersion;
+    private final Map<String, ObjectRefPojo> objects;
+
+    /**
+     * @param objectsRef the held objects, keyed by {@link ObjectRefPojo#getKey()}
+     */
+    public HeldObjectsPojo(long objectVersionEpochRef, long objectVersionRef, Map<String, ObjectRefPojo> objectsRef)
+    {
+        objectVersionEpoch = objectVersionEpochRef;
+        objectVersion = objectVersionRef;
+        objects = Collections.unmodifiableMap(objectsRef);
+    }
+
+    public static HeldObjectsPojo none()
+    {
+        return NONE;
+    }
+
+    public long getObjectVersionEpoch()
+    {
+        return objectVersionEpoch;
+    }
+
+    public long getObjectVersion()
+    {
+        return objectVersion;
+    }
+
+    public Map<String, ObjectRefPojo> getObjects()
+    {
+        return objects;
+    }
+
+    public boolean isEmpty()
+    {
+        return objects.isEmpty();
+    }
+
+    /**
+     * Returns true if the satellite holds exactly the given object (same kind, name and UUID)
+     */
+    public boolean holds(ObjectRefPojo objRef)
+    {
+        @Nullable ObjectRefPojo held = objects.get(objRef.getKey());
+        return objRef.equals(held);
+    }
+}
@@ -0,0 +1,81 @@
+package com.linbit.linstor.api.pojo;
+
+import java.util.Objects;
+
+/**
+ * Identifies an object that was sent to a satellite as part of a full sync.
+ * Used for delta full syncs, where the controller does not resend objects the satellite already holds.
+ */
+public class ObjectRefPojo
+{
+    private final Kind kind;
+    private final String name;
+    private final String uuid;
+
+    public ObjectRefPojo(Kind kindRef, String nameRef, String uuidRef)
+    {
+        kind = kindRef;
+        name = nameRef;
+        uuid = uuidRef;
+    }
+
+    public static String key(Kind kind, String name)
+    {
+        return kind.name() + ":" + name;
+    }
+
+    public String getKey()
+    {
+        return key(kind, name);
+    }
+
+    public Kind getKind()
+    {
+        return kind;
+    }
+
+    public String getName()
+    {
+        return name;
+    }
+
+    public String getUuid()
+    {
+        return uuid;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(kind, name, uuid);
+    }
+
+    @Override
+    public boolean equals(Object obj)
+    {
+        boolean eq = this == obj;
+        if (!eq && obj instanceof ObjectRefPojo)
+        {
+            ObjectRefPojo other = (ObjectRefPojo) obj;
+            eq = kind == other.kind && name.equals(other.name) && uuid.equals(other.uuid);
+        }
+        return eq;
+    }
+
+    @Override
+    public String toString()
+    {
+        return getKey() + " (" + uuid + ")";
+    }
+
+    public enum Kind
+    {
+        NODE,
+        STOR_POOL,
+        RSC,
+        SNAPSHOT,
+        EXTERNAL_FILE,
+        S3_REMOTE,
+        EBS_REMOTE
+    }
+}
@@ -0,0 +1,147 @@
+package com.linbit.linstor.api.protobuf;
+
+import com.linbit.linstor.api.pojo.ObjectRefPojo;
+import com.linbit.linstor.api.pojo.ObjectRefPojo.Kind;
+import com.linbit.linstor.proto.javainternal.IntObjectRefOuterClass.IntObjectKind;
+import com.linbit.linstor.proto.javainternal.IntObjectRefOuterClass.IntObjectRef;
+import com.linbit.linstor.proto.javainternal.c2s.IntEbsRemoteOuterClass.IntEbsRemote;
+import com.linbit.linstor.proto.javainternal.c2s.IntExternalFileOuterClass.IntExternalFile;
+import com.linbit.linstor.proto.javainternal.c2s.IntNodeOuterClass.IntNode;
+import com.linbit.linstor.proto.javainternal.c2s.IntRscOuterClass.IntRsc;
+import com.linbit.linstor.proto.javainternal.c2s.IntS3RemoteOuterClass.IntS3Remote;
+import com.linbit.linstor.proto.javainternal.c2s.IntSnapshotOuterClass.IntSnapshot;
+import com.linbit.linstor.proto.javainternal.c2s.IntStorPoolOuterClass.IntStorPool;
+
+import javax.annotation.Nullable;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the {@link ObjectRefPojo}s of the object messages of a full sync.
+ * The controller builds the same references from its objects, the names and UUIDs therefore have to match the
+ * ones the serializer puts into the messages.
+ */
+public class ProtoObjectRefs
+{
+    /**
+     * Version of the delta full sync protocol. 0 on the wire means "no delta full sync".
+     */
+    public static final int DELTA_SYNC_VERSION = 2;
+
+    public static ObjectRefPojo of(IntNode node)
+    {
+        return new ObjectRefPojo(Kind.NODE, node.getName(), node.getUuid());
+    }
+
+    public static ObjectRefPojo of(IntStorPool storPool)
+    {
+        return new ObjectRefPojo(
+            Kind.STOR_POOL,
+            storPool.getStorPool().getStorPoolName(),
+            storPool.getStorPool().getStorPoolUuid()
+        );
+    }
+
+    public static ObjectRefPojo of(IntRsc rsc)
+    {
+        return new ObjectRefPojo(Kind.RSC, rsc.getLocalRsc().getName(), rsc.getLocalRsc().getUuid());
+    }
+
+    public static ObjectRefPojo of(IntSnapshot snapshot)
+    {
+        return new ObjectRefPojo(
+            Kind.SNAPSHOT,
+            snapshotName(snapshot.getRscName(), snapshot.getSnapshotName()),
+            snapshot.getSnapshotUuid()
+        );
+    }
+
+    public static ObjectRefPojo of(IntExternalFile extFile)
+    {
+        return new ObjectRefPojo(Kind.EXTERNAL_FILE, extFile.getName(), extFile.getUuid());
+    }
+
+    public static ObjectRefPojo of(IntS3Remote s3Remote)
+    {
+        return new ObjectRefPojo(Kind.S3_REMOTE, s3Remote.getName(), s3Remote.getUuid());
+    }
+
+    public static ObjectRefPojo of(IntEbsRemote ebsRemote)
+    {
+        return new ObjectRefPojo(Kind.EBS_REMOTE, ebsRemote.getName(), ebsRemote.getUuid());
+    }
+
+    public static String snapshotName(String rscName, String snapshotName)
+    {
+        return rscName + "/" + snapshotName;
+    }
+
+    public static IntObjectRef toProto(ObjectRefPojo objRef)
+    {
+        return IntObjectRef.newBuilder()
+            .setKind(IntObjectKind.valueOf(objRef.getKind().name()))
+            .setName(objRef.getName())
+            .setUuid(objRef.getUuid())
+            .build();
+    }
+
+    public static List<IntObjectRef> toProtoList(Collection<ObjectRefPojo> objRefs)
+    {
+        return objRefs.stream().map(ProtoObjectRefs::toProto).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns null for object kinds this version does not know
+     */
+    public static @Nullable ObjectRefPojo fromProto(IntObjectRef objRefProto)
+    {
+        @Nullable ObjectRefPojo ret;
+        switch (objRefProto.getKind())
+        {
+            case NODE: // fall-through
+            case STOR_POOL: // fall-through
+            case RSC: // fall-through
+            case SNAPSHOT: // fall-through
+            case EXTERNAL_FILE: // fall-through
+            case S3_REMOTE: // fall-through
+            case EBS_REMOTE:
+                ret = new ObjectRefPojo(
+                    Kind.valueOf(objRefProto.getKind().name()),
+                    objRefProto.getName(),
+                    objRefProto.getUuid()
+                );
+                break;
+            case UNKNOWN_KIND: // fall-through
+            case UNRECOGNIZED: // fall-through
+            default:
+                ret = null;
+                break;
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the references keyed by {@link ObjectRefPojo#getKey()}. Unknown kinds are skipped.
+     */
+    public static Map<String, ObjectRefPojo> fromProtoList(List<IntObjectRef> objRefProtos)
+    {
+        Map<String, ObjectRefPojo> ret = new HashMap<>();
+        for (IntObjectRef objRefProto : objRefProtos)
+        {
+            @Nullable ObjectRefPojo objRef = fromProto(objRefProto);
+            if (objRef != null)
+            {
+                ret.put(objRef.getKey(), objRef);
+            }
+        }
+        return ret;
+    }
+
+    private ProtoObjectRefs()
+    {
+    }
+}
@@ -20,6 +20,7 @@ import com.linbit.linstor.api.pojo.DrbdRscPojo.DrbdVlmDfnPojo;
 import com.linbit.linstor.api.pojo.DrbdRscPojo.DrbdVlmPojo;
 import com.linbit.linstor.api.pojo.FileInfoPojo;
 import com.linbit.linstor.api.pojo.FilePojo;
+import com.linbit.linstor.api.pojo.HeldObjectsPojo;
 import com.linbit.linstor.api.pojo.LuksRscPojo;
 import com.linbit.linstor.api.pojo.LuksRscPojo.LuksVlmPojo;
 import com.linbit.linstor.api.pojo.NvmeRscPojo;
@@ -34,6 +35,7 @@ import com.linbit.linstor.api.prop.RangeFloatProperty;
 import com.linbit.linstor.api.prop.RangeProperty;
 import com.linbit.linstor.api.prop.RegexProperty;
 import com.linbit.linstor.api.prop.WhitelistProps;
+import com.linbit.linstor.api.protobuf.ProtoObjectRefs;
 import com.linbit.linstor.core.apis.ResourceApi;
 import com.linbit.linstor.core.apis.ResourceDefinitionApi;
 import com.linbit.linstor.core.apis.ResourceGroupApi;
@@ -330,7 +332,9 @@ public class ProtoCommonSerializerBuilder implements CommonSerializer.CommonSeri
         @Nonnull Integer netPort,
         @Nonnull String netType,
         @Nonnull Set<String> extFileWhitelist,
-        @Nonnull WhitelistProps whitelistProps
+        @Nonnull WhitelistProps whitelistProps,
+        @Nonnull HeldObjectsPojo heldObjects,
+        @Nonnull String frameCompression
     )
     {
         try
@@ -342,7 +346,7 @@ public class ProtoCommonSerializerBuilder implements CommonSerializer.CommonSeri
 
             Pattern drbdKeepResPattern = drbdKeepResPatternPrm != null ? drbdKeepResPatternPrm : Pattern.compile("");
 
-            MsgIntAuthResponse.newBuilder()
+            MsgIntAuthResponse.Builder builder = MsgIntAuthResponse.newBuilder()
                 .setSuccess(true)
                 .setExpectedFullSyncId(expectedFullSyncIdRef)
                 .setLinstorVersionMajor(stltVersionRef[0])
@@ -370,8 +374,15 @@ public class ProtoCommonSerializerBuilder implements CommonSerializer.CommonSeri
                 )
                 .setNodeUname(uname)
                 .addAllProperties(serializeDynamicProperties(whitelistProps))
-                .build()
-                .writeDelimitedTo(baos);
+                .setFrameCompression(frameCompression);
+            if (!heldObjects.isEmpty())
+            {
+                builder.setDeltaSyncVersion(ProtoObjectRefs.DELTA_SYNC_VERSION)
+                    .setSyncedObjectVersionEpoch(heldObjects.getObjectVersionEpoch())
+                    .setSyncedObjectVersion(heldObjects.getObjectVersion())
+                    .addAllHeldObjects(ProtoObjectRefs.toProtoList(heldObjects.getObjects().values()));
+            }
+            builder.build().writeDelimitedTo(baos);
         }
         catch (IOException exc)
         {
@@ -6,6 +6,8 @@ import com.linbit.linstor.api.SpaceInfo;
 import com.linbit.linstor.api.interfaces.serializer.CommonSerializer.CommonSerializerBuilder;
 import com.linbit.linstor.api.interfaces.serializer.CtrlStltSerializer;
 import com.linbit.linstor.api.interfaces.serializer.CtrlStltSerializer.CtrlStltSerializerBuilder;
+import com.linbit.linstor.api.pojo.ObjectRefPojo;
+import com.linbit.linstor.api.protobuf.ProtoObjectRefs;
 import com.linbit.linstor.api.protobuf.ProtoStorPoolFreeSpaceUtils;
 import com.linbit.linstor.core.CtrlSecurityObjects;
 import com.linbit.linstor.core.apicallhandler.controller.internal.helpers.AtomicUpdateSatelliteData;
@@ -95,6 +97,8 @@ import com.linbit.linstor.proto.javainternal.s2c.MsgIntRequestSharedStorPoolLock
 import com.linbit.linstor.proto.javainternal.s2c.MsgIntSnapshotShippedOuterClass.MsgIntSnapshotShipped;
 import com.linbit.linstor.proto.javainternal.s2c.MsgIntUpdateFreeSpaceOuterClass.MsgIntUpdateFreeSpace;
 import com.linbit.linstor.proto.javainternal.s2c.MsgIntUpdateLocalNodeChangeOuterClass;
+import com.linbit.linstor.proto.javainternal.s2c.MsgIntVlmAllocatedOuterClass.MsgIntVlmAllocated;
+import com.linbit.linstor.proto.javainternal.s2c.MsgIntVlmAllocatedOuterClass.VlmAllocated;
 import com.linbit.linstor.proto.javainternal.s2c.MsgPhysicalDevicesOuterClass;
 import com.linbit.linstor.proto.javainternal.s2c.MsgPhysicalDevicesOuterClass.MsgPhysicalDevices;
 import com.linbit.linstor.proto.javainternal.s2c.MsgRscFailedOuterClass.MsgRscFailed;
@@ -170,7 +174,9 @@ public class ProtoCtrlStltSerializerBuilder extends ProtoCommonSerializerBuilder
         UUID nodeUuid,
         String nodeName,
         byte[] sharedSecret,
-        UUID ctrlUuid
+        UUID ctrlUuid,
+        List<String> frameCompression,
+        int frameCompressionThreshold
     )
     {
         try
@@ -180,6 +186,8 @@ public class ProtoCtrlStltSerializerBuilder extends ProtoCommonSerializerBuilder
                 .setNodeName(nodeName)
                 .setSharedSecret(ByteString.copyFrom(sharedSecret))
                 .setCtrlUuid(ctrlUuid.toString())
+                .addAllFrameCompression(frameCompression)
+                .setFrameCompressionThreshold(frameCompressionThreshold)
                 .build()
                 .writeDelimitedTo(baos);
         }
@@ -547,6 +555,36 @@ public class ProtoCtrlStltSerializerBuilder extends ProtoCommonSerializerBuilder
         long fullSyncTimestamp,
         long updateId
     )
+    {
+        return fullSync(
+            nodeSet,
+            storPools,
+            resources,
+            snapshots,
+            externalFiles,
+            remotes,
+            fullSyncTimestamp,
+            updateId,
+            0,
+            0,
+            Collections.emptyList()
+        );
+    }
+
+    @Override
+    public ProtoCtrlStltSerializerBuilder fullSync(
+        Set<Node> nodeSet,
+        Set<StorPool> storPools,
+        Set<Resource> resources,
+        Set<Snapshot> snapshots,
+        Set<ExternalFile> externalFiles,
+        Set<AbsRemote> remotes,
+        long fullSyncTimestamp,
+        long updateId,
+        long objectVersionEpoch,
+        long objectVersion,
+        Collection<ObjectRefPojo> unchangedObjects
+    )
     {
         try
         {
@@ -607,6 +645,8 @@ public class ProtoCtrlStltSerializerBuilder extends ProtoCommonSerializerBuilder
             }
 
             MsgIntApplyFullSync.Builder builder = MsgIntApplyFullSync.newBuilder()
+                .setFullSyncTimestamp(fullSyncTimestamp)
+                .setCtrl(serializedCtrl)
                 .addAllNodes(serializedNodes)
                 .addAllStorPools(serializedStorPools)
                 .addAllRscs(serializedRscs)
@@ -614,8 +654,14 @@ public class ProtoCtrlStltSerializerBuilder extends ProtoCommonSerializerBuilder
                 .addAllExternalFiles(serializedExtFiles)
                 .addAllEbsRemotes(serializedEbsRemotes)
                 .addAllS3Remotes(serializedS3Remotes)
-                .setFullSyncTimestamp(fullSyncTimestamp)
-                .setCtrl(serializedCtrl);
+                .setObjectVersionEpoch(objectVersionEpoch)
+                .setObjectVersion(objectVersion);
+            if (!unchangedObjects.isEmpty())
+            {
+                // the satellite still holds these objects from its last full sync, they were not serialized again
+                builder.setDeltaSyncVersion(ProtoObjectRefs.DELTA_SYNC_VERSION)
+                    .addAllUnchangedObjects(ProtoObjectRefs.toProtoList(unchangedObjects));
+            }
 
             if (secObjs.areAllSet())
             {
@@ -1262,15 +1308,15 @@ public class ProtoCtrlStltSerializerBuilder extends ProtoCommonSerializerBuilder
 
     @Override
     public CtrlStltSerializer.CtrlStltSerializerBuilder updateFreeCapacities(
-        Map<StorPool, SpaceInfo> spaceInfoMap
+        Map<? extends StorPoolInfo, SpaceInfo> spaceInfoMap
     )
     {
         try
         {
             List<StorPoolFreeSpace> freeSpaces = new ArrayList<>();
-            for (Entry<StorPool, SpaceInfo> entry : spaceInfoMap.entrySet())
+            for (Entry<? extends StorPoolInfo, SpaceInfo> entry : spaceInfoMap.entrySet())
             {
-                StorPool storPool = entry.getKey();
+                StorPoolInfo storPool = entry.getKey();
                 SpaceInfo spaceInfo = entry.getValue();
                 freeSpaces.add(
                     StorPoolFreeSpaceOuterClass.StorPoolFreeSpace.newBuilder()
@@ -1294,6 +1340,39 @@ public class ProtoCtrlStltSerializerBuilder extends ProtoCommonSerializerBuilder
         return this;
     }
 
+    @Override
+    public CtrlStltSerializer.CtrlStltSerializerBuilder vlmAllocated(
+        Map<Volume.Key, Either<Long, ApiRcException>> vlmAllocatedCapacities
+    )
+    {
+        try
+        {
+            MsgIntVlmAllocated.Builder builder = MsgIntVlmAllocated.newBuilder();
+            for (Entry<Volume.Key, Either<Long, ApiRcException>> entry : vlmAllocatedCapacities.entrySet())
+            {
+                Volume.Key vlmKey = entry.getKey();
+
+                VlmAllocated.Builder vlmAllocatedBuilder = VlmAllocated.newBuilder()
+                    .setRscName(vlmKey.getResourceName().displayValue)
+                    .setVlmNr(vlmKey.getVolumeNumber().value);
+
+                entry.getValue().consume(
+                    vlmAllocatedBuilder::setAllocated,
+                    apiRcException -> vlmAllocatedBuilder
+                        .addAllErrors(ProtoCommonSerializerBuilder.serializeApiCallRc(apiRcException.getApiCallRc()))
+                );
+
+                builder.addAllocatedCapacities(vlmAllocatedBuilder.build());
+            }
+            builder.build().writeDelimitedTo(baos);
+        }
+        catch (IOException exc)
+        {
+            handleIOException(exc);
+        }
+        return this;
+    }
+
     @Override
     public CommonSerializerBuilder storPoolApplied(
         StorPool storPool,
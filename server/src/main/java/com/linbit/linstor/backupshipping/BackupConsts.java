@@ -30,6 +30,36 @@ public class BackupConsts
     );
     public static final String CONCURRENT_BACKUPS_KEY = ApiConsts.NAMESPC_BACKUP_SHIPPING + "/" +
         ApiConsts.KEY_MAX_CONCURRENT_BACKUPS_PER_NODE;
+    /**
+     * Number of parts of a single backup uploaded to S3 at the same time. Set in the backup shipping namespace of the
+     * controller, can be overridden per remote in the sub-namespace named like the remote.
+     */
+    public static final String KEY_S3_UPLOAD_CONCURRENCY = "S3UploadConcurrency";
+    public static final int DFLT_S3_UPLOAD_CONCURRENCY = 4;
+    /**
+     * Maximum memory in MiB used for the part buffers of a single backup uploaded to S3, see
+     * {@link #KEY_S3_UPLOAD_CONCURRENCY}. The limit applies per upload, every backup shipped at the same time uses up
+     * to this much memory. If not set, the limit is {@link #DFLT_S3_UPLOAD_MAX_MEMORY_PARTS} times the part size of
+     * the upload, which depends on the size of the backup.
+     */
+    public static final String KEY_S3_UPLOAD_MAX_MEMORY = "S3UploadMaxMemoryMiB";
+    public static final int DFLT_S3_UPLOAD_MAX_MEMORY_PARTS = 4;
+    /**
+     * Number of byte ranges of a single backup downloaded from S3 at the same time during a restore, see
+     * {@link #KEY_S3_UPLOAD_CONCURRENCY}. 1 downloads the backup as a single stream.
+     */
+    public static final String KEY_S3_DOWNLOAD_CONCURRENCY = "S3DownloadConcurrency";
+    public static final int DFLT_S3_DOWNLOAD_CONCURRENCY = 4;
+    /**
+     * Maximum memory in MiB used for the range buffers of a single backup downloaded from S3, see
+     * {@link #KEY_S3_UPLOAD_CONCURRENCY}
+     */
+    public static final String KEY_S3_DOWNLOAD_MAX_MEMORY = "S3DownloadMaxMemoryMiB";
+    public static final int DFLT_S3_DOWNLOAD_MAX_MEMORY = 256;
+    /**
+     * Size of a single byte range of a backup downloaded from S3
+     */
+    public static final int S3_DOWNLOAD_RANGE_SIZE = 16 << 20;
     public static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
 
     private BackupConsts()
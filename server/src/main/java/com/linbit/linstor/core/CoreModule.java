@@ -26,6 +26,7 @@ import com.linbit.linstor.propscon.ReadOnlyProps;
 import com.linbit.linstor.security.ObjectProtection;
 import com.linbit.linstor.transaction.TransactionMap;
 import com.linbit.linstor.transaction.manager.TransactionMgr;
+import com.linbit.locks.InstrumentedReadWriteLock;
 
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -36,7 +37,6 @@ import java.util.Comparator;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.Provides;
@@ -82,27 +82,27 @@ public class CoreModule extends AbstractModule
         bind(PeerMap.class).toInstance(new PeerMapImpl());
 
         bind(ReadWriteLock.class).annotatedWith(Names.named(RECONFIGURATION_LOCK))
-            .toInstance(new ReentrantReadWriteLock(true));
+            .toInstance(new InstrumentedReadWriteLock(RECONFIGURATION_LOCK));
         bind(ReadWriteLock.class).annotatedWith(Names.named(NODES_MAP_LOCK))
-            .toInstance(new ReentrantReadWriteLock(true));
+            .toInstance(new InstrumentedReadWriteLock(NODES_MAP_LOCK));
         bind(ReadWriteLock.class).annotatedWith(Names.named(RSC_DFN_MAP_LOCK))
-            .toInstance(new ReentrantReadWriteLock(true));
+            .toInstance(new InstrumentedReadWriteLock(RSC_DFN_MAP_LOCK));
         bind(ReadWriteLock.class).annotatedWith(Names.named(STOR_POOL_DFN_MAP_LOCK))
-            .toInstance(new ReentrantReadWriteLock(true));
+            .toInstance(new InstrumentedReadWriteLock(STOR_POOL_DFN_MAP_LOCK));
         bind(ReadWriteLock.class).annotatedWith(Names.named(FREE_SPACE_MGR_MAP_LOCK))
-            .toInstance(new ReentrantReadWriteLock(true));
+            .toInstance(new InstrumentedReadWriteLock(FREE_SPACE_MGR_MAP_LOCK));
         bind(ReadWriteLock.class).annotatedWith(Names.named(CTRL_CONF_LOCK))
-            .toInstance(new ReentrantReadWriteLock(true));
+            .toInstance(new InstrumentedReadWriteLock(CTRL_CONF_LOCK));
         bind(ReadWriteLock.class).annotatedWith(Names.named(KVS_MAP_LOCK))
-            .toInstance(new ReentrantReadWriteLock(true));
+            .toInstance(new InstrumentedReadWriteLock(KVS_MAP_LOCK));
         bind(ReadWriteLock.class).annotatedWith(Names.named(RSC_GROUP_MAP_LOCK))
-            .toInstance(new ReentrantReadWriteLock(true));
+            .toInstance(new InstrumentedReadWriteLock(RSC_GROUP_MAP_LOCK));
         bind(ReadWriteLock.class).annotatedWith(Names.named(EXT_FILE_MAP_LOCK))
-            .toInstance(new ReentrantReadWriteLock(true));
+            .toInstance(new InstrumentedReadWriteLock(EXT_FILE_MAP_LOCK));
         bind(ReadWriteLock.class).annotatedWith(Names.named(REMOTE_MAP_LOCK))
-            .toInstance(new ReentrantReadWriteLock(true));
+            .toInstance(new InstrumentedReadWriteLock(REMOTE_MAP_LOCK));
         bind(ReadWriteLock.class).annotatedWith(Names.named(SCHEDULE_MAP_LOCK))
-            .toInstance(new ReentrantReadWriteLock(true));
+            .toInstance(new InstrumentedReadWriteLock(SCHEDULE_MAP_LOCK));
     }
 
     @Provides
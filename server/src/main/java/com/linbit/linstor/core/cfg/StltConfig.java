@@ -37,6 +37,14 @@ public class StltConfig extends LinstorConfig
      */
     private Set<Path> whitelistedExternalFilePaths;
 
+    /*
+     * Device manager
+     */
+    private boolean devMgrParallelDispatch;
+    private int devMgrFreeSpaceCheckInterval;
+    private int devMgrFreeSpaceReportThreshold;
+    private boolean devMgrPushVlmAllocated;
+
     public StltConfig(String[] argsRef)
     {
         super(argsRef);
@@ -59,6 +67,11 @@ public class StltConfig extends LinstorConfig
         setNetSecureSslProtocol("TLSv1.2");
 
         setExternalFilesWhitelist(Collections.emptySet()); // just to prevent NPE when checking the set with .contains
+
+        setDevMgrParallelDispatch(false);
+        setDevMgrFreeSpaceCheckInterval(30);
+        setDevMgrFreeSpaceReportThreshold(1);
+        setDevMgrPushVlmAllocated(false);
     }
 
     @Override
@@ -301,4 +314,56 @@ public class StltConfig extends LinstorConfig
             }
         }
     }
+
+    public boolean isDevMgrParallelDispatch()
+    {
+        return devMgrParallelDispatch;
+    }
+
+    public void setDevMgrParallelDispatch(Boolean devMgrParallelDispatchRef)
+    {
+        if (devMgrParallelDispatchRef != null)
+        {
+            devMgrParallelDispatch = devMgrParallelDispatchRef;
+        }
+    }
+
+    public int getDevMgrFreeSpaceCheckInterval()
+    {
+        return devMgrFreeSpaceCheckInterval;
+    }
+
+    public void setDevMgrFreeSpaceCheckInterval(Integer devMgrFreeSpaceCheckIntervalRef)
+    {
+        if (devMgrFreeSpaceCheckIntervalRef != null)
+        {
+            devMgrFreeSpaceCheckInterval = devMgrFreeSpaceCheckIntervalRef;
+        }
+    }
+
+    public boolean isDevMgrPushVlmAllocated()
+    {
+        return devMgrPushVlmAllocated;
+    }
+
+    public void setDevMgrPushVlmAllocated(Boolean devMgrPushVlmAllocatedRef)
+    {
+        if (devMgrPushVlmAllocatedRef != null)
+        {
+            devMgrPushVlmAllocated = devMgrPushVlmAllocatedRef;
+        }
+    }
+
+    public int getDevMgrFreeSpaceReportThreshold()
+    {
+        return devMgrFreeSpaceReportThreshold;
+    }
+
+    public void setDevMgrFreeSpaceReportThreshold(Integer devMgrFreeSpaceReportThresholdRef)
+    {
+        if (devMgrFreeSpaceReportThresholdRef != null)
+        {
+            devMgrFreeSpaceReportThreshold = devMgrFreeSpaceReportThresholdRef;
+        }
+    }
 }
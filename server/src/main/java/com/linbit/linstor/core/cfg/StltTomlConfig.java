@@ -55,14 +55,32 @@ public class StltTomlConfig
         }
     }
 
+    static class DevMgr
+    {
+        private Boolean parallel_dispatch;
+        private Integer free_space_check_interval;
+        private Integer free_space_report_threshold;
+        private Boolean push_vlm_allocated;
+
+        public void applyTo(StltConfig cfg)
+        {
+            cfg.setDevMgrParallelDispatch(parallel_dispatch);
+            cfg.setDevMgrFreeSpaceCheckInterval(free_space_check_interval);
+            cfg.setDevMgrFreeSpaceReportThreshold(free_space_report_threshold);
+            cfg.setDevMgrPushVlmAllocated(push_vlm_allocated);
+        }
+    }
+
     private NETCOM netcom = new NETCOM();
     private Logging logging = new Logging();
     private Files files = new Files();
+    private DevMgr devmgr = new DevMgr();
 
     public void applyTo(StltConfig cfg)
     {
         netcom.applyTo(cfg);
         logging.applyTo(cfg);
         files.applyTo(cfg);
+        devmgr.applyTo(cfg);
     }
 }
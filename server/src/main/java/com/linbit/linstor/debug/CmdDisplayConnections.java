@@ -257,10 +257,10 @@ public class CmdDisplayConnections extends BaseDebugCmd
                             if (detailStats)
                             {
                                 debugOut.printf(
-                                    "    MsgRecv: %8d   MsgSent: %8d   OutQ: %5d  QCap: %5d  " +
+                                    "    MsgRecv: %8d   MsgSent: %8d   OutQ: %5d  QSz: %10d  QCap: %10d  " +
                                     "RecvPeakSz: %8d  SentPeakSz: %8d\n",
                                     curPeer.msgRecvCount(), curPeer.msgSentCount(),
-                                    curPeer.outQueueCount(), curPeer.outQueueCapacity(),
+                                    curPeer.outQueueCount(), curPeer.outQueueSize(), curPeer.outQueueCapacity(),
                                     curPeer.msgRecvMaxSize(), curPeer.msgSentMaxSize()
                                 );
                             }
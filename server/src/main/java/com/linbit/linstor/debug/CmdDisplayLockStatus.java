@@ -8,6 +8,7 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import com.linbit.linstor.core.CoreModule;
 import com.linbit.linstor.security.AccessContext;
+import com.linbit.locks.InstrumentedReadWriteLock;
 
 import javax.inject.Named;
 
@@ -72,7 +73,15 @@ public class CmdDisplayLockStatus extends BaseDebugCmd
 
     private void reportRwLock(PrintStream output, String label, ReadWriteLock readWriteLock)
     {
-        ReentrantReadWriteLock reentrantReadWriteLock = (ReentrantReadWriteLock) readWriteLock;
+        ReentrantReadWriteLock reentrantReadWriteLock;
+        if (readWriteLock instanceof InstrumentedReadWriteLock)
+        {
+            reentrantReadWriteLock = ((InstrumentedReadWriteLock) readWriteLock).getGlobalLock();
+        }
+        else
+        {
+            reentrantReadWriteLock = (ReentrantReadWriteLock) readWriteLock;
+        }
 
         boolean writeLocked = reentrantReadWriteLock.isWriteLocked();
         boolean fair = reentrantReadWriteLock.isFair();
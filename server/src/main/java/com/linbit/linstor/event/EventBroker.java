@@ -81,9 +81,14 @@ public class EventBroker
 
             Flux<byte[]> mergedStreams = Flux.merge(watchStreams);
 
+            // events wait for a slow peer instead of overflowing its outbound queue
             Disposable disposable = mergedStreams
+                .concatMap(peer::sendMessageWithBackpressure)
                 .subscribe(
-                    peer::sendMessage,
+                    ignored ->
+                    {
+                        // do nothing
+                    },
                     exception -> errorReporter.reportError(exception, null, null, "Uncaught exception sending event")
                 );
 
@@ -39,6 +39,15 @@ public class ErrorReportResult
         return this;
     }
 
+    /**
+     * Adds the count of reports of a single node, that are not part of the error reports list of this result.
+     */
+    void addNodeCount(@Nonnull String nodeName, @Nonnull String module, long count)
+    {
+        totalCount += count;
+        nodeCounts.merge(new Pair<>(nodeName, module), count, Long::sum);
+    }
+
     /**
      * Inplace sorts the error reports by the LinstorFile::compareTo method.
      * @return This ErrorReportResult instance
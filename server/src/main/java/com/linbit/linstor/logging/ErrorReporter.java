@@ -11,11 +11,13 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.slf4j.event.Level;
 
@@ -209,6 +211,63 @@ public interface ErrorReporter
         return new ApiCallRcImpl();
     }
 
+    /**
+     * Lists the reports of the controller itself and the report metadata replicated from the given satellites, see
+     * {@link #ingestReports(String, Collection)}. The reports do not include their text.
+     *
+     * @param withOwnReports include the reports of this process
+     * @param satelliteNodes only include the replicated reports of these satellites
+     */
+    default @Nonnull ErrorReportResult listIndexedReports(
+        boolean withOwnReports,
+        @Nonnull final Set<String> satelliteNodes,
+        @Nullable final Date since,
+        @Nullable final Date to,
+        @Nonnull final Set<String> ids,
+        @Nullable final Long limit,
+        @Nullable final Long offset
+    )
+    {
+        return new ErrorReportResult(0, Collections.emptyList());
+    }
+
+    /**
+     * Stores the metadata of reports that were created by the given satellite
+     */
+    default void ingestReports(@Nonnull String satelliteNodeName, @Nonnull Collection<ErrorReport> reports)
+    {
+    }
+
+    /**
+     * Returns the time of the newest report replicated from the given satellite, or null if there is none
+     */
+    default @Nullable Date getLatestIngestedReportTime(@Nonnull String satelliteNodeName)
+    {
+        return null;
+    }
+
+    /**
+     * Deletes the replicated metadata of reports of the given satellites
+     */
+    default ApiCallRc deleteIngestedReports(
+        @Nonnull final Set<String> satelliteNodes,
+        @Nullable final Date since,
+        @Nullable final Date to,
+        @Nullable final String exception,
+        @Nullable final String version,
+        @Nullable final List<String> ids)
+    {
+        return new ApiCallRcImpl();
+    }
+
+    /**
+     * Sets the listener that is called with the metadata of new reports of this process, in batches. The listener
+     * must not block and must not report errors itself.
+     */
+    default void setReportListener(@Nullable Consumer<List<ErrorReport>> reportListener)
+    {
+    }
+
     default void archiveLogDirectory()
     {
     }
@@ -11,8 +11,7 @@ import com.linbit.utils.TimeUtils;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import java.io.ByteArrayInputStream;
-import java.io.InputStreamReader;
+import java.io.StringReader;
 import java.sql.Clob;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -22,15 +21,28 @@ import java.sql.Statement;
 import java.sql.Timestamp;
 import java.sql.Types;
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.apache.commons.dbcp2.BasicDataSource;
 
+/**
+ * Index of the error reports of this process and, on the controller, of the report metadata replicated from the
+ * satellites.
+ * <br />
+ * New reports are queued and written in batches by a background thread, so a burst of reports (e.g. a flapping
+ * device) does not cost one transaction per report. Every list or delete writes all queued reports first.
+ */
 public class H2ErrorReporter
 {
+    private static final int DB_VERSION = 2;
     private static final String DB_CRT_VERSION_TABLE = "CREATE TABLE IF NOT EXISTS VERSION (" +
         "VERSION_NUMBER INT);";
     private static final String DB_CRT_ERRORS_TABLE = "CREATE TABLE IF NOT EXISTS ERRORS (\n" +
@@ -49,10 +61,37 @@ public class H2ErrorReporter
         "\tORIGIN_LINE INT,\n" +
         "\tTEXT TEXT,\n" +
         "\tPRIMARY KEY(INSTANCE_EPOCH, ERROR_NR, NODE));";
+    private static final String[] DB_UPGRADE_V2 = {
+        // the controller also stores the reports of its satellites, which might run on the same host
+        "ALTER TABLE ERRORS ALTER COLUMN MODULE SET NOT NULL",
+        "ALTER TABLE ERRORS DROP PRIMARY KEY",
+        "ALTER TABLE ERRORS ADD PRIMARY KEY (INSTANCE_EPOCH, ERROR_NR, NODE, MODULE)",
+        "CREATE INDEX IF NOT EXISTS IDX_ERRORS_NODE_DT ON ERRORS (NODE, MODULE, DATETIME)",
+        "CREATE INDEX IF NOT EXISTS IDX_ERRORS_EXC_DT ON ERRORS (EXCEPTION, DATETIME)"
+    };
+
+    private static final String COLUMNS = "INSTANCE_EPOCH, ERROR_NR, NODE, MODULE, ERROR_ID, DATETIME, VERSION, PEER," +
+        " EXCEPTION, EXCEPTION_MESSAGE, ORIGIN_FILE, ORIGIN_METHOD, ORIGIN_LINE, TEXT";
+    private static final String INSERT_STMT = "INSERT INTO ERRORS (" + COLUMNS + ")" +
+        " VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    // reports that are replicated again (e.g. after a reconnect) must not fail the whole batch
+    private static final String MERGE_STMT = "MERGE INTO ERRORS (" + COLUMNS + ")" +
+        " KEY (INSTANCE_EPOCH, ERROR_NR, NODE, MODULE)" +
+        " VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int MAX_BATCH_SIZE = 256;
+    // beyond this the reporting threads write the queued reports themselves
+    private static final int MAX_PENDING_REPORTS = 4096;
 
     private final ErrorReporter errorReporter;
     private final BasicDataSource dataSource = new BasicDataSource();
 
+    private final ArrayDeque<ErrorReport> pendingReports = new ArrayDeque<>();
+    private final Object flushLock = new Object();
+    private final Thread writerThread;
+    private volatile boolean shutdown = false;
+    private volatile @Nullable Consumer<List<ErrorReport>> reportListener;
+
     H2ErrorReporter(ErrorReporter errorReporterRef)
     {
         errorReporter = errorReporterRef;
@@ -64,6 +103,10 @@ public class H2ErrorReporter
         dataSource.setMaxOpenPreparedStatements(100);
 
         setupErrorDB();
+
+        writerThread = new Thread(this::runWriter, "ErrorReportWriter");
+        writerThread.setDaemon(true);
+        writerThread.start();
     }
 
     private void setupErrorDB()
@@ -76,13 +119,13 @@ public class H2ErrorReporter
         {
             stmt.executeUpdate(DB_CRT_VERSION_TABLE);
 
+            int versionNumber;
             try (ResultSet rs = stmt.executeQuery("SELECT VERSION_NUMBER FROM VERSION"))
             {
                 if (rs.next())
                 {
-                    int versionNumber = rs.getInt("VERSION_NUMBER");
+                    versionNumber = rs.getInt("VERSION_NUMBER");
                     errorReporter.logInfo("ErrorReporter DB version %d found.", versionNumber);
-                    // upgrade db?
                 }
                 else
                 {
@@ -91,9 +134,20 @@ public class H2ErrorReporter
                     stmt.executeUpdate("CREATE INDEX IF NOT EXISTS IDX_ERRORS_DT ON ERRORS (DATETIME)");
                     stmt.executeUpdate("SET COMPRESS_LOB LZF");
                     stmt.executeUpdate("INSERT INTO VERSION (VERSION_NUMBER) VALUES (1)");
+                    versionNumber = 1;
                     errorReporter.logInfo("ErrorReporter DB first time init.");
                 }
             }
+
+            if (versionNumber < 2)
+            {
+                for (String upgradeStmt : DB_UPGRADE_V2)
+                {
+                    stmt.executeUpdate(upgradeStmt);
+                }
+                stmt.executeUpdate("UPDATE VERSION SET VERSION_NUMBER = " + DB_VERSION);
+                errorReporter.logInfo("ErrorReporter DB upgraded to version %d.", DB_VERSION);
+            }
         }
         catch (SQLException sqlExc)
         {
@@ -101,15 +155,23 @@ public class H2ErrorReporter
         }
     }
 
+    /**
+     * Sets the listener that is called with the metadata (without the text) of every batch of reports of this
+     * process once it was written. The listener is called by the writing thread and must not block.
+     */
+    public void setReportListener(@Nullable Consumer<List<ErrorReport>> reportListenerRef)
+    {
+        reportListener = reportListenerRef;
+    }
+
     public void writeErrorReportToDB(
         long reportNr,
         Peer client,
         Throwable errorInfo,
-        long instanceEpoch,
         LocalDateTime errorTime,
         String nodeName,
         String module,
-        byte[] errorReportText)
+        String errorReportText)
     {
         StackTraceElement[] traceItems = errorInfo.getStackTrace();
         String originFile = traceItems.length > 0 ? traceItems[0].getFileName() : null;
@@ -117,45 +179,287 @@ public class H2ErrorReporter
         Integer originLine = traceItems.length > 0 ? traceItems[0].getLineNumber() : null;
         String excMsg = errorInfo.getMessage();
 
+        ErrorReport report = new ErrorReport(
+            nodeName,
+            module.equalsIgnoreCase(LinStor.CONTROLLER_MODULE) ? Node.Type.CONTROLLER : Node.Type.SATELLITE,
+            StdErrorReporter.RPT_PREFIX + String.format("%s-%06d", errorReporter.getInstanceId(), reportNr) +
+                StdErrorReporter.RPT_SUFFIX,
+            LinStor.VERSION_INFO_PROVIDER.getVersion(),
+            client != null ? client.toString() : null,
+            errorInfo.getClass().getSimpleName(),
+            excMsg != null ? excMsg.substring(0, Math.min(excMsg.length(), 2048)) : null,
+            originFile,
+            originMethod,
+            originLine,
+            new Date(TimeUtils.getEpochMillis(errorTime)),
+            errorReportText
+        );
+
+        boolean flushNow;
+        synchronized (pendingReports)
+        {
+            pendingReports.add(report);
+            flushNow = shutdown || pendingReports.size() >= MAX_PENDING_REPORTS;
+            pendingReports.notifyAll();
+        }
+        if (flushNow)
+        {
+            flush();
+        }
+    }
+
+    /**
+     * Stores the metadata of the given reports, which were created by the satellite with the given name. Reports that
+     * are already known are updated.
+     */
+    public void ingestReports(String nodeName, Collection<ErrorReport> reports)
+    {
+        List<ErrorReport> batch = new ArrayList<>(reports.size());
+        for (ErrorReport report : reports)
+        {
+            batch.add(
+                new ErrorReport(
+                    nodeName,
+                    Node.Type.SATELLITE,
+                    report.getFileName(),
+                    report.getVersion().orElse(null),
+                    report.getPeer().orElse(null),
+                    report.getException().orElse(null),
+                    report.getExceptionMessage().orElse(null),
+                    report.getOriginFile().orElse(null),
+                    report.getOriginMethod().orElse(null),
+                    report.getOriginLine().orElse(null),
+                    report.getDateTime(),
+                    null
+                )
+            );
+        }
+        writeBatch(batch, MERGE_STMT);
+    }
+
+    /**
+     * Returns the time of the newest report stored for the given satellite, or null if there is none
+     */
+    public @Nullable Date getLatestReportTime(String satelliteNodeName)
+    {
+        @Nullable Date latest = null;
         try
         (
             Connection con = dataSource.getConnection();
-            PreparedStatement stmt = con.prepareStatement("INSERT INTO ERRORS" +
-                 " (INSTANCE_EPOCH, ERROR_NR, NODE, MODULE, ERROR_ID, DATETIME, VERSION, PEER," +
-                 " EXCEPTION, EXCEPTION_MESSAGE, ORIGIN_FILE, ORIGIN_METHOD, ORIGIN_LINE, TEXT)" +
-                 " VALUES(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+            PreparedStatement stmt = con.prepareStatement(
+                "SELECT MAX(DATETIME) FROM ERRORS WHERE NODE = ? AND MODULE = ?"
+            );
         )
         {
-            int fieldIdx = 1;
-            stmt.setLong(fieldIdx++, instanceEpoch);
-            stmt.setLong(fieldIdx++, reportNr);
-            stmt.setString(fieldIdx++, nodeName);
-            stmt.setInt(fieldIdx++, (int) (module.equalsIgnoreCase(LinStor.CONTROLLER_MODULE) ?
-                Node.Type.CONTROLLER.getFlagValue() : Node.Type.SATELLITE.getFlagValue()));
-            stmt.setString(fieldIdx++, String.format("%s-%06d", errorReporter.getInstanceId(), reportNr));
-            stmt.setTimestamp(fieldIdx++, new Timestamp(TimeUtils.getEpochMillis(errorTime)));
-            stmt.setString(fieldIdx++, LinStor.VERSION_INFO_PROVIDER.getVersion());
-            stmt.setString(fieldIdx++, client != null ? client.toString() : null);
-            stmt.setString(fieldIdx++, errorInfo.getClass().getSimpleName());
-            stmt.setString(fieldIdx++, excMsg != null ? excMsg.substring(0, Math.min(excMsg.length(), 2048)) : null);
-            stmt.setString(fieldIdx++, originFile);
-            stmt.setString(fieldIdx++, originMethod);
-            if (originLine != null)
+            stmt.setString(1, satelliteNodeName);
+            stmt.setInt(2, (int) Node.Type.SATELLITE.getFlagValue());
+            try (ResultSet rslt = stmt.executeQuery())
             {
-                stmt.setInt(fieldIdx++, originLine);
+                if (rslt.next() && rslt.getTimestamp(1) != null)
+                {
+                    latest = new Date(rslt.getTimestamp(1).getTime());
+                }
             }
-            else
+        }
+        catch (SQLException sqlExc)
+        {
+            errorReporter.logError("Unable to operate on error-reports database: " + sqlExc.getMessage());
+        }
+        return latest;
+    }
+
+    private void runWriter()
+    {
+        while (!shutdown)
+        {
+            try
+            {
+                synchronized (pendingReports)
+                {
+                    while (pendingReports.isEmpty() && !shutdown)
+                    {
+                        pendingReports.wait();
+                    }
+                }
+                flush();
+            }
+            catch (InterruptedException ignored)
+            {
+                // shutdown flag is checked by the loop
+            }
+            catch (RuntimeException exc)
+            {
+                // must not use reportError, as the report would end up in this queue again
+                errorReporter.logError("Unable to write error reports to DB: " + exc);
+            }
+        }
+    }
+
+    /**
+     * Writes all queued reports of this process
+     */
+    void flush()
+    {
+        synchronized (flushLock)
+        {
+            List<ErrorReport> batch;
+            do
             {
-                stmt.setNull(fieldIdx++, Types.INTEGER);
+                batch = new ArrayList<>();
+                synchronized (pendingReports)
+                {
+                    while (!pendingReports.isEmpty() && batch.size() < MAX_BATCH_SIZE)
+                    {
+                        batch.add(pendingReports.poll());
+                    }
+                }
+                if (!batch.isEmpty() && writeBatch(batch, INSERT_STMT))
+                {
+                    notifyListener(batch);
+                }
             }
-            stmt.setClob(fieldIdx, new InputStreamReader(new ByteArrayInputStream(errorReportText)));
+            while (!batch.isEmpty());
+        }
+    }
 
-            stmt.executeUpdate();
+    private void notifyListener(List<ErrorReport> batch)
+    {
+        @Nullable Consumer<List<ErrorReport>> listener = reportListener;
+        if (listener != null)
+        {
+            List<ErrorReport> metadata = new ArrayList<>(batch.size());
+            for (ErrorReport report : batch)
+            {
+                metadata.add(
+                    new ErrorReport(
+                        report.getNodeName(),
+                        report.getModule(),
+                        report.getFileName(),
+                        report.getVersion().orElse(null),
+                        report.getPeer().orElse(null),
+                        report.getException().orElse(null),
+                        report.getExceptionMessage().orElse(null),
+                        report.getOriginFile().orElse(null),
+                        report.getOriginMethod().orElse(null),
+                        report.getOriginLine().orElse(null),
+                        report.getDateTime(),
+                        null
+                    )
+                );
+            }
+            try
+            {
+                listener.accept(metadata);
+            }
+            catch (RuntimeException exc)
+            {
+                errorReporter.logError("Error report listener failed: " + exc);
+            }
+        }
+    }
+
+    /**
+     * Returns true if the batch was written
+     */
+    private boolean writeBatch(List<ErrorReport> batch, String sqlStmt)
+    {
+        boolean written = false;
+        try (Connection con = dataSource.getConnection())
+        {
+            con.setAutoCommit(false);
+            try (PreparedStatement stmt = con.prepareStatement(sqlStmt))
+            {
+                for (ErrorReport report : batch)
+                {
+                    if (setRowParameters(stmt, report))
+                    {
+                        stmt.addBatch();
+                    }
+                }
+                stmt.executeBatch();
+                con.commit();
+                written = true;
+            }
+            catch (SQLException sqlExc)
+            {
+                con.rollback();
+                throw sqlExc;
+            }
+            finally
+            {
+                con.setAutoCommit(true);
+            }
         }
         catch (SQLException sqlExc)
         {
             errorReporter.logError("Unable to write error report to DB: " + sqlExc.getMessage());
         }
+        return written;
+    }
+
+    /**
+     * Returns false if the id of the report could not be parsed
+     */
+    private boolean setRowParameters(PreparedStatement stmt, ErrorReport report) throws SQLException
+    {
+        boolean valid = false;
+        String fileName = report.getFileName();
+        String errorId = fileName;
+        if (errorId.startsWith(StdErrorReporter.RPT_PREFIX))
+        {
+            errorId = errorId.substring(StdErrorReporter.RPT_PREFIX.length());
+        }
+        if (errorId.endsWith(StdErrorReporter.RPT_SUFFIX))
+        {
+            errorId = errorId.substring(0, errorId.length() - StdErrorReporter.RPT_SUFFIX.length());
+        }
+        // <instance epoch (hex)>-<node hash (hex)>-<report nr>
+        String[] idParts = errorId.split("-");
+        try
+        {
+            if (idParts.length == 3)
+            {
+                int fieldIdx = 1;
+                stmt.setLong(fieldIdx++, Long.parseLong(idParts[0], 16));
+                stmt.setLong(fieldIdx++, Long.parseLong(idParts[2]));
+                stmt.setString(fieldIdx++, report.getNodeName());
+                stmt.setInt(fieldIdx++, (int) report.getModule().getFlagValue());
+                stmt.setString(fieldIdx++, errorId);
+                stmt.setTimestamp(fieldIdx++, new Timestamp(report.getDateTime().getTime()));
+                stmt.setString(fieldIdx++, report.getVersion().orElse(null));
+                stmt.setString(fieldIdx++, report.getPeer().orElse(null));
+                stmt.setString(fieldIdx++, report.getException().orElse(null));
+                stmt.setString(fieldIdx++, report.getExceptionMessage().orElse(null));
+                stmt.setString(fieldIdx++, report.getOriginFile().orElse(null));
+                stmt.setString(fieldIdx++, report.getOriginMethod().orElse(null));
+                if (report.getOriginLine().isPresent())
+                {
+                    stmt.setInt(fieldIdx++, report.getOriginLine().get());
+                }
+                else
+                {
+                    stmt.setNull(fieldIdx++, Types.INTEGER);
+                }
+                if (report.getText().isPresent())
+                {
+                    stmt.setClob(fieldIdx, new StringReader(report.getText().get()));
+                }
+                else
+                {
+                    stmt.setNull(fieldIdx, Types.CLOB);
+                }
+                valid = true;
+            }
+        }
+        catch (NumberFormatException ignored)
+        {
+            // handled below
+        }
+        if (!valid)
+        {
+            errorReporter.logWarning("Ignoring error report with invalid name '%s'", fileName);
+        }
+        return valid;
     }
 
     public ErrorReportResult listReports(
@@ -163,87 +467,90 @@ public class H2ErrorReporter
         @Nullable final Date since,
         @Nullable final Date to,
         @Nonnull final Set<String> ids,
+        @Nonnull final Map<Node.Type, Set<String>> sources,
         @Nullable final Long limit,
         @Nullable final Long offset
     )
     {
-        long count = 0;
-        ArrayList<ErrorReport> errors = new ArrayList<>();
-        String where = "1=1";
-
-        if (!ids.isEmpty())
-        {
-            where += " AND ERROR_ID IN ('" + String.join("','", ids) + "')";
-        }
+        flush();
 
-        if (since != null)
-        {
-            where += " AND DATETIME >= '" + new java.sql.Date(since.getTime()) + "'";
-        }
+        ErrorReportResult result = new ErrorReportResult(0, Collections.emptyList());
+        List<Object> params = new ArrayList<>();
+        StringBuilder where = new StringBuilder();
+        appendSourceFilter(where, params, sources);
+        appendFilter(where, params, since, to, true, null, null, ids);
 
-        if (to != null)
-        {
-            where += " AND DATETIME <= '" + new java.sql.Date(to.getTime()) + "'";
-        }
-
-        final String columnsStr = "INSTANCE_EPOCH, ERROR_NR, NODE, MODULE, ERROR_ID, DATETIME, VERSION, PEER," +
-            " EXCEPTION, EXCEPTION_MESSAGE, ORIGIN_FILE, ORIGIN_METHOD, ORIGIN_LINE" + (withText ? ", TEXT" : "");
-        final String countStmtStr = "SELECT COUNT(*) FROM ERRORS WHERE " + where;
         final String selectStmtStr = "SELECT " +
-            columnsStr +
+            (withText ? COLUMNS : COLUMNS.substring(0, COLUMNS.lastIndexOf(','))) +
             " FROM ERRORS" +
             " WHERE " + where +
-            " ORDER BY DATETIME DESC";
-        // ignore offset for now
-        final String stmtStr = limit != null ?
-            selectStmtStr + " OFFSET 0 ROWS FETCH NEXT " + limit + " ROWS ONLY" :
-            selectStmtStr;
+            " ORDER BY DATETIME DESC, ERROR_ID DESC" +
+            " OFFSET ? ROWS" +
+            (limit != null ? " FETCH NEXT ? ROWS ONLY" : "");
         try
         (
             Connection con = dataSource.getConnection();
-            Statement stmt = con.createStatement()
+            PreparedStatement countStmt = con.prepareStatement(
+                "SELECT NODE, MODULE, COUNT(*) FROM ERRORS WHERE " + where + " GROUP BY NODE, MODULE"
+            );
+            PreparedStatement selectStmt = con.prepareStatement(selectStmtStr);
         )
         {
-            ResultSet countResult = stmt.executeQuery(countStmtStr);
-            countResult.next();
-            count = countResult.getLong(1);
-            countResult.close();
+            setParameters(countStmt, params);
+            try (ResultSet countResult = countStmt.executeQuery())
+            {
+                while (countResult.next())
+                {
+                    result.addNodeCount(
+                        countResult.getString(1),
+                        Node.Type.getByValue(countResult.getInt(2)).name(),
+                        countResult.getLong(3)
+                    );
+                }
+            }
 
-            ResultSet rslt = stmt.executeQuery(stmtStr);
-            while (rslt.next())
+            int paramIdx = setParameters(selectStmt, params);
+            selectStmt.setLong(paramIdx++, offset != null ? Math.max(offset, 0) : 0);
+            if (limit != null)
+            {
+                selectStmt.setLong(paramIdx, limit);
+            }
+            try (ResultSet rslt = selectStmt.executeQuery())
             {
-                String text = null;
-                if (withText)
+                while (rslt.next())
                 {
-                    Clob clob = rslt.getClob("TEXT");
-                    // this is how you get the whole string back from a CLOB
-                    text = clob.getSubString(1, (int) clob.length());
+                    String text = null;
+                    if (withText)
+                    {
+                        Clob clob = rslt.getClob("TEXT");
+                        // this is how you get the whole string back from a CLOB
+                        text = clob != null ? clob.getSubString(1, (int) clob.length()) : null;
+                    }
+                    result.getErrorReports().add(
+                        new ErrorReport(
+                            rslt.getString("NODE"),
+                            Node.Type.getByValue(rslt.getInt("MODULE")),
+                            StdErrorReporter.RPT_PREFIX + rslt.getString("ERROR_ID") + StdErrorReporter.RPT_SUFFIX,
+                            rslt.getString("VERSION"),
+                            rslt.getString("PEER"),
+                            rslt.getString("EXCEPTION"),
+                            rslt.getString("EXCEPTION_MESSAGE"),
+                            rslt.getString("ORIGIN_FILE"),
+                            rslt.getString("ORIGIN_METHOD"),
+                            rslt.getInt("ORIGIN_LINE"),
+                            new Date(rslt.getTimestamp("DATETIME").getTime()),
+                            text
+                        )
+                    );
                 }
-                errors.add(
-                    new ErrorReport(
-                        rslt.getString("NODE"),
-                        Node.Type.getByValue(rslt.getInt("MODULE")),
-                        "ErrorReport-" + rslt.getString("ERROR_ID") + ".log",
-                        rslt.getString("VERSION"),
-                        rslt.getString("PEER"),
-                        rslt.getString("EXCEPTION"),
-                        rslt.getString("EXCEPTION_MESSAGE"),
-                        rslt.getString("ORIGIN_FILE"),
-                        rslt.getString("ORIGIN_METHOD"),
-                        rslt.getInt("ORIGIN_LINE"),
-                        new Date(rslt.getTimestamp("DATETIME").getTime()),
-                        text
-                    )
-                );
             }
-            rslt.close();
         }
-        catch(SQLException sqlExc)
+        catch (SQLException sqlExc)
         {
             errorReporter.logError("Unable to operate on error-reports database: " + sqlExc.getMessage());
         }
 
-        return new ErrorReportResult(count, errors);
+        return result;
     }
 
     public ApiCallRc deleteErrorReports(
@@ -251,7 +558,8 @@ public class H2ErrorReporter
         @Nullable final Date to,
         @Nullable final String exception,
         @Nullable final String version,
-        @Nullable final List<String> ids)
+        @Nullable final List<String> ids,
+        @Nonnull final Map<Node.Type, Set<String>> sources)
     {
         ApiCallRcImpl apiCallRc = new ApiCallRcImpl();
 
@@ -261,75 +569,24 @@ public class H2ErrorReporter
             return apiCallRc;
         }
 
+        flush();
+
+        List<Object> params = new ArrayList<>();
+        StringBuilder where = new StringBuilder();
+        appendSourceFilter(where, params, sources);
+        appendFilter(where, params, since, to, false, exception, version, ids);
         try
+        (
+            Connection con = dataSource.getConnection();
+            PreparedStatement pStmt = con.prepareStatement("DELETE FROM ERRORS WHERE " + where);
+        )
         {
-            int index = 1;
-            StringBuilder stmt = new StringBuilder();
-            stmt.append("DELETE FROM ERRORS WHERE 1=1");
-            if (to != null)
-            {
-                stmt.append(" AND DATETIME < ?");
-            }
-            if (since != null)
-            {
-                stmt.append(" AND DATETIME >= ?");
-            }
-            if (exception != null)
-            {
-                stmt.append(" AND EXCEPTION=?");
-            }
-            if (version != null)
-            {
-                stmt.append(" AND VERSION=?");
-            }
-            if (ids != null && !ids.isEmpty())
-            {
-                stmt.append(" AND ERROR_ID in (");
+            setParameters(pStmt, params);
 
-                for (String ignored : ids)
-                {
-                    stmt.append("?,");
-                }
-
-                stmt.deleteCharAt(stmt.length() - 1);
-                stmt.append(")");
-            }
-
-            try
-            (
-                Connection con = dataSource.getConnection();
-                PreparedStatement pStmt = con.prepareStatement(stmt.toString());
-            )
+            final int deleted = pStmt.executeUpdate();
+            if (deleted > 0)
             {
-                if (to != null)
-                {
-                    pStmt.setTimestamp(index++, new java.sql.Timestamp(to.getTime()));
-                }
-                if (since != null)
-                {
-                    pStmt.setTimestamp(index++, new java.sql.Timestamp(since.getTime()));
-                }
-                if (exception != null)
-                {
-                    pStmt.setString(index++, exception);
-                }
-                if (version != null)
-                {
-                    pStmt.setString(index++, version);
-                }
-                if (ids != null)
-                {
-                    for (String id : ids)
-                    {
-                        pStmt.setString(index++, id);
-                    }
-                }
-
-                final int deleted = pStmt.executeUpdate();
-                if (deleted > 0)
-                {
-                    apiCallRc.addEntry(String.format("Deleted %d error-report(s)", deleted), ApiConsts.DELETED);
-                }
+                apiCallRc.addEntry(String.format("Deleted %d error-report(s)", deleted), ApiConsts.DELETED);
             }
         }
         catch (SQLException sqlExc)
@@ -342,8 +599,107 @@ public class H2ErrorReporter
         return apiCallRc;
     }
 
+    /**
+     * Restricts the rows to the given modules. A null set of node names includes all nodes of that module, an empty
+     * one none of them.
+     */
+    private static void appendSourceFilter(
+        StringBuilder where,
+        List<Object> params,
+        Map<Node.Type, Set<String>> sources
+    )
+    {
+        List<String> sourceConditions = new ArrayList<>();
+        for (Map.Entry<Node.Type, Set<String>> source : sources.entrySet())
+        {
+            @Nullable Set<String> nodeNames = source.getValue();
+            if (nodeNames == null)
+            {
+                sourceConditions.add("MODULE = ?");
+                params.add((int) source.getKey().getFlagValue());
+            }
+            else
+            if (!nodeNames.isEmpty())
+            {
+                sourceConditions.add("(MODULE = ? AND NODE IN (" + placeholders(nodeNames.size()) + "))");
+                params.add((int) source.getKey().getFlagValue());
+                params.addAll(nodeNames);
+            }
+        }
+        if (sourceConditions.isEmpty())
+        {
+            where.append("1=0");
+        }
+        else
+        {
+            where.append('(').append(String.join(" OR ", sourceConditions)).append(')');
+        }
+    }
+
+    private static void appendFilter(
+        StringBuilder where,
+        List<Object> params,
+        @Nullable Date since,
+        @Nullable Date to,
+        boolean toInclusive,
+        @Nullable String exception,
+        @Nullable String version,
+        @Nullable Collection<String> ids
+    )
+    {
+        if (since != null)
+        {
+            where.append(" AND DATETIME >= ?");
+            params.add(new Timestamp(since.getTime()));
+        }
+        if (to != null)
+        {
+            where.append(toInclusive ? " AND DATETIME <= ?" : " AND DATETIME < ?");
+            params.add(new Timestamp(to.getTime()));
+        }
+        if (exception != null)
+        {
+            where.append(" AND EXCEPTION = ?");
+            params.add(exception);
+        }
+        if (version != null)
+        {
+            where.append(" AND VERSION = ?");
+            params.add(version);
+        }
+        if (ids != null && !ids.isEmpty())
+        {
+            where.append(" AND ERROR_ID IN (").append(placeholders(ids.size())).append(')');
+            params.addAll(ids);
+        }
+    }
+
+    private static String placeholders(int count)
+    {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    /**
+     * Returns the index of the next unset parameter
+     */
+    private static int setParameters(PreparedStatement stmt, List<Object> params) throws SQLException
+    {
+        int paramIdx = 1;
+        for (Object param : params)
+        {
+            stmt.setObject(paramIdx++, param);
+        }
+        return paramIdx;
+    }
+
     public void shutdown() throws SQLException
     {
+        synchronized (pendingReports)
+        {
+            shutdown = true;
+            pendingReports.notifyAll();
+        }
+        flush();
         dataSource.close();
     }
 }
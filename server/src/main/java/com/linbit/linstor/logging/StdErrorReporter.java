@@ -5,6 +5,7 @@ import com.linbit.linstor.LinStorException;
 import com.linbit.linstor.LinStorRuntimeException;
 import com.linbit.linstor.api.ApiCallRc;
 import com.linbit.linstor.core.LinStor;
+import com.linbit.linstor.core.objects.Node;
 import com.linbit.linstor.dbdrivers.DatabaseException;
 import com.linbit.linstor.netcom.Peer;
 import com.linbit.linstor.security.AccessContext;
@@ -28,11 +29,15 @@ import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -324,11 +329,10 @@ public final class StdErrorReporter extends BaseErrorReporter implements ErrorRe
                 reportNr,
                 client,
                 errorInfo,
-                instanceEpoch,
                 errorTime,
                 nodeName,
                 dmModule,
-                renderedReport.getBytes()
+                renderedReport
             );
 
             logReport(reportNr, errorInfo, logLevel);
@@ -436,7 +440,45 @@ public final class StdErrorReporter extends BaseErrorReporter implements ErrorRe
         @Nullable final Long offset
     )
     {
-        return h2ErrorReporter.listReports(withText, since, to, ids, limit, offset);
+        return h2ErrorReporter.listReports(withText, since, to, ids, ownSource(), limit, offset);
+    }
+
+    @Override
+    public ErrorReportResult listIndexedReports(
+        boolean withOwnReports,
+        @Nonnull final Set<String> satelliteNodes,
+        @Nullable final Date since,
+        @Nullable final Date to,
+        @Nonnull final Set<String> ids,
+        @Nullable final Long limit,
+        @Nullable final Long offset
+    )
+    {
+        Map<Node.Type, Set<String>> sources = new EnumMap<>(Node.Type.class);
+        sources.put(Node.Type.SATELLITE, satelliteNodes);
+        if (withOwnReports)
+        {
+            sources.put(getOwnModuleType(), null);
+        }
+        return h2ErrorReporter.listReports(false, since, to, ids, sources, limit, offset);
+    }
+
+    @Override
+    public void ingestReports(@Nonnull String satelliteNodeName, @Nonnull Collection<ErrorReport> reports)
+    {
+        h2ErrorReporter.ingestReports(satelliteNodeName, reports);
+    }
+
+    @Override
+    public @Nullable Date getLatestIngestedReportTime(@Nonnull String satelliteNodeName)
+    {
+        return h2ErrorReporter.getLatestReportTime(satelliteNodeName);
+    }
+
+    @Override
+    public void setReportListener(@Nullable Consumer<List<ErrorReport>> reportListener)
+    {
+        h2ErrorReporter.setReportListener(reportListener);
     }
 
     @Override
@@ -447,7 +489,39 @@ public final class StdErrorReporter extends BaseErrorReporter implements ErrorRe
         @Nullable final String version,
         @Nullable final List<String> ids)
     {
-        return h2ErrorReporter.deleteErrorReports(since, to, exception, version, ids);
+        return h2ErrorReporter.deleteErrorReports(since, to, exception, version, ids, ownSource());
+    }
+
+    @Override
+    public ApiCallRc deleteIngestedReports(
+        @Nonnull final Set<String> satelliteNodes,
+        @Nullable final Date since,
+        @Nullable final Date to,
+        @Nullable final String exception,
+        @Nullable final String version,
+        @Nullable final List<String> ids)
+    {
+        return h2ErrorReporter.deleteErrorReports(
+            since,
+            to,
+            exception,
+            version,
+            ids,
+            Collections.singletonMap(Node.Type.SATELLITE, satelliteNodes)
+        );
+    }
+
+    private Node.Type getOwnModuleType()
+    {
+        return dmModule.equalsIgnoreCase(LinStor.CONTROLLER_MODULE) ? Node.Type.CONTROLLER : Node.Type.SATELLITE;
+    }
+
+    /**
+     * All reports of this process, but none of the reports replicated from other nodes
+     */
+    private Map<Node.Type, Set<String>> ownSource()
+    {
+        return Collections.singletonMap(getOwnModuleType(), null);
     }
 
     private BasicFileAttributes getAttributes(final Path file)
@@ -0,0 +1,252 @@
+package com.linbit.linstor.netcom;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compression of the payload of {@link MessageTypes#DATA_COMPRESSED} messages.
+ * <br />
+ * The controller offers the algorithms it wants to use in the authentication message, the satellite answers with the
+ * first one it supports (see {@link #negotiate(List)}). Afterwards both sides compress messages that are at least
+ * as large as the threshold configured on the controller. Every compressed payload starts with the id of its
+ * algorithm and the uncompressed size, so any peer that knows the algorithm can decompress it, independent of what
+ * was negotiated.
+ * <br />
+ * The dictionary of {@link #DEFLATE_DICT_V1} must never change, as both peers need the exact same bytes. A new
+ * dictionary has to be added as a new algorithm.
+ */
+public final class FrameCompression
+{
+    public static final String NONE = "none";
+    public static final String DEFLATE = "deflate";
+    public static final String DEFLATE_DICT_V1 = "deflate-dict-v1";
+
+    /**
+     * Supported algorithms in the order of preference
+     */
+    public static final List<String> SUPPORTED = List.of(DEFLATE_DICT_V1, DEFLATE);
+
+    private static final byte ID_DEFLATE = 1;
+    private static final byte ID_DEFLATE_DICT_V1 = 2;
+
+    // 1 byte algorithm id, 4 bytes uncompressed size
+    private static final int PAYLOAD_HEADER_SIZE = 5;
+
+    // Protects against payloads that claim to decompress to an absurd size
+    private static final int MAX_DECOMPRESSED_SIZE = 16 * Message.DEFAULT_MAX_DATA_SIZE;
+
+    /**
+     * Strings that occur in almost every full sync and update message, mostly property keys and values. Deflate
+     * prefers matches that are close to the data, so the most common strings are at the end.
+     */
+    private static final byte[] DICTIONARY_V1 = String.join(
+        "\0",
+        "SnapshotShippingNamePrev",
+        "BackupShipping/",
+        "Satellite/EBS/",
+        "StorDriver/internal/AllocationGranularity",
+        "StorDriver/Openflex/",
+        "StorDriver/Exos/",
+        "StorDriver/FileDir",
+        "StorDriver/ZPoolThin",
+        "StorDriver/ZPool",
+        "StorDriver/ThinPool",
+        "StorDriver/LvmVg",
+        "StorPoolNameDrbdMeta",
+        "DrbdOptions/Handlers/",
+        "DrbdOptions/Disk/rs-discard-granularity",
+        "DrbdOptions/Disk/discard-zeroes-if-aligned",
+        "DrbdOptions/Disk/al-extents",
+        "DrbdOptions/Disk/disk-flushes",
+        "DrbdOptions/Disk/md-flushes",
+        "DrbdOptions/PeerDevice/c-fill-target",
+        "DrbdOptions/PeerDevice/c-max-rate",
+        "DrbdOptions/Net/max-buffers",
+        "DrbdOptions/Net/rcvbuf-size",
+        "DrbdOptions/Net/sndbuf-size",
+        "DrbdOptions/Net/allow-two-primaries",
+        "DrbdOptions/Net/protocol",
+        "DrbdOptions/Resource/on-no-data-accessible",
+        "DrbdOptions/Resource/on-no-quorum",
+        "DrbdOptions/Resource/quorum",
+        "DrbdOptions/Resource/node-id",
+        "DrbdOptions/auto-verify-alg",
+        "DrbdOptions/auto-add-quorum-tiebreaker",
+        "DrbdOptions/auto-quorum",
+        "DrbdCurrentGi",
+        "DrbdPrimarySetOn",
+        "FileSystem/Type",
+        "Aux/csi-volume-annotations",
+        "Aux/csi-provisioner",
+        "linstor.csi.linbit.com",
+        "io-error",
+        "suspend-io",
+        "majority",
+        "STORAGE",
+        "LVM_THIN",
+        "ZFS_THIN",
+        "DISKLESS",
+        "DRBD",
+        "StorPoolName",
+        "StorDriver/StorPoolName",
+        "NodeName",
+        "CurStltConnName",
+        "PrefNic",
+        "default"
+    ).getBytes(StandardCharsets.UTF_8);
+
+    private static final ThreadLocal<Deflater> DEFLATER = ThreadLocal.withInitial(
+        () -> new Deflater(Deflater.BEST_SPEED)
+    );
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(Inflater::new);
+
+    private final byte algorithmId;
+    private final int threshold;
+
+    private FrameCompression(byte algorithmIdRef, int thresholdRef)
+    {
+        algorithmId = algorithmIdRef;
+        threshold = thresholdRef;
+    }
+
+    /**
+     * Returns the compression for the given algorithm, or null if the algorithm is unknown or {@link #NONE}
+     *
+     * @param threshold Messages smaller than this many bytes are not compressed
+     */
+    public static @Nullable FrameCompression create(@Nullable String algorithm, int threshold)
+    {
+        @Nullable FrameCompression compression;
+        if (DEFLATE_DICT_V1.equals(algorithm))
+        {
+            compression = new FrameCompression(ID_DEFLATE_DICT_V1, threshold);
+        }
+        else
+        if (DEFLATE.equals(algorithm))
+        {
+            compression = new FrameCompression(ID_DEFLATE, threshold);
+        }
+        else
+        {
+            compression = null;
+        }
+        return compression;
+    }
+
+    /**
+     * Returns the first of the offered algorithms that is supported, or {@link #NONE}
+     */
+    public static String negotiate(List<String> offeredAlgorithms)
+    {
+        String chosen = NONE;
+        for (String algorithm : offeredAlgorithms)
+        {
+            if (SUPPORTED.contains(algorithm))
+            {
+                chosen = algorithm;
+                break;
+            }
+        }
+        return chosen;
+    }
+
+    /**
+     * Returns the compressed payload, or null if the data is smaller than the threshold or does not compress well
+     * enough to be worth it
+     */
+    public @Nullable byte[] compress(byte[] data)
+    {
+        @Nullable byte[] compressed = null;
+        if (data.length >= threshold && data.length > PAYLOAD_HEADER_SIZE)
+        {
+            Deflater deflater = DEFLATER.get();
+            deflater.reset();
+            if (algorithmId == ID_DEFLATE_DICT_V1)
+            {
+                deflater.setDictionary(DICTIONARY_V1);
+            }
+            deflater.setInput(data);
+            deflater.finish();
+
+            // only worth it if the result is smaller than the uncompressed data
+            byte[] buffer = new byte[data.length];
+            buffer[0] = algorithmId;
+            ByteBuffer.wrap(buffer).putInt(1, data.length);
+            int compressedSize = PAYLOAD_HEADER_SIZE;
+            int deflated = 1;
+            while (!deflater.finished() && deflated > 0 && compressedSize < buffer.length)
+            {
+                deflated = deflater.deflate(buffer, compressedSize, buffer.length - compressedSize);
+                compressedSize += deflated;
+            }
+            if (deflater.finished())
+            {
+                compressed = Arrays.copyOf(buffer, compressedSize);
+            }
+        }
+        return compressed;
+    }
+
+    /**
+     * Decompresses the payload of a {@link MessageTypes#DATA_COMPRESSED} message
+     *
+     * @throws IOException if the algorithm is unknown or the payload is corrupt
+     */
+    public static byte[] decompress(byte[] payload) throws IOException
+    {
+        if (payload.length < PAYLOAD_HEADER_SIZE)
+        {
+            throw new IOException("Compressed message payload is too short: " + payload.length + " bytes");
+        }
+        byte payloadAlgorithmId = payload[0];
+        if (payloadAlgorithmId != ID_DEFLATE && payloadAlgorithmId != ID_DEFLATE_DICT_V1)
+        {
+            throw new IOException("Unknown compression algorithm id " + payloadAlgorithmId);
+        }
+        int size = ByteBuffer.wrap(payload).getInt(1);
+        if (size < 0 || size > MAX_DECOMPRESSED_SIZE)
+        {
+            throw new IOException("Invalid uncompressed message size " + size);
+        }
+
+        byte[] data = new byte[size];
+        Inflater inflater = INFLATER.get();
+        inflater.reset();
+        inflater.setInput(payload, PAYLOAD_HEADER_SIZE, payload.length - PAYLOAD_HEADER_SIZE);
+        try
+        {
+            int dataSize = 0;
+            boolean progress = true;
+            while (progress && !inflater.finished())
+            {
+                int inflated = inflater.inflate(data, dataSize, data.length - dataSize);
+                dataSize += inflated;
+                if (inflated == 0 && inflater.needsDictionary() && payloadAlgorithmId == ID_DEFLATE_DICT_V1)
+                {
+                    inflater.setDictionary(DICTIONARY_V1);
+                }
+                else
+                {
+                    progress = inflated > 0;
+                }
+            }
+            if (!inflater.finished() || dataSize != size)
+            {
+                throw new IOException("Corrupt compressed message payload");
+            }
+        }
+        catch (DataFormatException formatExc)
+        {
+            throw new IOException("Corrupt compressed message payload", formatExc);
+        }
+        return data;
+    }
+}
@@ -30,6 +30,8 @@ public interface Message
 
     int getType() throws IllegalMessageStateException;
 
+    void setType(int type) throws IllegalMessageStateException;
+
     ByteBuffer getHeaderBuffer();
 
     ByteBuffer getDataBuffer() throws IllegalMessageStateException;
@@ -9,7 +9,8 @@ import java.util.Arrays;
  */
 public class MessageData implements Message
 {
-    // TODO: Use ByteBuffer.allocateDirect(...) instead of ByteBuffer.wrap(...)
+    // Heap buffers are intended, allocating a direct buffer per message would be more expensive than copying.
+    // Outbound headers are copied into the peer's direct buffer, see TcpConnectorPeer#write
     protected final ByteBuffer headerBuffer;
     protected ByteBuffer dataBuffer;
 
@@ -56,6 +57,16 @@ public class MessageData implements Message
         return headerBuffer.getInt(TYPE_FIELD_OFFSET);
     }
 
+    @Override
+    public void setType(int type) throws IllegalMessageStateException
+    {
+        if (!forSend)
+        {
+            throw new IllegalMessageStateException("Attempt to set the type of a received message");
+        }
+        headerBuffer.putInt(TYPE_FIELD_OFFSET, type);
+    }
+
     protected final void reset()
     {
         Arrays.fill(headerBytes, (byte) 0);
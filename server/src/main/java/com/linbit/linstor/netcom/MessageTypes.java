@@ -7,6 +7,9 @@ public class MessageTypes
     public static final int PING = 1;
     public static final int PONG = 2;
 
+    // DATA message with a compressed payload, see FrameCompression
+    public static final int DATA_COMPRESSED = 3;
+
     private MessageTypes()
     {
     }
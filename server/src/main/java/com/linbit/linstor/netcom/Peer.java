@@ -22,6 +22,7 @@ import java.util.concurrent.locks.ReadWriteLock;
 
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * Represents the peer of a connection
@@ -122,6 +123,19 @@ public interface Peer
         return sendMessage(data);
     }
 
+    /**
+     * Like {@link #sendMessage(byte[])}, but the message is only queued once the peer's outbound queue has room
+     * for it, which lets producers of many messages adapt to a slow peer instead of overflowing the queue.
+     *
+     * @param data
+     *
+     * @return A Mono emitting the result of {@link #sendMessage(byte[])}
+     */
+    default Mono<Boolean> sendMessageWithBackpressure(byte[] data)
+    {
+        return Mono.fromSupplier(() -> sendMessage(data));
+    }
+
     /**
      * Get a zero-based sequence number for this peer.
      */
@@ -197,9 +211,9 @@ public interface Peer
     /**
      * Returns the capacity of the queue for outbound messages
      *
-     * @return Capacity of the outbound messages queue
+     * @return Maximum data size of the queued outbound messages in bytes
      */
-    int outQueueCapacity();
+    long outQueueCapacity();
 
     /**
      * Returns the number of currently queued outbound messages
@@ -208,6 +222,13 @@ public interface Peer
      */
     int outQueueCount();
 
+    /**
+     * Returns the data size of the currently queued outbound messages
+     *
+     * @return Data size of the currently queued outbound messages in bytes
+     */
+    long outQueueSize();
+
     /**
      * Returns the number of messages that were sent to the peer
      *
@@ -202,7 +202,7 @@ public class PeerOffline implements Peer
     }
 
     @Override
-    public int outQueueCapacity()
+    public long outQueueCapacity()
     {
         return 0;
     }
@@ -213,6 +213,12 @@ public class PeerOffline implements Peer
         return 0;
     }
 
+    @Override
+    public long outQueueSize()
+    {
+        return 0;
+    }
+
     @Override
     public long msgSentCount()
     {
@@ -194,7 +194,7 @@ public class PeerREST implements Peer
     }
 
     @Override
-    public int outQueueCapacity()
+    public long outQueueCapacity()
     {
         return 0;
     }
@@ -205,6 +205,12 @@ public class PeerREST implements Peer
         return 0;
     }
 
+    @Override
+    public long outQueueSize()
+    {
+        return 0;
+    }
+
     @Override
     public long msgSentCount()
     {
@@ -192,7 +192,7 @@ public class PeerTask implements Peer
     }
 
     @Override
-    public int outQueueCapacity()
+    public long outQueueCapacity()
     {
         return 0;
     }
@@ -203,6 +203,12 @@ public class PeerTask implements Peer
         return 0;
     }
 
+    @Override
+    public long outQueueSize()
+    {
+        return 0;
+    }
+
     @Override
     public long msgSentCount()
     {
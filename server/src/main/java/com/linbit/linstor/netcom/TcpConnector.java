@@ -24,6 +24,12 @@ public interface TcpConnector extends SystemService
      */
     void closeConnection(TcpConnectorPeer peerObj, boolean allowReconnect);
 
+    /**
+     * Closes the connection to the peer from the selector thread the peer is registered with, allowing a reconnect.
+     * Returns immediately, for callers that must not run the connection observers themselves.
+     */
+    void closeConnectionDeferred(TcpConnectorPeer peerObj);
+
     /**
      * Wakes up the connector's selector
      */
@@ -27,10 +27,12 @@ import java.nio.ByteBuffer;
 import java.nio.channels.SelectableChannel;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -43,12 +45,15 @@ import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Function;
 
+import io.prometheus.client.Counter;
 import io.prometheus.client.Histogram;
 import org.reactivestreams.Publisher;
 import org.slf4j.MDC;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
 import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
 import reactor.util.function.Tuple2;
 import reactor.util.function.Tuples;
 
@@ -92,6 +97,15 @@ public class TcpConnectorPeer implements Peer
 
     private final CommonSerializer commonSerializer;
 
+    /**
+     * Default limit for the data size of the queued outbound messages, see {@link #sendMessage(Message)}
+     */
+    public static final long DEFAULT_OUT_QUEUE_MAX_BYTES = 64L << 20;
+
+    // Limits for the number of queued messages that are sent by a single gathering write
+    private static final int MAX_WRITE_BATCH_MSGS = 64;
+    private static final long MAX_WRITE_BATCH_BYTES = 1L << 20;
+
     private final String peerId;
 
     private final TcpConnector connector;
@@ -103,9 +117,31 @@ public class TcpConnectorPeer implements Peer
     protected Message msgOut;
 
     // Queue of pending outbound messages
-    // TODO: Put a capacity limit on the maximum number of queued outbound messages
     protected final Deque<Message> msgOutQueue;
 
+    // Data size of msgOut and the messages in msgOutQueue, limited to outQueueMaxBytes
+    private long outQueueBytes = 0;
+    private long outQueueMaxBytes = DEFAULT_OUT_QUEUE_MAX_BYTES;
+
+    // Senders of sendMessageWithBackpressure waiting for the outbound queue to drain
+    private final List<Sinks.Empty<Void>> outQueueWaiters = new ArrayList<>();
+
+    // Set once the outbound queue overflowed, the connection is closed by the connector's selector thread
+    private boolean outQueueOverflow = false;
+
+    // Header and data buffers of msgOut and the queued messages following it, sent by gathering writes.
+    // The headers are copied into slices of outHeaderBuffer, the data buffers are used as they are.
+    private final ByteBuffer outHeaderBuffer;
+    private final ByteBuffer[] outBatch;
+    private int outBatchOffset = 0;
+    private int outBatchEnd = 0;
+
+    // Compression of outbound DATA messages, null until negotiated during the authentication
+    private volatile @Nullable FrameCompression frameCompression;
+
+    private final Counter.Child sentBytesCounter;
+    private final Counter.Child sentMsgsCounter;
+
     protected SelectionKey selKey;
 
     private AccessContext peerAccCtx;
@@ -174,6 +210,10 @@ public class TcpConnectorPeer implements Peer
         connector = connectorRef;
         node = nodeRef;
         msgOutQueue = new LinkedList<>();
+        outHeaderBuffer = ByteBuffer.allocateDirect(MAX_WRITE_BATCH_MSGS * Message.HEADER_SIZE);
+        outBatch = new ByteBuffer[MAX_WRITE_BATCH_MSGS * 2];
+        sentBytesCounter = LinstorServerMetrics.peerSentBytesCounter.labels(peerId);
+        sentMsgsCounter = LinstorServerMetrics.peerSentMessagesCounter.labels(peerId);
 
         // Do not use createMessage() here!
         // The SslTcpConnectorPeer has not initialized SSLEngine instance yet,
@@ -293,6 +333,16 @@ public class TcpConnectorPeer implements Peer
         return new MessageData(forSend);
     }
 
+    /**
+     * Queues the message for sending.
+     * <br />
+     * Control messages without data, like PING and PONG, are always queued. Other messages are only queued while
+     * the data of the queued messages stays within the limit set by {@link #setOutQueueMaxBytes(long)}. If the
+     * outbound queue is full, the peer has not read its data for a long time. The message is not queued, this
+     * method returns false as if the peer was not connected, and the connection is closed. The sender is never
+     * blocked, as it might hold locks that other threads need. Senders that can wait should use
+     * {@link #sendMessageWithBackpressure(byte[])} instead.
+     */
     @Override
     public boolean sendMessage(Message msg)
         throws IllegalMessageStateException
@@ -300,33 +350,57 @@ public class TcpConnectorPeer implements Peer
         boolean connFlag = connected;
         if (connFlag)
         {
+            long msgSize = msg.getData().length;
             synchronized (this)
             {
-                long msgSize = msg.getData().length;
-                if (msgSize > msgSentSizePeak)
+                boolean controlMsg = msgSize == 0;
+                if (outQueueOverflow || !controlMsg && msgOut != null && outQueueBytes + msgSize > outQueueMaxBytes)
                 {
-                    msgSentSizePeak = msgSize;
-                }
-
-                // Queue the message for sending
-                if (msgOut == null)
-                {
-                    msgOut = msg;
+                    connFlag = false;
+                    if (!outQueueOverflow)
+                    {
+                        outQueueOverflow = true;
+                        errorReporter.logWarning(
+                            "Outbound message queue of peer '%s' is full (%d messages, %d bytes), " +
+                                "closing the connection",
+                            peerId,
+                            msgOutQueue.size() + 1,
+                            outQueueBytes
+                        );
+                        // closing the connection runs the connection observers, which must not happen on the
+                        // sending thread
+                        connector.closeConnectionDeferred(this);
+                    }
                 }
                 else
                 {
-                    msgOutQueue.add(msg);
-                }
+                    if (msgSize > msgSentSizePeak)
+                    {
+                        msgSentSizePeak = msgSize;
+                    }
+                    outQueueBytes += msgSize;
 
-                try
-                {
-                    enableInterestOps(OP_WRITE);
-                    connector.wakeup();
-                }
-                catch (IllegalStateException illState)
-                {
-                    // No-op; Subclasses of illState can be thrown
-                    // when the connection has been closed
+                    // Queue the message for sending
+                    if (msgOut == null)
+                    {
+                        msgOut = msg;
+                    }
+                    else
+                    {
+                        msgOutQueue.add(msg);
+                    }
+
+                    try
+                    {
+                        enableInterestOps(OP_WRITE);
+                        // only wake up the selector loop this connection is registered with
+                        selKey.selector().wakeup();
+                    }
+                    catch (IllegalStateException illState)
+                    {
+                        // No-op; Subclasses of illState can be thrown
+                        // when the connection has been closed
+                    }
                 }
             }
         }
@@ -380,7 +454,17 @@ public class TcpConnectorPeer implements Peer
         try
         {
             Message msg = createMessage();
-            msg.setData(data);
+            @Nullable FrameCompression compression = frameCompression;
+            @Nullable byte[] compressedData = compression == null ? null : compression.compress(data);
+            if (compressedData == null)
+            {
+                msg.setData(data);
+            }
+            else
+            {
+                msg.setType(MessageTypes.DATA_COMPRESSED);
+                msg.setData(compressedData);
+            }
             isConnected = sendMessage(msg);
         }
         catch (IllegalMessageStateException exc)
@@ -393,6 +477,62 @@ public class TcpConnectorPeer implements Peer
         return isConnected;
     }
 
+    /**
+     * Waits for the outbound queue to drain below half of its limit before queueing the message, so that a producer
+     * of many messages, like an event stream, cannot fill the queue. The waiting happens asynchronously, no thread
+     * is blocked.
+     */
+    @Override
+    public Mono<Boolean> sendMessageWithBackpressure(byte[] data)
+    {
+        return Mono.defer(this::outQueueDrained).then(Mono.fromSupplier(() -> sendMessage(data)));
+    }
+
+    private Mono<Void> outQueueDrained()
+    {
+        Mono<Void> drained;
+        synchronized (this)
+        {
+            if (!connected || outQueueBytes <= outQueueMaxBytes / 2)
+            {
+                drained = Mono.empty();
+            }
+            else
+            {
+                Sinks.Empty<Void> waiter = Sinks.empty();
+                outQueueWaiters.add(waiter);
+                // the waiters are released by the selector thread, which must not run the sender's code
+                drained = waiter.asMono().publishOn(Schedulers.parallel());
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * Releases the senders waiting in {@link #sendMessageWithBackpressure(byte[])}. Must be called while holding
+     * this peer's lock.
+     */
+    private void releaseOutQueueWaiters()
+    {
+        for (Sinks.Empty<Void> waiter : outQueueWaiters)
+        {
+            waiter.tryEmitEmpty();
+        }
+        outQueueWaiters.clear();
+    }
+
+    /**
+     * Sets the limit for the data size of the queued outbound messages.
+     */
+    public synchronized void setOutQueueMaxBytes(long outQueueMaxBytesRef)
+    {
+        if (outQueueMaxBytesRef <= 0)
+        {
+            throw new IllegalArgumentException("Outbound queue limit must be positive: " + outQueueMaxBytesRef);
+        }
+        outQueueMaxBytes = outQueueMaxBytesRef;
+    }
+
     @Override
     public boolean sendMessage(byte[] data, String apiCall)
     {
@@ -550,6 +690,9 @@ public class TcpConnectorPeer implements Peer
         // deactivate all interest in READ or WRITE operations
         setInterestOps(0);
 
+        LinstorServerMetrics.peerSentBytesCounter.remove(peerId);
+        LinstorServerMetrics.peerSentMessagesCounter.remove(peerId);
+
         synchronized (openRpcs)
         {
             // preventing ConcurrentModificationException with "#apiCall's fluxSink.onDispose(...openRpcs.remove(...))
@@ -560,6 +703,11 @@ public class TcpConnectorPeer implements Peer
             }
             openRpcs.clear(); // basically no-op, more for documentation purpose
         }
+        synchronized (this)
+        {
+            // the waiting senders fail, as the peer is no longer connected
+            releaseOutQueueWaiters();
+        }
     }
 
     @Override
@@ -651,6 +799,18 @@ public class TcpConnectorPeer implements Peer
     {
         synchronized (this)
         {
+            try
+            {
+                outQueueBytes -= msgOut.getData().length;
+            }
+            catch (IllegalMessageStateException exc)
+            {
+                throw new ImplementationError("Outbound message without data was sent", exc);
+            }
+            if (!outQueueWaiters.isEmpty() && outQueueBytes <= outQueueMaxBytes / 2)
+            {
+                releaseOutQueueWaiters();
+            }
             msgOut = msgOutQueue.pollFirst();
             if (msgOut == null)
             {
@@ -667,6 +827,21 @@ public class TcpConnectorPeer implements Peer
             }
             ++msgSentCtr;
         }
+        sentMsgsCounter.inc();
+    }
+
+    /**
+     * Sets the compression for outbound DATA messages that was negotiated with the peer, or null to send them
+     * uncompressed. Compressed inbound messages are always accepted.
+     */
+    public void setFrameCompression(@Nullable FrameCompression frameCompressionRef)
+    {
+        frameCompression = frameCompressionRef;
+    }
+
+    protected void countSentBytes(long byteCount)
+    {
+        sentBytesCounter.inc(byteCount);
     }
 
     @Override
@@ -696,9 +871,9 @@ public class TcpConnectorPeer implements Peer
     }
 
     @Override
-    public int outQueueCapacity()
+    public synchronized long outQueueCapacity()
     {
-        return Integer.MAX_VALUE;
+        return outQueueMaxBytes;
     }
 
     @Override
@@ -707,6 +882,12 @@ public class TcpConnectorPeer implements Peer
         return msgOutQueue.size();
     }
 
+    @Override
+    public synchronized long outQueueSize()
+    {
+        return outQueueBytes;
+    }
+
     @Override
     public long msgSentCount()
     {
@@ -1020,59 +1201,75 @@ public class TcpConnectorPeer implements Peer
         return state;
     }
 
+    /**
+     * Sends as much of the outbound messages as the socket accepts. msgOut and the messages queued after it are
+     * combined into a single gathering write, so that a burst of small messages only needs a single system call.
+     */
     public WriteState write(SocketChannel outChannel)
         throws IllegalMessageStateException, IOException
     {
-        WriteState state = WriteState.UNFINISHED;
-        switch (currentWritePhase)
+        if (outBatchOffset == outBatchEnd)
         {
-            case HEADER:
-                {
-                    ByteBuffer headerBuffer = msgOut.getHeaderBuffer();
-                    outChannel.write(headerBuffer);
-                    if (!headerBuffer.hasRemaining())
-                    {
-                        currentWritePhase = currentWritePhase.getNextPhase();
-                        state = writeData(outChannel, state);
-                    }
-                }
-                break;
-            case DATA:
-                state = writeData(outChannel, state);
-                break;
-            default:
-                throw new ImplementationError(
-                    String.format(
-                        "Missing case label for enum member '%s'",
-                        currentWritePhase.name()
-                    ),
-                    null
-                );
+            prepareOutBatch();
         }
-        if (state == WriteState.FINISHED)
+        long writeSize = outChannel.write(outBatch, outBatchOffset, outBatchEnd - outBatchOffset);
+        countSentBytes(writeSize);
+
+        WriteState state = WriteState.UNFINISHED;
+        while (outBatchOffset < outBatchEnd && !outBatch[outBatchOffset].hasRemaining())
         {
-            currentWritePhase = Phase.HEADER;
-            nextOutMessage();
+            // do not keep the sent data reachable
+            outBatch[outBatchOffset] = null;
+            ++outBatchOffset;
+            if (outBatchOffset % 2 == 0)
+            {
+                // header and data of a message have been sent
+                state = WriteState.FINISHED;
+                nextOutMessage();
+            }
         }
         return state;
     }
 
-    private WriteState writeData(SocketChannel outChannel, WriteState stateRef)
-        throws IOException, IllegalMessageStateException
+    private void prepareOutBatch() throws IllegalMessageStateException
     {
-        WriteState state = stateRef;
-        ByteBuffer dataBuffer = msgOut.getDataBuffer();
-        outChannel.write(dataBuffer);
-        if (!dataBuffer.hasRemaining())
+        outHeaderBuffer.clear();
+        int batchEnd = 0;
+        long batchBytes = 0;
+        synchronized (this)
         {
-            // Finished sending the message
-            state = WriteState.FINISHED;
-            currentWritePhase = currentWritePhase.getNextPhase();
+            // msgOut is always sent, even if it is larger than MAX_WRITE_BATCH_BYTES
+            Message msg = msgOut;
+            Iterator<Message> msgOutQueueIt = msgOutQueue.iterator();
+            while (msg != null)
+            {
+                ByteBuffer headerSlice = outHeaderBuffer.slice();
+                headerSlice.limit(Message.HEADER_SIZE);
+                headerSlice.put(msg.getHeaderBuffer());
+                headerSlice.flip();
+                outHeaderBuffer.position(outHeaderBuffer.position() + Message.HEADER_SIZE);
+
+                ByteBuffer dataBuffer = msg.getDataBuffer();
+                outBatch[batchEnd] = headerSlice;
+                outBatch[batchEnd + 1] = dataBuffer;
+                batchEnd += 2;
+                batchBytes += Message.HEADER_SIZE + dataBuffer.remaining();
+
+                if (batchEnd < outBatch.length && batchBytes < MAX_WRITE_BATCH_BYTES && msgOutQueueIt.hasNext())
+                {
+                    msg = msgOutQueueIt.next();
+                }
+                else
+                {
+                    msg = null;
+                }
+            }
         }
-        return state;
+        outBatchOffset = 0;
+        outBatchEnd = batchEnd;
+        LinstorServerMetrics.peerWriteBatchHistogram.observe(batchEnd / 2);
     }
 
-
     protected void addToQueue(Message msg)
     {
         try
@@ -46,7 +46,10 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.ListIterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.MDC;
 import org.slf4j.event.Level;
@@ -71,8 +74,6 @@ public class TcpConnectorService implements Runnable, TcpConnector
     private static final ServiceName SERVICE_NAME;
     private static final String SERVICE_INFO = "TCP/IP network communications service";
 
-    private final Object syncObj = new Object();
-
     protected ServiceName serviceInstanceName;
 
     private static final long REINIT_THROTTLE_TIME = 3000L;
@@ -98,8 +99,18 @@ public class TcpConnectorService implements Runnable, TcpConnector
     // Set by shutdown() to shut down the selector loop
     private AtomicBoolean shutdownFlag;
 
-    // Selector loop thread
-    private Thread selectorLoopThread;
+    // Selector loop accepting connections; also handles the connections if selectorThreadCount is 0
+    private final SelectorLoop mainLoop = new SelectorLoop();
+
+    // Number of additional selector loops that the established connections are distributed across
+    private int selectorThreadCount = 0;
+
+    // Selector loops for established connections, only contains mainLoop if selectorThreadCount is 0
+    private volatile SelectorLoop[] peerLoops = new SelectorLoop[] {mainLoop};
+    private final AtomicInteger nextPeerLoopIdx = new AtomicInteger();
+
+    // Limit for the data size of the queued outbound messages of each connection
+    private volatile long outQueueMaxBytes = TcpConnectorPeer.DEFAULT_OUT_QUEUE_MAX_BYTES;
 
     private ConnectionObserver connObserver;
 
@@ -170,9 +181,6 @@ public class TcpConnectorService implements Runnable, TcpConnector
     // Privileged access context for e.g. setting peer to node
     private final AccessContext privilegedAccCtx;
 
-    // Selector for all connections
-    Selector serverSelector;
-
 
     public TcpConnectorService(
         ErrorReporter errorReporterRef,
@@ -191,7 +199,6 @@ public class TcpConnectorService implements Runnable, TcpConnector
         serviceInstanceName = SERVICE_NAME;
 
         serverSocket    = null;
-        serverSelector  = null;
         errorReporter   = errorReporterRef;
         commonSerializer = commonSerializerRef;
         msgProcessor    = msgProcessorRef;
@@ -209,9 +216,10 @@ public class TcpConnectorService implements Runnable, TcpConnector
     public Peer connect(InetSocketAddress address, Node node) throws IOException
     {
         errorReporter.logInfo("Establishing connection to node '%s' via %s ...", node.getName(), address);
-        Selector srvSel = serverSelector;
+        SelectorLoop peerLoop = nextPeerLoop();
+        Selector srvSel = peerLoop.selector;
         Peer peer;
-        if (srvSel != null)
+        if (mainLoop.selector != null && srvSel != null)
         {
             SocketChannel socketChannel = null;
             try
@@ -221,7 +229,7 @@ public class TcpConnectorService implements Runnable, TcpConnector
                 socketChannel.socket().setTcpNoDelay(true);
                 String peerId = address.getAddress().getHostAddress() + ":" + address.getPort();
                 SelectionKey connKey;
-                synchronized (syncObj)
+                synchronized (peerLoop.syncObj)
                 {
                     srvSel.wakeup();
                     try
@@ -250,7 +258,9 @@ public class TcpConnectorService implements Runnable, TcpConnector
                         // and we will need to call the finishConnection()
                         connKey = socketChannel.register(srvSel, OP_CONNECT);
                     }
-                    peer = createTcpConnectorPeer(peerId, connKey, true, node);
+                    TcpConnectorPeer connPeer = createTcpConnectorPeer(peerId, connKey, true, node);
+                    connPeer.setOutQueueMaxBytes(outQueueMaxBytes);
+                    peer = connPeer;
                     connKey.attach(peer);
                     if (connected)
                     {
@@ -383,11 +393,12 @@ public class TcpConnectorService implements Runnable, TcpConnector
     public synchronized void start()
         throws SystemServiceStartException
     {
-        if (selectorLoopThread == null)
+        if (mainLoop.thread == null)
         {
             try
             {
                 initialize();
+                initializePeerLoops();
             }
             catch (IOException ioExc)
             {
@@ -410,21 +421,171 @@ public class TcpConnectorService implements Runnable, TcpConnector
                     false
                 );
             }
-            selectorLoopThread = new Thread(this);
-            selectorLoopThread.setName(serviceInstanceName.getDisplayName());
-            selectorLoopThread.start();
+            for (SelectorLoop peerLoop : peerLoops)
+            {
+                if (peerLoop != mainLoop)
+                {
+                    peerLoop.thread.start();
+                }
+            }
+            mainLoop.thread = new Thread(this);
+            mainLoop.thread.setName(serviceInstanceName.getDisplayName());
+            mainLoop.thread.start();
+        }
+    }
+
+    /**
+     * Sets the number of selector threads that the established connections are distributed across, in addition to
+     * the thread accepting new connections. If set to 0, the accepting thread also handles all connections.
+     * Only has an effect if called before the service is started.
+     */
+    public synchronized void setSelectorThreadCount(int selectorThreadCountRef)
+    {
+        if (selectorThreadCountRef < 0)
+        {
+            throw new IllegalArgumentException("Negative selector thread count: " + selectorThreadCountRef);
+        }
+        selectorThreadCount = selectorThreadCountRef;
+    }
+
+    /**
+     * Sets the limit for the data size of the queued outbound messages of each connection, see
+     * {@link TcpConnectorPeer#sendMessage(Message)}. Only affects connections established afterwards.
+     */
+    public void setOutQueueMaxBytes(long outQueueMaxBytesRef)
+    {
+        if (outQueueMaxBytesRef <= 0)
+        {
+            throw new IllegalArgumentException("Outbound queue limit must be positive: " + outQueueMaxBytesRef);
+        }
+        outQueueMaxBytes = outQueueMaxBytesRef;
+    }
+
+    private void initializePeerLoops() throws IOException
+    {
+        if (selectorThreadCount == 0)
+        {
+            peerLoops = new SelectorLoop[] {mainLoop};
+        }
+        else
+        {
+            SelectorLoop[] loops = new SelectorLoop[selectorThreadCount];
+            try
+            {
+                for (int idx = 0; idx < loops.length; ++idx)
+                {
+                    loops[idx] = createPeerLoop();
+                }
+            }
+            catch (IOException ioExc)
+            {
+                for (SelectorLoop peerLoop : loops)
+                {
+                    if (peerLoop != null)
+                    {
+                        peerLoop.selector.close();
+                    }
+                }
+                uninitialize();
+                throw ioExc;
+            }
+            peerLoops = loops;
+            setPeerLoopThreadNames();
+        }
+    }
+
+    private SelectorLoop createPeerLoop() throws IOException
+    {
+        final SelectorLoop peerLoop = new SelectorLoop();
+        peerLoop.selector = Selector.open();
+        peerLoop.thread = new Thread(() -> runPeerLoop(peerLoop));
+        return peerLoop;
+    }
+
+    /**
+     * Removes a selector loop that stopped because of an error, so that no new connections are assigned to it
+     */
+    private synchronized void removePeerLoop(SelectorLoop failedLoop)
+    {
+        SelectorLoop[] loops = peerLoops;
+        int failedIdx = Arrays.asList(loops).indexOf(failedLoop);
+        if (failedIdx >= 0)
+        {
+            if (loops.length > 1)
+            {
+                SelectorLoop[] newLoops = new SelectorLoop[loops.length - 1];
+                System.arraycopy(loops, 0, newLoops, 0, failedIdx);
+                System.arraycopy(loops, failedIdx + 1, newLoops, failedIdx, newLoops.length - failedIdx);
+                peerLoops = newLoops;
+            }
+            else
+            {
+                // the main loop handles new connections until a new selector loop is added
+                peerLoops = new SelectorLoop[] {mainLoop};
+            }
+            setPeerLoopThreadNames();
         }
     }
 
+    /**
+     * Adds and starts a new selector loop, replacing one that was removed by {@link #removePeerLoop}
+     */
+    private synchronized void addPeerLoop()
+    {
+        if (!shutdownFlag.get())
+        {
+            try
+            {
+                SelectorLoop newLoop = createPeerLoop();
+                SelectorLoop[] loops = peerLoops;
+                SelectorLoop[] newLoops;
+                if (loops.length == 1 && loops[0] == mainLoop)
+                {
+                    newLoops = new SelectorLoop[] {newLoop};
+                }
+                else
+                {
+                    newLoops = Arrays.copyOf(loops, loops.length + 1);
+                    newLoops[loops.length] = newLoop;
+                }
+                peerLoops = newLoops;
+                setPeerLoopThreadNames();
+                newLoop.thread.start();
+            }
+            catch (IOException ioExc)
+            {
+                // the remaining selector loops handle the new connections
+                errorReporter.reportError(ioExc);
+            }
+        }
+    }
+
+    private void setPeerLoopThreadNames()
+    {
+        for (int idx = 0; idx < peerLoops.length; ++idx)
+        {
+            SelectorLoop peerLoop = peerLoops[idx];
+            if (peerLoop != mainLoop && peerLoop.thread != null)
+            {
+                peerLoop.thread.setName(serviceInstanceName.getDisplayName() + "-" + (idx + 1));
+            }
+        }
+    }
+
+    /**
+     * Returns the selector loop for a new connection, the connections are distributed round-robin
+     */
+    private SelectorLoop nextPeerLoop()
+    {
+        SelectorLoop[] loops = peerLoops;
+        return loops[Math.floorMod(nextPeerLoopIdx.getAndIncrement(), loops.length)];
+    }
+
     @Override
     public synchronized void shutdown()
     {
         shutdownFlag.set(true);
-        Selector srvSel = serverSelector;
-        if (srvSel != null)
-        {
-            srvSel.wakeup();
-        }
+        wakeup();
     }
 
     @Override
@@ -432,20 +593,69 @@ public class TcpConnectorService implements Runnable, TcpConnector
         throws InterruptedException
     {
         Thread joinThr = null;
+        SelectorLoop[] loops;
         synchronized (this)
         {
-            joinThr = selectorLoopThread;
+            joinThr = mainLoop.thread;
+            loops = peerLoops;
         }
         if (joinThr != null)
         {
             joinThr.join(timeout);
         }
+        for (SelectorLoop peerLoop : loops)
+        {
+            Thread peerThr = peerLoop.thread;
+            if (peerLoop != mainLoop && peerThr != null)
+            {
+                peerThr.join(timeout);
+            }
+        }
     }
 
     @Override
     public void run()
     {
-        // Selector loop
+        runSelectorLoop(mainLoop);
+        // also stop the other selector loops if the main loop failed
+        shutdownFlag.set(true);
+        wakeup();
+        uninitialize();
+
+        synchronized (this)
+        {
+            mainLoop.thread = null;
+        }
+    }
+
+    private void runPeerLoop(SelectorLoop peerLoop)
+    {
+        runSelectorLoop(peerLoop);
+
+        // The loop stopped because of an error if the service is not shutting down
+        boolean replace = !shutdownFlag.get();
+        if (replace)
+        {
+            removePeerLoop(peerLoop);
+        }
+        closeAllConnections(peerLoop.selector);
+        if (replace)
+        {
+            // Throttle the replacement in case of a persistent error, see reinitialize
+            try
+            {
+                Thread.sleep(REINIT_THROTTLE_TIME);
+            }
+            catch (InterruptedException intrExc)
+            {
+                // No-op; thread may be interrupted to shorten the sleep()
+            }
+            addPeerLoop();
+        }
+    }
+
+    private void runSelectorLoop(SelectorLoop loop)
+    {
         LinkedList<Peer> peersWithFinishedMessages = new LinkedList<>();
         while (!shutdownFlag.get())
         {
@@ -458,9 +668,9 @@ public class TcpConnectorService implements Runnable, TcpConnector
                         // Block until I/O operations are ready to be performed
                         // on at least one of the channels, or until the selection
                         // operation is interrupted (e.g., using wakeup())
-                        int selectCount = serverSelector.select();
+                        int selectCount = loop.selector.select();
 
-                        synchronized (syncObj)
+                        synchronized (loop.syncObj)
                         {
                             // wait for the syncObj to get released
 
@@ -479,7 +689,7 @@ public class TcpConnectorService implements Runnable, TcpConnector
                                  * listeners. We suspect that we ended up in a deadlock occasionally
                                  * because of this.
                                  */
-                                serverSelector.selectNow();
+                                loop.selector.selectNow();
                             }
                         }
 
@@ -517,7 +727,12 @@ public class TcpConnectorService implements Runnable, TcpConnector
                         // now we see if we have new operations (read, write, accept, connect)
                         // if peers still have more messages, they have to wait until the next
                         // loop-cycle (fair scheduling).
-                        serverSelector.selectNow();
+                        // syncObj ensures that the keys of new connections are not selected before their peer
+                        // object is attached
+                        synchronized (loop.syncObj)
+                        {
+                            loop.selector.selectNow();
+                        }
                     }
                 }
                 catch (CancelledKeyException ignored)
@@ -526,9 +741,9 @@ public class TcpConnectorService implements Runnable, TcpConnector
                     // Cleaned up by the next select() or selectNow() operation
                 }
 
-                onSelectorWakeup();
+                onSelectorWakeup(loop.selector);
 
-                Iterator<SelectionKey> keysIter = serverSelector.selectedKeys().iterator();
+                Iterator<SelectionKey> keysIter = loop.selector.selectedKeys().iterator();
                 while (keysIter.hasNext())
                 {
                     SelectionKey currentKey = null;
@@ -753,11 +968,23 @@ public class TcpConnectorService implements Runnable, TcpConnector
                         }
                     }
                 }
+
+                // after processing the selected keys, so that the keys cancelled here are not selected anymore
+                closeDeferredConnections(loop);
+                if (loop.closeAllRequested.getAndSet(false))
+                {
+                    closeConnections(loop.selector);
+                }
             }
             catch (ClosedSelectorException selectExc)
             {
                 // Selector became inoperative. Log error and attempt to reinitialize.
                 errorReporter.reportError(selectExc);
+                if (loop != mainLoop)
+                {
+                    // The loop is replaced by a new one, see runPeerLoop
+                    break;
+                }
                 reinitialize();
             }
             catch (IOException ioExc)
@@ -767,7 +994,10 @@ public class TcpConnectorService implements Runnable, TcpConnector
                 // Log error and attempt to reinitialize.
                 errorReporter.logDebug("IOException: %s", ioExc.getLocalizedMessage());
                 errorReporter.reportError(Level.TRACE, ioExc);
-                reinitialize();
+                if (loop == mainLoop)
+                {
+                    reinitialize();
+                }
             }
             catch (Exception exc)
             {
@@ -782,12 +1012,6 @@ public class TcpConnectorService implements Runnable, TcpConnector
                 break;
             }
         }
-        uninitialize();
-
-        synchronized (this)
-        {
-            selectorLoopThread = null;
-        }
     }
 
     private void acceptConnection(SelectionKey currentKey)
@@ -827,42 +1051,49 @@ public class TcpConnectorService implements Runnable, TcpConnector
                             String peerId = inetAddr.getHostAddress() + ":" + inetSockAddr.getPort();
 
                             // Register the accepted connection with the selector loop
+                            SelectorLoop peerLoop = nextPeerLoop();
                             SelectionKey connKey = null;
-                            try
-                            {
-                                connKey = newSocket.register(serverSelector, SelectionKey.OP_READ);
-                            }
-                            catch (IllegalSelectorException illSelExc)
+                            // Prevents the peer's selector loop from selecting the key before the peer is attached
+                            synchronized (peerLoop.syncObj)
                             {
-                                // Thrown by register() if the selector is from another I/O provider
-                                // than the channel that is being registered
-                                errorReporter.reportError(
-                                    new ImplementationError(
-                                        "Registration of the channel with the selector failed, " +
-                                        "because the channel was created by another type of " +
-                                        "I/O provider",
-                                        illSelExc
-                                    )
-                                );
-                                // Connection was not accepted and will be closed in the finally block
-                            }
-                            catch (IllegalArgumentException illArg)
-                            {
-                                // Generated if a bit in the I/O operations specified
-                                // in register() does not correspond with a supported I/O operation
-                                // Should not happen; log the error.
-                                // Connection was not accepted and will be closed in the finally block
-                                errorReporter.reportError(illArg);
-                            }
+                                peerLoop.selector.wakeup();
+                                try
+                                {
+                                    connKey = newSocket.register(peerLoop.selector, SelectionKey.OP_READ);
+                                }
+                                catch (IllegalSelectorException illSelExc)
+                                {
+                                    // Thrown by register() if the selector is from another I/O provider
+                                    // than the channel that is being registered
+                                    errorReporter.reportError(
+                                        new ImplementationError(
+                                            "Registration of the channel with the selector failed, " +
+                                            "because the channel was created by another type of " +
+                                            "I/O provider",
+                                            illSelExc
+                                        )
+                                    );
+                                    // Connection was not accepted and will be closed in the finally block
+                                }
+                                catch (IllegalArgumentException illArg)
+                                {
+                                    // Generated if a bit in the I/O operations specified
+                                    // in register() does not correspond with a supported I/O operation
+                                    // Should not happen; log the error.
+                                    // Connection was not accepted and will be closed in the finally block
+                                    errorReporter.reportError(illArg);
+                                }
 
-                            if (connKey != null)
-                            {
-                                // Prepare the peer object and message
-                                TcpConnectorPeer connPeer = createTcpConnectorPeer(peerId, connKey, null);
-                                connKey.attach(connPeer);
-                                connPeer.connectionEstablished();
-                                connObserver.inboundConnectionEstablished(connPeer);
-                                accepted = true;
+                                if (connKey != null)
+                                {
+                                    // Prepare the peer object and message
+                                    TcpConnectorPeer connPeer = createTcpConnectorPeer(peerId, connKey, null);
+                                    connPeer.setOutQueueMaxBytes(outQueueMaxBytes);
+                                    connKey.attach(connPeer);
+                                    connPeer.connectionEstablished();
+                                    connObserver.inboundConnectionEstablished(connPeer);
+                                    accepted = true;
+                                }
                             }
                         }
                         else
@@ -960,7 +1191,19 @@ public class TcpConnectorService implements Runnable, TcpConnector
     @Override
     public void wakeup()
     {
-        serverSelector.wakeup();
+        for (SelectorLoop loop : peerLoops)
+        {
+            Selector selector = loop.selector;
+            if (selector != null)
+            {
+                selector.wakeup();
+            }
+        }
+        Selector mainSelector = mainLoop.selector;
+        if (mainSelector != null)
+        {
+            mainSelector.wakeup();
+        }
     }
 
     protected void establishConnection(SelectionKey currentKey)
@@ -1052,6 +1295,34 @@ public class TcpConnectorService implements Runnable, TcpConnector
         closeConnection(peerObj.getSelectionKey(), allowReconnect);
     }
 
+    @Override
+    public void closeConnectionDeferred(TcpConnectorPeer peerObj)
+    {
+        Selector peerSelector = peerObj.getSelectionKey().selector();
+        SelectorLoop peerLoop = mainLoop;
+        for (SelectorLoop loop : peerLoops)
+        {
+            if (loop.selector == peerSelector)
+            {
+                peerLoop = loop;
+            }
+        }
+        peerLoop.deferredCloses.add(peerObj);
+        peerSelector.wakeup();
+    }
+
+    private void closeDeferredConnections(SelectorLoop loop)
+    {
+        for (TcpConnectorPeer peer = loop.deferredCloses.poll(); peer != null; peer = loop.deferredCloses.poll())
+        {
+            SelectionKey peerKey = peer.getSelectionKey();
+            if (peerKey.isValid())
+            {
+                closeConnection(peerKey, true);
+            }
+        }
+    }
+
     private void closeConnection(SelectionKey currentKey, boolean allowReconnect)
     {
         closeConnection(currentKey, allowReconnect, false);
@@ -1094,17 +1365,39 @@ public class TcpConnectorService implements Runnable, TcpConnector
         currentKey.cancel();
     }
 
-    private void closeAllConnections()
+    /**
+     * Requests the selector loops other than the main loop to close all of their connections. The connections are
+     * closed asynchronously by the loops' threads.
+     */
+    private void closePeerLoopConnections()
+    {
+        for (SelectorLoop loop : peerLoops)
+        {
+            Selector selector = loop.selector;
+            if (loop != mainLoop && selector != null)
+            {
+                loop.closeAllRequested.set(true);
+                selector.wakeup();
+            }
+        }
+    }
+
+    private void closeConnections(Selector selector)
+    {
+        for (SelectionKey currentKey : selector.keys())
+        {
+            closeConnection(currentKey, false, true);
+        }
+    }
+
+    private void closeAllConnections(@Nullable Selector selector)
     {
         try
         {
-            if (serverSelector != null)
+            if (selector != null)
             {
-                for (SelectionKey currentKey : serverSelector.keys())
-                {
-                    closeConnection(currentKey, false, true);
-                }
-                serverSelector.close();
+                closeConnections(selector);
+                selector.close();
             }
         }
         catch (ClosedSelectorException selectExc)
@@ -1139,7 +1432,7 @@ public class TcpConnectorService implements Runnable, TcpConnector
 
     public void initialize() throws IOException
     {
-        serverSelector = Selector.open();
+        mainLoop.selector = Selector.open();
 
         if (bindAddress != null)
         {
@@ -1279,7 +1572,7 @@ public class TcpConnectorService implements Runnable, TcpConnector
                 serverSocket.configureBlocking(false);
                 try
                 {
-                    serverSocket.register(serverSelector, OP_ACCEPT);
+                    serverSocket.register(mainLoop.selector, OP_ACCEPT);
                 }
                 catch (IllegalBlockingModeException illModeExc)
                 {
@@ -1355,11 +1648,12 @@ public class TcpConnectorService implements Runnable, TcpConnector
 
     private void uninitialize()
     {
-        closeAllConnections();
+        closeAllConnections(mainLoop.selector);
+        closePeerLoopConnections();
         closeServerSocket();
 
         serverSocket    = null;
-        serverSelector  = null;
+        mainLoop.selector = null;
     }
 
     private synchronized void reinitialize()
@@ -1408,7 +1702,7 @@ public class TcpConnectorService implements Runnable, TcpConnector
     @Override
     public synchronized boolean isStarted()
     {
-        return selectorLoopThread != null;
+        return mainLoop.thread != null;
     }
 
     @Override
@@ -1422,13 +1716,19 @@ public class TcpConnectorService implements Runnable, TcpConnector
         {
             serviceInstanceName = instanceName;
         }
-        if (selectorLoopThread != null)
+        if (mainLoop.thread != null)
         {
-            selectorLoopThread.setName(serviceInstanceName.getDisplayName());
+            mainLoop.thread.setName(serviceInstanceName.getDisplayName());
         }
+        setPeerLoopThreadNames();
     }
 
-    protected void onSelectorWakeup()
+    /**
+     * Called by each selector loop when it returns from selecting operations
+     *
+     * @param selector The selector of the loop, only connections registered with this selector may be accessed
+     */
+    protected void onSelectorWakeup(Selector selector)
         throws IllegalMessageStateException, IOException
     {
     }
@@ -1437,6 +1737,21 @@ public class TcpConnectorService implements Runnable, TcpConnector
     {
     }
 
+    /**
+     * A selector and the thread running the selector loop for it
+     */
+    private static class SelectorLoop
+    {
+        // Held while registering channels with the selector, see runSelectorLoop
+        private final Object syncObj = new Object();
+        private volatile Selector selector;
+        private volatile Thread thread;
+        // Connections to close from this loop's thread, see closeConnectionDeferred
+        private final Queue<TcpConnectorPeer> deferredCloses = new ConcurrentLinkedQueue<>();
+        // Set to close all connections of this loop from this loop's thread, see closePeerLoopConnections
+        private final AtomicBoolean closeAllRequested = new AtomicBoolean();
+    }
+
     private static class SafeConnectionObserver implements ConnectionObserver
     {
         private final ErrorReporter errorReporter;
@@ -37,6 +37,12 @@ public class TcpHeaderOnlyMessage implements Message
         return headerBuffer.getInt(TYPE_FIELD_OFFSET);
     }
 
+    @Override
+    public void setType(int type)
+    {
+        throw new ImplementationError("Cannot set Type of TcpHeaderOnlyMessage", null);
+    }
+
     @Override
     public ByteBuffer getHeaderBuffer()
     {
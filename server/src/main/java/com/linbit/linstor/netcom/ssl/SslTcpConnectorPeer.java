@@ -20,6 +20,9 @@ import com.linbit.linstor.netcom.IllegalMessageStateException;
 import com.linbit.linstor.netcom.TcpConnectorPeer;
 import com.linbit.linstor.security.AccessContext;
 import java.nio.channels.CancelledKeyException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import javax.annotation.Nonnull;
@@ -75,6 +78,24 @@ public class SslTcpConnectorPeer extends TcpConnectorPeer
 
     // End debug logging flags
 
+    /**
+     * Runs the SSLEngine delegated tasks (e.g. certificate checks during handshakes) of all peers, so that neither
+     * the selector threads nor a new thread per task are needed for them
+     */
+    private static final ExecutorService SSL_TASK_POOL;
+
+    static
+    {
+        final AtomicInteger threadNr = new AtomicInteger();
+        SSL_TASK_POOL = Executors.newCachedThreadPool(
+            runnable ->
+            {
+                Thread thread = new Thread(runnable, "SslTask-" + threadNr.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+    }
 
     /**
      * clientMode: true if connecting, false if accepting connections
@@ -496,6 +517,7 @@ public class SslTcpConnectorPeer extends TcpConnectorPeer
             debugLogBufferContent("write: buffer data:", encryptedWriteBuffer, encryptedWriteBuffer.limit());
         }
         final int writeSize = outChannel.write(encryptedWriteBuffer);
+        countSentBytes(writeSize);
         if (DEBUG_IO)
         {
             debugLog("write: wrote " + writeSize + " bytes");
@@ -1043,8 +1065,7 @@ public class SslTcpConnectorPeer extends TcpConnectorPeer
     }
 
     /**
-     * Schedules all of the SSL engine's pending tasks on concurrently running threads that are spawned by this
-     * method for that purpose.
+     * Schedules all of the SSL engine's pending tasks on the threads of the SSL task pool.
      *
      * @throws IOException If delegation of a task fails
      */
@@ -1053,7 +1074,7 @@ public class SslTcpConnectorPeer extends TcpConnectorPeer
     {
         if (DEBUG_SSL_STATE)
         {
-            debugLog("executeSslTasks: Spawning threads for delegated SSL engine tasks");
+            debugLog("executeSslTasks: Scheduling delegated SSL engine tasks");
         }
         Runnable sslTask = sslEngine.getDelegatedTask();
         sslTaskLock.lock();
@@ -1065,7 +1086,7 @@ public class SslTcpConnectorPeer extends TcpConnectorPeer
                 try
                 {
                     final Runnable curSslTask = sslTask;
-                    final Thread sslTaskThread = new Thread(
+                    SSL_TASK_POOL.execute(
                         () ->
                         {
                             try
@@ -1132,7 +1153,6 @@ public class SslTcpConnectorPeer extends TcpConnectorPeer
                             }
                         }
                     );
-                    sslTaskThread.start();
                     if (DEBUG_SSL_TASKS)
                     {
                         debugLog("executeSslTasks: Delegated task created, activeTaskCount == " + activeTaskCount);
@@ -5,6 +5,7 @@ import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketAddress;
 import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
 import java.security.KeyManagementException;
 import java.security.KeyStoreException;
@@ -27,7 +28,7 @@ import com.linbit.linstor.netcom.MessageProcessor;
 import com.linbit.linstor.netcom.Peer;
 import com.linbit.linstor.netcom.TcpConnectorService;
 import com.linbit.linstor.security.AccessContext;
-import java.util.Map.Entry;
+import java.util.Iterator;
 import java.util.TreeMap;
 import javax.annotation.Nonnull;
 
@@ -272,8 +273,8 @@ public class SslTcpConnectorService extends TcpConnectorService
 
     /**
      * Called when the last concurrently executing SSLEngine task pending for a peer completes.
-     * Wakes up the Selector, which then invokes the peer's SSL handshake handling code to continue the SSL handshake
-     * and re-enable I/O operations for the peer.
+     * Wakes up the peer's Selector, which then invokes the peer's SSL handshake handling code to continue the SSL
+     * handshake and re-enable I/O operations for the peer.
      *
      * @param connPeer The peer object associated with the task completion
      */
@@ -295,29 +296,31 @@ public class SslTcpConnectorService extends TcpConnectorService
                 taskCompletionMap.put(id, connPeer);
             }
         }
-        wakeup();
+        connPeer.getSelectionKey().selector().wakeup();
     }
 
     /**
-     * Called when the nonblocking I/O Selector returns from selecting operations.
+     * Called when one of the nonblocking I/O Selectors returns from selecting operations.
      * As of Nov 21, 2023, handles continuation of the SSL handshake after I/O operations had been suspended to
      * wait for the completion of SSLEngine tasks that are executed concurrently in separate threads
      *
+     * @param selector The Selector that returned; only peers registered with this Selector are continued, the
+     *        other peers are continued by the threads of their own Selectors
      * @throws IllegalMessageStateException If the LINSTOR message is in an illegal state for the data transfer
      *         operation performed by SSL processing methods; not supposed to happen, indicates an implementation error
      * @throws IOException If network I/O operations fail while continuing the SSL handshake
      */
     @Override
-    protected void onSelectorWakeup()
+    protected void onSelectorWakeup(@Nonnull final Selector selector)
         throws IllegalMessageStateException, IOException
     {
         if (DEBUG_SSL_TASKS)
         {
             debugLog("onSelectorWakeup called");
         }
-        for (SslTcpConnectorPeer connPeer = nextTaskCompletionEntry();
+        for (SslTcpConnectorPeer connPeer = nextTaskCompletionEntry(selector);
              connPeer != null;
-             connPeer = nextTaskCompletionEntry())
+             connPeer = nextTaskCompletionEntry(selector))
         {
             if (DEBUG_SSL_TASKS)
             {
@@ -364,15 +367,24 @@ public class SslTcpConnectorService extends TcpConnectorService
      * Used to iterate through the peers that were scheduled for continuing the SSL handshake after completion of
      * concurrently running SSLEngine tasks.
      *
+     * @param selector Only peers registered with this Selector are returned
      * @return SslTcpConnectorPeer object scheduled for continuing the SSL handshake
      */
-    private SslTcpConnectorPeer nextTaskCompletionEntry()
+    private SslTcpConnectorPeer nextTaskCompletionEntry(@Nonnull final Selector selector)
     {
-        SslTcpConnectorPeer connPeer;
+        SslTcpConnectorPeer connPeer = null;
         synchronized (taskCompletionMap)
         {
-            final Entry<String, SslTcpConnectorPeer> entry = taskCompletionMap.pollFirstEntry();
-            connPeer = entry == null ? null : entry.getValue();
+            final Iterator<SslTcpConnectorPeer> peerIter = taskCompletionMap.values().iterator();
+            while (connPeer == null && peerIter.hasNext())
+            {
+                final SslTcpConnectorPeer curPeer = peerIter.next();
+                if (curPeer.getSelectionKey().selector() == selector)
+                {
+                    connPeer = curPeer;
+                    peerIter.remove();
+                }
+            }
         }
         return connPeer;
     }
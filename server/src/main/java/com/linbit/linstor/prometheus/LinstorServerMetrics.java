@@ -1,5 +1,7 @@
 package com.linbit.linstor.prometheus;
 
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 
 public class LinstorServerMetrics
@@ -27,4 +29,202 @@ public class LinstorServerMetrics
         .buckets(DEFAULT_BUCKETS)
         .labelNames("apicall", "peer")
         .register();
+
+    /**
+     * Histogram for the time the satellite's device handler spends on a single resource.
+     */
+    public static final Histogram rscDispatchHistogram = Histogram.build()
+        .name("linstor_satellite_resource_dispatch_duration_seconds")
+        .help("LINSTOR satellite per resource dispatch duration in seconds")
+        .unit("seconds")
+        .buckets(DEFAULT_BUCKETS)
+        .labelNames("mode")
+        .register();
+
+    /**
+     * Lock waits are usually in the range of microseconds, but can take seconds under contention.
+     */
+    public static final double[] LOCK_BUCKETS = new double[]{
+        0.00001, 0.0001, 0.0005,
+        0.001, 0.005, 0.01, 0.05,
+        0.1, 0.5, 1.0, 5.0,
+        10.0, 30.0,
+        Double.POSITIVE_INFINITY
+    };
+
+    /**
+     * Histogram for the time threads wait to acquire one of the LINSTOR core locks.
+     */
+    public static final Histogram lockWaitHistogram = Histogram.build()
+        .name("linstor_lock_wait_seconds")
+        .help("Time waited to acquire a LINSTOR lock in seconds")
+        .unit("seconds")
+        .buckets(LOCK_BUCKETS)
+        .labelNames("lock", "mode")
+        .register();
+
+    /**
+     * Histogram for the time one of the LINSTOR core locks was held.
+     */
+    public static final Histogram lockHoldHistogram = Histogram.build()
+        .name("linstor_lock_hold_seconds")
+        .help("Time a LINSTOR lock was held in seconds")
+        .unit("seconds")
+        .buckets(LOCK_BUCKETS)
+        .labelNames("lock", "mode")
+        .register();
+
+    /**
+     * Histogram for the runtime of external commands (lvs, vgs, zfs, drbdadm, ...), labeled by the executable name.
+     */
+    public static final Histogram extCmdHistogram = Histogram.build()
+        .name("linstor_extcmd_duration_seconds")
+        .help("Runtime of external commands in seconds")
+        .unit("seconds")
+        .buckets(DEFAULT_BUCKETS)
+        .labelNames("command")
+        .register();
+
+    /**
+     * Number of external commands that were started but did not terminate yet.
+     */
+    public static final Gauge extCmdRunningGauge = Gauge.build()
+        .name("linstor_extcmd_running")
+        .help("Number of currently running external commands")
+        .register();
+
+    /**
+     * Bytes sent to a peer, including the message headers.
+     */
+    public static final Counter peerSentBytesCounter = Counter.build()
+        .name("linstor_peer_sent_bytes")
+        .help("Bytes sent to a LINSTOR peer")
+        .labelNames("peer")
+        .register();
+
+    /**
+     * Messages sent to a peer.
+     */
+    public static final Counter peerSentMessagesCounter = Counter.build()
+        .name("linstor_peer_sent_messages")
+        .help("Messages sent to a LINSTOR peer")
+        .labelNames("peer")
+        .register();
+
+    /**
+     * Number of messages combined into a single gathering write.
+     */
+    public static final Histogram peerWriteBatchHistogram = Histogram.build()
+        .name("linstor_peer_write_batch_messages")
+        .help("Number of messages sent to a LINSTOR peer by a single write operation")
+        .buckets(1, 2, 4, 8, 16, 32, 64)
+        .register();
+
+    /**
+     * Number of received messages waiting in the processing lane of the peer, including the new message.
+     */
+    public static final Histogram msgQueueDepthHistogram = Histogram.build()
+        .name("linstor_message_queue_depth")
+        .help("Number of received messages queued for processing on the lane of the peer")
+        .buckets(1, 2, 4, 8, 16, 32, 64, 128, 256, 1024)
+        .register();
+
+    /**
+     * Time a received message waited in its processing lane, labeled by the API call name, "unknown" for answers.
+     */
+    public static final Histogram msgQueueWaitHistogram = Histogram.build()
+        .name("linstor_message_queue_wait_seconds")
+        .help("Time a received message waited for processing in seconds")
+        .unit("seconds")
+        .buckets(DEFAULT_BUCKETS)
+        .labelNames("apicall")
+        .register();
+
+    /**
+     * Time from the start of a received API call until its last answer was sent.
+     */
+    public static final Histogram msgProcessingHistogram = Histogram.build()
+        .name("linstor_message_processing_seconds")
+        .help("Processing time of a received API call in seconds")
+        .unit("seconds")
+        .buckets(DEFAULT_BUCKETS)
+        .labelNames("apicall")
+        .register();
+
+    /**
+     * Bytes of backups uploaded to an S3 remote, labeled by the remote name.
+     */
+    public static final Counter backupS3UploadedBytesCounter = Counter.build()
+        .name("linstor_backup_s3_uploaded_bytes")
+        .help("Bytes of backups uploaded to an S3 remote")
+        .labelNames("remote")
+        .register();
+
+    /**
+     * Duration of a single successful part upload of a multipart backup upload.
+     */
+    public static final Histogram backupS3PartUploadHistogram = Histogram.build()
+        .name("linstor_backup_s3_part_upload_seconds")
+        .help("Upload time of a single part of a backup in seconds")
+        .unit("seconds")
+        .buckets(DEFAULT_BUCKETS)
+        .labelNames("remote")
+        .register();
+
+    /**
+     * Part uploads that failed and were tried again.
+     */
+    public static final Counter backupS3PartRetriesCounter = Counter.build()
+        .name("linstor_backup_s3_part_retries")
+        .help("Retried part uploads of backups")
+        .labelNames("remote")
+        .register();
+
+    /**
+     * Parts of backups that are currently being uploaded.
+     */
+    public static final Gauge backupS3PartsInFlightGauge = Gauge.build()
+        .name("linstor_backup_s3_parts_in_flight")
+        .help("Number of backup parts currently being uploaded")
+        .labelNames("remote")
+        .register();
+
+    /**
+     * Bytes of backups downloaded from an S3 remote by ranged requests, labeled by the remote name.
+     */
+    public static final Counter backupS3DownloadedBytesCounter = Counter.build()
+        .name("linstor_backup_s3_downloaded_bytes")
+        .help("Bytes of backups downloaded from an S3 remote")
+        .labelNames("remote")
+        .register();
+
+    /**
+     * Duration of a single successful ranged download of a backup restore.
+     */
+    public static final Histogram backupS3RangeDownloadHistogram = Histogram.build()
+        .name("linstor_backup_s3_range_download_seconds")
+        .help("Download time of a single byte range of a backup in seconds")
+        .unit("seconds")
+        .buckets(DEFAULT_BUCKETS)
+        .labelNames("remote")
+        .register();
+
+    /**
+     * Ranged downloads that failed and were tried again.
+     */
+    public static final Counter backupS3RangeRetriesCounter = Counter.build()
+        .name("linstor_backup_s3_range_retries")
+        .help("Retried ranged downloads of backups")
+        .labelNames("remote")
+        .register();
+
+    /**
+     * Lookups of {@link com.linbit.linstor.PriorityProps}, labeled by whether they were answered from the cache
+     * ("hit"), computed and cached ("miss") or computed without caching ("uncached").
+     */
+    public static final Counter priorityPropsLookupsCounter = Counter.build()
+        .name("linstor_priority_props_lookups")
+        .help("Lookups of prioritized properties by cache result")
+        .labelNames("result")
+        .register();
 }
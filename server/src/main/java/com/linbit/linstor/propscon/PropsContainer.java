@@ -19,6 +19,7 @@ import com.linbit.linstor.security.AccessDeniedException;
 import com.linbit.linstor.transaction.AbsTransactionObject;
 import com.linbit.linstor.transaction.TransactionObject;
 import com.linbit.linstor.transaction.manager.TransactionMgr;
+import com.linbit.utils.SortedArrayMap;
 import com.linbit.utils.StringUtils;
 
 import javax.annotation.Nullable;
@@ -63,6 +64,8 @@ public class PropsContainer extends AbsTransactionObject implements Props
     private PropsContainer parentContainer;
     private String containerKey;
     private int itemCount;
+    /** only maintained by the root container, see {@link #getVersion()} */
+    private long version;
     private Map<String, String> propMap;
     private Map<String, PropsContainer> containerMap;
 
@@ -106,7 +109,6 @@ public class PropsContainer extends AbsTransactionObject implements Props
 
             rootContainer = this;
             parentContainer = null;
-            cachedPropMap = new HashMap<>();
         }
         else
         {
@@ -115,17 +117,18 @@ public class PropsContainer extends AbsTransactionObject implements Props
             ErrorCheck.ctorNotNull(PropsContainer.class, String.class, key);
 
             checkKey(key);
-            containerKey = key;
+            containerKey = PropsSymbolTable.key(key);
 
             rootContainer = parent.getRoot();
             parentContainer = parent;
-            cachedPropMap = null;
         }
+        // only created by the root container once it is modified
+        cachedPropMap = null;
         instanceName = instanceNameRef;
         description = descriptionRef;
         type = typeRef;
-        propMap = new TreeMap<>();
-        containerMap = new TreeMap<>();
+        propMap = new SortedArrayMap<>();
+        containerMap = new SortedArrayMap<>();
 
         keySetAccessor = null;
         entrySetAccessor = null;
@@ -220,6 +223,14 @@ public class PropsContainer extends AbsTransactionObject implements Props
         return type;
     }
 
+    /**
+     * Returns the instance name of the root container, which is the path built by one of the buildPath methods
+     */
+    public String getInstanceName()
+    {
+        return rootContainer.instanceName;
+    }
+
     /**
      * Returns the property if found.
      *
@@ -271,13 +282,14 @@ public class PropsContainer extends AbsTransactionObject implements Props
         String actualKey = pathElements[PATH_KEY];
         checkKey(actualKey);
         PropsContainer con = ensureNamespaceExists(pathElements[PATH_NAMESPACE]);
-        String oldValue = con.propMap.put(actualKey, value);
+        String oldValue = con.propMap.put(PropsSymbolTable.key(actualKey), PropsSymbolTable.value(value));
         if (oldValue == null)
         {
             con.modifySize(1);
         }
         if (!value.equals(oldValue))
         {
+            markModified();
             dbPersist(con.getPath() + actualKey, value, oldValue);
         }
         return oldValue;
@@ -331,6 +343,7 @@ public class PropsContainer extends AbsTransactionObject implements Props
 
                 if (value != null)
                 {
+                    markModified();
                     con.modifySize(-1);
                     con.removeCleanup();
                     dbRemove(con.getPath() + actualKey, value);
@@ -433,12 +446,16 @@ public class PropsContainer extends AbsTransactionObject implements Props
                     targetContainer = ensureNamespaceExists(key.substring(0, idx));
                 }
                 String actualKey = key.substring(idx + 1);
-                String oldValue = targetContainer.getRawPropMap().put(actualKey, value);
+                String oldValue = targetContainer.getRawPropMap().put(
+                    PropsSymbolTable.key(actualKey),
+                    PropsSymbolTable.value(value)
+                );
                 if (oldValue == null)
                 {
                     targetContainer.modifySize(1);
                 }
             }
+            markModified();
         }
         catch (InvalidKeyException invalidKeyExc)
         {
@@ -482,6 +499,7 @@ public class PropsContainer extends AbsTransactionObject implements Props
 
         containerMap.clear();
         propMap.clear();
+        markModified();
 
         if (parentContainer != null)
         {
@@ -892,10 +910,21 @@ public class PropsContainer extends AbsTransactionObject implements Props
         return rootContainer;
     }
 
+    @Override
+    public long getVersion()
+    {
+        return rootContainer.version;
+    }
+
+    private void markModified()
+    {
+        ++rootContainer.version;
+    }
+
     @Override
     public boolean isDirty()
     {
-        return !rootContainer.cachedPropMap.isEmpty();
+        return rootContainer.cachedPropMap != null && !rootContainer.cachedPropMap.isEmpty();
     }
 
     @Override
@@ -906,6 +935,10 @@ public class PropsContainer extends AbsTransactionObject implements Props
 
     private void cache(String key, String value)
     {
+        if (rootContainer.cachedPropMap == null)
+        {
+            rootContainer.cachedPropMap = new HashMap<>();
+        }
         if (!rootContainer.cachedPropMap.containsKey(key))
         {
             rootContainer.cachedPropMap.put(key, value);
@@ -915,14 +948,17 @@ public class PropsContainer extends AbsTransactionObject implements Props
     @Override
     public void commitImpl()
     {
-        rootContainer.cachedPropMap.clear();
+        rootContainer.cachedPropMap = null;
     }
 
     @Override
     public void rollbackImpl()
     {
         PropsContainer root = rootContainer;
-        for (Entry<String, String> entry : root.cachedPropMap.entrySet())
+        Map<String, String> cachedProps = root.cachedPropMap != null ?
+            root.cachedPropMap :
+            Collections.emptyMap();
+        for (Entry<String, String> entry : cachedProps.entrySet())
         {
             String key = entry.getKey();
             String value = entry.getValue();
@@ -946,7 +982,10 @@ public class PropsContainer extends AbsTransactionObject implements Props
                 }
                 else
                 {
-                    oldValue = targetContainer.propMap.put(relativeKey, value);
+                    oldValue = targetContainer.propMap.put(
+                        PropsSymbolTable.key(relativeKey),
+                        PropsSymbolTable.value(value)
+                    );
                 }
                 if (oldValue == null)
                 {
@@ -962,7 +1001,11 @@ public class PropsContainer extends AbsTransactionObject implements Props
                 );
             }
         }
-        root.cachedPropMap.clear();
+        if (!cachedProps.isEmpty())
+        {
+            markModified();
+        }
+        root.cachedPropMap = null;
     }
 
     private void dbPersist(String key, String value, String oldValue) throws DatabaseException
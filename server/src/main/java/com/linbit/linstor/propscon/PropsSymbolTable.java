@@ -0,0 +1,62 @@
+package com.linbit.linstor.propscon;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shares the String instances of property keys and short property values between all {@link PropsContainer}s.
+ * <br />
+ * Most keys (and many values like "yes", "no" or "C") are the same for thousands of objects, but every key and
+ * value loaded from the database or received via the API is a separate String instance.
+ * <br />
+ * Symbols are never removed, as most of them are needed for as long as the controller runs. Keys and values that
+ * contain object names (e.g. resource names within a namespace) would still let the table grow over time, so it
+ * stops accepting new symbols once it reached {@link #MAX_SYMBOLS}. Strings that are not in the table yet are
+ * simply not shared after that.
+ */
+final class PropsSymbolTable
+{
+    /**
+     * Longer values are usually unique (UUIDs, paths, serialized data) and are not worth a lookup
+     */
+    static final int MAX_SHARED_VALUE_LENGTH = 32;
+
+    static final int MAX_SYMBOLS = 65_536;
+
+    private static final ConcurrentHashMap<String, String> SYMBOLS = new ConcurrentHashMap<>();
+
+    private PropsSymbolTable()
+    {
+    }
+
+    static String key(String key)
+    {
+        return symbol(key);
+    }
+
+    static String value(String value)
+    {
+        return value.length() <= MAX_SHARED_VALUE_LENGTH ? symbol(value) : value;
+    }
+
+    private static String symbol(String str)
+    {
+        String shared = SYMBOLS.get(str);
+        if (shared == null)
+        {
+            if (SYMBOLS.size() < MAX_SYMBOLS)
+            {
+                // racing threads might overshoot the limit slightly, which does not matter
+                shared = SYMBOLS.putIfAbsent(str, str);
+                if (shared == null)
+                {
+                    shared = str;
+                }
+            }
+            else
+            {
+                shared = str;
+            }
+        }
+        return shared;
+    }
+}
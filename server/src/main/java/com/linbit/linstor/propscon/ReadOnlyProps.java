@@ -14,6 +14,8 @@ public interface ReadOnlyProps extends Iterable<Map.Entry<String, String>>
 {
     String PATH_SEPARATOR = "/";
 
+    long VERSION_UNKNOWN = -1;
+
     String getDescription();
 
     LinStorObject getType();
@@ -65,6 +67,15 @@ public interface ReadOnlyProps extends Iterable<Map.Entry<String, String>>
 
     Iterator<String> iterateNamespaces();
 
+    /**
+     * Returns a counter that changes whenever a property of the whole hierarchy of this container (i.e. including
+     * parent and sibling namespaces) is modified, or {@link #VERSION_UNKNOWN} if modifications are not tracked.
+     */
+    default long getVersion()
+    {
+        return VERSION_UNKNOWN;
+    }
+
 
     /**
      * Checks if all propFilters (key value pairs e.g 'prop=value') are present in the given Props container.
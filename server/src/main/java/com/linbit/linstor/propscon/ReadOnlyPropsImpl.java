@@ -232,6 +232,12 @@ public class ReadOnlyPropsImpl implements Props
         return propsMap.iterateNamespaces();
     }
 
+    @Override
+    public long getVersion()
+    {
+        return propsMap.getVersion();
+    }
+
     @Override
     public void setConnection(TransactionMgr transMgr)
     {
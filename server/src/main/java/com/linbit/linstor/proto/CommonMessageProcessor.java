@@ -18,6 +18,7 @@ import com.linbit.linstor.core.apicallhandler.response.ApiAccessDeniedException;
 import com.linbit.linstor.core.apicallhandler.response.ApiRcException;
 import com.linbit.linstor.core.apicallhandler.response.ResponseUtils;
 import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.netcom.FrameCompression;
 import com.linbit.linstor.netcom.IllegalMessageStateException;
 import com.linbit.linstor.netcom.Message;
 import com.linbit.linstor.netcom.MessageProcessor;
@@ -25,6 +26,7 @@ import com.linbit.linstor.netcom.MessageTypes;
 import com.linbit.linstor.netcom.Peer;
 import com.linbit.linstor.netcom.TcpConnector;
 import com.linbit.linstor.proto.MsgHeaderOuterClass.MsgHeader.MsgType;
+import com.linbit.linstor.prometheus.LinstorServerMetrics;
 import com.linbit.linstor.proto.common.ApiCallResponseOuterClass;
 import com.linbit.linstor.security.AccessContext;
 import com.linbit.linstor.security.Authentication;
@@ -41,11 +43,14 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.google.protobuf.InvalidProtocolBufferException;
+import io.prometheus.client.Histogram;
 import org.slf4j.MDC;
 import org.slf4j.event.Level;
 import reactor.core.publisher.Flux;
@@ -67,10 +72,15 @@ public class CommonMessageProcessor implements MessageProcessor
     private final ScopeRunner scopeRunner;
     private final CommonSerializer commonSerializer;
 
-    private final Sinks.Many<Runnable> sink;
+    private final Lane[] lanes;
 
     private final Map<String, ApiEntry> apiCallMap;
 
+    /**
+     * Metrics label for message contents that are not a known API call, i.e. answers or names sent by a faulty peer
+     */
+    private static final String UNKNOWN_API_CALL_LABEL = "unknown";
+
     public static final int MIN_THR_COUNT = 4;
     public static final int MAX_THR_COUNT = 1024;
     public static final int MIN_QUEUE_SIZE = 4 * MIN_THR_COUNT;
@@ -98,23 +108,15 @@ public class CommonMessageProcessor implements MessageProcessor
         );
         int thrCount = MathUtils.bounds(MIN_THR_COUNT, LinStor.CPU_COUNT, MAX_THR_COUNT);
 
-        // Limit the number of messages that can be submitted for processing
-        // concurrently by setting the processor's buffer size.
-        // In the absence of any backpressure mechanism in the communications
-        // protocol, we resort to blocking when too many messages are received and
-        // letting the TCP buffer fill up.
-        // Many messages from a single peer will still be queued in an unbounded
-        // fashion as part of the message re-ordering.
-        sink = Sinks.many().unicast().onBackpressureBuffer(Queues.<Runnable>unbounded(queueSize).get());
-        Flux<Runnable> workerPool = sink.asFlux();
-        workerPool
-            .parallel(thrCount, 1)
-            .runOn(scheduler, 1)
-            .doOnNext(Runnable::run)
-            .subscribe(
-                ignored -> {
-                    // do nothing
-                }, exc -> errorLog.reportError(exc, null, null, "Uncaught exception in sink"));
+        // Every peer is assigned to one lane, which processes the messages of its peers one after the other.
+        // The lanes themselves run in parallel on the worker pool. Since all messages of a peer are queued in the
+        // same lane, they are already in order when they reach Peer.processInOrder, and a flood of messages from
+        // a single peer cannot delay the processing of peers on other lanes.
+        lanes = new Lane[thrCount];
+        for (int laneIdx = 0; laneIdx < thrCount; ++laneIdx)
+        {
+            lanes[laneIdx] = new Lane(queueSize, scheduler);
+        }
 
         apiCallMap = new TreeMap<>();
         for (Map.Entry<String, BaseApiCall> entry : apiCalls.entrySet())
@@ -157,19 +159,29 @@ public class CommonMessageProcessor implements MessageProcessor
             switch (msgType)
             {
                 case MessageTypes.DATA:
+                    // fall-through
+                case MessageTypes.DATA_COMPRESSED:
                     long peerSeq = peer.getNextIncomingMessageSeq();
+                    long queuedAt = System.nanoTime();
+                    Lane lane = getLane(peer);
+                    LinstorServerMetrics.msgQueueDepthHistogram.observe(lane.depth.incrementAndGet());
+                    Runnable task = () ->
+                    {
+                        lane.depth.decrementAndGet();
+                        this.doProcessMessage(msg, connector, peer, peerSeq, queuedAt);
+                    };
 
                     // Since reactor 3.4.x, it doesn't busy loop anymore itself, but rather let that be done by
                     // the library user see: https://github.com/reactor/reactor-core/issues/2049
-                    Sinks.EmitResult emitRes = sink.tryEmitNext(
-                        () -> this.doProcessMessage(msg, connector, peer, peerSeq));
+                    Sinks.EmitResult emitRes = lane.sink.tryEmitNext(task);
                     while (emitRes == Sinks.EmitResult.FAIL_NON_SERIALIZED)
                     {
                         LockSupport.parkNanos(10);
-                        emitRes = sink.tryEmitNext(() -> this.doProcessMessage(msg, connector, peer, peerSeq));
+                        emitRes = lane.sink.tryEmitNext(task);
                     }
                     if (emitRes.isFailure())
                     {
+                        lane.depth.decrementAndGet();
                         errorLog.logError("Unable to emit processMessage");
                     }
                     break;
@@ -220,14 +232,19 @@ public class CommonMessageProcessor implements MessageProcessor
         }
     }
 
+    private Lane getLane(Peer peer)
+    {
+        return lanes[Math.floorMod(peer.getId().hashCode(), lanes.length)];
+    }
+
     /**
      * Called on a worker pool thread.
      */
-    private void doProcessMessage(Message msg, TcpConnector connector, Peer peer, long peerSeq)
+    private void doProcessMessage(Message msg, TcpConnector connector, Peer peer, long peerSeq, long queuedAt)
     {
         peer.processInOrder(peerSeq, Flux.defer(() ->
             peer.isConnected(false) ?
-                this.doProcessInOrderMessage(msg, connector, peer, peerSeq) :
+                this.doProcessInOrderMessage(msg, connector, peer, peerSeq, queuedAt) :
                 Flux.empty()
         ));
     }
@@ -237,12 +254,18 @@ public class CommonMessageProcessor implements MessageProcessor
      * The messages from each peer are guaranteed to be delivered in the same order as in the incoming stream.
      * In particular, no two messages from a given peer will be processed at the same time.
      */
-    private Flux<?> doProcessInOrderMessage(Message msg, TcpConnector connector, Peer peer, long peerSeq)
+    private Flux<?> doProcessInOrderMessage(
+        Message msg,
+        TcpConnector connector,
+        Peer peer,
+        long peerSeq,
+        long queuedAt
+    )
     {
         Flux<?> flux = Flux.empty();
         try
         {
-            flux = handleDataMessage(msg, connector, peer, peerSeq)
+            flux = handleDataMessage(msg, connector, peer, peerSeq, queuedAt)
                 .doOnError(exc -> errorLog.reportError(
                     Level.ERROR,
                     exc,
@@ -269,13 +292,19 @@ public class CommonMessageProcessor implements MessageProcessor
         final Message msg,
         final TcpConnector connector,
         final Peer peer,
-        long peerSeq
+        long peerSeq,
+        long queuedAt
     )
         throws IllegalMessageStateException, IOException
     {
         Flux<?> flux = Flux.empty();
 
         byte[] msgData = msg.getData();
+        if (msg.getType() == MessageTypes.DATA_COMPRESSED)
+        {
+            // decompressed here instead of on the selector thread
+            msgData = FrameCompression.decompress(msgData);
+        }
         ByteArrayInputStream msgDataIn = new ByteArrayInputStream(msgData);
 
         MsgHeaderOuterClass.MsgHeader header = MsgHeaderOuterClass.MsgHeader.parseDelimitedFrom(msgDataIn);
@@ -284,6 +313,9 @@ public class CommonMessageProcessor implements MessageProcessor
         try (var ignore = MDC.putCloseable(ErrorReporter.LOGID, apiCallLogId))
         {
             MsgType msgType = header.getMsgType();
+            LinstorServerMetrics.msgQueueWaitHistogram
+                .labels(getMetricsLabel(header.getMsgContent()))
+                .observe((System.nanoTime() - queuedAt) / (double) TimeUnit.SECONDS.toNanos(1));
 
             switch (msgType)
             {
@@ -310,6 +342,14 @@ public class CommonMessageProcessor implements MessageProcessor
         return flux;
     }
 
+    /**
+     * Only names of registered API calls are used as label values, as the message content is chosen by the peer
+     */
+    private String getMetricsLabel(String msgContent)
+    {
+        return apiCallMap.containsKey(msgContent) ? msgContent : UNKNOWN_API_CALL_LABEL;
+    }
+
     private long getApiCallId(MsgHeaderOuterClass.MsgHeader header)
     {
         if (!header.hasApiCallId())
@@ -383,6 +423,9 @@ public class CommonMessageProcessor implements MessageProcessor
         String apiCallName = header.getMsgContent();
 
         String apiCallDescription = respond ? "API call " + getApiCallId(header) : "oneway call";
+        Histogram.Timer processingTimer = LinstorServerMetrics.msgProcessingHistogram
+            .labels(getMetricsLabel(apiCallName))
+            .startTimer();
         errorLog.logDebug("Peer %s, %s '%s' start (seq %d)", peer, apiCallDescription, apiCallName, peerSeq);
 
         ApiEntry apiMapEntry = apiCallMap.get(apiCallName);
@@ -486,7 +529,7 @@ public class CommonMessageProcessor implements MessageProcessor
                 .doOnNext(ignored ->
                     errorLog.logDebug("Dropping message generated for oneway call '" + apiCallName + "'"));
 
-        return flux.doOnTerminate(() ->
+        return flux.doFinally(ignored -> processingTimer.observeDuration()).doOnTerminate(() ->
         {
             MDC.put(ErrorReporter.LOGID, apicallLogId);
             errorLog.logDebug("Peer %s, %s '%s' end", peer, apiCallDescription, apiCallName);
@@ -768,6 +811,37 @@ public class CommonMessageProcessor implements MessageProcessor
         }
     }
 
+    private class Lane
+    {
+        final Sinks.Many<Runnable> sink;
+        final AtomicInteger depth = new AtomicInteger();
+
+        Lane(int queueSizeRef, Scheduler schedulerRef)
+        {
+            sink = Sinks.many().unicast().onBackpressureBuffer(Queues.<Runnable>unbounded(queueSizeRef).get());
+            // publishOn uses a single worker of the scheduler, which runs the lane's messages one at a time
+            sink.asFlux()
+                .publishOn(schedulerRef, queueSizeRef)
+                .subscribe(
+                    this::run,
+                    exc -> errorLog.reportError(exc, null, null, "Uncaught exception in message lane")
+                );
+        }
+
+        private void run(Runnable task)
+        {
+            // an exception must not terminate the lane, as all following messages of its peers would be lost
+            try
+            {
+                task.run();
+            }
+            catch (RuntimeException | ImplementationError exc)
+            {
+                errorLog.reportError(exc, null, null, "Uncaught exception in message lane");
+            }
+        }
+    }
+
     private static class InvalidHeaderException extends RuntimeException
     {
         InvalidHeaderException(String message)
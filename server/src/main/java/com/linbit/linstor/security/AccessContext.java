@@ -16,6 +16,9 @@ public final class AccessContext implements Cloneable
     PrivilegeSet privLimit;
     PrivilegeSet privEffective;
 
+    // Access decisions of this context, see AccessControlList and SecurityType
+    AccessDecisionCache decisionCache;
+
     AccessContext(Identity subjId, Role subjRole, SecurityType secDomain, PrivilegeSet privLimitRef)
     {
         subjectId = subjId;
@@ -23,6 +26,7 @@ public final class AccessContext implements Cloneable
         subjectDomain = secDomain;
         privLimit = privLimitRef;
         privEffective = new PrivilegeSet(privLimit);
+        decisionCache = new AccessDecisionCache(secDomain);
     }
 
     public AccessContext impersonate(
@@ -50,6 +54,7 @@ public final class AccessContext implements Cloneable
             clonedCtx = (AccessContext) super.clone();
             clonedCtx.privLimit = clonedCtx.privLimit.clone();
             clonedCtx.privEffective = clonedCtx.privEffective.cloneWithLimitPrivs(clonedCtx.privLimit);
+            clonedCtx.decisionCache = new AccessDecisionCache(subjectDomain);
         }
         catch (CloneNotSupportedException cloneExc)
         {
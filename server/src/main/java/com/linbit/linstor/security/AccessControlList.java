@@ -11,13 +11,16 @@ import com.linbit.linstor.transaction.manager.TransactionMgr;
 import javax.inject.Provider;
 
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 /**
  * Object access control list
  *
+ * Access checks read the entries without locking, only changes of the entries are serialized.
+ *
  * @author Robert Altnoeder &lt;robert.altnoeder@linbit.com&gt;
  */
 public final class AccessControlList extends BaseTransactionObject
@@ -33,12 +36,15 @@ public final class AccessControlList extends BaseTransactionObject
         Provider<? extends TransactionMgr> transMgrProviderRef
     )
     {
-        this(objPathRef, new TreeMap<>(), dbDriverRef, transObjFactoryRef, transMgrProviderRef);
+        this(objPathRef, new ConcurrentSkipListMap<>(), dbDriverRef, transObjFactoryRef, transMgrProviderRef);
     }
 
+    /**
+     * @param backingMapRef Must support concurrent reads during changes, since access checks do not lock the map
+     */
     AccessControlList(
         String objPathRef,
-        Map<RoleName, AccessControlEntry> backingMapRef,
+        ConcurrentNavigableMap<RoleName, AccessControlEntry> backingMapRef,
         SecObjProtAclDatabaseDriver dbDriverRef,
         TransactionObjectFactory transObjFactoryRef,
         Provider<? extends TransactionMgr> transMgrProviderRef
@@ -49,7 +55,8 @@ public final class AccessControlList extends BaseTransactionObject
         dbDriver = dbDriverRef;
         TransactionMap<AccessControlList, RoleName, AccessControlEntry> txAcl = transObjFactoryRef
             .createTransactionPrimitiveMap(this, backingMapRef, null);
-        acl = Collections.synchronizedMap(txAcl);
+        // changes are synchronized on acl
+        acl = txAcl;
 
         transObjs = Arrays.asList(txAcl);
     }
@@ -65,59 +72,49 @@ public final class AccessControlList extends BaseTransactionObject
     public void requireAccess(AccessContext context, AccessType requested)
         throws AccessDeniedException
     {
-        synchronized (acl)
+        SecurityLevel globalSecLevel = SecurityLevel.get();
+        switch (globalSecLevel)
         {
-            SecurityLevel globalSecLevel = SecurityLevel.get();
-            switch (globalSecLevel)
-            {
-                case NO_SECURITY:
-                    break;
-                case RBAC:
-                    // fall-through
-                case MAC:
-                    boolean allowFlag = false;
-
-                    // Look for an entry for the subject's role in this access control list
-                    AccessControlEntry entry = acl.get(context.subjectRole.name);
-
-                    // If an entry was found, check whether the requested level of access
-                    // is within the bounds of the level of access allowed by the
-                    // access control entry.
-                    // If no entry was found, access is denied.
-                    if (entry != null)
-                    {
-                        allowFlag = entry.access.hasAccess(requested);
-                    }
-
-                    if (!allowFlag)
-                    {
-                        allowFlag |= hasAccessPrivilege(context, requested);
-                    }
+            case NO_SECURITY:
+                break;
+            case RBAC:
+                // fall-through
+            case MAC:
+                // Look for an entry for the subject's role in this access control list
+                AccessControlEntry entry = acl.get(context.subjectRole.name);
+
+                // Combine the level of access allowed by the entry, if any, with the level of
+                // access allowed by privileges, which is cached by the context.
+                // If neither allows the requested level of access, access is denied.
+                AccessType allowed = AccessType.union(
+                    entry == null ? null : entry.access,
+                    context.decisionCache.getRbacPrivAccess(context.privEffective)
+                );
+                boolean allowFlag = allowed != null && allowed.hasAccess(requested);
 
-                    if (!allowFlag)
-                    {
-                        throw new AccessDeniedException(
-                            "Access of type '" + requested + "' not allowed by the " +
-                                "access control list",
-                            // Description
-                            "Access to the protected object was denied",
-                            // Cause
-                            "The access control list for the protected object does not allow " +
-                                "access of type " + requested.name() + " by role " +
-                                context.subjectRole.name,
-                            // Correction
-                            "An entry that allows access must be added by an authorized role",
-                            // No error details
-                            null
-                        );
-                    }
-                    break;
-                default:
-                    throw new ImplementationError(
-                        "Missing case label for enum constant " + globalSecLevel.name(),
+                if (!allowFlag)
+                {
+                    throw new AccessDeniedException(
+                        "Access of type '" + requested + "' not allowed by the " +
+                            "access control list",
+                        // Description
+                        "Access to the protected object was denied",
+                        // Cause
+                        "The access control list for the protected object does not allow " +
+                            "access of type " + requested.name() + " by role " +
+                            context.subjectRole.name,
+                        // Correction
+                        "An entry that allows access must be added by an authorized role",
+                        // No error details
                         null
                     );
-            }
+                }
+                break;
+            default:
+                throw new ImplementationError(
+                    "Missing case label for enum constant " + globalSecLevel.name(),
+                    null
+                );
         }
     }
 
@@ -186,13 +183,10 @@ public final class AccessControlList extends BaseTransactionObject
     {
 
         AccessType access = null;
-        synchronized (acl)
+        AccessControlEntry entry = acl.get(subjRole.name);
+        if (entry != null)
         {
-            AccessControlEntry entry = acl.get(subjRole.name);
-            if (entry != null)
-            {
-                access = entry.access;
-            }
+            access = entry.access;
         }
         return access;
     }
@@ -246,50 +240,4 @@ public final class AccessControlList extends BaseTransactionObject
         }
         return aclCopy;
     }
-
-    private boolean hasAccessPrivilege(AccessContext context, AccessType requested)
-    {
-        PrivilegeSet privileges = context.privEffective;
-
-        boolean allowFlag = false;
-        switch (requested)
-        {
-            case VIEW:
-                allowFlag |= privileges.hasSomePrivilege(
-                    Privilege.PRIV_OBJ_VIEW,
-                    Privilege.PRIV_OBJ_USE,
-                    Privilege.PRIV_OBJ_CHANGE,
-                    Privilege.PRIV_OBJ_CONTROL,
-                    Privilege.PRIV_OBJ_OWNER
-                );
-                break;
-            case USE:
-                allowFlag |= privileges.hasSomePrivilege(
-                    Privilege.PRIV_OBJ_USE,
-                    Privilege.PRIV_OBJ_CHANGE,
-                    Privilege.PRIV_OBJ_CONTROL,
-                    Privilege.PRIV_OBJ_OWNER
-                );
-                break;
-            case CHANGE:
-                allowFlag |= privileges.hasSomePrivilege(
-                    Privilege.PRIV_OBJ_CHANGE,
-                    Privilege.PRIV_OBJ_CONTROL,
-                    Privilege.PRIV_OBJ_OWNER
-                );
-                break;
-            case CONTROL:
-                allowFlag |= privileges.hasSomePrivilege(
-                    Privilege.PRIV_OBJ_CONTROL,
-                    Privilege.PRIV_OBJ_OWNER
-                );
-                break;
-            default:
-                throw new ImplementationError(
-                    "Switch statement reached default case, unhandled enumeration case",
-                    null
-                );
-        }
-        return allowFlag;
-    }
 }
@@ -0,0 +1,110 @@
+package com.linbit.linstor.security;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Access decisions of a single security context that do not depend on the protected object itself
+ * <br />
+ * Caches the level of access granted by the enabled privileges of the context as well as the level of access granted
+ * to the domain of the context by the mandatory access control rules of every security type. Access checks therefore
+ * only need a lookup of the access control entry of the subject's role, without evaluating privileges or rules.
+ * <br />
+ * The decisions are discarded whenever the enabled privileges of the context change or {@link #invalidateAll()} is
+ * called, which must happen after every change of the mandatory access control rules.
+ */
+final class AccessDecisionCache
+{
+    /**
+     * Upper bound of cached security types, further types are evaluated without caching
+     */
+    private static final int MAX_CACHED_TYPES = 64;
+
+    private static final AtomicLong GLOBAL_VERSION = new AtomicLong();
+
+    private final SecurityType subjectDomain;
+
+    private volatile Decisions decisions;
+
+    AccessDecisionCache(SecurityType subjectDomainRef)
+    {
+        subjectDomain = subjectDomainRef;
+    }
+
+    /**
+     * Discards the cached decisions of all security contexts.
+     * Must be called <b>after</b> the change that caused the invalidation was applied.
+     */
+    static void invalidateAll()
+    {
+        GLOBAL_VERSION.incrementAndGet();
+    }
+
+    /**
+     * Returns the level of access granted by the enabled privileges for RBAC security components
+     *
+     * @see PrivilegeSet#toRbacAccess()
+     */
+    AccessType getRbacPrivAccess(PrivilegeSet privEffective)
+    {
+        return getDecisions(privEffective).rbacPrivAccess;
+    }
+
+    /**
+     * Returns the level of access granted to objects of the given security type by mandatory access control rules,
+     * including the override by enabled privileges
+     *
+     * @return Allowed AccessType, or null if access is denied
+     */
+    AccessType getMacAccess(PrivilegeSet privEffective, SecurityType secType)
+    {
+        Decisions current = getDecisions(privEffective);
+        Optional<AccessType> access = current.macAccess.get(secType);
+        if (access == null)
+        {
+            access = Optional.ofNullable(AccessType.union(current.macPrivAccess, secType.getRule(subjectDomain)));
+            if (current.macAccess.size() < MAX_CACHED_TYPES)
+            {
+                current.macAccess.put(secType, access);
+            }
+        }
+        return access.orElse(null);
+    }
+
+    private Decisions getDecisions(PrivilegeSet privEffective)
+    {
+        long version = GLOBAL_VERSION.get();
+        long privMask = privEffective.getEffectiveMask();
+        Decisions current = decisions;
+        if (current == null || current.version != version || current.privMask != privMask)
+        {
+            current = new Decisions(
+                version,
+                privMask,
+                PrivilegeSet.toRbacAccess(privMask),
+                PrivilegeSet.toMacAccess(privMask)
+            );
+            decisions = current;
+        }
+        return current;
+    }
+
+    private static class Decisions
+    {
+        private final long version;
+        private final long privMask;
+        private final AccessType rbacPrivAccess;
+        private final AccessType macPrivAccess;
+        private final Map<SecurityType, Optional<AccessType>> macAccess = new ConcurrentHashMap<>();
+
+        Decisions(long versionRef, long privMaskRef, AccessType rbacPrivAccessRef, AccessType macPrivAccessRef)
+        {
+            version = versionRef;
+            privMask = privMaskRef;
+            rbacPrivAccess = rbacPrivAccessRef;
+            macPrivAccess = macPrivAccessRef;
+        }
+    }
+}
@@ -150,6 +150,15 @@ public final class PrivilegeSet implements Cloneable
         }
     }
 
+    /**
+     * Returns the bit field of the enabled privileges, limited by the limit privilege set
+     */
+    long getEffectiveMask()
+    {
+        long limitMask = limitPrivs != null ? limitPrivs.privileges : ~(0L);
+        return privileges & limitMask;
+    }
+
     public List<Privilege> getEnabledPrivileges()
     {
         List<Privilege> privList = new LinkedList<>();
@@ -238,10 +247,13 @@ public final class PrivilegeSet implements Cloneable
      * @return MAC AccessType granted by enabled privileges
      */
     public AccessType toMacAccess()
+    {
+        return toMacAccess(getEffectiveMask());
+    }
+
+    static AccessType toMacAccess(long privs)
     {
         AccessType result = null;
-        long limitMask = limitPrivs != null ? limitPrivs.privileges : ~(0L);
-        long privs = privileges & limitMask;
         if ((privs & Privilege.PRIV_MAC_OVRD.id) == Privilege.PRIV_MAC_OVRD.id)
         {
             result = AccessType.CONTROL;
@@ -256,10 +268,13 @@ public final class PrivilegeSet implements Cloneable
      * @return RBAC AccessType granted by enabled privileges
      */
     public AccessType toRbacAccess()
+    {
+        return toRbacAccess(getEffectiveMask());
+    }
+
+    static AccessType toRbacAccess(long privs)
     {
         AccessType result = null;
-        long limitMask = limitPrivs != null ? limitPrivs.privileges : ~(0L);
-        long privs = privileges & limitMask;
         if ((privs & Privilege.PRIV_OBJ_CONTROL.id) == Privilege.PRIV_OBJ_CONTROL.id ||
             (privs & Privilege.PRIV_OBJ_OWNER.id) == Privilege.PRIV_OBJ_OWNER.id)
         {
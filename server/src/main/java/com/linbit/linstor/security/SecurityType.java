@@ -6,11 +6,11 @@ import com.linbit.linstor.dbdrivers.DatabaseException;
 import com.linbit.linstor.security.pojo.TypeEnforcementRulePojo;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -29,7 +29,7 @@ public final class SecurityType implements Comparable<SecurityType>
     // Name of this security type
     public final SecTypeName name;
 
-    // Access control rules for this type
+    // Access control rules for this type, readable without locking
     private final Map<SecTypeName, AccessType> rules;
 
     public static final SecurityType SYSTEM_TYPE;
@@ -55,7 +55,7 @@ public final class SecurityType implements Comparable<SecurityType>
     SecurityType(SecTypeName typeName)
     {
         name = typeName;
-        rules = Collections.synchronizedMap(new TreeMap<SecTypeName, AccessType>());
+        rules = new ConcurrentSkipListMap<>();
     }
 
     static void ensureDefaultsExist()
@@ -209,6 +209,7 @@ public final class SecurityType implements Comparable<SecurityType>
 
                 secType.rules.put(secDomain.name, accType);
             }
+            AccessDecisionCache.invalidateAll();
         }
         catch (InvalidNameException invldNameExc)
         {
@@ -240,29 +241,14 @@ public final class SecurityType implements Comparable<SecurityType>
                 break;
             case MAC:
                 {
-                    boolean allowFlag = false;
+                    // Level of access allowed by a rule from the subject's security domain
+                    // to this security type, or by MAC_OVRD privileges of the current context.
+                    // Cached by the context until its privileges or any rules change.
+                    AccessType accType = context.decisionCache.getMacAccess(context.privEffective, this);
 
-                    // Get the name of the subject's security domain
-                    SecTypeName typeName = context.subjectDomain.name;
-
-                    // Look for a rule allowing a certain type of access
-                    // between from the subject's security domain to this
-                    // security type
-                    AccessType accType = rules.get(typeName);
-
-                    // If a rule entry was found, check whether the requested type
-                    // of access is within the bounds of the type of access
-                    // allowed by the rule entry
-                    if (accType != null)
-                    {
-                        allowFlag = accType.hasAccess(requested);
-                    }
-
-                    // Allow access if the current context has MAC_OVRD privileges
-                    if (!allowFlag)
-                    {
-                        allowFlag = context.privEffective.hasPrivileges(Privilege.PRIV_MAC_OVRD);
-                    }
+                    // Check whether the requested type of access is within the bounds
+                    // of the allowed type of access
+                    boolean allowFlag = accType != null && accType.hasAccess(requested);
 
                     if (!allowFlag)
                     {
@@ -363,6 +349,7 @@ public final class SecurityType implements Comparable<SecurityType>
         PrivilegeSet privs = context.getEffectivePrivs();
         privs.requirePrivileges(Privilege.PRIV_SYS_ALL);
         rules.put(domain.name, grantedAccess);
+        AccessDecisionCache.invalidateAll();
     }
 
     public void delRule(AccessContext context, SecurityType domain)
@@ -371,6 +358,7 @@ public final class SecurityType implements Comparable<SecurityType>
         PrivilegeSet privs = context.getEffectivePrivs();
         privs.requirePrivileges(Privilege.PRIV_SYS_ALL);
         rules.remove(domain.name);
+        AccessDecisionCache.invalidateAll();
     }
 
     public Map<SecTypeName, AccessType> getAllRules(AccessContext context)
@@ -217,6 +217,12 @@ public class StateFlagsBits<PRIMARY_KEY, FLAG extends Flags> extends AbsTransact
         return changedStateFlags != stateFlags;
     }
 
+    @Override
+    public Object getParentObject()
+    {
+        return pk;
+    }
+
     @Override
     public boolean isDirtyWithoutTransMgr()
     {
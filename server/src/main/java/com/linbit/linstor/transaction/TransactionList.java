@@ -75,6 +75,12 @@ public class TransactionList<PARENT, VALUE>
         return isDirty;
     }
 
+    @Override
+    public Object getParentObject()
+    {
+        return parent == null ? this : parent;
+    }
+
     @Override
     protected void commitImpl()
     {
@@ -100,6 +100,12 @@ public class TransactionMap<PARENT, KEY, VALUE>
         return !oldValues.isEmpty();
     }
 
+    @Override
+    public Object getParentObject()
+    {
+        return parent == null ? this : parent;
+    }
+
     @Override
     public int size()
     {
@@ -45,4 +45,13 @@ public interface TransactionObject
      */
     void commit();
 
+    /**
+     * Returns the object whose data this object holds, e.g. the node of a node's flags, or this object itself if it
+     * is not part of another object. Lets the listeners of committed transactions tell which objects changed.
+     */
+    default Object getParentObject()
+    {
+        return this;
+    }
+
 }
@@ -2,7 +2,9 @@ package com.linbit.linstor.transaction;
 
 import com.linbit.ImplementationError;
 
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 public class TransactionObjectCollection
@@ -86,6 +88,14 @@ public class TransactionObjectCollection
         return transObjects.size();
     }
 
+    /**
+     * Returns a copy of the registered objects, e.g. to tell which objects a committed transaction changed
+     */
+    public List<TransactionObject> getObjects()
+    {
+        return new ArrayList<>(transObjects);
+    }
+
     public static boolean isCheckDeletedEnabled()
     {
         return ENABLE_CHECK_DELETED.get();
@@ -72,6 +72,12 @@ public class TransactionSet<PARENT, VALUE extends TransactionObject>
         return isDirty;
     }
 
+    @Override
+    public Object getParentObject()
+    {
+        return parent == null ? this : parent;
+    }
+
     @Override
     protected void commitImpl()
     {
@@ -109,6 +109,12 @@ public class TransactionSimpleObject<PARENT, ELEMENT> extends AbsTransactionObje
         return dirty;
     }
 
+    @Override
+    public Object getParentObject()
+    {
+        return parent == null ? this : parent;
+    }
+
     @Override
     public String toString()
     {
@@ -1,24 +1,42 @@
 package com.linbit.linstor.transaction.manager;
 
 import com.linbit.linstor.ControllerSQLDatabase;
+import com.linbit.linstor.dbdrivers.DatabaseException;
 import com.linbit.linstor.transaction.TransactionException;
 import com.linbit.linstor.transaction.TransactionObject;
 import com.linbit.linstor.transaction.TransactionObjectCollection;
 
+import javax.annotation.Nullable;
+
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
 
 public class ControllerSQLTransactionMgr implements TransactionMgrSQL
 {
     private final ControllerSQLDatabase controllerDatabase;
     private final Connection dbCon;
     private final TransactionObjectCollection transactionObjectCollection;
+    private final @Nullable SQLWriteBatch writeBatch;
+    private final @Nullable TransactionCommitListener commitListener;
 
     public ControllerSQLTransactionMgr(ControllerSQLDatabase controllerDatabaseRef) throws SQLException
+    {
+        this(controllerDatabaseRef, null);
+    }
+
+    public ControllerSQLTransactionMgr(
+        ControllerSQLDatabase controllerDatabaseRef,
+        @Nullable TransactionCommitListener commitListenerRef
+    )
+        throws SQLException
     {
         controllerDatabase = controllerDatabaseRef;
+        commitListener = commitListenerRef;
         dbCon = controllerDatabaseRef.getConnection();
         transactionObjectCollection = new TransactionObjectCollection();
+        writeBatch = controllerDatabaseRef.createWriteBatch(dbCon);
     }
 
     @Override
@@ -32,16 +50,33 @@ public class ControllerSQLTransactionMgr implements TransactionMgrSQL
     {
         try
         {
+            if (writeBatch != null)
+            {
+                writeBatch.flush();
+            }
             dbCon.commit();
         }
         catch (SQLException sqlExc)
         {
             throw new TransactionException("Database commit failed.", sqlExc);
         }
+        catch (DatabaseException dbExc)
+        {
+            throw new TransactionException("Database commit failed.", dbExc);
+        }
+
+        List<TransactionObject> committedObjects = commitListener == null ?
+            Collections.emptyList() :
+            transactionObjectCollection.getObjects();
 
         transactionObjectCollection.commitAll();
 
         clearTransactionObjects();
+
+        if (commitListener != null)
+        {
+            commitListener.transactionCommitted(committedObjects);
+        }
     }
 
 
@@ -52,6 +87,10 @@ public class ControllerSQLTransactionMgr implements TransactionMgrSQL
 
         try
         {
+            if (writeBatch != null)
+            {
+                writeBatch.clear();
+            }
             dbCon.rollback();
         }
         catch (SQLException sqlExc)
@@ -86,9 +125,26 @@ public class ControllerSQLTransactionMgr implements TransactionMgrSQL
         return dbCon;
     }
 
+    @Override
+    public @Nullable SQLWriteBatch getWriteBatch()
+    {
+        return writeBatch;
+    }
+
     @Override
     public void returnConnection()
     {
+        if (writeBatch != null)
+        {
+            try
+            {
+                writeBatch.clear();
+            }
+            catch (SQLException ignored)
+            {
+                // the connection is returned anyway, which also closes its statements
+            }
+        }
         controllerDatabase.returnConnection(dbCon);
 
         clearTransactionObjects();
@@ -0,0 +1,410 @@
+package com.linbit.linstor.transaction.manager;
+
+import com.linbit.linstor.dbdrivers.DatabaseException;
+import com.linbit.linstor.security.AccessDeniedException;
+
+import javax.annotation.Nullable;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Collects the INSERT, UPDATE and DELETE statements of one transaction as JDBC batches, which are only sent to the
+ * database when the transaction commits or before the transaction's connection is used for anything else.
+ * <br />
+ * A statement is appended to an existing batch with the same SQL if moving it in front of all batches created after
+ * that one cannot change the outcome, i.e. if those batches only affect tables that are not related to the
+ * statement's table by foreign keys. Inserts may additionally be moved in front of batches on tables referencing the
+ * statement's table, as those statements cannot reference the new row yet. Otherwise a new batch is started. The
+ * batches are executed in the order they were created.
+ * <br />
+ * If the foreign keys are unknown, only consecutive statements with the same SQL are batched.
+ * <br />
+ * Inserted and deleted rows are remembered by their primary key, so that the existence of a row can be determined
+ * without sending the batches first (see {@link #getPendingRowExists(String, List)}).
+ */
+public class SQLWriteBatch
+{
+    public enum OpType
+    {
+        INSERT, UPDATE, DELETE
+    }
+
+    @FunctionalInterface
+    public interface ParameterSetter
+    {
+        void setParameters(PreparedStatement stmt) throws SQLException, DatabaseException, AccessDeniedException;
+    }
+
+    private final Connection dbCon;
+    /** upper case table name -> upper case names of all tables it references (also transitively) */
+    private final @Nullable Map<String, Set<String>> referencedTables;
+    private final List<Batch> batches = new ArrayList<>();
+    /** upper case table name -> primary key -> whether the row exists after the batches are executed */
+    private final Map<String, Map<List<Object>, Boolean>> pendingRows = new HashMap<>();
+    /** upper case names of the tables rows are deleted from by the batches */
+    private final Set<String> pendingDeleteTables = new HashSet<>();
+
+    public SQLWriteBatch(Connection dbConRef, @Nullable Map<String, Set<String>> referencedTablesRef)
+    {
+        dbCon = dbConRef;
+        referencedTables = referencedTablesRef;
+    }
+
+    /**
+     * Adds a statement to the batches.
+     *
+     * @param primaryKey
+     *     The primary key of the inserted or deleted row. Only required for INSERT and DELETE statements, if null the
+     *     existence of rows of this table cannot be determined by {@link #getPendingRowExists(String, List)}.
+     * @param description
+     *     Identifies the modified object in the exception thrown by {@link #flush()} if this statement fails
+     */
+    public void add(
+        String tableName,
+        OpType opType,
+        @Nullable List<Object> primaryKey,
+        String sql,
+        String description,
+        ParameterSetter paramSetter
+    )
+        throws SQLException, DatabaseException, AccessDeniedException
+    {
+        String table = tableName.toUpperCase(Locale.ROOT);
+        @Nullable Batch batch = findJoinableBatch(table, opType, sql);
+        if (batch == null)
+        {
+            batch = new Batch(table, opType, sql, dbCon.prepareStatement(sql));
+            batches.add(batch);
+        }
+        paramSetter.setParameters(batch.stmt);
+        batch.stmt.addBatch();
+        batch.descriptions.add(description);
+
+        if (opType == OpType.DELETE)
+        {
+            pendingDeleteTables.add(table);
+            // rows recorded for referencing tables might be deleted by ON DELETE CASCADE
+            pendingRows.keySet().removeIf(otherTable -> mayReference(otherTable, table));
+        }
+        if (primaryKey != null && opType != OpType.UPDATE)
+        {
+            pendingRows.computeIfAbsent(table, ignored -> new HashMap<>()).put(primaryKey, opType == OpType.INSERT);
+        }
+    }
+
+    /**
+     * Returns whether the row with the given primary key exists after the batches are executed, if that is already
+     * known from the rows inserted or deleted by the batches. Returns null if the database has to be queried. In
+     * that case the batches only have to be sent first if {@link #mayDeleteFrom(String)} returns true.
+     */
+    public @Nullable Boolean getPendingRowExists(String tableName, List<Object> primaryKey)
+    {
+        @Nullable Map<List<Object>, Boolean> tableRows = pendingRows.get(tableName.toUpperCase(Locale.ROOT));
+        return tableRows == null ? null : tableRows.get(primaryKey);
+    }
+
+    /**
+     * Returns true if the batches might delete rows of the given table that were not recorded by primary key, i.e.
+     * by ON DELETE CASCADE of a deleted row of a referenced table.
+     */
+    public boolean mayDeleteFrom(String tableName)
+    {
+        String table = tableName.toUpperCase(Locale.ROOT);
+        boolean mayDelete = false;
+        Iterator<String> deleteTableIt = pendingDeleteTables.iterator();
+        while (!mayDelete && deleteTableIt.hasNext())
+        {
+            mayDelete = mayReference(table, deleteTableIt.next());
+        }
+        return mayDelete;
+    }
+
+    /**
+     * Like {@link #references(String, String)}, but assumes different tables to be related if the foreign keys are
+     * unknown
+     */
+    private boolean mayReference(String table, String otherTable)
+    {
+        boolean mayRef;
+        if (referencedTables == null)
+        {
+            mayRef = !table.equals(otherTable);
+        }
+        else
+        {
+            mayRef = references(table, otherTable);
+        }
+        return mayRef;
+    }
+
+    public boolean isEmpty()
+    {
+        return batches.isEmpty();
+    }
+
+    /**
+     * Returns the number of statements waiting to be sent to the database
+     */
+    public int size()
+    {
+        int size = 0;
+        for (Batch batch : batches)
+        {
+            size += batch.descriptions.size();
+        }
+        return size;
+    }
+
+    /**
+     * Sends all batches to the database. The batches are discarded, even if one of them fails.
+     *
+     * @throws DatabaseException
+     *     if a statement fails, naming the statement and the object it modified if the driver reports which
+     *     statement of the batch failed
+     */
+    public void flush() throws DatabaseException
+    {
+        try
+        {
+            for (Batch batch : batches)
+            {
+                try
+                {
+                    batch.stmt.executeBatch();
+                }
+                catch (SQLException sqlExc)
+                {
+                    throw batchFailed(batch, sqlExc);
+                }
+            }
+        }
+        finally
+        {
+            try
+            {
+                clear();
+            }
+            catch (SQLException ignored)
+            {
+                // closing the statements of the batches failed, does not affect the data
+            }
+        }
+    }
+
+    /**
+     * Discards all batches without sending them to the database
+     */
+    public void clear() throws SQLException
+    {
+        SQLException closeExc = null;
+        for (Batch batch : batches)
+        {
+            try
+            {
+                batch.stmt.close();
+            }
+            catch (SQLException sqlExc)
+            {
+                if (closeExc == null)
+                {
+                    closeExc = sqlExc;
+                }
+            }
+        }
+        batches.clear();
+        pendingRows.clear();
+        pendingDeleteTables.clear();
+        if (closeExc != null)
+        {
+            throw closeExc;
+        }
+    }
+
+    private static DatabaseException batchFailed(Batch batch, SQLException sqlExc)
+    {
+        int failedIdx = -1;
+        if (sqlExc instanceof BatchUpdateException)
+        {
+            int[] updateCounts = ((BatchUpdateException) sqlExc).getUpdateCounts();
+            if (updateCounts != null)
+            {
+                // drivers either stop at the failed statement or mark every failed statement
+                failedIdx = 0;
+                while (failedIdx < updateCounts.length && updateCounts[failedIdx] != Statement.EXECUTE_FAILED)
+                {
+                    ++failedIdx;
+                }
+            }
+        }
+
+        String failedDescr;
+        if (failedIdx >= 0 && failedIdx < batch.descriptions.size())
+        {
+            failedDescr = batch.descriptions.get(failedIdx);
+        }
+        else
+        {
+            failedDescr = "one of " + batch.descriptions.size() + " statements";
+        }
+        return new DatabaseException(
+            "Batched " + batch.opType + " of " + failedDescr + " failed",
+            null,
+            sqlExc.getMessage(),
+            null,
+            "SQL: " + batch.sql,
+            sqlExc
+        );
+    }
+
+    private @Nullable Batch findJoinableBatch(String table, OpType opType, String sql)
+    {
+        @Nullable Batch joinable = null;
+        boolean blocked = false;
+        ListIterator<Batch> batchIt = batches.listIterator(batches.size());
+        while (joinable == null && !blocked && batchIt.hasPrevious())
+        {
+            Batch batch = batchIt.previous();
+            if (batch.sql.equals(sql))
+            {
+                joinable = batch;
+            }
+            else
+            {
+                blocked = !canMoveBefore(table, opType, batch);
+            }
+        }
+        return joinable;
+    }
+
+    private boolean canMoveBefore(String table, OpType opType, Batch batch)
+    {
+        boolean canMove;
+        if (referencedTables == null || table.equals(batch.table))
+        {
+            canMove = false;
+        }
+        else
+        {
+            boolean tableReferencesBatch = references(table, batch.table);
+            boolean batchReferencesTable = references(batch.table, table);
+            if (tableReferencesBatch)
+            {
+                canMove = false;
+            }
+            else
+            if (batchReferencesTable)
+            {
+                // the new row cannot be referenced by earlier statements
+                canMove = opType == OpType.INSERT;
+            }
+            else
+            {
+                canMove = true;
+            }
+        }
+        return canMove;
+    }
+
+    private boolean references(String table, String otherTable)
+    {
+        Set<String> refs = referencedTables.get(table);
+        return refs != null && refs.contains(otherTable);
+    }
+
+    /**
+     * Loads the foreign keys of all tables of the given schema.
+     *
+     * @return upper case table name -> upper case names of all tables it references directly or transitively, or
+     *     null if no foreign keys could be found at all (in which case the tables must be assumed to be related)
+     */
+    public static @Nullable Map<String, Set<String>> loadReferencedTables(Connection con, String schema)
+        throws SQLException
+    {
+        DatabaseMetaData metaData = con.getMetaData();
+        Map<String, Set<String>> directRefs = new HashMap<>();
+        List<String> tables = new ArrayList<>();
+        try (ResultSet tablesRs = metaData.getTables(null, schema, null, new String[] {"TABLE"}))
+        {
+            while (tablesRs.next())
+            {
+                tables.add(tablesRs.getString("TABLE_NAME"));
+            }
+        }
+        boolean foundFk = false;
+        for (String table : tables)
+        {
+            Set<String> refs = new HashSet<>();
+            try (ResultSet fkRs = metaData.getImportedKeys(null, schema, table))
+            {
+                while (fkRs.next())
+                {
+                    refs.add(fkRs.getString("PKTABLE_NAME").toUpperCase(Locale.ROOT));
+                    foundFk = true;
+                }
+            }
+            directRefs.put(table.toUpperCase(Locale.ROOT), refs);
+        }
+
+        @Nullable Map<String, Set<String>> ret = null;
+        if (foundFk)
+        {
+            ret = new HashMap<>();
+            for (String table : directRefs.keySet())
+            {
+                ret.put(table, Collections.unmodifiableSet(collectReferences(table, directRefs)));
+            }
+        }
+        return ret;
+    }
+
+    private static Set<String> collectReferences(String table, Map<String, Set<String>> directRefs)
+    {
+        Set<String> allRefs = new HashSet<>();
+        Deque<String> toVisit = new ArrayDeque<>(directRefs.getOrDefault(table, Collections.emptySet()));
+        while (!toVisit.isEmpty())
+        {
+            String ref = toVisit.pop();
+            if (allRefs.add(ref))
+            {
+                toVisit.addAll(directRefs.getOrDefault(ref, Collections.emptySet()));
+            }
+        }
+        return allRefs;
+    }
+
+    private static class Batch
+    {
+        private final String table;
+        private final OpType opType;
+        private final String sql;
+        private final PreparedStatement stmt;
+        /** descriptions of the added statements, in the order they were added */
+        private final List<String> descriptions = new ArrayList<>();
+
+        private Batch(String tableRef, OpType opTypeRef, String sqlRef, PreparedStatement stmtRef)
+        {
+            table = tableRef;
+            opType = opTypeRef;
+            sql = sqlRef;
+            stmt = stmtRef;
+        }
+    }
+}
@@ -3,6 +3,10 @@ package com.linbit.linstor.transaction.manager;
 import com.linbit.linstor.transaction.TransactionObject;
 import com.linbit.linstor.transaction.TransactionObjectCollection;
 
+/**
+ * The device manager might process independent resources in parallel (all within the same transaction), which is
+ * why all access to the collection of transaction objects is synchronized
+ */
 public class SatelliteTransactionMgr implements TransactionMgr
 {
     private final TransactionObjectCollection transactionObjectCollection;
@@ -13,13 +17,13 @@ public class SatelliteTransactionMgr implements TransactionMgr
     }
 
     @Override
-    public void register(TransactionObject transObj)
+    public synchronized void register(TransactionObject transObj)
     {
         transactionObjectCollection.register(transObj);
     }
 
     @Override
-    public void commit()
+    public synchronized void commit()
     {
         transactionObjectCollection.commitAll();
         clearTransactionObjects();
@@ -27,26 +31,26 @@ public class SatelliteTransactionMgr implements TransactionMgr
 
 
     @Override
-    public void rollback()
+    public synchronized void rollback()
     {
         transactionObjectCollection.rollbackAll();
         clearTransactionObjects();
     }
 
     @Override
-    public void clearTransactionObjects()
+    public synchronized void clearTransactionObjects()
     {
         transactionObjectCollection.clearAll();
     }
 
     @Override
-    public boolean isDirty()
+    public synchronized boolean isDirty()
     {
         return transactionObjectCollection.areAnyDirty();
     }
 
     @Override
-    public int sizeObjects()
+    public synchronized int sizeObjects()
     {
         return transactionObjectCollection.sizeObjects();
     }
@@ -0,0 +1,17 @@
+package com.linbit.linstor.transaction.manager;
+
+import com.linbit.linstor.transaction.TransactionObject;
+
+import java.util.Collection;
+
+/**
+ * Notified by the controller's transaction managers after a transaction was committed successfully
+ */
+public interface TransactionCommitListener
+{
+    /**
+     * @param committedObjects the objects that were registered with the transaction manager, see
+     *     {@link TransactionObject#getParentObject()} for the objects they belong to
+     */
+    void transactionCommitted(Collection<TransactionObject> committedObjects);
+}
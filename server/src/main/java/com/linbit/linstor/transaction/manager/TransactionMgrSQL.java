@@ -1,8 +1,16 @@
 package com.linbit.linstor.transaction.manager;
 
+import javax.annotation.Nullable;
+
 import java.sql.Connection;
 
 public interface TransactionMgrSQL extends TransactionMgr
 {
     Connection getConnection();
+
+    /**
+     * Returns the batch collecting the write statements of this transaction, or null if write batching is disabled
+     */
+    @Nullable
+    SQLWriteBatch getWriteBatch();
 }
@@ -0,0 +1,146 @@
+package com.linbit.locks;
+
+import com.linbit.linstor.prometheus.LinstorServerMetrics;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import io.prometheus.client.Histogram;
+
+/**
+ * Fair {@link ReentrantReadWriteLock} that records the time threads wait for and hold its read and write lock in
+ * {@link LinstorServerMetrics#lockWaitHistogram} and {@link LinstorServerMetrics#lockHoldHistogram}.
+ */
+public class InstrumentedReadWriteLock implements ReadWriteLock
+{
+    static final String MODE_READ = "read";
+    static final String MODE_WRITE = "write";
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final String name;
+    private final ReentrantReadWriteLock globalLock;
+    private final Lock readLock;
+    private final Lock writeLock;
+
+    public InstrumentedReadWriteLock(String nameRef)
+    {
+        name = nameRef;
+        globalLock = new ReentrantReadWriteLock(true);
+        readLock = new InstrumentedLock(name, MODE_READ, globalLock.readLock());
+        writeLock = new InstrumentedLock(name, MODE_WRITE, globalLock.writeLock());
+    }
+
+    /**
+     * Returns the underlying lock without instrumentation, i.e. for reporting its state
+     */
+    public ReentrantReadWriteLock getGlobalLock()
+    {
+        return globalLock;
+    }
+
+    public String getName()
+    {
+        return name;
+    }
+
+    @Override
+    public Lock readLock()
+    {
+        return readLock;
+    }
+
+    @Override
+    public Lock writeLock()
+    {
+        return writeLock;
+    }
+
+    /**
+     * Wraps a lock and measures the time spent in lock() as well as the time between lock() and unlock().
+     * Conditions are created by the wrapped lock. Time spent awaiting a condition is not accounted separately, i.e.
+     * it counts as hold time.
+     */
+    static class InstrumentedLock implements Lock
+    {
+        private final Lock delegate;
+        private final Histogram.Child waitHistogram;
+        private final Histogram.Child holdHistogram;
+        /** start times of the (possibly reentrant) acquisitions of the current thread */
+        private final ThreadLocal<ArrayDeque<Long>> acquiredAt = ThreadLocal.withInitial(ArrayDeque::new);
+
+        InstrumentedLock(String lockNameRef, String modeRef, Lock delegateRef)
+        {
+            delegate = delegateRef;
+            waitHistogram = LinstorServerMetrics.lockWaitHistogram.labels(lockNameRef, modeRef);
+            holdHistogram = LinstorServerMetrics.lockHoldHistogram.labels(lockNameRef, modeRef);
+        }
+
+        @Override
+        public void lock()
+        {
+            long start = System.nanoTime();
+            delegate.lock();
+            acquired(start);
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException
+        {
+            long start = System.nanoTime();
+            delegate.lockInterruptibly();
+            acquired(start);
+        }
+
+        @Override
+        public boolean tryLock()
+        {
+            boolean locked = delegate.tryLock();
+            if (locked)
+            {
+                acquired(System.nanoTime());
+            }
+            return locked;
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException
+        {
+            long start = System.nanoTime();
+            boolean locked = delegate.tryLock(time, unit);
+            if (locked)
+            {
+                acquired(start);
+            }
+            return locked;
+        }
+
+        @Override
+        public void unlock()
+        {
+            delegate.unlock();
+            Long lockedAt = acquiredAt.get().pollLast();
+            if (lockedAt != null)
+            {
+                holdHistogram.observe((System.nanoTime() - lockedAt) / NANOS_PER_SECOND);
+            }
+        }
+
+        @Override
+        public Condition newCondition()
+        {
+            return delegate.newCondition();
+        }
+
+        private void acquired(long start)
+        {
+            long now = System.nanoTime();
+            waitHistogram.observe((now - start) / NANOS_PER_SECOND);
+            acquiredAt.get().addLast(now);
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package com.linbit.utils;
+
+import java.lang.reflect.Array;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * Memory efficient replacement for small {@link java.util.TreeMap}s. Keys and values are stored in two arrays
+ * sorted by the natural order of the keys, so an entry only needs two references instead of a tree node object.
+ * <br />
+ * Lookups are binary searches like in a TreeMap, but inserting and removing entries has to shift the following
+ * entries. This map is therefore only meant for maps with at most a few hundred entries, like the properties of a
+ * single namespace.
+ * <br />
+ * Like TreeMap, this class is not thread safe and does not support <code>null</code> keys. Unlike TreeMap, the
+ * entry set iterator returns the same entry object for every element (like {@link java.util.IdentityHashMap}), which
+ * is only valid until the iterator is advanced or the map is structurally modified. Entries that have to be kept
+ * have to be copied. The entries of {@link Set#toArray()} and of streams are such copies already.
+ */
+public class SortedArrayMap<K extends Comparable<? super K>, V> extends AbstractMap<K, V>
+{
+    private static final Object[] EMPTY = new Object[0];
+    private static final int MIN_CAPACITY = 2;
+
+    private Object[] keys = EMPTY;
+    private Object[] values = EMPTY;
+    private int size;
+    private int modCount;
+
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        boolean found = false;
+        for (int idx = 0; idx < size && !found; ++idx)
+        {
+            found = Objects.equals(values[idx], value);
+        }
+        return found;
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        int idx = indexOf(key);
+        return idx >= 0 ? valueAt(idx) : null;
+    }
+
+    @Override
+    public V put(K key, V value)
+    {
+        int idx = indexOf(key);
+        V oldValue;
+        if (idx >= 0)
+        {
+            oldValue = valueAt(idx);
+            values[idx] = value;
+        }
+        else
+        {
+            oldValue = null;
+            insertAt(-(idx + 1), key, value);
+        }
+        return oldValue;
+    }
+
+    @Override
+    public V remove(Object key)
+    {
+        int idx = indexOf(key);
+        V oldValue = null;
+        if (idx >= 0)
+        {
+            oldValue = valueAt(idx);
+            removeAt(idx);
+        }
+        return oldValue;
+    }
+
+    @Override
+    public void clear()
+    {
+        keys = EMPTY;
+        values = EMPTY;
+        size = 0;
+        ++modCount;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet()
+    {
+        return new EntrySet();
+    }
+
+    private int indexOf(Object key)
+    {
+        return Arrays.binarySearch(keys, 0, size, Objects.requireNonNull(key));
+    }
+
+    @SuppressWarnings("unchecked")
+    private K keyAt(int idx)
+    {
+        return (K) keys[idx];
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int idx)
+    {
+        return (V) values[idx];
+    }
+
+    private void insertAt(int idx, K key, V value)
+    {
+        if (size == keys.length)
+        {
+            // grow by 50%, small maps are far more common than large ones
+            int newCapacity = Math.max(MIN_CAPACITY, size + (size >> 1));
+            keys = Arrays.copyOf(keys, newCapacity);
+            values = Arrays.copyOf(values, newCapacity);
+        }
+        System.arraycopy(keys, idx, keys, idx + 1, size - idx);
+        System.arraycopy(values, idx, values, idx + 1, size - idx);
+        keys[idx] = key;
+        values[idx] = value;
+        ++size;
+        ++modCount;
+    }
+
+    private void removeAt(int idx)
+    {
+        int moved = size - idx - 1;
+        System.arraycopy(keys, idx + 1, keys, idx, moved);
+        System.arraycopy(values, idx + 1, values, idx, moved);
+        --size;
+        keys[size] = null;
+        values[size] = null;
+        ++modCount;
+    }
+
+    private class EntrySet extends AbstractSet<Entry<K, V>>
+    {
+        @Override
+        public int size()
+        {
+            return size;
+        }
+
+        @Override
+        public void clear()
+        {
+            SortedArrayMap.this.clear();
+        }
+
+        @Override
+        public Iterator<Entry<K, V>> iterator()
+        {
+            return new EntryIterator();
+        }
+
+        /*
+         * The iterator reuses its entry, everything that keeps the entries has to get copies
+         */
+
+        @Override
+        public Object[] toArray()
+        {
+            return copyEntries();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] arr)
+        {
+            T[] ret = arr.length >= size ?
+                arr :
+                (T[]) Array.newInstance(arr.getClass().getComponentType(), size);
+            System.arraycopy(copyEntries(), 0, ret, 0, size);
+            if (ret.length > size)
+            {
+                ret[size] = null;
+            }
+            return ret;
+        }
+
+        @Override
+        public Spliterator<Entry<K, V>> spliterator()
+        {
+            return Spliterators.spliterator(copyEntries(), Spliterator.DISTINCT | Spliterator.ORDERED);
+        }
+
+        private Object[] copyEntries()
+        {
+            Object[] entries = new Object[size];
+            for (int idx = 0; idx < size; ++idx)
+            {
+                entries[idx] = new AbstractMap.SimpleImmutableEntry<>(keyAt(idx), valueAt(idx));
+            }
+            return entries;
+        }
+    }
+
+    /**
+     * The iterator is also the entry it returns, which avoids an allocation per entry. The entry accesses the
+     * arrays by the index of the last returned element and therefore only stays valid until the next call of
+     * {@link #next()} or {@link #remove()}, or until the map is structurally modified.
+     */
+    private class EntryIterator implements Iterator<Entry<K, V>>, Entry<K, V>
+    {
+        private int nextIdx = 0;
+        private int lastIdx = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext()
+        {
+            return nextIdx < size;
+        }
+
+        @Override
+        public Entry<K, V> next()
+        {
+            checkModCount();
+            if (nextIdx >= size)
+            {
+                throw new NoSuchElementException();
+            }
+            lastIdx = nextIdx;
+            ++nextIdx;
+            return this;
+        }
+
+        @Override
+        public void remove()
+        {
+            checkCurrentEntry();
+            removeAt(lastIdx);
+            nextIdx = lastIdx;
+            lastIdx = -1;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public K getKey()
+        {
+            checkCurrentEntry();
+            return keyAt(lastIdx);
+        }
+
+        @Override
+        public V getValue()
+        {
+            checkCurrentEntry();
+            return valueAt(lastIdx);
+        }
+
+        @Override
+        public V setValue(V value)
+        {
+            checkCurrentEntry();
+            V oldValue = valueAt(lastIdx);
+            values[lastIdx] = value;
+            return oldValue;
+        }
+
+        private void checkModCount()
+        {
+            if (modCount != expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        private void checkCurrentEntry()
+        {
+            if (lastIdx < 0)
+            {
+                throw new IllegalStateException();
+            }
+            checkModCount();
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            boolean eq = false;
+            if (obj instanceof Map.Entry)
+            {
+                Map.Entry<?, ?> other = (Map.Entry<?, ?>) obj;
+                eq = Objects.equals(getKey(), other.getKey()) && Objects.equals(getValue(), other.getValue());
+            }
+            return eq;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString()
+        {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
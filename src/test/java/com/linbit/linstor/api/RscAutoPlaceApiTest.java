@@ -4,6 +4,7 @@ import com.linbit.ImplementationError;
 import com.linbit.InvalidNameException;
 import com.linbit.linstor.api.ApiConsts.ConnectionStatus;
 import com.linbit.linstor.api.interfaces.AutoSelectFilterApi;
+import com.linbit.linstor.api.pojo.builder.AutoSelectFilterBuilder;
 import com.linbit.linstor.api.utils.AbsApiCallTester;
 import com.linbit.linstor.core.ApiTestBase;
 import com.linbit.linstor.core.LinStor;
@@ -212,6 +213,62 @@ public class RscAutoPlaceApiTest extends ApiTestBase
         );
     }
 
+    @Test
+    public void batchAccountsPreviousPlacementsTest() throws Exception
+    {
+        RscAutoPlaceApiCall call = new RscAutoPlaceBatchApiCall(
+            Arrays.asList(TEST_RSC_NAME, "rsc2", "rsc3"),
+            1,
+            true
+        )
+            .stltBuilder("stlt1")
+                .addStorPool("pool", 30 * MB)
+                .build()
+            .stltBuilder("stlt2")
+                .addStorPool("pool", 26 * MB)
+                .build()
+            .stltBuilder("stlt3")
+                .addStorPool("pool", 22 * MB)
+                .build()
+            .addVlmDfn(TEST_RSC_NAME, 0, 10 * MB)
+            .addRscDfn("rsc2", TEST_TCP_PORT_NR + 1)
+            .addVlmDfn("rsc2", 0, 10 * MB)
+            .addRscDfn("rsc3", TEST_TCP_PORT_NR + 2)
+            .addVlmDfn("rsc3", 0, 10 * MB);
+
+        evaluateTest(call, false);
+
+        // the storage pools are rated only once per batch, every placement has to lower the rating of the chosen
+        // storage pool for the following placements
+        expectDeployed("pool", TEST_RSC_NAME, "stlt1");
+        expectDeployed("pool", "rsc2", "stlt2");
+        expectDeployed("pool", "rsc3", "stlt3");
+    }
+
+    @Test
+    public void batchSizeLimitTest() throws Exception
+    {
+        enterScope();
+        ctrlConf.setProp(CtrlRscAutoPlaceApiCallHandler.KEY_MAX_BATCH_SIZE, "2", ApiConsts.NAMESPC_AUTOPLACER);
+        commitAndCleanUp(true);
+
+        // the batch is rejected before any of the resource definitions is looked up
+        RscAutoPlaceApiCall call = new RscAutoPlaceBatchApiCall(
+            Arrays.asList(TEST_RSC_NAME, "rsc2", "rsc3"),
+            1,
+            false,
+            ApiConsts.FAIL_INVLD_REQUEST
+        )
+            .stltBuilder("stlt1")
+                .addStorPool("pool", 100 * MB)
+                .build()
+            .addVlmDfn(TEST_RSC_NAME, 0, 10 * MB);
+
+        evaluateTest(call);
+
+        expectNotDeployed(TEST_RSC_NAME);
+    }
+
     @Test
     public void chooseLargerPoolTest() throws Exception
     {
@@ -3067,6 +3124,29 @@ public class RscAutoPlaceApiTest extends ApiTestBase
             return apiCallRc;
         }
 
+        AutoSelectFilterApi buildSelectFilter()
+        {
+            return new AutoSelectFilterBuilder()
+                .setPlaceCount(placeCount)
+                .setAdditionalPlaceCount(additionalPlaceCount)
+                .setNodeNameList(nodeNameList)
+                .setStorPoolNameList(storPoolNameList)
+                .setStorPoolDisklessNameList(storPoolDisklessNameList)
+                .setDoNotPlaceWithRscList(doNotPlaceWithRscList)
+                .setDoNotPlaceWithRegex(doNotPlaceWithRscRegexStr)
+                .setReplicasOnSameList(replicasOnSameNodePropList)
+                .setReplicasOnDifferentList(replicasOnDifferentNodePropList)
+                .setXReplicasOnDifferentMap(xReplicasOnDifferentMap)
+                .setLayerStackList(layerStack)
+                .setDeviceProviderKinds(providerList)
+                .setDisklessOnRemaining(disklessOnRemaining)
+                .setSkipAlreadyPlacedOnNodeNamesCheck(skipAlreadyPlacedOnNodeCheck)
+                .setSkipAlreadyPlacedOnAllNodeCheck(skipAlreadyPlacedOnAllNodeCheck)
+                .setDisklessType(disklessType)
+                .setRequireExtTools(requiredExtTools)
+                .build();
+        }
+
         SatelliteBuilder stltBuilder(String stltName) throws Exception
         {
             enterScope();
@@ -3189,6 +3269,35 @@ public class RscAutoPlaceApiTest extends ApiTestBase
         }
     }
 
+    /**
+     * Auto-places all given resource definitions with the filter of this call in a single batch
+     */
+    private class RscAutoPlaceBatchApiCall extends RscAutoPlaceApiCall
+    {
+        private final List<String> rscNameStrs;
+
+        RscAutoPlaceBatchApiCall(
+            List<String> rscNameStrsRef,
+            Integer placeCountRef,
+            boolean expectDeployment,
+            long... expectedRetCodes
+        )
+        {
+            super(rscNameStrsRef.get(0), placeCountRef, expectDeployment, expectedRetCodes);
+            rscNameStrs = rscNameStrsRef;
+        }
+
+        @Override
+        public ApiCallRc executeApiCall()
+            throws Exception
+        {
+            ApiCallRcImpl apiCallRc = new ApiCallRcImpl();
+            rscAutoPlaceApiCallHandler.autoPlaceBatch(rscNameStrs, buildSelectFilter())
+                .contextWrite(contextWrite()).toStream().forEach(apiCallRc::addEntries);
+            return apiCallRc;
+        }
+    }
+
     private final class SatelliteBuilder
     {
         private final RscAutoPlaceApiCall parent;
@@ -0,0 +1,95 @@
+package com.linbit.linstor.api;
+
+import com.linbit.linstor.testutils.EmptyErrorReporter;
+import com.linbit.linstor.testutils.LocalS3StandIn;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.model.PartETag;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class S3MultipartUploaderTest
+{
+    private static final int PART_SIZE = 1 << 10;
+
+    @Test
+    public void partsAreOrderedAndComplete() throws Exception
+    {
+        LocalS3StandIn s3 = new LocalS3StandIn(5, 0);
+        List<PartETag> parts = upload(s3, 4, Long.MAX_VALUE, 10 * PART_SIZE + 7);
+
+        assertEquals(11, parts.size());
+        for (int idx = 0; idx < parts.size(); idx++)
+        {
+            assertEquals(idx + 1, parts.get(idx).getPartNumber());
+            assertEquals("etag-" + (idx + 1), parts.get(idx).getETag());
+        }
+        assertEquals(10 * PART_SIZE + 7, s3.getUploadedBytes());
+    }
+
+    @Test
+    public void partsInFlightAreBounded() throws Exception
+    {
+        LocalS3StandIn s3 = new LocalS3StandIn(20, 0);
+        upload(s3, 3, Long.MAX_VALUE, 20 * PART_SIZE);
+        assertTrue(s3.getMaxInFlight() > 1);
+        assertTrue(s3.getMaxInFlight() <= 3);
+
+        // the memory ceiling only allows two buffers
+        s3 = new LocalS3StandIn(20, 0);
+        upload(s3, 8, 2 * PART_SIZE, 20 * PART_SIZE);
+        assertTrue(s3.getMaxInFlight() <= 2);
+    }
+
+    @Test
+    public void serverErrorsAreRetried() throws Exception
+    {
+        LocalS3StandIn s3 = new LocalS3StandIn(0, 0);
+        s3.failPart(2, 1, 503);
+        List<PartETag> parts = upload(s3, 2, Long.MAX_VALUE, 3 * PART_SIZE);
+
+        assertEquals(3, parts.size());
+        assertEquals(2, s3.getAttempts(2));
+        assertEquals(3 * PART_SIZE, s3.getUploadedBytes());
+    }
+
+    @Test
+    public void clientErrorsAreNotRetried() throws Exception
+    {
+        LocalS3StandIn s3 = new LocalS3StandIn(0, 0);
+        s3.failPart(2, 1, 404);
+        try
+        {
+            upload(s3, 2, Long.MAX_VALUE, 3 * PART_SIZE);
+            fail("Upload should have failed");
+        }
+        catch (AmazonServiceException exc)
+        {
+            assertEquals(404, exc.getStatusCode());
+        }
+        assertEquals(1, s3.getAttempts(2));
+    }
+
+    private static List<PartETag> upload(LocalS3StandIn s3, int concurrency, long maxMemory, int size)
+        throws Exception
+    {
+        return new S3MultipartUploader(
+            new EmptyErrorReporter(false),
+            s3,
+            "bucket",
+            "key",
+            "uploadId",
+            false,
+            "remote",
+            PART_SIZE,
+            concurrency,
+            maxMemory
+        ).upload(new ByteArrayInputStream(new byte[size]));
+    }
+}
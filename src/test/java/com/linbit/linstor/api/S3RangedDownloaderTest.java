@@ -0,0 +1,113 @@
+package com.linbit.linstor.api;
+
+import com.linbit.linstor.testutils.EmptyErrorReporter;
+import com.linbit.linstor.testutils.LocalS3StandIn;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+
+import com.amazonaws.AmazonServiceException;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class S3RangedDownloaderTest
+{
+    private static final int RANGE_SIZE = 1 << 10;
+    private static final String KEY = "backup";
+
+    private byte[] data;
+
+    @Before
+    public void setUp()
+    {
+        data = new byte[10 * RANGE_SIZE + 7];
+        new Random(42).nextBytes(data);
+    }
+
+    @Test
+    public void rangesAreWrittenInOrder() throws Exception
+    {
+        // the first ranges take longer than the later ones and arrive out of order
+        LocalS3StandIn s3 = new LocalS3StandIn(5, 100_000);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = download(s3, 4, Long.MAX_VALUE, out);
+
+        assertEquals(data.length, written);
+        assertArrayEquals(data, out.toByteArray());
+    }
+
+    @Test
+    public void rangesInFlightAreBounded() throws Exception
+    {
+        LocalS3StandIn s3 = new LocalS3StandIn(20, 0);
+        download(s3, 3, Long.MAX_VALUE, new ByteArrayOutputStream());
+        assertTrue(s3.getMaxInFlight() > 1);
+        assertTrue(s3.getMaxInFlight() <= 3);
+
+        // the memory ceiling only allows two buffers
+        s3 = new LocalS3StandIn(20, 0);
+        download(s3, 8, 2 * RANGE_SIZE, new ByteArrayOutputStream());
+        assertTrue(s3.getMaxInFlight() <= 2);
+    }
+
+    @Test
+    public void emptyObject() throws Exception
+    {
+        data = new byte[0];
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(0, download(new LocalS3StandIn(0, 0), 4, Long.MAX_VALUE, out));
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    public void serverErrorsAreRetried() throws Exception
+    {
+        LocalS3StandIn s3 = new LocalS3StandIn(0, 0);
+        s3.failPart(2, 1, 500);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        download(s3, 2, Long.MAX_VALUE, out);
+
+        assertArrayEquals(data, out.toByteArray());
+        assertEquals(2, s3.getAttempts(2));
+    }
+
+    @Test
+    public void clientErrorsAreNotRetried() throws Exception
+    {
+        LocalS3StandIn s3 = new LocalS3StandIn(0, 0);
+        s3.failPart(2, 1, 403);
+        try
+        {
+            download(s3, 2, Long.MAX_VALUE, new ByteArrayOutputStream());
+            fail("Download should have failed");
+        }
+        catch (AmazonServiceException exc)
+        {
+            assertEquals(403, exc.getStatusCode());
+        }
+        assertEquals(1, s3.getAttempts(2));
+    }
+
+    private long download(LocalS3StandIn s3, int concurrency, long maxMemory, ByteArrayOutputStream out)
+        throws Exception
+    {
+        s3.putTestObject(KEY, data);
+        s3.setRangeSize(RANGE_SIZE);
+        return new S3RangedDownloader(
+            new EmptyErrorReporter(false),
+            s3,
+            "bucket",
+            KEY,
+            false,
+            "remote",
+            RANGE_SIZE,
+            concurrency,
+            maxMemory
+        ).download(out);
+    }
+}
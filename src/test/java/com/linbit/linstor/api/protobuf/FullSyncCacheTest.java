@@ -0,0 +1,135 @@
+package com.linbit.linstor.api.protobuf;
+
+import com.linbit.linstor.api.pojo.HeldObjectsPojo;
+import com.linbit.linstor.api.pojo.ObjectRefPojo;
+import com.linbit.linstor.proto.javainternal.c2s.IntExternalFileOuterClass.IntExternalFile;
+import com.linbit.linstor.proto.javainternal.c2s.IntNodeOuterClass.IntNode;
+import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplyFullSyncOuterClass.MsgIntApplyFullSync;
+
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class FullSyncCacheTest
+{
+    private static final long EPOCH = 1234;
+
+    private FullSyncCache cache;
+    private IntNode node1;
+    private IntNode node2;
+    private IntExternalFile extFile;
+
+    @Before
+    public void setUp()
+    {
+        cache = new FullSyncCache();
+        node1 = node("node1", "node1-type");
+        node2 = node("node2", "node2-type");
+        extFile = IntExternalFile.newBuilder()
+            .setUuid(UUID.randomUUID().toString())
+            .setName("/etc/file")
+            .build();
+        cache.replaceAll(
+            MsgIntApplyFullSync.newBuilder()
+                .addNodes(node1)
+                .addNodes(node2)
+                .addExternalFiles(extFile)
+                .setObjectVersionEpoch(EPOCH)
+                .setObjectVersion(7)
+                .build()
+        );
+    }
+
+    @Test
+    public void testHeldObjects()
+    {
+        HeldObjectsPojo held = cache.getHeldObjects();
+        assertEquals(EPOCH, held.getObjectVersionEpoch());
+        assertEquals(7, held.getObjectVersion());
+        assertEquals(3, held.getObjects().size());
+        assertTrue(held.holds(ProtoObjectRefs.of(node1)));
+        assertTrue(held.holds(ProtoObjectRefs.of(extFile)));
+        assertFalse(held.holds(ProtoObjectRefs.of(node1.toBuilder().setUuid(UUID.randomUUID().toString()).build())));
+
+        // an update removes the object, the controller sends it again as its version increased
+        cache.remove(ProtoObjectRefs.of(node2));
+        assertFalse(cache.getHeldObjects().holds(ProtoObjectRefs.of(node2)));
+
+        cache.clear();
+        assertTrue(cache.getHeldObjects().isEmpty());
+    }
+
+    @Test
+    public void testNothingHeldWithoutObjectVersion()
+    {
+        // controller without object versions
+        cache.replaceAll(MsgIntApplyFullSync.newBuilder().addNodes(node1).build());
+        assertTrue(cache.getHeldObjects().isEmpty());
+    }
+
+    @Test
+    public void testResolveDelta()
+    {
+        IntNode changedNode2 = node2.toBuilder().setType("changed").build();
+        MsgIntApplyFullSync delta = MsgIntApplyFullSync.newBuilder()
+            .setFullSyncTimestamp(42)
+            .setDeltaSyncVersion(ProtoObjectRefs.DELTA_SYNC_VERSION)
+            .addNodes(changedNode2)
+            .addUnchangedObjects(ProtoObjectRefs.toProto(ProtoObjectRefs.of(node1)))
+            .addUnchangedObjects(ProtoObjectRefs.toProto(ProtoObjectRefs.of(extFile)))
+            .build();
+
+        MsgIntApplyFullSync resolved = cache.resolveDelta(delta);
+        assertEquals(0, resolved.getDeltaSyncVersion());
+        assertEquals(0, resolved.getUnchangedObjectsCount());
+        assertEquals(42, resolved.getFullSyncTimestamp());
+        assertEquals(2, resolved.getNodesCount());
+        assertTrue(resolved.getNodesList().contains(node1));
+        assertTrue(resolved.getNodesList().contains(changedNode2));
+        assertEquals(extFile, resolved.getExternalFiles(0));
+    }
+
+    @Test
+    public void testResolveDeltaOutdated()
+    {
+        // the node was recreated with a different UUID
+        IntNode recreatedNode1 = node1.toBuilder().setUuid(UUID.randomUUID().toString()).build();
+        MsgIntApplyFullSync delta = MsgIntApplyFullSync.newBuilder()
+            .setDeltaSyncVersion(ProtoObjectRefs.DELTA_SYNC_VERSION)
+            .addUnchangedObjects(ProtoObjectRefs.toProto(ProtoObjectRefs.of(recreatedNode1)))
+            .build();
+        assertNull(cache.resolveDelta(delta));
+
+        cache.remove(ObjectRefPojo.Kind.NODE, "node2");
+        delta = MsgIntApplyFullSync.newBuilder()
+            .setDeltaSyncVersion(ProtoObjectRefs.DELTA_SYNC_VERSION)
+            .addUnchangedObjects(ProtoObjectRefs.toProto(ProtoObjectRefs.of(node2)))
+            .build();
+        assertNull(cache.resolveDelta(delta));
+    }
+
+    @Test
+    public void testResolveDeltaUnknownVersion()
+    {
+        MsgIntApplyFullSync delta = MsgIntApplyFullSync.newBuilder()
+            .setDeltaSyncVersion(ProtoObjectRefs.DELTA_SYNC_VERSION + 1)
+            .addUnchangedObjects(ProtoObjectRefs.toProto(ProtoObjectRefs.of(node1)))
+            .build();
+        assertNull(cache.resolveDelta(delta));
+    }
+
+    private static IntNode node(String name, String type)
+    {
+        return IntNode.newBuilder()
+            .setUuid(UUID.randomUUID().toString())
+            .setName(name)
+            .setType(type)
+            .build();
+    }
+}
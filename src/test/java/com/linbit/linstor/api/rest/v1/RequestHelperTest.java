@@ -0,0 +1,79 @@
+package com.linbit.linstor.api.rest.v1;
+
+import com.linbit.linstor.logging.ErrorReporter;
+
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RequestHelperTest
+{
+    private ObjectMapper objectMapper;
+    private RequestHelper requestHelper;
+
+    @Before
+    public void setUp()
+    {
+        ErrorReporter errorReporter = mock(ErrorReporter.class);
+        when(errorReporter.reportError(any(Throwable.class))).thenReturn("ERR-1");
+        objectMapper = new ObjectMapper();
+        requestHelper = new RequestHelper(errorReporter, null, null, null, null, null, null);
+    }
+
+    @Test
+    public void streamedList() throws Exception
+    {
+        Response resp = requestHelper.streamedListResponse(objectMapper, Arrays.asList(1, 2, 3), elem -> elem);
+        assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+        assertEquals("[1,2,3]", write(resp));
+
+        resp = requestHelper.streamedListResponse(objectMapper, Collections.emptyList(), elem -> elem);
+        assertEquals("[]", write(resp));
+    }
+
+    @Test
+    public void failingFirstElementIsAnErrorResponse()
+    {
+        // jackson refuses to serialize an object without properties
+        Response resp = requestHelper.streamedListResponse(objectMapper, Arrays.asList(1, 2), elem -> new Object());
+        assertEquals(Response.Status.INTERNAL_SERVER_ERROR.getStatusCode(), resp.getStatus());
+    }
+
+    @Test
+    public void failingElementEndsTheListWithAnError() throws Exception
+    {
+        Response resp = requestHelper.streamedListResponse(
+            objectMapper,
+            Arrays.asList(1, 2, 3),
+            elem -> elem == 2 ? new Object() : elem
+        );
+        assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+
+        JsonNode json = objectMapper.readTree(write(resp));
+        assertEquals(2, json.size());
+        assertEquals(1, json.get(0).asInt());
+        assertTrue(json.get(1).has("ret_code"));
+        assertEquals("ERR-1", json.get(1).get("error_report_ids").get(0).asText());
+    }
+
+    private static String write(Response resp) throws Exception
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ((StreamingOutput) resp.getEntity()).write(out);
+        return out.toString("UTF-8");
+    }
+}
@@ -0,0 +1,110 @@
+package com.linbit.linstor.api.rest.v1.events;
+
+import com.linbit.linstor.core.cfg.CtrlConfig;
+import com.linbit.linstor.testutils.EmptyErrorReporter;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.glassfish.jersey.media.sse.EventOutput;
+import org.glassfish.jersey.media.sse.OutboundEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class EventHandlerBridgeTest
+{
+    private static class TestBridge extends EventHandlerBridge
+    {
+        TestBridge(CtrlConfig ctrlCfg)
+        {
+            super(new EmptyErrorReporter(), ctrlCfg, "test");
+        }
+
+        void send(String key, String data)
+        {
+            sendEvent("test-event", key, data);
+        }
+    }
+
+    private CountDownLatch writeStarted;
+    private CountDownLatch releaseWrite;
+    private EventOutput slowOutput;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        writeStarted = new CountDownLatch(1);
+        releaseWrite = new CountDownLatch(1);
+        slowOutput = mock(EventOutput.class);
+        // the first write blocks until the test releases it
+        doAnswer(invocation ->
+            {
+                writeStarted.countDown();
+                releaseWrite.await(10, TimeUnit.SECONDS);
+                return null;
+            }
+        ).when(slowOutput).write(any(OutboundEvent.class));
+    }
+
+    private TestBridge createBridge(String policy, int bufferSize)
+    {
+        CtrlConfig ctrlCfg = mock(CtrlConfig.class);
+        when(ctrlCfg.getEventsSubscriberBufferSize()).thenReturn(bufferSize);
+        when(ctrlCfg.getEventsSlowSubscriberPolicy()).thenReturn(policy);
+        return new TestBridge(ctrlCfg);
+    }
+
+    @Test
+    public void coalesceKeepsLatestEventPerKey() throws Exception
+    {
+        TestBridge bridge = createBridge("coalesce", 2);
+        bridge.registerResourceClient(slowOutput);
+
+        bridge.send("a", "a1");
+        assertTrue(writeStarted.await(10, TimeUnit.SECONDS));
+        bridge.send("a", "a2");
+        bridge.send("b", "b1");
+        // buffer is full, replaces a2
+        bridge.send("a", "a3");
+        releaseWrite.countDown();
+
+        ArgumentCaptor<OutboundEvent> written = ArgumentCaptor.forClass(OutboundEvent.class);
+        verify(slowOutput, timeout(10_000).times(3)).write(written.capture());
+        List<Object> data = written.getAllValues().stream()
+            .map(OutboundEvent::getData)
+            .collect(Collectors.toList());
+        assertEquals(List.of("\"a1\"", "\"b1\"", "\"a3\""), data);
+    }
+
+    @Test
+    public void disconnectSlowSubscriber() throws Exception
+    {
+        TestBridge bridge = createBridge("disconnect", 1);
+        bridge.registerResourceClient(slowOutput);
+        EventOutput fastOutput = mock(EventOutput.class);
+        bridge.registerResourceClient(fastOutput);
+
+        bridge.send("a", "a1");
+        assertTrue(writeStarted.await(10, TimeUnit.SECONDS));
+        bridge.send("a", "a2");
+        bridge.send("a", "a3");
+        verify(slowOutput, timeout(10_000)).close();
+        releaseWrite.countDown();
+
+        // other subscribers are not affected
+        verify(fastOutput, timeout(10_000).times(3)).write(any(OutboundEvent.class));
+    }
+}
@@ -0,0 +1,108 @@
+package com.linbit.linstor.core.apicallhandler.controller;
+
+import com.linbit.linstor.api.ApiCallRc;
+import com.linbit.linstor.api.SpaceInfo;
+import com.linbit.linstor.core.cfg.CtrlConfig;
+import com.linbit.linstor.core.identifier.NodeName;
+import com.linbit.linstor.core.identifier.StorPoolName;
+import com.linbit.linstor.core.objects.StorPool;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import reactor.util.function.Tuple2;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class FreeCapacityCacheTest
+{
+    private StorPool.Key spKey1;
+    private StorPool.Key spKey2;
+    private StorPool.Key otherNodeSpKey;
+    private FreeCapacityCache cache;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        NodeName nodeName = new NodeName("node1");
+        spKey1 = new StorPool.Key(nodeName, new StorPoolName("thin1"));
+        spKey2 = new StorPool.Key(nodeName, new StorPoolName("thin2"));
+        otherNodeSpKey = new StorPool.Key(new NodeName("node2"), new StorPoolName("thin1"));
+
+        CtrlConfig ctrlCfg = mock(CtrlConfig.class);
+        when(ctrlCfg.getCacheFreeCapacityMaxAge()).thenReturn(600);
+        cache = new FreeCapacityCache(ctrlCfg);
+    }
+
+    @Test
+    public void onlyCompleteAndFreshResults()
+    {
+        long now = System.nanoTime();
+        cache.update(spKey1, spaceInfo(100), Collections.emptyList(), now);
+
+        Map<StorPool.Key, Tuple2<SpaceInfo, List<ApiCallRc>>> result = new HashMap<>();
+        assertTrue(cache.getFresh(Collections.singletonList(spKey1), result));
+        assertEquals(100L, (long) result.get(spKey1).getT1().freeCapacity);
+
+        // spKey2 is unknown, the satellite has to be asked for both storage pools
+        result.clear();
+        assertFalse(cache.getFresh(Arrays.asList(spKey1, spKey2), result));
+        assertTrue(result.isEmpty());
+
+        cache.update(spKey2, spaceInfo(200), Collections.emptyList(), now - TimeUnit.SECONDS.toNanos(601));
+        assertFalse(cache.getFresh(Arrays.asList(spKey1, spKey2), result));
+    }
+
+    @Test
+    public void olderResultsDoNotOverwriteNewerOnes()
+    {
+        long now = System.nanoTime();
+        // pushed by the satellite while an older request was still pending
+        cache.update(spKey1, spaceInfo(100), Collections.emptyList(), now);
+        cache.update(spKey1, spaceInfo(50), Collections.emptyList(), now - 1);
+
+        Map<StorPool.Key, Tuple2<SpaceInfo, List<ApiCallRc>>> result = new HashMap<>();
+        assertTrue(cache.getFresh(Collections.singletonList(spKey1), result));
+        assertEquals(100L, (long) result.get(spKey1).getT1().freeCapacity);
+    }
+
+    @Test
+    public void invalidateOnlyAffectsGivenNode()
+    {
+        long now = System.nanoTime();
+        cache.update(spKey1, spaceInfo(100), Collections.emptyList(), now);
+        cache.update(otherNodeSpKey, spaceInfo(100), Collections.emptyList(), now);
+
+        cache.invalidate(spKey1.getNodeName());
+
+        Map<StorPool.Key, Tuple2<SpaceInfo, List<ApiCallRc>>> result = new HashMap<>();
+        assertFalse(cache.getFresh(Collections.singletonList(spKey1), result));
+        assertTrue(cache.getFresh(Collections.singletonList(otherNodeSpKey), result));
+    }
+
+    @Test
+    public void maxAgeZeroDisablesCache()
+    {
+        CtrlConfig ctrlCfg = mock(CtrlConfig.class);
+        when(ctrlCfg.getCacheFreeCapacityMaxAge()).thenReturn(0);
+        cache = new FreeCapacityCache(ctrlCfg);
+        cache.update(spKey1, spaceInfo(100), Collections.emptyList(), System.nanoTime());
+
+        assertFalse(cache.getFresh(Collections.singletonList(spKey1), new HashMap<>()));
+    }
+
+    private static SpaceInfo spaceInfo(long free)
+    {
+        return new SpaceInfo(1000L, free);
+    }
+}
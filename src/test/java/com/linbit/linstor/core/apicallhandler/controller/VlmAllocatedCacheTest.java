@@ -0,0 +1,79 @@
+package com.linbit.linstor.core.apicallhandler.controller;
+
+import com.linbit.linstor.api.ApiCallRcImpl;
+import com.linbit.linstor.core.cfg.CtrlConfig;
+import com.linbit.linstor.core.identifier.NodeName;
+import com.linbit.linstor.core.identifier.ResourceName;
+import com.linbit.linstor.core.identifier.VolumeNumber;
+import com.linbit.linstor.core.objects.Volume;
+import com.linbit.linstor.prometheus.CtrlMetricsCache;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class VlmAllocatedCacheTest
+{
+    private Volume.Key vlmKey1;
+    private Volume.Key vlmKey2;
+    private VlmAllocatedCache cache;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        NodeName nodeName = new NodeName("node1");
+        vlmKey1 = new Volume.Key(nodeName, new ResourceName("rsc1"), new VolumeNumber(0));
+        vlmKey2 = new Volume.Key(nodeName, new ResourceName("rsc2"), new VolumeNumber(0));
+
+        CtrlConfig ctrlCfg = mock(CtrlConfig.class);
+        when(ctrlCfg.getCacheVlmAllocatedMaxAge()).thenReturn(60);
+        cache = new VlmAllocatedCache(ctrlCfg, mock(CtrlMetricsCache.class));
+    }
+
+    @Test
+    public void onlyCompleteAndFreshResults()
+    {
+        long now = System.nanoTime();
+        cache.update(Collections.singletonMap(vlmKey1, result(100)), now);
+
+        Map<Volume.Key, VlmAllocatedResult> result = new HashMap<>();
+        assertTrue(cache.getFresh(Collections.singletonList(vlmKey1), result));
+        assertEquals(100, result.get(vlmKey1).getAllocatedSize());
+
+        // vlmKey2 is unknown, the satellite has to be asked for both volumes
+        result.clear();
+        assertFalse(cache.getFresh(Arrays.asList(vlmKey1, vlmKey2), result));
+        assertTrue(result.isEmpty());
+
+        cache.update(Collections.singletonMap(vlmKey2, result(200)), now - TimeUnit.SECONDS.toNanos(61));
+        assertFalse(cache.getFresh(Arrays.asList(vlmKey1, vlmKey2), result));
+    }
+
+    @Test
+    public void olderResultsDoNotOverwriteNewerOnes()
+    {
+        long now = System.nanoTime();
+        cache.update(Collections.singletonMap(vlmKey1, result(100)), now);
+        cache.update(Collections.singletonMap(vlmKey1, result(50)), now - 1);
+
+        Map<Volume.Key, VlmAllocatedResult> result = new HashMap<>();
+        assertTrue(cache.getFresh(Collections.singletonList(vlmKey1), result));
+        assertEquals(100, result.get(vlmKey1).getAllocatedSize());
+    }
+
+    private static VlmAllocatedResult result(long allocated)
+    {
+        return new VlmAllocatedResult(allocated, new ApiCallRcImpl());
+    }
+}
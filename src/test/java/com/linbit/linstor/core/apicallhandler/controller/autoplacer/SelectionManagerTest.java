@@ -316,4 +316,105 @@ public class SelectionManagerTest extends GenericDbBase
         Set<Autoplacer.StorPoolWithScore> actual = selectionManager.findSelection(0);
         Assert.assertEquals(0, actual.size());
     }
+
+    @Test
+    public void xReplicasOnDifferentSelection() throws Exception
+    {
+        // the groups of zone "a" and "b" need to be filled up, a single replica in each zone cannot become valid
+        AutoSelectFilterApi selectFilter = new AutoSelectFilterBuilder()
+            .setPlaceCount(4)
+            .setXReplicasOnDifferentMap(Map.of(ZONE_KEY, 2))
+            .build();
+
+        SelectionManager selectionManager = new SelectionManager(
+            DummySecurityInitializer.getSystemAccessContext(),
+            errorReporter,
+            selectFilter,
+            Collections.emptyList(),
+            0,
+            0,
+            Collections.emptyList(),
+            Collections.emptyMap(),
+            storPoolWithScores,
+            false
+        );
+
+        Set<Autoplacer.StorPoolWithScore> actual = selectionManager.findSelection(0);
+        Assert.assertEquals(4, actual.size());
+
+        Map<String, Integer> replicasPerZone = new HashMap<>();
+        for (Autoplacer.StorPoolWithScore pool : actual)
+        {
+            replicasPerZone.merge(pool.storPool.getNode().getProps(accessContext).getProp(ZONE_KEY), 1, Integer::sum);
+        }
+        Assert.assertEquals(Map.of("a", 2, "b", 2), replicasPerZone);
+    }
+
+    @Test
+    public void exhaustedBudgetStopsSearch() throws Exception
+    {
+        AutoSelectFilterApi selectFilter = new AutoSelectFilterBuilder()
+            .setPlaceCount(3)
+            // There are only 2 nodes in a zone/rack combination
+            .setReplicasOnSameList(Arrays.asList(ZONE_KEY, RACK_KEY))
+            .build();
+
+        SearchBudget budget = new SearchBudget(0, 2);
+        SelectionManager selectionManager = new SelectionManager(
+            DummySecurityInitializer.getSystemAccessContext(),
+            errorReporter,
+            selectFilter,
+            Collections.emptyList(),
+            0,
+            0,
+            Collections.emptyList(),
+            Collections.emptyMap(),
+            storPoolWithScores,
+            false,
+            budget
+        );
+
+        Set<Autoplacer.StorPoolWithScore> actual = selectionManager.findSelection(0);
+        Assert.assertEquals(0, actual.size());
+        Assert.assertTrue(budget.isExhausted());
+        Assert.assertEquals(2, budget.getSteps());
+
+        // once exhausted, no further search takes place
+        Assert.assertEquals(0, selectionManager.findSelection(1).size());
+        Assert.assertEquals(2, budget.getSteps());
+    }
+
+    @Test
+    public void sharedBudgetIsSplitBetweenSearches()
+    {
+        SearchBudget batchBudget = new SearchBudget(0, 10);
+
+        // 10 steps for 3 searches, 3 steps each
+        SearchBudget first = batchBudget.share(3);
+        Assert.assertFalse(first.step());
+        Assert.assertFalse(first.step());
+        Assert.assertTrue(first.step());
+        Assert.assertEquals(3, batchBudget.getSteps());
+
+        // the second search gets half of the 7 remaining steps
+        SearchBudget second = batchBudget.share(2);
+        Assert.assertFalse(second.step());
+        Assert.assertFalse(second.step());
+        Assert.assertTrue(second.step());
+        Assert.assertEquals(6, batchBudget.getSteps());
+
+        // the last search gets everything that is left
+        SearchBudget last = batchBudget.share(1);
+        for (int idx = 0; idx < 3; ++idx)
+        {
+            Assert.assertFalse(last.step());
+        }
+        Assert.assertTrue(last.step());
+        Assert.assertTrue(batchBudget.isExhausted());
+
+        // even with an exhausted batch budget, every search may select at least one storage pool
+        SearchBudget afterExhausted = batchBudget.share(1);
+        Assert.assertFalse(afterExhausted.isExhausted());
+        Assert.assertTrue(afterExhausted.step());
+    }
 }
@@ -0,0 +1,45 @@
+package com.linbit.linstor.core.apicallhandler.controller.helpers;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ListPageTest
+{
+    @Test
+    public void allElementsWithoutLimit()
+    {
+        ListPage page = ListPage.all();
+        assertArrayEquals(new boolean[] {true, true, true}, matches(page, 3));
+        assertFalse(page.isComplete());
+    }
+
+    @Test
+    public void offsetAndLimit()
+    {
+        ListPage page = new ListPage(2, 2);
+        assertArrayEquals(new boolean[] {false, false, true, true}, matches(page, 4));
+        assertTrue(page.isComplete());
+        assertFalse(page.nextMatchInPage());
+    }
+
+    @Test
+    public void offsetBehindLastElement()
+    {
+        ListPage page = new ListPage(5, 2);
+        assertArrayEquals(new boolean[] {false, false, false}, matches(page, 3));
+        assertFalse(page.isComplete());
+    }
+
+    private static boolean[] matches(ListPage page, int count)
+    {
+        boolean[] ret = new boolean[count];
+        for (int idx = 0; idx < count; ++idx)
+        {
+            ret[idx] = page.nextMatchInPage();
+        }
+        return ret;
+    }
+}
@@ -0,0 +1,144 @@
+package com.linbit.linstor.core.apicallhandler.controller.internal;
+
+import com.linbit.linstor.AccessToDeletedDataException;
+import com.linbit.linstor.api.prop.LinStorObject;
+import com.linbit.linstor.core.CoreModule;
+import com.linbit.linstor.core.identifier.NodeName;
+import com.linbit.linstor.core.identifier.ResourceName;
+import com.linbit.linstor.core.objects.Node;
+import com.linbit.linstor.core.objects.Resource;
+import com.linbit.linstor.core.objects.ResourceDefinition;
+import com.linbit.linstor.core.objects.ResourceGroup;
+import com.linbit.linstor.core.objects.StorPool;
+import com.linbit.linstor.propscon.PropsContainer;
+import com.linbit.linstor.transaction.TransactionObject;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.linbit.linstor.security.TestAccessContextProvider.SYS_CTX;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class CtrlObjectVersionsTest
+{
+    private CtrlObjectVersions versions;
+
+    private Node node1;
+    private Node node2;
+    private StorPool storPool1;
+    private StorPool storPool2;
+    private Resource rsc;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        versions = new CtrlObjectVersions(SYS_CTX);
+
+        node1 = node("node1");
+        node2 = node("node2");
+        storPool1 = mock(StorPool.class);
+        when(storPool1.getNode()).thenReturn(node1);
+        storPool2 = mock(StorPool.class);
+        when(storPool2.getNode()).thenReturn(node2);
+
+        ResourceDefinition rscDfn = mock(ResourceDefinition.class);
+        when(rscDfn.getName()).thenReturn(new ResourceName("rsc1"));
+        rsc = mock(Resource.class);
+        when(rsc.getResourceDefinition()).thenReturn(rscDfn);
+        when(rsc.getNode()).thenReturn(node1);
+        Resource peerRsc = mock(Resource.class);
+        when(peerRsc.getResourceDefinition()).thenReturn(rscDfn);
+        when(peerRsc.getNode()).thenReturn(node2);
+        when(rscDfn.iterateResource(SYS_CTX)).thenAnswer(ignored -> Arrays.asList(rsc, peerRsc).iterator());
+    }
+
+    @Test
+    public void versionsOnlyIncreaseForAffectedObjects()
+    {
+        assertTrue(versions.getEpoch() > 0);
+        assertEquals(0, versions.getCurrentVersion());
+
+        // e.g. the flags of a node
+        versions.transactionCommitted(Collections.singletonList(transObj(node1)));
+        assertEquals(1, versions.getCurrentVersion());
+        assertEquals(1, versions.getNodesVersion());
+        assertEquals(1, versions.getVersion(storPool1));
+        assertEquals(0, versions.getVersion(storPool2));
+        // the resource message contains its peers' nodes
+        assertEquals(1, versions.getVersion(rsc));
+
+        versions.transactionCommitted(Collections.singletonList(props(LinStorObject.RSC, "/RSCS/NODE2/RSC1")));
+        assertEquals(2, versions.getVersion(rsc));
+        assertEquals(1, versions.getNodesVersion());
+        assertEquals(0, versions.getVersion(storPool2));
+
+        versions.transactionCommitted(
+            Collections.singletonList(props(LinStorObject.STOR_POOL, "/STOR_POOLS/NODE2/SP"))
+        );
+        assertEquals(3, versions.getVersion(storPool2));
+        assertEquals(3, versions.getVersion(rsc));
+        assertEquals(1, versions.getVersion(storPool1));
+    }
+
+    @Test
+    public void ignoredObjects()
+    {
+        TransactionObject deletedNodeFlags = mock(TransactionObject.class);
+        Node deletedNode = mock(Node.class);
+        when(deletedNode.getName()).thenThrow(new AccessToDeletedDataException("deleted"));
+        when(deletedNodeFlags.getParentObject()).thenReturn(deletedNode);
+
+        versions.transactionCommitted(
+            Arrays.asList(
+                transObj(mock(CoreModule.KeyValueStoreMap.class)),
+                props(LinStorObject.KVS, "/KVS/KVS1"),
+                deletedNodeFlags
+            )
+        );
+        assertEquals(0, versions.getCurrentVersion());
+    }
+
+    @Test
+    public void globalObjectsAffectEverything()
+    {
+        versions.transactionCommitted(Collections.singletonList(transObj(mock(ResourceGroup.class))));
+        assertEquals(1, versions.getNodesVersion());
+        assertEquals(1, versions.getVersion(storPool2));
+        assertEquals(1, versions.getVersion(rsc));
+        assertEquals(1, versions.getExtFilesAndRemotesVersion());
+
+        versions.transactionCommitted(Collections.singletonList(props(LinStorObject.CTRL, "/CTRL")));
+        assertEquals(2, versions.getVersion(rsc));
+
+        assertNotEquals(versions.getEpoch(), new CtrlObjectVersions(SYS_CTX).getEpoch());
+    }
+
+    private static Node node(String name) throws Exception
+    {
+        Node node = mock(Node.class);
+        when(node.getName()).thenReturn(new NodeName(name));
+        return node;
+    }
+
+    private static TransactionObject transObj(Object parent)
+    {
+        TransactionObject transObj = mock(TransactionObject.class);
+        when(transObj.getParentObject()).thenReturn(parent);
+        return transObj;
+    }
+
+    private static PropsContainer props(LinStorObject type, String instanceName)
+    {
+        PropsContainer props = mock(PropsContainer.class);
+        when(props.getType()).thenReturn(type);
+        when(props.getInstanceName()).thenReturn(instanceName);
+        return props;
+    }
+}
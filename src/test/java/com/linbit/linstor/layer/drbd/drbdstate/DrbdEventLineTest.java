@@ -0,0 +1,108 @@
+package com.linbit.linstor.layer.drbd.drbdstate;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class DrbdEventLineTest
+{
+    private DrbdEventLine line;
+
+    @Before
+    public void setUp()
+    {
+        line = new DrbdEventLine();
+    }
+
+    @Test
+    public void testParse() throws EventsSourceException
+    {
+        assertTrue(parse("change peer-device name:rsc1 peer-node-id:1 conn-name:node2 volume:0 replication:SyncTarget " +
+            "peer-disk:UpToDate done:42.17\n"));
+
+        assertSame(DrbdEventsMonitor.ACTION_CHANGE, line.getAction());
+        assertSame(DrbdEventsMonitor.OBJ_PEER_VOLUME, line.getObjType());
+        assertEquals("rsc1", line.get(DrbdResource.PROP_KEY_RES_NAME));
+        assertEquals("node2", line.get(DrbdConnection.PROP_KEY_CONN_NAME));
+        assertEquals("0", line.get(DrbdVolume.PROP_KEY_VOL_NR));
+        assertEquals("42.17", line.get(DrbdVolume.PROP_KEY_DONE));
+        // well known labels are not copied
+        assertSame(ReplState.SYNC_TARGET.toString(), line.get(DrbdVolume.PROP_KEY_REPLICATION));
+        assertSame(DiskState.UP_TO_DATE.toString(), line.get(DrbdVolume.PROP_KEY_PEER_DISK));
+        assertNull(line.get(DrbdVolume.PROP_KEY_DISK));
+    }
+
+    @Test
+    public void testReuse() throws EventsSourceException
+    {
+        parse("exists resource name:longResourceName role:Secondary suspended:no");
+        parse("change resource name:rsc role:Primary");
+
+        assertSame(DrbdEventsMonitor.ACTION_CHANGE, line.getAction());
+        assertEquals("rsc", line.get(DrbdResource.PROP_KEY_RES_NAME));
+        assertEquals(DrbdResource.ROLE_LABEL_PRIMARY, line.get(DrbdResource.PROP_KEY_ROLE));
+        assertNull(line.get(DrbdResource.PROP_KEY_SUSPENDED));
+    }
+
+    @Test
+    public void testCopy() throws EventsSourceException
+    {
+        parse("create device name:rsc1 volume:0 minor:1000 disk:Inconsistent");
+        DrbdEventLine copy = line.copy();
+        parse("destroy device name:rsc2 volume:1");
+
+        assertSame(DrbdEventsMonitor.ACTION_CREATE, copy.getAction());
+        assertEquals("rsc1", copy.get(DrbdResource.PROP_KEY_RES_NAME));
+        assertEquals("1000", copy.get(DrbdVolume.PROP_KEY_MINOR));
+        assertEquals("rsc2", line.get(DrbdResource.PROP_KEY_RES_NAME));
+    }
+
+    @Test
+    public void testManyProps() throws EventsSourceException
+    {
+        StringBuilder sb = new StringBuilder("change resource name:rsc");
+        for (int idx = 0; idx < 100; ++idx)
+        {
+            sb.append(" key").append(idx).append(":value").append(idx);
+        }
+        parse(sb.toString());
+
+        assertEquals("value0", line.get("key0"));
+        assertEquals("value99", line.get("key99"));
+    }
+
+    @Test
+    public void testEmptyLine() throws EventsSourceException
+    {
+        assertFalse(parse(""));
+        assertFalse(parse("   \n"));
+        assertNull(line.getAction());
+    }
+
+    @Test
+    public void testEndOfInit() throws EventsSourceException
+    {
+        assertTrue(parse("exists -"));
+        assertSame(DrbdEventsMonitor.ACTION_EXISTS, line.getAction());
+        assertSame(DrbdEventsMonitor.OBJ_END_OF_INIT, line.getObjType());
+    }
+
+    @Test(expected = EventsSourceException.class)
+    public void testMissingObjType() throws EventsSourceException
+    {
+        parse("change");
+    }
+
+    private boolean parse(String str) throws EventsSourceException
+    {
+        byte[] data = str.getBytes(StandardCharsets.UTF_8);
+        return line.parse(data, 0, data.length);
+    }
+}
@@ -2,11 +2,13 @@ package com.linbit.linstor.logging;
 
 import com.linbit.linstor.core.LinStor;
 import com.linbit.linstor.core.objects.Node;
+import com.linbit.utils.Pair;
 
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Collections;
+import java.util.Date;
 
 import org.junit.After;
 import org.junit.Assert;
@@ -72,4 +74,89 @@ public class DBLoggingTest
 
         errReporter.shutdown();
     }
+
+    @Test
+    public void testOffset() throws Exception
+    {
+        StdErrorReporter errReporter = new StdErrorReporter(
+            LinStor.CONTROLLER_MODULE,
+            Paths.get(TEST_LOG_DIR),
+            false,
+            "testnode",
+            "TRACE",
+            "TRACE",
+            () -> null
+        );
+        for (int idx = 0; idx < 5; ++idx)
+        {
+            errReporter.reportError(new RuntimeException("exc" + idx));
+        }
+
+        // newest first
+        ErrorReportResult reports = errReporter.listReports(false, null, null, Collections.emptySet(), 2L, 2L);
+        Assert.assertEquals(5, reports.getTotalCount());
+        Assert.assertEquals(2, reports.getErrorReports().size());
+        Assert.assertEquals("exc2", reports.getErrorReports().get(0).getExceptionMessage().orElse(""));
+        Assert.assertEquals("exc1", reports.getErrorReports().get(1).getExceptionMessage().orElse(""));
+
+        errReporter.shutdown();
+    }
+
+    @Test
+    public void testIngestedReports() throws Exception
+    {
+        StdErrorReporter errReporter = new StdErrorReporter(
+            LinStor.CONTROLLER_MODULE,
+            Paths.get(TEST_LOG_DIR),
+            false,
+            "testnode",
+            "TRACE",
+            "TRACE",
+            () -> null
+        );
+        errReporter.reportError(new NullPointerException());
+
+        ErrorReport stltReport = new ErrorReport(
+            "stlt1",
+            Node.Type.SATELLITE,
+            "ErrorReport-65A1B2C3-1F2E3-000007.log",
+            "1.0.0",
+            null,
+            "StorageException",
+            "vg missing",
+            null,
+            null,
+            null,
+            new Date(),
+            null
+        );
+        errReporter.ingestReports("stlt1", Collections.singletonList(stltReport));
+        // replicating a report again must not duplicate it
+        errReporter.ingestReports("stlt1", Collections.singletonList(stltReport));
+
+        // reports of other nodes are not part of the own reports
+        Assert.assertEquals(
+            1,
+            errReporter.listReports(false, null, null, Collections.emptySet(), null, null).getTotalCount()
+        );
+
+        ErrorReportResult reports = errReporter.listIndexedReports(
+            true, Collections.singleton("stlt1"), null, null, Collections.emptySet(), null, null
+        );
+        Assert.assertEquals(2, reports.getTotalCount());
+        Assert.assertEquals(
+            Long.valueOf(1),
+            reports.getNodeCounts().get(new Pair<>("stlt1", Node.Type.SATELLITE.name()))
+        );
+
+        reports = errReporter.listIndexedReports(
+            false, Collections.singleton("stlt1"), null, null, Collections.emptySet(), null, null
+        );
+        Assert.assertEquals(1, reports.getTotalCount());
+        Assert.assertEquals("ErrorReport-65A1B2C3-1F2E3-000007.log", reports.getErrorReports().get(0).getFileName());
+        Assert.assertNotNull(errReporter.getLatestIngestedReportTime("stlt1"));
+        Assert.assertNull(errReporter.getLatestIngestedReportTime("stlt2"));
+
+        errReporter.shutdown();
+    }
 }
@@ -0,0 +1,79 @@
+package com.linbit.linstor.netcom;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class FrameCompressionTest
+{
+    private static byte[] propsPayload(int count)
+    {
+        StringBuilder sb = new StringBuilder();
+        for (int idx = 0; idx < count; ++idx)
+        {
+            sb.append("DrbdOptions/Resource/quorum=majority\n")
+                .append("DrbdOptions/Resource/on-no-quorum=io-error\n")
+                .append("DrbdPrimarySetOn=NODE-").append(idx % 16).append('\n');
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void roundTrip() throws IOException
+    {
+        byte[] data = propsPayload(100);
+        for (String algorithm : FrameCompression.SUPPORTED)
+        {
+            byte[] compressed = FrameCompression.create(algorithm, 0).compress(data);
+            assertNotNull(algorithm, compressed);
+            assertTrue(algorithm, compressed.length < data.length);
+            assertArrayEquals(algorithm, data, FrameCompression.decompress(compressed));
+        }
+    }
+
+    @Test
+    public void belowThresholdIsNotCompressed()
+    {
+        byte[] data = propsPayload(10);
+        assertNull(FrameCompression.create(FrameCompression.DEFLATE, data.length + 1).compress(data));
+        assertNotNull(FrameCompression.create(FrameCompression.DEFLATE, data.length).compress(data));
+    }
+
+    @Test
+    public void incompressibleDataIsNotCompressed()
+    {
+        byte[] data = new byte[1024];
+        new Random(42).nextBytes(data);
+        assertNull(FrameCompression.create(FrameCompression.DEFLATE, 0).compress(data));
+    }
+
+    @Test(expected = IOException.class)
+    public void corruptPayload() throws IOException
+    {
+        byte[] compressed = FrameCompression.create(FrameCompression.DEFLATE_DICT_V1, 0).compress(propsPayload(100));
+        FrameCompression.decompress(Arrays.copyOf(compressed, compressed.length / 2));
+    }
+
+    @Test
+    public void negotiate()
+    {
+        assertEquals(
+            FrameCompression.DEFLATE,
+            FrameCompression.negotiate(Arrays.asList("zstd", FrameCompression.DEFLATE))
+        );
+        assertEquals(FrameCompression.NONE, FrameCompression.negotiate(Collections.emptyList()));
+        assertEquals(FrameCompression.NONE, FrameCompression.negotiate(Collections.singletonList("lz4")));
+        assertNull(FrameCompression.create(FrameCompression.NONE, 0));
+        assertNull(FrameCompression.create("", 0));
+    }
+}
@@ -0,0 +1,149 @@
+package com.linbit.linstor.netcom;
+
+import com.linbit.linstor.api.interfaces.serializer.CommonSerializer;
+import com.linbit.linstor.logging.ErrorReporter;
+
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.time.Duration;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TcpConnectorPeerTest
+{
+    private static final int MSG_SIZE = 100;
+    private static final long OUT_QUEUE_MAX_BYTES = 4 * MSG_SIZE;
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private TcpConnector connector;
+    private TcpConnectorPeer peer;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        connector = Mockito.mock(TcpConnector.class);
+        SelectionKey selKey = Mockito.mock(SelectionKey.class);
+        when(selKey.selector()).thenReturn(Mockito.mock(Selector.class));
+        when(selKey.interestOps(anyInt())).thenReturn(selKey);
+
+        peer = new TcpConnectorPeer(
+            Mockito.mock(ErrorReporter.class),
+            Mockito.mock(CommonSerializer.class),
+            "TcpConnectorPeerTest",
+            connector,
+            selKey,
+            null,
+            null
+        );
+        peer.setOutQueueMaxBytes(OUT_QUEUE_MAX_BYTES);
+        peer.connectionEstablished();
+    }
+
+    @Test
+    public void overflowClosesConnection()
+    {
+        for (int idx = 0; idx < 4; ++idx)
+        {
+            assertTrue(peer.sendMessage(new byte[MSG_SIZE]));
+        }
+        assertEquals(OUT_QUEUE_MAX_BYTES, peer.outQueueSize());
+        verify(connector, never()).closeConnectionDeferred(peer);
+
+        assertFalse(peer.sendMessage(new byte[MSG_SIZE]));
+        verify(connector, times(1)).closeConnectionDeferred(peer);
+
+        // the connection is only closed once, later messages fail as well
+        assertFalse(peer.sendMessage(new byte[1]));
+        verify(connector, times(1)).closeConnectionDeferred(peer);
+        assertEquals(OUT_QUEUE_MAX_BYTES, peer.outQueueSize());
+    }
+
+    @Test
+    public void controlMessagesIgnoreTheLimit()
+    {
+        for (int idx = 0; idx < 4; ++idx)
+        {
+            assertTrue(peer.sendMessage(new byte[MSG_SIZE]));
+        }
+        peer.sendPing();
+        peer.sendPong();
+        assertEquals(5, peer.outQueueCount());
+        verify(connector, never()).closeConnectionDeferred(peer);
+    }
+
+    @Test
+    public void largeMessageToEmptyQueue()
+    {
+        // a single message larger than the limit must still be sendable
+        assertTrue(peer.sendMessage(new byte[(int) OUT_QUEUE_MAX_BYTES * 2]));
+        assertFalse(peer.sendMessage(new byte[1]));
+    }
+
+    @Test
+    public void sentMessagesFreeTheQueue()
+    {
+        for (int idx = 0; idx < 4; ++idx)
+        {
+            assertTrue(peer.sendMessage(new byte[MSG_SIZE]));
+        }
+        peer.nextOutMessage();
+        assertEquals(OUT_QUEUE_MAX_BYTES - MSG_SIZE, peer.outQueueSize());
+        assertTrue(peer.sendMessage(new byte[MSG_SIZE]));
+        verify(connector, never()).closeConnectionDeferred(peer);
+    }
+
+    @Test
+    public void backpressureWaitsForTheQueueToDrain()
+    {
+        for (int idx = 0; idx < 4; ++idx)
+        {
+            assertTrue(peer.sendMessage(new byte[MSG_SIZE]));
+        }
+        Mono<Boolean> sent = peer.sendMessageWithBackpressure(new byte[MSG_SIZE]).cache();
+        sent.subscribe();
+        // the queue is full, the message has to wait instead of closing the connection
+        assertEquals(4 * MSG_SIZE, peer.outQueueSize());
+
+        // still more than half of the limit queued
+        peer.nextOutMessage();
+        assertEquals(3 * MSG_SIZE, peer.outQueueSize());
+
+        peer.nextOutMessage();
+        assertTrue(sent.block(TIMEOUT));
+        assertEquals(3 * MSG_SIZE, peer.outQueueSize());
+        verify(connector, never()).closeConnectionDeferred(peer);
+    }
+
+    @Test
+    public void backpressureFailsOnClose()
+    {
+        for (int idx = 0; idx < 3; ++idx)
+        {
+            assertTrue(peer.sendMessage(new byte[MSG_SIZE]));
+        }
+        Mono<Boolean> sent = peer.sendMessageWithBackpressure(new byte[MSG_SIZE]).cache();
+        sent.subscribe();
+
+        peer.connectionClosing();
+        assertFalse(sent.block(TIMEOUT));
+    }
+
+    @Test
+    public void backpressureWithoutWaiting()
+    {
+        assertTrue(peer.sendMessageWithBackpressure(new byte[MSG_SIZE]).block(TIMEOUT));
+        assertEquals(MSG_SIZE, peer.outQueueSize());
+    }
+}
@@ -0,0 +1,119 @@
+package com.linbit.linstor.prometheus;
+
+import com.linbit.linstor.api.prop.LinStorObject;
+import com.linbit.linstor.core.cfg.CtrlConfig;
+import com.linbit.linstor.core.objects.Node;
+import com.linbit.linstor.core.objects.Snapshot;
+import com.linbit.linstor.prometheus.CtrlMetricsCache.Section;
+import com.linbit.linstor.propscon.PropsContainer;
+import com.linbit.linstor.transaction.TransactionObject;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.linbit.linstor.security.TestAccessContextProvider.ALICE_ACC_CTX;
+import static com.linbit.linstor.security.TestAccessContextProvider.SYS_CTX;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class CtrlMetricsCacheTest
+{
+    private CtrlMetricsCache cache;
+    private AtomicInteger buildCount;
+
+    @Before
+    public void setUp()
+    {
+        CtrlConfig ctrlCfg = mock(CtrlConfig.class);
+        when(ctrlCfg.getCacheMetricsMaxAge()).thenReturn(60);
+        cache = new CtrlMetricsCache(ctrlCfg);
+        buildCount = new AtomicInteger();
+    }
+
+    private String build()
+    {
+        return "build " + buildCount.incrementAndGet();
+    }
+
+    @Test
+    public void rebuildOnlyAfterInvalidate()
+    {
+        assertEquals("build 1", cache.get(Section.NODES, SYS_CTX, this::build));
+        assertEquals("build 1", cache.get(Section.NODES, SYS_CTX, this::build));
+
+        // other sections are not affected
+        cache.invalidate(Section.RESOURCES);
+        assertEquals("build 1", cache.get(Section.NODES, SYS_CTX, this::build));
+
+        cache.invalidate(Section.NODES);
+        assertEquals("build 2", cache.get(Section.NODES, SYS_CTX, this::build));
+
+        cache.invalidateAll();
+        assertEquals("build 3", cache.get(Section.NODES, SYS_CTX, this::build));
+    }
+
+    @Test
+    public void transactionsOnlyInvalidateAffectedSections()
+    {
+        for (Section section : Section.values())
+        {
+            assertEquals("build " + (section.ordinal() + 1), cache.get(section, SYS_CTX, this::build));
+        }
+
+        // e.g. the flags of a node
+        TransactionObject nodeFlags = mock(TransactionObject.class);
+        when(nodeFlags.getParentObject()).thenReturn(mock(Node.class));
+        PropsContainer rscProps = mock(PropsContainer.class);
+        when(rscProps.getType()).thenReturn(LinStorObject.RSC);
+        cache.transactionCommitted(Arrays.asList(nodeFlags, rscProps));
+
+        assertEquals("build 5", cache.get(Section.NODES, SYS_CTX, this::build));
+        assertEquals("build 2", cache.get(Section.RSC_DFNS, SYS_CTX, this::build));
+        assertEquals("build 6", cache.get(Section.RESOURCES, SYS_CTX, this::build));
+        assertEquals("build 4", cache.get(Section.STOR_POOLS, SYS_CTX, this::build));
+
+        // objects not shown in the metrics
+        TransactionObject snapshot = mock(TransactionObject.class);
+        when(snapshot.getParentObject()).thenReturn(mock(Snapshot.class));
+        PropsContainer kvsProps = mock(PropsContainer.class);
+        when(kvsProps.getType()).thenReturn(LinStorObject.KVS);
+        cache.transactionCommitted(Arrays.asList(snapshot, kvsProps));
+        for (Section section : Section.values())
+        {
+            cache.get(section, SYS_CTX, this::build);
+        }
+        assertEquals(6, buildCount.get());
+
+        // unknown objects invalidate everything
+        cache.transactionCommitted(Collections.singletonList(mock(TransactionObject.class)));
+        for (Section section : Section.values())
+        {
+            cache.get(section, SYS_CTX, this::build);
+        }
+        assertEquals(6 + Section.values().length, buildCount.get());
+    }
+
+    @Test
+    public void separateEntriesPerIdentity()
+    {
+        assertEquals("build 1", cache.get(Section.NODES, SYS_CTX, this::build));
+        assertEquals("build 2", cache.get(Section.NODES, ALICE_ACC_CTX, this::build));
+        assertEquals("build 1", cache.get(Section.NODES, SYS_CTX, this::build));
+    }
+
+    @Test
+    public void maxAgeZeroDisablesCache()
+    {
+        CtrlConfig ctrlCfg = mock(CtrlConfig.class);
+        when(ctrlCfg.getCacheMetricsMaxAge()).thenReturn(0);
+        cache = new CtrlMetricsCache(ctrlCfg);
+
+        assertEquals("build 1", cache.get(Section.NODES, SYS_CTX, this::build));
+        assertEquals("build 2", cache.get(Section.NODES, SYS_CTX, this::build));
+    }
+}
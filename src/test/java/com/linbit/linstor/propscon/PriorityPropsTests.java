@@ -2,16 +2,20 @@ package com.linbit.linstor.propscon;
 
 import com.linbit.linstor.PriorityProps;
 import com.linbit.linstor.api.prop.LinStorObject;
+import com.linbit.linstor.prometheus.LinstorServerMetrics;
 import com.linbit.linstor.security.GenericDbBase;
 
 import java.util.Map;
 
+import io.prometheus.client.Counter;
+
 import org.junit.Before;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class PriorityPropsTests extends GenericDbBase
 {
@@ -97,4 +101,81 @@ public class PriorityPropsTests extends GenericDbBase
 
         assertTrue(prioProps.anyPropsHasNamespace("fb"));
     }
+
+    @Test
+    public void cachedResultsFollowModifications() throws Exception
+    {
+        assertEquals("1", prioProps.getProp("1", "a"));
+        assertEquals("2", prioProps.renderRelativeMap("b").get("1"));
+        assertEquals(1, prioProps.renderConflictingMap("b", false).get("1").conflictingList.size());
+
+        prop1.removeProp("/a/1");
+        prop1.removeProp("/b/1");
+        assertEquals("4", prioProps.getProp("1", "a"));
+        assertEquals("6", prioProps.renderRelativeMap("b").get("1"));
+        assertEquals("6", prioProps.renderConflictingMap("b", false).get("1").first.value);
+
+        prop2.setProp("/a/1", "10");
+        assertEquals("10", prioProps.getProp("/a/1"));
+
+        assertNull(prioProps.getProp("/d/1"));
+        prop3.setProp("/d/1", "11");
+        assertEquals("11", prioProps.getProp("/d/1"));
+
+        PropsContainer prop4 = propsContainerFactory.getInstance("testInstanceName4", null, LinStorObject.CTRL);
+        prop4.setProp("/e/1", "12");
+        assertNull(prioProps.getProp("/e/1"));
+        prioProps.addProps(prop4);
+        assertEquals("12", prioProps.getProp("/e/1"));
+    }
+
+    @Test
+    public void cachedResultsAreNotShared() throws Exception
+    {
+        Map<String, String> relMap = prioProps.renderRelativeMap("b");
+        relMap.put("1", "modified");
+        relMap.remove("2");
+        assertEquals("2", prioProps.renderRelativeMap("b").get("1"));
+        assertEquals("3", prioProps.renderRelativeMap("b").get("2"));
+
+        Map<String, PriorityProps.MultiResult> conflictingMap = prioProps.renderConflictingMap("b", false);
+        conflictingMap.remove("1");
+        PriorityProps.MultiResult result = prioProps.renderConflictingMap("b", false).get("1");
+        assertEquals("2", result.first.value);
+        try
+        {
+            result.conflictingList.clear();
+            fail("conflictingList of a cached result must not be modifiable");
+        }
+        catch (UnsupportedOperationException expected)
+        {
+            // expected
+        }
+        assertEquals(1, prioProps.renderConflictingMap("b", false).get("1").conflictingList.size());
+    }
+
+    @Test
+    public void lookupsAreCounted() throws Exception
+    {
+        double hitsBefore = lookups("hit");
+        double missesBefore = lookups("miss");
+
+        prioProps.getProp("1", "a");
+        prioProps.getProp("1", "a");
+        prioProps.renderConflictingMap("b", true);
+        prioProps.renderConflictingMap("b", true);
+        assertEquals(missesBefore + 2, lookups("miss"), 0);
+        assertEquals(hitsBefore + 2, lookups("hit"), 0);
+
+        prop3.setProp("/c/2", "10");
+        prioProps.getProp("1", "a");
+        assertEquals(missesBefore + 3, lookups("miss"), 0);
+        assertEquals(hitsBefore + 2, lookups("hit"), 0);
+    }
+
+    private static double lookups(String result)
+    {
+        Counter.Child counter = LinstorServerMetrics.priorityPropsLookupsCounter.labels(result);
+        return counter.get();
+    }
 }
@@ -167,6 +167,47 @@ public class SecurityTypeTest
         }
     }
 
+    @Test
+    public void testRequireAccessAfterChanges() throws Exception
+    {
+        SecurityType objType = new SecurityType(new SecTypeName("ObjType"));
+        AccessContext userCtx = new AccessContext(
+            userId,
+            userRole,
+            userSecDomain,
+            new PrivilegeSet(Privilege.PRIV_MAC_OVRD)
+        );
+
+        assertFalse(hasAccess(objType, userCtx, AccessType.VIEW));
+
+        objType.addRule(rootCtx, userSecDomain, AccessType.VIEW);
+        assertTrue(hasAccess(objType, userCtx, AccessType.VIEW));
+        assertFalse(hasAccess(objType, userCtx, AccessType.USE));
+
+        userCtx.privEffective.enablePrivileges(Privilege.PRIV_MAC_OVRD);
+        assertTrue(hasAccess(objType, userCtx, AccessType.CONTROL));
+        userCtx.privEffective.disablePrivileges(Privilege.PRIV_MAC_OVRD);
+        assertFalse(hasAccess(objType, userCtx, AccessType.USE));
+
+        objType.delRule(rootCtx, userSecDomain);
+        assertFalse(hasAccess(objType, userCtx, AccessType.VIEW));
+    }
+
+    private static boolean hasAccess(SecurityType secType, AccessContext accCtx, AccessType requested)
+    {
+        boolean access;
+        try
+        {
+            secType.requireAccess(accCtx, requested);
+            access = true;
+        }
+        catch (AccessDeniedException exc)
+        {
+            access = false;
+        }
+        return access;
+    }
+
     @Test
     public void testQueryAccess()
     {
@@ -16,6 +16,7 @@ import java.io.IOException;
 import java.io.PrintStream;
 import java.net.UnknownHostException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Set;
 import java.util.UUID;
 
@@ -76,7 +77,7 @@ public class ControllerProtobuf extends ProtobufIO
                 InternalApiConsts.API_AUTH,
                 getNextApiCallId()
             )
-                .authMessage(nodeUuid, nodeName, sharedSecret, ctrlUuid)
+                .authMessage(nodeUuid, nodeName, sharedSecret, ctrlUuid, Collections.emptyList(), 0)
             .build()
         );
     }
@@ -0,0 +1,203 @@
+package com.linbit.linstor.testutils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.GetObjectMetadataRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+
+/**
+ * Local stand-in of an S3 endpoint that only accepts uploaded parts and serves (ranged) downloads of objects put by
+ * {@link #putTestObject(String, byte[])}. Every part or range takes the configured latency plus the time needed to
+ * transfer its bytes with the configured bandwidth, as if it was sent over its own connection.
+ * <br />
+ * Injected failures are counted by part number, or for downloads by the index of the range start in units of
+ * {@link #setRangeSize(int)}.
+ */
+public class LocalS3StandIn extends AbstractAmazonS3
+{
+    private final long latencyMillis;
+    private final long bytesPerSecond;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicLong uploadedBytes = new AtomicLong();
+    private final Map<Integer, AtomicInteger> attemptsByPart = new ConcurrentHashMap<>();
+    private final Map<Integer, Integer> failuresByPart = new ConcurrentHashMap<>();
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private volatile int failureStatusCode;
+    private volatile int rangeSize = 1;
+
+    public LocalS3StandIn(long latencyMillisRef, long bytesPerSecondRef)
+    {
+        latencyMillis = latencyMillisRef;
+        bytesPerSecond = bytesPerSecondRef;
+    }
+
+    /**
+     * Lets the next <code>count</code> uploads of the given part, or downloads of the given range, fail with the given
+     * HTTP status code
+     */
+    public void failPart(int partNr, int count, int statusCode)
+    {
+        failuresByPart.put(partNr, count);
+        failureStatusCode = statusCode;
+    }
+
+    public void putTestObject(String key, byte[] data)
+    {
+        objects.put(key, data);
+    }
+
+    public void setRangeSize(int rangeSizeRef)
+    {
+        rangeSize = rangeSizeRef;
+    }
+
+    public int getMaxInFlight()
+    {
+        return maxInFlight.get();
+    }
+
+    public long getUploadedBytes()
+    {
+        return uploadedBytes.get();
+    }
+
+    public int getAttempts(int partNr)
+    {
+        AtomicInteger attempts = attemptsByPart.get(partNr);
+        return attempts == null ? 0 : attempts.get();
+    }
+
+    @Override
+    public UploadPartResult uploadPart(UploadPartRequest request) throws SdkClientException, AmazonServiceException
+    {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try
+        {
+            int partNr = request.getPartNumber();
+            attemptsByPart.computeIfAbsent(partNr, ignored -> new AtomicInteger()).incrementAndGet();
+
+            long len = consume(request.getInputStream());
+            long transferMillis = bytesPerSecond > 0 ? len * 1000 / bytesPerSecond : 0;
+            Thread.sleep(latencyMillis + transferMillis);
+
+            Integer remainingFailures = failuresByPart.computeIfPresent(partNr, (ignored, count) -> count - 1);
+            if (remainingFailures != null && remainingFailures >= 0)
+            {
+                AmazonServiceException exc = new AmazonServiceException("Simulated failure of part " + partNr);
+                exc.setStatusCode(failureStatusCode);
+                throw exc;
+            }
+            uploadedBytes.addAndGet(len);
+
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(partNr);
+            result.setETag("etag-" + partNr);
+            return result;
+        }
+        catch (InterruptedException exc)
+        {
+            Thread.currentThread().interrupt();
+            throw new SdkClientException("Interrupted", exc);
+        }
+        catch (IOException exc)
+        {
+            throw new SdkClientException("Failed to read part", exc);
+        }
+        finally
+        {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    @Override
+    public ObjectMetadata getObjectMetadata(GetObjectMetadataRequest request)
+        throws SdkClientException, AmazonServiceException
+    {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(getTestObject(request.getKey()).length);
+        return metadata;
+    }
+
+    @Override
+    public S3Object getObject(GetObjectRequest request) throws SdkClientException, AmazonServiceException
+    {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try
+        {
+            byte[] data = getTestObject(request.getKey());
+            long[] range = request.getRange();
+            int start = range == null ? 0 : (int) range[0];
+            int end = range == null ? data.length - 1 : (int) Math.min(range[1], data.length - 1);
+            int len = end - start + 1;
+
+            int rangeNr = start / rangeSize;
+            attemptsByPart.computeIfAbsent(rangeNr, ignored -> new AtomicInteger()).incrementAndGet();
+
+            long transferMillis = bytesPerSecond > 0 ? len * 1000L / bytesPerSecond : 0;
+            Thread.sleep(latencyMillis + transferMillis);
+
+            Integer remainingFailures = failuresByPart.computeIfPresent(rangeNr, (ignored, count) -> count - 1);
+            if (remainingFailures != null && remainingFailures >= 0)
+            {
+                AmazonServiceException exc = new AmazonServiceException("Simulated failure of range " + rangeNr);
+                exc.setStatusCode(failureStatusCode);
+                throw exc;
+            }
+
+            S3Object obj = new S3Object();
+            obj.setKey(request.getKey());
+            obj.setObjectContent(new ByteArrayInputStream(data, start, len));
+            return obj;
+        }
+        catch (InterruptedException exc)
+        {
+            Thread.currentThread().interrupt();
+            throw new SdkClientException("Interrupted", exc);
+        }
+        finally
+        {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private byte[] getTestObject(String key)
+    {
+        byte[] data = objects.get(key);
+        if (data == null)
+        {
+            AmazonServiceException exc = new AmazonServiceException("No such key: " + key);
+            exc.setStatusCode(404);
+            throw exc;
+        }
+        return data;
+    }
+
+    private static long consume(InputStream input) throws IOException
+    {
+        byte[] buffer = new byte[64 << 10];
+        long len = 0;
+        int readLen;
+        while ((readLen = input.read(buffer)) != -1)
+        {
+            len += readLen;
+        }
+        return len;
+    }
+}
@@ -0,0 +1,202 @@
+package com.linbit.linstor.transaction.manager;
+
+import com.linbit.linstor.dbdrivers.DatabaseException;
+import com.linbit.linstor.transaction.manager.SQLWriteBatch.OpType;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SQLWriteBatchTest
+{
+    private static final String INSERT_RSC = "INSERT INTO RESOURCES VALUES(?)";
+    private static final String DELETE_RSC = "DELETE FROM RESOURCES WHERE RSC_NAME = ?";
+    private static final String INSERT_VLM = "INSERT INTO VOLUMES VALUES(?)";
+    private static final String DELETE_VLM = "DELETE FROM VOLUMES WHERE RSC_NAME = ?";
+    private static final String INSERT_PROP = "INSERT INTO PROPS VALUES(?)";
+
+    private Connection con;
+    private List<PreparedStatement> preparedStmts;
+    private List<String> preparedSqls;
+    private Map<String, Set<String>> referencedTables;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        con = mock(Connection.class);
+        preparedStmts = new ArrayList<>();
+        preparedSqls = new ArrayList<>();
+        when(con.prepareStatement(anyString())).thenAnswer(
+            invocation ->
+            {
+                PreparedStatement stmt = mock(PreparedStatement.class);
+                preparedStmts.add(stmt);
+                preparedSqls.add(invocation.getArgument(0));
+                return stmt;
+            }
+        );
+
+        referencedTables = new HashMap<>();
+        referencedTables.put("RESOURCES", Collections.emptySet());
+        referencedTables.put("VOLUMES", Collections.singleton("RESOURCES"));
+        referencedTables.put("PROPS", Collections.emptySet());
+    }
+
+    @Test
+    public void interleavedInsertsAreGroupedPerTable() throws Exception
+    {
+        SQLWriteBatch batch = new SQLWriteBatch(con, referencedTables);
+        for (int idx = 0; idx < 10; ++idx)
+        {
+            batch.add("RESOURCES", OpType.INSERT, pk("rsc"), INSERT_RSC, "rsc", stmt -> stmt.setString(1, "rsc"));
+            batch.add("VOLUMES", OpType.INSERT, pk("vlm"), INSERT_VLM, "vlm", stmt -> stmt.setString(1, "vlm"));
+            batch.add("PROPS", OpType.INSERT, pk("prop"), INSERT_PROP, "prop", stmt -> stmt.setString(1, "prop"));
+        }
+        assertEquals(30, batch.size());
+        assertEquals(3, preparedStmts.size());
+        assertEquals(Arrays.asList(INSERT_RSC, INSERT_VLM, INSERT_PROP), preparedSqls);
+
+        batch.flush();
+        InOrder order = inOrder(preparedStmts.toArray());
+        for (PreparedStatement stmt : preparedStmts)
+        {
+            verify(stmt, times(10)).addBatch();
+            order.verify(stmt).executeBatch();
+            verify(stmt).close();
+        }
+        assertTrue(batch.isEmpty());
+    }
+
+    @Test
+    public void relatedStatementsKeepTheirOrder() throws Exception
+    {
+        SQLWriteBatch batch = new SQLWriteBatch(con, referencedTables);
+        batch.add("VOLUMES", OpType.DELETE, pk("rsc1"), DELETE_VLM, "rsc1", stmt -> stmt.setString(1, "rsc1"));
+        batch.add("RESOURCES", OpType.DELETE, pk("rsc1"), DELETE_RSC, "rsc1", stmt -> stmt.setString(1, "rsc1"));
+        // must not be moved before the deletion of rsc1
+        batch.add("VOLUMES", OpType.DELETE, pk("rsc2"), DELETE_VLM, "rsc2", stmt -> stmt.setString(1, "rsc2"));
+        // re-creating rsc1 must not be moved before its deletion
+        batch.add("RESOURCES", OpType.INSERT, pk("rsc1"), INSERT_RSC, "rsc1", stmt -> stmt.setString(1, "rsc1"));
+        batch.add("RESOURCES", OpType.DELETE, pk("rsc2"), DELETE_RSC, "rsc2", stmt -> stmt.setString(1, "rsc2"));
+
+        assertEquals(5, preparedStmts.size());
+    }
+
+    @Test
+    public void unknownForeignKeysOnlyBatchConsecutiveStatements() throws Exception
+    {
+        SQLWriteBatch batch = new SQLWriteBatch(con, null);
+        batch.add("RESOURCES", OpType.INSERT, pk("rsc1"), INSERT_RSC, "rsc1", stmt -> stmt.setString(1, "rsc1"));
+        batch.add("RESOURCES", OpType.INSERT, pk("rsc2"), INSERT_RSC, "rsc2", stmt -> stmt.setString(1, "rsc2"));
+        batch.add("PROPS", OpType.INSERT, pk("prop"), INSERT_PROP, "prop", stmt -> stmt.setString(1, "prop"));
+        batch.add("RESOURCES", OpType.INSERT, pk("rsc3"), INSERT_RSC, "rsc3", stmt -> stmt.setString(1, "rsc3"));
+
+        assertEquals(3, preparedStmts.size());
+    }
+
+    @Test
+    public void clearDiscardsStatements() throws Exception
+    {
+        SQLWriteBatch batch = new SQLWriteBatch(con, referencedTables);
+        batch.add("RESOURCES", OpType.INSERT, pk("rsc1"), INSERT_RSC, "rsc1", stmt -> stmt.setString(1, "rsc1"));
+        batch.clear();
+
+        verify(preparedStmts.get(0), times(0)).executeBatch();
+        verify(preparedStmts.get(0)).close();
+        assertTrue(batch.isEmpty());
+    }
+
+    @Test
+    public void pendingRowsAreKnownWithoutFlush() throws Exception
+    {
+        SQLWriteBatch batch = new SQLWriteBatch(con, referencedTables);
+        batch.add("RESOURCES", OpType.INSERT, pk("rsc1"), INSERT_RSC, "rsc1", stmt -> stmt.setString(1, "rsc1"));
+        batch.add("RESOURCES", OpType.INSERT, pk("rsc2"), INSERT_RSC, "rsc2", stmt -> stmt.setString(1, "rsc2"));
+        batch.add("RESOURCES", OpType.DELETE, pk("rsc2"), DELETE_RSC, "rsc2", stmt -> stmt.setString(1, "rsc2"));
+
+        assertEquals(Boolean.TRUE, batch.getPendingRowExists("resources", pk("rsc1")));
+        assertEquals(Boolean.FALSE, batch.getPendingRowExists("RESOURCES", pk("rsc2")));
+        assertNull(batch.getPendingRowExists("RESOURCES", pk("rsc3")));
+        assertNull(batch.getPendingRowExists("VOLUMES", pk("rsc1")));
+        for (PreparedStatement stmt : preparedStmts)
+        {
+            verify(stmt, times(0)).executeBatch();
+        }
+
+        batch.clear();
+        assertNull(batch.getPendingRowExists("RESOURCES", pk("rsc1")));
+    }
+
+    @Test
+    public void deletesMayCascadeToReferencingTables() throws Exception
+    {
+        SQLWriteBatch batch = new SQLWriteBatch(con, referencedTables);
+        batch.add("VOLUMES", OpType.INSERT, pk("rsc1"), INSERT_VLM, "rsc1", stmt -> stmt.setString(1, "rsc1"));
+        batch.add("PROPS", OpType.INSERT, pk("prop"), INSERT_PROP, "prop", stmt -> stmt.setString(1, "prop"));
+        batch.add("RESOURCES", OpType.DELETE, pk("rsc1"), DELETE_RSC, "rsc1", stmt -> stmt.setString(1, "rsc1"));
+
+        // the volume might have been deleted by cascade
+        assertNull(batch.getPendingRowExists("VOLUMES", pk("rsc1")));
+        assertEquals(Boolean.TRUE, batch.getPendingRowExists("PROPS", pk("prop")));
+        assertTrue(batch.mayDeleteFrom("VOLUMES"));
+        assertFalse(batch.mayDeleteFrom("RESOURCES"));
+        assertFalse(batch.mayDeleteFrom("PROPS"));
+
+        SQLWriteBatch unknownFkBatch = new SQLWriteBatch(con, null);
+        unknownFkBatch.add(
+            "RESOURCES", OpType.DELETE, pk("rsc1"), DELETE_RSC, "rsc1", stmt -> stmt.setString(1, "rsc1")
+        );
+        assertTrue(unknownFkBatch.mayDeleteFrom("PROPS"));
+    }
+
+    @Test
+    public void failedStatementIsNamed() throws Exception
+    {
+        SQLWriteBatch batch = new SQLWriteBatch(con, referencedTables);
+        batch.add("RESOURCES", OpType.INSERT, pk("rsc1"), INSERT_RSC, "rsc1", stmt -> stmt.setString(1, "rsc1"));
+        batch.add("RESOURCES", OpType.INSERT, pk("rsc2"), INSERT_RSC, "rsc2", stmt -> stmt.setString(1, "rsc2"));
+        batch.add("RESOURCES", OpType.INSERT, pk("rsc3"), INSERT_RSC, "rsc3", stmt -> stmt.setString(1, "rsc3"));
+        when(preparedStmts.get(0).executeBatch()).thenThrow(new BatchUpdateException("duplicate key", new int[] {1}));
+
+        try
+        {
+            batch.flush();
+            fail("Failed batch not reported");
+        }
+        catch (DatabaseException dbExc)
+        {
+            assertTrue(dbExc.getMessage(), dbExc.getMessage().contains("rsc2"));
+            assertTrue(dbExc.getCause() instanceof BatchUpdateException);
+        }
+        verify(preparedStmts.get(0)).close();
+        assertTrue(batch.isEmpty());
+    }
+
+    private static List<Object> pk(String rscName)
+    {
+        return Collections.singletonList(rscName);
+    }
+}
@@ -0,0 +1,98 @@
+package com.linbit.locks;
+
+import com.linbit.linstor.prometheus.LinstorServerMetrics;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+
+import io.prometheus.client.Histogram;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class InstrumentedReadWriteLockTest
+{
+    private InstrumentedReadWriteLock lock;
+    private ExecutorService otherThread;
+
+    @Before
+    public void setUp()
+    {
+        lock = new InstrumentedReadWriteLock("test");
+        otherThread = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void tearDown()
+    {
+        otherThread.shutdownNow();
+    }
+
+    @Test
+    public void recordsWaitAndHoldTimes()
+    {
+        String mode = InstrumentedReadWriteLock.MODE_WRITE;
+        double waitCountBefore = sampleCount(LinstorServerMetrics.lockWaitHistogram, mode);
+        double holdCountBefore = sampleCount(LinstorServerMetrics.lockHoldHistogram, mode);
+
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        // reentrant acquisitions are recorded separately
+        writeLock.lock();
+        writeLock.unlock();
+        writeLock.unlock();
+
+        assertEquals(waitCountBefore + 2, sampleCount(LinstorServerMetrics.lockWaitHistogram, mode), 0);
+        assertEquals(holdCountBefore + 2, sampleCount(LinstorServerMetrics.lockHoldHistogram, mode), 0);
+        assertFalse(lock.getGlobalLock().isWriteLocked());
+    }
+
+    @Test
+    public void conditionsOfTheWrappedLock() throws Exception
+    {
+        Lock writeLock = lock.writeLock();
+        Condition condition = writeLock.newCondition();
+
+        writeLock.lock();
+        try
+        {
+            Future<?> signaller = otherThread.submit(
+                () ->
+                {
+                    // only possible once await() released the lock
+                    writeLock.lock();
+                    try
+                    {
+                        condition.signalAll();
+                    }
+                    finally
+                    {
+                        writeLock.unlock();
+                    }
+                }
+            );
+            assertTrue(condition.await(10, TimeUnit.SECONDS));
+            assertTrue(lock.getGlobalLock().isWriteLockedByCurrentThread());
+            signaller.get(10, TimeUnit.SECONDS);
+        }
+        finally
+        {
+            writeLock.unlock();
+        }
+    }
+
+    private static double sampleCount(Histogram histogram, String mode)
+    {
+        // buckets are cumulative, the last one (+Inf) counts all samples
+        double[] buckets = histogram.labels("test", mode).get().buckets;
+        return buckets[buckets.length - 1];
+    }
+}
@@ -0,0 +1,147 @@
+package com.linbit.utils;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class SortedArrayMapTest
+{
+    @Test
+    public void behavesLikeTreeMap()
+    {
+        Random random = new Random(42);
+        SortedArrayMap<String, String> map = new SortedArrayMap<>();
+        TreeMap<String, String> expected = new TreeMap<>();
+        for (int idx = 0; idx < 10_000; ++idx)
+        {
+            String key = "key" + random.nextInt(100);
+            if (random.nextInt(3) == 0)
+            {
+                assertEquals(expected.remove(key), map.remove(key));
+            }
+            else
+            {
+                String value = "value" + idx;
+                assertEquals(expected.put(key, value), map.put(key, value));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        assertEquals(expected, map);
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(map.keySet()));
+        assertEquals(new ArrayList<>(expected.values()), new ArrayList<>(map.values()));
+        for (String key : expected.keySet())
+        {
+            assertTrue(map.containsKey(key));
+            assertEquals(expected.get(key), map.get(key));
+        }
+        assertFalse(map.containsKey("unknown"));
+        assertNull(map.get("unknown"));
+    }
+
+    @Test
+    public void iteratorRemove()
+    {
+        SortedArrayMap<String, Integer> map = new SortedArrayMap<>();
+        for (int idx = 0; idx < 10; ++idx)
+        {
+            map.put("key" + idx, idx);
+        }
+        Iterator<Map.Entry<String, Integer>> entryIt = map.entrySet().iterator();
+        while (entryIt.hasNext())
+        {
+            if (entryIt.next().getValue() % 2 == 0)
+            {
+                entryIt.remove();
+            }
+        }
+        assertEquals(5, map.size());
+        for (int value : map.values())
+        {
+            assertEquals(1, value % 2);
+        }
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        map.put("a", 1);
+        assertEquals(Integer.valueOf(1), map.get("a"));
+    }
+
+    @Test
+    public void entrySetValueWritesThrough()
+    {
+        SortedArrayMap<String, String> map = new SortedArrayMap<>();
+        map.put("b", "old");
+        map.put("a", "unchanged");
+        for (Map.Entry<String, String> entry : map.entrySet())
+        {
+            if (entry.getKey().equals("b"))
+            {
+                assertEquals("old", entry.setValue("new"));
+            }
+        }
+        assertEquals("new", map.get("b"));
+        assertEquals("unchanged", map.get("a"));
+    }
+
+    @Test
+    public void entryIsReusedAndInvalidatedByModification()
+    {
+        SortedArrayMap<String, String> map = new SortedArrayMap<>();
+        map.put("b", "b1");
+        map.put("c", "c1");
+        Iterator<Map.Entry<String, String>> entryIt = map.entrySet().iterator();
+        Map.Entry<String, String> entry = entryIt.next();
+        assertEquals("b", entry.getKey());
+        assertSame(entry, entryIt.next());
+        assertEquals("c", entry.getKey());
+        assertEquals("c1", entry.setValue("c2"));
+        assertEquals("c2", map.get("c"));
+
+        // shifts "c" to a higher array index
+        map.put("a", "a1");
+        try
+        {
+            entry.getValue();
+            fail("accessing the entry after a structural modification must fail");
+        }
+        catch (ConcurrentModificationException expectedExc)
+        {
+            // expected
+        }
+        assertEquals("c2", map.get("c"));
+    }
+
+    @Test
+    public void copiedEntriesStayValid()
+    {
+        SortedArrayMap<String, String> map = new SortedArrayMap<>();
+        map.put("b", "b1");
+        map.put("a", "a1");
+        List<Map.Entry<String, String>> copies = new ArrayList<>(map.entrySet());
+        List<Map.Entry<String, String>> streamed = map.entrySet().stream().collect(Collectors.toList());
+        map.clear();
+
+        for (List<Map.Entry<String, String>> entries : Arrays.asList(copies, streamed))
+        {
+            assertEquals(2, entries.size());
+            assertEquals(new AbstractMap.SimpleEntry<>("a", "a1"), entries.get(0));
+            assertEquals(new AbstractMap.SimpleEntry<>("b", "b1"), entries.get(1));
+        }
+    }
+}